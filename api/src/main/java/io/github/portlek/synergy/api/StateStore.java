@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.api;
+
+import io.github.portlek.synergy.proto.Core;
+import io.github.portlek.synergy.proto.Protocol;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an interface to determine state stores which share the state of a network between its instances.
+ * <p>
+ * writes are queued and sent together on {@link #flush()}, reads are sent right away and published messages are
+ * sent as soon as the store gets to them, together with the messages which are published meanwhile.
+ */
+public interface StateStore extends AutoCloseable {
+
+  /**
+   * claims the given coordinator for the owner until the lease runs out, or renews the claim.
+   * <p>
+   * a coordinator whose lease still belongs to another owner is not taken over, the returned future completes
+   * exceptionally and the claim can be tried again once that lease runs out.
+   *
+   * @param coordinatorId the coordinator id to claim.
+   * @param owner the owner to claim.
+   * @param lease the lease in milliseconds.
+   *
+   * @return previous owner of the coordinator, if the claim took it over from another owner.
+   */
+  @NotNull
+  CompletableFuture<Optional<String>> claim(@NotNull String coordinatorId, @NotNull String owner, long lease);
+
+  @Override
+  void close();
+
+  /**
+   * sends the queued writes.
+   */
+  void flush();
+
+  /**
+   * obtains the owner of the given coordinator.
+   *
+   * @param coordinatorId the coordinator id to obtain.
+   *
+   * @return owner of the coordinator.
+   */
+  @NotNull
+  CompletableFuture<Optional<String>> getOwner(@NotNull String coordinatorId);
+
+  /**
+   * obtains the servers of the given coordinator by their uuids.
+   *
+   * @param coordinatorId the coordinator id to obtain.
+   *
+   * @return servers.
+   */
+  @NotNull
+  CompletableFuture<Map<String, Core.Server>> getServers(@NotNull String coordinatorId);
+
+  /**
+   * obtains the in-flight transactions of the given owner.
+   *
+   * @param owner the owner to obtain.
+   *
+   * @return transactions without payloads.
+   */
+  @NotNull
+  CompletableFuture<List<Protocol.Transaction>> getTransactions(@NotNull String owner);
+
+  /**
+   * publishes the given message to the owner.
+   *
+   * @param owner the owner to publish.
+   * @param message the message to publish.
+   */
+  void publish(@NotNull String owner, byte @NotNull [] message);
+
+  /**
+   * puts the given servers of the coordinator.
+   *
+   * @param coordinatorId the coordinator id to put.
+   * @param servers the servers to put.
+   * @param removed the uuids of the removed servers.
+   * @param full {@code true} if the servers replace the previous ones.
+   */
+  void putServers(@NotNull String coordinatorId, @NotNull Collection<Core.Server> servers,
+                  @NotNull Collection<String> removed, boolean full);
+
+  /**
+   * puts the given in-flight transaction of the owner.
+   *
+   * @param owner the owner to put.
+   * @param transaction the transaction to put, without payload.
+   * @param ttl the time to live in milliseconds.
+   */
+  void putTransaction(@NotNull String owner, @NotNull Protocol.Transaction transaction, long ttl);
+
+  /**
+   * releases the given coordinator if it's still claimed by the owner.
+   *
+   * @param coordinatorId the coordinator id to release.
+   * @param owner the owner to release.
+   */
+  void release(@NotNull String coordinatorId, @NotNull String owner);
+
+  /**
+   * removes the given in-flight transaction of the owner.
+   *
+   * @param owner the owner to remove.
+   * @param id the id to remove.
+   */
+  void removeTransaction(@NotNull String owner, long id);
+
+  /**
+   * subscribes to the messages which are published to the owner.
+   *
+   * @param owner the owner to subscribe.
+   * @param listener the listener to subscribe.
+   */
+  void subscribe(@NotNull String owner, @NotNull Consumer<byte[]> listener);
+}
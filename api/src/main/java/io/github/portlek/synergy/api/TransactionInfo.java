@@ -26,8 +26,8 @@
 package io.github.portlek.synergy.api;
 
 import io.github.portlek.synergy.proto.Protocol;
+import io.netty.util.Timeout;
 import java.util.Optional;
-import java.util.concurrent.ScheduledFuture;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -42,22 +42,21 @@ public interface TransactionInfo {
    * @return cancelled task.
    */
   @NotNull
-  Optional<ScheduledFuture<Boolean>> getCancelTask();
+  Optional<Timeout> getCancelTask();
 
   /**
    * sets the cancel task.
    *
-   * @param future the future to set.
+   * @param timeout the timeout to set.
    */
-  void setCancelTask(@NotNull ScheduledFuture<Boolean> future);
+  void setCancelTask(@NotNull Timeout timeout);
 
   /**
    * obtains the id.
    *
-   * @return id.
+   * @return id, the transaction number on the wire.
    */
-  @NotNull
-  Optional<String> getIdOptional();
+  long getId();
 
   /**
    * obtains the transaction listener.
@@ -123,5 +122,5 @@ public interface TransactionInfo {
    *
    * @param id the id to set.
    */
-  void setId(@NotNull String id);
+  void setId(long id);
 }
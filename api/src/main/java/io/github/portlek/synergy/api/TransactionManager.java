@@ -28,6 +28,7 @@ package io.github.portlek.synergy.api;
 import io.github.portlek.synergy.proto.Commands;
 import io.github.portlek.synergy.proto.Protocol;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -46,38 +47,51 @@ public interface TransactionManager {
    * @return built transaction.
    */
   @NotNull
-  Optional<Protocol.Transaction> build(@NotNull String id, @NotNull Protocol.Transaction.Mode mode,
+  Optional<Protocol.Transaction> build(long id, @NotNull Protocol.Transaction.Mode mode,
                                        @NotNull Commands.BaseCommand command);
 
   /**
-   * cancels the transaction.
+   * cancels the transaction which was created by this side.
    *
    * @param id the id to cancel.
    *
    * @return {@code true} if the transaction was cancelled.
    */
-  default boolean cancel(@NotNull final String id) {
-    return this.cancel(id, false);
+  default boolean cancel(final long id) {
+    return this.cancel(id, null, false);
   }
 
   /**
    * cancels the transaction.
    *
    * @param id the id to cancel.
+   * @param peer the peer to cancel, only used for transactions which were created by the peer.
    * @param silentFail the silent fail.
    *
    * @return {@code true} if the transaction was cancelled.
    */
-  boolean cancel(@NotNull String id, boolean silentFail);
+  boolean cancel(long id, @Nullable String peer, boolean silentFail);
+
+  /**
+   * completes the transaction which was created by this side.
+   *
+   * @param id the id to complete.
+   *
+   * @return {@code true} if the transaction was completed successfully.
+   */
+  default boolean complete(final long id) {
+    return this.complete(id, null);
+  }
 
   /**
    * completes the transaction.
    *
    * @param id the id to complete.
+   * @param peer the peer to complete, only used for transactions which were created by the peer.
    *
    * @return {@code true} if the transaction was completed successfully.
    */
-  boolean complete(@NotNull String id);
+  boolean complete(long id, @Nullable String peer);
 
   /**
    * generate a transaction info instance.
@@ -87,15 +101,28 @@ public interface TransactionManager {
   @NotNull
   TransactionInfo generateInfo();
 
+  /**
+   * obtains the transaction info which was created by this side.
+   *
+   * @param id the id to get.
+   *
+   * @return transaction info.
+   */
+  @NotNull
+  default Optional<TransactionInfo> getTransactionInfo(final long id) {
+    return this.getTransactionInfo(id, null);
+  }
+
   /**
    * obtains the transaction info.
    *
    * @param id the id to get.
+   * @param peer the peer to get, only used for transactions which were created by the peer.
    *
    * @return transaction info.
    */
   @NotNull
-  Optional<TransactionInfo> getTransactionInfo(@NotNull String id);
+  Optional<TransactionInfo> getTransactionInfo(long id, @Nullable String peer);
 
   /**
    * receives the given message.
@@ -105,6 +132,21 @@ public interface TransactionManager {
    */
   void receive(@NotNull Protocol.Transaction message, @Nullable String from);
 
+  /**
+   * sends the command as a new transaction and waits for the target to complete it.
+   * <p>
+   * the future fails with {@link java.util.concurrent.TimeoutException} when the transaction expires and with
+   * {@link java.util.concurrent.CancellationException} when it's cancelled or can't be sent. dependent stages which
+   * are not async run on the channel's event loop.
+   *
+   * @param target the target to send.
+   * @param command the command to send.
+   *
+   * @return the completing transaction of the target.
+   */
+  @NotNull
+  CompletableFuture<Protocol.Transaction> request(@Nullable String target, @NotNull Commands.BaseCommand command);
+
   /**
    * sends the transaction.
    *
@@ -114,5 +156,5 @@ public interface TransactionManager {
    *
    * @return {@code true} if the transaction was sent successfully.
    */
-  boolean send(@NotNull String id, @NotNull Protocol.Transaction message, @Nullable String target);
+  boolean send(long id, @NotNull Protocol.Transaction message, @Nullable String target);
 }
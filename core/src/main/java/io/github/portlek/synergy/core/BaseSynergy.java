@@ -26,20 +26,31 @@
 package io.github.portlek.synergy.core;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.mojang.brigadier.CommandDispatcher;
 import io.github.portlek.synergy.api.CommandSender;
 import io.github.portlek.synergy.api.Synergy;
 import io.github.portlek.synergy.api.TransactionInfo;
 import io.github.portlek.synergy.api.TransactionManager;
 import io.github.portlek.synergy.console.SynergyConsole;
+import io.github.portlek.synergy.core.config.SynergyConfig;
+import io.github.portlek.synergy.core.netty.SendResult;
+import io.github.portlek.synergy.core.netty.Session;
+import io.github.portlek.synergy.core.netty.WritabilityHandler;
 import io.github.portlek.synergy.core.transaction.SimpleTransactionManager;
+import io.github.portlek.synergy.core.util.ProtobufUtils;
 import io.github.portlek.synergy.core.util.VMShutdownThread;
 import io.github.portlek.synergy.languages.Languages;
+import io.github.portlek.synergy.netty.Transport;
+import io.github.portlek.synergy.netty.TransportContext;
 import io.github.portlek.synergy.proto.Commands;
 import io.github.portlek.synergy.proto.Protocol;
 import io.netty.channel.Channel;
-import io.netty.channel.socket.nio.NioSocketChannel;
-import java.util.UUID;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -72,6 +83,7 @@ public abstract class BaseSynergy implements Synergy {
   /**
    * async pool executor.
    */
+  @Getter
   private final ThreadPoolExecutor asyncExecutor = new ThreadPoolExecutor(
     0, 4, 60L, TimeUnit.SECONDS,
     new LinkedBlockingQueue<>(),
@@ -98,6 +110,27 @@ public abstract class BaseSynergy implements Synergy {
       .setNameFormat("Synergy Scheduler Thread - %1$d")
       .build());
 
+  /**
+   * the timer, expires transactions.
+   */
+  @Getter
+  private final Timer timer = new HashedWheelTimer(
+    new ThreadFactoryBuilder()
+      .setNameFormat("Synergy Timer Thread - %1$d")
+      .setDaemon(true)
+      .build(),
+    100L, TimeUnit.MILLISECONDS, 512);
+
+  /**
+   * the transport context.
+   */
+  @Getter
+  private final TransportContext transportContext = new TransportContext(
+    Transport.resolve(SynergyConfig.transport),
+    SynergyConfig.bossThreads,
+    SynergyConfig.workerThreads,
+    new WriteBufferWaterMark(SynergyConfig.writeBufferLowWaterMark, SynergyConfig.writeBufferHighWaterMark));
+
   /**
    * the shut down thread.
    */
@@ -105,13 +138,44 @@ public abstract class BaseSynergy implements Synergy {
   private VMShutdownThread shutdownThread;
 
   /**
-   * generates a new id.
+   * parses the payload of the given header into a transaction.
+   *
+   * @param header the header to parse.
+   *
+   * @return parsed transaction.
+   *
+   * @throws InvalidProtocolBufferException if the payload is not a valid command.
+   */
+  @NotNull
+  static Protocol.Transaction toTransaction(@NotNull final Protocol.TransactionHeader header)
+    throws InvalidProtocolBufferException {
+    return Protocol.Transaction.newBuilder()
+      .setId(header.getId())
+      .setMode(header.getMode())
+      .setPayload(ProtobufUtils.parseAliased(Commands.BaseCommand.parser(), header.getPayload()))
+      .setNumber(header.getNumber())
+      .setType(header.getType())
+      .setTarget(header.getTarget())
+      .build();
+  }
+
+  /**
+   * serializes the payload of the given transaction into a header.
+   *
+   * @param transaction the transaction to serialize.
    *
-   * @return a newly created id.
+   * @return serialized header.
    */
   @NotNull
-  public final String generateId() {
-    return this.getId() + UUID.randomUUID();
+  static Protocol.TransactionHeader toHeader(@NotNull final Protocol.Transaction transaction) {
+    return Protocol.TransactionHeader.newBuilder()
+      .setId(transaction.getId())
+      .setMode(transaction.getMode())
+      .setPayload(transaction.getPayload().toByteString())
+      .setNumber(transaction.getNumber())
+      .setType(transaction.getType())
+      .setTarget(transaction.getTarget())
+      .build();
   }
 
   @Override
@@ -150,6 +214,13 @@ public abstract class BaseSynergy implements Synergy {
     return CompletableFuture.runAsync(runnable, this.asyncExecutor);
   }
 
+  /**
+   * obtains the side.
+   *
+   * @return {@link Session#COORDINATOR_SIDE} or {@link Session#NETWORK_SIDE}.
+   */
+  public abstract int getSide();
+
   /**
    * runs when the synergy stops.
    */
@@ -160,7 +231,7 @@ public abstract class BaseSynergy implements Synergy {
    *
    * @param channel the channel to init.
    */
-  public abstract void onInit(@NotNull NioSocketChannel channel);
+  public abstract void onInit(@NotNull SocketChannel channel);
 
   /**
    * runs when receive a packet.
@@ -172,6 +243,45 @@ public abstract class BaseSynergy implements Synergy {
    */
   public abstract boolean onReceive(@NotNull Protocol.AuthenticatedMessage packet, @NotNull Channel channel);
 
+  /**
+   * runs when receive a transaction which is verified by the session.
+   *
+   * @param transaction the transaction to receive.
+   * @param session the session to receive.
+   * @param channel the channel to receive.
+   *
+   * @return {@code false} if something goes wrong.
+   */
+  public abstract boolean onReceive(@NotNull Protocol.Transaction transaction, @NotNull Session session,
+                                    @NotNull Channel channel);
+
+  /**
+   * runs when receive a transaction header which is verified by the session.
+   * <p>
+   * the header is offered to {@link #relay(Protocol.TransactionHeader, Session)} first, its payload is parsed only if
+   * this side handles it.
+   *
+   * @param header the header to receive.
+   * @param session the session to receive.
+   * @param channel the channel to receive.
+   *
+   * @return {@code false} if something goes wrong.
+   */
+  public final boolean onReceive(@NotNull final Protocol.TransactionHeader header, @NotNull final Session session,
+                                 @NotNull final Channel channel) {
+    if (this.relay(header, session)) {
+      return true;
+    }
+    final Protocol.Transaction transaction;
+    try {
+      transaction = BaseSynergy.toTransaction(header);
+    } catch (final InvalidProtocolBufferException e) {
+      BaseSynergy.log.error(Languages.getLanguageValue("unable-to-read-transaction"), e);
+      return false;
+    }
+    return this.onReceive(transaction, session, channel);
+  }
+
   /**
    * runs when the V.M shut down.
    */
@@ -195,9 +305,71 @@ public abstract class BaseSynergy implements Synergy {
    * @param message the message to send.
    * @param target the target to set.
    *
-   * @return {@code true} if the message was sent successfully..
+   * @return send result, {@link SendResult#NOT_WRITABLE} if the target's outbound buffer is full.
+   */
+  @NotNull
+  public abstract SendResult send(@NotNull Protocol.Transaction message, @Nullable String target);
+
+  /**
+   * sends the given command to the target in a single transaction.
+   *
+   * @param command the command to send.
+   * @param target the target to send.
+   *
+   * @return send result.
    */
-  public abstract boolean send(@NotNull Protocol.Transaction message, @Nullable String target);
+  @NotNull
+  public final SendResult sendSingle(@NotNull final Commands.BaseCommand command, @Nullable final String target) {
+    final var id = this.transactionManager.generateInfo().getId();
+    final var message = this.transactionManager.build(id, Protocol.Transaction.Mode.SINGLE, command);
+    if (message.isEmpty()) {
+      BaseSynergy.log.error(Languages.getLanguageValue("unable-to-build-message"));
+      this.transactionManager.cancel(id);
+      return SendResult.FAILED;
+    }
+    if (!this.transactionManager.send(id, message.get(), target)) {
+      return SendResult.FAILED;
+    }
+    return this.findChannel(target)
+      .map(SendResult::of)
+      .orElse(SendResult.SENT);
+  }
+
+  /**
+   * runs the given task once the target's channel is writable again.
+   *
+   * @param target the target to wait.
+   * @param task the task to run.
+   *
+   * @return {@code false} if the target has no active channel.
+   */
+  public final boolean whenWritable(@Nullable final String target, @NotNull final Runnable task) {
+    return this.findChannel(target)
+      .map(channel -> WritabilityHandler.whenWritable(channel, task))
+      .orElse(false);
+  }
+
+  /**
+   * relays the given header to another peer without parsing its payload.
+   *
+   * @param header the header to relay.
+   * @param session the session of the sender.
+   *
+   * @return {@code true} if the header was relayed, {@code false} if this side handles it.
+   */
+  protected boolean relay(@NotNull final Protocol.TransactionHeader header, @NotNull final Session session) {
+    return false;
+  }
+
+  /**
+   * finds the channel of the given target.
+   *
+   * @param target the target to find.
+   *
+   * @return channel of the target.
+   */
+  @NotNull
+  protected abstract Optional<Channel> findChannel(@Nullable String target);
 
   /**
    * runs when the synergy starts.
@@ -221,6 +393,18 @@ public abstract class BaseSynergy implements Synergy {
     return this.console.getCommandDispatcher();
   }
 
+  /**
+   * stops the timer and shuts down the transport context gracefully.
+   */
+  final void shutdownTransport() {
+    this.timer.stop();
+    try {
+      this.transportContext.shutdownGracefully(5L, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   /**
    * starts the synergy.
    */
@@ -231,6 +415,7 @@ public abstract class BaseSynergy implements Synergy {
       this.shutdownThread.interrupt();
     }
     runtime.addShutdownHook(this.shutdownThread = new VMShutdownThread(this));
+    BaseSynergy.log.info(Languages.getLanguageValue("transport-selected", this.transportContext.getTransport()));
     this.scheduler.scheduleAtFixedRate(this::onTick, 0L, 50L, TimeUnit.MILLISECONDS);
     try {
       this.onStart();
@@ -25,16 +25,32 @@
 
 package io.github.portlek.synergy.core;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
 import io.github.portlek.synergy.api.Coordinator;
 import io.github.portlek.synergy.api.KeyStore;
+import io.github.portlek.synergy.api.Package;
+import io.github.portlek.synergy.api.PackageContext;
 import io.github.portlek.synergy.api.Server;
 import io.github.portlek.synergy.api.TransactionInfo;
+import io.github.portlek.synergy.core.config.SynergyConfig;
+import io.github.portlek.synergy.core.coordinator.PackageCache;
+import io.github.portlek.synergy.core.coordinator.PackageResolver;
 import io.github.portlek.synergy.core.coordinator.SimpleCoordinator;
+import io.github.portlek.synergy.core.coordinator.SyncTracker;
+import io.github.portlek.synergy.core.netty.SendResult;
+import io.github.portlek.synergy.core.netty.Session;
 import io.github.portlek.synergy.core.netty.SynergyInitializer;
+import io.github.portlek.synergy.core.p3.PackageDelta;
+import io.github.portlek.synergy.core.p3.PackageFiles;
+import io.github.portlek.synergy.core.p3.PackageStreamReceiver;
 import io.github.portlek.synergy.core.util.AbortableCountDownLatch;
 import io.github.portlek.synergy.core.util.AuthUtils;
+import io.github.portlek.synergy.core.util.ProtobufUtils;
+import io.github.portlek.synergy.core.util.SystemUtils;
+import io.github.portlek.synergy.core.util.TrackedMap;
 import io.github.portlek.synergy.languages.Languages;
 import io.github.portlek.synergy.netty.Connections;
 import io.github.portlek.synergy.proto.Commands;
@@ -44,14 +60,28 @@ import io.github.portlek.synergy.proto.Protocol;
 import io.github.portlek.synergy.proto.Protocols;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.crypto.SecretKey;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.experimental.Delegate;
 import lombok.extern.log4j.Log4j2;
 import org.jetbrains.annotations.NotNull;
@@ -61,7 +91,6 @@ import org.jetbrains.annotations.Nullable;
  * a class that represents coordinators.
  */
 @Log4j2
-@RequiredArgsConstructor
 public final class SynergyCoordinator extends BaseSynergy implements Coordinator {
 
   /**
@@ -71,27 +100,104 @@ public final class SynergyCoordinator extends BaseSynergy implements Coordinator
   @Getter
   private final InetSocketAddress address;
 
+  /**
+   * the addresses to connect, the address first and then the failover addresses.
+   */
+  private final List<InetSocketAddress> addresses;
+
   /**
    * the coordinator.
    */
   @NotNull
-  @Delegate
-  private final Coordinator coordinator;
+  @Delegate(types = Coordinator.class)
+  private final SimpleCoordinator coordinator;
 
   /**
    * the close listener.
    */
   private final ChannelFutureListener closeListener = ftr -> SynergyCoordinator.this.onClose();
 
+  /**
+   * the nonce of the handshake in progress.
+   */
+  private final AtomicReference<byte[]> handshakeNonce = new AtomicReference<>();
+
   /**
    * the latch.
    */
   private final AtomicReference<AbortableCountDownLatch> latch = new AtomicReference<>();
 
+  /**
+   * the mac key of the password, signs the handshake.
+   */
+  @NotNull
+  private final SecretKey macKey;
+
+  /**
+   * the package cache.
+   */
+  private final PackageCache packageCache;
+
+  /**
+   * the package resolver.
+   */
+  @NotNull
+  private final PackageResolver packageResolver;
+
+  /**
+   * the package receivers by package.
+   */
+  private final Map<String, PackageStreamReceiver> receivers = new ConcurrentHashMap<>();
+
   /**
    * the provisioning servers.
    */
-  private final Map<String, Core.Server> provisioningServers = new ConcurrentHashMap<>();
+  private final TrackedMap<String, Core.Server> provisioningServers = new TrackedMap<>();
+
+  /**
+   * the resources.
+   */
+  private final TrackedMap<String, Integer> resources;
+
+  /**
+   * the servers.
+   */
+  private final TrackedMap<String, Server> servers = new TrackedMap<>();
+
+  /**
+   * the failed connection attempts since the last successful connection.
+   */
+  private final AtomicInteger reconnectAttempts = new AtomicInteger();
+
+  /**
+   * the sync tracker.
+   */
+  private final SyncTracker syncTracker;
+
+  /**
+   * ctor.
+   *
+   * @param address the address.
+   * @param attributes the attributes.
+   * @param keyStore the key store.
+   * @param resources the resources.
+   */
+  public SynergyCoordinator(@NotNull final InetSocketAddress address, @NotNull final List<String> attributes,
+                            @NotNull final KeyStore keyStore, @NotNull final Map<String, Integer> resources) {
+    this.address = address;
+    this.addresses = SynergyCoordinator.addresses(address);
+    this.resources = new TrackedMap<>(resources);
+    this.coordinator = new SimpleCoordinator(attributes, keyStore, this.resources, this.servers);
+    this.macKey = AuthUtils.createMacKey(keyStore.getPassword());
+    this.packageCache = new PackageCache(SystemUtils.getHomePath().resolve(SynergyConfig.packageCacheFolder),
+      SynergyConfig.packageCacheSize, this.getAsyncExecutor(), this::requestChecksum, this::requestPackage);
+    this.packageResolver = new PackageResolver(SynergyCoordinator.provisionExecutor(), pack ->
+      this.getPackage(P3.P3Meta.newBuilder()
+        .setId(pack.getId())
+        .setVersion(pack.getVersion())
+        .build()), this::releasePackage);
+    this.syncTracker = new SyncTracker(attributes, this.provisioningServers, this.resources, this.servers);
+  }
 
   /**
    * starts a coordinator instance.
@@ -103,58 +209,153 @@ public final class SynergyCoordinator extends BaseSynergy implements Coordinator
    */
   public static void start(@NotNull final InetSocketAddress address, @NotNull final List<String> attributes,
                            @NotNull final KeyStore key, @NotNull final Map<String, Integer> resources) {
-    final var coordinator = new SimpleCoordinator(attributes, key, resources, new ConcurrentHashMap<>());
-    new SynergyCoordinator(address, coordinator).start();
+    new SynergyCoordinator(address, attributes, key, resources).start();
+  }
+
+  /**
+   * parses the failover addresses and puts them after the given address.
+   *
+   * @param address the address to parse.
+   *
+   * @return addresses to connect.
+   */
+  @NotNull
+  private static List<InetSocketAddress> addresses(@NotNull final InetSocketAddress address) {
+    final var addresses = new ArrayList<InetSocketAddress>();
+    addresses.add(address);
+    for (final var value : SynergyConfig.failoverAddresses.split(",")) {
+      final var trimmed = value.trim();
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+      final var position = trimmed.lastIndexOf(':');
+      try {
+        if (position < 0) {
+          throw new NumberFormatException(trimmed);
+        }
+        addresses.add(new InetSocketAddress(trimmed.substring(0, position),
+          Integer.parseInt(trimmed.substring(position + 1))));
+      } catch (final IllegalArgumentException e) {
+        SynergyCoordinator.log.error(Languages.getLanguageValue("invalid-failover-address", trimmed));
+      }
+    }
+    return List.copyOf(addresses);
+  }
+
+  /**
+   * logs the given steps of the package if they fail.
+   *
+   * @param future the future to log.
+   * @param pack the pack to log.
+   * @param steps the steps to log.
+   *
+   * @return the future.
+   */
+  @NotNull
+  private static CompletableFuture<Boolean> logSteps(@NotNull final CompletableFuture<Boolean> future,
+                                                     @NotNull final Package pack, @NotNull final String steps) {
+    return future.whenComplete((ran, throwable) -> {
+      if (throwable != null || !ran) {
+        SynergyCoordinator.log.error(Languages.getLanguageValue("unable-to-run-package-steps", pack.getId(),
+          pack.getVersion(), steps), throwable);
+      }
+    });
+  }
+
+  /**
+   * creates the executor which runs the package steps, its threads are stopped while they are idle.
+   *
+   * @return provision executor.
+   */
+  @NotNull
+  private static ThreadPoolExecutor provisionExecutor() {
+    final var threads = Math.max(1, SynergyConfig.provisionThreads);
+    final var executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+      new LinkedBlockingQueue<>(),
+      new ThreadFactoryBuilder()
+        .setNameFormat("Synergy Provision Thread - %1$d")
+        .build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * calculates the reconnect delay of the given attempt.
+   * <p>
+   * the delay doubles on each attempt up to the max delay and a random half of it is dropped, so coordinators that
+   * lost the network at the same time don't reconnect at the same time.
+   *
+   * @param attempt the attempt to calculate.
+   *
+   * @return reconnect delay in milliseconds.
+   */
+  private static long reconnectDelay(final int attempt) {
+    final var initial = Math.max(1L, SynergyConfig.reconnectInitialDelay);
+    final var ceiling = Math.min(Math.max(initial, SynergyConfig.reconnectMaxDelay), initial << Math.min(attempt, 20));
+    final var half = ceiling / 2L;
+    return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1L);
+  }
+
+  @Override
+  public int getSide() {
+    return Session.COORDINATOR_SIDE;
   }
 
   @Override
   public void onClose() {
     this.running.set(false);
     SynergyCoordinator.log.info(Languages.getLanguageValue("connection-closed"));
-    SynergyCoordinator.log.debug(Languages.getLanguageValue("restarting"));
-    try {
-      Thread.sleep(1000L * 5L);
-      this.onStart();
-    } catch (final InterruptedException ignored) {
-    }
+    this.scheduleReconnect();
   }
 
   @Override
-  public void onInit(@NotNull final NioSocketChannel channel) {
+  public void onInit(@NotNull final SocketChannel channel) {
     // ignored.
   }
 
   @Override
   public boolean onReceive(@NotNull final Protocol.AuthenticatedMessage packet, @NotNull final Channel channel) {
-    if (!packet.getCoordinatorId().equals(this.getId()) || !AuthUtils.validateHash(packet, this.getPassword())) {
+    if (!packet.getCoordinatorId().equals(this.getId())) {
       SynergyCoordinator.log.error(Languages.getLanguageValue("invalid-hash-on-message-coordinator"));
       System.err.println("Received an invalid hash on a message from the network coordinator.");
       System.err.println("This is likely due to us having an invalid UUID or secret key. Please check your coordinator.json!");
-      channel.close();
-      if (this.latch.get() != null) {
-        this.latch.get().abort();
-      }
+      this.abort(channel);
+      return false;
+    }
+    if (packet.hasHandshake()) {
+      return this.onHandshake(packet, channel);
+    }
+    if (packet.getVersion() != Protocols.LEGACY_PROTOCOL_VERSION) {
+      SynergyCoordinator.log.error(Languages.getLanguageValue("session-not-established-on-receive", channel));
+      this.abort(channel);
+      return false;
+    }
+    if (!AuthUtils.validateHash(packet, this.getPassword())) {
+      SynergyCoordinator.log.error(Languages.getLanguageValue("invalid-hash-on-message-coordinator"));
+      this.abort(channel);
       return false;
     }
-    var payload = packet.getPayload();
-    final var payloadBytes = AuthUtils.decrypt(payload.toByteArray(), this.getPassword());
-    payload = ByteString.copyFrom(payloadBytes);
+    final var payloadBytes = AuthUtils.decrypt(packet.getPayload().toByteArray(), this.getPassword());
     try {
-      final var transaction = Protocol.Transaction.parseFrom(payload);
+      final var transaction = ProtobufUtils.parseAliased(Protocol.Transaction.parser(), payloadBytes);
       this.transactionManager.receive(transaction, null);
       return true;
     } catch (final InvalidProtocolBufferException e) {
       SynergyCoordinator.log.error(Languages.getLanguageValue("unable-to-read-transaction"), e);
       System.err.println("Received an unreadable message from the network coordinator.");
       System.err.println("This is likely due to us having an invalid UUID or secret key. Please check your coordinator.json!");
-      channel.close();
-      if (this.latch.get() != null) {
-        this.latch.get().abort();
-      }
+      this.abort(channel);
       return false;
     }
   }
 
+  @Override
+  public boolean onReceive(@NotNull final Protocol.Transaction transaction, @NotNull final Session session,
+                           @NotNull final Channel channel) {
+    this.transactionManager.receive(transaction, null);
+    return true;
+  }
+
   @Override
   public void onVMShutdown() {
     SynergyCoordinator.log.info(Languages.getLanguageValue("coordinator-vm-shutting-down"));
@@ -169,59 +370,244 @@ public final class SynergyCoordinator extends BaseSynergy implements Coordinator
         channel.close();
       }
     }
+    this.shutdownTransport();
   }
 
   @Override
   public boolean process(@NotNull final Commands.BaseCommand command, @NotNull final TransactionInfo info,
                          @Nullable final String from) {
-    SynergyCoordinator.log.error(Languages.getLanguageValue("coordinator-cannot-process", command.getType()));
-    return false;
+    final var type = Protocols.typeOf(command);
+    switch (type) {
+      case SYNC_RESYNC -> {
+        SynergyCoordinator.log.debug(Languages.getLanguageValue("resync-requested",
+          command.getSyncResync().getSequence()));
+        this.syncTracker.requestFull();
+        return true;
+      }
+      case SYNC_ACK -> {
+        this.syncTracker.acknowledge(command.getSyncAck().getSequence());
+        return true;
+      }
+      case SPLIT_PACKAGE_RESPONSE -> {
+        return this.onPackageChunk(command.getSplitPackageResponse());
+      }
+      default -> {
+        SynergyCoordinator.log.error(Languages.getLanguageValue("coordinator-cannot-process", type));
+        return false;
+      }
+    }
   }
 
+  @NotNull
   @Override
-  public boolean send(@NotNull final Protocol.Transaction message, @Nullable final String target) {
+  public SendResult send(@NotNull final Protocol.Transaction message, @Nullable final String target) {
     if (this.getChannel().isEmpty() || !this.getChannel().get().isActive()) {
-      SynergyCoordinator.log.error(Languages.getLanguageValue("unable-to-send-transaction", message.getId()));
-      return false;
+      SynergyCoordinator.log.error(Languages.getLanguageValue("unable-to-send-transaction",
+        Long.toUnsignedString(message.getNumber())));
+      return SendResult.FAILED;
     }
     if (!message.isInitialized()) {
       SynergyCoordinator.log.error(Languages.getLanguageValue("transaction-not-initialized"));
-      return false;
+      return SendResult.FAILED;
+    }
+    final var channel = this.getChannel().get();
+    final var session = channel.attr(Session.KEY).get();
+    if (session != null) {
+      final var addressed = target == null || target.equals(message.getTarget())
+        ? message
+        : message.toBuilder()
+          .setTarget(target)
+          .build();
+      return SendResult.of(channel.writeAndFlush(addressed));
+    }
+    if (!SynergyConfig.legacyProtocol) {
+      SynergyCoordinator.log.error(Languages.getLanguageValue("session-not-established",
+        Long.toUnsignedString(message.getNumber())));
+      return SendResult.FAILED;
     }
-    final var encBytes = AuthUtils.encrypt(message.toByteString().toByteArray(), this.getPassword());
+    final var encBytes = AuthUtils.encrypt(message.toByteArray(), this.getPassword());
     final var hash = AuthUtils.createHash(this.getPassword(), encBytes);
-    final var messageBytes = ByteString.copyFrom(encBytes);
+    final var messageBytes = UnsafeByteOperations.unsafeWrap(encBytes);
     final var auth = Protocol.AuthenticatedMessage.newBuilder()
       .setCoordinatorId(this.getId())
-      .setVersion(Protocols.PROTOCOL_VERSION)
+      .setVersion(Protocols.LEGACY_PROTOCOL_VERSION)
       .setHash(hash)
       .setPayload(messageBytes)
       .build();
     if (!auth.isInitialized()) {
       SynergyCoordinator.log.error(Languages.getLanguageValue("message-not-initialized"));
-      return false;
+      return SendResult.FAILED;
     }
-    this.getChannel().get().writeAndFlush(auth);
-    return true;
+    return SendResult.of(channel.writeAndFlush(auth));
   }
 
   @Override
-  public void onStart() throws InterruptedException {
+  public void onStart() {
     SynergyCoordinator.log.info(Languages.getLanguageValue("coordinator-is-starting"));
-    SynergyCoordinator.log.info(Languages.getLanguageValue("trying-to-connect", this.address));
-    final var future = Connections.connect(new SynergyInitializer(this), this.address)
-      .await();
-    if (!future.isSuccess()) {
-      this.onClose();
+    final var address = this.addresses.get(this.reconnectAttempts.get() % this.addresses.size());
+    SynergyCoordinator.log.info(Languages.getLanguageValue("trying-to-connect", address));
+    Connections.connect(this.getTransportContext(), new SynergyInitializer(this), address)
+      .addListener((ChannelFutureListener) future -> {
+        if (future.isSuccess()) {
+          this.onConnect(future.channel());
+          return;
+        }
+        SynergyCoordinator.log.warn(Languages.getLanguageValue("unable-to-connect", address));
+        this.scheduleReconnect();
+      });
+  }
+
+  /**
+   * obtains the given package from the package cache, downloads it only if the network has a different checksum.
+   * <p>
+   * the package is not evicted from the cache until it's released with {@link #releasePackage(Path)}.
+   *
+   * @param meta the meta to obtain.
+   *
+   * @return the path of the package.
+   */
+  @NotNull
+  public CompletableFuture<Path> getPackage(@NotNull final P3.P3Meta meta) {
+    return this.packageCache.get(meta);
+  }
+
+  /**
+   * releases the given package which is obtained with {@link #getPackage(P3.P3Meta)}.
+   *
+   * @param path the path to release.
+   */
+  public void releasePackage(@NotNull final Path path) {
+    this.packageCache.release(path);
+  }
+
+  /**
+   * runs the execution steps of the given package and its dependencies.
+   *
+   * @param pack the pack to execute.
+   * @param context the context to execute.
+   *
+   * @return {@code true} if all the steps successfully ran.
+   */
+  @NotNull
+  public CompletableFuture<Boolean> executePackage(@NotNull final Package pack, @NotNull final PackageContext context) {
+    return SynergyCoordinator.logSteps(this.packageResolver.execute(pack, context), pack, "execution");
+  }
+
+  /**
+   * fetches the missing packages from the package cache and runs the provision steps of the given package and its
+   * dependencies.
+   *
+   * @param pack the pack to provision.
+   * @param context the context to provision.
+   *
+   * @return {@code true} if all the steps successfully ran.
+   */
+  @NotNull
+  public CompletableFuture<Boolean> provisionPackage(@NotNull final Package pack,
+                                                     @NotNull final PackageContext context) {
+    return SynergyCoordinator.logSteps(this.packageResolver.provision(pack, context), pack, "provision");
+  }
+
+  /**
+   * runs the shutdown steps of the given package and its dependencies.
+   *
+   * @param pack the pack to shut down.
+   * @param context the context to shut down.
+   *
+   * @return {@code true} if all the steps successfully ran.
+   */
+  @NotNull
+  public CompletableFuture<Boolean> shutdownPackage(@NotNull final Package pack,
+                                                    @NotNull final PackageContext context) {
+    return SynergyCoordinator.logSteps(this.packageResolver.shutdown(pack, context), pack, "shutdown");
+  }
+
+  /**
+   * requests the given package from the network, streams it into the given path.
+   * <p>
+   * the transfer resumes from the bytes which are already on disk, also after a reconnect. if a previous version of
+   * the package is given, the signature of its blocks is sent and the network sends only the bytes which changed.
+   *
+   * @param meta the meta to request.
+   * @param path the path to stream.
+   * @param base the previous version of the package.
+   *
+   * @return the path of the package once it's received.
+   */
+  @NotNull
+  public CompletableFuture<Path> requestPackage(@NotNull final P3.P3Meta meta, @NotNull final Path path,
+                                                @Nullable final Path base) {
+    final var key = PackageFiles.key(meta);
+    final var existing = this.receivers.get(key);
+    if (existing != null) {
+      return existing.getFuture();
+    }
+    final PackageStreamReceiver receiver;
+    try {
+      receiver = new PackageStreamReceiver(path, meta, base);
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    final var delta = base != null && SynergyConfig.packageDeltaBlockSize > 0;
+    if (delta) {
+      receiver.prepare();
+    }
+    final var previous = this.receivers.putIfAbsent(key, receiver);
+    if (previous != null) {
+      receiver.close();
+      return previous.getFuture();
+    }
+    receiver.getFuture().whenComplete((received, throwable) -> this.receivers.remove(key, receiver));
+    if (!delta) {
+      this.sendPackageRequest(receiver);
+      return receiver.getFuture();
+    }
+    this.runAsync(() -> {
+      PackageDelta.Signature signature = null;
+      try {
+        signature = PackageDelta.signature(base, SynergyConfig.packageDeltaBlockSize);
+      } catch (final IOException e) {
+        SynergyCoordinator.log.error(Languages.getLanguageValue("unable-to-read-package-base", meta.getId(),
+          meta.getVersion(), base), e);
+      }
+      receiver.setSignature(signature);
+    }).thenRun(() -> this.sendPackageRequest(receiver));
+    return receiver.getFuture();
+  }
+
+  /**
+   * marks the given server as changed, sends it to the network with the next sync.
+   *
+   * @param uuid the uuid to mark.
+   */
+  public void markServerChanged(@NotNull final String uuid) {
+    this.servers.markDirty(uuid);
+  }
+
+  /**
+   * sets the given property of the given server and sends the server to the network with the next sync.
+   *
+   * @param uuid the uuid to set.
+   * @param key the key to set.
+   * @param value the value to set, removes the property if it's null.
+   */
+  public void setServerProperty(@NotNull final String uuid, @NotNull final String key, @Nullable final String value) {
+    final var server = this.servers.get(uuid);
+    if (server == null) {
       return;
     }
-    final var channel = future.channel();
-    this.setChannel(channel);
-    channel.closeFuture()
-      .removeListener(this.closeListener)
-      .addListener(this.closeListener);
-    SynergyCoordinator.log.info(Languages.getLanguageValue("connected"));
-    this.running.set(true);
+    if (value == null) {
+      server.getProperties().remove(key);
+    } else {
+      server.getProperties().put(key, value);
+    }
+    this.servers.markDirty(uuid);
+  }
+
+  @NotNull
+  @Override
+  protected Optional<Channel> findChannel(@Nullable final String target) {
+    return this.getChannel();
   }
 
   @Override
@@ -231,36 +617,222 @@ public final class SynergyCoordinator extends BaseSynergy implements Coordinator
     }
   }
 
+  /**
+   * closes the channel and aborts the latch.
+   *
+   * @param channel the channel to abort.
+   */
+  private void abort(@NotNull final Channel channel) {
+    channel.close();
+    if (this.latch.get() != null) {
+      this.latch.get().abort();
+    }
+  }
+
+  /**
+   * runs when the connection is established.
+   *
+   * @param channel the channel to run.
+   */
+  private void onConnect(@NotNull final Channel channel) {
+    this.setChannel(channel);
+    channel.closeFuture().addListener(this.closeListener);
+    SynergyCoordinator.log.info(Languages.getLanguageValue("connected"));
+    if (SynergyConfig.legacyProtocol) {
+      this.resume();
+      return;
+    }
+    this.sendHandshake(channel);
+  }
+
+  /**
+   * runs when the network answers the handshake.
+   *
+   * @param packet the packet to run.
+   * @param channel the channel to run.
+   *
+   * @return {@code true} if the session was established.
+   */
+  private boolean onHandshake(@NotNull final Protocol.AuthenticatedMessage packet, @NotNull final Channel channel) {
+    final var clientNonce = this.handshakeNonce.getAndSet(null);
+    if (clientNonce == null) {
+      SynergyCoordinator.log.error(Languages.getLanguageValue("invalid-handshake", channel));
+      this.abort(channel);
+      return false;
+    }
+    final var serverNonce = packet.getHandshake().getNonce().toByteArray();
+    if (!AuthUtils.validateMac(packet.getMac(), this.macKey, ByteBuffer.wrap(clientNonce),
+      ByteBuffer.wrap(serverNonce))) {
+      SynergyCoordinator.log.error(Languages.getLanguageValue("invalid-handshake", channel));
+      this.abort(channel);
+      return false;
+    }
+    final var key = AuthUtils.deriveSessionKey(this.getPassword(), this.getId(), clientNonce, serverNonce);
+    channel.attr(Session.KEY).set(Session.coordinator(this.getId(), key));
+    SynergyCoordinator.log.info(Languages.getLanguageValue("handshake-completed"));
+    this.resume();
+    return true;
+  }
+
+  /**
+   * runs when the network sends a package chunk, writes it to disk and acknowledges it.
+   *
+   * @param response the response to run.
+   *
+   * @return {@code true} if the chunk was written.
+   */
+  private boolean onPackageChunk(@NotNull final Commands.SplitPackageResponse response) {
+    final var chunk = response.getData();
+    final var meta = chunk.getMeta();
+    final var receiver = this.receivers.get(PackageFiles.key(meta));
+    if (receiver == null) {
+      return false;
+    }
+    if (!response.getOk()) {
+      receiver.fail(new FileNotFoundException(Languages.getLanguageValue("package-not-found", meta.getId(),
+        meta.getVersion())));
+      return false;
+    }
+    try {
+      if (!receiver.receive(chunk)) {
+        return false;
+      }
+    } catch (final IOException e) {
+      SynergyCoordinator.log.error(Languages.getLanguageValue("unable-to-write-package", meta.getId(),
+        meta.getVersion()), e);
+      receiver.fail(e);
+      return false;
+    }
+    this.sendSingle(Commands.BaseCommand.newBuilder()
+      .setType(Commands.BaseCommand.CommandType.SPLIT_PACKAGE_ACK)
+      .setSplitPackageAck(Commands.SplitPackageAck.newBuilder()
+        .setP3(meta)
+        .setChunkId(chunk.getChunkId())
+        .build())
+      .build(), null);
+    return true;
+  }
+
+  /**
+   * marks the coordinator as running and sends a full snapshot right away instead of waiting for the next tick.
+   * <p>
+   * the reconnect backoff starts over only here, once the session is established, so a network which accepts the
+   * connection but rejects the handshake is still retried with backoff and on the failover addresses. the
+   * unfinished package transfers are requested again from where they left off.
+   */
+  private void resume() {
+    this.reconnectAttempts.set(0);
+    this.syncTracker.requestFull();
+    this.running.set(true);
+    this.receivers.values().forEach(this::sendPackageRequest);
+    try {
+      this.getScheduler().execute(this::sync);
+    } catch (final RejectedExecutionException ignored) {
+    }
+  }
+
+  /**
+   * requests the checksum of the given package from the network.
+   *
+   * @param meta the meta to request.
+   *
+   * @return checksum of the package.
+   */
+  @NotNull
+  private CompletableFuture<String> requestChecksum(@NotNull final P3.P3Meta meta) {
+    final var command = Commands.BaseCommand.newBuilder()
+      .setType(Commands.BaseCommand.CommandType.PACKAGE_CHECKSUM_REQUEST)
+      .setChecksumRequest(Commands.PackageChecksumRequest.newBuilder()
+        .setP3(meta)
+        .build())
+      .build();
+    return this.transactionManager.request(null, command)
+      .thenApply(transaction -> {
+        final var response = transaction.getPayload().getChecksumResponse();
+        if (!response.getOk()) {
+          throw new CompletionException(new FileNotFoundException(Languages.getLanguageValue("package-not-found",
+            meta.getId(), meta.getVersion())));
+        }
+        return response.getChecksum();
+      });
+  }
+
+  /**
+   * requests the package of the given receiver from its offset, as a delta if the receiver has a signature.
+   * <p>
+   * the receivers whose signature is being computed are requested once it's computed, so a reconnect in the meantime
+   * doesn't start a second stream.
+   *
+   * @param receiver the receiver to request.
+   */
+  private void sendPackageRequest(@NotNull final PackageStreamReceiver receiver) {
+    if (!this.running.get() || !receiver.isReady()) {
+      return;
+    }
+    final var request = Commands.PackageRequest.newBuilder()
+      .setP3(receiver.getMeta())
+      .setOffset(receiver.getOffset());
+    final var signature = receiver.getSignature();
+    if (signature != null) {
+      signature.write(request);
+    }
+    this.sendSingle(Commands.BaseCommand.newBuilder()
+      .setType(Commands.BaseCommand.CommandType.PACKAGE_REQUEST)
+      .setPackageRequest(request.build())
+      .build(), null);
+  }
+
+  /**
+   * schedules the next connection attempt on the scheduler, never blocks the calling event loop.
+   */
+  private void scheduleReconnect() {
+    if (this.getTransportContext().isShuttingDown()) {
+      return;
+    }
+    final var attempt = this.reconnectAttempts.getAndIncrement();
+    final var delay = SynergyCoordinator.reconnectDelay(attempt);
+    SynergyCoordinator.log.info(Languages.getLanguageValue("reconnecting", delay, attempt + 1));
+    try {
+      this.getScheduler().schedule(this::onStart, delay, TimeUnit.MILLISECONDS);
+    } catch (final RejectedExecutionException ignored) {
+    }
+  }
+
   /**
    * sends coordinator create request to the network.
    *
-   * @return {@code true} if the request was successfully sent.
+   * @return the network's answer.
    */
-  private boolean sendCreateRequest() {
+  @NotNull
+  private CompletableFuture<Protocol.Transaction> sendCreateRequest() {
     final var command = Commands.BaseCommand.newBuilder()
       .setType(Commands.BaseCommand.CommandType.C_CREATE_COORDINATOR)
       .setCCreateCoordinator(Commands.C_CreateCoordinator.newBuilder()
         .setCoordinatorId(this.getId())
         .build())
       .build();
-    final var mode = Protocol.Transaction.Mode.CREATE;
-    final var optionalId = this.transactionManager.generateInfo().getIdOptional();
-    if (optionalId.isEmpty()) {
-      SynergyCoordinator.log.error(Languages.getLanguageValue("something-went-wrong"));
-      return false;
-    }
-    final var transactionId = optionalId.get();
-    final var built = this.transactionManager.build(
-      transactionId,
-      mode,
-      command);
-    if (built.isEmpty()) {
-      SynergyCoordinator.log.error(Languages.getLanguageValue("unable-to-build-message"));
-      this.transactionManager.cancel(this.getId());
-      return false;
-    }
     SynergyCoordinator.log.debug(Languages.getLanguageValue("sending-coordinator-create-request"));
-    return this.transactionManager.send(transactionId, built.get(), null);
+    return this.transactionManager.request(null, command);
+  }
+
+  /**
+   * sends the handshake to the network to establish a session.
+   *
+   * @param channel the channel to send.
+   */
+  private void sendHandshake(@NotNull final Channel channel) {
+    final var nonce = AuthUtils.createNonce();
+    this.handshakeNonce.set(nonce);
+    final var auth = Protocol.AuthenticatedMessage.newBuilder()
+      .setCoordinatorId(this.getId())
+      .setVersion(Protocols.PROTOCOL_VERSION)
+      .setMac(UnsafeByteOperations.unsafeWrap(AuthUtils.createMac(this.macKey, ByteBuffer.wrap(nonce))))
+      .setHandshake(Protocol.Handshake.newBuilder()
+        .setNonce(ByteString.copyFrom(nonce))
+        .build())
+      .build();
+    SynergyCoordinator.log.debug(Languages.getLanguageValue("sending-handshake"));
+    channel.writeAndFlush(auth);
   }
 
   /**
@@ -269,65 +841,30 @@ public final class SynergyCoordinator extends BaseSynergy implements Coordinator
    * @return {@code true} if sync is succeed.
    */
   private boolean sync() {
-    final var syncBuilder = Commands.Sync.newBuilder()
-      .setEnabled(this.running.get())
-      .setCoordinatorId(this.getId());
-    this.getResources().entrySet().stream()
-      .map(entry ->
-        Core.Resource.newBuilder()
-          .setName(entry.getKey())
-          .setValue(entry.getValue())
-          .build())
-      .forEach(syncBuilder::addResources);
-    syncBuilder.addAllAttributes(this.getAttributes());
-    this.getServers().forEach((id, server) -> {
-      final var meta = P3.P3Meta.newBuilder()
-        .setId(server.getPackage().getId())
-        .setVersion(server.getPackage().getVersion())
-        .build();
-      final var serverBuilder = Core.Server.newBuilder()
-        .setP3(meta)
-        .setUuid(server.getId())
-        .setName(server.getName());
-      server.getProperties().forEach((key, value) -> {
-        final var prop = Core.Property.newBuilder()
-          .setName(key)
-          .setValue(value)
-          .build();
-        serverBuilder.addProperties(prop);
-      });
-      syncBuilder.addServers(serverBuilder.build());
-    });
-    this.provisioningServers.values().stream()
-      .map(localServer -> Core.Server.newBuilder()
-        .setUuid(localServer.getUuid())
-        .setP3(localServer.getP3())
-        .setActive(false)
-        .addAllProperties(localServer.getPropertiesList())
-        .setName(localServer.getName())
-        .build())
-      .forEach(syncBuilder::addServers);
+    final var sync = this.syncTracker.next(this.getId(), this.running.get());
+    if (sync.isEmpty()) {
+      return true;
+    }
     final var command = Commands.BaseCommand.newBuilder()
       .setType(Commands.BaseCommand.CommandType.SYNC)
-      .setSync(syncBuilder.build())
+      .setSync(sync.get())
       .build();
     final var mode = Protocol.Transaction.Mode.SINGLE;
-    final var optionalId = this.transactionManager.generateInfo().getIdOptional();
-    if (optionalId.isEmpty()) {
-      SynergyCoordinator.log.error(Languages.getLanguageValue("something-went-wrong"));
-      return false;
-    }
-    final var transactionId = optionalId.get();
+    final var transactionId = this.transactionManager.generateInfo().getId();
     final var built = this.transactionManager.build(
       transactionId,
       mode,
       command);
     if (built.isEmpty()) {
       SynergyCoordinator.log.error(Languages.getLanguageValue("unable-to-build-message"));
-      this.transactionManager.cancel(this.getId());
+      this.transactionManager.cancel(transactionId);
       return false;
     }
     SynergyCoordinator.log.debug(Languages.getLanguageValue("sending-sync"));
-    return this.transactionManager.send(transactionId, built.get(), null);
+    if (!this.transactionManager.send(transactionId, built.get(), null)) {
+      this.syncTracker.requestFull();
+      return false;
+    }
+    return true;
   }
 }
@@ -25,33 +25,61 @@
 
 package io.github.portlek.synergy.core;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
 import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import io.github.portlek.synergy.api.Channeled;
 import io.github.portlek.synergy.api.CommandSender;
 import io.github.portlek.synergy.api.ConsoleInfo;
 import io.github.portlek.synergy.api.Coordinator;
 import io.github.portlek.synergy.api.KeyStore;
 import io.github.portlek.synergy.api.Network;
+import io.github.portlek.synergy.api.Package;
+import io.github.portlek.synergy.api.StateStore;
 import io.github.portlek.synergy.api.TransactionInfo;
+import io.github.portlek.synergy.core.config.SynergyConfig;
 import io.github.portlek.synergy.core.coordinator.SimpleCoordinator;
+import io.github.portlek.synergy.core.netty.SendResult;
+import io.github.portlek.synergy.core.netty.Session;
 import io.github.portlek.synergy.core.netty.SynergyInitializer;
+import io.github.portlek.synergy.core.network.LocalStateStore;
+import io.github.portlek.synergy.core.network.PlacementEngine;
+import io.github.portlek.synergy.core.network.PlacementStrategy;
 import io.github.portlek.synergy.core.network.SimpleNetwork;
+import io.github.portlek.synergy.core.network.SyncState;
+import io.github.portlek.synergy.core.network.TransactionRelay;
+import io.github.portlek.synergy.core.p3.PackageDelta;
+import io.github.portlek.synergy.core.p3.PackageFiles;
+import io.github.portlek.synergy.core.p3.PackageStreamer;
 import io.github.portlek.synergy.core.util.AuthUtils;
+import io.github.portlek.synergy.core.util.ProtobufUtils;
 import io.github.portlek.synergy.languages.Languages;
 import io.github.portlek.synergy.netty.Connections;
 import io.github.portlek.synergy.proto.Commands;
+import io.github.portlek.synergy.proto.Core;
+import io.github.portlek.synergy.proto.P3;
 import io.github.portlek.synergy.proto.Protocol;
 import io.github.portlek.synergy.proto.Protocols;
+import io.github.portlek.synergy.redis.RedisStateStore;
 import io.netty.channel.Channel;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.crypto.SecretKey;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.Delegate;
@@ -78,6 +106,39 @@ public final class SynergyNetwork extends BaseSynergy implements Network {
    */
   private final Map<String, ConsoleInfo> consoles = new ConcurrentHashMap<>();
 
+  /**
+   * the owners of the coordinators which are connected to the other networks.
+   */
+  private final Cache<String, String> owners = CacheBuilder.newBuilder()
+    .expireAfterWrite(SynergyConfig.coordinatorLease / 3L, TimeUnit.MILLISECONDS)
+    .build();
+
+  /**
+   * the placement engine.
+   */
+  private final PlacementEngine placement = new PlacementEngine();
+
+  /**
+   * the placement strategy.
+   */
+  private final PlacementStrategy placementStrategy = PlacementStrategy.of(SynergyConfig.placementStrategy)
+    .orElse(PlacementStrategy.BIN_PACKING);
+
+  /**
+   * the relay.
+   */
+  private final TransactionRelay relay = new TransactionRelay(this.getTimer(), SynergyConfig.transactionTimeout);
+
+  /**
+   * the package streamers by coordinator and package.
+   */
+  private final Map<String, PackageStreamer> streamers = new ConcurrentHashMap<>();
+
+  /**
+   * the sync states.
+   */
+  private final Map<String, SyncState> syncStates = new ConcurrentHashMap<>();
+
   /**
    * the network.
    */
@@ -85,6 +146,17 @@ public final class SynergyNetwork extends BaseSynergy implements Network {
   @Delegate
   private final Network network;
 
+  /**
+   * the state store which is shared with the other networks.
+   */
+  @NotNull
+  private final StateStore stateStore;
+
+  /**
+   * the last lease renewal time in nanoseconds.
+   */
+  private long lastLeaseRenewal;
+
   /**
    * starts a network instance.
    *
@@ -99,8 +171,12 @@ public final class SynergyNetwork extends BaseSynergy implements Network {
     pool.getKeyStores().stream()
       .map(SimpleCoordinator::new)
       .forEach(coordinator -> coordinatorMap.put(coordinator.getId(), coordinator));
-    final var network = new SynergyNetwork(address, new SimpleNetwork(coordinatorMap, id, name));
+    final StateStore stateStore = SynergyConfig.redisUri.isEmpty()
+      ? LocalStateStore.INSTANCE
+      : RedisStateStore.connect(SynergyConfig.redisUri, SynergyConfig.redisPrefix);
+    final var network = new SynergyNetwork(address, new SimpleNetwork(coordinatorMap, id, name), stateStore);
     network.registerCommands();
+    stateStore.subscribe(id, network::onRemoteRelay);
     network.start();
   }
 
@@ -112,36 +188,46 @@ public final class SynergyNetwork extends BaseSynergy implements Network {
    * @param id the id to send.
    * @param key the key to send.
    *
-   * @return {@code true} if the message was sent successfully.
+   * @return send result.
    */
-  private static boolean sendToChannel(@NotNull final Protocol.Transaction message, @NotNull final Channel channel,
-                                       @NotNull final String id, @NotNull final String key) {
+  @NotNull
+  private static SendResult sendToChannel(@NotNull final Protocol.Transaction message, @NotNull final Channel channel,
+                                          @NotNull final String id, @NotNull final String key) {
     if (!message.isInitialized()) {
       SynergyNetwork.log.error(Languages.getLanguageValue("transaction-not-initialized"));
-      return false;
+      return SendResult.FAILED;
+    }
+    if (channel.attr(Session.KEY).get() != null) {
+      return SendResult.of(channel.writeAndFlush(message));
     }
-    var messageBytes = message.toByteString();
-    final var encBytes = AuthUtils.encrypt(messageBytes.toByteArray(), key);
+    final var encBytes = AuthUtils.encrypt(message.toByteArray(), key);
     final var hash = AuthUtils.createHash(key, encBytes);
-    messageBytes = ByteString.copyFrom(encBytes);
+    final var messageBytes = UnsafeByteOperations.unsafeWrap(encBytes);
     final var auth = Protocol.AuthenticatedMessage.newBuilder()
       .setCoordinatorId(id)
-      .setVersion(Protocols.PROTOCOL_VERSION)
+      .setVersion(Protocols.LEGACY_PROTOCOL_VERSION)
       .setHash(hash)
       .setPayload(messageBytes)
       .build();
     if (!auth.isInitialized()) {
       SynergyNetwork.log.error(Languages.getLanguageValue("message-not-initialized"));
-      return false;
+      return SendResult.FAILED;
     }
-    channel.writeAndFlush(auth);
-    return true;
+    return SendResult.of(channel.writeAndFlush(auth));
+  }
+
+  @Override
+  public int getSide() {
+    return Session.NETWORK_SIDE;
   }
 
   @Override
   public void onClose() {
     this.running.set(false);
     SynergyNetwork.log.info(Languages.getLanguageValue("closed"));
+    if (this.getTransportContext().isShuttingDown()) {
+      return;
+    }
     SynergyNetwork.log.debug(Languages.getLanguageValue("restarting"));
     try {
       Thread.sleep(1000L * 5L);
@@ -151,7 +237,7 @@ public final class SynergyNetwork extends BaseSynergy implements Network {
   }
 
   @Override
-  public void onInit(@NotNull final NioSocketChannel channel) {
+  public void onInit(@NotNull final SocketChannel channel) {
     final var address = channel.remoteAddress();
     SynergyNetwork.log.info(Languages.getLanguageValue("incoming-connection", address));
   }
@@ -159,61 +245,46 @@ public final class SynergyNetwork extends BaseSynergy implements Network {
   @Override
   public boolean onReceive(@NotNull final Protocol.AuthenticatedMessage packet, @NotNull final Channel channel) {
     final var id = packet.getCoordinatorId();
-    final var sendInvalidMessage = new AtomicBoolean();
-    final var coordinatorOptional = Optional.ofNullable(this.getCoordinators().get(id));
-    final var packetPayload = packet.getPayload();
-    if (coordinatorOptional.isEmpty()) {
+    final var coordinator = this.getCoordinators().get(id);
+    if (coordinator == null) {
       SynergyNetwork.log.error(Languages.getLanguageValue("unknown-coordinator-on-receive", id));
-      sendInvalidMessage.set(true);
-    } else if (!AuthUtils.validateHash(packet, coordinatorOptional.get().getPassword())) {
+      return this.reject(channel, id);
+    }
+    if (packet.hasHandshake()) {
+      return this.onHandshake(packet, coordinator, channel);
+    }
+    if (packet.getVersion() != Protocols.LEGACY_PROTOCOL_VERSION) {
+      SynergyNetwork.log.error(Languages.getLanguageValue("session-not-established-on-receive", channel));
+      return this.reject(channel, id);
+    }
+    final var packetPayload = packet.getPayload();
+    if (!AuthUtils.validateHash(packet, coordinator.getPassword())) {
       SynergyNetwork.log.error(Languages.getLanguageValue("invalid-hash-on-message", id, packet.getHash(),
-        AuthUtils.createHash(coordinatorOptional.get().getPassword(), packetPayload.toByteArray())));
+        AuthUtils.createHash(coordinator.getPassword(), packetPayload.toByteArray())));
       SynergyNetwork.log.error(Languages.getLanguageValue("closing-connection-bad-hash", channel));
-      sendInvalidMessage.set(true);
-    }
-    if (coordinatorOptional.isEmpty() || sendInvalidMessage.get()) {
-      SynergyNetwork.log.info(Languages.getLanguageValue("sending-invalid-message"));
-      final var command = Commands.BaseCommand.newBuilder()
-        .setType(Commands.BaseCommand.CommandType.NOOP)
-        .build();
-      final var message = Protocol.Transaction.newBuilder()
-        .setId("0")
-        .setMode(Protocol.Transaction.Mode.SINGLE)
-        .setPayload(command)
-        .build();
-      SynergyNetwork.sendToChannel(message, channel, id, "0");
-      channel.close();
-      return false;
+      return this.reject(channel, id);
     }
-    final var coordinator = coordinatorOptional.get();
-    final var payload = ByteString.copyFrom(
-      AuthUtils.decrypt(packetPayload.toByteArray(), coordinator.getPassword()));
+    final var payload = AuthUtils.decrypt(packetPayload.toByteArray(), coordinator.getPassword());
     final Protocol.Transaction transaction;
     try {
-      transaction = Protocol.Transaction.parseFrom(payload);
+      transaction = ProtobufUtils.parseAliased(Protocol.Transaction.parser(), payload);
     } catch (final InvalidProtocolBufferException e) {
       SynergyNetwork.log.error(Languages.getLanguageValue("unable-to-read-transaction"), e);
       return false;
     }
-    coordinator.getChannel()
-      .filter(ch -> ch == channel)
-      .ifPresent(ch ->
-        channel.closeFuture().addListener(future -> {
-          final var iterator = this.consoles.entrySet().iterator();
-          while (iterator.hasNext()) {
-            final var entry = iterator.next();
-            final var value = entry.getValue();
-            final var target = value.getCoordinator();
-            final var attached = value.getAttached();
-            if (target.isPresent() && attached.isPresent() && Objects.equals(attached.get(), coordinator.getId())) {
-              this.sendDetachConsole(target.get(), entry.getKey());
-              iterator.remove();
-            }
-          }
-        }));
-    coordinator.setChannel(channel);
-    this.transactionManager.receive(transaction, coordinator.getId());
-    return true;
+    return this.receive(transaction, coordinator, channel);
+  }
+
+  @Override
+  public boolean onReceive(@NotNull final Protocol.Transaction transaction, @NotNull final Session session,
+                           @NotNull final Channel channel) {
+    final var id = session.getCoordinatorId();
+    final var coordinator = this.getCoordinators().get(id);
+    if (coordinator == null) {
+      SynergyNetwork.log.error(Languages.getLanguageValue("unknown-coordinator-on-receive", id));
+      return this.reject(channel, id);
+    }
+    return this.receive(transaction, coordinator, channel);
   }
 
   @Override
@@ -231,24 +302,47 @@ public final class SynergyNetwork extends BaseSynergy implements Network {
         channel.close();
       }
     }
+    this.shutdownTransport();
+    this.stateStore.close();
   }
 
   @Override
   public boolean process(@NotNull final Commands.BaseCommand command, @NotNull final TransactionInfo info,
                          @Nullable final String from) {
-    return false;
+    if (from == null) {
+      return false;
+    }
+    return switch (Protocols.typeOf(command)) {
+      case SYNC -> this.onSync(command.getSync(), from);
+      case PACKAGE_CHECKSUM_REQUEST -> this.onChecksumRequest(command.getChecksumRequest(), info, from);
+      case PACKAGE_REQUEST -> this.onPackageRequest(command.getPackageRequest(), from);
+      case SPLIT_PACKAGE_ACK -> this.onPackageAck(command.getSplitPackageAck(), from);
+      default -> false;
+    };
   }
 
+  @NotNull
   @Override
-  public boolean send(@NotNull final Protocol.Transaction message, @Nullable final String target) {
-    return false;
+  public SendResult send(@NotNull final Protocol.Transaction message, @Nullable final String target) {
+    final var coordinator = target == null
+      ? null
+      : this.getCoordinators().get(target);
+    if (coordinator == null) {
+      SynergyNetwork.log.error(Languages.getLanguageValue("unknown-coordinator-on-send", target));
+      return SendResult.FAILED;
+    }
+    final var channel = coordinator.getChannel();
+    if (channel.isEmpty() || !channel.get().isActive()) {
+      return this.sendRemote(message, coordinator.getId());
+    }
+    return SynergyNetwork.sendToChannel(message, channel.get(), coordinator.getId(), coordinator.getPassword());
   }
 
   @Override
   public void onStart() throws InterruptedException {
     SynergyNetwork.log.info(Languages.getLanguageValue("network-is-starting"));
     SynergyNetwork.log.info(Languages.getLanguageValue("trying-to-bind", this.address));
-    final var future = Connections.bind(new SynergyInitializer(this), this.address)
+    final var future = Connections.bind(this.getTransportContext(), new SynergyInitializer(this), this.address)
       .await();
     if (!future.isSuccess()) {
       this.onClose();
@@ -259,8 +353,426 @@ public final class SynergyNetwork extends BaseSynergy implements Network {
     this.running.set(true);
   }
 
+  /**
+   * places a server of the given package on a coordinator and reserves its resources until the coordinator stops
+   * reporting the server.
+   *
+   * @param serverName the server name to place.
+   * @param pkg the package to place.
+   *
+   * @return the coordinator id which the server is placed.
+   */
+  @NotNull
+  public Optional<String> place(@NotNull final String serverName, @NotNull final Package pkg) {
+    return this.placement.place(serverName, pkg, this.placementStrategy);
+  }
+
+  @NotNull
+  @Override
+  protected Optional<Channel> findChannel(@Nullable final String target) {
+    return Optional.ofNullable(target)
+      .map(this.getCoordinators()::get)
+      .flatMap(Channeled::getChannel);
+  }
+
+  @Override
+  protected boolean relay(@NotNull final Protocol.TransactionHeader header, @NotNull final Session session) {
+    final var from = session.getCoordinatorId();
+    if (!TransactionRelay.isAddressed(header, from)) {
+      return false;
+    }
+    final var relayed = this.relay.relay(header, from, false);
+    if (relayed.isEmpty()) {
+      SynergyNetwork.log.warn(Languages.getLanguageValue("relay-rejected",
+        Long.toUnsignedString(header.getNumber()), header.getType(), from, header.getTarget()));
+      return true;
+    }
+    this.deliver(header, relayed.get(), from);
+    return true;
+  }
+
   @Override
   protected void onTick() {
+    final var now = System.nanoTime();
+    if (now - this.lastLeaseRenewal >= TimeUnit.MILLISECONDS.toNanos(SynergyConfig.coordinatorLease) / 3L) {
+      this.lastLeaseRenewal = now;
+      this.getCoordinators().values().stream()
+        .filter(coordinator -> coordinator.getChannel().filter(Channel::isActive).isPresent())
+        .forEach(coordinator -> this.stateStore.claim(coordinator.getId(), this.getId(),
+          SynergyConfig.coordinatorLease));
+    }
+    this.stateStore.flush();
+  }
+
+  /**
+   * claims the given coordinator for this network and releases it once the channel closes.
+   *
+   * @param coordinator the coordinator to claim.
+   * @param channel the channel to claim.
+   */
+  private void claim(@NotNull final Coordinator coordinator, @NotNull final Channel channel) {
+    final var id = coordinator.getId();
+    final var owner = this.getId();
+    this.stateStore.claim(id, owner, SynergyConfig.coordinatorLease)
+      .thenAccept(previous -> previous
+        .filter(previousOwner -> !previousOwner.equals(owner))
+        .ifPresent(previousOwner -> this.stateStore.getTransactions(previousOwner)
+          .thenAccept(transactions -> SynergyNetwork.log.warn(Languages.getLanguageValue("coordinator-failed-over",
+            id, previousOwner, transactions.size())))))
+      .exceptionally(throwable -> {
+        SynergyNetwork.log.error(Languages.getLanguageValue("unable-to-claim-coordinator", id), throwable);
+        return null;
+      });
+    channel.closeFuture().addListener(future -> {
+      this.stateStore.release(id, owner);
+      this.placement.remove(id);
+      this.closeStreamers(id);
+    });
+  }
+
+  /**
+   * closes and removes the package streamers of the given coordinator.
+   *
+   * @param id the coordinator id to close.
+   */
+  private void closeStreamers(@NotNull final String id) {
+    final var prefix = id + ':';
+    this.streamers.entrySet().removeIf(entry -> {
+      if (!entry.getKey().startsWith(prefix)) {
+        return false;
+      }
+      entry.getValue().close();
+      return true;
+    });
+  }
+
+  /**
+   * delivers the relayed header to its target, publishes it to the origin network if the target is not a coordinator.
+   * <p>
+   * if the target coordinator is connected to another network, the header is published to that network. if the
+   * header can't be delivered, its route is removed and the origin's transaction is completed with a failure.
+   *
+   * @param header the header which is received.
+   * @param relayed the relayed to deliver.
+   * @param from the sender of the header.
+   */
+  private void deliver(@NotNull final Protocol.TransactionHeader header,
+                       @NotNull final TransactionRelay.Relayed relayed, @NotNull final String from) {
+    final var target = relayed.getTarget();
+    SynergyNetwork.log.debug(Languages.getLanguageValue("transaction-relayed", Long.toUnsignedString(header.getNumber()),
+      header.getType(), from, target));
+    this.track(header, relayed);
+    final var coordinator = this.getCoordinators().get(target);
+    if (coordinator != null && coordinator.getChannel().filter(Channel::isActive).isEmpty()) {
+      this.findOwner(target).whenComplete((owner, throwable) -> {
+        if (throwable == null && owner.isPresent()) {
+          this.publish(owner.get(), relayed.getHeader().toBuilder()
+            .setTarget(target)
+            .build(), false);
+        } else {
+          this.failRelayed(header, relayed);
+        }
+      });
+      return;
+    }
+    if (!this.sendRelayed(relayed).isWritten()) {
+      this.failRelayed(header, relayed);
+    }
+  }
+
+  /**
+   * removes the route of the relayed header which couldn't be delivered and fails its origin's transaction.
+   *
+   * @param header the header which is received.
+   * @param relayed the relayed which couldn't be delivered.
+   */
+  private void failRelayed(@NotNull final Protocol.TransactionHeader header,
+                           @NotNull final TransactionRelay.Relayed relayed) {
+    SynergyNetwork.log.error(Languages.getLanguageValue("unable-to-relay-transaction",
+      Long.toUnsignedString(header.getNumber()), relayed.getTarget()));
+    this.relay.fail(relayed).ifPresent(failure -> {
+      this.stateStore.removeTransaction(this.getId(), relayed.getHeader().getNumber());
+      this.sendRelayed(failure);
+    });
+  }
+
+  /**
+   * runs when a coordinator requests the checksum of a package, answers it off the event loop.
+   *
+   * @param request the request to run.
+   * @param info the transaction info to answer.
+   * @param from the coordinator id to run.
+   *
+   * @return always {@code true}.
+   */
+  private boolean onChecksumRequest(@NotNull final Commands.PackageChecksumRequest request,
+                                    @NotNull final TransactionInfo info, @NotNull final String from) {
+    final var meta = request.getP3();
+    this.runAsync(() -> {
+      try {
+        return Optional.of(AuthUtils.createPackageChecksum(PackageFiles.path(meta).toString()));
+      } catch (final IOException | IllegalArgumentException e) {
+        SynergyNetwork.log.error(Languages.getLanguageValue("unable-to-checksum-package", meta.getId(),
+          meta.getVersion()), e);
+        return Optional.<String>empty();
+      }
+    }).thenAccept(checksum -> {
+      final var command = Commands.BaseCommand.newBuilder()
+        .setType(Commands.BaseCommand.CommandType.PACKAGE_CHECKSUM_RESPONSE)
+        .setChecksumResponse(Commands.PackageChecksumResponse.newBuilder()
+          .setOk(checksum.isPresent())
+          .setChecksum(checksum.orElse(""))
+          .build())
+        .build();
+      this.transactionManager.build(info.getId(), Protocol.Transaction.Mode.COMPLETE, command)
+        .ifPresent(message -> this.transactionManager.send(info.getId(), message, from));
+    });
+    return true;
+  }
+
+  /**
+   * runs when a coordinator starts the handshake.
+   *
+   * @param packet the packet to run.
+   * @param coordinator the coordinator to run.
+   * @param channel the channel to run.
+   *
+   * @return {@code true} if the session was established.
+   */
+  private boolean onHandshake(@NotNull final Protocol.AuthenticatedMessage packet,
+                              @NotNull final Coordinator coordinator, @NotNull final Channel channel) {
+    final var id = coordinator.getId();
+    final var password = coordinator.getPassword();
+    final var clientNonce = packet.getHandshake().getNonce().toByteArray();
+    final SecretKey macKey;
+    try {
+      macKey = AuthUtils.createMacKey(password);
+    } catch (final IllegalArgumentException e) {
+      SynergyNetwork.log.error(Languages.getLanguageValue("invalid-handshake", channel), e);
+      return this.reject(channel, id);
+    }
+    if (packet.getVersion() != Protocols.PROTOCOL_VERSION ||
+      !AuthUtils.validateMac(packet.getMac(), macKey, ByteBuffer.wrap(clientNonce))) {
+      SynergyNetwork.log.error(Languages.getLanguageValue("invalid-handshake", channel));
+      return this.reject(channel, id);
+    }
+    final var serverNonce = AuthUtils.createNonce();
+    final var key = AuthUtils.deriveSessionKey(password, id, clientNonce, serverNonce);
+    channel.attr(Session.KEY).set(Session.network(id, key));
+    final var auth = Protocol.AuthenticatedMessage.newBuilder()
+      .setCoordinatorId(id)
+      .setVersion(Protocols.PROTOCOL_VERSION)
+      .setMac(UnsafeByteOperations.unsafeWrap(AuthUtils.createMac(macKey, ByteBuffer.wrap(clientNonce),
+        ByteBuffer.wrap(serverNonce))))
+      .setHandshake(Protocol.Handshake.newBuilder()
+        .setNonce(ByteString.copyFrom(serverNonce))
+        .build())
+      .build();
+    channel.writeAndFlush(auth);
+    SynergyNetwork.log.info(Languages.getLanguageValue("handshake-completed-with", id));
+    return true;
+  }
+
+  /**
+   * runs when a coordinator acknowledges a package chunk.
+   *
+   * @param ack the ack to run.
+   * @param from the coordinator id to run.
+   *
+   * @return {@code true} if the package is being streamed to the coordinator.
+   */
+  private boolean onPackageAck(@NotNull final Commands.SplitPackageAck ack, @NotNull final String from) {
+    final var key = from + ':' + PackageFiles.key(ack.getP3());
+    final var streamer = this.streamers.get(key);
+    if (streamer == null) {
+      return false;
+    }
+    streamer.onAck(ack.getChunkId());
+    if (streamer.isDone()) {
+      this.streamers.remove(key, streamer);
+    }
+    return true;
+  }
+
+  /**
+   * runs when a coordinator requests a package, streams it from the requested offset.
+   * <p>
+   * if the request has the signature of the coordinator's previous version, the delta is computed off the event
+   * loop.
+   *
+   * @param request the request to run.
+   * @param from the coordinator id to run.
+   *
+   * @return {@code true} if the package started streaming.
+   */
+  private boolean onPackageRequest(@NotNull final Commands.PackageRequest request, @NotNull final String from) {
+    final var meta = request.getP3();
+    final var key = from + ':' + PackageFiles.key(meta);
+    final var previous = this.streamers.remove(key);
+    if (previous != null) {
+      previous.close();
+    }
+    final var signature = PackageDelta.Signature.of(request);
+    if (signature == null) {
+      return this.stream(key, meta, request.getOffset(), from, null);
+    }
+    this.runAsync(() -> this.stream(key, meta, request.getOffset(), from, signature));
+    return true;
+  }
+
+  /**
+   * runs when another network publishes a transaction to this network.
+   * <p>
+   * replies are received as if they came from the coordinator which sent them, replies to relayed transactions and
+   * the others are relayed to the local coordinator like the transactions between coordinators.
+   *
+   * @param message the message to run.
+   */
+  private void onRemoteRelay(final byte @NotNull [] message) {
+    final Protocol.NetworkRelay networkRelay;
+    final Protocol.Transaction reply;
+    try {
+      networkRelay = ProtobufUtils.parseAliased(Protocol.NetworkRelay.parser(), message);
+      reply = networkRelay.getReply()
+        ? BaseSynergy.toTransaction(networkRelay.getHeader())
+        : null;
+    } catch (final InvalidProtocolBufferException e) {
+      SynergyNetwork.log.error(Languages.getLanguageValue("unable-to-read-transaction"), e);
+      return;
+    }
+    final var header = networkRelay.getHeader();
+    if (reply != null && !TransactionRelay.isRelayId(header.getNumber())) {
+      this.transactionManager.receive(reply, header.getTarget());
+      return;
+    }
+    final var relayed = reply == null
+      ? this.relay.relayRemote(header, networkRelay.getOrigin())
+      : this.relay.relay(header, header.getTarget(), true);
+    if (relayed.isEmpty()) {
+      SynergyNetwork.log.error(Languages.getLanguageValue("unable-to-relay-transaction",
+        Long.toUnsignedString(header.getNumber()), header.getTarget()));
+      return;
+    }
+    this.deliver(header, relayed.get(), networkRelay.getOrigin());
+  }
+
+  /**
+   * runs when a coordinator syncs.
+   *
+   * @param sync the sync to run.
+   * @param from the coordinator id to run.
+   *
+   * @return {@code true} if the sync was applied or was a heartbeat.
+   */
+  private boolean onSync(@NotNull final Commands.Sync sync, @NotNull final String from) {
+    final var coordinator = this.getCoordinators().get(from);
+    if (coordinator == null) {
+      SynergyNetwork.log.error(Languages.getLanguageValue("unknown-coordinator-on-receive", from));
+      return false;
+    }
+    final var state = this.syncStates.computeIfAbsent(from, id -> new SyncState());
+    return switch (state.apply(sync, coordinator)) {
+      case APPLIED -> {
+        this.stateStore.putServers(from, sync.getServersList(), sync.getRemovedServersList(), sync.getFull());
+        this.updatePlacement(coordinator, state);
+        this.sendSingle(Commands.BaseCommand.newBuilder()
+          .setType(Commands.BaseCommand.CommandType.SYNC_ACK)
+          .setSyncAck(Commands.SyncAck.newBuilder()
+            .setSequence(sync.getSequence())
+            .build())
+          .build(), from);
+        yield true;
+      }
+      case HEARTBEAT -> true;
+      case IGNORED -> false;
+      case RESYNC -> {
+        SynergyNetwork.log.warn(Languages.getLanguageValue("sync-gap-detected", from, state.getSequence(),
+          sync.getSequence()));
+        if (!this.sendResync(from, state.getSequence())) {
+          state.onResyncFailed();
+          yield false;
+        }
+        yield true;
+      }
+    };
+  }
+
+  /**
+   * finds the network which the given coordinator is connected to.
+   *
+   * @param coordinatorId the coordinator id to find.
+   *
+   * @return the owner network, empty if the coordinator is not connected to another network.
+   */
+  @NotNull
+  private CompletableFuture<Optional<String>> findOwner(@NotNull final String coordinatorId) {
+    final var cached = this.owners.getIfPresent(coordinatorId);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(Optional.of(cached));
+    }
+    return this.stateStore.getOwner(coordinatorId)
+      .thenApply(optional -> optional
+        .filter(value -> !value.equals(this.getId()))
+        .map(value -> {
+          this.owners.put(coordinatorId, value);
+          return value;
+        }));
+  }
+
+  /**
+   * publishes the given header to the network.
+   *
+   * @param owner the network to publish.
+   * @param header the header to publish.
+   * @param reply {@code true} if the header answers a transaction of the network.
+   *
+   * @return always {@link SendResult#SENT}.
+   */
+  @NotNull
+  private SendResult publish(@NotNull final String owner, @NotNull final Protocol.TransactionHeader header,
+                             final boolean reply) {
+    this.stateStore.publish(owner, Protocol.NetworkRelay.newBuilder()
+      .setOrigin(this.getId())
+      .setReply(reply)
+      .setHeader(header)
+      .build()
+      .toByteArray());
+    return SendResult.SENT;
+  }
+
+  /**
+   * receives the given verified transaction from the coordinator.
+   *
+   * @param transaction the transaction to receive.
+   * @param coordinator the coordinator to receive.
+   * @param channel the channel to receive.
+   *
+   * @return {@code true} if the transaction was received.
+   */
+  private boolean receive(@NotNull final Protocol.Transaction transaction, @NotNull final Coordinator coordinator,
+                          @NotNull final Channel channel) {
+    coordinator.getChannel()
+      .filter(ch -> ch == channel)
+      .ifPresent(ch ->
+        channel.closeFuture().addListener(future -> {
+          final var iterator = this.consoles.entrySet().iterator();
+          while (iterator.hasNext()) {
+            final var entry = iterator.next();
+            final var value = entry.getValue();
+            final var target = value.getCoordinator();
+            final var attached = value.getAttached();
+            if (target.isPresent() && attached.isPresent() && Objects.equals(attached.get(), coordinator.getId())) {
+              this.sendDetachConsole(target.get(), entry.getKey());
+              iterator.remove();
+            }
+          }
+        }));
+    if (coordinator.getChannel().filter(ch -> ch == channel).isEmpty()) {
+      this.claim(coordinator, channel);
+    }
+    coordinator.setChannel(channel);
+    this.transactionManager.receive(transaction, coordinator.getId());
+    return true;
   }
 
   /**
@@ -273,6 +785,265 @@ public final class SynergyNetwork extends BaseSynergy implements Network {
         this.onClose();
         return Command.SINGLE_SUCCESS;
       }));
+    // Transport command.
+    this.getCommandDispatcher().register(LiteralArgumentBuilder.<CommandSender>literal("transport")
+      .executes(context -> {
+        final var transportContext = this.getTransportContext();
+        context.getSource().sendMessage(Languages.getLanguageValue("transport-status",
+          transportContext.getTransport(), transportContext.getThreadCount(), transportContext.getPendingTasks()));
+        return Command.SINGLE_SUCCESS;
+      }));
+    // Servers command.
+    this.getCommandDispatcher().register(LiteralArgumentBuilder.<CommandSender>literal("servers")
+      .then(RequiredArgumentBuilder.<CommandSender, String>argument("coordinator", StringArgumentType.word())
+        .executes(context -> {
+          final var coordinatorId = StringArgumentType.getString(context, "coordinator");
+          final var source = context.getSource();
+          this.stateStore.getServers(coordinatorId)
+            .thenAccept(servers -> source.sendMessage(Languages.getLanguageValue("coordinator-servers",
+              coordinatorId, servers.size(), servers.values().stream()
+                .map(server -> server.getName() + " (" + server.getUuid() + ')')
+                .collect(Collectors.joining(", ")))))
+            .exceptionally(throwable -> {
+              SynergyNetwork.log.error(Languages.getLanguageValue("unable-to-read-servers", coordinatorId), throwable);
+              return null;
+            });
+          return Command.SINGLE_SUCCESS;
+        })));
+  }
+
+  /**
+   * sends an invalid message to close out the connection.
+   *
+   * @param channel the channel to reject.
+   * @param id the id to reject.
+   *
+   * @return always {@code false}.
+   */
+  private boolean reject(@NotNull final Channel channel, @NotNull final String id) {
+    SynergyNetwork.log.info(Languages.getLanguageValue("sending-invalid-message"));
+    final var command = Commands.BaseCommand.newBuilder()
+      .setType(Commands.BaseCommand.CommandType.NOOP)
+      .build();
+    final var message = Protocol.Transaction.newBuilder()
+      .setId("0")
+      .setMode(Protocol.Transaction.Mode.SINGLE)
+      .setPayload(command)
+      .build();
+    SynergyNetwork.sendToChannel(message, channel, id, "0");
+    channel.close();
+    return false;
+  }
+
+  /**
+   * sends resync request to the coordinator.
+   *
+   * @param target the target to send.
+   * @param sequence the last applied sequence to send.
+   *
+   * @return {@code true} if the request was sent successfully.
+   */
+  private boolean sendResync(@NotNull final String target, final long sequence) {
+    final var command = Commands.BaseCommand.newBuilder()
+      .setType(Commands.BaseCommand.CommandType.SYNC_RESYNC)
+      .setSyncResync(Commands.SyncResync.newBuilder()
+        .setSequence(Math.max(0L, sequence))
+        .build())
+      .build();
+    final var id = this.transactionManager.generateInfo().getId();
+    final var message = this.transactionManager.build(id, Protocol.Transaction.Mode.SINGLE, command);
+    if (message.isEmpty()) {
+      SynergyNetwork.log.error(Languages.getLanguageValue("unable-to-build-message"));
+      this.transactionManager.cancel(id);
+      return false;
+    }
+    return this.transactionManager.send(id, message.get(), target);
+  }
+
+  /**
+   * streams the given package to the given coordinator from the given offset.
+   * <p>
+   * the package is streamed in full if the delta against the signature couldn't be computed.
+   *
+   * @param key the key of the streamer.
+   * @param meta the meta to stream.
+   * @param offset the offset which the coordinator already has.
+   * @param from the coordinator id to stream.
+   * @param signature the signature of the coordinator's previous version.
+   *
+   * @return {@code true} if the package started streaming.
+   */
+  private boolean stream(@NotNull final String key, @NotNull final P3.P3Meta meta, final long offset,
+                         @NotNull final String from, @Nullable final PackageDelta.Signature signature) {
+    final PackageStreamer streamer;
+    try {
+      streamer = new PackageStreamer(PackageFiles.path(meta), meta, SynergyConfig.packageChunkSize,
+        SynergyConfig.packageWindow, SynergyConfig.packageAckTimeout, this.getTimer(), new PackageStreamer.Sink() {
+        @NotNull
+        @Override
+        public SendResult send(@NotNull final P3.SplitPackageData chunk) {
+          return SynergyNetwork.this.sendSingle(Commands.BaseCommand.newBuilder()
+            .setType(Commands.BaseCommand.CommandType.SPLIT_PACKAGE_RESPONSE)
+            .setSplitPackageResponse(Commands.SplitPackageResponse.newBuilder()
+              .setOk(true)
+              .setData(chunk)
+              .build())
+            .build(), from);
+        }
+
+        @Override
+        public boolean whenWritable(@NotNull final Runnable task) {
+          return SynergyNetwork.this.whenWritable(from, task);
+        }
+      }, signature);
+    } catch (final IOException | IllegalArgumentException e) {
+      if (signature != null) {
+        return this.stream(key, meta, offset, from, null);
+      }
+      SynergyNetwork.log.error(Languages.getLanguageValue("unable-to-stream-package", meta.getId(),
+        meta.getVersion(), from), e);
+      this.sendSingle(Commands.BaseCommand.newBuilder()
+        .setType(Commands.BaseCommand.CommandType.SPLIT_PACKAGE_RESPONSE)
+        .setSplitPackageResponse(Commands.SplitPackageResponse.newBuilder()
+          .setData(P3.SplitPackageData.newBuilder()
+            .setMeta(meta)
+            .build())
+          .build())
+        .build(), from);
+      return false;
+    }
+    final var previous = this.streamers.put(key, streamer);
+    if (previous != null) {
+      previous.close();
+    }
+    streamer.start(offset);
+    return true;
+  }
+
+  /**
+   * keeps the metadata of the relayed transaction in the state store while it is in flight.
+   *
+   * @param header the header which is received.
+   * @param relayed the relayed to track.
+   */
+  private void track(@NotNull final Protocol.TransactionHeader header,
+                     @NotNull final TransactionRelay.Relayed relayed) {
+    final var relayedHeader = relayed.getHeader();
+    switch (header.getMode()) {
+      case CREATE -> this.stateStore.putTransaction(this.getId(), Protocol.Transaction.newBuilder()
+        .setId(relayedHeader.getId())
+        .setMode(relayedHeader.getMode())
+        .setNumber(relayedHeader.getNumber())
+        .setType(relayedHeader.getType())
+        .setTarget(relayed.getTarget())
+        .build(), SynergyConfig.coordinatorLease);
+      case COMPLETE -> this.stateStore.removeTransaction(this.getId(), TransactionRelay.isRelayId(header.getNumber())
+        ? header.getNumber()
+        : relayedHeader.getNumber());
+      default -> {
+      }
+    }
+  }
+
+  /**
+   * sends the given relayed header to its target, publishes it to the origin network if the target is not a
+   * coordinator.
+   *
+   * @param relayed the relayed to send.
+   *
+   * @return send result.
+   */
+  @NotNull
+  private SendResult sendRelayed(@NotNull final TransactionRelay.Relayed relayed) {
+    final var target = relayed.getTarget();
+    return this.getCoordinators().containsKey(target)
+      ? this.sendHeader(relayed.getHeader(), target)
+      : this.publish(target, relayed.getHeader(), true);
+  }
+
+  /**
+   * sends the given header to the target without parsing its payload, unless the target is a legacy peer.
+   *
+   * @param header the header to send.
+   * @param target the target to send.
+   *
+   * @return send result.
+   */
+  @NotNull
+  private SendResult sendHeader(@NotNull final Protocol.TransactionHeader header, @NotNull final String target) {
+    final var coordinator = this.getCoordinators().get(target);
+    final var channel = coordinator == null
+      ? Optional.<Channel>empty()
+      : coordinator.getChannel().filter(Channel::isActive);
+    if (channel.isEmpty()) {
+      return SendResult.FAILED;
+    }
+    if (channel.get().attr(Session.KEY).get() != null) {
+      return SendResult.of(channel.get().writeAndFlush(header));
+    }
+    try {
+      return SynergyNetwork.sendToChannel(BaseSynergy.toTransaction(header), channel.get(), coordinator.getId(),
+        coordinator.getPassword());
+    } catch (final InvalidProtocolBufferException e) {
+      SynergyNetwork.log.error(Languages.getLanguageValue("unable-to-read-transaction"), e);
+      return SendResult.FAILED;
+    }
+  }
+
+  /**
+   * sends the given message to the network which the target is connected to.
+   * <p>
+   * the owner is looked up on the state store once and cached for a third of the coordinator lease, while the look
+   * up is in progress the message is reported as sent and its transaction is cancelled if no owner is found.
+   *
+   * @param message the message to send.
+   * @param target the target to send.
+   *
+   * @return send result.
+   */
+  @NotNull
+  private SendResult sendRemote(@NotNull final Protocol.Transaction message, @NotNull final String target) {
+    final var header = BaseSynergy.toHeader(message).toBuilder()
+      .setTarget(target)
+      .build();
+    final var owner = this.findOwner(target);
+    if (owner.isDone() && !owner.isCompletedExceptionally()) {
+      return owner.join()
+        .map(value -> this.publish(value, header, false))
+        .orElseGet(() -> {
+          SynergyNetwork.log.error(Languages.getLanguageValue("unable-to-send-transaction",
+            Long.toUnsignedString(message.getNumber())));
+          return SendResult.FAILED;
+        });
+    }
+    owner.whenComplete((value, throwable) -> {
+      if (throwable == null && value.isPresent()) {
+        this.publish(value.get(), header, false);
+        return;
+      }
+      SynergyNetwork.log.error(Languages.getLanguageValue("unable-to-send-transaction",
+        Long.toUnsignedString(message.getNumber())), throwable);
+      this.transactionManager.cancel(message.getNumber(), target, true);
+    });
+    return SendResult.SENT;
+  }
+
+  /**
+   * updates the placement of the given coordinator after its sync is applied.
+   *
+   * @param coordinator the coordinator to update.
+   * @param state the state to update.
+   */
+  private void updatePlacement(@NotNull final Coordinator coordinator, @NotNull final SyncState state) {
+    if (!state.isEnabled()) {
+      this.placement.remove(coordinator.getId());
+      return;
+    }
+    this.placement.update(coordinator.getId(), coordinator.getResources(), coordinator.getAttributes(),
+      state.getServers().values().stream()
+        .filter(Core.Server::hasName)
+        .map(Core.Server::getName)
+        .collect(Collectors.toSet()));
   }
 
   /**
@@ -296,12 +1067,7 @@ public final class SynergyNetwork extends BaseSynergy implements Network {
       .setType(Commands.BaseCommand.CommandType.DETACH_CONSOLE)
       .setDetachConsole(detach)
       .build();
-    final var info = this.transactionManager.generateInfo();
-    final var infoId = info.getIdOptional();
-    if (infoId.isEmpty()) {
-      return false;
-    }
-    final var id = infoId.get();
+    final var id = this.transactionManager.generateInfo().getId();
     final var message = this.transactionManager
       .build(id, Protocol.Transaction.Mode.SINGLE, command);
     if (message.isEmpty()) {
@@ -36,12 +36,157 @@ import io.github.portlek.synergy.core.util.SystemUtils;
  */
 public final class SynergyConfig implements ConfigHolder {
 
+  /**
+   * the batch max bytes, a batch is flushed right away once its transactions reach this size.
+   */
+  @Route("batch-max-bytes")
+  public static int batchMaxBytes = 65536;
+
+  /**
+   * the batch window in microseconds, {@code 0} to flush transactions as soon as they're flushed.
+   */
+  @Route("batch-window")
+  public static long batchWindow = 1000L;
+
+  /**
+   * the boss threads, accepts incoming connections.
+   */
+  @Route("boss-threads")
+  public static int bossThreads = 1;
+
+  /**
+   * the coordinator lease in milliseconds, another network takes the coordinator over once it expires.
+   */
+  @Route("coordinator-lease")
+  public static long coordinatorLease = 15000L;
+
+  /**
+   * the failover addresses, comma separated {@code host:port} pairs coordinators try when the network goes down.
+   */
+  @Route("failover-addresses")
+  public static String failoverAddresses = "";
+
+  /**
+   * the legacy protocol, uses per-message key derivation instead of a session handshake.
+   */
+  @Route("legacy-protocol")
+  public static boolean legacyProtocol = false;
+
+  /**
+   * the package ack timeout in milliseconds, the unacknowledged package chunks are sent again after it.
+   */
+  @Route("package-ack-timeout")
+  public static long packageAckTimeout = 5000L;
+
+  /**
+   * the package cache folder of the coordinators, relative to the home.
+   */
+  @Route("package-cache-folder")
+  public static String packageCacheFolder = "cache";
+
+  /**
+   * the package cache size in bytes, the least recently used packages are deleted above this.
+   */
+  @Route("package-cache-size")
+  public static long packageCacheSize = 4294967296L;
+
+  /**
+   * the package chunk size in bytes, packages are streamed in chunks of this size.
+   */
+  @Route("package-chunk-size")
+  public static int packageChunkSize = 65536;
+
+  /**
+   * the package delta block size in bytes, 0 to download the changed packages in full.
+   */
+  @Route("package-delta-block-size")
+  public static int packageDeltaBlockSize = 16384;
+
+  /**
+   * the package window, the chunks which are sent before the receiver acknowledges them.
+   */
+  @Route("package-window")
+  public static int packageWindow = 16;
+
+  /**
+   * the packages folder, relative to the home.
+   */
+  @Route("packages-folder")
+  public static String packagesFolder = "packages";
+
+  /**
+   * the placement strategy of the servers which have no coordinator, one of {@code bin-packing},
+   * {@code least-loaded} or {@code spread}.
+   */
+  @Route("placement-strategy")
+  public static String placementStrategy = "bin-packing";
+
+  /**
+   * the provision threads, runs the package steps which don't depend on each other in parallel.
+   */
+  @Route("provision-threads")
+  public static int provisionThreads = 4;
+
+  /**
+   * the reconnect initial delay in milliseconds.
+   */
+  @Route("reconnect-initial-delay")
+  public static long reconnectInitialDelay = 1000L;
+
+  /**
+   * the reconnect max delay in milliseconds.
+   */
+  @Route("reconnect-max-delay")
+  public static long reconnectMaxDelay = 30000L;
+
+  /**
+   * the redis key prefix.
+   */
+  @Route("redis-prefix")
+  public static String redisPrefix = "synergy:";
+
+  /**
+   * the redis uri, such as {@code redis://localhost:6379/0}, empty to keep the state in memory only.
+   */
+  @Route("redis-uri")
+  public static String redisUri = "";
+
+  /**
+   * the sync heartbeat interval in milliseconds, used when nothing changed since the last sync.
+   */
+  @Route("sync-heartbeat-interval")
+  public static long syncHeartbeatInterval = 1000L;
+
   /**
    * the transaction timeout.
    */
   @Route("transaction-timeout")
   public static long transactionTimeout = 340L;
 
+  /**
+   * the transport, one of {@code auto}, {@code nio}, {@code epoll} or {@code io_uring}.
+   */
+  @Route("transport")
+  public static String transport = "auto";
+
+  /**
+   * the worker threads, {@code 0} to use netty's default.
+   */
+  @Route("worker-threads")
+  public static int workerThreads = 0;
+
+  /**
+   * the write buffer high water mark in bytes, sends report backpressure once a channel buffers more than this.
+   */
+  @Route("write-buffer-high-water-mark")
+  public static int writeBufferHighWaterMark = 1048576;
+
+  /**
+   * the write buffer low water mark in bytes, a channel becomes writable again once it drains below this.
+   */
+  @Route("write-buffer-low-water-mark")
+  public static int writeBufferLowWaterMark = 262144;
+
   /**
    * ctor.
    */
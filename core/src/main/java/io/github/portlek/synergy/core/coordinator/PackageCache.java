@@ -0,0 +1,432 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.coordinator;
+
+import io.github.portlek.synergy.core.p3.PackageFiles;
+import io.github.portlek.synergy.core.util.AuthUtils;
+import io.github.portlek.synergy.languages.Languages;
+import io.github.portlek.synergy.proto.P3;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents content addressed package caches of coordinators.
+ * <p>
+ * the packages are stored as {@code <id>/<version>-<checksum>.p3}, so a package is downloaded again only when the
+ * network's checksum changes. concurrent requests of the same package share a single checksum request and a single
+ * download, and the least recently used packages are deleted once the cache grows over its max size. a changed
+ * package is downloaded as a delta against the most recently used version of it which is in the cache.
+ * <p>
+ * the packages which are handed out, used as a delta base or being downloaded are pinned and never evicted until
+ * they are released. the part files of the unfinished downloads count towards the size and are evicted like the
+ * packages once nothing downloads into them.
+ */
+@Log4j2
+public final class PackageCache {
+
+  /**
+   * the checksums, obtains the checksum of a package from the network.
+   */
+  @NotNull
+  private final Function<P3.P3Meta, CompletableFuture<String>> checksums;
+
+  /**
+   * the downloader.
+   */
+  @NotNull
+  private final Downloader downloader;
+
+  /**
+   * the pending requests by package.
+   */
+  private final Map<String, CompletableFuture<Path>> downloads = new ConcurrentHashMap<>();
+
+  /**
+   * the sizes of the cached packages in access order.
+   */
+  private final Map<Path, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * the executor, verifies the downloaded packages off the event loop.
+   */
+  @NotNull
+  private final Executor executor;
+
+  /**
+   * the max size in bytes.
+   */
+  private final long maxSize;
+
+  /**
+   * the pin counts by path.
+   */
+  private final Map<Path, Integer> pins = new HashMap<>();
+
+  /**
+   * the root.
+   */
+  @NotNull
+  private final Path root;
+
+  /**
+   * the size in bytes.
+   */
+  private long size;
+
+  /**
+   * ctor.
+   *
+   * @param root the root.
+   * @param maxSize the max size.
+   * @param executor the executor.
+   * @param checksums the checksums.
+   * @param downloader the downloader.
+   */
+  public PackageCache(@NotNull final Path root, final long maxSize, @NotNull final Executor executor,
+                      @NotNull final Function<P3.P3Meta, CompletableFuture<String>> checksums,
+                      @NotNull final Downloader downloader) {
+    this.root = root;
+    this.maxSize = maxSize;
+    this.executor = executor;
+    this.checksums = checksums;
+    this.downloader = downloader;
+    this.load();
+  }
+
+  /**
+   * obtains the last modified time of the given path.
+   *
+   * @param path the path to obtain.
+   *
+   * @return last modified time.
+   */
+  @NotNull
+  private static FileTime lastModified(@NotNull final Path path) {
+    try {
+      return Files.getLastModifiedTime(path);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * obtains the given package from the cache, downloads it if the cache doesn't have its current checksum.
+   * <p>
+   * the package is pinned, so it must be released with {@link #release(Path)} once it's not used anymore.
+   *
+   * @param meta the meta to obtain.
+   *
+   * @return the path of the package.
+   */
+  @NotNull
+  public CompletableFuture<Path> get(@NotNull final P3.P3Meta meta) {
+    return this.fetch(meta).thenCompose(path -> this.pin(path)
+      ? CompletableFuture.completedFuture(path)
+      : this.get(meta));
+  }
+
+  /**
+   * obtains the size of the cached packages.
+   *
+   * @return size in bytes.
+   */
+  public synchronized long getSize() {
+    return this.size;
+  }
+
+  /**
+   * releases the given package which is obtained from the cache, evicts the packages if the cache is too big.
+   *
+   * @param path the path to release.
+   */
+  public synchronized void release(@NotNull final Path path) {
+    final var count = this.pins.get(path);
+    if (count == null) {
+      return;
+    }
+    if (count > 1) {
+      this.pins.put(path, count - 1);
+      return;
+    }
+    this.pins.remove(path);
+    this.evict(null);
+  }
+
+  /**
+   * adds the given package to the cache and evicts the least recently used ones while the cache is too big.
+   *
+   * @param path the path to add.
+   *
+   * @throws IOException if the size of the package couldn't be read.
+   */
+  private synchronized void add(@NotNull final Path path) throws IOException {
+    final var previous = this.entries.put(path, Files.size(path));
+    this.size += this.entries.get(path) - (previous == null ? 0L : previous);
+    this.evict(path);
+  }
+
+  /**
+   * accounts the part file of the given package after its download ends, it's kept to resume if the download failed.
+   *
+   * @param part the part to account.
+   */
+  private synchronized void addPart(@NotNull final Path part) {
+    this.release(part);
+    final var previous = this.entries.remove(part);
+    if (previous != null) {
+      this.size -= previous;
+    }
+    if (!Files.isRegularFile(part)) {
+      return;
+    }
+    try {
+      this.add(part);
+    } catch (final IOException e) {
+      PackageCache.log.error(Languages.getLanguageValue("unable-to-load-package-cache", part), e);
+    }
+  }
+
+  /**
+   * evicts the least recently used packages which are not pinned while the cache is too big.
+   *
+   * @param keep the package to keep, such as the one which is just added.
+   */
+  private synchronized void evict(@Nullable final Path keep) {
+    final var iterator = this.entries.entrySet().iterator();
+    while (this.size > this.maxSize && iterator.hasNext()) {
+      final var entry = iterator.next();
+      if (entry.getKey().equals(keep) || this.pins.containsKey(entry.getKey())) {
+        continue;
+      }
+      try {
+        Files.deleteIfExists(entry.getKey());
+      } catch (final IOException e) {
+        PackageCache.log.error(Languages.getLanguageValue("unable-to-evict-package", entry.getKey()), e);
+        continue;
+      }
+      this.size -= entry.getValue();
+      iterator.remove();
+    }
+  }
+
+  /**
+   * obtains the given package from the cache, downloads it once for all the concurrent requests.
+   *
+   * @param meta the meta to obtain.
+   *
+   * @return the path of the package, which is not pinned.
+   */
+  @NotNull
+  private CompletableFuture<Path> fetch(@NotNull final P3.P3Meta meta) {
+    final var key = PackageFiles.key(meta);
+    final var future = new CompletableFuture<Path>();
+    final var previous = this.downloads.putIfAbsent(key, future);
+    if (previous != null) {
+      return previous;
+    }
+    future.whenComplete((path, throwable) -> this.downloads.remove(key, future));
+    this.checksums.apply(meta)
+      .thenCompose(checksum -> this.get(meta, checksum))
+      .whenComplete((path, throwable) -> {
+        if (throwable == null) {
+          future.complete(path);
+        } else {
+          future.completeExceptionally(throwable);
+        }
+      });
+    return future;
+  }
+
+  /**
+   * finds the most recently used package in the same folder as the given path and pins it.
+   *
+   * @param path the path to find.
+   *
+   * @return a previous version of the package, or {@code null} if the cache doesn't have any.
+   */
+  @Nullable
+  private synchronized Path pinBase(@NotNull final Path path) {
+    Path base = null;
+    for (final var entry : this.entries.keySet()) {
+      if (!entry.equals(path) && path.getParent().equals(entry.getParent())
+        && entry.getFileName().toString().endsWith(".p3")) {
+        base = entry;
+      }
+    }
+    if (base != null) {
+      this.pins.merge(base, 1, Integer::sum);
+    }
+    return base;
+  }
+
+  /**
+   * obtains the given package with the checksum from the cache, downloads it if it's missing.
+   *
+   * @param meta the meta to obtain.
+   * @param checksum the checksum to obtain.
+   *
+   * @return the path of the package.
+   */
+  @NotNull
+  private CompletableFuture<Path> get(@NotNull final P3.P3Meta meta, @NotNull final String checksum) {
+    final Path path;
+    try {
+      path = PackageFiles.cachePath(this.root, meta, checksum);
+    } catch (final IllegalArgumentException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    if (this.touch(path)) {
+      return CompletableFuture.completedFuture(path);
+    }
+    final var base = this.pinBase(path);
+    final var part = PackageFiles.partPath(path);
+    this.pinPart(part);
+    return this.downloader.download(meta, path, base)
+      .whenComplete((downloaded, throwable) -> {
+        if (base != null) {
+          this.release(base);
+        }
+        this.addPart(part);
+      })
+      .thenApplyAsync(downloaded -> {
+        try {
+          final var actual = AuthUtils.createPackageChecksum(downloaded.toString());
+          if (!actual.equals(checksum)) {
+            Files.deleteIfExists(downloaded);
+            throw new IOException(Languages.getLanguageValue("package-checksum-mismatch", meta.getId(),
+              meta.getVersion(), checksum, actual));
+          }
+          this.add(downloaded);
+        } catch (final IOException e) {
+          throw new CompletionException(e);
+        }
+        return downloaded;
+      }, this.executor);
+  }
+
+  /**
+   * loads the packages which are already in the cache, the oldest ones are evicted first.
+   */
+  private synchronized void load() {
+    if (!Files.isDirectory(this.root)) {
+      return;
+    }
+    try (final var stream = Files.walk(this.root, 2)) {
+      final var paths = stream
+        .filter(Files::isRegularFile)
+        .filter(path -> path.getFileName().toString().endsWith(".p3")
+          || path.getFileName().toString().endsWith(".p3.part"))
+        .sorted(Comparator.comparing(PackageCache::lastModified))
+        .collect(Collectors.toList());
+      for (final var path : paths) {
+        final var fileSize = Files.size(path);
+        this.entries.put(path.toAbsolutePath().normalize(), fileSize);
+        this.size += fileSize;
+      }
+    } catch (final IOException | UncheckedIOException e) {
+      PackageCache.log.error(Languages.getLanguageValue("unable-to-load-package-cache", this.root), e);
+    }
+  }
+
+  /**
+   * pins the given package if it's in the cache and marks it as recently used.
+   *
+   * @param path the path to pin.
+   *
+   * @return {@code true} if the package is in the cache.
+   */
+  private synchronized boolean pin(@NotNull final Path path) {
+    if (!this.touch(path)) {
+      return false;
+    }
+    this.pins.merge(path, 1, Integer::sum);
+    return true;
+  }
+
+  /**
+   * pins the given part file while a package is downloaded into it.
+   *
+   * @param part the part to pin.
+   */
+  private synchronized void pinPart(@NotNull final Path part) {
+    this.pins.merge(part, 1, Integer::sum);
+  }
+
+  /**
+   * marks the given package as recently used.
+   *
+   * @param path the path to mark.
+   *
+   * @return {@code true} if the package is in the cache.
+   */
+  private synchronized boolean touch(@NotNull final Path path) {
+    final var fileSize = this.entries.get(path);
+    if (fileSize == null) {
+      return false;
+    }
+    if (Files.isRegularFile(path)) {
+      return true;
+    }
+    this.entries.remove(path);
+    this.size -= fileSize;
+    return false;
+  }
+
+  /**
+   * an interface to determine downloaders which download packages from the network.
+   */
+  @FunctionalInterface
+  public interface Downloader {
+
+    /**
+     * downloads the given package to the given path.
+     *
+     * @param meta the meta to download.
+     * @param path the path to download.
+     * @param base the previous version of the package to download a delta against.
+     *
+     * @return the path of the package once it's downloaded.
+     */
+    @NotNull
+    CompletableFuture<Path> download(@NotNull P3.P3Meta meta, @NotNull Path path, @Nullable Path base);
+  }
+}
@@ -0,0 +1,392 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.coordinator;
+
+import io.github.portlek.synergy.api.Package;
+import io.github.portlek.synergy.api.PackageContext;
+import io.github.portlek.synergy.api.PackageStepConfig;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Delegate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents package resolvers which run the steps of a package and its dependencies in parallel.
+ * <p>
+ * the dependency tree is turned into a graph where the same package is a single node, the missing packages are
+ * fetched at once and the steps of a package start as soon as its dependencies are done, so the independent packages
+ * run side by side on the executor and the time follows the longest dependency path. the steps of a package run in
+ * order, and the steps which write into the same destination, or into one inside the other, never run at the same
+ * time. a step's destination is the {@code destination} of its config under the context's destination, the steps
+ * which don't have one only run in the order of their package.
+ * <p>
+ * the steps of a fetched package see it as resolved, with the fetched file as its local path, and the file is
+ * released once the steps of the package are done.
+ */
+@RequiredArgsConstructor
+public final class PackageResolver {
+
+  /**
+   * the last steps by destination.
+   */
+  private final Map<Path, CompletableFuture<Boolean>> destinations = new HashMap<>();
+
+  /**
+   * the executor, runs the steps.
+   */
+  @NotNull
+  private final Executor executor;
+
+  /**
+   * the fetcher, fetches a package which is not resolved yet.
+   */
+  @NotNull
+  private final Function<Package, CompletableFuture<Path>> fetcher;
+
+  /**
+   * the releaser, releases a fetched package once its steps are done.
+   */
+  @NotNull
+  private final Consumer<Path> releaser;
+
+  /**
+   * obtains the destination of the given step.
+   *
+   * @param context the context to obtain.
+   * @param config the config to obtain.
+   *
+   * @return destination, or {@code null} if the step doesn't have one.
+   */
+  @Nullable
+  private static Path destination(@NotNull final PackageContext context, @NotNull final PackageStepConfig config) {
+    final var destination = config.getConfig().path("destination");
+    if (!destination.isTextual()) {
+      return null;
+    }
+    return context.getDestination().toPath().toAbsolutePath().normalize().resolve(destination.asText()).normalize();
+  }
+
+  /**
+   * creates the graph of the given package.
+   *
+   * @param pack the pack to create.
+   *
+   * @return the nodes, a package comes after its dependencies.
+   *
+   * @throws IllegalArgumentException if the dependencies have a cycle.
+   */
+  @NotNull
+  private static List<Node> graph(@NotNull final Package pack) {
+    final var nodes = new LinkedHashMap<String, Node>();
+    PackageResolver.visit(pack, nodes, new HashSet<>());
+    return new ArrayList<>(nodes.values());
+  }
+
+  /**
+   * obtains the key of the given package.
+   *
+   * @param pack the pack to obtain.
+   *
+   * @return package key.
+   */
+  @NotNull
+  private static String key(@NotNull final Package pack) {
+    return pack.getId() + ':' + pack.getVersion();
+  }
+
+  /**
+   * visits the given package after its dependencies.
+   *
+   * @param pack the pack to visit.
+   * @param nodes the nodes which are visited.
+   * @param path the packages which are being visited.
+   *
+   * @return the node of the package.
+   *
+   * @throws IllegalArgumentException if the dependencies have a cycle.
+   */
+  @NotNull
+  private static Node visit(@NotNull final Package pack, @NotNull final Map<String, Node> nodes,
+                            @NotNull final Set<String> path) {
+    final var key = PackageResolver.key(pack);
+    final var visited = nodes.get(key);
+    if (visited != null) {
+      return visited;
+    }
+    if (!path.add(key)) {
+      throw new IllegalArgumentException("circular package dependency " + key);
+    }
+    final var node = new Node(pack);
+    for (final var dependency : pack.getDependencies()) {
+      final var child = PackageResolver.visit(dependency, nodes, path);
+      node.dependencies.add(child);
+      child.dependents.add(node);
+    }
+    path.remove(key);
+    nodes.put(key, node);
+    return node;
+  }
+
+  /**
+   * runs the execution steps of the given package and its dependencies, a package after its dependencies.
+   *
+   * @param pack the pack to execute.
+   * @param context the context to execute.
+   *
+   * @return {@code true} if all the steps successfully ran.
+   */
+  @NotNull
+  public CompletableFuture<Boolean> execute(@NotNull final Package pack, @NotNull final PackageContext context) {
+    return this.run(pack, context, Package::getExecutionSteps, false, false);
+  }
+
+  /**
+   * fetches the missing packages and runs the provision steps of the given package and its dependencies, a package
+   * after its dependencies.
+   *
+   * @param pack the pack to provision.
+   * @param context the context to provision.
+   *
+   * @return {@code true} if all the steps successfully ran.
+   */
+  @NotNull
+  public CompletableFuture<Boolean> provision(@NotNull final Package pack, @NotNull final PackageContext context) {
+    return this.run(pack, context, Package::getProvisionSteps, false, true);
+  }
+
+  /**
+   * runs the shutdown steps of the given package and its dependencies, a package before its dependencies.
+   *
+   * @param pack the pack to shut down.
+   * @param context the context to shut down.
+   *
+   * @return {@code true} if all the steps successfully ran.
+   */
+  @NotNull
+  public CompletableFuture<Boolean> shutdown(@NotNull final Package pack, @NotNull final PackageContext context) {
+    return this.run(pack, context, Package::getShutdownSteps, true, false);
+  }
+
+  /**
+   * runs the given steps of the package graph.
+   *
+   * @param pack the pack to run.
+   * @param context the context to run.
+   * @param steps the steps to run.
+   * @param reverse the reverse, runs a package before its dependencies.
+   * @param fetch the fetch, fetches the packages which are not resolved.
+   *
+   * @return {@code true} if all the steps successfully ran.
+   */
+  @NotNull
+  private CompletableFuture<Boolean> run(@NotNull final Package pack, @NotNull final PackageContext context,
+                                         @NotNull final Function<Package, List<PackageStepConfig>> steps,
+                                         final boolean reverse, final boolean fetch) {
+    final List<Node> nodes;
+    try {
+      nodes = PackageResolver.graph(pack);
+    } catch (final IllegalArgumentException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    if (reverse) {
+      Collections.reverse(nodes);
+    }
+    final var futures = new HashMap<Node, CompletableFuture<Boolean>>();
+    for (final var node : nodes) {
+      final var waits = new ArrayList<CompletableFuture<Boolean>>();
+      (reverse ? node.dependents : node.dependencies).forEach(wait -> waits.add(futures.get(wait)));
+      final var ready = new ArrayList<CompletableFuture<?>>(waits);
+      final var fetched = fetch && !node.pack.isResolved()
+        ? this.fetcher.apply(node.pack)
+        : null;
+      if (fetched != null) {
+        ready.add(fetched);
+      }
+      final var future = CompletableFuture.allOf(ready.toArray(CompletableFuture[]::new))
+        .thenCompose(ignored -> {
+          if (!waits.stream().allMatch(CompletableFuture::join)) {
+            return CompletableFuture.completedFuture(false);
+          }
+          final var resolved = fetched == null
+            ? node.pack
+            : new ResolvedPackage(node.pack, fetched.join());
+          return this.runSteps(resolved, context, steps.apply(node.pack), 0);
+        });
+      if (fetched != null) {
+        future.whenComplete((ran, throwable) -> fetched.thenAccept(this.releaser));
+      }
+      futures.put(node, future);
+    }
+    final var all = futures.values();
+    return CompletableFuture.allOf(all.toArray(CompletableFuture[]::new))
+      .thenApply(ignored -> all.stream().allMatch(CompletableFuture::join));
+  }
+
+  /**
+   * runs the given step once the steps which write into an overlapping destination are done.
+   *
+   * @param destination the destination to run, {@code null} to run it right away.
+   * @param step the step to run.
+   *
+   * @return {@code true} if the step successfully ran.
+   */
+  @NotNull
+  private CompletableFuture<Boolean> runStep(@Nullable final Path destination,
+                                             @NotNull final Supplier<Boolean> step) {
+    if (destination == null) {
+      return CompletableFuture.supplyAsync(step, this.executor);
+    }
+    synchronized (this.destinations) {
+      final var waits = this.destinations.entrySet().stream()
+        .filter(entry -> entry.getKey().startsWith(destination) || destination.startsWith(entry.getKey()))
+        .map(Map.Entry::getValue)
+        .toArray(CompletableFuture[]::new);
+      final var future = CompletableFuture.allOf(waits)
+        .handle((ignored, throwable) -> null)
+        .thenApplyAsync(ignored -> step.get(), this.executor);
+      this.destinations.put(destination, future);
+      future.whenComplete((ran, throwable) -> {
+        synchronized (this.destinations) {
+          this.destinations.remove(destination, future);
+        }
+      });
+      return future;
+    }
+  }
+
+  /**
+   * runs the given steps of the package in order, stops at the first step which fails.
+   *
+   * @param pack the pack to run.
+   * @param context the context to run.
+   * @param steps the steps to run.
+   * @param index the index of the step to run.
+   *
+   * @return {@code true} if all the steps successfully ran.
+   */
+  @NotNull
+  private CompletableFuture<Boolean> runSteps(@NotNull final Package pack, @NotNull final PackageContext context,
+                                              @NotNull final List<PackageStepConfig> steps, final int index) {
+    if (index >= steps.size()) {
+      return CompletableFuture.completedFuture(true);
+    }
+    final var config = steps.get(index);
+    return this.runStep(PackageResolver.destination(context, config),
+        () -> config.getStep().runStep(pack, context, config.getConfig()))
+      .thenCompose(ran -> ran
+        ? this.runSteps(pack, context, steps, index + 1)
+        : CompletableFuture.completedFuture(false));
+  }
+
+  /**
+   * an interface to determine the methods of a package which change once it's fetched.
+   */
+  private interface Local {
+
+    /**
+     * obtains the local path.
+     *
+     * @return local path.
+     */
+    @NotNull
+    String getLocalPath();
+
+    /**
+     * checks if the package is resolved.
+     *
+     * @return {@code true} if the package is resolved.
+     */
+    boolean isResolved();
+  }
+
+  /**
+   * a class that represents packages in the graph.
+   */
+  @RequiredArgsConstructor
+  private static final class Node {
+
+    /**
+     * the dependencies.
+     */
+    private final List<Node> dependencies = new ArrayList<>();
+
+    /**
+     * the dependents.
+     */
+    private final List<Node> dependents = new ArrayList<>();
+
+    /**
+     * the pack.
+     */
+    @NotNull
+    private final Package pack;
+  }
+
+  /**
+   * a class that represents fetched packages, which are resolved to the fetched file.
+   */
+  @RequiredArgsConstructor
+  private static final class ResolvedPackage implements Package, Local {
+
+    /**
+     * the pack.
+     */
+    @NotNull
+    @Delegate(types = Package.class, excludes = Local.class)
+    private final Package pack;
+
+    /**
+     * the path.
+     */
+    @NotNull
+    private final Path path;
+
+    @NotNull
+    @Override
+    public String getLocalPath() {
+      return this.path.toString();
+    }
+
+    @Override
+    public boolean isResolved() {
+      return true;
+    }
+  }
+}
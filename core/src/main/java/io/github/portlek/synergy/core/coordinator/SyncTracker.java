@@ -0,0 +1,321 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.coordinator;
+
+import io.github.portlek.synergy.api.Server;
+import io.github.portlek.synergy.core.config.SynergyConfig;
+import io.github.portlek.synergy.core.util.TrackedMap;
+import io.github.portlek.synergy.proto.Commands;
+import io.github.portlek.synergy.proto.Core;
+import io.github.portlek.synergy.proto.P3;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that builds versioned sync messages of a coordinator.
+ * <p>
+ * the first sync after {@link #requestFull()} is a full snapshot, the following ones only contain the keys drained
+ * from the tracked maps since the previous one and carry the next sequence number. the changes stay in the maps until
+ * the network acknowledges a sequence which contains them, if no ack arrives within a heartbeat interval all the
+ * unacknowledged changes are sent again under the next sequence. when nothing changed and everything is
+ * acknowledged, a heartbeat which repeats the current sequence number is built once per heartbeat interval.
+ */
+@RequiredArgsConstructor
+public final class SyncTracker {
+
+  /**
+   * the attributes.
+   */
+  @NotNull
+  private final List<String> attributes;
+
+  /**
+   * the provisioning servers.
+   */
+  @NotNull
+  private final TrackedMap<String, Core.Server> provisioningServers;
+
+  /**
+   * the resources.
+   */
+  @NotNull
+  private final TrackedMap<String, Integer> resources;
+
+  /**
+   * the servers.
+   */
+  @NotNull
+  private final TrackedMap<String, Server> servers;
+
+  /**
+   * the full requested.
+   */
+  private final AtomicBoolean fullRequested = new AtomicBoolean(true);
+
+  /**
+   * the sent syncs which are not acknowledged yet, in sequence order.
+   */
+  private final Deque<Pending> pending = new ArrayDeque<>();
+
+  /**
+   * the last sent attributes.
+   */
+  private final List<String> lastAttributes = new ObjectArrayList<>();
+
+  /**
+   * the last enabled.
+   */
+  private boolean lastEnabled;
+
+  /**
+   * the last sent time in nanoseconds.
+   */
+  private long lastSent;
+
+  /**
+   * the sequence.
+   */
+  private long sequence;
+
+  /**
+   * converts the given server into the sync representation.
+   *
+   * @param server the server to convert.
+   *
+   * @return converted server.
+   */
+  @NotNull
+  private static Core.Server toProto(@NotNull final Server server) {
+    final var meta = P3.P3Meta.newBuilder()
+      .setId(server.getPackage().getId())
+      .setVersion(server.getPackage().getVersion())
+      .build();
+    final var serverBuilder = Core.Server.newBuilder()
+      .setP3(meta)
+      .setUuid(server.getId())
+      .setName(server.getName());
+    server.getProperties().forEach((key, value) -> {
+      final var prop = Core.Property.newBuilder()
+        .setName(key)
+        .setValue(value)
+        .build();
+      serverBuilder.addProperties(prop);
+    });
+    return serverBuilder.build();
+  }
+
+  /**
+   * creates a resource.
+   *
+   * @param name the name to create.
+   * @param value the value to create.
+   *
+   * @return a newly created resource.
+   */
+  @NotNull
+  private static Core.Resource toProto(@NotNull final String name, final int value) {
+    return Core.Resource.newBuilder()
+      .setName(name)
+      .setValue(value)
+      .build();
+  }
+
+  /**
+   * acknowledges the syncs up to the given sequence, their changes are not sent again.
+   *
+   * @param sequence the sequence to acknowledge.
+   */
+  public synchronized void acknowledge(final long sequence) {
+    Pending acknowledged = null;
+    while (!this.pending.isEmpty() && this.pending.peekFirst().sequence <= sequence) {
+      acknowledged = this.pending.pollFirst();
+    }
+    if (acknowledged == null) {
+      return;
+    }
+    this.resources.acknowledge(acknowledged.resources);
+    this.provisioningServers.acknowledge(acknowledged.provisioningServers);
+    this.servers.acknowledge(acknowledged.servers);
+  }
+
+  /**
+   * builds the next sync message.
+   *
+   * @param coordinatorId the coordinator id to build.
+   * @param enabled the enabled to build.
+   *
+   * @return the next sync message, empty if nothing changed and the heartbeat is not due yet.
+   */
+  @NotNull
+  public synchronized Optional<Commands.Sync> next(@NotNull final String coordinatorId, final boolean enabled) {
+    final var now = System.nanoTime();
+    final var builder = Commands.Sync.newBuilder()
+      .setCoordinatorId(coordinatorId)
+      .setEnabled(enabled);
+    final var enabledChanged = enabled != this.lastEnabled;
+    this.lastEnabled = enabled;
+    final var heartbeatDue = now - this.lastSent >= TimeUnit.MILLISECONDS.toNanos(SynergyConfig.syncHeartbeatInterval);
+    if (this.fullRequested.getAndSet(false)) {
+      final var snapshot = new Pending(++this.sequence,
+        this.resources.drainAll((name, value) -> {
+        }, name -> {
+        }),
+        this.provisioningServers.drainAll((uuid, server) -> {
+        }, uuid -> {
+        }),
+        this.servers.drainAll((uuid, server) -> {
+        }, uuid -> {
+        }));
+      this.resources.forEach((name, value) -> builder.addResources(SyncTracker.toProto(name, value)));
+      this.provisioningServers.forEach((uuid, server) -> {
+        if (!this.servers.containsKey(uuid)) {
+          builder.addServers(server);
+        }
+      });
+      this.servers.values().forEach(server -> builder.addServers(SyncTracker.toProto(server)));
+      this.lastAttributes.clear();
+      this.lastAttributes.addAll(this.attributes);
+      this.pending.clear();
+      this.pending.addLast(snapshot);
+      this.lastSent = now;
+      return Optional.of(builder
+        .setFull(true)
+        .setSequence(snapshot.sequence)
+        .addAllAttributes(this.lastAttributes)
+        .setAttributesChanged(true)
+        .build());
+    }
+    final var retransmit = heartbeatDue && !this.pending.isEmpty();
+    final var resourcesEpoch = this.drain(this.resources, retransmit,
+      (name, value) -> builder.addResources(SyncTracker.toProto(name, value)), builder::addRemovedResources);
+    final var provisioningEpoch = this.drain(this.provisioningServers, retransmit, (uuid, server) -> {
+      if (!this.servers.containsKey(uuid)) {
+        builder.addServers(server);
+      }
+    }, uuid -> {
+      if (!this.servers.containsKey(uuid)) {
+        builder.addRemovedServers(uuid);
+      }
+    });
+    final var serversEpoch = this.drain(this.servers, retransmit,
+      (uuid, server) -> builder.addServers(SyncTracker.toProto(server)), uuid -> {
+        final var provisioning = this.provisioningServers.get(uuid);
+        if (provisioning == null) {
+          builder.addRemovedServers(uuid);
+        } else {
+          builder.addServers(provisioning);
+        }
+      });
+    if (retransmit || !this.lastAttributes.equals(this.attributes)) {
+      this.lastAttributes.clear();
+      this.lastAttributes.addAll(this.attributes);
+      builder.setAttributesChanged(true)
+        .addAllAttributes(this.lastAttributes);
+    }
+    final var changed = retransmit ||
+      enabledChanged ||
+      builder.getAttributesChanged() ||
+      builder.getResourcesCount() > 0 ||
+      builder.getRemovedResourcesCount() > 0 ||
+      builder.getServersCount() > 0 ||
+      builder.getRemovedServersCount() > 0;
+    if (changed) {
+      this.lastSent = now;
+      this.pending.addLast(new Pending(++this.sequence, resourcesEpoch, provisioningEpoch, serversEpoch));
+      return Optional.of(builder
+        .setSequence(this.sequence)
+        .build());
+    }
+    if (!heartbeatDue) {
+      return Optional.empty();
+    }
+    this.lastSent = now;
+    return Optional.of(builder
+      .setSequence(this.sequence)
+      .build());
+  }
+
+  /**
+   * requests a full snapshot on the next sync, used when connecting and when the network detects a gap.
+   */
+  public void requestFull() {
+    this.fullRequested.set(true);
+  }
+
+  /**
+   * drains the given map.
+   *
+   * @param map the map to drain.
+   * @param all the all, drains the unacknowledged changes too.
+   * @param changed the consumer of the keys which were added or updated.
+   * @param removed the consumer of the keys which were removed.
+   * @param <V> type of the values.
+   *
+   * @return the epoch of the drained changes.
+   */
+  private <V> long drain(@NotNull final TrackedMap<String, V> map, final boolean all,
+                         @NotNull final BiConsumer<String, V> changed, @NotNull final Consumer<String> removed) {
+    return all
+      ? map.drainAll(changed, removed)
+      : map.drain(changed, removed);
+  }
+
+  /**
+   * a class that represents sent syncs and the epochs of the changes they contain.
+   */
+  @RequiredArgsConstructor
+  private static final class Pending {
+
+    /**
+     * the sequence.
+     */
+    private final long sequence;
+
+    /**
+     * the resources epoch.
+     */
+    private final long resources;
+
+    /**
+     * the provisioning servers epoch.
+     */
+    private final long provisioningServers;
+
+    /**
+     * the servers epoch.
+     */
+    private final long servers;
+  }
+}
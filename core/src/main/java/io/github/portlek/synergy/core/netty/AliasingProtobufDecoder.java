@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.netty;
+
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import io.github.portlek.synergy.core.util.ProtobufUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageDecoder;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that decodes frames into protobuf messages with aliasing.
+ * <p>
+ * the frame is copied once into an array owned by the message, bytes fields such as payloads reference that array
+ * instead of being copied again.
+ *
+ * @param <T> type of the message.
+ */
+@ChannelHandler.Sharable
+@RequiredArgsConstructor
+public final class AliasingProtobufDecoder<T extends MessageLite> extends MessageToMessageDecoder<ByteBuf> {
+
+  /**
+   * the parser.
+   */
+  @NotNull
+  private final Parser<T> parser;
+
+  @Override
+  protected void decode(final ChannelHandlerContext ctx, final ByteBuf msg, final List<Object> out)
+    throws Exception {
+    out.add(ProtobufUtils.parseAliased(this.parser, ByteBufUtil.getBytes(msg)));
+  }
+}
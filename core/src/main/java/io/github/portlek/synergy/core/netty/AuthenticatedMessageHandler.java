@@ -55,9 +55,10 @@ public final class AuthenticatedMessageHandler extends SimpleChannelInboundHandl
 
   @Override
   protected void channelRead0(final ChannelHandlerContext ctx, final Protocol.AuthenticatedMessage msg) {
-    if (msg.getVersion() != Protocols.PROTOCOL_VERSION) {
+    final var version = msg.getVersion();
+    if (version != Protocols.PROTOCOL_VERSION && version != Protocols.LEGACY_PROTOCOL_VERSION) {
       AuthenticatedMessageHandler.log.error(Languages.getLanguageValue("protocol-version-mismatch",
-        Protocols.PROTOCOL_VERSION, msg.getVersion()));
+        Protocols.PROTOCOL_VERSION, version));
       AuthenticatedMessageHandler.log.error(Languages.getLanguageValue("disconnecting-version-mismatch"));
       ctx.channel().close();
       return;
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.netty;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that writes varint32 length prefixed frames without copying.
+ * <p>
+ * protobuf messages are serialized straight into a single direct buffer of the channel's allocator, already
+ * encoded frames such as {@link SessionCodec}'s get a small header buffer written in front of them.
+ */
+@ChannelHandler.Sharable
+public final class ProtobufFrameEncoder extends MessageToMessageEncoder<Object> {
+
+  /**
+   * the instance.
+   */
+  public static final ProtobufFrameEncoder INSTANCE = new ProtobufFrameEncoder();
+
+  /**
+   * the max header length of a varint32.
+   */
+  private static final int MAX_HEADER_LENGTH = 5;
+
+  /**
+   * ctor.
+   */
+  private ProtobufFrameEncoder() {
+  }
+
+  /**
+   * writes the given value as a varint32.
+   *
+   * @param buf the buf to write.
+   * @param value the value to write.
+   */
+  private static void writeVarint32(@NotNull final ByteBuf buf, final int value) {
+    var remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      buf.writeByte(remaining & 0x7F | 0x80);
+      remaining >>>= 7;
+    }
+    buf.writeByte(remaining);
+  }
+
+  @Override
+  public boolean acceptOutboundMessage(final Object msg) {
+    return msg instanceof MessageLite || msg instanceof ByteBuf;
+  }
+
+  @Override
+  protected void encode(final ChannelHandlerContext ctx, final Object msg, final List<Object> out)
+    throws Exception {
+    if (msg instanceof ByteBuf) {
+      final var body = (ByteBuf) msg;
+      final var header = ctx.alloc().directBuffer(ProtobufFrameEncoder.MAX_HEADER_LENGTH);
+      ProtobufFrameEncoder.writeVarint32(header, body.readableBytes());
+      out.add(header);
+      out.add(body.retain());
+      return;
+    }
+    final var message = (MessageLite) msg;
+    final var size = message.getSerializedSize();
+    final var length = CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    final var frame = ctx.alloc().directBuffer(length);
+    try {
+      final var output = CodedOutputStream.newInstance(frame.nioBuffer(0, length));
+      output.writeUInt32NoTag(size);
+      message.writeTo(output);
+      output.flush();
+      frame.writerIndex(length);
+      out.add(frame);
+    } catch (final Exception e) {
+      frame.release();
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.netty;
+
+import io.github.portlek.synergy.languages.Languages;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an enum class that contains results of sending a message to a channel.
+ */
+@Log4j2
+public enum SendResult {
+  /**
+   * the message was written and the channel can take more.
+   */
+  SENT,
+  /**
+   * the message was written but the channel's outbound buffer is above its high water mark, bulk senders should pause
+   * until the channel becomes writable again.
+   */
+  NOT_WRITABLE,
+  /**
+   * the message couldn't be written.
+   */
+  FAILED;
+
+  /**
+   * obtains the result of a message which was written to the given channel.
+   *
+   * @param channel the channel to obtain.
+   *
+   * @return send result.
+   */
+  @NotNull
+  public static SendResult of(@NotNull final Channel channel) {
+    return channel.isWritable()
+      ? SendResult.SENT
+      : SendResult.NOT_WRITABLE;
+  }
+
+  /**
+   * obtains the result of a message which was written to a channel.
+   * <p>
+   * the write completes later, so a failure is only logged once it happens. a failed write on an open channel closes
+   * it, so the senders which are parked on the channel run and clean up.
+   *
+   * @param future the write future to obtain.
+   *
+   * @return send result.
+   */
+  @NotNull
+  public static SendResult of(@NotNull final ChannelFuture future) {
+    if (future.isDone() && !future.isSuccess()) {
+      SendResult.onWritten(future);
+      return SendResult.FAILED;
+    }
+    future.addListener((ChannelFutureListener) SendResult::onWritten);
+    return SendResult.of(future.channel());
+  }
+
+  /**
+   * runs when the given write completes, logs the failure and closes the channel.
+   *
+   * @param future the future to run.
+   */
+  private static void onWritten(@NotNull final ChannelFuture future) {
+    if (future.isSuccess()) {
+      return;
+    }
+    SendResult.log.error(Languages.getLanguageValue("unable-to-write-message", future.channel()), future.cause());
+    if (future.channel().isOpen()) {
+      future.channel().close();
+    }
+  }
+
+  /**
+   * checks if the message was written to the channel.
+   *
+   * @return {@code true} if the message was written.
+   */
+  public boolean isWritten() {
+    return this != SendResult.FAILED;
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.netty;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import io.github.portlek.synergy.core.util.AuthUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.AttributeKey;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents authenticated sessions which are established by the handshake.
+ * sessions are used by the channel's event loop only.
+ */
+public final class Session {
+
+  /**
+   * the coordinator side.
+   */
+  public static final int COORDINATOR_SIDE = 0;
+
+  /**
+   * the channel attribute key of the session.
+   */
+  public static final AttributeKey<Session> KEY = AttributeKey.valueOf("synergy-session");
+
+  /**
+   * the network side.
+   */
+  public static final int NETWORK_SIDE = 1;
+
+  /**
+   * the initialization vector length.
+   */
+  private static final int IV_LENGTH = 12;
+
+  /**
+   * the authentication tag length in bytes.
+   */
+  private static final int TAG_LENGTH = 16;
+
+  /**
+   * the coordinator id.
+   */
+  @NotNull
+  @Getter
+  private final String coordinatorId;
+
+  /**
+   * the decrypt cipher.
+   */
+  private final Cipher decryptCipher = Session.newCipher();
+
+  /**
+   * the key of the messages which are sent by the peer.
+   */
+  @NotNull
+  private final SecretKey decryptKey;
+
+  /**
+   * the encrypt cipher.
+   */
+  private final Cipher encryptCipher = Session.newCipher();
+
+  /**
+   * the key of the messages which are sent by this side.
+   */
+  @NotNull
+  private final SecretKey encryptKey;
+
+  /**
+   * the initialization vector.
+   */
+  private final byte[] iv = new byte[Session.IV_LENGTH];
+
+  /**
+   * the peer side, frames which are not prefixed with it are reflected ones.
+   */
+  private final int peerSide;
+
+  /**
+   * the side, prefixes initialization vectors so both ends never use the same one.
+   */
+  private final int side;
+
+  /**
+   * the counter of the last accepted message, frames which do not exceed it are replayed or reordered ones.
+   */
+  private long received = -1L;
+
+  /**
+   * the sent message counter.
+   */
+  private long sent;
+
+  /**
+   * ctor.
+   *
+   * @param coordinatorId the coordinator id.
+   * @param key the session key.
+   * @param side the side.
+   */
+  private Session(@NotNull final String coordinatorId, @NotNull final SecretKey key, final int side) {
+    this.coordinatorId = coordinatorId;
+    this.side = side;
+    this.peerSide = side ^ 1;
+    this.encryptKey = AuthUtils.deriveDirectionKey(key, side);
+    this.decryptKey = AuthUtils.deriveDirectionKey(key, this.peerSide);
+  }
+
+  /**
+   * creates a coordinator side session.
+   *
+   * @param coordinatorId the coordinator id to create.
+   * @param key the key to create.
+   *
+   * @return a newly created session.
+   */
+  @NotNull
+  public static Session coordinator(@NotNull final String coordinatorId, @NotNull final SecretKey key) {
+    return new Session(coordinatorId, key, Session.COORDINATOR_SIDE);
+  }
+
+  /**
+   * creates a network side session.
+   *
+   * @param coordinatorId the coordinator id to create.
+   * @param key the key to create.
+   *
+   * @return a newly created session.
+   */
+  @NotNull
+  public static Session network(@NotNull final String coordinatorId, @NotNull final SecretKey key) {
+    return new Session(coordinatorId, key, Session.NETWORK_SIDE);
+  }
+
+  /**
+   * creates a new cipher.
+   *
+   * @return a newly created cipher.
+   */
+  @NotNull
+  private static Cipher newCipher() {
+    try {
+      return Cipher.getInstance("AES/GCM/NoPadding");
+    } catch (final GeneralSecurityException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  /**
+   * authenticates and decrypts the given frame into a new array, frames which are reflected, replayed or reordered
+   * are rejected.
+   * <p>
+   * the array is owned by the caller, so messages parsed from it with aliasing can outlive the pooled frame.
+   *
+   * @param frame the frame to decrypt.
+   *
+   * @return plain bytes of the frame.
+   *
+   * @throws GeneralSecurityException if the frame is not authentic or not the next one of the peer.
+   */
+  public byte @NotNull [] decrypt(@NotNull final ByteBuf frame) throws GeneralSecurityException {
+    final var length = frame.readableBytes() - Session.IV_LENGTH;
+    if (length < Session.TAG_LENGTH) {
+      throw new GeneralSecurityException("Frame is too short!");
+    }
+    frame.readBytes(this.iv);
+    final var header = ByteBuffer.wrap(this.iv);
+    if (header.getInt() != this.peerSide) {
+      throw new GeneralSecurityException("Frame is not sent by the peer!");
+    }
+    final var counter = header.getLong();
+    if (counter <= this.received) {
+      throw new GeneralSecurityException("Frame is replayed or reordered!");
+    }
+    this.decryptCipher.init(Cipher.DECRYPT_MODE, this.decryptKey, new GCMParameterSpec(Session.TAG_LENGTH * 8, this.iv));
+    final var plain = new byte[length - Session.TAG_LENGTH];
+    this.decryptCipher.doFinal(frame.nioBuffer(frame.readerIndex(), length), ByteBuffer.wrap(plain));
+    frame.skipBytes(length);
+    this.received = counter;
+    return plain;
+  }
+
+  /**
+   * serializes and encrypts the given message into a newly allocated frame, the frame starts with the
+   * initialization vector.
+   *
+   * @param allocator the allocator to encrypt.
+   * @param message the message to encrypt.
+   *
+   * @return encrypted frame.
+   *
+   * @throws IOException if the message could not be serialized.
+   */
+  @NotNull
+  public ByteBuf encrypt(@NotNull final ByteBufAllocator allocator, @NotNull final MessageLite message)
+    throws IOException {
+    final var size = message.getSerializedSize();
+    final var frame = allocator.directBuffer(Session.IV_LENGTH + size + Session.TAG_LENGTH);
+    try {
+      ByteBuffer.wrap(this.iv)
+        .putInt(this.side)
+        .putLong(this.sent++);
+      frame.writeBytes(this.iv);
+      final var output = CodedOutputStream.newInstance(frame.nioBuffer(Session.IV_LENGTH, size));
+      message.writeTo(output);
+      output.flush();
+      this.encryptCipher.init(Cipher.ENCRYPT_MODE, this.encryptKey, new GCMParameterSpec(Session.TAG_LENGTH * 8, this.iv));
+      final var written = this.encryptCipher.doFinal(
+        frame.nioBuffer(Session.IV_LENGTH, size),
+        frame.nioBuffer(Session.IV_LENGTH, size + Session.TAG_LENGTH));
+      frame.writerIndex(Session.IV_LENGTH + written);
+      return frame;
+    } catch (final GeneralSecurityException e) {
+      frame.release();
+      throw new AssertionError(e);
+    } catch (final IOException e) {
+      frame.release();
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.netty;
+
+import com.google.protobuf.MessageLite;
+import io.github.portlek.synergy.core.util.ProtobufUtils;
+import io.github.portlek.synergy.languages.Languages;
+import io.github.portlek.synergy.proto.Protocol;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.EncoderException;
+import io.netty.handler.codec.MessageToMessageCodec;
+import java.security.GeneralSecurityException;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * a class that encrypts, decrypts and authenticates the frames of an established {@link Session}.
+ * frames of channels without session are passed as they are to be decoded as authenticated messages.
+ * <p>
+ * received batches are decoded as {@link Protocol.TransactionHeaderBatch}es, so payloads stay opaque until the
+ * transaction is known to be handled by this side.
+ */
+@Log4j2
+public final class SessionCodec extends MessageToMessageCodec<ByteBuf, MessageLite> {
+
+  @Override
+  public boolean acceptOutboundMessage(final Object msg) {
+    return msg instanceof Protocol.TransactionBatch || msg instanceof Protocol.TransactionHeaderBatch;
+  }
+
+  @Override
+  protected void encode(final ChannelHandlerContext ctx, final MessageLite msg, final List<Object> out)
+    throws Exception {
+    final var session = ctx.channel().attr(Session.KEY).get();
+    if (session == null) {
+      final var number = msg instanceof Protocol.TransactionBatch
+        ? ((Protocol.TransactionBatch) msg).getTransactions(0).getNumber()
+        : ((Protocol.TransactionHeaderBatch) msg).getTransactions(0).getNumber();
+      throw new EncoderException(Languages.getLanguageValue("session-not-established",
+        Long.toUnsignedString(number)));
+    }
+    out.add(session.encrypt(ctx.alloc(), msg));
+  }
+
+  @Override
+  protected void decode(final ChannelHandlerContext ctx, final ByteBuf msg, final List<Object> out)
+    throws Exception {
+    final var session = ctx.channel().attr(Session.KEY).get();
+    if (session == null) {
+      out.add(msg.retain());
+      return;
+    }
+    try {
+      out.add(ProtobufUtils.parseAliased(Protocol.TransactionHeaderBatch.parser(), session.decrypt(msg)));
+    } catch (final GeneralSecurityException e) {
+      SessionCodec.log.error(Languages.getLanguageValue("unable-to-decrypt-message", ctx.channel()));
+      throw new DecoderException(e);
+    }
+  }
+}
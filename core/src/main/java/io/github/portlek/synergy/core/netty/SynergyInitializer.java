@@ -26,13 +26,13 @@
 package io.github.portlek.synergy.core.netty;
 
 import io.github.portlek.synergy.core.BaseSynergy;
+import io.github.portlek.synergy.core.config.SynergyConfig;
 import io.github.portlek.synergy.proto.Protocol;
 import io.netty.channel.ChannelInitializer;
-import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.protobuf.ProtobufDecoder;
-import io.netty.handler.codec.protobuf.ProtobufEncoder;
+import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
-import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 
@@ -40,7 +40,7 @@ import org.jetbrains.annotations.NotNull;
  * a class that represents a synergy's channel initializer.
  */
 @RequiredArgsConstructor
-public final class SynergyInitializer extends ChannelInitializer<NioSocketChannel> {
+public final class SynergyInitializer extends ChannelInitializer<SocketChannel> {
 
   /**
    * the synergy.
@@ -49,12 +49,18 @@ public final class SynergyInitializer extends ChannelInitializer<NioSocketChanne
   private final BaseSynergy synergy;
 
   @Override
-  protected void initChannel(final NioSocketChannel ch) {
+  protected void initChannel(final SocketChannel ch) {
     ch.pipeline()
+      .addLast("flushConsolidation", new FlushConsolidationHandler(
+        FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true))
       .addLast("lengthDecoder", new ProtobufVarint32FrameDecoder())
-      .addLast("protobufDecoder", new ProtobufDecoder(Protocol.AuthenticatedMessage.getDefaultInstance()))
-      .addLast("lengthPrepended", new ProtobufVarint32LengthFieldPrepender())
-      .addLast("protobufEncoder", new ProtobufEncoder())
+      .addLast("frameEncoder", ProtobufFrameEncoder.INSTANCE)
+      .addLast("sessionCodec", new SessionCodec())
+      .addLast("transactionBatcher", new TransactionBatcher(SynergyConfig.batchWindow, TimeUnit.MICROSECONDS,
+        SynergyConfig.batchMaxBytes))
+      .addLast("protobufDecoder", new AliasingProtobufDecoder<>(Protocol.AuthenticatedMessage.parser()))
+      .addLast("writabilityHandler", new WritabilityHandler())
+      .addLast("transactionHandler", new TransactionHandler(this.synergy))
       .addLast(new AuthenticatedMessageHandler(this.synergy));
     this.synergy.onInit(ch);
   }
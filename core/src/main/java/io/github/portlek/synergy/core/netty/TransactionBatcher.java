@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.netty;
+
+import com.google.protobuf.MessageLite;
+import io.github.portlek.synergy.proto.Protocol;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that coalesces the transactions written to a channel into {@link Protocol.TransactionBatch}es, so they
+ * share a single frame, encryption pass and flush.
+ * <p>
+ * a flush is delayed by the window unless the pending transactions reach the byte limit. other messages write the
+ * pending batch first to keep the order.
+ * <p>
+ * relayed {@link Protocol.TransactionHeader}s are coalesced into {@link Protocol.TransactionHeaderBatch}es, which
+ * have the same wire format.
+ */
+public final class TransactionBatcher extends ChannelOutboundHandlerAdapter {
+
+  /**
+   * the max bytes.
+   */
+  private final int maxBytes;
+
+  /**
+   * the pending promises.
+   */
+  private final List<ChannelPromise> promises = new ObjectArrayList<>();
+
+  /**
+   * the window in nanoseconds.
+   */
+  private final long window;
+
+  /**
+   * the pending batch.
+   */
+  @Nullable
+  private Protocol.TransactionBatch.Builder batch;
+
+  /**
+   * the pending header batch.
+   */
+  @Nullable
+  private Protocol.TransactionHeaderBatch.Builder headerBatch;
+
+  /**
+   * the pending bytes.
+   */
+  private int bytes;
+
+  /**
+   * the scheduled flush.
+   */
+  @Nullable
+  private ScheduledFuture<?> flushTask;
+
+  /**
+   * ctor.
+   *
+   * @param window the window.
+   * @param unit the unit of the window.
+   * @param maxBytes the max bytes.
+   */
+  public TransactionBatcher(final long window, @NotNull final TimeUnit unit, final int maxBytes) {
+    this.window = unit.toNanos(Math.max(0L, window));
+    this.maxBytes = maxBytes;
+  }
+
+  @Override
+  public void close(final ChannelHandlerContext ctx, final ChannelPromise promise) {
+    this.writeBatch(ctx);
+    ctx.flush();
+    ctx.close(promise);
+  }
+
+  @Override
+  public void flush(final ChannelHandlerContext ctx) {
+    if (this.batch == null && this.headerBatch == null) {
+      ctx.flush();
+      return;
+    }
+    if (this.window == 0L || this.bytes >= this.maxBytes) {
+      this.flushBatch(ctx);
+      return;
+    }
+    if (this.flushTask == null) {
+      this.flushTask = ctx.executor().schedule(() -> {
+        this.flushTask = null;
+        this.flushBatch(ctx);
+      }, this.window, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public void handlerRemoved(final ChannelHandlerContext ctx) {
+    this.writeBatch(ctx);
+    ctx.flush();
+  }
+
+  @Override
+  public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+    final int size;
+    if (msg instanceof Protocol.Transaction) {
+      if (this.headerBatch != null) {
+        this.writeBatch(ctx);
+      }
+      if (this.batch == null) {
+        this.batch = Protocol.TransactionBatch.newBuilder();
+      }
+      final var transaction = (Protocol.Transaction) msg;
+      this.batch.addTransactions(transaction);
+      size = transaction.getSerializedSize();
+    } else if (msg instanceof Protocol.TransactionHeader) {
+      if (this.batch != null) {
+        this.writeBatch(ctx);
+      }
+      if (this.headerBatch == null) {
+        this.headerBatch = Protocol.TransactionHeaderBatch.newBuilder();
+      }
+      final var header = (Protocol.TransactionHeader) msg;
+      this.headerBatch.addTransactions(header);
+      size = header.getSerializedSize();
+    } else {
+      this.writeBatch(ctx);
+      ctx.write(msg, promise);
+      return;
+    }
+    this.bytes += size;
+    if (!promise.isVoid()) {
+      this.promises.add(promise);
+    }
+    if (this.bytes >= this.maxBytes) {
+      this.flushBatch(ctx);
+    }
+  }
+
+  /**
+   * writes and flushes the pending batch.
+   *
+   * @param ctx the ctx to flush.
+   */
+  private void flushBatch(@NotNull final ChannelHandlerContext ctx) {
+    this.writeBatch(ctx);
+    ctx.flush();
+  }
+
+  /**
+   * writes the pending batch, if any.
+   *
+   * @param ctx the ctx to write.
+   */
+  private void writeBatch(@NotNull final ChannelHandlerContext ctx) {
+    if (this.flushTask != null) {
+      this.flushTask.cancel(false);
+      this.flushTask = null;
+    }
+    final MessageLite pending;
+    if (this.batch != null) {
+      pending = this.batch.build();
+      this.batch = null;
+    } else if (this.headerBatch != null) {
+      pending = this.headerBatch.build();
+      this.headerBatch = null;
+    } else {
+      return;
+    }
+    this.bytes = 0;
+    if (this.promises.isEmpty()) {
+      ctx.write(pending, ctx.voidPromise());
+      return;
+    }
+    final var waiting = this.promises.toArray(ChannelPromise[]::new);
+    this.promises.clear();
+    ctx.write(pending).addListener(future -> {
+      for (final var promise : waiting) {
+        if (future.isSuccess()) {
+          promise.trySuccess();
+        } else {
+          promise.tryFailure(future.cause());
+        }
+      }
+    });
+  }
+}
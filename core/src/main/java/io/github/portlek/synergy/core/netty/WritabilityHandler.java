@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.netty;
+
+import io.github.portlek.synergy.languages.Languages;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that runs the tasks which wait for a channel to become writable again.
+ * <p>
+ * senders which got {@link SendResult#NOT_WRITABLE} park their next step here instead of buffering more messages.
+ * when the channel becomes inactive the parked tasks still run once, their sends fail and they clean up.
+ */
+@Log4j2
+public final class WritabilityHandler extends ChannelInboundHandlerAdapter {
+
+  /**
+   * the pending tasks.
+   */
+  private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+  /**
+   * runs the given task once the given channel is writable.
+   *
+   * @param channel the channel to wait.
+   * @param task the task to run.
+   *
+   * @return {@code false} if the channel is not active or has no writability handler.
+   */
+  public static boolean whenWritable(@NotNull final Channel channel, @NotNull final Runnable task) {
+    final var handler = channel.pipeline().get(WritabilityHandler.class);
+    if (handler == null || !channel.isActive()) {
+      return false;
+    }
+    handler.tasks.add(task);
+    channel.eventLoop().execute(() -> handler.runTasks(channel));
+    return true;
+  }
+
+  @Override
+  public void channelInactive(final ChannelHandlerContext ctx) {
+    this.runTasks(ctx.channel());
+    ctx.fireChannelInactive();
+  }
+
+  @Override
+  public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+    final var channel = ctx.channel();
+    WritabilityHandler.log.debug(Languages.getLanguageValue("channel-writability-changed", channel,
+      channel.isWritable()));
+    this.runTasks(channel);
+    ctx.fireChannelWritabilityChanged();
+  }
+
+  /**
+   * runs the given task, so a failing task does not stop the other ones.
+   *
+   * @param channel the channel to run.
+   * @param task the task to run.
+   */
+  private void run(@NotNull final Channel channel, @NotNull final Runnable task) {
+    try {
+      task.run();
+    } catch (final RuntimeException e) {
+      WritabilityHandler.log.error(Languages.getLanguageValue("unable-to-run-writability-task", channel), e);
+    }
+  }
+
+  /**
+   * runs the pending tasks while the channel stays writable, or all of them once the channel is inactive so the
+   * tasks which are added while the channel closes are not parked forever.
+   *
+   * @param channel the channel to run.
+   */
+  private void runTasks(@NotNull final Channel channel) {
+    while (!channel.isActive() || channel.isWritable()) {
+      final var task = this.tasks.poll();
+      if (task == null) {
+        return;
+      }
+      this.run(channel, task);
+    }
+  }
+}
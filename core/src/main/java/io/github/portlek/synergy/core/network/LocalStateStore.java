@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.network;
+
+import io.github.portlek.synergy.api.StateStore;
+import io.github.portlek.synergy.proto.Core;
+import io.github.portlek.synergy.proto.Protocol;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents state stores which keep nothing, used when the network runs alone.
+ */
+public final class LocalStateStore implements StateStore {
+
+  /**
+   * the instance.
+   */
+  public static final LocalStateStore INSTANCE = new LocalStateStore();
+
+  /**
+   * ctor.
+   */
+  private LocalStateStore() {
+  }
+
+  @NotNull
+  @Override
+  public CompletableFuture<Optional<String>> claim(@NotNull final String coordinatorId, @NotNull final String owner,
+                                                  final long lease) {
+    return CompletableFuture.completedFuture(Optional.empty());
+  }
+
+  @Override
+  public void close() {
+  }
+
+  @Override
+  public void flush() {
+  }
+
+  @NotNull
+  @Override
+  public CompletableFuture<Optional<String>> getOwner(@NotNull final String coordinatorId) {
+    return CompletableFuture.completedFuture(Optional.empty());
+  }
+
+  @NotNull
+  @Override
+  public CompletableFuture<Map<String, Core.Server>> getServers(@NotNull final String coordinatorId) {
+    return CompletableFuture.completedFuture(Map.of());
+  }
+
+  @NotNull
+  @Override
+  public CompletableFuture<List<Protocol.Transaction>> getTransactions(@NotNull final String owner) {
+    return CompletableFuture.completedFuture(List.of());
+  }
+
+  @Override
+  public void publish(@NotNull final String owner, final byte @NotNull [] message) {
+  }
+
+  @Override
+  public void putServers(@NotNull final String coordinatorId, @NotNull final Collection<Core.Server> servers,
+                         @NotNull final Collection<String> removed, final boolean full) {
+  }
+
+  @Override
+  public void putTransaction(@NotNull final String owner, @NotNull final Protocol.Transaction transaction,
+                             final long ttl) {
+  }
+
+  @Override
+  public void release(@NotNull final String coordinatorId, @NotNull final String owner) {
+  }
+
+  @Override
+  public void removeTransaction(@NotNull final String owner, final long id) {
+  }
+
+  @Override
+  public void subscribe(@NotNull final String owner, @NotNull final Consumer<byte[]> listener) {
+  }
+}
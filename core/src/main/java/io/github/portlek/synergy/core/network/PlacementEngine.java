@@ -0,0 +1,470 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.network;
+
+import io.github.portlek.synergy.api.Package;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents placement engines which decide the coordinator of the servers to provision.
+ * <p>
+ * the coordinators are indexed by attribute, by free capacity per resource and by load, so a placement looks the
+ * first fitting candidate up in logarithmic time and only walks the candidates which already have enough of the most
+ * needed resource. the coordinators advertise their total capacity and the servers don't report their usage, so the
+ * reservations are taken off the capacity until the coordinator stops reporting their server.
+ */
+public final class PlacementEngine {
+
+  /**
+   * the load order.
+   */
+  private static final Comparator<Node> LOAD_ORDER = Comparator.comparingInt(Node::getLoad)
+    .thenComparing(Node::getId);
+
+  /**
+   * the coordinator ids by attribute.
+   */
+  private final Map<String, Set<String>> attributes = new HashMap<>();
+
+  /**
+   * the coordinators by free capacity per resource.
+   */
+  private final Map<String, NavigableSet<Node>> free = new HashMap<>();
+
+  /**
+   * the coordinators by load.
+   */
+  private final NavigableSet<Node> loads = new TreeSet<>(PlacementEngine.LOAD_ORDER);
+
+  /**
+   * the coordinators by id.
+   */
+  private final Map<String, Node> nodes = new HashMap<>();
+
+  /**
+   * the reservations by key.
+   */
+  private final Map<String, Reservation> reservations = new HashMap<>();
+
+  /**
+   * creates a free capacity order of the given resource.
+   *
+   * @param resource the resource to create.
+   *
+   * @return free capacity order.
+   */
+  @NotNull
+  private static Comparator<Node> freeOrder(@NotNull final String resource) {
+    return Comparator.<Node>comparingInt(node -> node.getFree(resource))
+      .thenComparing(Node::getId);
+  }
+
+  /**
+   * obtains the coordinators which have at least the given amount of the resource free.
+   * <p>
+   * the iterator is backed by the index, so it must be consumed while holding the lock of the engine, as the
+   * placements do.
+   *
+   * @param resource the resource to obtain.
+   * @param amount the amount to obtain.
+   * @param ascending {@code true} to start from the coordinator which has the least free capacity.
+   *
+   * @return coordinators.
+   */
+  @NotNull
+  synchronized Iterator<Node> byFree(@NotNull final String resource, final int amount, final boolean ascending) {
+    final var set = this.free.get(resource);
+    if (set == null) {
+      return Collections.emptyIterator();
+    }
+    final var tail = set.tailSet(Node.probe(resource, amount), true);
+    return ascending
+      ? tail.iterator()
+      : tail.descendingIterator();
+  }
+
+  /**
+   * obtains all the coordinators by load.
+   * <p>
+   * the iterator is backed by the index, so it must be consumed while holding the lock of the engine, as the
+   * placements do.
+   *
+   * @param ascending {@code true} to start from the coordinator which has the least servers.
+   *
+   * @return coordinators.
+   */
+  @NotNull
+  synchronized Iterator<Node> byLoad(final boolean ascending) {
+    return ascending
+      ? this.loads.iterator()
+      : this.loads.descendingIterator();
+  }
+
+  /**
+   * places a server of the given package and reserves its resources.
+   *
+   * @param key the key of the reservation, such as the server name.
+   * @param pkg the package to place.
+   * @param strategy the strategy to place.
+   *
+   * @return the coordinator id which the server is placed.
+   */
+  @NotNull
+  public Optional<String> place(@NotNull final String key, @NotNull final Package pkg,
+                                @NotNull final PlacementStrategy strategy) {
+    return this.place(key, pkg.getResources(), pkg.getAttributes(), strategy);
+  }
+
+  /**
+   * places a server which needs the given resources and attributes, and reserves its resources.
+   *
+   * @param key the key of the reservation, such as the server name.
+   * @param resources the resources to place.
+   * @param attributes the attributes to place.
+   * @param strategy the strategy to place.
+   *
+   * @return the coordinator id which the server is placed.
+   */
+  @NotNull
+  public synchronized Optional<String> place(@NotNull final String key, @NotNull final Map<String, Integer> resources,
+                                             @NotNull final Collection<String> attributes,
+                                             @NotNull final PlacementStrategy strategy) {
+    for (final var attribute : attributes) {
+      if (!this.attributes.containsKey(attribute)) {
+        return Optional.empty();
+      }
+    }
+    String resource = null;
+    var amount = 0;
+    for (final var entry : resources.entrySet()) {
+      if (entry.getValue() > amount) {
+        resource = entry.getKey();
+        amount = entry.getValue();
+      }
+    }
+    final var candidates = strategy.candidates(this, resource, amount);
+    Node found = null;
+    while (candidates.hasNext()) {
+      final var candidate = candidates.next();
+      if (candidate.fits(resources) && candidate.attributes.containsAll(attributes)) {
+        found = candidate;
+        break;
+      }
+    }
+    if (found == null) {
+      return Optional.empty();
+    }
+    this.release(key);
+    this.unindex(found);
+    final var reservation = new Reservation(found.getId(), key, Map.copyOf(resources));
+    found.reserve(reservation);
+    this.index(found);
+    this.reservations.put(key, reservation);
+    return Optional.of(found.getId());
+  }
+
+  /**
+   * releases the given reservation, such as when provisioning its server fails.
+   *
+   * @param key the key to release.
+   */
+  public synchronized void release(@NotNull final String key) {
+    final var reservation = this.reservations.remove(key);
+    if (reservation == null) {
+      return;
+    }
+    final var node = this.nodes.get(reservation.coordinatorId);
+    if (node == null) {
+      return;
+    }
+    this.unindex(node);
+    node.release(reservation);
+    this.index(node);
+  }
+
+  /**
+   * removes the given coordinator from the placements, its reservations are kept until they are released.
+   *
+   * @param coordinatorId the coordinator id to remove.
+   */
+  public synchronized void remove(@NotNull final String coordinatorId) {
+    final var node = this.nodes.get(coordinatorId);
+    if (node != null) {
+      this.unindex(node);
+    }
+  }
+
+  /**
+   * updates the advertised state of the given coordinator.
+   * <p>
+   * the reservations of the reported servers are kept until the coordinator stops reporting them, since their usage
+   * is not a part of the advertised capacity.
+   *
+   * @param coordinatorId the coordinator id to update.
+   * @param resources the total resources of the coordinator.
+   * @param attributes the attributes of the coordinator.
+   * @param servers the server names of the coordinator.
+   */
+  public synchronized void update(@NotNull final String coordinatorId, @NotNull final Map<String, Integer> resources,
+                                  @NotNull final Collection<String> attributes,
+                                  @NotNull final Collection<String> servers) {
+    final var node = this.nodes.get(coordinatorId);
+    final Node updated;
+    if (node == null) {
+      updated = new Node(coordinatorId);
+      this.reservations.values().stream()
+        .filter(reservation -> reservation.coordinatorId.equals(coordinatorId))
+        .forEach(updated::reserve);
+    } else {
+      this.unindex(node);
+      updated = node;
+    }
+    final var iterator = this.reservations.values().iterator();
+    while (iterator.hasNext()) {
+      final var reservation = iterator.next();
+      if (!reservation.coordinatorId.equals(coordinatorId)) {
+        continue;
+      }
+      if (servers.contains(reservation.key)) {
+        updated.report(reservation);
+      } else if (reservation.reported) {
+        iterator.remove();
+        updated.release(reservation);
+      }
+    }
+    updated.capacity.clear();
+    updated.capacity.putAll(resources);
+    updated.attributes.clear();
+    updated.attributes.addAll(attributes);
+    updated.servers = servers.size();
+    this.index(updated);
+  }
+
+  /**
+   * adds the given coordinator to the indexes.
+   *
+   * @param node the node to add.
+   */
+  private void index(@NotNull final Node node) {
+    this.nodes.put(node.getId(), node);
+    node.attributes.forEach(attribute -> this.attributes.computeIfAbsent(attribute, key -> new HashSet<>())
+      .add(node.getId()));
+    node.capacity.keySet().forEach(resource -> this.free.computeIfAbsent(resource,
+      key -> new TreeSet<>(PlacementEngine.freeOrder(key))).add(node));
+    this.loads.add(node);
+  }
+
+  /**
+   * removes the given coordinator from the indexes, must be called before changing anything which they order by.
+   *
+   * @param node the node to remove.
+   */
+  private void unindex(@NotNull final Node node) {
+    this.nodes.remove(node.getId());
+    node.attributes.forEach(attribute -> {
+      final var ids = this.attributes.get(attribute);
+      if (ids != null && ids.remove(node.getId()) && ids.isEmpty()) {
+        this.attributes.remove(attribute);
+      }
+    });
+    node.capacity.keySet().forEach(resource -> {
+      final var set = this.free.get(resource);
+      if (set != null && set.remove(node) && set.isEmpty()) {
+        this.free.remove(resource);
+      }
+    });
+    this.loads.remove(node);
+  }
+
+  /**
+   * a class that represents indexed coordinators.
+   */
+  @RequiredArgsConstructor
+  public static final class Node {
+
+    /**
+     * the attributes.
+     */
+    private final Set<String> attributes = new HashSet<>();
+
+    /**
+     * the advertised capacity.
+     */
+    private final Map<String, Integer> capacity = new HashMap<>();
+
+    /**
+     * the id.
+     */
+    @NotNull
+    @Getter
+    private final String id;
+
+    /**
+     * the reserved capacity.
+     */
+    private final Map<String, Integer> reserved = new HashMap<>();
+
+    /**
+     * the count of the reservations whose server is not reported yet.
+     */
+    private int reservations;
+
+    /**
+     * the reported server count.
+     */
+    private int servers;
+
+    /**
+     * creates a node to look the given free capacity up.
+     *
+     * @param resource the resource to create.
+     * @param amount the amount to create.
+     *
+     * @return a node which comes before the other nodes with the same free capacity.
+     */
+    @NotNull
+    private static Node probe(@NotNull final String resource, final int amount) {
+      final var node = new Node("");
+      node.capacity.put(resource, amount);
+      return node;
+    }
+
+    /**
+     * obtains the free capacity of the given resource.
+     *
+     * @param resource the resource to obtain.
+     *
+     * @return free capacity.
+     */
+    public int getFree(@NotNull final String resource) {
+      return this.capacity.getOrDefault(resource, 0) - this.reserved.getOrDefault(resource, 0);
+    }
+
+    /**
+     * obtains the load, the reported servers and the reservations whose server is not reported yet.
+     *
+     * @return load.
+     */
+    public int getLoad() {
+      return this.servers + this.reservations;
+    }
+
+    /**
+     * checks if the given resources fit in the free capacity.
+     *
+     * @param resources the resources to check.
+     *
+     * @return {@code true} if the resources fit.
+     */
+    private boolean fits(@NotNull final Map<String, Integer> resources) {
+      for (final var entry : resources.entrySet()) {
+        if (this.getFree(entry.getKey()) < entry.getValue()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * marks the given reservation as reported, so its server is counted in the load only once.
+     *
+     * @param reservation the reservation to report.
+     */
+    private void report(@NotNull final Reservation reservation) {
+      if (!reservation.reported) {
+        reservation.reported = true;
+        this.reservations--;
+      }
+    }
+
+    /**
+     * removes the given reservation.
+     *
+     * @param reservation the reservation to release.
+     */
+    private void release(@NotNull final Reservation reservation) {
+      reservation.resources.forEach((resource, amount) -> this.reserved.merge(resource, -amount, Integer::sum));
+      if (!reservation.reported) {
+        this.reservations--;
+      }
+    }
+
+    /**
+     * adds the given reservation.
+     *
+     * @param reservation the reservation to reserve.
+     */
+    private void reserve(@NotNull final Reservation reservation) {
+      reservation.resources.forEach((resource, amount) -> this.reserved.merge(resource, amount, Integer::sum));
+      if (!reservation.reported) {
+        this.reservations++;
+      }
+    }
+  }
+
+  /**
+   * a class that represents reservations of the servers which are being provisioned.
+   */
+  @RequiredArgsConstructor
+  private static final class Reservation {
+
+    /**
+     * the coordinator id.
+     */
+    @NotNull
+    private final String coordinatorId;
+
+    /**
+     * the key.
+     */
+    @NotNull
+    private final String key;
+
+    /**
+     * the resources.
+     */
+    @NotNull
+    private final Map<String, Integer> resources;
+
+    /**
+     * the reported.
+     */
+    private boolean reported;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.network;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * an interface to determine placement strategies which order the candidate coordinators of a package.
+ * <p>
+ * the engine takes the first candidate which fits the package, so the strategies only decide the order.
+ */
+@FunctionalInterface
+public interface PlacementStrategy {
+
+  /**
+   * fills the coordinators which have the least capacity left first, keeps the others empty for bigger packages.
+   */
+  PlacementStrategy BIN_PACKING = (engine, resource, amount) -> resource == null
+    ? engine.byLoad(false)
+    : engine.byFree(resource, amount, true);
+
+  /**
+   * places the packages on the coordinators which have the least servers first.
+   */
+  PlacementStrategy LEAST_LOADED = (engine, resource, amount) -> engine.byLoad(true);
+
+  /**
+   * places the packages on the coordinators which have the most capacity left first.
+   */
+  PlacementStrategy SPREAD = (engine, resource, amount) -> resource == null
+    ? engine.byLoad(true)
+    : engine.byFree(resource, amount, false);
+
+  /**
+   * obtains the strategy by its name.
+   *
+   * @param name the name to obtain, one of {@code bin-packing}, {@code least-loaded} or {@code spread}.
+   *
+   * @return strategy.
+   */
+  @NotNull
+  static Optional<PlacementStrategy> of(@NotNull final String name) {
+    return switch (name.toLowerCase(Locale.ROOT)) {
+      case "bin-packing" -> Optional.of(PlacementStrategy.BIN_PACKING);
+      case "least-loaded" -> Optional.of(PlacementStrategy.LEAST_LOADED);
+      case "spread" -> Optional.of(PlacementStrategy.SPREAD);
+      default -> Optional.empty();
+    };
+  }
+
+  /**
+   * obtains the candidates in the order which they should be tried.
+   *
+   * @param engine the engine to obtain.
+   * @param resource the resource which the package needs the most, {@code null} if it needs nothing.
+   * @param amount the amount of the resource.
+   *
+   * @return candidates.
+   */
+  @NotNull
+  Iterator<PlacementEngine.Node> candidates(@NotNull PlacementEngine engine, @Nullable String resource, int amount);
+}
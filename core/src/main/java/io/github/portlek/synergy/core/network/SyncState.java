@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.network;
+
+import io.github.portlek.synergy.api.Coordinator;
+import io.github.portlek.synergy.core.config.SynergyConfig;
+import io.github.portlek.synergy.proto.Commands;
+import io.github.portlek.synergy.proto.Core;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents the synced state of a coordinator on the network.
+ * <p>
+ * a gap in the sequence requests a full snapshot once, the deltas are ignored until it arrives. the request is sent
+ * again if the snapshot doesn't arrive within two heartbeat intervals, so a lost request doesn't stall the syncs.
+ */
+public final class SyncState {
+
+  /**
+   * the servers.
+   */
+  @Getter
+  private final Map<String, Core.Server> servers = new ConcurrentHashMap<>();
+
+  /**
+   * the enabled.
+   */
+  @Getter
+  private volatile boolean enabled;
+
+  /**
+   * the last seen time in nanoseconds.
+   */
+  @Getter
+  private volatile long lastSeen;
+
+  /**
+   * the resync requested.
+   */
+  private boolean resyncRequested;
+
+  /**
+   * the time of the last resync request in nanoseconds.
+   */
+  private long resyncRequestedAt;
+
+  /**
+   * the last applied sequence, {@code -1} until the first full snapshot arrives.
+   */
+  @Getter
+  private long sequence = -1L;
+
+  /**
+   * applies the given sync to the coordinator.
+   *
+   * @param sync the sync to apply.
+   * @param coordinator the coordinator to apply.
+   *
+   * @return apply result.
+   */
+  @NotNull
+  public synchronized Result apply(@NotNull final Commands.Sync sync, @NotNull final Coordinator coordinator) {
+    final var next = sync.getSequence();
+    this.lastSeen = System.nanoTime();
+    if (sync.getFull()) {
+      coordinator.getResources().clear();
+      this.servers.clear();
+      this.resyncRequested = false;
+    } else if (this.sequence < 0L || next > this.sequence + 1L) {
+      final var timeout = TimeUnit.MILLISECONDS.toNanos(SynergyConfig.syncHeartbeatInterval * 2L);
+      if (this.resyncRequested && this.lastSeen - this.resyncRequestedAt < timeout) {
+        return Result.IGNORED;
+      }
+      this.resyncRequested = true;
+      this.resyncRequestedAt = this.lastSeen;
+      return Result.RESYNC;
+    } else if (next <= this.sequence) {
+      return next == this.sequence
+        ? Result.HEARTBEAT
+        : Result.IGNORED;
+    }
+    final var resources = coordinator.getResources();
+    sync.getRemovedResourcesList().forEach(resources::remove);
+    sync.getResourcesList().forEach(resource -> resources.put(resource.getName(), resource.getValue()));
+    if (sync.getAttributesChanged()) {
+      final var attributes = coordinator.getAttributes();
+      attributes.clear();
+      attributes.addAll(sync.getAttributesList());
+    }
+    sync.getRemovedServersList().forEach(this.servers::remove);
+    sync.getServersList().forEach(server -> this.servers.put(server.getUuid(), server));
+    this.enabled = sync.getEnabled();
+    this.sequence = next;
+    return Result.APPLIED;
+  }
+
+  /**
+   * runs when the resync request couldn't be sent, so the next gap requests it again.
+   */
+  public synchronized void onResyncFailed() {
+    this.resyncRequested = false;
+  }
+
+  /**
+   * an enum class that contains results of applying a sync.
+   */
+  public enum Result {
+    /**
+     * the sync was applied.
+     */
+    APPLIED,
+    /**
+     * the sync was a heartbeat.
+     */
+    HEARTBEAT,
+    /**
+     * the sync was out of order and was dropped.
+     */
+    IGNORED,
+    /**
+     * the sync skipped a sequence, a full snapshot should be requested.
+     */
+    RESYNC
+  }
+}
@@ -0,0 +1,397 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.network;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.github.portlek.synergy.core.netty.Session;
+import io.github.portlek.synergy.core.util.ProtobufUtils;
+import io.github.portlek.synergy.core.util.StripedLong2ObjectMap;
+import io.github.portlek.synergy.proto.Commands;
+import io.github.portlek.synergy.proto.Protocol;
+import io.github.portlek.synergy.proto.Protocols;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that relays transactions between coordinators by their headers, payloads are never parsed.
+ * <p>
+ * a relayed transaction gets a network side id with the relay bit, so it can't clash with the ids of the target
+ * coordinator or the network's own transactions. replies to that id are mapped back to the origin's id.
+ * <p>
+ * coordinators can only send the client commands to each other, networks can forward any command. replies are the
+ * only headers whose payload is parsed, to check that the command matches the type the header claims.
+ */
+@RequiredArgsConstructor
+public final class TransactionRelay {
+
+  /**
+   * the relay bit.
+   */
+  private static final long RELAY_BIT = 1L << 63;
+
+  /**
+   * the command types which coordinators can send to each other.
+   */
+  private static final Set<Commands.BaseCommand.CommandType> CLIENT_TYPES =
+    Arrays.stream(Commands.BaseCommand.CommandType.values())
+      .filter(type -> type.name().startsWith("C_"))
+      .collect(Collectors.toCollection(() -> EnumSet.noneOf(Commands.BaseCommand.CommandType.class)));
+
+  /**
+   * the result of the failures which are sent back to the origin.
+   */
+  private static final String UNREACHABLE = "unreachable";
+
+  /**
+   * the counter.
+   */
+  private final AtomicLong counter = new AtomicLong();
+
+  /**
+   * the routes by their origins and origin ids.
+   */
+  private final Map<String, StripedLong2ObjectMap<Route>> origins = new ConcurrentHashMap<>();
+
+  /**
+   * the routes by their relay ids.
+   */
+  private final StripedLong2ObjectMap<Route> routes = new StripedLong2ObjectMap<>();
+
+  /**
+   * the timer.
+   */
+  @NotNull
+  private final Timer timer;
+
+  /**
+   * the timeout in seconds.
+   */
+  private final long timeout;
+
+  /**
+   * checks if the given number is a relay id.
+   *
+   * @param number the number to check.
+   *
+   * @return {@code true} if the number is assigned by a relay.
+   */
+  public static boolean isRelayId(final long number) {
+    return (number & TransactionRelay.RELAY_BIT) != 0L;
+  }
+
+  /**
+   * checks if the given header is addressed to another peer, so it's either relayed or dropped.
+   *
+   * @param header the header to check.
+   * @param from the from to check.
+   *
+   * @return {@code true} if the header is not addressed to the network.
+   */
+  public static boolean isAddressed(@NotNull final Protocol.TransactionHeader header, @NotNull final String from) {
+    final var number = header.getNumber();
+    if (number == 0L) {
+      return false;
+    }
+    if (TransactionRelay.isRelayId(number)) {
+      return true;
+    }
+    final var target = header.getTarget();
+    return !target.isEmpty() && !target.equals(from);
+  }
+
+  /**
+   * checks if the payload of the given header has the type which the header claims.
+   *
+   * @param header the header to check.
+   *
+   * @return {@code true} if the payload matches the header.
+   */
+  private static boolean matchesPayload(@NotNull final Protocol.TransactionHeader header) {
+    try {
+      final var command = ProtobufUtils.parseAliased(Commands.BaseCommand.parser(), header.getPayload());
+      return Protocols.typeOf(command) == header.getType();
+    } catch (final InvalidProtocolBufferException e) {
+      return false;
+    }
+  }
+
+  /**
+   * rewrites the id of the given header and sets its target to the sender, so the receiver knows who to reply.
+   *
+   * @param header the header to rewrite.
+   * @param number the number to rewrite.
+   * @param from the from to rewrite.
+   *
+   * @return rewritten header.
+   */
+  @NotNull
+  private static Protocol.TransactionHeader rewrite(@NotNull final Protocol.TransactionHeader header,
+                                                    final long number, @NotNull final String from) {
+    final var builder = header.toBuilder()
+      .setNumber(number)
+      .setTarget(from);
+    if (!header.getId().isEmpty()) {
+      builder.setId(Long.toUnsignedString(number));
+    }
+    return builder.build();
+  }
+
+  /**
+   * removes the route of the given forward which couldn't be delivered.
+   *
+   * @param relayed the relayed which couldn't be delivered.
+   *
+   * @return the failure to send back to the origin, empty if the origin doesn't wait for a reply.
+   */
+  @NotNull
+  public Optional<Relayed> fail(@NotNull final Relayed relayed) {
+    final var header = relayed.getHeader();
+    final var route = this.routes.get(header.getNumber());
+    if (route == null || !route.target.equals(relayed.getTarget())) {
+      return Optional.empty();
+    }
+    this.remove(route);
+    final var command = Commands.BaseCommand.newBuilder()
+      .setType(Commands.BaseCommand.CommandType.C_ACK)
+      .setCAck(Commands.C_Ack.newBuilder()
+        .setResult(TransactionRelay.UNREACHABLE)
+        .build())
+      .build();
+    final var failure = Protocol.TransactionHeader.newBuilder()
+      .setMode(Protocol.Transaction.Mode.COMPLETE)
+      .setType(command.getType())
+      .setPayload(command.toByteString())
+      .build();
+    return Optional.of(new Relayed(route.origin, TransactionRelay.rewrite(failure, route.originId, route.target)));
+  }
+
+  /**
+   * relays the given header which is received from the given peer.
+   *
+   * @param header the header to relay.
+   * @param from the from to relay.
+   * @param trusted {@code true} if the sender is a network, which can forward any command type.
+   *
+   * @return relayed header and its target, empty if the header is not relayed.
+   */
+  @NotNull
+  public Optional<Relayed> relay(@NotNull final Protocol.TransactionHeader header, @NotNull final String from,
+                                 final boolean trusted) {
+    if (!TransactionRelay.isAddressed(header, from)) {
+      return Optional.empty();
+    }
+    if (TransactionRelay.isRelayId(header.getNumber())) {
+      return this.reply(header, from);
+    }
+    if (!trusted && !TransactionRelay.CLIENT_TYPES.contains(header.getType())) {
+      return Optional.empty();
+    }
+    return this.forward(header, from, header.getTarget());
+  }
+
+  /**
+   * relays the given header which is published by another network, whose number is owned by that network.
+   *
+   * @param header the header to relay.
+   * @param from the network which published the header.
+   *
+   * @return relayed header and its target, empty if the header is not relayed.
+   */
+  @NotNull
+  public Optional<Relayed> relayRemote(@NotNull final Protocol.TransactionHeader header, @NotNull final String from) {
+    if (header.getNumber() == 0L || header.getTarget().isEmpty() || !TransactionRelay.matchesPayload(header)) {
+      return Optional.empty();
+    }
+    return this.forward(header, from, header.getTarget());
+  }
+
+  /**
+   * forwards the given header from its origin to the target.
+   *
+   * @param header the header to forward.
+   * @param from the from to forward.
+   * @param target the target to forward.
+   *
+   * @return relayed header.
+   */
+  @NotNull
+  private Optional<Relayed> forward(@NotNull final Protocol.TransactionHeader header, @NotNull final String from,
+                                    @NotNull final String target) {
+    final var number = header.getNumber();
+    final Route route;
+    switch (header.getMode()) {
+      case CREATE -> {
+        route = new Route(from, number, this.nextId(), target);
+        this.routes.put(route.relayId, route);
+        this.origins(from).put(number, route);
+        route.timeout = this.timer.newTimeout(task -> this.remove(route), this.timeout, TimeUnit.SECONDS);
+      }
+      case SINGLE -> {
+        return Optional.of(new Relayed(target, TransactionRelay.rewrite(header, this.nextId(), from)));
+      }
+      case CONTINUE, COMPLETE -> {
+        route = this.origins(from).get(number);
+        if (route == null || !route.target.equals(target)) {
+          return Optional.empty();
+        }
+        if (header.getMode() == Protocol.Transaction.Mode.COMPLETE) {
+          this.remove(route);
+        }
+      }
+      default -> {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(new Relayed(target, TransactionRelay.rewrite(header, route.relayId, from)));
+  }
+
+  /**
+   * obtains the next relay id.
+   *
+   * @return relay id.
+   */
+  private long nextId() {
+    return this.counter.incrementAndGet() << 1 | Session.NETWORK_SIDE | TransactionRelay.RELAY_BIT;
+  }
+
+  /**
+   * obtains the routes of the given origin.
+   *
+   * @param origin the origin to obtain.
+   *
+   * @return routes.
+   */
+  @NotNull
+  private StripedLong2ObjectMap<Route> origins(@NotNull final String origin) {
+    return this.origins.computeIfAbsent(origin, key -> new StripedLong2ObjectMap<>());
+  }
+
+  /**
+   * removes the given route.
+   *
+   * @param route the route to remove.
+   */
+  private void remove(@NotNull final Route route) {
+    this.routes.remove(route.relayId);
+    final var routes = this.origins.get(route.origin);
+    if (routes != null) {
+      routes.remove(route.originId);
+    }
+    final var task = route.timeout;
+    if (task != null) {
+      task.cancel();
+    }
+  }
+
+  /**
+   * sends the given reply of a relayed transaction back to its origin.
+   *
+   * @param header the header to reply.
+   * @param from the from to reply.
+   *
+   * @return relayed header.
+   */
+  @NotNull
+  private Optional<Relayed> reply(@NotNull final Protocol.TransactionHeader header, @NotNull final String from) {
+    final var route = this.routes.get(header.getNumber());
+    if (route == null || !route.target.equals(from) || !TransactionRelay.matchesPayload(header)) {
+      return Optional.empty();
+    }
+    final var mode = header.getMode();
+    if (mode == Protocol.Transaction.Mode.COMPLETE || mode == Protocol.Transaction.Mode.SINGLE) {
+      this.remove(route);
+    }
+    return Optional.of(new Relayed(route.origin, TransactionRelay.rewrite(header, route.originId, from)));
+  }
+
+  /**
+   * a class that represents relayed headers.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public static final class Relayed {
+
+    /**
+     * the target.
+     */
+    @NotNull
+    private final String target;
+
+    /**
+     * the header.
+     */
+    @NotNull
+    private final Protocol.TransactionHeader header;
+  }
+
+  /**
+   * a class that represents routes of relayed transactions.
+   */
+  @RequiredArgsConstructor
+  private static final class Route {
+
+    /**
+     * the origin.
+     */
+    @NotNull
+    private final String origin;
+
+    /**
+     * the origin id.
+     */
+    private final long originId;
+
+    /**
+     * the relay id.
+     */
+    private final long relayId;
+
+    /**
+     * the target.
+     */
+    @NotNull
+    private final String target;
+
+    /**
+     * the timeout.
+     */
+    @Nullable
+    private volatile Timeout timeout;
+  }
+}
@@ -0,0 +1,387 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.p3;
+
+import com.google.common.hash.Hashing;
+import io.github.portlek.synergy.core.util.ChecksumUtils;
+import io.github.portlek.synergy.proto.Commands;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that contains the rsync-style delta between package versions.
+ * <p>
+ * the receiver splits its previous version into blocks and sends a signature of them, a weak rolling checksum and a
+ * strong murmur3 hash for each block. the sender rolls the weak checksum over every offset of the new version and
+ * looks the window up in the signature, so the blocks which are only moved are found as well, and only the bytes
+ * which don't match any block are sent as literal data.
+ */
+public final class PackageDelta {
+
+  /**
+   * the modulus of the weak checksum halves.
+   */
+  private static final int MODULUS = 1 << 16;
+
+  /**
+   * ctor.
+   */
+  private PackageDelta() {
+  }
+
+  /**
+   * creates the operations which rebuild the given target from the receiver's blocks.
+   *
+   * @param target the target to create.
+   * @param signature the signature of the receiver's version.
+   *
+   * @return operations in target order.
+   *
+   * @throws IOException if the target couldn't be read or it's too big to map.
+   */
+  @NotNull
+  public static List<Operation> diff(@NotNull final Path target, @NotNull final Signature signature)
+    throws IOException {
+    try (final var channel = FileChannel.open(target, StandardOpenOption.READ)) {
+      final var size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("the package is too big for a delta: " + size);
+      }
+      final var blockSize = signature.getBlockSize();
+      final var blockCount = signature.getBlockCount();
+      if (blockCount == 0 || size < blockSize) {
+        return PackageDelta.literal(size);
+      }
+      final var heads = new Int2IntOpenHashMap(blockCount);
+      heads.defaultReturnValue(-1);
+      final var next = new int[blockCount];
+      for (var block = blockCount - 1; block >= 0; block--) {
+        next[block] = heads.put(signature.weak[block], block);
+      }
+      final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+      try {
+        final var operations = new ArrayList<Operation>();
+        final var length = (int) size;
+        var literal = 0;
+        var position = 0;
+        var a = 0;
+        var b = 0;
+        var fresh = true;
+        while (position + blockSize <= length) {
+          if (fresh) {
+            final var weak = PackageDelta.weak(buffer, position, blockSize);
+            a = weak & 0xFFFF;
+            b = weak >>> 16;
+            fresh = false;
+          }
+          final var block = PackageDelta.find(signature, heads, next, a | b << 16, buffer, position);
+          if (block >= 0) {
+            if (literal < position) {
+              operations.add(new Operation(literal, position - literal, -1));
+            }
+            PackageDelta.copy(operations, position, blockSize, block);
+            position += blockSize;
+            literal = position;
+            fresh = true;
+            continue;
+          }
+          if (position + blockSize == length) {
+            break;
+          }
+          final var out = buffer.get(position) & 0xFF;
+          final var in = buffer.get(position + blockSize) & 0xFF;
+          a = Math.floorMod(a - out + in, PackageDelta.MODULUS);
+          b = Math.floorMod(b - blockSize * out + a, PackageDelta.MODULUS);
+          position++;
+        }
+        if (literal < length) {
+          operations.add(new Operation(literal, length - literal, -1));
+        }
+        return operations;
+      } finally {
+        ChecksumUtils.unmap(buffer);
+      }
+    }
+  }
+
+  /**
+   * creates an operation which sends the whole file as literal data.
+   *
+   * @param size the size to create.
+   *
+   * @return operations.
+   */
+  @NotNull
+  public static List<Operation> literal(final long size) {
+    if (size == 0L) {
+      return List.of();
+    }
+    return List.of(new Operation(0L, size, -1));
+  }
+
+  /**
+   * creates the signature of the full blocks of the given file.
+   *
+   * @param path the path to create.
+   * @param blockSize the block size to create.
+   *
+   * @return signature.
+   *
+   * @throws IOException if the file couldn't be read.
+   */
+  @NotNull
+  public static Signature signature(@NotNull final Path path, final int blockSize) throws IOException {
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return PackageDelta.signature(channel, blockSize);
+    }
+  }
+
+  /**
+   * adds a copy of the given block, merges it into the previous copy if the blocks are consecutive.
+   *
+   * @param operations the operations to add.
+   * @param offset the offset in the target.
+   * @param blockSize the block size.
+   * @param block the block to add.
+   */
+  private static void copy(@NotNull final List<Operation> operations, final long offset, final int blockSize,
+                           final int block) {
+    if (!operations.isEmpty()) {
+      final var last = operations.get(operations.size() - 1);
+      if (last.block >= 0 && last.block + last.length / blockSize == block) {
+        operations.set(operations.size() - 1, new Operation(last.offset, last.length + blockSize, last.block));
+        return;
+      }
+    }
+    operations.add(new Operation(offset, blockSize, block));
+  }
+
+  /**
+   * finds the block which has the same bytes as the window at the given position.
+   *
+   * @param signature the signature to find.
+   * @param heads the first blocks by weak checksum.
+   * @param next the next blocks with the same weak checksum.
+   * @param weak the weak checksum of the window.
+   * @param buffer the buffer to find.
+   * @param position the position of the window.
+   *
+   * @return the block, or -1 if no block matches.
+   */
+  private static int find(@NotNull final Signature signature, @NotNull final Int2IntOpenHashMap heads,
+                          final int @NotNull [] next, final int weak, @NotNull final MappedByteBuffer buffer,
+                          final int position) {
+    var block = heads.get(weak);
+    if (block < 0) {
+      return -1;
+    }
+    final var strong = PackageDelta.strong(buffer, position, signature.getBlockSize());
+    for (; block >= 0; block = next[block]) {
+      if (signature.strong[block] == strong) {
+        return block;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * creates the signature of the full blocks of the given channel.
+   *
+   * @param channel the channel to create.
+   * @param blockSize the block size to create.
+   *
+   * @return signature.
+   *
+   * @throws IOException if the channel couldn't be read.
+   */
+  @NotNull
+  private static Signature signature(@NotNull final FileChannel channel, final int blockSize) throws IOException {
+    final var blockCount = (int) Math.min(Integer.MAX_VALUE, channel.size() / blockSize);
+    final var weak = new int[blockCount];
+    final var strong = new long[blockCount];
+    final var buffer = ByteBuffer.allocate(blockSize);
+    for (var block = 0; block < blockCount; block++) {
+      buffer.clear();
+      final var position = (long) block * blockSize;
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position()) < 0) {
+          throw new IOException("unexpected end of file at " + (position + buffer.position()));
+        }
+      }
+      weak[block] = PackageDelta.weak(buffer, 0, blockSize);
+      strong[block] = PackageDelta.strong(buffer, 0, blockSize);
+    }
+    return new Signature(blockSize, weak, strong);
+  }
+
+  /**
+   * computes the strong hash of the given range.
+   *
+   * @param buffer the buffer to compute.
+   * @param from the from to compute.
+   * @param length the length to compute.
+   *
+   * @return strong hash.
+   */
+  private static long strong(@NotNull final ByteBuffer buffer, final int from, final int length) {
+    return Hashing.murmur3_128().hashBytes(buffer.duplicate().position(from).limit(from + length)).asLong();
+  }
+
+  /**
+   * computes the weak rolling checksum of the given range.
+   *
+   * @param buffer the buffer to compute.
+   * @param from the from to compute.
+   * @param length the length to compute.
+   *
+   * @return weak checksum, the sum of the bytes in the low half and the weighted sum in the high half.
+   */
+  private static int weak(@NotNull final ByteBuffer buffer, final int from, final int length) {
+    var a = 0;
+    var b = 0;
+    for (var index = 0; index < length; index++) {
+      final var value = buffer.get(from + index) & 0xFF;
+      a += value;
+      b += (length - index) * value;
+      a %= PackageDelta.MODULUS;
+      b %= PackageDelta.MODULUS;
+    }
+    return a | b << 16;
+  }
+
+  /**
+   * a class that represents delta operations, literal data from the target or a copy of the receiver's blocks.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public static final class Operation {
+
+    /**
+     * the offset in the target.
+     */
+    private final long offset;
+
+    /**
+     * the length.
+     */
+    private final long length;
+
+    /**
+     * the first block to copy, -1 for literal data.
+     */
+    private final int block;
+
+    /**
+     * checks if the operation is literal data.
+     *
+     * @return {@code true} if the bytes are sent.
+     */
+    public boolean isLiteral() {
+      return this.block < 0;
+    }
+  }
+
+  /**
+   * a class that represents block signatures of package versions.
+   */
+  @RequiredArgsConstructor
+  public static final class Signature {
+
+    /**
+     * the block size.
+     */
+    @Getter
+    private final int blockSize;
+
+    /**
+     * the weak checksums by block.
+     */
+    private final int @NotNull [] weak;
+
+    /**
+     * the strong hashes by block.
+     */
+    private final long @NotNull [] strong;
+
+    /**
+     * creates a signature from the given request.
+     *
+     * @param request the request to create.
+     *
+     * @return signature, or {@code null} if the request doesn't have one.
+     */
+    @Nullable
+    public static Signature of(@NotNull final Commands.PackageRequest request) {
+      final var blockCount = request.getWeakCount();
+      if (request.getBlockSize() <= 0 || blockCount != request.getStrongCount()) {
+        return null;
+      }
+      final var weak = new int[blockCount];
+      final var strong = new long[blockCount];
+      for (var block = 0; block < blockCount; block++) {
+        weak[block] = request.getWeak(block);
+        strong[block] = request.getStrong(block);
+      }
+      return new Signature(request.getBlockSize(), weak, strong);
+    }
+
+    /**
+     * obtains the block count.
+     *
+     * @return block count.
+     */
+    public int getBlockCount() {
+      return this.weak.length;
+    }
+
+    /**
+     * writes the signature into the given request.
+     *
+     * @param request the request to write.
+     *
+     * @return the request.
+     */
+    @NotNull
+    public Commands.PackageRequest.Builder write(@NotNull final Commands.PackageRequest.Builder request) {
+      request.setBlockSize(this.blockSize);
+      Arrays.stream(this.weak).forEach(request::addWeak);
+      Arrays.stream(this.strong).forEach(request::addStrong);
+      return request;
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.p3;
+
+import io.github.portlek.synergy.core.config.SynergyConfig;
+import io.github.portlek.synergy.core.util.SystemUtils;
+import io.github.portlek.synergy.proto.P3;
+import java.nio.file.Path;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that contains utility methods for package files.
+ */
+public final class PackageFiles {
+
+  /**
+   * ctor.
+   */
+  private PackageFiles() {
+  }
+
+  /**
+   * obtains the key of the given package.
+   *
+   * @param meta the meta to obtain.
+   *
+   * @return package key.
+   */
+  @NotNull
+  public static String key(@NotNull final P3.P3Meta meta) {
+    return meta.getId() + ':' + meta.getVersion();
+  }
+
+  /**
+   * obtains the path of the given package in the cache.
+   *
+   * @param root the root of the cache.
+   * @param meta the meta to obtain.
+   * @param checksum the checksum of the package.
+   *
+   * @return cached package path.
+   *
+   * @throws IllegalArgumentException if the id, the version or the checksum points outside of the cache.
+   */
+  @NotNull
+  public static Path cachePath(@NotNull final Path root, @NotNull final P3.P3Meta meta,
+                               @NotNull final String checksum) {
+    return PackageFiles.resolve(root, meta.getId(), meta.getVersion() + '-' + checksum + ".p3");
+  }
+
+  /**
+   * obtains the part file which the given package is downloaded into.
+   *
+   * @param path the path of the package.
+   *
+   * @return part file path.
+   */
+  @NotNull
+  public static Path partPath(@NotNull final Path path) {
+    return path.resolveSibling(path.getFileName() + ".part");
+  }
+
+  /**
+   * obtains the path of the given package under the packages folder.
+   *
+   * @param meta the meta to obtain.
+   *
+   * @return package path.
+   *
+   * @throws IllegalArgumentException if the id or the version points outside of the packages folder.
+   */
+  @NotNull
+  public static Path path(@NotNull final P3.P3Meta meta) {
+    return PackageFiles.resolve(SystemUtils.getHomePath().resolve(SynergyConfig.packagesFolder), meta.getId(),
+      meta.getVersion() + ".p3");
+  }
+
+  /**
+   * resolves the given file in the folder under the root.
+   *
+   * @param root the root to resolve.
+   * @param folder the folder to resolve.
+   * @param file the file to resolve.
+   *
+   * @return resolved path.
+   *
+   * @throws IllegalArgumentException if the folder or the file points outside of its parent.
+   */
+  @NotNull
+  private static Path resolve(@NotNull final Path root, @NotNull final String folder, @NotNull final String file) {
+    final var normalizedRoot = root.toAbsolutePath().normalize();
+    final var normalizedFolder = normalizedRoot.resolve(folder).normalize();
+    final var path = normalizedFolder.resolve(file).normalize();
+    if (!normalizedRoot.equals(normalizedFolder.getParent()) || !normalizedFolder.equals(path.getParent())) {
+      throw new IllegalArgumentException(folder + '/' + file);
+    }
+    return path;
+  }
+}
@@ -0,0 +1,283 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.p3;
+
+import io.github.portlek.synergy.proto.P3;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents package stream receivers which write the chunks of a package straight to disk.
+ * <p>
+ * the chunks are written into a {@code .part} file next to the package, which is moved into place after the last
+ * chunk. the part file survives disconnects and restarts, its size is the offset to resume from. if a previous
+ * version of the package is given, the blocks which the chunks copy are read from it.
+ */
+public final class PackageStreamReceiver implements AutoCloseable {
+
+  /**
+   * the previous version.
+   */
+  @Nullable
+  private FileChannel base;
+
+  /**
+   * the file.
+   */
+  @NotNull
+  private final FileChannel file;
+
+  /**
+   * the future which completes with the path once the package is received.
+   */
+  @NotNull
+  @Getter
+  private final CompletableFuture<Path> future = new CompletableFuture<>();
+
+  /**
+   * the meta.
+   */
+  @NotNull
+  @Getter
+  private final P3.P3Meta meta;
+
+  /**
+   * the part file.
+   */
+  @NotNull
+  private final Path part;
+
+  /**
+   * the path.
+   */
+  @NotNull
+  private final Path path;
+
+  /**
+   * the bytes which are written without a gap.
+   */
+  @Getter
+  private long offset;
+
+  /**
+   * the ready, {@code false} while the signature of the previous version is being computed.
+   */
+  private boolean ready = true;
+
+  /**
+   * the signature of the previous version.
+   */
+  @Nullable
+  private PackageDelta.Signature signature;
+
+  /**
+   * ctor.
+   *
+   * @param path the path to receive.
+   * @param meta the meta to receive.
+   *
+   * @throws IOException if the part file couldn't be opened.
+   */
+  public PackageStreamReceiver(@NotNull final Path path, @NotNull final P3.P3Meta meta) throws IOException {
+    this(path, meta, null);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param path the path to receive.
+   * @param meta the meta to receive.
+   * @param base the previous version to copy the blocks from.
+   *
+   * @throws IOException if the part file or the previous version couldn't be opened.
+   */
+  public PackageStreamReceiver(@NotNull final Path path, @NotNull final P3.P3Meta meta, @Nullable final Path base)
+    throws IOException {
+    this.path = path;
+    this.meta = meta;
+    this.part = PackageFiles.partPath(path);
+    Files.createDirectories(path.toAbsolutePath().getParent());
+    this.file = FileChannel.open(this.part, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    this.offset = this.file.size();
+    try {
+      this.base = base == null ? null : FileChannel.open(base, StandardOpenOption.READ);
+    } catch (final IOException e) {
+      this.file.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    try {
+      this.file.close();
+    } catch (final IOException ignored) {
+    }
+    this.closeBase();
+  }
+
+  /**
+   * fails the transfer, the part file is kept to resume later.
+   *
+   * @param throwable the throwable to fail.
+   */
+  public void fail(@NotNull final Throwable throwable) {
+    this.close();
+    this.future.completeExceptionally(throwable);
+  }
+
+  /**
+   * obtains the signature of the previous version.
+   *
+   * @return signature, or {@code null} if the package is received in full.
+   */
+  @Nullable
+  public synchronized PackageDelta.Signature getSignature() {
+    return this.signature;
+  }
+
+  /**
+   * checks if the package can be requested, it can't while the signature of the previous version is being computed.
+   *
+   * @return {@code true} if the package can be requested.
+   */
+  public synchronized boolean isReady() {
+    return this.ready;
+  }
+
+  /**
+   * marks the receiver as not ready until the signature of the previous version is set.
+   */
+  public synchronized void prepare() {
+    this.ready = false;
+  }
+
+  /**
+   * receives the given chunk.
+   *
+   * @param chunk the chunk to receive.
+   *
+   * @return {@code true} if the chunk was written or already on disk, {@code false} if it comes after a gap.
+   *
+   * @throws IOException if the chunk couldn't be written.
+   */
+  public synchronized boolean receive(@NotNull final P3.SplitPackageData chunk) throws IOException {
+    if (this.future.isDone() || chunk.getOffset() > this.offset) {
+      return false;
+    }
+    final var data = chunk.getData();
+    var end = chunk.getOffset() + data.size();
+    for (final var copy : chunk.getCopiesList()) {
+      end += (long) copy.getCount() * (this.signature == null ? 0 : this.signature.getBlockSize());
+    }
+    if (end > this.offset) {
+      var position = chunk.getOffset();
+      for (final var buffer : data.asReadOnlyByteBufferList()) {
+        while (buffer.hasRemaining()) {
+          position += this.file.write(buffer, position);
+        }
+      }
+      for (final var copy : chunk.getCopiesList()) {
+        position = this.copy(copy, position);
+      }
+      this.offset = end;
+    }
+    if (chunk.getEndOfFile()) {
+      this.file.truncate(this.offset);
+      this.file.force(true);
+      this.file.close();
+      this.closeBase();
+      Files.move(this.part, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      this.future.complete(this.path);
+    }
+    return true;
+  }
+
+  /**
+   * sets the signature of the previous version and marks the receiver as ready, the package is requested as a delta
+   * against it from now on.
+   *
+   * @param signature the signature to set, {@code null} if it couldn't be computed.
+   */
+  public synchronized void setSignature(@Nullable final PackageDelta.Signature signature) {
+    if (this.base != null) {
+      this.signature = signature;
+    }
+    this.ready = true;
+  }
+
+  /**
+   * closes the previous version.
+   */
+  private void closeBase() {
+    if (this.base == null) {
+      return;
+    }
+    try {
+      this.base.close();
+    } catch (final IOException ignored) {
+    }
+    this.base = null;
+  }
+
+  /**
+   * copies the given blocks of the previous version to the given position.
+   *
+   * @param copy the copy to run.
+   * @param position the position to copy.
+   *
+   * @return the position after the blocks.
+   *
+   * @throws IOException if the chunk copies blocks which the previous version doesn't have.
+   */
+  private long copy(@NotNull final P3.BlockCopy copy, final long position) throws IOException {
+    final var base = this.base;
+    final var signature = this.signature;
+    if (base == null || signature == null || copy.getBlock() + copy.getCount() > signature.getBlockCount()) {
+      throw new IOException("invalid block copy " + copy.getBlock() + '+' + copy.getCount() + " at " + position);
+    }
+    final var from = (long) copy.getBlock() * signature.getBlockSize();
+    final var length = (long) copy.getCount() * signature.getBlockSize();
+    this.file.position(position);
+    var done = 0L;
+    while (done < length) {
+      final var transferred = base.transferTo(from + done, length - done, this.file);
+      if (transferred <= 0L) {
+        throw new IOException("unexpected end of file at " + (from + done));
+      }
+      done += transferred;
+    }
+    return position + length;
+  }
+}
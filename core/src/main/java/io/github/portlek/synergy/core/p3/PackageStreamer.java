@@ -0,0 +1,418 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.p3;
+
+import com.google.protobuf.UnsafeByteOperations;
+import io.github.portlek.synergy.core.netty.SendResult;
+import io.github.portlek.synergy.languages.Languages;
+import io.github.portlek.synergy.proto.P3;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents package streamers which send a package file in chunks.
+ * <p>
+ * the chunks are read from the file one at a time, at most {@code window} chunks are sent without an ack and the
+ * streamer pauses while the channel is not writable, so neither side holds the package in memory. a chunk carries
+ * the literal data at its offset followed by the receiver's blocks which come after it, see {@link PackageDelta}.
+ * <p>
+ * the receiver drops the chunks which come after a lost one, so if no chunk is acknowledged within the ack timeout,
+ * the window is sent again from the first unacknowledged chunk.
+ */
+@Log4j2
+public final class PackageStreamer implements AutoCloseable {
+
+  /**
+   * the max copies which are sent in a chunk.
+   */
+  private static final int MAX_COPIES = 4096;
+
+  /**
+   * the max retransmits without an ack before the streamer gives up.
+   */
+  private static final int MAX_RETRANSMITS = 5;
+
+  /**
+   * the ack timeout in milliseconds.
+   */
+  private final long ackTimeout;
+
+  /**
+   * the chunk count.
+   */
+  private final int chunkCount;
+
+  /**
+   * the copies of the chunks.
+   */
+  private final List<List<P3.BlockCopy>> copies = new ArrayList<>();
+
+  /**
+   * the file.
+   */
+  @NotNull
+  private final FileChannel file;
+
+  /**
+   * the literal lengths of the chunks.
+   */
+  private final IntArrayList literals = new IntArrayList();
+
+  /**
+   * the meta.
+   */
+  @NotNull
+  private final P3.P3Meta meta;
+
+  /**
+   * the offsets of the chunks.
+   */
+  private final LongArrayList offsets = new LongArrayList();
+
+  /**
+   * the sink.
+   */
+  @NotNull
+  private final Sink sink;
+
+  /**
+   * the timer.
+   */
+  @NotNull
+  private final Timer timer;
+
+  /**
+   * the window.
+   */
+  private final int window;
+
+  /**
+   * the chunks which are acknowledged in order.
+   */
+  private int acked;
+
+  /**
+   * the closed.
+   */
+  private boolean closed;
+
+  /**
+   * the next chunk to send.
+   */
+  private int next;
+
+  /**
+   * the retransmits since the last ack.
+   */
+  private int retransmits;
+
+  /**
+   * the ack timeout task.
+   */
+  @Nullable
+  private Timeout timeout;
+
+  /**
+   * ctor.
+   *
+   * @param path the path to stream.
+   * @param meta the meta to stream.
+   * @param chunkSize the chunk size.
+   * @param window the window.
+   * @param ackTimeout the ack timeout in milliseconds.
+   * @param timer the timer to run the ack timeout.
+   * @param sink the sink.
+   *
+   * @throws IOException if the file couldn't be opened.
+   */
+  public PackageStreamer(@NotNull final Path path, @NotNull final P3.P3Meta meta, final int chunkSize,
+                         final int window, final long ackTimeout, @NotNull final Timer timer,
+                         @NotNull final Sink sink) throws IOException {
+    this(path, meta, chunkSize, window, ackTimeout, timer, sink, null);
+  }
+
+  /**
+   * ctor.
+   * <p>
+   * if the signature of the receiver's previous version is given, only the bytes which aren't in its blocks are
+   * sent, the others are sent as copies of the receiver's blocks.
+   *
+   * @param path the path to stream.
+   * @param meta the meta to stream.
+   * @param chunkSize the chunk size.
+   * @param window the window.
+   * @param ackTimeout the ack timeout in milliseconds.
+   * @param timer the timer to run the ack timeout.
+   * @param sink the sink.
+   * @param signature the signature of the receiver's previous version.
+   *
+   * @throws IOException if the file couldn't be opened.
+   */
+  public PackageStreamer(@NotNull final Path path, @NotNull final P3.P3Meta meta, final int chunkSize,
+                         final int window, final long ackTimeout, @NotNull final Timer timer,
+                         @NotNull final Sink sink, @Nullable final PackageDelta.Signature signature)
+    throws IOException {
+    this.meta = meta;
+    this.window = Math.max(1, window);
+    this.ackTimeout = ackTimeout;
+    this.timer = timer;
+    this.sink = sink;
+    this.file = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      this.split(signature == null
+        ? PackageDelta.literal(this.file.size())
+        : PackageDelta.diff(path, signature), chunkSize, signature == null ? 1 : signature.getBlockSize());
+    } catch (final IOException e) {
+      this.file.close();
+      throw e;
+    }
+    this.chunkCount = this.offsets.size();
+  }
+
+  @Override
+  public synchronized void close() {
+    if (this.closed) {
+      return;
+    }
+    this.closed = true;
+    this.disarm();
+    try {
+      this.file.close();
+    } catch (final IOException e) {
+      PackageStreamer.log.error(e);
+    }
+  }
+
+  /**
+   * checks if all the chunks are acknowledged.
+   *
+   * @return {@code true} if the package is transferred.
+   */
+  public synchronized boolean isDone() {
+    return this.acked >= this.chunkCount;
+  }
+
+  /**
+   * runs when the receiver acknowledges the given chunk, sends the chunks which fit into the window again.
+   *
+   * @param chunkId the chunk id to run.
+   */
+  public synchronized void onAck(final int chunkId) {
+    if (chunkId < this.acked || chunkId >= this.next) {
+      return;
+    }
+    this.acked = chunkId + 1;
+    this.retransmits = 0;
+    this.disarm();
+    if (this.isDone()) {
+      this.close();
+      return;
+    }
+    this.pump();
+  }
+
+  /**
+   * starts sending from the chunk which contains the given offset.
+   *
+   * @param offset the offset which the receiver already has.
+   */
+  public synchronized void start(final long offset) {
+    final var index = Collections.binarySearch(this.offsets, Math.max(0L, offset));
+    this.next = index >= 0 ? index : Math.max(0, -index - 2);
+    this.acked = this.next;
+    this.pump();
+  }
+
+  /**
+   * sends the chunks until the window is full or the channel is not writable anymore.
+   */
+  private synchronized void pump() {
+    while (!this.closed && this.next < this.chunkCount && this.next - this.acked < this.window) {
+      final P3.SplitPackageData chunk;
+      try {
+        chunk = this.read(this.next);
+      } catch (final IOException e) {
+        PackageStreamer.log.error(e);
+        this.close();
+        return;
+      }
+      final var result = this.sink.send(chunk);
+      if (result == SendResult.FAILED) {
+        this.close();
+        return;
+      }
+      this.next++;
+      this.arm();
+      if (result == SendResult.NOT_WRITABLE) {
+        if (!this.sink.whenWritable(this::pump)) {
+          this.close();
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * starts the ack timeout if it's not running, it runs from the last ack instead of the last chunk.
+   */
+  private void arm() {
+    if (this.timeout == null && !this.closed && this.ackTimeout > 0L) {
+      this.timeout = this.timer.newTimeout(task -> this.retransmit(), this.ackTimeout, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * cancels the ack timeout.
+   */
+  private void disarm() {
+    final var task = this.timeout;
+    this.timeout = null;
+    if (task != null) {
+      task.cancel();
+    }
+  }
+
+  /**
+   * sends the chunks again from the first unacknowledged one, gives up after too many retransmits without an ack.
+   */
+  private synchronized void retransmit() {
+    this.timeout = null;
+    if (this.closed || this.isDone()) {
+      return;
+    }
+    if (++this.retransmits > PackageStreamer.MAX_RETRANSMITS) {
+      PackageStreamer.log.error(Languages.getLanguageValue("package-ack-timeout", this.acked, this.meta.getId(),
+        this.meta.getVersion(), PackageStreamer.MAX_RETRANSMITS));
+      this.close();
+      return;
+    }
+    this.next = this.acked;
+    this.pump();
+  }
+
+  /**
+   * reads the given chunk from the file.
+   *
+   * @param chunkId the chunk id to read.
+   *
+   * @return chunk.
+   *
+   * @throws IOException if the file couldn't be read.
+   */
+  @NotNull
+  private P3.SplitPackageData read(final int chunkId) throws IOException {
+    final var offset = this.offsets.getLong(chunkId);
+    final var buffer = ByteBuffer.allocate(this.literals.getInt(chunkId));
+    while (buffer.hasRemaining()) {
+      if (this.file.read(buffer, offset + buffer.position()) < 0) {
+        throw new IOException("unexpected end of file at " + (offset + buffer.position()));
+      }
+    }
+    return P3.SplitPackageData.newBuilder()
+      .setMeta(this.meta)
+      .setChunkId(chunkId)
+      .setChunkCount(this.chunkCount)
+      .setOffset(offset)
+      .setEndOfFile(chunkId == this.chunkCount - 1)
+      .setData(UnsafeByteOperations.unsafeWrap(buffer.array()))
+      .addAllCopies(this.copies.get(chunkId))
+      .build();
+  }
+
+  /**
+   * splits the given operations into chunks, the literal data of a chunk comes before its copies.
+   *
+   * @param operations the operations to split.
+   * @param chunkSize the chunk size.
+   * @param blockSize the block size of the copies.
+   */
+  private void split(@NotNull final List<PackageDelta.Operation> operations, final int chunkSize,
+                     final int blockSize) {
+    for (final var operation : operations) {
+      if (operation.isLiteral()) {
+        for (var done = 0L; done < operation.getLength(); done += chunkSize) {
+          this.offsets.add(operation.getOffset() + done);
+          this.literals.add((int) Math.min(chunkSize, operation.getLength() - done));
+          this.copies.add(new ArrayList<>());
+        }
+        continue;
+      }
+      if (this.copies.isEmpty() || this.copies.get(this.copies.size() - 1).size() >= PackageStreamer.MAX_COPIES) {
+        this.offsets.add(operation.getOffset());
+        this.literals.add(0);
+        this.copies.add(new ArrayList<>());
+      }
+      this.copies.get(this.copies.size() - 1).add(P3.BlockCopy.newBuilder()
+        .setBlock(operation.getBlock())
+        .setCount((int) (operation.getLength() / blockSize))
+        .build());
+    }
+    if (this.offsets.isEmpty()) {
+      this.offsets.add(0L);
+      this.literals.add(0);
+      this.copies.add(List.of());
+    }
+  }
+
+  /**
+   * an interface to determine sinks which deliver the chunks to the receiver.
+   */
+  public interface Sink {
+
+    /**
+     * sends the given chunk.
+     *
+     * @param chunk the chunk to send.
+     *
+     * @return send result.
+     */
+    @NotNull
+    SendResult send(@NotNull P3.SplitPackageData chunk);
+
+    /**
+     * runs the given task once the receiver's channel is writable again.
+     *
+     * @param task the task to run.
+     *
+     * @return {@code false} if the receiver has no active channel.
+     */
+    boolean whenWritable(@NotNull Runnable task);
+  }
+}
@@ -28,8 +28,8 @@ package io.github.portlek.synergy.core.transaction;
 import io.github.portlek.synergy.api.TransactionInfo;
 import io.github.portlek.synergy.api.TransactionListener;
 import io.github.portlek.synergy.proto.Protocol;
+import io.netty.util.Timeout;
 import java.util.Optional;
-import java.util.concurrent.ScheduledFuture;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -47,7 +47,7 @@ public final class SimpleTransactionInfo implements TransactionInfo {
    */
   @Nullable
   @Setter
-  private ScheduledFuture<Boolean> cancelTask;
+  private Timeout cancelTask;
 
   /**
    * the done.
@@ -56,12 +56,26 @@ public final class SimpleTransactionInfo implements TransactionInfo {
   @Setter
   private boolean done;
 
+  /**
+   * the expired.
+   */
+  @Getter
+  @Setter
+  private boolean expired;
+
   /**
    * the id.
    */
+  @Getter
+  @Setter
+  private long id;
+
+  /**
+   * the legacy id, the string id of a transaction which was created by a legacy peer.
+   */
   @Nullable
   @Setter
-  private String id;
+  private String legacyId;
 
   /**
    * the listener.
@@ -86,14 +100,18 @@ public final class SimpleTransactionInfo implements TransactionInfo {
 
   @NotNull
   @Override
-  public Optional<ScheduledFuture<Boolean>> getCancelTask() {
+  public Optional<Timeout> getCancelTask() {
     return Optional.ofNullable(this.cancelTask);
   }
 
+  /**
+   * obtains the legacy id.
+   *
+   * @return legacy id.
+   */
   @NotNull
-  @Override
-  public Optional<String> getIdOptional() {
-    return Optional.ofNullable(this.id);
+  public Optional<String> getLegacyId() {
+    return Optional.ofNullable(this.legacyId);
   }
 
   @NotNull
@@ -25,17 +25,27 @@
 
 package io.github.portlek.synergy.core.transaction;
 
+import com.google.common.hash.Hashing;
 import io.github.portlek.synergy.api.TransactionInfo;
+import io.github.portlek.synergy.api.TransactionListener;
 import io.github.portlek.synergy.api.TransactionManager;
 import io.github.portlek.synergy.core.BaseSynergy;
 import io.github.portlek.synergy.core.config.SynergyConfig;
+import io.github.portlek.synergy.core.util.StripedLong2ObjectMap;
 import io.github.portlek.synergy.languages.Languages;
 import io.github.portlek.synergy.proto.Commands;
 import io.github.portlek.synergy.proto.Protocol;
+import io.github.portlek.synergy.proto.Protocols;
+import io.netty.util.Timeout;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.jetbrains.annotations.NotNull;
@@ -43,6 +53,10 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * a simple implementation of {@link TransactionManager}.
+ * <p>
+ * transaction ids are counters whose lowest bit is the side which created the transaction, so both ends of a
+ * connection never pick the same id. transactions which were created by a peer are kept per peer, since the origin is
+ * implied by the authenticated connection.
  */
 @Log4j2
 @RequiredArgsConstructor
@@ -55,160 +69,372 @@ public final class SimpleTransactionManager implements TransactionManager {
   private final BaseSynergy synergy;
 
   /**
-   * the transactions.
+   * the counter.
    */
-  private final Map<String, TransactionInfo> transactions = new ConcurrentHashMap<>();
+  private final AtomicLong counter = new AtomicLong();
+
+  /**
+   * the transactions which were created by this side.
+   */
+  private final StripedLong2ObjectMap<SimpleTransactionInfo> localTransactions = new StripedLong2ObjectMap<>();
+
+  /**
+   * the transactions which were created by peers.
+   */
+  private final Map<String, StripedLong2ObjectMap<SimpleTransactionInfo>> remoteTransactions =
+    new ConcurrentHashMap<>();
+
+  /**
+   * obtains the id of the given message.
+   * <p>
+   * legacy peers send string ids only, numeric ones are ids which were created by us and echoed back, the others are
+   * hashed into an id with the peer's side bit.
+   *
+   * @param message the message to obtain.
+   * @param remoteSide the remote side to obtain.
+   *
+   * @return transaction id.
+   */
+  private static long idOf(@NotNull final Protocol.Transaction message, final int remoteSide) {
+    final var number = message.getNumber();
+    if (number != 0L || message.getId().isEmpty()) {
+      return number;
+    }
+    try {
+      return Long.parseUnsignedLong(message.getId());
+    } catch (final NumberFormatException e) {
+      final var hash = Hashing.farmHashFingerprint64().hashString(message.getId(), StandardCharsets.UTF_8).asLong();
+      return hash & ~1L | remoteSide;
+    }
+  }
+
+  /**
+   * obtains the key of the given peer.
+   *
+   * @param peer the peer to obtain.
+   *
+   * @return peer key.
+   */
+  @NotNull
+  private static String peerKey(@Nullable final String peer) {
+    return peer == null
+      ? ""
+      : peer;
+  }
 
   @NotNull
   @Override
-  public Optional<Protocol.Transaction> build(@NotNull final String id, @NotNull final Protocol.Transaction.Mode mode,
+  public Optional<Protocol.Transaction> build(final long id, @NotNull final Protocol.Transaction.Mode mode,
                                               @NotNull final Commands.BaseCommand command) {
-    final var info = this.getTransactionInfo(id);
-    if (info.isEmpty()) {
-      SimpleTransactionManager.log.error(Languages.getLanguageValue("unable-to-build-transaction", id));
+    if (this.isLocal(id) && !this.localTransactions.containsKey(id)) {
+      SimpleTransactionManager.log.error(Languages.getLanguageValue("unable-to-build-transaction",
+        Long.toUnsignedString(id)));
       return Optional.empty();
     }
     return Optional.of(Protocol.Transaction.newBuilder()
-      .setId(id)
+      .setNumber(id)
       .setMode(mode)
       .setPayload(command)
+      .setType(Protocols.typeOf(command))
       .build());
   }
 
   @Override
-  public boolean cancel(@NotNull final String id, final boolean silentFail) {
-    final var optional = this.getTransactionInfo(id);
-    if (optional.isEmpty()) {
+  public boolean cancel(final long id, @Nullable final String peer, final boolean silentFail) {
+    final var info = this.remove(id, peer);
+    if (info == null) {
       if (!silentFail) {
-        SimpleTransactionManager.log.error(Languages.getLanguageValue("cannot-cancel-transaction", id));
+        SimpleTransactionManager.log.error(Languages.getLanguageValue("cannot-cancel-transaction",
+          Long.toUnsignedString(id)));
       }
       return false;
     }
-    final var info = optional.get();
     info.getListener().ifPresent(listener -> listener.onCancel(this, info));
-    final var cancelTask = info.getCancelTask();
-    if (cancelTask.isPresent() && !cancelTask.get().isDone()) {
-      cancelTask.get().cancel(false);
-    }
+    info.getCancelTask().ifPresent(Timeout::cancel);
     info.setDone(true);
-    this.transactions.remove(id);
     return true;
   }
 
   @Override
-  public boolean complete(@NotNull final String id) {
-    final var optional = this.getTransactionInfo(id);
-    if (optional.isEmpty()) {
-      SimpleTransactionManager.log.error(Languages.getLanguageValue("cannot-complete-transaction", id));
+  public boolean complete(final long id, @Nullable final String peer) {
+    final var info = this.remove(id, peer);
+    if (info == null) {
+      SimpleTransactionManager.log.error(Languages.getLanguageValue("cannot-complete-transaction",
+        Long.toUnsignedString(id)));
       return false;
     }
-    final var info = optional.get();
     info.getListener().ifPresent(listener -> listener.onComplete(this, info));
-    final var cancelTask = info.getCancelTask();
-    if (cancelTask.isPresent() && !cancelTask.get().isDone()) {
-      cancelTask.get().cancel(false);
-    }
+    info.getCancelTask().ifPresent(Timeout::cancel);
     info.setDone(true);
-    this.transactions.remove(id);
     return true;
   }
 
   @NotNull
   @Override
   public TransactionInfo generateInfo() {
-    final var info = new SimpleTransactionInfo();
-    final var generatedId = this.synergy.generateId();
-    info.setId(generatedId);
-    this.transactions.put(generatedId, info);
-    info.setCancelTask(this.synergy.getScheduler().schedule(() -> {
-      SimpleTransactionManager.log.warn(Languages.getLanguageValue("transaction-cancelled", generatedId));
-      return this.cancel(generatedId, true);
-    }, SynergyConfig.transactionTimeout, TimeUnit.SECONDS));
-    return info;
+    return this.newInfo();
   }
 
   @NotNull
   @Override
-  public Optional<TransactionInfo> getTransactionInfo(@NotNull final String id) {
-    return Optional.ofNullable(this.transactions.get(id));
+  public Optional<TransactionInfo> getTransactionInfo(final long id, @Nullable final String peer) {
+    return Optional.ofNullable(this.find(id, peer));
   }
 
   @Override
   public void receive(@NotNull final Protocol.Transaction message, @Nullable final String from) {
-    final Optional<TransactionInfo> transactionInfo;
+    final var id = SimpleTransactionManager.idOf(message, this.synergy.getSide() ^ 1);
+    final TransactionInfo transactionInfo;
     switch (message.getMode()) {
       case CREATE -> {
-        if (this.transactions.containsKey(message.getId())) {
+        final var info = new SimpleTransactionInfo();
+        info.setId(id);
+        info.setTarget(from);
+        if (message.getNumber() == 0L && !message.getId().isEmpty()) {
+          info.setLegacyId(message.getId());
+        }
+        if (this.remoteTransactions(from).putIfAbsent(id, info) != null) {
           SimpleTransactionManager.log.error(Languages.getLanguageValue("received-create-already-exists"),
-            message.getId());
+            Long.toUnsignedString(id));
           return;
         }
-        final var info0 = new SimpleTransactionInfo();
-        info0.setId(message.getId());
-        info0.setTarget(from);
-        this.transactions.put(message.getId(), info0);
-        transactionInfo = Optional.of(info0);
+        this.expire(info, from);
+        transactionInfo = info;
       }
       case SINGLE -> {
-        final var info1 = new SimpleTransactionInfo();
-        info1.setDone(true);
-        transactionInfo = Optional.of(info1);
+        final var info = new SimpleTransactionInfo();
+        info.setId(id);
+        info.setDone(true);
+        transactionInfo = info;
       }
       case CONTINUE -> {
-        final var info2 = this.getTransactionInfo(message.getId());
-        if (info2.isEmpty()) {
+        final var info = this.find(id, from);
+        if (info == null) {
           SimpleTransactionManager.log.error(Languages.getLanguageValue("received-continue-does-not-exist",
-            message.getId()));
+            Long.toUnsignedString(id)));
           return;
         }
-        final var info3 = info2.get();
-        info3.getListener().ifPresent(listener -> listener.onReceive(this, info3, message));
-        transactionInfo = Optional.of(info3);
+        info.getListener().ifPresent(listener -> listener.onReceive(this, info, message));
+        transactionInfo = info;
       }
       case COMPLETE -> {
-        final var info4 = this.getTransactionInfo(message.getId());
-        if (info4.isEmpty()) {
+        final var info = this.find(id, from);
+        if (info == null) {
           SimpleTransactionManager.log.error(Languages.getLanguageValue("received-complete-does-not-exist"),
-            message.getId());
+            Long.toUnsignedString(id));
           return;
         }
-        final var info5 = info4.get();
-        info5.getListener().ifPresent(listener -> listener.onReceive(this, info5, message));
-        info5.setDone(true);
-        if (info5.getIdOptional().isEmpty() || !this.complete(info5.getIdOptional().get())) {
+        info.getListener().ifPresent(listener -> listener.onReceive(this, info, message));
+        info.setDone(true);
+        if (!this.complete(id, from)) {
           SimpleTransactionManager.log.error(Languages.getLanguageValue("unable-to-complete-transaction"),
-            info5.getIdOptional().orElse(null));
+            Long.toUnsignedString(id));
           return;
         }
-        transactionInfo = Optional.of(info5);
+        if (info.getListener().filter(RequestListener.class::isInstance).isPresent()) {
+          return;
+        }
+        transactionInfo = info;
+      }
+      default -> {
+        return;
       }
-      default -> transactionInfo = Optional.empty();
     }
-    transactionInfo.ifPresent(info ->
-      this.synergy.process(message.getPayload(), info, from));
+    this.synergy.process(message.getPayload(), transactionInfo, from);
+  }
+
+  @NotNull
+  @Override
+  public CompletableFuture<Protocol.Transaction> request(@Nullable final String target,
+                                                        @NotNull final Commands.BaseCommand command) {
+    final var info = this.newInfo();
+    final var listener = new RequestListener(info);
+    info.setListener(listener);
+    final var message = Protocol.Transaction.newBuilder()
+      .setNumber(info.getId())
+      .setMode(Protocol.Transaction.Mode.CREATE)
+      .setPayload(command)
+      .setType(Protocols.typeOf(command))
+      .build();
+    if (!this.send(info.getId(), message, target)) {
+      this.cancel(info.getId(), target, true);
+    }
+    return listener.future;
   }
 
   @Override
-  public boolean send(@NotNull final String id, @NotNull final Protocol.Transaction message,
-                      @Nullable final String target) {
-    final var optional = this.getTransactionInfo(id);
-    if (optional.isEmpty()) {
-      SimpleTransactionManager.log.error(Languages.getLanguageValue("cannot-send-transaction", id));
+  public boolean send(final long id, @NotNull final Protocol.Transaction message, @Nullable final String target) {
+    final var info = this.find(id, target);
+    if (info == null) {
+      SimpleTransactionManager.log.error(Languages.getLanguageValue("cannot-send-transaction",
+        Long.toUnsignedString(id)));
       return false;
     }
-    final var info = optional.get();
-    if (!id.equals(message.getId())) {
-      SimpleTransactionManager.log.error(Languages.getLanguageValue("message-id-does-not-match", id));
+    if (id != message.getNumber()) {
+      SimpleTransactionManager.log.error(Languages.getLanguageValue("message-id-does-not-match",
+        Long.toUnsignedString(id)));
       return false;
     }
-    info.setTransaction(message);
+    final var wire = this.toWire(info, message);
+    info.setTransaction(wire);
     info.setTarget(target);
     info.getListener().ifPresent(listener -> listener.onSend(this, info));
     final var mode = message.getMode();
-    if (info.getIdOptional().isPresent() &&
-      (mode == Protocol.Transaction.Mode.COMPLETE || mode == Protocol.Transaction.Mode.SINGLE)) {
-      this.complete(info.getIdOptional().get());
+    if (mode == Protocol.Transaction.Mode.COMPLETE || mode == Protocol.Transaction.Mode.SINGLE) {
+      this.complete(id, target);
+    } else if (info.getCancelTask().isEmpty()) {
+      this.expire(info, target);
+    }
+    return this.synergy.send(wire, info.getTarget().orElse(null)).isWritten();
+  }
+
+  /**
+   * cancels the given create or continue transaction once it times out.
+   *
+   * @param info the info to expire.
+   * @param peer the peer to expire.
+   */
+  private void expire(@NotNull final SimpleTransactionInfo info, @Nullable final String peer) {
+    final var id = info.getId();
+    info.setCancelTask(this.synergy.getTimer().newTimeout(timeout -> {
+      SimpleTransactionManager.log.warn(Languages.getLanguageValue("transaction-cancelled",
+        Long.toUnsignedString(id)));
+      info.setExpired(true);
+      this.cancel(id, peer, true);
+    }, SynergyConfig.transactionTimeout, TimeUnit.SECONDS));
+  }
+
+  /**
+   * finds the transaction.
+   *
+   * @param id the id to find.
+   * @param peer the peer to find.
+   *
+   * @return transaction info.
+   */
+  @Nullable
+  private SimpleTransactionInfo find(final long id, @Nullable final String peer) {
+    if (this.isLocal(id)) {
+      return this.localTransactions.get(id);
+    }
+    final var transactions = this.remoteTransactions.get(SimpleTransactionManager.peerKey(peer));
+    return transactions == null
+      ? null
+      : transactions.get(id);
+  }
+
+  /**
+   * checks if the transaction was created by this side.
+   *
+   * @param id the id to check.
+   *
+   * @return {@code true} if the transaction was created by this side.
+   */
+  private boolean isLocal(final long id) {
+    return (id & 1L) == this.synergy.getSide();
+  }
+
+  /**
+   * obtains the transactions which were created by the given peer.
+   *
+   * @param peer the peer to obtain.
+   *
+   * @return transactions.
+   */
+  @NotNull
+  private StripedLong2ObjectMap<SimpleTransactionInfo> remoteTransactions(@Nullable final String peer) {
+    return this.remoteTransactions.computeIfAbsent(SimpleTransactionManager.peerKey(peer),
+      key -> new StripedLong2ObjectMap<>());
+  }
+
+  /**
+   * creates a new transaction info which is created by this side.
+   *
+   * @return a newly created transaction info.
+   */
+  @NotNull
+  private SimpleTransactionInfo newInfo() {
+    final var info = new SimpleTransactionInfo();
+    final var id = this.counter.incrementAndGet() << 1 | this.synergy.getSide();
+    info.setId(id);
+    this.localTransactions.put(id, info);
+    return info;
+  }
+
+  /**
+   * removes the transaction.
+   *
+   * @param id the id to remove.
+   * @param peer the peer to remove.
+   *
+   * @return removed transaction info.
+   */
+  @Nullable
+  private SimpleTransactionInfo remove(final long id, @Nullable final String peer) {
+    if (this.isLocal(id)) {
+      return this.localTransactions.remove(id);
+    }
+    final var transactions = this.remoteTransactions.get(SimpleTransactionManager.peerKey(peer));
+    return transactions == null
+      ? null
+      : transactions.remove(id);
+  }
+
+  /**
+   * adds the string id which legacy peers expect to the message.
+   *
+   * @param info the info to add.
+   * @param message the message to add.
+   *
+   * @return message to write.
+   */
+  @NotNull
+  private Protocol.Transaction toWire(@NotNull final SimpleTransactionInfo info,
+                                      @NotNull final Protocol.Transaction message) {
+    final var legacyId = info.getLegacyId();
+    if (legacyId.isPresent()) {
+      return message.toBuilder()
+        .setId(legacyId.get())
+        .build();
+    }
+    if (SynergyConfig.legacyProtocol && message.getId().isEmpty()) {
+      return message.toBuilder()
+        .setId(Long.toUnsignedString(message.getNumber()))
+        .build();
+    }
+    return message;
+  }
+
+  /**
+   * a class that represents listeners of the requests which complete the request's future.
+   */
+  @RequiredArgsConstructor
+  private static final class RequestListener implements TransactionListener {
+
+    /**
+     * the future.
+     */
+    private final CompletableFuture<Protocol.Transaction> future = new CompletableFuture<>();
+
+    /**
+     * the info.
+     */
+    @NotNull
+    private final SimpleTransactionInfo info;
+
+    @Override
+    public void onCancel(@NotNull final TransactionManager manager, @NotNull final TransactionInfo info) {
+      this.future.completeExceptionally(this.info.isExpired()
+        ? new TimeoutException(Long.toUnsignedString(info.getId()))
+        : new CancellationException(Long.toUnsignedString(info.getId())));
+    }
+
+    @Override
+    public void onReceive(@NotNull final TransactionManager manager, @NotNull final TransactionInfo info,
+                          @NotNull final Protocol.Transaction message) {
+      if (message.getMode() == Protocol.Transaction.Mode.COMPLETE) {
+        this.future.complete(message);
+      }
     }
-    return this.synergy.send(message, info.getTarget().orElse(null));
   }
 }
@@ -25,16 +25,23 @@
 
 package io.github.portlek.synergy.core.util;
 
+import com.google.protobuf.ByteString;
 import io.github.portlek.synergy.proto.Protocol;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.zip.Adler32;
-import java.util.zip.CheckedInputStream;
+import java.security.SecureRandom;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
 import org.jasypt.encryption.pbe.StandardPBEByteEncryptor;
 import org.jetbrains.annotations.NotNull;
@@ -44,6 +51,53 @@ import org.jetbrains.annotations.NotNull;
  */
 public final class AuthUtils {
 
+  /**
+   * the key obtention iterations.
+   */
+  private static final int KEY_OBTENTION_ITERATIONS = 4000;
+
+  /**
+   * the mac algorithm.
+   */
+  private static final String MAC_ALGORITHM = "HmacSHA256";
+
+  /**
+   * the mac instance of the current thread.
+   */
+  private static final ThreadLocal<Mac> MAC = ThreadLocal.withInitial(() -> {
+    try {
+      return Mac.getInstance(AuthUtils.MAC_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new AssertionError(e);
+    }
+  });
+
+  /**
+   * the nonce length.
+   */
+  private static final int NONCE_LENGTH = 16;
+
+  /**
+   * the random.
+   */
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  /**
+   * the session key length.
+   */
+  private static final int SESSION_KEY_LENGTH = 256;
+
+  /**
+   * the sha-1 digest of the current thread.
+   */
+  private static final ThreadLocal<MessageDigest> SHA1 = ThreadLocal.withInitial(() -> {
+    try {
+      return MessageDigest.getInstance("SHA-1");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new AssertionError(e);
+    }
+  });
+
   /**
    * ctor.
    */
@@ -60,15 +114,56 @@ public final class AuthUtils {
    */
   @NotNull
   public static String createHash(@NotNull final String key, final byte @NotNull [] message) {
-    final MessageDigest digest;
+    return Hex.encodeHexString(AuthUtils.digest(key, ByteBuffer.wrap(message)));
+  }
+
+  /**
+   * creates a binary mac of the given messages.
+   *
+   * @param key the key to create, see {@link #createMacKey(String)}.
+   * @param messages the messages to create, consumed incrementally.
+   *
+   * @return a newly created mac.
+   */
+  public static byte @NotNull [] createMac(@NotNull final SecretKey key, @NotNull final ByteBuffer... messages) {
+    final var mac = AuthUtils.MAC.get();
     try {
-      digest = MessageDigest.getInstance("SHA-1");
-    } catch (final NoSuchAlgorithmException e) {
-      throw new AssertionError(e);
+      mac.init(key);
+    } catch (final InvalidKeyException e) {
+      throw new IllegalArgumentException(e);
     }
-    digest.update(message);
-    digest.update(key.getBytes(StandardCharsets.UTF_8));
-    return Hex.encodeHexString(digest.digest());
+    for (final var message : messages) {
+      mac.update(message);
+    }
+    return mac.doFinal();
+  }
+
+  /**
+   * creates the mac key of the given password, so the password is validated and derived once by its owner.
+   *
+   * @param password the password to create.
+   *
+   * @return a newly created mac key.
+   *
+   * @throws IllegalArgumentException if the password is empty.
+   */
+  @NotNull
+  public static SecretKey createMacKey(@NotNull final String password) {
+    if (password.isEmpty()) {
+      throw new IllegalArgumentException("the password is empty");
+    }
+    return new SecretKeySpec(password.getBytes(StandardCharsets.UTF_8), AuthUtils.MAC_ALGORITHM);
+  }
+
+  /**
+   * creates a new random handshake nonce.
+   *
+   * @return a newly created nonce.
+   */
+  public static byte @NotNull [] createNonce() {
+    final var nonce = new byte[AuthUtils.NONCE_LENGTH];
+    AuthUtils.RANDOM.nextBytes(nonce);
+    return nonce;
   }
 
   /**
@@ -79,23 +174,11 @@ public final class AuthUtils {
    * @return a newly created package checksum.
    *
    * @throws IOException if an I/O error occurs.
+   * @see ChecksumUtils#checksum(Path)
    */
   @NotNull
   public static String createPackageChecksum(@NotNull final String filePath) throws IOException {
-    final var path = Path.of(filePath);
-    try (final var is = new CheckedInputStream(Files.newInputStream(path), new Adler32())) {
-      var buf = new byte[1024 * 1024];
-      var total = 0;
-      var c = 0;
-      while (total < 100 * 1024 * 1024 && (c = is.read(buf)) >= 0) {
-        total += c;
-      }
-      final var bb = ByteBuffer.allocate(Long.BYTES);
-      bb.putLong(path.toFile().length());
-      buf = bb.array();
-      is.getChecksum().update(buf, 0, buf.length);
-      return Long.toHexString(is.getChecksum().getValue());
-    }
+    return ChecksumUtils.checksum(Path.of(filePath));
   }
 
   /**
@@ -110,6 +193,57 @@ public final class AuthUtils {
     return AuthUtils.getEncryptor(key).decrypt(bytes);
   }
 
+  /**
+   * derives the key which encrypts the messages sent by the given side, so each direction has its own key.
+   *
+   * @param key the session key to derive, see {@link #deriveSessionKey(String, String, byte[], byte[])}.
+   * @param side the sender side to derive.
+   *
+   * @return a newly derived direction key.
+   */
+  @NotNull
+  public static SecretKey deriveDirectionKey(@NotNull final SecretKey key, final int side) {
+    try {
+      final var mac = Mac.getInstance(AuthUtils.MAC_ALGORITHM);
+      mac.init(new SecretKeySpec(key.getEncoded(), AuthUtils.MAC_ALGORITHM));
+      mac.update(("synergy-direction-" + side).getBytes(StandardCharsets.UTF_8));
+      return new SecretKeySpec(mac.doFinal(), "AES");
+    } catch (final GeneralSecurityException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  /**
+   * derives the session key of a connection.
+   * the expensive key derivation runs once per connection instead of once per message.
+   *
+   * @param key the key to derive.
+   * @param salt the salt to derive.
+   * @param clientNonce the client nonce to derive.
+   * @param serverNonce the server nonce to derive.
+   *
+   * @return a newly derived session key.
+   */
+  @NotNull
+  public static SecretKey deriveSessionKey(@NotNull final String key, @NotNull final String salt,
+                                           final byte @NotNull [] clientNonce,
+                                           final byte @NotNull [] serverNonce) {
+    try {
+      final var spec = new PBEKeySpec(key.toCharArray(), salt.getBytes(StandardCharsets.UTF_8),
+        AuthUtils.KEY_OBTENTION_ITERATIONS, AuthUtils.SESSION_KEY_LENGTH);
+      final var master = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256")
+        .generateSecret(spec)
+        .getEncoded();
+      final var mac = Mac.getInstance(AuthUtils.MAC_ALGORITHM);
+      mac.init(new SecretKeySpec(master, AuthUtils.MAC_ALGORITHM));
+      mac.update(clientNonce);
+      mac.update(serverNonce);
+      return new SecretKeySpec(mac.doFinal(), "AES");
+    } catch (final GeneralSecurityException e) {
+      throw new AssertionError(e);
+    }
+  }
+
   /**
    * encrypts the given bytes with the key.
    *
@@ -147,7 +281,7 @@ public final class AuthUtils {
    */
   public static boolean validateHash(@NotNull final String hash, @NotNull final String key,
                                      final byte @NotNull [] message) {
-    return hash.equals(AuthUtils.createHash(key, message));
+    return AuthUtils.validateHash(hash, AuthUtils.digest(key, ByteBuffer.wrap(message)));
   }
 
   /**
@@ -159,7 +293,53 @@ public final class AuthUtils {
    * @return {@code true} if the hash is valid.
    */
   public static boolean validateHash(@NotNull final Protocol.AuthenticatedMessage payload, @NotNull final String key) {
-    return AuthUtils.validateHash(payload.getHash(), key, payload.getPayload().toByteArray());
+    return AuthUtils.validateHash(payload.getHash(),
+      AuthUtils.digest(key, payload.getPayload().asReadOnlyByteBuffer()));
+  }
+
+  /**
+   * validates the given mac in constant time.
+   *
+   * @param mac the mac to validate.
+   * @param key the key to validate.
+   * @param messages the messages to validate.
+   *
+   * @return {@code true} if the mac is valid.
+   */
+  public static boolean validateMac(@NotNull final ByteString mac, @NotNull final SecretKey key,
+                                    @NotNull final ByteBuffer... messages) {
+    return MessageDigest.isEqual(mac.toByteArray(), AuthUtils.createMac(key, messages));
+  }
+
+  /**
+   * digests the message and the key with the sha-1 digest of the current thread.
+   *
+   * @param key the key to digest.
+   * @param message the message to digest.
+   *
+   * @return digested bytes.
+   */
+  private static byte @NotNull [] digest(@NotNull final String key, @NotNull final ByteBuffer message) {
+    final var digest = AuthUtils.SHA1.get();
+    digest.update(message);
+    digest.update(key.getBytes(StandardCharsets.UTF_8));
+    return digest.digest();
+  }
+
+  /**
+   * validates the given hex hash against the digest in constant time.
+   *
+   * @param hash the hash to validate.
+   * @param digest the digest to validate.
+   *
+   * @return {@code true} if the hash is valid.
+   */
+  private static boolean validateHash(@NotNull final String hash, final byte @NotNull [] digest) {
+    try {
+      return MessageDigest.isEqual(Hex.decodeHex(hash), digest);
+    } catch (final DecoderException e) {
+      return false;
+    }
   }
 
   /**
@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.netty.util.internal.PlatformDependent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import lombok.RequiredArgsConstructor;
+import net.openhft.hashing.LongTupleHashFunction;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that contains utility methods for package checksums.
+ * <p>
+ * the checksum is the 128-bit xxh3 hash of the hashes of the file's windows and its size. the windows are
+ * memory-mapped, so the bytes are hashed straight from the page cache without being copied to the heap, and unmapped
+ * right after, so the file can be deleted or replaced on every platform. xxh3 hashes about twice as fast as murmur3
+ * on the same windows, see {@code ChecksumBenchmark}. the checksums of the most recently used files are cached by
+ * path and recomputed only when the file's size or last modified time changes.
+ */
+public final class ChecksumUtils {
+
+  /**
+   * the cached checksums by path.
+   */
+  private static final Cache<Path, Entry> CACHE = CacheBuilder.newBuilder()
+    .maximumSize(1024L)
+    .build();
+
+  /**
+   * the hash function.
+   */
+  private static final LongTupleHashFunction HASH = LongTupleHashFunction.xx128();
+
+  /**
+   * the size of the windows which are mapped at once.
+   */
+  private static final long WINDOW_SIZE = 64L * 1024L * 1024L;
+
+  /**
+   * ctor.
+   */
+  private ChecksumUtils() {
+  }
+
+  /**
+   * obtains the checksum of the given file, from the cache if the file didn't change.
+   *
+   * @param path the path to obtain.
+   *
+   * @return checksum in hex.
+   *
+   * @throws IOException if the file couldn't be read.
+   */
+  @NotNull
+  public static String checksum(@NotNull final Path path) throws IOException {
+    final var key = path.toAbsolutePath().normalize();
+    final var attributes = Files.readAttributes(key, BasicFileAttributes.class);
+    final var cached = ChecksumUtils.CACHE.getIfPresent(key);
+    if (cached != null && cached.matches(attributes)) {
+      return cached.checksum;
+    }
+    final var checksum = ChecksumUtils.compute(key);
+    ChecksumUtils.CACHE.put(key, new Entry(attributes.lastModifiedTime(), attributes.size(), checksum));
+    return checksum;
+  }
+
+  /**
+   * computes the checksum of the given file.
+   *
+   * @param path the path to compute.
+   *
+   * @return checksum in hex.
+   *
+   * @throws IOException if the file couldn't be read.
+   */
+  @NotNull
+  public static String compute(@NotNull final Path path) throws IOException {
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final var size = channel.size();
+      final var windows = (int) ((size + ChecksumUtils.WINDOW_SIZE - 1L) / ChecksumUtils.WINDOW_SIZE);
+      final var hashes = ByteBuffer.allocate(windows * 2 * Long.BYTES + Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      final var hash = new long[2];
+      for (var position = 0L; position < size; position += ChecksumUtils.WINDOW_SIZE) {
+        final var window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+          Math.min(ChecksumUtils.WINDOW_SIZE, size - position));
+        try {
+          ChecksumUtils.hash(window, hash);
+        } finally {
+          ChecksumUtils.unmap(window);
+        }
+        hashes.putLong(hash[0]).putLong(hash[1]);
+      }
+      hashes.putLong(size).flip();
+      ChecksumUtils.HASH.hashBytes(hashes, hash);
+      return String.format("%016x%016x", hash[0], hash[1]);
+    }
+  }
+
+  /**
+   * unmaps the given buffer right away instead of waiting for the garbage collector, so its file can be deleted.
+   * <p>
+   * the buffer must not be used after it's unmapped.
+   *
+   * @param buffer the buffer to unmap.
+   */
+  public static void unmap(@NotNull final MappedByteBuffer buffer) {
+    PlatformDependent.freeDirectBuffer(buffer);
+  }
+
+  /**
+   * hashes the given mapped window from its address, the hash function can't read direct buffers on its own since
+   * java 16 without opening {@code sun.nio.ch}.
+   *
+   * @param window the window to hash.
+   * @param hash the hash to fill.
+   */
+  private static void hash(@NotNull final MappedByteBuffer window, final long @NotNull [] hash) {
+    if (PlatformDependent.hasUnsafe()) {
+      ChecksumUtils.HASH.hashMemory(PlatformDependent.directBufferAddress(window), window.remaining(), hash);
+    } else {
+      ChecksumUtils.HASH.hashBytes(window, hash);
+    }
+  }
+
+  /**
+   * a class that represents cached checksums.
+   */
+  @RequiredArgsConstructor
+  private static final class Entry {
+
+    /**
+     * the last modified time.
+     */
+    @NotNull
+    private final FileTime lastModified;
+
+    /**
+     * the size.
+     */
+    private final long size;
+
+    /**
+     * the checksum.
+     */
+    @NotNull
+    private final String checksum;
+
+    /**
+     * checks if the given attributes belong to the same file contents.
+     *
+     * @param attributes the attributes to check.
+     *
+     * @return {@code true} if the size and the last modified time didn't change.
+     */
+    private boolean matches(@NotNull final BasicFileAttributes attributes) {
+      return this.size == attributes.size() && this.lastModified.equals(attributes.lastModifiedTime());
+    }
+  }
+}
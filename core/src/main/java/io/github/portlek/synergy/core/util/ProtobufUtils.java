@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.util;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that contains utility methods for protobuf.
+ */
+public final class ProtobufUtils {
+
+  /**
+   * ctor.
+   */
+  private ProtobufUtils() {
+  }
+
+  /**
+   * parses the given bytes with aliasing, so the bytes fields of the message reference the given bytes instead of
+   * copying them.
+   * <p>
+   * the bytes must not be modified after parsing.
+   *
+   * @param parser the parser to parse.
+   * @param bytes the bytes to parse.
+   * @param <T> type of the message.
+   *
+   * @return parsed message.
+   *
+   * @throws InvalidProtocolBufferException if the bytes are not a valid message.
+   */
+  @NotNull
+  public static <T extends MessageLite> T parseAliased(@NotNull final Parser<T> parser, final byte @NotNull [] bytes)
+    throws InvalidProtocolBufferException {
+    return ProtobufUtils.parseAliased(parser, UnsafeByteOperations.unsafeWrap(bytes));
+  }
+
+  /**
+   * parses the given bytes with aliasing, so the bytes fields of the message reference the given bytes instead of
+   * copying them.
+   *
+   * @param parser the parser to parse.
+   * @param bytes the bytes to parse.
+   * @param <T> type of the message.
+   *
+   * @return parsed message.
+   *
+   * @throws InvalidProtocolBufferException if the bytes are not a valid message.
+   */
+  @NotNull
+  public static <T extends MessageLite> T parseAliased(@NotNull final Parser<T> parser, @NotNull final ByteString bytes)
+    throws InvalidProtocolBufferException {
+    final var input = bytes.newCodedInput();
+    input.enableAliasing(true);
+    final var message = parser.parseFrom(input);
+    input.checkLastTagWas(0);
+    return message;
+  }
+}
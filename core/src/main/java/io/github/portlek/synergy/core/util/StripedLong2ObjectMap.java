@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.util;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents thread-safe primitive long keyed maps.
+ * <p>
+ * keys are spread over lock striped open hash maps, so threads working on different stripes don't contend and no
+ * key is boxed.
+ *
+ * @param <V> type of the values.
+ */
+public final class StripedLong2ObjectMap<V> {
+
+  /**
+   * the stripe count, must be a power of two.
+   */
+  private static final int STRIPES = 16;
+
+  /**
+   * the stripes.
+   */
+  private final Long2ObjectOpenHashMap<V>[] stripes;
+
+  /**
+   * ctor.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public StripedLong2ObjectMap() {
+    this.stripes = (Long2ObjectOpenHashMap<V>[]) new Long2ObjectOpenHashMap[StripedLong2ObjectMap.STRIPES];
+    for (var index = 0; index < StripedLong2ObjectMap.STRIPES; index++) {
+      this.stripes[index] = new Long2ObjectOpenHashMap<>();
+    }
+  }
+
+  /**
+   * checks if the map contains the given key.
+   *
+   * @param key the key to check.
+   *
+   * @return {@code true} if the map contains the key.
+   */
+  public boolean containsKey(final long key) {
+    final var stripe = this.stripe(key);
+    synchronized (stripe) {
+      return stripe.containsKey(key);
+    }
+  }
+
+  /**
+   * obtains the value of the given key.
+   *
+   * @param key the key to get.
+   *
+   * @return value.
+   */
+  @Nullable
+  public V get(final long key) {
+    final var stripe = this.stripe(key);
+    synchronized (stripe) {
+      return stripe.get(key);
+    }
+  }
+
+  /**
+   * puts the given value.
+   *
+   * @param key the key to put.
+   * @param value the value to put.
+   *
+   * @return previous value.
+   */
+  @Nullable
+  public V put(final long key, @NotNull final V value) {
+    final var stripe = this.stripe(key);
+    synchronized (stripe) {
+      return stripe.put(key, value);
+    }
+  }
+
+  /**
+   * puts the given value if the key is absent.
+   *
+   * @param key the key to put.
+   * @param value the value to put.
+   *
+   * @return current value, {@code null} if the value was put.
+   */
+  @Nullable
+  public V putIfAbsent(final long key, @NotNull final V value) {
+    final var stripe = this.stripe(key);
+    synchronized (stripe) {
+      return stripe.putIfAbsent(key, value);
+    }
+  }
+
+  /**
+   * removes the given key.
+   *
+   * @param key the key to remove.
+   *
+   * @return removed value.
+   */
+  @Nullable
+  public V remove(final long key) {
+    final var stripe = this.stripe(key);
+    synchronized (stripe) {
+      return stripe.remove(key);
+    }
+  }
+
+  /**
+   * counts the entries.
+   *
+   * @return entry count.
+   */
+  public int size() {
+    var size = 0;
+    for (final var stripe : this.stripes) {
+      synchronized (stripe) {
+        size += stripe.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * obtains the stripe of the given key.
+   *
+   * @param key the key to obtain.
+   *
+   * @return stripe.
+   */
+  @NotNull
+  private Long2ObjectOpenHashMap<V> stripe(final long key) {
+    return this.stripes[(int) HashCommon.mix(key) & StripedLong2ObjectMap.STRIPES - 1];
+  }
+}
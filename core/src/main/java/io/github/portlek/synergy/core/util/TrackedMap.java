@@ -0,0 +1,499 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.util;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents maps which track the keys changed until the receiver acknowledges them.
+ * <p>
+ * every key gets a slot, values live in a slot-indexed array and changed slots are recorded in a bitset plus a list
+ * of dirty slots. so mutations don't allocate once the arrays have grown and {@link #drain(BiConsumer, Consumer)}
+ * only visits the changed keys. each drain starts a new epoch, a changed key stays dirty until an epoch which
+ * contains it is passed to {@link #acknowledge(long)}, so {@link #drainAll(BiConsumer, Consumer)} can send the
+ * changes of a lost drain again. a removed key keeps its slot until its removal is acknowledged.
+ * <p>
+ * the map is thread-safe, iterators are weakly consistent. null keys and values are not permitted.
+ *
+ * @param <K> type of the keys.
+ * @param <V> type of the values.
+ */
+public final class TrackedMap<K, V> extends AbstractMap<K, V> {
+
+  /**
+   * the dirty slots.
+   */
+  private final IntArrayList dirtySlots = new IntArrayList();
+
+  /**
+   * the entry set.
+   */
+  private final Set<Map.Entry<K, V>> entrySet = new EntrySet();
+
+  /**
+   * the free slots.
+   */
+  private final IntArrayList freeSlots = new IntArrayList();
+
+  /**
+   * the slots.
+   */
+  private final Object2IntOpenHashMap<K> slots = new Object2IntOpenHashMap<>();
+
+  /**
+   * the epochs which the slots changed in.
+   */
+  private long[] changedIn = new long[16];
+
+  /**
+   * the dirty bitset.
+   */
+  private long[] dirty = new long[1];
+
+  /**
+   * the epoch.
+   */
+  private long epoch;
+
+  /**
+   * the keys.
+   */
+  private Object[] keys = new Object[16];
+
+  /**
+   * the next slot.
+   */
+  private int nextSlot;
+
+  /**
+   * the size.
+   */
+  private int size;
+
+  /**
+   * the values.
+   */
+  private Object[] values = new Object[16];
+
+  /**
+   * ctor.
+   */
+  public TrackedMap() {
+    this.slots.defaultReturnValue(-1);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param map the map to copy.
+   */
+  public TrackedMap(@NotNull final Map<? extends K, ? extends V> map) {
+    this();
+    this.putAll(map);
+  }
+
+  @Override
+  public synchronized void clear() {
+    for (var slot = 0; slot < this.nextSlot; slot++) {
+      if (this.values[slot] != null) {
+        this.values[slot] = null;
+        this.markDirty(slot);
+      }
+    }
+    this.size = 0;
+  }
+
+  @Override
+  public synchronized boolean containsKey(final Object key) {
+    final var slot = this.slots.getInt(key);
+    return slot >= 0 && this.values[slot] != null;
+  }
+
+  @NotNull
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    return this.entrySet;
+  }
+
+  @Nullable
+  @Override
+  public synchronized V get(final Object key) {
+    final var slot = this.slots.getInt(key);
+    return slot < 0
+      ? null
+      : this.value(slot);
+  }
+
+  @Nullable
+  @Override
+  public synchronized V put(@NotNull final K key, @NotNull final V value) {
+    Objects.requireNonNull(key, "key");
+    Objects.requireNonNull(value, "value");
+    var slot = this.slots.getInt(key);
+    if (slot < 0) {
+      slot = this.allocate(key);
+    }
+    final var previous = this.value(slot);
+    this.values[slot] = value;
+    if (previous == null) {
+      this.size++;
+    }
+    if (!value.equals(previous)) {
+      this.markDirty(slot);
+    }
+    return previous;
+  }
+
+  @Nullable
+  @Override
+  public synchronized V remove(final Object key) {
+    final var slot = this.slots.getInt(key);
+    if (slot < 0) {
+      return null;
+    }
+    final var previous = this.value(slot);
+    if (previous != null) {
+      this.values[slot] = null;
+      this.size--;
+      this.markDirty(slot);
+    }
+    return previous;
+  }
+
+  @Override
+  public synchronized int size() {
+    return this.size;
+  }
+
+  /**
+   * acknowledges the changes up to the given epoch, they are not drained again.
+   *
+   * @param epoch the epoch to acknowledge.
+   */
+  public synchronized void acknowledge(final long epoch) {
+    var kept = 0;
+    for (var index = 0; index < this.dirtySlots.size(); index++) {
+      final var slot = this.dirtySlots.getInt(index);
+      if (this.changedIn[slot] > epoch) {
+        this.dirtySlots.set(kept++, slot);
+        continue;
+      }
+      this.dirty[slot >>> 6] &= ~(1L << slot);
+      if (this.values[slot] == null) {
+        this.slots.removeInt(this.keys[slot]);
+        this.keys[slot] = null;
+        this.freeSlots.add(slot);
+      }
+    }
+    this.dirtySlots.size(kept);
+  }
+
+  /**
+   * drains the keys changed since the last drain.
+   *
+   * @param changed the consumer of the keys which were added or updated.
+   * @param removed the consumer of the keys which were removed.
+   *
+   * @return the epoch of the drained changes.
+   */
+  public synchronized long drain(@NotNull final BiConsumer<K, V> changed, @NotNull final Consumer<K> removed) {
+    return this.drain(changed, removed, false);
+  }
+
+  /**
+   * drains the keys changed since the last acknowledged epoch, including the ones which were drained before.
+   *
+   * @param changed the consumer of the keys which were added or updated.
+   * @param removed the consumer of the keys which were removed.
+   *
+   * @return the epoch of the drained changes.
+   */
+  public synchronized long drainAll(@NotNull final BiConsumer<K, V> changed, @NotNull final Consumer<K> removed) {
+    return this.drain(changed, removed, true);
+  }
+
+  /**
+   * checks if any key changed since the last acknowledged epoch.
+   *
+   * @return {@code true} if any key changed.
+   */
+  public synchronized boolean isDirty() {
+    return !this.dirtySlots.isEmpty();
+  }
+
+  /**
+   * marks the given key as changed, used when a value was mutated in place.
+   *
+   * @param key the key to mark.
+   */
+  public synchronized void markDirty(@NotNull final K key) {
+    final var slot = this.slots.getInt(key);
+    if (slot >= 0 && this.values[slot] != null) {
+      this.markDirty(slot);
+    }
+  }
+
+  /**
+   * allocates a slot for the given key.
+   *
+   * @param key the key to allocate.
+   *
+   * @return allocated slot.
+   */
+  private int allocate(@NotNull final K key) {
+    final int slot;
+    if (this.freeSlots.isEmpty()) {
+      slot = this.nextSlot++;
+      if (slot == this.keys.length) {
+        this.keys = Arrays.copyOf(this.keys, slot << 1);
+        this.values = Arrays.copyOf(this.values, slot << 1);
+        this.changedIn = Arrays.copyOf(this.changedIn, slot << 1);
+      }
+      if (slot >>> 6 == this.dirty.length) {
+        this.dirty = Arrays.copyOf(this.dirty, this.dirty.length << 1);
+      }
+    } else {
+      slot = this.freeSlots.popInt();
+    }
+    this.keys[slot] = key;
+    this.slots.put(key, slot);
+    return slot;
+  }
+
+  /**
+   * drains the dirty keys.
+   *
+   * @param changed the consumer of the keys which were added or updated.
+   * @param removed the consumer of the keys which were removed.
+   * @param all the all, drains the keys which were drained before too.
+   *
+   * @return the epoch of the drained changes.
+   */
+  private long drain(@NotNull final BiConsumer<K, V> changed, @NotNull final Consumer<K> removed,
+                     final boolean all) {
+    final var next = this.epoch + 1L;
+    for (var index = 0; index < this.dirtySlots.size(); index++) {
+      final var slot = this.dirtySlots.getInt(index);
+      if (!all && this.changedIn[slot] != next) {
+        continue;
+      }
+      final var value = this.value(slot);
+      if (value == null) {
+        removed.accept(this.key(slot));
+      } else {
+        changed.accept(this.key(slot), value);
+      }
+    }
+    this.epoch = next;
+    return next;
+  }
+
+  /**
+   * obtains the entry at the given slot.
+   *
+   * @param slot the slot to obtain.
+   *
+   * @return entry, {@code null} if the slot is empty.
+   */
+  @Nullable
+  private synchronized Map.Entry<K, V> entryAt(final int slot) {
+    if (slot >= this.nextSlot) {
+      return null;
+    }
+    final var value = this.value(slot);
+    return value == null
+      ? null
+      : new TrackedEntry(this.key(slot), value);
+  }
+
+  /**
+   * obtains the key at the given slot.
+   *
+   * @param slot the slot to obtain.
+   *
+   * @return key.
+   */
+  @SuppressWarnings("unchecked")
+  private K key(final int slot) {
+    return (K) this.keys[slot];
+  }
+
+  /**
+   * marks the given slot as changed.
+   *
+   * @param slot the slot to mark.
+   */
+  private void markDirty(final int slot) {
+    this.changedIn[slot] = this.epoch + 1L;
+    final var word = slot >>> 6;
+    final var bit = 1L << slot;
+    if ((this.dirty[word] & bit) == 0L) {
+      this.dirty[word] |= bit;
+      this.dirtySlots.add(slot);
+    }
+  }
+
+  /**
+   * obtains the slot count.
+   *
+   * @return slot count.
+   */
+  private synchronized int slotCount() {
+    return this.nextSlot;
+  }
+
+  /**
+   * obtains the value at the given slot.
+   *
+   * @param slot the slot to obtain.
+   *
+   * @return value.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private V value(final int slot) {
+    return (V) this.values[slot];
+  }
+
+  /**
+   * a class that represents the entry set of the map.
+   */
+  private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+    @NotNull
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return TrackedMap.this.size();
+    }
+  }
+
+  /**
+   * a class that represents weakly consistent iterators of the entry set.
+   */
+  private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+    /**
+     * the last returned entry.
+     */
+    @Nullable
+    private Map.Entry<K, V> last;
+
+    /**
+     * the next entry.
+     */
+    @Nullable
+    private Map.Entry<K, V> next;
+
+    /**
+     * the slot.
+     */
+    private int slot;
+
+    /**
+     * ctor.
+     */
+    private EntryIterator() {
+      this.advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.next != null;
+    }
+
+    @Override
+    public Map.Entry<K, V> next() {
+      final var entry = this.next;
+      if (entry == null) {
+        throw new NoSuchElementException();
+      }
+      this.last = entry;
+      this.advance();
+      return entry;
+    }
+
+    @Override
+    public void remove() {
+      final var entry = this.last;
+      if (entry == null) {
+        throw new IllegalStateException();
+      }
+      this.last = null;
+      TrackedMap.this.remove(entry.getKey());
+    }
+
+    /**
+     * moves to the next present slot.
+     */
+    private void advance() {
+      this.next = null;
+      final var count = TrackedMap.this.slotCount();
+      while (this.next == null && this.slot < count) {
+        this.next = TrackedMap.this.entryAt(this.slot++);
+      }
+    }
+  }
+
+  /**
+   * a class that represents entries that write through to the map.
+   */
+  private final class TrackedEntry extends AbstractMap.SimpleEntry<K, V> {
+
+    /**
+     * ctor.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    private TrackedEntry(@NotNull final K key, @NotNull final V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(final V value) {
+      super.setValue(value);
+      return TrackedMap.this.put(this.getKey(), value);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.coordinator;
+
+import io.github.portlek.synergy.core.util.ChecksumUtils;
+import io.github.portlek.synergy.proto.P3;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class PackageCacheTest {
+
+  private static PackageCache cache(final Path folder, final long maxSize) throws IOException {
+    final var sources = Files.createDirectories(folder.resolve("sources"));
+    Files.write(sources.resolve("first"), new byte[100]);
+    Files.write(sources.resolve("second"), new byte[100]);
+    return new PackageCache(folder.resolve("cache"), maxSize, Runnable::run, meta -> {
+      try {
+        return CompletableFuture.completedFuture(ChecksumUtils.checksum(sources.resolve(meta.getId())));
+      } catch (final IOException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }, (meta, path, base) -> {
+      try {
+        Files.createDirectories(path.getParent());
+        Files.copy(sources.resolve(meta.getId()), path, StandardCopyOption.REPLACE_EXISTING);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return CompletableFuture.completedFuture(path);
+    });
+  }
+
+  private static P3.P3Meta meta(final String id) {
+    return P3.P3Meta.newBuilder()
+      .setId(id)
+      .setVersion("1")
+      .build();
+  }
+
+  @Test
+  void pinnedPackagesAreNotEvicted(@TempDir final Path folder) throws IOException {
+    final var cache = PackageCacheTest.cache(folder, 150L);
+    final var first = cache.get(PackageCacheTest.meta("first")).join();
+    final var second = cache.get(PackageCacheTest.meta("second")).join();
+    new Assertion<>(
+      "Pinned package was evicted!",
+      Files.exists(first),
+      new IsEqual<>(true)
+    ).affirm();
+    cache.release(first);
+    new Assertion<>(
+      "Released package was not evicted!",
+      Files.exists(first),
+      new IsEqual<>(false)
+    ).affirm();
+    new Assertion<>(
+      "Package which is still pinned was evicted!",
+      Files.exists(second),
+      new IsEqual<>(true)
+    ).affirm();
+  }
+
+  @Test
+  void partFilesAreCounted(@TempDir final Path folder) throws IOException {
+    final var packages = Files.createDirectories(folder.resolve("cache").resolve("first"));
+    Files.write(packages.resolve("1-checksum.p3.part"), new byte[64]);
+    new Assertion<>(
+      "Part file was not counted in the size!",
+      PackageCacheTest.cache(folder, 1024L).getSize(),
+      new IsEqual<>(64L)
+    ).affirm();
+  }
+}
@@ -0,0 +1,338 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.coordinator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.github.portlek.synergy.api.Package;
+import io.github.portlek.synergy.api.PackageContext;
+import io.github.portlek.synergy.api.PackageManager;
+import io.github.portlek.synergy.api.PackageStep;
+import io.github.portlek.synergy.api.PackageStepConfig;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.hamcrest.core.IsEqual;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class PackageResolverTest {
+
+  private static PackageResolver resolver(final List<String> fetched, final List<Path> released) {
+    return new PackageResolver(Runnable::run, pack -> {
+      fetched.add(pack.getId());
+      return CompletableFuture.completedFuture(Path.of(pack.getId() + ".p3"));
+    }, released::add);
+  }
+
+  private static PackageContext context() {
+    return new PackageContext() {
+      @NotNull
+      @Override
+      public List<Package> getDependencyChain() {
+        return List.of();
+      }
+
+      @NotNull
+      @Override
+      public File getDestination() {
+        return new File("server");
+      }
+
+      @NotNull
+      @Override
+      public PackageManager getPackageManager() {
+        return new PackageManager() {
+        };
+      }
+
+      @NotNull
+      @Override
+      public Map<String, String> getProperties() {
+        return Map.of();
+      }
+
+      @NotNull
+      @Override
+      public Map<String, Integer> getResources() {
+        return Map.of();
+      }
+
+      @NotNull
+      @Override
+      public Object getUser() {
+        return this;
+      }
+    };
+  }
+
+  private static PackageStepConfig step(@Nullable final String destination, final Predicate<Package> step) {
+    final var config = JsonNodeFactory.instance.objectNode();
+    if (destination != null) {
+      config.put("destination", destination);
+    }
+    final var packageStep = new PackageStep() {
+      @NotNull
+      @Override
+      public String getId() {
+        return "test";
+      }
+
+      @Override
+      public boolean runStep(@NotNull final Package pack, @NotNull final PackageContext context,
+                             @NotNull final JsonNode json) {
+        return step.test(pack);
+      }
+    };
+    return new PackageStepConfig() {
+      @NotNull
+      @Override
+      public JsonNode getConfig() {
+        return config;
+      }
+
+      @NotNull
+      @Override
+      public PackageStep getStep() {
+        return packageStep;
+      }
+    };
+  }
+
+  private static Package pack(final String id, final List<Package> dependencies, final PackageStepConfig... steps) {
+    return new Package() {
+      @NotNull
+      @Override
+      public Set<String> getAttributes() {
+        return Set.of();
+      }
+
+      @NotNull
+      @Override
+      public String getChecksum() {
+        return "";
+      }
+
+      @NotNull
+      @Override
+      public List<Package> getDependencies() {
+        return dependencies;
+      }
+
+      @NotNull
+      @Override
+      public List<PackageStepConfig> getExecutionSteps() {
+        return List.of(steps);
+      }
+
+      @NotNull
+      @Override
+      public String getId() {
+        return id;
+      }
+
+      @NotNull
+      @Override
+      public String getLocalPath() {
+        return "";
+      }
+
+      @NotNull
+      @Override
+      public List<PackageStepConfig> getProvisionSteps() {
+        return List.of(steps);
+      }
+
+      @NotNull
+      @Override
+      public Map<String, Integer> getResources() {
+        return Map.of();
+      }
+
+      @NotNull
+      @Override
+      public List<PackageStepConfig> getShutdownSteps() {
+        return List.of(steps);
+      }
+
+      @NotNull
+      @Override
+      public Map<String, String> getStrings() {
+        return Map.of();
+      }
+
+      @NotNull
+      @Override
+      public String getVersion() {
+        return "1";
+      }
+
+      @Override
+      public boolean isResolved() {
+        return false;
+      }
+    };
+  }
+
+  private static PackageStepConfig record(final List<String> ran) {
+    return PackageResolverTest.step(null, pack -> ran.add(pack.getId()));
+  }
+
+  @Test
+  void cyclesAreRejected() {
+    final var dependencies = new ArrayList<Package>();
+    final var first = PackageResolverTest.pack("first", dependencies);
+    dependencies.add(PackageResolverTest.pack("second", List.of(first)));
+    new Assertion<>(
+      "Circular dependency was not rejected!",
+      PackageResolverTest.resolver(new ArrayList<>(), new ArrayList<>())
+        .provision(first, PackageResolverTest.context())
+        .isCompletedExceptionally(),
+      new IsEqual<>(true)
+    ).affirm();
+  }
+
+  @Test
+  void sharedDependenciesAreFetchedAndRunOnce() {
+    final var ran = Collections.synchronizedList(new ArrayList<String>());
+    final var paths = Collections.synchronizedList(new ArrayList<String>());
+    final var fetched = new ArrayList<String>();
+    final var released = new ArrayList<Path>();
+    final var step = PackageResolverTest.step(null, pack -> ran.add(pack.getId()) && paths.add(pack.getLocalPath()));
+    final var shared = PackageResolverTest.pack("shared", List.of(), step);
+    final var root = PackageResolverTest.pack("root", List.of(
+      PackageResolverTest.pack("left", List.of(shared), step),
+      PackageResolverTest.pack("right", List.of(shared), step)), step);
+    final var result = PackageResolverTest.resolver(fetched, released)
+      .provision(root, PackageResolverTest.context())
+      .join();
+    new Assertion<>(
+      "Provision failed!",
+      result,
+      new IsEqual<>(true)
+    ).affirm();
+    new Assertion<>(
+      "Shared dependency did not run once before its dependents!",
+      List.of(ran.get(0), ran.get(3), ran.size()),
+      new IsEqual<>(List.of("shared", "root", 4))
+    ).affirm();
+    new Assertion<>(
+      "Shared dependency was not fetched once!",
+      fetched.stream().filter("shared"::equals).count(),
+      new IsEqual<>(1L)
+    ).affirm();
+    new Assertion<>(
+      "Steps did not see the fetched package!",
+      paths.get(0),
+      new IsEqual<>("shared.p3")
+    ).affirm();
+    new Assertion<>(
+      "Fetched packages were not released!",
+      released.size(),
+      new IsEqual<>(4)
+    ).affirm();
+  }
+
+  @Test
+  void shutdownRunsDependentsFirst() {
+    final var ran = Collections.synchronizedList(new ArrayList<String>());
+    final var step = PackageResolverTest.record(ran);
+    final var root = PackageResolverTest.pack("root", List.of(
+      PackageResolverTest.pack("middle", List.of(PackageResolverTest.pack("leaf", List.of(), step)), step)), step);
+    PackageResolverTest.resolver(new ArrayList<>(), new ArrayList<>())
+      .shutdown(root, PackageResolverTest.context())
+      .join();
+    new Assertion<>(
+      "Shutdown steps did not run from the dependents to the dependencies!",
+      ran,
+      new IsEqual<>(List.of("root", "middle", "leaf"))
+    ).affirm();
+  }
+
+  @Test
+  void overlappingDestinationsAreSerialized() throws InterruptedException {
+    final var executor = Executors.newFixedThreadPool(2);
+    try {
+      final var active = new AtomicInteger();
+      final var overlaps = new AtomicInteger();
+      final Predicate<Package> write = pack -> {
+        if (active.incrementAndGet() > 1) {
+          overlaps.incrementAndGet();
+        }
+        try {
+          Thread.sleep(50L);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        active.decrementAndGet();
+        return true;
+      };
+      final var latch = new CountDownLatch(2);
+      final Predicate<Package> meet = pack -> {
+        latch.countDown();
+        try {
+          return latch.await(5L, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      };
+      final var root = PackageResolverTest.pack("root", List.of(
+        PackageResolverTest.pack("world", List.of(), PackageResolverTest.step("world", write),
+          PackageResolverTest.step(null, meet)),
+        PackageResolverTest.pack("data", List.of(), PackageResolverTest.step("world/data", write),
+          PackageResolverTest.step(null, meet))));
+      final var resolver = new PackageResolver(executor, pack -> CompletableFuture.completedFuture(Path.of("")),
+        path -> {
+        });
+      new Assertion<>(
+        "Steps without a destination did not run side by side!",
+        resolver.execute(root, PackageResolverTest.context()).join(),
+        new IsEqual<>(true)
+      ).affirm();
+      new Assertion<>(
+        "Steps with overlapping destinations ran at the same time!",
+        overlaps.get(),
+        new IsEqual<>(0)
+      ).affirm();
+    } finally {
+      executor.shutdownNow();
+      executor.awaitTermination(5L, TimeUnit.SECONDS);
+    }
+  }
+}
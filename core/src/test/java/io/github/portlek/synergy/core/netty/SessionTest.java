@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.netty;
+
+import io.github.portlek.synergy.proto.Protocol;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import javax.crypto.spec.SecretKeySpec;
+import org.hamcrest.core.IsEqual;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+final class SessionTest {
+
+  @NotNull
+  private static ByteBuf encrypt(@NotNull final Session session, final long number) throws IOException {
+    return session.encrypt(UnpooledByteBufAllocator.DEFAULT, Protocol.Transaction.newBuilder()
+      .setNumber(number)
+      .build());
+  }
+
+  @NotNull
+  private static SecretKeySpec key() {
+    return new SecretKeySpec(new byte[32], "AES");
+  }
+
+  @Test
+  void decryptsFramesOfThePeer() throws Exception {
+    final var coordinator = Session.coordinator("test", SessionTest.key());
+    final var network = Session.network("test", SessionTest.key());
+    new Assertion<>(
+      "Frame of the peer was not decrypted!",
+      Protocol.Transaction.parseFrom(network.decrypt(SessionTest.encrypt(coordinator, 7L))).getNumber(),
+      new IsEqual<>(7L)
+    ).affirm();
+  }
+
+  @Test
+  void rejectsReflectedFrames() throws IOException {
+    final var coordinator = Session.coordinator("test", SessionTest.key());
+    final var frame = SessionTest.encrypt(coordinator, 1L);
+    new Assertion<>(
+      "Reflected frame was decrypted!",
+      () -> coordinator.decrypt(frame),
+      new Throws<>(GeneralSecurityException.class)
+    ).affirm();
+  }
+
+  @Test
+  void rejectsReplayedFrames() throws Exception {
+    final var coordinator = Session.coordinator("test", SessionTest.key());
+    final var network = Session.network("test", SessionTest.key());
+    final var frame = SessionTest.encrypt(coordinator, 1L);
+    final var replayed = frame.copy();
+    network.decrypt(frame);
+    new Assertion<>(
+      "Replayed frame was decrypted!",
+      () -> network.decrypt(replayed),
+      new Throws<>(GeneralSecurityException.class)
+    ).affirm();
+  }
+
+  @Test
+  void rejectsReorderedFrames() throws Exception {
+    final var coordinator = Session.coordinator("test", SessionTest.key());
+    final var network = Session.network("test", SessionTest.key());
+    final var first = SessionTest.encrypt(coordinator, 1L);
+    network.decrypt(SessionTest.encrypt(coordinator, 2L));
+    new Assertion<>(
+      "Reordered frame was decrypted!",
+      () -> network.decrypt(first),
+      new Throws<>(GeneralSecurityException.class)
+    ).affirm();
+  }
+}
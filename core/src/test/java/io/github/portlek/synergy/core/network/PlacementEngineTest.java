@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.network;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class PlacementEngineTest {
+
+  private static PlacementEngine engine() {
+    final var engine = new PlacementEngine();
+    engine.update("small", Map.of("memory", 2048), List.of("lobby"), Set.of());
+    engine.update("large", Map.of("memory", 8192), List.of(), Set.of());
+    return engine;
+  }
+
+  @Test
+  void binPackingFillsTheSmallestFittingCoordinator() {
+    new Assertion<>(
+      "Bin packing did not place on the coordinator with the least capacity left!",
+      PlacementEngineTest.engine().place("server", Map.of("memory", 1024), List.of(), PlacementStrategy.BIN_PACKING),
+      new IsEqual<>(Optional.of("small"))
+    ).affirm();
+  }
+
+  @Test
+  void spreadPlacesOnTheCoordinatorWithTheMostCapacity() {
+    new Assertion<>(
+      "Spread did not place on the coordinator with the most capacity left!",
+      PlacementEngineTest.engine().place("server", Map.of("memory", 1024), List.of(), PlacementStrategy.SPREAD),
+      new IsEqual<>(Optional.of("large"))
+    ).affirm();
+  }
+
+  @Test
+  void attributesAreRequired() {
+    final var engine = PlacementEngineTest.engine();
+    new Assertion<>(
+      "Server was not placed on the coordinator which has the attribute!",
+      engine.place("server", Map.of("memory", 1024), List.of("lobby"), PlacementStrategy.SPREAD),
+      new IsEqual<>(Optional.of("small"))
+    ).affirm();
+    new Assertion<>(
+      "Server was placed although no coordinator has the attribute!",
+      engine.place("other", Map.of(), List.of("game"), PlacementStrategy.SPREAD),
+      new IsEqual<>(Optional.empty())
+    ).affirm();
+  }
+
+  @Test
+  void reservationsAreKeptWhileTheServerIsReported() {
+    final var engine = PlacementEngineTest.engine();
+    engine.place("first", Map.of("memory", 2048), List.of("lobby"), PlacementStrategy.BIN_PACKING);
+    engine.update("small", Map.of("memory", 2048), List.of("lobby"), Set.of("first"));
+    new Assertion<>(
+      "Capacity of a reported server was placed again!",
+      engine.place("second", Map.of("memory", 2048), List.of("lobby"), PlacementStrategy.BIN_PACKING),
+      new IsEqual<>(Optional.empty())
+    ).affirm();
+    engine.update("small", Map.of("memory", 2048), List.of("lobby"), Set.of());
+    new Assertion<>(
+      "Capacity of a removed server was not released!",
+      engine.place("second", Map.of("memory", 2048), List.of("lobby"), PlacementStrategy.BIN_PACKING),
+      new IsEqual<>(Optional.of("small"))
+    ).affirm();
+  }
+
+  @Test
+  void leastLoadedCountsReportedReservationsOnce() {
+    final var engine = PlacementEngineTest.engine();
+    new Assertion<>(
+      "Least loaded did not place on the coordinator which comes first!",
+      engine.place("first", Map.of(), List.of(), PlacementStrategy.LEAST_LOADED),
+      new IsEqual<>(Optional.of("large"))
+    ).affirm();
+    engine.update("large", Map.of("memory", 8192), List.of(), Set.of("first"));
+    engine.update("small", Map.of("memory", 2048), List.of("lobby"), Set.of("manual"));
+    new Assertion<>(
+      "Reported server was counted twice in the load!",
+      engine.place("second", Map.of(), List.of(), PlacementStrategy.LEAST_LOADED),
+      new IsEqual<>(Optional.of("large"))
+    ).affirm();
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.network;
+
+import com.google.protobuf.ByteString;
+import io.github.portlek.synergy.proto.Commands;
+import io.github.portlek.synergy.proto.Protocol;
+import io.netty.util.HashedWheelTimer;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class TransactionRelayTest {
+
+  private static Protocol.TransactionHeader header(final long number, final Protocol.Transaction.Mode mode,
+                                                   final Commands.BaseCommand command, final String target) {
+    return TransactionRelayTest.header(number, mode, command.getType(), command.toByteString(), target);
+  }
+
+  private static Protocol.TransactionHeader header(final long number, final Protocol.Transaction.Mode mode,
+                                                   final Commands.BaseCommand.CommandType type,
+                                                   final ByteString payload, final String target) {
+    return Protocol.TransactionHeader.newBuilder()
+      .setNumber(number)
+      .setMode(mode)
+      .setType(type)
+      .setPayload(payload)
+      .setTarget(target)
+      .build();
+  }
+
+  private static void withRelay(final Consumer<TransactionRelay> test) {
+    final var timer = new HashedWheelTimer();
+    try {
+      test.accept(new TransactionRelay(timer, 60L));
+    } finally {
+      timer.stop();
+    }
+  }
+
+  private static Commands.BaseCommand sendInput() {
+    return Commands.BaseCommand.newBuilder()
+      .setType(Commands.BaseCommand.CommandType.C_SEND_INPUT)
+      .setCSendInput(Commands.C_SendInput.newBuilder()
+        .setInput("list")
+        .build())
+      .build();
+  }
+
+  private static Commands.BaseCommand ack() {
+    return Commands.BaseCommand.newBuilder()
+      .setType(Commands.BaseCommand.CommandType.C_ACK)
+      .setCAck(Commands.C_Ack.newBuilder()
+        .setResult("ok")
+        .build())
+      .build();
+  }
+
+  @Test
+  void clientCommandsAreForwarded() {
+    TransactionRelayTest.withRelay(relay -> {
+      final var relayed = relay.relay(TransactionRelayTest.header(2L, Protocol.Transaction.Mode.CREATE,
+        TransactionRelayTest.sendInput(), "target"), "origin", false);
+      new Assertion<>(
+        "Client command was not forwarded to its target!",
+        relayed.map(TransactionRelay.Relayed::getTarget),
+        new IsEqual<>(Optional.of("target"))
+      ).affirm();
+      new Assertion<>(
+        "Forwarded header does not carry a relay id!",
+        relayed.map(value -> TransactionRelay.isRelayId(value.getHeader().getNumber())),
+        new IsEqual<>(Optional.of(true))
+      ).affirm();
+    });
+  }
+
+  @Test
+  void networkCommandsFromCoordinatorsAreDropped() {
+    TransactionRelayTest.withRelay(relay -> {
+      final var command = Commands.BaseCommand.newBuilder()
+        .setType(Commands.BaseCommand.CommandType.PROVISION)
+        .build();
+      new Assertion<>(
+        "Network command from a coordinator was forwarded!",
+        relay.relay(TransactionRelayTest.header(2L, Protocol.Transaction.Mode.CREATE, command, "target"),
+          "origin", false),
+        new IsEqual<>(Optional.empty())
+      ).affirm();
+    });
+  }
+
+  @Test
+  void repliesAreMappedBackToTheOrigin() {
+    TransactionRelayTest.withRelay(relay -> {
+      final var forwarded = relay.relay(TransactionRelayTest.header(2L, Protocol.Transaction.Mode.CREATE,
+        TransactionRelayTest.sendInput(), "target"), "origin", false).orElseThrow();
+      final var reply = relay.relay(TransactionRelayTest.header(forwarded.getHeader().getNumber(),
+        Protocol.Transaction.Mode.COMPLETE, TransactionRelayTest.ack(), ""), "target", false).orElseThrow();
+      new Assertion<>(
+        "Reply was not sent back to the origin!",
+        reply.getTarget(),
+        new IsEqual<>("origin")
+      ).affirm();
+      new Assertion<>(
+        "Reply does not carry the origin's id!",
+        reply.getHeader().getNumber(),
+        new IsEqual<>(2L)
+      ).affirm();
+    });
+  }
+
+  @Test
+  void repliesWithMismatchingPayloadsAreRejected() {
+    TransactionRelayTest.withRelay(relay -> {
+      final var forwarded = relay.relay(TransactionRelayTest.header(2L, Protocol.Transaction.Mode.CREATE,
+        TransactionRelayTest.sendInput(), "target"), "origin", false).orElseThrow();
+      new Assertion<>(
+        "Reply whose payload does not match its type was relayed!",
+        relay.relay(TransactionRelayTest.header(forwarded.getHeader().getNumber(),
+          Protocol.Transaction.Mode.COMPLETE, Commands.BaseCommand.CommandType.C_ACK,
+          TransactionRelayTest.sendInput().toByteString(), ""), "target", false),
+        new IsEqual<>(Optional.empty())
+      ).affirm();
+    });
+  }
+
+  @Test
+  void failedForwardsFailBackToTheOrigin() {
+    TransactionRelayTest.withRelay(relay -> {
+      final var forwarded = relay.relay(TransactionRelayTest.header(2L, Protocol.Transaction.Mode.CREATE,
+        TransactionRelayTest.sendInput(), "target"), "origin", false).orElseThrow();
+      final var failure = relay.fail(forwarded).orElseThrow();
+      new Assertion<>(
+        "Failure was not sent to the origin's transaction!",
+        failure.getHeader().getNumber(),
+        new IsEqual<>(2L)
+      ).affirm();
+      new Assertion<>(
+        "Failure does not complete the origin's transaction!",
+        failure.getHeader().getMode(),
+        new IsEqual<>(Protocol.Transaction.Mode.COMPLETE)
+      ).affirm();
+      new Assertion<>(
+        "Route of the failed forward was not removed!",
+        relay.relay(TransactionRelayTest.header(forwarded.getHeader().getNumber(),
+          Protocol.Transaction.Mode.COMPLETE, TransactionRelayTest.ack(), ""), "target", false),
+        new IsEqual<>(Optional.empty())
+      ).affirm();
+    });
+  }
+
+  @Test
+  void forwardsRepublishedByAnotherNetworkAreMappedBackToIt() {
+    TransactionRelayTest.withRelay(origin -> TransactionRelayTest.withRelay(owner -> {
+      final var forwarded = origin.relay(TransactionRelayTest.header(2L, Protocol.Transaction.Mode.CREATE,
+        TransactionRelayTest.sendInput(), "target"), "origin", false).orElseThrow();
+      final var republished = owner.relayRemote(forwarded.getHeader().toBuilder()
+        .setTarget("target")
+        .build(), "network").orElseThrow();
+      final var reply = owner.relay(TransactionRelayTest.header(republished.getHeader().getNumber(),
+        Protocol.Transaction.Mode.COMPLETE, TransactionRelayTest.ack(), ""), "target", false).orElseThrow();
+      new Assertion<>(
+        "Reply was not published back to the origin network!",
+        reply.getTarget(),
+        new IsEqual<>("network")
+      ).affirm();
+      final var back = origin.relay(reply.getHeader(), reply.getHeader().getTarget(), true).orElseThrow();
+      new Assertion<>(
+        "Reply was not sent back to the origin!",
+        back.getTarget(),
+        new IsEqual<>("origin")
+      ).affirm();
+      new Assertion<>(
+        "Reply does not carry the origin's id!",
+        back.getHeader().getNumber(),
+        new IsEqual<>(2L)
+      ).affirm();
+    }));
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.p3;
+
+import io.github.portlek.synergy.core.netty.SendResult;
+import io.github.portlek.synergy.proto.P3;
+import io.netty.util.HashedWheelTimer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+import org.hamcrest.core.IsEqual;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class PackageDeltaTest {
+
+  private static byte[] random(final int size, final long seed) {
+    final var bytes = new byte[size];
+    new Random(seed).nextBytes(bytes);
+    return bytes;
+  }
+
+  private static byte[] concat(final byte[]... parts) {
+    final var length = Arrays.stream(parts).mapToInt(part -> part.length).sum();
+    final var bytes = new byte[length];
+    var position = 0;
+    for (final var part : parts) {
+      System.arraycopy(part, 0, bytes, position, part.length);
+      position += part.length;
+    }
+    return bytes;
+  }
+
+  private static byte[] transfer(final Path folder, final byte[] base, final byte[] target, final int blockSize)
+    throws IOException {
+    final var basePath = Files.write(folder.resolve("base.p3"), base);
+    final var targetPath = Files.write(folder.resolve("target.p3"), target);
+    final var meta = P3.P3Meta.newBuilder()
+      .setId("package")
+      .setVersion("2")
+      .build();
+    final var signature = PackageDelta.signature(basePath, blockSize);
+    final var chunks = new ArrayDeque<P3.SplitPackageData>();
+    final var timer = new HashedWheelTimer();
+    try (final var receiver = new PackageStreamReceiver(folder.resolve("received.p3"), meta, basePath);
+         final var streamer = new PackageStreamer(targetPath, meta, 4096, 4, 0L, timer, new PackageStreamer.Sink() {
+           @NotNull
+           @Override
+           public SendResult send(@NotNull final P3.SplitPackageData chunk) {
+             chunks.add(chunk);
+             return SendResult.SENT;
+           }
+
+           @Override
+           public boolean whenWritable(@NotNull final Runnable task) {
+             return true;
+           }
+         }, signature)) {
+      receiver.setSignature(signature);
+      streamer.start(0L);
+      while (!chunks.isEmpty()) {
+        final var chunk = chunks.poll();
+        if (receiver.receive(chunk)) {
+          streamer.onAck(chunk.getChunkId());
+        }
+      }
+      return Files.readAllBytes(receiver.getFuture().join());
+    } finally {
+      timer.stop();
+    }
+  }
+
+  @Test
+  void changedBytesRoundTrip(@TempDir final Path folder) throws IOException {
+    final var block = 1024;
+    final var base = PackageDeltaTest.random(16 * block, 1L);
+    final var target = base.clone();
+    System.arraycopy(PackageDeltaTest.random(100, 2L), 0, target, 5000, 100);
+    new Assertion<>(
+      "Received package does not match the target!",
+      Arrays.equals(PackageDeltaTest.transfer(folder, base, target, block), target),
+      new IsEqual<>(true)
+    ).affirm();
+  }
+
+  @Test
+  void movedBlocksAreCopied(@TempDir final Path folder) throws IOException {
+    final var block = 1024;
+    final var base = PackageDeltaTest.random(4 * block, 3L);
+    final var target = PackageDeltaTest.concat(
+      Arrays.copyOfRange(base, 2 * block, 4 * block),
+      PackageDeltaTest.random(7, 4L),
+      Arrays.copyOfRange(base, 0, 2 * block));
+    final var targetPath = Files.write(folder.resolve("moved.p3"), target);
+    final var basePath = Files.write(folder.resolve("original.p3"), base);
+    final var operations = PackageDelta.diff(targetPath,
+      PackageDelta.signature(basePath, block));
+    new Assertion<>(
+      "Moved blocks were sent as literal data!",
+      operations.stream()
+        .filter(PackageDelta.Operation::isLiteral)
+        .mapToLong(PackageDelta.Operation::getLength)
+        .sum(),
+      new IsEqual<>(7L)
+    ).affirm();
+    new Assertion<>(
+      "Received package does not match the target!",
+      Arrays.equals(PackageDeltaTest.transfer(folder, base, target, block), target),
+      new IsEqual<>(true)
+    ).affirm();
+  }
+
+  @Test
+  void tailIsSentAsLiteral(@TempDir final Path folder) throws IOException {
+    final var block = 1024;
+    final var base = PackageDeltaTest.random(3 * block, 5L);
+    final var target = PackageDeltaTest.concat(base, PackageDeltaTest.random(100, 6L));
+    final var targetPath = Files.write(folder.resolve("grown.p3"), target);
+    final var basePath = Files.write(folder.resolve("original.p3"), base);
+    final var operations = PackageDelta.diff(targetPath,
+      PackageDelta.signature(basePath, block));
+    final var last = operations.get(operations.size() - 1);
+    new Assertion<>(
+      "Tail was not sent as literal data!",
+      last.isLiteral() && last.getOffset() == base.length && last.getLength() == 100L,
+      new IsEqual<>(true)
+    ).affirm();
+    new Assertion<>(
+      "Received package does not match the target!",
+      Arrays.equals(PackageDeltaTest.transfer(folder, base, target, block), target),
+      new IsEqual<>(true)
+    ).affirm();
+  }
+}
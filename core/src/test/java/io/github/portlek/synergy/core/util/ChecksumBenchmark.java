@@ -0,0 +1,199 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.util;
+
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Adler32;
+import java.util.zip.CheckedInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * compares the package checksum against the previous adler32 and murmur3 implementations, run with
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main ChecksumBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ChecksumBenchmark {
+
+  /**
+   * the size of the file.
+   */
+  @Param({"1048576", "67108864", "268435456"})
+  public int size;
+
+  /**
+   * the path.
+   */
+  private Path path;
+
+  /**
+   * computes the checksum like the previous implementation did, the first 100 mib with adler32 and the file length.
+   *
+   * @param path the path to compute.
+   *
+   * @return checksum.
+   *
+   * @throws IOException if the file couldn't be read.
+   */
+  private static String adler32(final Path path) throws IOException {
+    try (final var is = new CheckedInputStream(Files.newInputStream(path), new Adler32())) {
+      var buf = new byte[1024 * 1024];
+      var total = 0;
+      var c = 0;
+      while (total < 100 * 1024 * 1024 && (c = is.read(buf)) >= 0) {
+        total += c;
+      }
+      final var bb = ByteBuffer.allocate(Long.BYTES);
+      bb.putLong(path.toFile().length());
+      buf = bb.array();
+      is.getChecksum().update(buf, 0, buf.length);
+      return Long.toHexString(is.getChecksum().getValue());
+    }
+  }
+
+  /**
+   * computes the checksum like the previous murmur3 implementation did, the whole file memory-mapped in windows.
+   *
+   * @param path the path to compute.
+   *
+   * @return checksum.
+   *
+   * @throws IOException if the file couldn't be read.
+   */
+  private static String murmur3(final Path path) throws IOException {
+    final var hasher = Hashing.murmur3_128().newHasher();
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final var size = channel.size();
+      final var window = 64L * 1024L * 1024L;
+      for (var position = 0L; position < size; position += window) {
+        final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(window, size - position));
+        hasher.putBytes(buffer);
+        ChecksumUtils.unmap(buffer);
+      }
+    }
+    return hasher.hash().toString();
+  }
+
+  /**
+   * the previous adler32 checksum.
+   *
+   * @return checksum.
+   *
+   * @throws IOException if the file couldn't be read.
+   */
+  @Benchmark
+  public String adler32() throws IOException {
+    return ChecksumBenchmark.adler32(this.path);
+  }
+
+  /**
+   * the xxh3 checksum when the file didn't change.
+   *
+   * @return checksum.
+   *
+   * @throws IOException if the file couldn't be read.
+   */
+  @Benchmark
+  public String cached() throws IOException {
+    return ChecksumUtils.checksum(this.path);
+  }
+
+  /**
+   * the previous memory-mapped murmur3 checksum.
+   *
+   * @return checksum.
+   *
+   * @throws IOException if the file couldn't be read.
+   */
+  @Benchmark
+  public String murmur3() throws IOException {
+    return ChecksumBenchmark.murmur3(this.path);
+  }
+
+  /**
+   * the memory-mapped xxh3 checksum.
+   *
+   * @return checksum.
+   *
+   * @throws IOException if the file couldn't be read.
+   */
+  @Benchmark
+  public String xxh3() throws IOException {
+    return ChecksumUtils.compute(this.path);
+  }
+
+  /**
+   * writes a random file of the size.
+   *
+   * @throws IOException if the file couldn't be written.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    this.path = Files.createTempFile("checksum", ".p3");
+    final var bytes = new byte[1024 * 1024];
+    final var random = new Random(this.size);
+    try (final var out = Files.newOutputStream(this.path)) {
+      for (var written = 0; written < this.size; written += bytes.length) {
+        random.nextBytes(bytes);
+        out.write(bytes, 0, Math.min(bytes.length, this.size - written));
+      }
+    }
+  }
+
+  /**
+   * deletes the file.
+   *
+   * @throws IOException if the file couldn't be deleted.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(this.path);
+  }
+}
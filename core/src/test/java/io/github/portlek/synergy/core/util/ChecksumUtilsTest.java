@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class ChecksumUtilsTest {
+
+  @Test
+  void sameContentsHaveTheSameChecksum(@TempDir final Path folder) throws IOException {
+    final var first = Files.write(folder.resolve("first.p3"), new byte[]{1, 2, 3});
+    final var second = Files.write(folder.resolve("second.p3"), new byte[]{1, 2, 3});
+    new Assertion<>(
+      "Files with the same contents have different checksums!",
+      ChecksumUtils.compute(first),
+      new IsEqual<>(ChecksumUtils.compute(second))
+    ).affirm();
+  }
+
+  @Test
+  void sizeChangesTheChecksum(@TempDir final Path folder) throws IOException {
+    final var first = Files.write(folder.resolve("first.p3"), new byte[10]);
+    final var second = Files.write(folder.resolve("second.p3"), new byte[11]);
+    new Assertion<>(
+      "Files with different sizes have the same checksum!",
+      ChecksumUtils.compute(first),
+      new IsNot<>(new IsEqual<>(ChecksumUtils.compute(second)))
+    ).affirm();
+  }
+
+  @Test
+  void checksummedFilesCanBeDeleted(@TempDir final Path folder) throws IOException {
+    final var path = Files.write(folder.resolve("package.p3"), new byte[4096]);
+    ChecksumUtils.checksum(path);
+    Files.delete(path);
+    new Assertion<>(
+      "Checksummed file was not deleted!",
+      Files.exists(path),
+      new IsEqual<>(false)
+    ).affirm();
+  }
+}
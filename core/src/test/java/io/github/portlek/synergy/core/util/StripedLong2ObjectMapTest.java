@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class StripedLong2ObjectMapTest {
+
+  @Test
+  void concurrentPutsAreCounted() {
+    final var map = new StripedLong2ObjectMap<String>();
+    CompletableFuture.allOf(IntStream.range(0, 4)
+      .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+        for (var index = 0L; index < 1000L; index++) {
+          map.put(index << 2 | thread, "value");
+        }
+      }))
+      .toArray(CompletableFuture[]::new)).join();
+    new Assertion<>(
+      "Concurrent puts were lost!",
+      map.size(),
+      new IsEqual<>(4000)
+    ).affirm();
+  }
+
+  @Test
+  void putIfAbsentKeepsTheFirstValue() {
+    final var map = new StripedLong2ObjectMap<String>();
+    map.putIfAbsent(1L, "first");
+    new Assertion<>(
+      "Put if absent did not return the existing value!",
+      map.putIfAbsent(1L, "second"),
+      new IsEqual<>("first")
+    ).affirm();
+    new Assertion<>(
+      "Put if absent replaced the existing value!",
+      map.get(1L),
+      new IsEqual<>("first")
+    ).affirm();
+  }
+
+  @Test
+  void removeDeletesTheKey() {
+    final var map = new StripedLong2ObjectMap<String>();
+    map.put(Long.MIN_VALUE, "value");
+    new Assertion<>(
+      "Remove did not return the removed value!",
+      map.remove(Long.MIN_VALUE),
+      new IsEqual<>("value")
+    ).affirm();
+    new Assertion<>(
+      "Removed key is still in the map!",
+      map.get(Long.MIN_VALUE),
+      new IsNull<>()
+    ).affirm();
+    new Assertion<>(
+      "Removed key is still counted!",
+      map.size(),
+      new IsEqual<>(0)
+    ).affirm();
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.collection.IsEmptyCollection;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+final class TrackedMapTest {
+
+  @Test
+  void acknowledgedChangesAreNotDrainedAgain() {
+    final var map = new TrackedMap<String, Integer>();
+    map.put("cpu", 4);
+    final var epoch = map.drain((key, value) -> {
+    }, key -> {
+    });
+    map.acknowledge(epoch);
+    final var changed = new ArrayList<String>();
+    map.drainAll((key, value) -> changed.add(key), changed::add);
+    new Assertion<>(
+      "Acknowledged changes were drained again!",
+      changed,
+      new IsEmptyCollection<>()
+    ).affirm();
+  }
+
+  @Test
+  void drainOnlyVisitsNewChanges() {
+    final var map = new TrackedMap<String, Integer>();
+    map.put("cpu", 4);
+    map.drain((key, value) -> {
+    }, key -> {
+    });
+    map.put("memory", 1024);
+    final var changed = new ArrayList<String>();
+    map.drain((key, value) -> changed.add(key), changed::add);
+    new Assertion<>(
+      "Drain visited the keys of the previous drain!",
+      changed,
+      new IsEqual<>(List.of("memory"))
+    ).affirm();
+  }
+
+  @Test
+  void drainAllResendsUnacknowledgedChanges() {
+    final var map = new TrackedMap<String, Integer>();
+    map.put("cpu", 4);
+    map.drain((key, value) -> {
+    }, key -> {
+    });
+    map.put("memory", 1024);
+    final var changed = new ArrayList<String>();
+    map.drainAll((key, value) -> changed.add(key), changed::add);
+    new Assertion<>(
+      "Unacknowledged changes were not drained again!",
+      changed,
+      new IsEqual<>(List.of("cpu", "memory"))
+    ).affirm();
+  }
+
+  @Test
+  void markDirtyTracksInPlaceMutations() {
+    final var map = new TrackedMap<String, List<String>>();
+    map.put("server", new ArrayList<>());
+    map.acknowledge(map.drain((key, value) -> {
+    }, key -> {
+    }));
+    map.get("server").add("property");
+    map.markDirty("server");
+    new Assertion<>(
+      "In place mutation was not tracked!",
+      map.isDirty(),
+      new IsEqual<>(true)
+    ).affirm();
+  }
+
+  @Test
+  void removedKeysAreDrainedUntilAcknowledged() {
+    final var map = new TrackedMap<>(Map.of("cpu", 4));
+    map.acknowledge(map.drain((key, value) -> {
+    }, key -> {
+    }));
+    map.remove("cpu");
+    map.drain((key, value) -> {
+    }, key -> {
+    });
+    final var removed = new ArrayList<String>();
+    final var epoch = map.drainAll((key, value) -> {
+    }, removed::add);
+    map.acknowledge(epoch);
+    new Assertion<>(
+      "Removed key was not drained again before the acknowledgement!",
+      removed,
+      new IsEqual<>(List.of("cpu"))
+    ).affirm();
+    new Assertion<>(
+      "Acknowledged removal is still dirty!",
+      map.isDirty(),
+      new IsEqual<>(false)
+    ).affirm();
+  }
+
+  @Test
+  void unchangedValuesAreNotTracked() {
+    final var map = new TrackedMap<String, Integer>();
+    map.put("cpu", 4);
+    map.acknowledge(map.drain((key, value) -> {
+    }, key -> {
+    }));
+    map.put("cpu", 4);
+    new Assertion<>(
+      "Putting the same value marked the key as dirty!",
+      map.isDirty(),
+      new IsEqual<>(false)
+    ).affirm();
+  }
+}
@@ -30,9 +30,7 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.SocketChannel;
 import java.net.InetSocketAddress;
 import lombok.extern.log4j.Log4j2;
 import org.jetbrains.annotations.NotNull;
@@ -52,38 +50,47 @@ public final class Connections {
   /**
    * binds to the given ip and port.
    *
+   * @param context the context to bind.
    * @param initializer the initializer to bind.
    * @param address the port to bind.
    *
    * @return channel future.
    */
   @NotNull
-  public static ChannelFuture bind(@NotNull final ChannelInitializer<NioSocketChannel> initializer,
+  public static ChannelFuture bind(@NotNull final TransportContext context,
+                                   @NotNull final ChannelInitializer<SocketChannel> initializer,
                                    @NotNull final InetSocketAddress address) {
     return new ServerBootstrap()
-      .group(new NioEventLoopGroup())
-      .channel(NioServerSocketChannel.class)
+      .group(context.getBossGroup(), context.getWorkerGroup())
+      .channel(context.getTransport().getServerChannelClass())
       .childHandler(initializer)
       .option(ChannelOption.SO_BACKLOG, 128)
+      .option(ChannelOption.ALLOCATOR, context.getAllocator())
+      .childOption(ChannelOption.ALLOCATOR, context.getAllocator())
       .childOption(ChannelOption.SO_KEEPALIVE, true)
+      .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, context.getWriteBufferWaterMark())
       .bind(address);
   }
 
   /**
    * connects to the given ip and port.
    *
+   * @param context the context to connect.
    * @param initializer the initializer to connect.
    * @param address the port to connect.
    *
    * @return channel future.
    */
   @NotNull
-  public static ChannelFuture connect(@NotNull final ChannelInitializer<NioSocketChannel> initializer,
+  public static ChannelFuture connect(@NotNull final TransportContext context,
+                                      @NotNull final ChannelInitializer<SocketChannel> initializer,
                                       @NotNull final InetSocketAddress address) {
     return new Bootstrap()
-      .group(new NioEventLoopGroup())
-      .channel(NioSocketChannel.class)
+      .group(context.getWorkerGroup())
+      .channel(context.getTransport().getChannelClass())
+      .option(ChannelOption.ALLOCATOR, context.getAllocator())
       .option(ChannelOption.SO_KEEPALIVE, true)
+      .option(ChannelOption.WRITE_BUFFER_WATER_MARK, context.getWriteBufferWaterMark())
       .handler(initializer)
       .connect(address);
   }
@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.Arrays;
+import java.util.Locale;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an enum class that contains socket transports.
+ */
+public enum Transport {
+  /**
+   * the io_uring transport, loaded reflectively since the incubator module is optional.
+   */
+  IO_URING {
+    @Override
+    public boolean isAvailable() {
+      try {
+        return (boolean) Transport.uringClass("IOUring").getMethod("isAvailable").invoke(null);
+      } catch (final ReflectiveOperationException | LinkageError e) {
+        return false;
+      }
+    }
+
+    @NotNull
+    @Override
+    public EventLoopGroup newEventLoopGroup(final int threads) {
+      try {
+        return (EventLoopGroup) Transport.uringClass("IOUringEventLoopGroup")
+          .getConstructor(int.class)
+          .newInstance(threads);
+      } catch (final ReflectiveOperationException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends ServerSocketChannel> getServerChannelClass() {
+      try {
+        return Transport.uringClass("IOUringServerSocketChannel").asSubclass(ServerSocketChannel.class);
+      } catch (final ClassNotFoundException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends SocketChannel> getChannelClass() {
+      try {
+        return Transport.uringClass("IOUringSocketChannel").asSubclass(SocketChannel.class);
+      } catch (final ClassNotFoundException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  },
+  /**
+   * the native epoll transport.
+   */
+  EPOLL {
+    @Override
+    public boolean isAvailable() {
+      return Epoll.isAvailable();
+    }
+
+    @NotNull
+    @Override
+    public EventLoopGroup newEventLoopGroup(final int threads) {
+      return new EpollEventLoopGroup(threads);
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends ServerSocketChannel> getServerChannelClass() {
+      return EpollServerSocketChannel.class;
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends SocketChannel> getChannelClass() {
+      return EpollSocketChannel.class;
+    }
+  },
+  /**
+   * the java nio transport.
+   */
+  NIO {
+    @Override
+    public boolean isAvailable() {
+      return true;
+    }
+
+    @NotNull
+    @Override
+    public EventLoopGroup newEventLoopGroup(final int threads) {
+      return new NioEventLoopGroup(threads);
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends ServerSocketChannel> getServerChannelClass() {
+      return NioServerSocketChannel.class;
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends SocketChannel> getChannelClass() {
+      return NioSocketChannel.class;
+    }
+  };
+
+  /**
+   * the io_uring package.
+   */
+  private static final String URING_PACKAGE = "io.netty.incubator.channel.uring.";
+
+  /**
+   * resolves the transport.
+   * <p>
+   * the preferred transport is used when it's available on the current platform. otherwise, epoll is used on linux
+   * and nio everywhere else. io_uring is never picked automatically.
+   *
+   * @param preference the preference to resolve, {@code auto} to pick the best available one.
+   *
+   * @return resolved transport.
+   */
+  @NotNull
+  public static Transport resolve(@NotNull final String preference) {
+    final var name = preference.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+    return Arrays.stream(Transport.values())
+      .filter(transport -> transport.name().equals(name))
+      .filter(Transport::isAvailable)
+      .findFirst()
+      .orElseGet(() -> Transport.EPOLL.isAvailable() ? Transport.EPOLL : Transport.NIO);
+  }
+
+  /**
+   * loads the io_uring class.
+   *
+   * @param name the name to load.
+   *
+   * @return io_uring class.
+   *
+   * @throws ClassNotFoundException if the io_uring incubator module is not on the classpath.
+   */
+  @NotNull
+  private static Class<?> uringClass(@NotNull final String name) throws ClassNotFoundException {
+    return Class.forName(Transport.URING_PACKAGE + name, true, Transport.class.getClassLoader());
+  }
+
+  /**
+   * checks if the transport is available on the current platform.
+   *
+   * @return {@code true} if the transport is available.
+   */
+  public abstract boolean isAvailable();
+
+  /**
+   * creates a new event loop group.
+   *
+   * @param threads the threads to create, {@code 0} to use netty's default.
+   *
+   * @return a newly created event loop group.
+   */
+  @NotNull
+  public abstract EventLoopGroup newEventLoopGroup(int threads);
+
+  /**
+   * obtains the server channel class.
+   *
+   * @return server channel class.
+   */
+  @NotNull
+  public abstract Class<? extends ServerSocketChannel> getServerChannelClass();
+
+  /**
+   * obtains the channel class.
+   *
+   * @return channel class.
+   */
+  @NotNull
+  public abstract Class<? extends SocketChannel> getChannelClass();
+}
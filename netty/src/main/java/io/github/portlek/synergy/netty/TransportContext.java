@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.netty;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents the event loop groups shared by every bind and connect of a synergy instance.
+ * <p>
+ * the boss group is only needed by servers, so it's created on the first bind.
+ */
+public final class TransportContext {
+
+  /**
+   * the max order of the allocator, chunks are {@code 8 KiB << 9 = 4 MiB}.
+   */
+  private static final int MAX_ORDER = 9;
+
+  /**
+   * the normal cache size of the allocator.
+   */
+  private static final int NORMAL_CACHE_SIZE = 64;
+
+  /**
+   * the page size of the allocator.
+   */
+  private static final int PAGE_SIZE = 8192;
+
+  /**
+   * the small cache size of the allocator.
+   */
+  private static final int SMALL_CACHE_SIZE = 256;
+
+  /**
+   * the allocator, pools direct buffers with one arena per worker thread.
+   */
+  @NotNull
+  @Getter
+  private final ByteBufAllocator allocator;
+
+  /**
+   * the boss threads.
+   */
+  private final int bossThreads;
+
+  /**
+   * the transport.
+   */
+  @NotNull
+  @Getter
+  private final Transport transport;
+
+  /**
+   * the worker group.
+   */
+  @NotNull
+  @Getter
+  private final EventLoopGroup workerGroup;
+
+  /**
+   * the write buffer water mark, channels become unwritable once their outbound buffer passes the high mark.
+   */
+  @NotNull
+  @Getter
+  private final WriteBufferWaterMark writeBufferWaterMark;
+
+  /**
+   * the boss group.
+   */
+  @Nullable
+  private volatile EventLoopGroup bossGroup;
+
+  /**
+   * ctor.
+   *
+   * @param transport the transport.
+   * @param bossThreads the boss threads.
+   * @param workerThreads the worker threads, {@code 0} to use netty's default.
+   */
+  public TransportContext(@NotNull final Transport transport, final int bossThreads, final int workerThreads) {
+    this(transport, bossThreads, workerThreads, WriteBufferWaterMark.DEFAULT);
+  }
+
+  /**
+   * ctor.
+   *
+   * @param transport the transport.
+   * @param bossThreads the boss threads.
+   * @param workerThreads the worker threads, {@code 0} to use netty's default.
+   * @param writeBufferWaterMark the write buffer water mark.
+   */
+  public TransportContext(@NotNull final Transport transport, final int bossThreads, final int workerThreads,
+                          @NotNull final WriteBufferWaterMark writeBufferWaterMark) {
+    this.transport = transport;
+    this.bossThreads = Math.max(1, bossThreads);
+    this.workerGroup = transport.newEventLoopGroup(Math.max(0, workerThreads));
+    this.writeBufferWaterMark = writeBufferWaterMark;
+    this.allocator = new PooledByteBufAllocator(true, 0, (int) TransportContext.executors(this.workerGroup).count(),
+      TransportContext.PAGE_SIZE, TransportContext.MAX_ORDER, TransportContext.SMALL_CACHE_SIZE,
+      TransportContext.NORMAL_CACHE_SIZE, false);
+  }
+
+  /**
+   * counts the tasks which are waiting to be run on the given group.
+   *
+   * @param group the group to count.
+   *
+   * @return pending task count.
+   */
+  private static long pendingTasks(@Nullable final EventLoopGroup group) {
+    return TransportContext.executors(group)
+      .filter(SingleThreadEventExecutor.class::isInstance)
+      .mapToLong(executor -> ((SingleThreadEventExecutor) executor).pendingTasks())
+      .sum();
+  }
+
+  /**
+   * streams the executors of the given group.
+   *
+   * @param group the group to stream.
+   *
+   * @return executors.
+   */
+  @NotNull
+  private static Stream<EventExecutor> executors(@Nullable final EventLoopGroup group) {
+    if (group == null) {
+      return Stream.empty();
+    }
+    return StreamSupport.stream(group.spliterator(), false);
+  }
+
+  /**
+   * obtains the boss group.
+   *
+   * @return boss group.
+   */
+  @NotNull
+  public EventLoopGroup getBossGroup() {
+    var group = this.bossGroup;
+    if (group == null) {
+      synchronized (this) {
+        group = this.bossGroup;
+        if (group == null) {
+          this.bossGroup = group = this.transport.newEventLoopGroup(this.bossThreads);
+        }
+      }
+    }
+    return group;
+  }
+
+  /**
+   * obtains the pending task count of the groups.
+   *
+   * @return pending task count.
+   */
+  public long getPendingTasks() {
+    return TransportContext.pendingTasks(this.bossGroup) + TransportContext.pendingTasks(this.workerGroup);
+  }
+
+  /**
+   * obtains the thread count of the groups.
+   *
+   * @return thread count.
+   */
+  public int getThreadCount() {
+    return (int) (TransportContext.executors(this.bossGroup).count() +
+      TransportContext.executors(this.workerGroup).count());
+  }
+
+  /**
+   * checks if the groups are shutting down.
+   *
+   * @return {@code true} if the groups are shutting down.
+   */
+  public boolean isShuttingDown() {
+    return this.workerGroup.isShuttingDown();
+  }
+
+  /**
+   * shuts down the groups gracefully and waits them to terminate.
+   *
+   * @param timeout the timeout to wait.
+   * @param unit the unit to wait.
+   *
+   * @throws InterruptedException if the current thread was interrupted.
+   */
+  public void shutdownGracefully(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException {
+    final var boss = this.bossGroup;
+    if (boss != null) {
+      boss.shutdownGracefully();
+    }
+    this.workerGroup.shutdownGracefully().await(timeout, unit);
+    if (boss != null) {
+      boss.terminationFuture().await(timeout, unit);
+    }
+  }
+}
@@ -108,6 +108,74 @@ public final class Commands {
      * @return The enabled.
      */
     boolean getEnabled();
+
+    /**
+     * <code>uint64 sequence = 6;</code>
+     * @return The sequence.
+     */
+    long getSequence();
+
+    /**
+     * <code>bool full = 7;</code>
+     * @return The full.
+     */
+    boolean getFull();
+
+    /**
+     * <code>repeated string removedResources = 8;</code>
+     * @return A list containing the removedResources.
+     */
+    java.util.List<java.lang.String>
+        getRemovedResourcesList();
+    /**
+     * <code>repeated string removedResources = 8;</code>
+     * @return The count of removedResources.
+     */
+    int getRemovedResourcesCount();
+    /**
+     * <code>repeated string removedResources = 8;</code>
+     * @param index The index of the element to return.
+     * @return The removedResources at the given index.
+     */
+    java.lang.String getRemovedResources(int index);
+    /**
+     * <code>repeated string removedResources = 8;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedResources at the given index.
+     */
+    com.google.protobuf.ByteString
+        getRemovedResourcesBytes(int index);
+
+    /**
+     * <code>repeated string removedServers = 9;</code>
+     * @return A list containing the removedServers.
+     */
+    java.util.List<java.lang.String>
+        getRemovedServersList();
+    /**
+     * <code>repeated string removedServers = 9;</code>
+     * @return The count of removedServers.
+     */
+    int getRemovedServersCount();
+    /**
+     * <code>repeated string removedServers = 9;</code>
+     * @param index The index of the element to return.
+     * @return The removedServers at the given index.
+     */
+    java.lang.String getRemovedServers(int index);
+    /**
+     * <code>repeated string removedServers = 9;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedServers at the given index.
+     */
+    com.google.protobuf.ByteString
+        getRemovedServersBytes(int index);
+
+    /**
+     * <code>bool attributesChanged = 10;</code>
+     * @return The attributesChanged.
+     */
+    boolean getAttributesChanged();
   }
   /**
    * Protobuf type {@code io.github.portlek.synergy.proto.Sync}
@@ -126,6 +194,8 @@ public final class Commands {
       resources_ = java.util.Collections.emptyList();
       attributes_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       servers_ = java.util.Collections.emptyList();
+      removedResources_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      removedServers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
     }
 
     @java.lang.Override
@@ -197,6 +267,39 @@ public final class Commands {
               enabled_ = input.readBool();
               break;
             }
+            case 48: {
+
+              sequence_ = input.readUInt64();
+              break;
+            }
+            case 56: {
+
+              full_ = input.readBool();
+              break;
+            }
+            case 66: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                removedResources_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              removedResources_.add(s);
+              break;
+            }
+            case 74: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                removedServers_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              removedServers_.add(s);
+              break;
+            }
+            case 80: {
+
+              attributesChanged_ = input.readBool();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -221,6 +324,12 @@ public final class Commands {
         if (((mutable_bitField0_ & 0x00000004) != 0)) {
           servers_ = java.util.Collections.unmodifiableList(servers_);
         }
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          removedResources_ = removedResources_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          removedServers_ = removedServers_.getUnmodifiableView();
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -402,6 +511,109 @@ public final class Commands {
       return enabled_;
     }
 
+    public static final int SEQUENCE_FIELD_NUMBER = 6;
+    private long sequence_;
+    /**
+     * <code>uint64 sequence = 6;</code>
+     * @return The sequence.
+     */
+    @java.lang.Override
+    public long getSequence() {
+      return sequence_;
+    }
+
+    public static final int FULL_FIELD_NUMBER = 7;
+    private boolean full_;
+    /**
+     * <code>bool full = 7;</code>
+     * @return The full.
+     */
+    @java.lang.Override
+    public boolean getFull() {
+      return full_;
+    }
+
+    public static final int REMOVEDRESOURCES_FIELD_NUMBER = 8;
+    private com.google.protobuf.LazyStringList removedResources_;
+    /**
+     * <code>repeated string removedResources = 8;</code>
+     * @return A list containing the removedResources.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRemovedResourcesList() {
+      return removedResources_;
+    }
+    /**
+     * <code>repeated string removedResources = 8;</code>
+     * @return The count of removedResources.
+     */
+    public int getRemovedResourcesCount() {
+      return removedResources_.size();
+    }
+    /**
+     * <code>repeated string removedResources = 8;</code>
+     * @param index The index of the element to return.
+     * @return The removedResources at the given index.
+     */
+    public java.lang.String getRemovedResources(int index) {
+      return removedResources_.get(index);
+    }
+    /**
+     * <code>repeated string removedResources = 8;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedResources at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getRemovedResourcesBytes(int index) {
+      return removedResources_.getByteString(index);
+    }
+
+    public static final int REMOVEDSERVERS_FIELD_NUMBER = 9;
+    private com.google.protobuf.LazyStringList removedServers_;
+    /**
+     * <code>repeated string removedServers = 9;</code>
+     * @return A list containing the removedServers.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRemovedServersList() {
+      return removedServers_;
+    }
+    /**
+     * <code>repeated string removedServers = 9;</code>
+     * @return The count of removedServers.
+     */
+    public int getRemovedServersCount() {
+      return removedServers_.size();
+    }
+    /**
+     * <code>repeated string removedServers = 9;</code>
+     * @param index The index of the element to return.
+     * @return The removedServers at the given index.
+     */
+    public java.lang.String getRemovedServers(int index) {
+      return removedServers_.get(index);
+    }
+    /**
+     * <code>repeated string removedServers = 9;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedServers at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getRemovedServersBytes(int index) {
+      return removedServers_.getByteString(index);
+    }
+
+    public static final int ATTRIBUTESCHANGED_FIELD_NUMBER = 10;
+    private boolean attributesChanged_;
+    /**
+     * <code>bool attributesChanged = 10;</code>
+     * @return The attributesChanged.
+     */
+    @java.lang.Override
+    public boolean getAttributesChanged() {
+      return attributesChanged_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -431,6 +643,21 @@ public final class Commands {
       if (enabled_ != false) {
         output.writeBool(5, enabled_);
       }
+      if (sequence_ != 0L) {
+        output.writeUInt64(6, sequence_);
+      }
+      if (full_ != false) {
+        output.writeBool(7, full_);
+      }
+      for (int i = 0; i < removedResources_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 8, removedResources_.getRaw(i));
+      }
+      for (int i = 0; i < removedServers_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 9, removedServers_.getRaw(i));
+      }
+      if (attributesChanged_ != false) {
+        output.writeBool(10, attributesChanged_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -463,6 +690,34 @@ public final class Commands {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(5, enabled_);
       }
+      if (sequence_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(6, sequence_);
+      }
+      if (full_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, full_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedResources_.size(); i++) {
+          dataSize += computeStringSizeNoTag(removedResources_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedResourcesList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedServers_.size(); i++) {
+          dataSize += computeStringSizeNoTag(removedServers_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedServersList().size();
+      }
+      if (attributesChanged_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(10, attributesChanged_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -488,6 +743,16 @@ public final class Commands {
           .equals(other.getServersList())) return false;
       if (getEnabled()
           != other.getEnabled()) return false;
+      if (getSequence()
+          != other.getSequence()) return false;
+      if (getFull()
+          != other.getFull()) return false;
+      if (!getRemovedResourcesList()
+          .equals(other.getRemovedResourcesList())) return false;
+      if (!getRemovedServersList()
+          .equals(other.getRemovedServersList())) return false;
+      if (getAttributesChanged()
+          != other.getAttributesChanged()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -516,6 +781,23 @@ public final class Commands {
       hash = (37 * hash) + ENABLED_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getEnabled());
+      hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSequence());
+      hash = (37 * hash) + FULL_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getFull());
+      if (getRemovedResourcesCount() > 0) {
+        hash = (37 * hash) + REMOVEDRESOURCES_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedResourcesList().hashCode();
+      }
+      if (getRemovedServersCount() > 0) {
+        hash = (37 * hash) + REMOVEDSERVERS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedServersList().hashCode();
+      }
+      hash = (37 * hash) + ATTRIBUTESCHANGED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getAttributesChanged());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -669,6 +951,16 @@ public final class Commands {
         }
         enabled_ = false;
 
+        sequence_ = 0L;
+
+        full_ = false;
+
+        removedResources_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        removedServers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        attributesChanged_ = false;
+
         return this;
       }
 
@@ -721,6 +1013,19 @@ public final class Commands {
           result.servers_ = serversBuilder_.build();
         }
         result.enabled_ = enabled_;
+        result.sequence_ = sequence_;
+        result.full_ = full_;
+        if (((bitField0_ & 0x00000008) != 0)) {
+          removedResources_ = removedResources_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.removedResources_ = removedResources_;
+        if (((bitField0_ & 0x00000010) != 0)) {
+          removedServers_ = removedServers_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.removedServers_ = removedServers_;
+        result.attributesChanged_ = attributesChanged_;
         onBuilt();
         return result;
       }
@@ -838,6 +1143,35 @@ public final class Commands {
         if (other.getEnabled() != false) {
           setEnabled(other.getEnabled());
         }
+        if (other.getSequence() != 0L) {
+          setSequence(other.getSequence());
+        }
+        if (other.getFull() != false) {
+          setFull(other.getFull());
+        }
+        if (!other.removedResources_.isEmpty()) {
+          if (removedResources_.isEmpty()) {
+            removedResources_ = other.removedResources_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureRemovedResourcesIsMutable();
+            removedResources_.addAll(other.removedResources_);
+          }
+          onChanged();
+        }
+        if (!other.removedServers_.isEmpty()) {
+          if (removedServers_.isEmpty()) {
+            removedServers_ = other.removedServers_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureRemovedServersIsMutable();
+            removedServers_.addAll(other.removedServers_);
+          }
+          onChanged();
+        }
+        if (other.getAttributesChanged() != false) {
+          setAttributesChanged(other.getAttributesChanged());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -1564,6 +1898,319 @@ public final class Commands {
         onChanged();
         return this;
       }
+
+      private long sequence_ ;
+      /**
+       * <code>uint64 sequence = 6;</code>
+       * @return The sequence.
+       */
+      @java.lang.Override
+      public long getSequence() {
+        return sequence_;
+      }
+      /**
+       * <code>uint64 sequence = 6;</code>
+       * @param value The sequence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSequence(long value) {
+        
+        sequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 sequence = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSequence() {
+        
+        sequence_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean full_ ;
+      /**
+       * <code>bool full = 7;</code>
+       * @return The full.
+       */
+      @java.lang.Override
+      public boolean getFull() {
+        return full_;
+      }
+      /**
+       * <code>bool full = 7;</code>
+       * @param value The full to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFull(boolean value) {
+        
+        full_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool full = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFull() {
+        
+        full_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList removedResources_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureRemovedResourcesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          removedResources_ = new com.google.protobuf.LazyStringArrayList(removedResources_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated string removedResources = 8;</code>
+       * @return A list containing the removedResources.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRemovedResourcesList() {
+        return removedResources_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string removedResources = 8;</code>
+       * @return The count of removedResources.
+       */
+      public int getRemovedResourcesCount() {
+        return removedResources_.size();
+      }
+      /**
+       * <code>repeated string removedResources = 8;</code>
+       * @param index The index of the element to return.
+       * @return The removedResources at the given index.
+       */
+      public java.lang.String getRemovedResources(int index) {
+        return removedResources_.get(index);
+      }
+      /**
+       * <code>repeated string removedResources = 8;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the removedResources at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getRemovedResourcesBytes(int index) {
+        return removedResources_.getByteString(index);
+      }
+      /**
+       * <code>repeated string removedResources = 8;</code>
+       * @param index The index to set the value at.
+       * @param value The removedResources to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedResources(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedResourcesIsMutable();
+        removedResources_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removedResources = 8;</code>
+       * @param value The removedResources to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedResources(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedResourcesIsMutable();
+        removedResources_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removedResources = 8;</code>
+       * @param values The removedResources to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedResources(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRemovedResourcesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedResources_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removedResources = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedResources() {
+        removedResources_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removedResources = 8;</code>
+       * @param value The bytes of the removedResources to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedResourcesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureRemovedResourcesIsMutable();
+        removedResources_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList removedServers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureRemovedServersIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          removedServers_ = new com.google.protobuf.LazyStringArrayList(removedServers_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <code>repeated string removedServers = 9;</code>
+       * @return A list containing the removedServers.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRemovedServersList() {
+        return removedServers_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string removedServers = 9;</code>
+       * @return The count of removedServers.
+       */
+      public int getRemovedServersCount() {
+        return removedServers_.size();
+      }
+      /**
+       * <code>repeated string removedServers = 9;</code>
+       * @param index The index of the element to return.
+       * @return The removedServers at the given index.
+       */
+      public java.lang.String getRemovedServers(int index) {
+        return removedServers_.get(index);
+      }
+      /**
+       * <code>repeated string removedServers = 9;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the removedServers at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getRemovedServersBytes(int index) {
+        return removedServers_.getByteString(index);
+      }
+      /**
+       * <code>repeated string removedServers = 9;</code>
+       * @param index The index to set the value at.
+       * @param value The removedServers to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedServers(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedServersIsMutable();
+        removedServers_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removedServers = 9;</code>
+       * @param value The removedServers to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedServers(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedServersIsMutable();
+        removedServers_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removedServers = 9;</code>
+       * @param values The removedServers to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedServers(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRemovedServersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedServers_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removedServers = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedServers() {
+        removedServers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removedServers = 9;</code>
+       * @param value The bytes of the removedServers to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedServersBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureRemovedServersIsMutable();
+        removedServers_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private boolean attributesChanged_ ;
+      /**
+       * <code>bool attributesChanged = 10;</code>
+       * @return The attributesChanged.
+       */
+      @java.lang.Override
+      public boolean getAttributesChanged() {
+        return attributesChanged_;
+      }
+      /**
+       * <code>bool attributesChanged = 10;</code>
+       * @param value The attributesChanged to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAttributesChanged(boolean value) {
+        
+        attributesChanged_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool attributesChanged = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAttributesChanged() {
+        
+        attributesChanged_ = false;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -1617,45 +2264,36 @@ public final class Commands {
 
   }
 
-  public interface ProvisionOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.Provision)
+  public interface SyncResyncOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.SyncResync)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
-     * @return Whether the server field is set.
-     */
-    boolean hasServer();
-    /**
-     * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
-     * @return The server.
-     */
-    io.github.portlek.synergy.proto.Core.Server getServer();
-    /**
-     * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
+     * <code>uint64 sequence = 1;</code>
+     * @return The sequence.
      */
-    io.github.portlek.synergy.proto.Core.ServerOrBuilder getServerOrBuilder();
+    long getSequence();
   }
   /**
-   * Protobuf type {@code io.github.portlek.synergy.proto.Provision}
+   * Protobuf type {@code io.github.portlek.synergy.proto.SyncResync}
    */
-  public static final class Provision extends
+  public static final class SyncResync extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.Provision)
-      ProvisionOrBuilder {
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.SyncResync)
+      SyncResyncOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Provision.newBuilder() to construct.
-    private Provision(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use SyncResync.newBuilder() to construct.
+    private SyncResync(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Provision() {
+    private SyncResync() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new Provision();
+      return new SyncResync();
     }
 
     @java.lang.Override
@@ -1663,7 +2301,7 @@ public final class Commands {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Provision(
+    private SyncResync(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1681,17 +2319,9 @@ public final class Commands {
             case 0:
               done = true;
               break;
-            case 10: {
-              io.github.portlek.synergy.proto.Core.Server.Builder subBuilder = null;
-              if (server_ != null) {
-                subBuilder = server_.toBuilder();
-              }
-              server_ = input.readMessage(io.github.portlek.synergy.proto.Core.Server.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(server_);
-                server_ = subBuilder.buildPartial();
-              }
+            case 8: {
 
+              sequence_ = input.readUInt64();
               break;
             }
             default: {
@@ -1715,41 +2345,26 @@ public final class Commands {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_Provision_descriptor;
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SyncResync_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_Provision_fieldAccessorTable
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SyncResync_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              io.github.portlek.synergy.proto.Commands.Provision.class, io.github.portlek.synergy.proto.Commands.Provision.Builder.class);
+              io.github.portlek.synergy.proto.Commands.SyncResync.class, io.github.portlek.synergy.proto.Commands.SyncResync.Builder.class);
     }
 
-    public static final int SERVER_FIELD_NUMBER = 1;
-    private io.github.portlek.synergy.proto.Core.Server server_;
+    public static final int SEQUENCE_FIELD_NUMBER = 1;
+    private long sequence_;
     /**
-     * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
-     * @return Whether the server field is set.
-     */
-    @java.lang.Override
-    public boolean hasServer() {
-      return server_ != null;
-    }
-    /**
-     * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
-     * @return The server.
+     * <code>uint64 sequence = 1;</code>
+     * @return The sequence.
      */
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Core.Server getServer() {
-      return server_ == null ? io.github.portlek.synergy.proto.Core.Server.getDefaultInstance() : server_;
-    }
-    /**
-     * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
-     */
-    @java.lang.Override
-    public io.github.portlek.synergy.proto.Core.ServerOrBuilder getServerOrBuilder() {
-      return getServer();
+    public long getSequence() {
+      return sequence_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -1766,8 +2381,8 @@ public final class Commands {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (server_ != null) {
-        output.writeMessage(1, getServer());
+      if (sequence_ != 0L) {
+        output.writeUInt64(1, sequence_);
       }
       unknownFields.writeTo(output);
     }
@@ -1778,9 +2393,9 @@ public final class Commands {
       if (size != -1) return size;
 
       size = 0;
-      if (server_ != null) {
+      if (sequence_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getServer());
+          .computeUInt64Size(1, sequence_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -1792,16 +2407,13 @@ public final class Commands {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.Provision)) {
+      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.SyncResync)) {
         return super.equals(obj);
       }
-      io.github.portlek.synergy.proto.Commands.Provision other = (io.github.portlek.synergy.proto.Commands.Provision) obj;
+      io.github.portlek.synergy.proto.Commands.SyncResync other = (io.github.portlek.synergy.proto.Commands.SyncResync) obj;
 
-      if (hasServer() != other.hasServer()) return false;
-      if (hasServer()) {
-        if (!getServer()
-            .equals(other.getServer())) return false;
-      }
+      if (getSequence()
+          != other.getSequence()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -1813,78 +2425,77 @@ public final class Commands {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasServer()) {
-        hash = (37 * hash) + SERVER_FIELD_NUMBER;
-        hash = (53 * hash) + getServer().hashCode();
-      }
+      hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSequence());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncResync parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncResync parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncResync parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncResync parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(byte[] data)
+    public static io.github.portlek.synergy.proto.Commands.SyncResync parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncResync parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(java.io.InputStream input)
+    public static io.github.portlek.synergy.proto.Commands.SyncResync parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncResync parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.Provision parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.portlek.synergy.proto.Commands.SyncResync parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.Provision parseDelimitedFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncResync parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncResync parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncResync parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1897,7 +2508,7 @@ public final class Commands {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.Provision prototype) {
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.SyncResync prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -1913,26 +2524,26 @@ public final class Commands {
       return builder;
     }
     /**
-     * Protobuf type {@code io.github.portlek.synergy.proto.Provision}
+     * Protobuf type {@code io.github.portlek.synergy.proto.SyncResync}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.Provision)
-        io.github.portlek.synergy.proto.Commands.ProvisionOrBuilder {
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.SyncResync)
+        io.github.portlek.synergy.proto.Commands.SyncResyncOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_Provision_descriptor;
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SyncResync_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_Provision_fieldAccessorTable
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SyncResync_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                io.github.portlek.synergy.proto.Commands.Provision.class, io.github.portlek.synergy.proto.Commands.Provision.Builder.class);
+                io.github.portlek.synergy.proto.Commands.SyncResync.class, io.github.portlek.synergy.proto.Commands.SyncResync.Builder.class);
       }
 
-      // Construct using io.github.portlek.synergy.proto.Commands.Provision.newBuilder()
+      // Construct using io.github.portlek.synergy.proto.Commands.SyncResync.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -1950,29 +2561,25 @@ public final class Commands {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (serverBuilder_ == null) {
-          server_ = null;
-        } else {
-          server_ = null;
-          serverBuilder_ = null;
-        }
+        sequence_ = 0L;
+
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_Provision_descriptor;
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SyncResync_descriptor;
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.Provision getDefaultInstanceForType() {
-        return io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance();
+      public io.github.portlek.synergy.proto.Commands.SyncResync getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Commands.SyncResync.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.Provision build() {
-        io.github.portlek.synergy.proto.Commands.Provision result = buildPartial();
+      public io.github.portlek.synergy.proto.Commands.SyncResync build() {
+        io.github.portlek.synergy.proto.Commands.SyncResync result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -1980,13 +2587,9 @@ public final class Commands {
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.Provision buildPartial() {
-        io.github.portlek.synergy.proto.Commands.Provision result = new io.github.portlek.synergy.proto.Commands.Provision(this);
-        if (serverBuilder_ == null) {
-          result.server_ = server_;
-        } else {
-          result.server_ = serverBuilder_.build();
-        }
+      public io.github.portlek.synergy.proto.Commands.SyncResync buildPartial() {
+        io.github.portlek.synergy.proto.Commands.SyncResync result = new io.github.portlek.synergy.proto.Commands.SyncResync(this);
+        result.sequence_ = sequence_;
         onBuilt();
         return result;
       }
@@ -2025,18 +2628,18 @@ public final class Commands {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.portlek.synergy.proto.Commands.Provision) {
-          return mergeFrom((io.github.portlek.synergy.proto.Commands.Provision)other);
+        if (other instanceof io.github.portlek.synergy.proto.Commands.SyncResync) {
+          return mergeFrom((io.github.portlek.synergy.proto.Commands.SyncResync)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.Provision other) {
-        if (other == io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance()) return this;
-        if (other.hasServer()) {
-          mergeServer(other.getServer());
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.SyncResync other) {
+        if (other == io.github.portlek.synergy.proto.Commands.SyncResync.getDefaultInstance()) return this;
+        if (other.getSequence() != 0L) {
+          setSequence(other.getSequence());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -2053,11 +2656,11 @@ public final class Commands {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        io.github.portlek.synergy.proto.Commands.Provision parsedMessage = null;
+        io.github.portlek.synergy.proto.Commands.SyncResync parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (io.github.portlek.synergy.proto.Commands.Provision) e.getUnfinishedMessage();
+          parsedMessage = (io.github.portlek.synergy.proto.Commands.SyncResync) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -2067,123 +2670,35 @@ public final class Commands {
         return this;
       }
 
-      private io.github.portlek.synergy.proto.Core.Server server_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          io.github.portlek.synergy.proto.Core.Server, io.github.portlek.synergy.proto.Core.Server.Builder, io.github.portlek.synergy.proto.Core.ServerOrBuilder> serverBuilder_;
-      /**
-       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
-       * @return Whether the server field is set.
-       */
-      public boolean hasServer() {
-        return serverBuilder_ != null || server_ != null;
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
-       * @return The server.
-       */
-      public io.github.portlek.synergy.proto.Core.Server getServer() {
-        if (serverBuilder_ == null) {
-          return server_ == null ? io.github.portlek.synergy.proto.Core.Server.getDefaultInstance() : server_;
-        } else {
-          return serverBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
-       */
-      public Builder setServer(io.github.portlek.synergy.proto.Core.Server value) {
-        if (serverBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          server_ = value;
-          onChanged();
-        } else {
-          serverBuilder_.setMessage(value);
-        }
-
-        return this;
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
-       */
-      public Builder setServer(
-          io.github.portlek.synergy.proto.Core.Server.Builder builderForValue) {
-        if (serverBuilder_ == null) {
-          server_ = builderForValue.build();
-          onChanged();
-        } else {
-          serverBuilder_.setMessage(builderForValue.build());
-        }
-
-        return this;
-      }
+      private long sequence_ ;
       /**
-       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
+       * <code>uint64 sequence = 1;</code>
+       * @return The sequence.
        */
-      public Builder mergeServer(io.github.portlek.synergy.proto.Core.Server value) {
-        if (serverBuilder_ == null) {
-          if (server_ != null) {
-            server_ =
-              io.github.portlek.synergy.proto.Core.Server.newBuilder(server_).mergeFrom(value).buildPartial();
-          } else {
-            server_ = value;
-          }
-          onChanged();
-        } else {
-          serverBuilder_.mergeFrom(value);
-        }
-
-        return this;
+      @java.lang.Override
+      public long getSequence() {
+        return sequence_;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
+       * <code>uint64 sequence = 1;</code>
+       * @param value The sequence to set.
+       * @return This builder for chaining.
        */
-      public Builder clearServer() {
-        if (serverBuilder_ == null) {
-          server_ = null;
-          onChanged();
-        } else {
-          server_ = null;
-          serverBuilder_ = null;
-        }
-
+      public Builder setSequence(long value) {
+        
+        sequence_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
+       * <code>uint64 sequence = 1;</code>
+       * @return This builder for chaining.
        */
-      public io.github.portlek.synergy.proto.Core.Server.Builder getServerBuilder() {
+      public Builder clearSequence() {
         
+        sequence_ = 0L;
         onChanged();
-        return getServerFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
-       */
-      public io.github.portlek.synergy.proto.Core.ServerOrBuilder getServerOrBuilder() {
-        if (serverBuilder_ != null) {
-          return serverBuilder_.getMessageOrBuilder();
-        } else {
-          return server_ == null ?
-              io.github.portlek.synergy.proto.Core.Server.getDefaultInstance() : server_;
-        }
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          io.github.portlek.synergy.proto.Core.Server, io.github.portlek.synergy.proto.Core.Server.Builder, io.github.portlek.synergy.proto.Core.ServerOrBuilder> 
-          getServerFieldBuilder() {
-        if (serverBuilder_ == null) {
-          serverBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              io.github.portlek.synergy.proto.Core.Server, io.github.portlek.synergy.proto.Core.Server.Builder, io.github.portlek.synergy.proto.Core.ServerOrBuilder>(
-                  getServer(),
-                  getParentForChildren(),
-                  isClean());
-          server_ = null;
-        }
-        return serverBuilder_;
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -2198,76 +2713,76 @@ public final class Commands {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.Provision)
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.SyncResync)
     }
 
-    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.Provision)
-    private static final io.github.portlek.synergy.proto.Commands.Provision DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.SyncResync)
+    private static final io.github.portlek.synergy.proto.Commands.SyncResync DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.Provision();
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.SyncResync();
     }
 
-    public static io.github.portlek.synergy.proto.Commands.Provision getDefaultInstance() {
+    public static io.github.portlek.synergy.proto.Commands.SyncResync getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Provision>
-        PARSER = new com.google.protobuf.AbstractParser<Provision>() {
+    private static final com.google.protobuf.Parser<SyncResync>
+        PARSER = new com.google.protobuf.AbstractParser<SyncResync>() {
       @java.lang.Override
-      public Provision parsePartialFrom(
+      public SyncResync parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Provision(input, extensionRegistry);
+        return new SyncResync(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Provision> parser() {
+    public static com.google.protobuf.Parser<SyncResync> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Provision> getParserForType() {
+    public com.google.protobuf.Parser<SyncResync> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Commands.Provision getDefaultInstanceForType() {
+    public io.github.portlek.synergy.proto.Commands.SyncResync getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface ProvisionResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.ProvisionResponse)
+  public interface SyncAckOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.SyncAck)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>bool ok = 1;</code>
-     * @return The ok.
+     * <code>uint64 sequence = 1;</code>
+     * @return The sequence.
      */
-    boolean getOk();
+    long getSequence();
   }
   /**
-   * Protobuf type {@code io.github.portlek.synergy.proto.ProvisionResponse}
+   * Protobuf type {@code io.github.portlek.synergy.proto.SyncAck}
    */
-  public static final class ProvisionResponse extends
+  public static final class SyncAck extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.ProvisionResponse)
-      ProvisionResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.SyncAck)
+      SyncAckOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use ProvisionResponse.newBuilder() to construct.
-    private ProvisionResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use SyncAck.newBuilder() to construct.
+    private SyncAck(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private ProvisionResponse() {
+    private SyncAck() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new ProvisionResponse();
+      return new SyncAck();
     }
 
     @java.lang.Override
@@ -2275,7 +2790,7 @@ public final class Commands {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private ProvisionResponse(
+    private SyncAck(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2295,7 +2810,7 @@ public final class Commands {
               break;
             case 8: {
 
-              ok_ = input.readBool();
+              sequence_ = input.readUInt64();
               break;
             }
             default: {
@@ -2319,26 +2834,26 @@ public final class Commands {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_ProvisionResponse_descriptor;
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SyncAck_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_ProvisionResponse_fieldAccessorTable
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SyncAck_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              io.github.portlek.synergy.proto.Commands.ProvisionResponse.class, io.github.portlek.synergy.proto.Commands.ProvisionResponse.Builder.class);
+              io.github.portlek.synergy.proto.Commands.SyncAck.class, io.github.portlek.synergy.proto.Commands.SyncAck.Builder.class);
     }
 
-    public static final int OK_FIELD_NUMBER = 1;
-    private boolean ok_;
+    public static final int SEQUENCE_FIELD_NUMBER = 1;
+    private long sequence_;
     /**
-     * <code>bool ok = 1;</code>
-     * @return The ok.
+     * <code>uint64 sequence = 1;</code>
+     * @return The sequence.
      */
     @java.lang.Override
-    public boolean getOk() {
-      return ok_;
+    public long getSequence() {
+      return sequence_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2355,8 +2870,8 @@ public final class Commands {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (ok_ != false) {
-        output.writeBool(1, ok_);
+      if (sequence_ != 0L) {
+        output.writeUInt64(1, sequence_);
       }
       unknownFields.writeTo(output);
     }
@@ -2367,9 +2882,9 @@ public final class Commands {
       if (size != -1) return size;
 
       size = 0;
-      if (ok_ != false) {
+      if (sequence_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, ok_);
+          .computeUInt64Size(1, sequence_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -2381,13 +2896,13 @@ public final class Commands {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.ProvisionResponse)) {
+      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.SyncAck)) {
         return super.equals(obj);
       }
-      io.github.portlek.synergy.proto.Commands.ProvisionResponse other = (io.github.portlek.synergy.proto.Commands.ProvisionResponse) obj;
+      io.github.portlek.synergy.proto.Commands.SyncAck other = (io.github.portlek.synergy.proto.Commands.SyncAck) obj;
 
-      if (getOk()
-          != other.getOk()) return false;
+      if (getSequence()
+          != other.getSequence()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -2399,77 +2914,77 @@ public final class Commands {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + OK_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getOk());
+      hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSequence());
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncAck parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncAck parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncAck parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncAck parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(byte[] data)
+    public static io.github.portlek.synergy.proto.Commands.SyncAck parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncAck parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(java.io.InputStream input)
+    public static io.github.portlek.synergy.proto.Commands.SyncAck parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncAck parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.portlek.synergy.proto.Commands.SyncAck parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseDelimitedFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncAck parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncAck parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.SyncAck parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2482,7 +2997,7 @@ public final class Commands {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.ProvisionResponse prototype) {
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.SyncAck prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -2498,26 +3013,26 @@ public final class Commands {
       return builder;
     }
     /**
-     * Protobuf type {@code io.github.portlek.synergy.proto.ProvisionResponse}
+     * Protobuf type {@code io.github.portlek.synergy.proto.SyncAck}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.ProvisionResponse)
-        io.github.portlek.synergy.proto.Commands.ProvisionResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.SyncAck)
+        io.github.portlek.synergy.proto.Commands.SyncAckOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_ProvisionResponse_descriptor;
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SyncAck_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_ProvisionResponse_fieldAccessorTable
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SyncAck_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                io.github.portlek.synergy.proto.Commands.ProvisionResponse.class, io.github.portlek.synergy.proto.Commands.ProvisionResponse.Builder.class);
+                io.github.portlek.synergy.proto.Commands.SyncAck.class, io.github.portlek.synergy.proto.Commands.SyncAck.Builder.class);
       }
 
-      // Construct using io.github.portlek.synergy.proto.Commands.ProvisionResponse.newBuilder()
+      // Construct using io.github.portlek.synergy.proto.Commands.SyncAck.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2535,7 +3050,7 @@ public final class Commands {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        ok_ = false;
+        sequence_ = 0L;
 
         return this;
       }
@@ -2543,17 +3058,17 @@ public final class Commands {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_ProvisionResponse_descriptor;
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SyncAck_descriptor;
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.ProvisionResponse getDefaultInstanceForType() {
-        return io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance();
+      public io.github.portlek.synergy.proto.Commands.SyncAck getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Commands.SyncAck.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.ProvisionResponse build() {
-        io.github.portlek.synergy.proto.Commands.ProvisionResponse result = buildPartial();
+      public io.github.portlek.synergy.proto.Commands.SyncAck build() {
+        io.github.portlek.synergy.proto.Commands.SyncAck result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2561,9 +3076,9 @@ public final class Commands {
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.ProvisionResponse buildPartial() {
-        io.github.portlek.synergy.proto.Commands.ProvisionResponse result = new io.github.portlek.synergy.proto.Commands.ProvisionResponse(this);
-        result.ok_ = ok_;
+      public io.github.portlek.synergy.proto.Commands.SyncAck buildPartial() {
+        io.github.portlek.synergy.proto.Commands.SyncAck result = new io.github.portlek.synergy.proto.Commands.SyncAck(this);
+        result.sequence_ = sequence_;
         onBuilt();
         return result;
       }
@@ -2602,18 +3117,18 @@ public final class Commands {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.portlek.synergy.proto.Commands.ProvisionResponse) {
-          return mergeFrom((io.github.portlek.synergy.proto.Commands.ProvisionResponse)other);
+        if (other instanceof io.github.portlek.synergy.proto.Commands.SyncAck) {
+          return mergeFrom((io.github.portlek.synergy.proto.Commands.SyncAck)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.ProvisionResponse other) {
-        if (other == io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance()) return this;
-        if (other.getOk() != false) {
-          setOk(other.getOk());
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.SyncAck other) {
+        if (other == io.github.portlek.synergy.proto.Commands.SyncAck.getDefaultInstance()) return this;
+        if (other.getSequence() != 0L) {
+          setSequence(other.getSequence());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -2630,11 +3145,11 @@ public final class Commands {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        io.github.portlek.synergy.proto.Commands.ProvisionResponse parsedMessage = null;
+        io.github.portlek.synergy.proto.Commands.SyncAck parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (io.github.portlek.synergy.proto.Commands.ProvisionResponse) e.getUnfinishedMessage();
+          parsedMessage = (io.github.portlek.synergy.proto.Commands.SyncAck) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -2644,33 +3159,33 @@ public final class Commands {
         return this;
       }
 
-      private boolean ok_ ;
+      private long sequence_ ;
       /**
-       * <code>bool ok = 1;</code>
-       * @return The ok.
+       * <code>uint64 sequence = 1;</code>
+       * @return The sequence.
        */
       @java.lang.Override
-      public boolean getOk() {
-        return ok_;
+      public long getSequence() {
+        return sequence_;
       }
       /**
-       * <code>bool ok = 1;</code>
-       * @param value The ok to set.
+       * <code>uint64 sequence = 1;</code>
+       * @param value The sequence to set.
        * @return This builder for chaining.
        */
-      public Builder setOk(boolean value) {
+      public Builder setSequence(long value) {
         
-        ok_ = value;
+        sequence_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>bool ok = 1;</code>
+       * <code>uint64 sequence = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearOk() {
+      public Builder clearSequence() {
         
-        ok_ = false;
+        sequence_ = 0L;
         onChanged();
         return this;
       }
@@ -2687,85 +3202,85 @@ public final class Commands {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.ProvisionResponse)
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.SyncAck)
     }
 
-    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.ProvisionResponse)
-    private static final io.github.portlek.synergy.proto.Commands.ProvisionResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.SyncAck)
+    private static final io.github.portlek.synergy.proto.Commands.SyncAck DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.ProvisionResponse();
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.SyncAck();
     }
 
-    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse getDefaultInstance() {
+    public static io.github.portlek.synergy.proto.Commands.SyncAck getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<ProvisionResponse>
-        PARSER = new com.google.protobuf.AbstractParser<ProvisionResponse>() {
+    private static final com.google.protobuf.Parser<SyncAck>
+        PARSER = new com.google.protobuf.AbstractParser<SyncAck>() {
       @java.lang.Override
-      public ProvisionResponse parsePartialFrom(
+      public SyncAck parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ProvisionResponse(input, extensionRegistry);
+        return new SyncAck(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<ProvisionResponse> parser() {
+    public static com.google.protobuf.Parser<SyncAck> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<ProvisionResponse> getParserForType() {
+    public com.google.protobuf.Parser<SyncAck> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Commands.ProvisionResponse getDefaultInstanceForType() {
+    public io.github.portlek.synergy.proto.Commands.SyncAck getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PackageRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.PackageRequest)
+  public interface ProvisionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.Provision)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
-     * @return Whether the p3 field is set.
+     * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
+     * @return Whether the server field is set.
      */
-    boolean hasP3();
+    boolean hasServer();
     /**
-     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
-     * @return The p3.
+     * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
+     * @return The server.
      */
-    io.github.portlek.synergy.proto.P3.P3Meta getP3();
+    io.github.portlek.synergy.proto.Core.Server getServer();
     /**
-     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
      */
-    io.github.portlek.synergy.proto.P3.P3MetaOrBuilder getP3OrBuilder();
+    io.github.portlek.synergy.proto.Core.ServerOrBuilder getServerOrBuilder();
   }
   /**
-   * Protobuf type {@code io.github.portlek.synergy.proto.PackageRequest}
+   * Protobuf type {@code io.github.portlek.synergy.proto.Provision}
    */
-  public static final class PackageRequest extends
+  public static final class Provision extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.PackageRequest)
-      PackageRequestOrBuilder {
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.Provision)
+      ProvisionOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use PackageRequest.newBuilder() to construct.
-    private PackageRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use Provision.newBuilder() to construct.
+    private Provision(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private PackageRequest() {
+    private Provision() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new PackageRequest();
+      return new Provision();
     }
 
     @java.lang.Override
@@ -2773,7 +3288,7 @@ public final class Commands {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private PackageRequest(
+    private Provision(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2792,14 +3307,14 @@ public final class Commands {
               done = true;
               break;
             case 10: {
-              io.github.portlek.synergy.proto.P3.P3Meta.Builder subBuilder = null;
-              if (p3_ != null) {
-                subBuilder = p3_.toBuilder();
+              io.github.portlek.synergy.proto.Core.Server.Builder subBuilder = null;
+              if (server_ != null) {
+                subBuilder = server_.toBuilder();
               }
-              p3_ = input.readMessage(io.github.portlek.synergy.proto.P3.P3Meta.parser(), extensionRegistry);
+              server_ = input.readMessage(io.github.portlek.synergy.proto.Core.Server.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(p3_);
-                p3_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(server_);
+                server_ = subBuilder.buildPartial();
               }
 
               break;
@@ -2825,41 +3340,41 @@ public final class Commands {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageRequest_descriptor;
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_Provision_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageRequest_fieldAccessorTable
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_Provision_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              io.github.portlek.synergy.proto.Commands.PackageRequest.class, io.github.portlek.synergy.proto.Commands.PackageRequest.Builder.class);
+              io.github.portlek.synergy.proto.Commands.Provision.class, io.github.portlek.synergy.proto.Commands.Provision.Builder.class);
     }
 
-    public static final int P3_FIELD_NUMBER = 1;
-    private io.github.portlek.synergy.proto.P3.P3Meta p3_;
+    public static final int SERVER_FIELD_NUMBER = 1;
+    private io.github.portlek.synergy.proto.Core.Server server_;
     /**
-     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
-     * @return Whether the p3 field is set.
+     * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
+     * @return Whether the server field is set.
      */
     @java.lang.Override
-    public boolean hasP3() {
-      return p3_ != null;
+    public boolean hasServer() {
+      return server_ != null;
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
-     * @return The p3.
+     * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
+     * @return The server.
      */
     @java.lang.Override
-    public io.github.portlek.synergy.proto.P3.P3Meta getP3() {
-      return p3_ == null ? io.github.portlek.synergy.proto.P3.P3Meta.getDefaultInstance() : p3_;
+    public io.github.portlek.synergy.proto.Core.Server getServer() {
+      return server_ == null ? io.github.portlek.synergy.proto.Core.Server.getDefaultInstance() : server_;
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
      */
     @java.lang.Override
-    public io.github.portlek.synergy.proto.P3.P3MetaOrBuilder getP3OrBuilder() {
-      return getP3();
+    public io.github.portlek.synergy.proto.Core.ServerOrBuilder getServerOrBuilder() {
+      return getServer();
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2876,8 +3391,8 @@ public final class Commands {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (p3_ != null) {
-        output.writeMessage(1, getP3());
+      if (server_ != null) {
+        output.writeMessage(1, getServer());
       }
       unknownFields.writeTo(output);
     }
@@ -2888,9 +3403,9 @@ public final class Commands {
       if (size != -1) return size;
 
       size = 0;
-      if (p3_ != null) {
+      if (server_ != null) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getP3());
+          .computeMessageSize(1, getServer());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -2902,15 +3417,15 @@ public final class Commands {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.PackageRequest)) {
+      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.Provision)) {
         return super.equals(obj);
       }
-      io.github.portlek.synergy.proto.Commands.PackageRequest other = (io.github.portlek.synergy.proto.Commands.PackageRequest) obj;
+      io.github.portlek.synergy.proto.Commands.Provision other = (io.github.portlek.synergy.proto.Commands.Provision) obj;
 
-      if (hasP3() != other.hasP3()) return false;
-      if (hasP3()) {
-        if (!getP3()
-            .equals(other.getP3())) return false;
+      if (hasServer() != other.hasServer()) return false;
+      if (hasServer()) {
+        if (!getServer()
+            .equals(other.getServer())) return false;
       }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
@@ -2923,78 +3438,78 @@ public final class Commands {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasP3()) {
-        hash = (37 * hash) + P3_FIELD_NUMBER;
-        hash = (53 * hash) + getP3().hashCode();
+      if (hasServer()) {
+        hash = (37 * hash) + SERVER_FIELD_NUMBER;
+        hash = (53 * hash) + getServer().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(byte[] data)
+    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(java.io.InputStream input)
+    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.portlek.synergy.proto.Commands.Provision parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseDelimitedFrom(
+    public static io.github.portlek.synergy.proto.Commands.Provision parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.Provision parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3007,7 +3522,7 @@ public final class Commands {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.PackageRequest prototype) {
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.Provision prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3023,26 +3538,26 @@ public final class Commands {
       return builder;
     }
     /**
-     * Protobuf type {@code io.github.portlek.synergy.proto.PackageRequest}
+     * Protobuf type {@code io.github.portlek.synergy.proto.Provision}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.PackageRequest)
-        io.github.portlek.synergy.proto.Commands.PackageRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.Provision)
+        io.github.portlek.synergy.proto.Commands.ProvisionOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageRequest_descriptor;
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_Provision_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageRequest_fieldAccessorTable
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_Provision_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                io.github.portlek.synergy.proto.Commands.PackageRequest.class, io.github.portlek.synergy.proto.Commands.PackageRequest.Builder.class);
+                io.github.portlek.synergy.proto.Commands.Provision.class, io.github.portlek.synergy.proto.Commands.Provision.Builder.class);
       }
 
-      // Construct using io.github.portlek.synergy.proto.Commands.PackageRequest.newBuilder()
+      // Construct using io.github.portlek.synergy.proto.Commands.Provision.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3060,11 +3575,11 @@ public final class Commands {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (p3Builder_ == null) {
-          p3_ = null;
+        if (serverBuilder_ == null) {
+          server_ = null;
         } else {
-          p3_ = null;
-          p3Builder_ = null;
+          server_ = null;
+          serverBuilder_ = null;
         }
         return this;
       }
@@ -3072,17 +3587,17 @@ public final class Commands {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageRequest_descriptor;
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_Provision_descriptor;
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.PackageRequest getDefaultInstanceForType() {
-        return io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance();
+      public io.github.portlek.synergy.proto.Commands.Provision getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.PackageRequest build() {
-        io.github.portlek.synergy.proto.Commands.PackageRequest result = buildPartial();
+      public io.github.portlek.synergy.proto.Commands.Provision build() {
+        io.github.portlek.synergy.proto.Commands.Provision result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -3090,12 +3605,12 @@ public final class Commands {
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.PackageRequest buildPartial() {
-        io.github.portlek.synergy.proto.Commands.PackageRequest result = new io.github.portlek.synergy.proto.Commands.PackageRequest(this);
-        if (p3Builder_ == null) {
-          result.p3_ = p3_;
+      public io.github.portlek.synergy.proto.Commands.Provision buildPartial() {
+        io.github.portlek.synergy.proto.Commands.Provision result = new io.github.portlek.synergy.proto.Commands.Provision(this);
+        if (serverBuilder_ == null) {
+          result.server_ = server_;
         } else {
-          result.p3_ = p3Builder_.build();
+          result.server_ = serverBuilder_.build();
         }
         onBuilt();
         return result;
@@ -3135,18 +3650,18 @@ public final class Commands {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.portlek.synergy.proto.Commands.PackageRequest) {
-          return mergeFrom((io.github.portlek.synergy.proto.Commands.PackageRequest)other);
+        if (other instanceof io.github.portlek.synergy.proto.Commands.Provision) {
+          return mergeFrom((io.github.portlek.synergy.proto.Commands.Provision)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.PackageRequest other) {
-        if (other == io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance()) return this;
-        if (other.hasP3()) {
-          mergeP3(other.getP3());
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.Provision other) {
+        if (other == io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance()) return this;
+        if (other.hasServer()) {
+          mergeServer(other.getServer());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -3163,11 +3678,11 @@ public final class Commands {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        io.github.portlek.synergy.proto.Commands.PackageRequest parsedMessage = null;
+        io.github.portlek.synergy.proto.Commands.Provision parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (io.github.portlek.synergy.proto.Commands.PackageRequest) e.getUnfinishedMessage();
+          parsedMessage = (io.github.portlek.synergy.proto.Commands.Provision) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3177,123 +3692,123 @@ public final class Commands {
         return this;
       }
 
-      private io.github.portlek.synergy.proto.P3.P3Meta p3_;
+      private io.github.portlek.synergy.proto.Core.Server server_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          io.github.portlek.synergy.proto.P3.P3Meta, io.github.portlek.synergy.proto.P3.P3Meta.Builder, io.github.portlek.synergy.proto.P3.P3MetaOrBuilder> p3Builder_;
+          io.github.portlek.synergy.proto.Core.Server, io.github.portlek.synergy.proto.Core.Server.Builder, io.github.portlek.synergy.proto.Core.ServerOrBuilder> serverBuilder_;
       /**
-       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
-       * @return Whether the p3 field is set.
+       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
+       * @return Whether the server field is set.
        */
-      public boolean hasP3() {
-        return p3Builder_ != null || p3_ != null;
+      public boolean hasServer() {
+        return serverBuilder_ != null || server_ != null;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
-       * @return The p3.
+       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
+       * @return The server.
        */
-      public io.github.portlek.synergy.proto.P3.P3Meta getP3() {
-        if (p3Builder_ == null) {
-          return p3_ == null ? io.github.portlek.synergy.proto.P3.P3Meta.getDefaultInstance() : p3_;
+      public io.github.portlek.synergy.proto.Core.Server getServer() {
+        if (serverBuilder_ == null) {
+          return server_ == null ? io.github.portlek.synergy.proto.Core.Server.getDefaultInstance() : server_;
         } else {
-          return p3Builder_.getMessage();
+          return serverBuilder_.getMessage();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
        */
-      public Builder setP3(io.github.portlek.synergy.proto.P3.P3Meta value) {
-        if (p3Builder_ == null) {
+      public Builder setServer(io.github.portlek.synergy.proto.Core.Server value) {
+        if (serverBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          p3_ = value;
+          server_ = value;
           onChanged();
         } else {
-          p3Builder_.setMessage(value);
+          serverBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
        */
-      public Builder setP3(
-          io.github.portlek.synergy.proto.P3.P3Meta.Builder builderForValue) {
-        if (p3Builder_ == null) {
-          p3_ = builderForValue.build();
+      public Builder setServer(
+          io.github.portlek.synergy.proto.Core.Server.Builder builderForValue) {
+        if (serverBuilder_ == null) {
+          server_ = builderForValue.build();
           onChanged();
         } else {
-          p3Builder_.setMessage(builderForValue.build());
+          serverBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
        */
-      public Builder mergeP3(io.github.portlek.synergy.proto.P3.P3Meta value) {
-        if (p3Builder_ == null) {
-          if (p3_ != null) {
-            p3_ =
-              io.github.portlek.synergy.proto.P3.P3Meta.newBuilder(p3_).mergeFrom(value).buildPartial();
+      public Builder mergeServer(io.github.portlek.synergy.proto.Core.Server value) {
+        if (serverBuilder_ == null) {
+          if (server_ != null) {
+            server_ =
+              io.github.portlek.synergy.proto.Core.Server.newBuilder(server_).mergeFrom(value).buildPartial();
           } else {
-            p3_ = value;
+            server_ = value;
           }
           onChanged();
         } else {
-          p3Builder_.mergeFrom(value);
+          serverBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
        */
-      public Builder clearP3() {
-        if (p3Builder_ == null) {
-          p3_ = null;
+      public Builder clearServer() {
+        if (serverBuilder_ == null) {
+          server_ = null;
           onChanged();
         } else {
-          p3_ = null;
-          p3Builder_ = null;
+          server_ = null;
+          serverBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
        */
-      public io.github.portlek.synergy.proto.P3.P3Meta.Builder getP3Builder() {
+      public io.github.portlek.synergy.proto.Core.Server.Builder getServerBuilder() {
         
         onChanged();
-        return getP3FieldBuilder().getBuilder();
+        return getServerFieldBuilder().getBuilder();
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
        */
-      public io.github.portlek.synergy.proto.P3.P3MetaOrBuilder getP3OrBuilder() {
-        if (p3Builder_ != null) {
-          return p3Builder_.getMessageOrBuilder();
+      public io.github.portlek.synergy.proto.Core.ServerOrBuilder getServerOrBuilder() {
+        if (serverBuilder_ != null) {
+          return serverBuilder_.getMessageOrBuilder();
         } else {
-          return p3_ == null ?
-              io.github.portlek.synergy.proto.P3.P3Meta.getDefaultInstance() : p3_;
+          return server_ == null ?
+              io.github.portlek.synergy.proto.Core.Server.getDefaultInstance() : server_;
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       * <code>.io.github.portlek.synergy.proto.Server server = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          io.github.portlek.synergy.proto.P3.P3Meta, io.github.portlek.synergy.proto.P3.P3Meta.Builder, io.github.portlek.synergy.proto.P3.P3MetaOrBuilder> 
-          getP3FieldBuilder() {
-        if (p3Builder_ == null) {
-          p3Builder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              io.github.portlek.synergy.proto.P3.P3Meta, io.github.portlek.synergy.proto.P3.P3Meta.Builder, io.github.portlek.synergy.proto.P3.P3MetaOrBuilder>(
-                  getP3(),
+          io.github.portlek.synergy.proto.Core.Server, io.github.portlek.synergy.proto.Core.Server.Builder, io.github.portlek.synergy.proto.Core.ServerOrBuilder> 
+          getServerFieldBuilder() {
+        if (serverBuilder_ == null) {
+          serverBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.portlek.synergy.proto.Core.Server, io.github.portlek.synergy.proto.Core.Server.Builder, io.github.portlek.synergy.proto.Core.ServerOrBuilder>(
+                  getServer(),
                   getParentForChildren(),
                   isClean());
-          p3_ = null;
+          server_ = null;
         }
-        return p3Builder_;
+        return serverBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -3308,48 +3823,48 @@ public final class Commands {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.PackageRequest)
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.Provision)
     }
 
-    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.PackageRequest)
-    private static final io.github.portlek.synergy.proto.Commands.PackageRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.Provision)
+    private static final io.github.portlek.synergy.proto.Commands.Provision DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.PackageRequest();
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.Provision();
     }
 
-    public static io.github.portlek.synergy.proto.Commands.PackageRequest getDefaultInstance() {
+    public static io.github.portlek.synergy.proto.Commands.Provision getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<PackageRequest>
-        PARSER = new com.google.protobuf.AbstractParser<PackageRequest>() {
+    private static final com.google.protobuf.Parser<Provision>
+        PARSER = new com.google.protobuf.AbstractParser<Provision>() {
       @java.lang.Override
-      public PackageRequest parsePartialFrom(
+      public Provision parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new PackageRequest(input, extensionRegistry);
+        return new Provision(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<PackageRequest> parser() {
+    public static com.google.protobuf.Parser<Provision> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PackageRequest> getParserForType() {
+    public com.google.protobuf.Parser<Provision> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Commands.PackageRequest getDefaultInstanceForType() {
+    public io.github.portlek.synergy.proto.Commands.Provision getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PackageResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.PackageResponse)
+  public interface ProvisionResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.ProvisionResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -3357,42 +3872,27 @@ public final class Commands {
      * @return The ok.
      */
     boolean getOk();
-
-    /**
-     * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-     * @return Whether the data field is set.
-     */
-    boolean hasData();
-    /**
-     * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-     * @return The data.
-     */
-    io.github.portlek.synergy.proto.P3.PackageData getData();
-    /**
-     * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-     */
-    io.github.portlek.synergy.proto.P3.PackageDataOrBuilder getDataOrBuilder();
   }
   /**
-   * Protobuf type {@code io.github.portlek.synergy.proto.PackageResponse}
+   * Protobuf type {@code io.github.portlek.synergy.proto.ProvisionResponse}
    */
-  public static final class PackageResponse extends
+  public static final class ProvisionResponse extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.PackageResponse)
-      PackageResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.ProvisionResponse)
+      ProvisionResponseOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use PackageResponse.newBuilder() to construct.
-    private PackageResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ProvisionResponse.newBuilder() to construct.
+    private ProvisionResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private PackageResponse() {
+    private ProvisionResponse() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new PackageResponse();
+      return new ProvisionResponse();
     }
 
     @java.lang.Override
@@ -3400,7 +3900,7 @@ public final class Commands {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private PackageResponse(
+    private ProvisionResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3423,19 +3923,6 @@ public final class Commands {
               ok_ = input.readBool();
               break;
             }
-            case 18: {
-              io.github.portlek.synergy.proto.P3.PackageData.Builder subBuilder = null;
-              if (data_ != null) {
-                subBuilder = data_.toBuilder();
-              }
-              data_ = input.readMessage(io.github.portlek.synergy.proto.P3.PackageData.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(data_);
-                data_ = subBuilder.buildPartial();
-              }
-
-              break;
-            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -3457,15 +3944,15 @@ public final class Commands {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageResponse_descriptor;
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_ProvisionResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageResponse_fieldAccessorTable
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_ProvisionResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              io.github.portlek.synergy.proto.Commands.PackageResponse.class, io.github.portlek.synergy.proto.Commands.PackageResponse.Builder.class);
+              io.github.portlek.synergy.proto.Commands.ProvisionResponse.class, io.github.portlek.synergy.proto.Commands.ProvisionResponse.Builder.class);
     }
 
     public static final int OK_FIELD_NUMBER = 1;
@@ -3479,32 +3966,6 @@ public final class Commands {
       return ok_;
     }
 
-    public static final int DATA_FIELD_NUMBER = 2;
-    private io.github.portlek.synergy.proto.P3.PackageData data_;
-    /**
-     * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-     * @return Whether the data field is set.
-     */
-    @java.lang.Override
-    public boolean hasData() {
-      return data_ != null;
-    }
-    /**
-     * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-     * @return The data.
-     */
-    @java.lang.Override
-    public io.github.portlek.synergy.proto.P3.PackageData getData() {
-      return data_ == null ? io.github.portlek.synergy.proto.P3.PackageData.getDefaultInstance() : data_;
-    }
-    /**
-     * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-     */
-    @java.lang.Override
-    public io.github.portlek.synergy.proto.P3.PackageDataOrBuilder getDataOrBuilder() {
-      return getData();
-    }
-
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -3522,9 +3983,6 @@ public final class Commands {
       if (ok_ != false) {
         output.writeBool(1, ok_);
       }
-      if (data_ != null) {
-        output.writeMessage(2, getData());
-      }
       unknownFields.writeTo(output);
     }
 
@@ -3538,10 +3996,6 @@ public final class Commands {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(1, ok_);
       }
-      if (data_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getData());
-      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -3552,18 +4006,13 @@ public final class Commands {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.PackageResponse)) {
+      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.ProvisionResponse)) {
         return super.equals(obj);
       }
-      io.github.portlek.synergy.proto.Commands.PackageResponse other = (io.github.portlek.synergy.proto.Commands.PackageResponse) obj;
+      io.github.portlek.synergy.proto.Commands.ProvisionResponse other = (io.github.portlek.synergy.proto.Commands.ProvisionResponse) obj;
 
       if (getOk()
           != other.getOk()) return false;
-      if (hasData() != other.hasData()) return false;
-      if (hasData()) {
-        if (!getData()
-            .equals(other.getData())) return false;
-      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -3578,78 +4027,74 @@ public final class Commands {
       hash = (37 * hash) + OK_FIELD_NUMBER;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getOk());
-      if (hasData()) {
-        hash = (37 * hash) + DATA_FIELD_NUMBER;
-        hash = (53 * hash) + getData().hashCode();
-      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(byte[] data)
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(java.io.InputStream input)
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseDelimitedFrom(
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3662,7 +4107,7 @@ public final class Commands {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.PackageResponse prototype) {
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.ProvisionResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3678,26 +4123,26 @@ public final class Commands {
       return builder;
     }
     /**
-     * Protobuf type {@code io.github.portlek.synergy.proto.PackageResponse}
+     * Protobuf type {@code io.github.portlek.synergy.proto.ProvisionResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.PackageResponse)
-        io.github.portlek.synergy.proto.Commands.PackageResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.ProvisionResponse)
+        io.github.portlek.synergy.proto.Commands.ProvisionResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageResponse_descriptor;
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_ProvisionResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageResponse_fieldAccessorTable
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_ProvisionResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                io.github.portlek.synergy.proto.Commands.PackageResponse.class, io.github.portlek.synergy.proto.Commands.PackageResponse.Builder.class);
+                io.github.portlek.synergy.proto.Commands.ProvisionResponse.class, io.github.portlek.synergy.proto.Commands.ProvisionResponse.Builder.class);
       }
 
-      // Construct using io.github.portlek.synergy.proto.Commands.PackageResponse.newBuilder()
+      // Construct using io.github.portlek.synergy.proto.Commands.ProvisionResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3717,29 +4162,23 @@ public final class Commands {
         super.clear();
         ok_ = false;
 
-        if (dataBuilder_ == null) {
-          data_ = null;
-        } else {
-          data_ = null;
-          dataBuilder_ = null;
-        }
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageResponse_descriptor;
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_ProvisionResponse_descriptor;
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.PackageResponse getDefaultInstanceForType() {
-        return io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance();
+      public io.github.portlek.synergy.proto.Commands.ProvisionResponse getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.PackageResponse build() {
-        io.github.portlek.synergy.proto.Commands.PackageResponse result = buildPartial();
+      public io.github.portlek.synergy.proto.Commands.ProvisionResponse build() {
+        io.github.portlek.synergy.proto.Commands.ProvisionResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -3747,14 +4186,9 @@ public final class Commands {
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.PackageResponse buildPartial() {
-        io.github.portlek.synergy.proto.Commands.PackageResponse result = new io.github.portlek.synergy.proto.Commands.PackageResponse(this);
+      public io.github.portlek.synergy.proto.Commands.ProvisionResponse buildPartial() {
+        io.github.portlek.synergy.proto.Commands.ProvisionResponse result = new io.github.portlek.synergy.proto.Commands.ProvisionResponse(this);
         result.ok_ = ok_;
-        if (dataBuilder_ == null) {
-          result.data_ = data_;
-        } else {
-          result.data_ = dataBuilder_.build();
-        }
         onBuilt();
         return result;
       }
@@ -3793,22 +4227,19 @@ public final class Commands {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.portlek.synergy.proto.Commands.PackageResponse) {
-          return mergeFrom((io.github.portlek.synergy.proto.Commands.PackageResponse)other);
+        if (other instanceof io.github.portlek.synergy.proto.Commands.ProvisionResponse) {
+          return mergeFrom((io.github.portlek.synergy.proto.Commands.ProvisionResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.PackageResponse other) {
-        if (other == io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance()) return this;
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.ProvisionResponse other) {
+        if (other == io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance()) return this;
         if (other.getOk() != false) {
           setOk(other.getOk());
         }
-        if (other.hasData()) {
-          mergeData(other.getData());
-        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -3824,11 +4255,11 @@ public final class Commands {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        io.github.portlek.synergy.proto.Commands.PackageResponse parsedMessage = null;
+        io.github.portlek.synergy.proto.Commands.ProvisionResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (io.github.portlek.synergy.proto.Commands.PackageResponse) e.getUnfinishedMessage();
+          parsedMessage = (io.github.portlek.synergy.proto.Commands.ProvisionResponse) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3868,125 +4299,6 @@ public final class Commands {
         onChanged();
         return this;
       }
-
-      private io.github.portlek.synergy.proto.P3.PackageData data_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          io.github.portlek.synergy.proto.P3.PackageData, io.github.portlek.synergy.proto.P3.PackageData.Builder, io.github.portlek.synergy.proto.P3.PackageDataOrBuilder> dataBuilder_;
-      /**
-       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-       * @return Whether the data field is set.
-       */
-      public boolean hasData() {
-        return dataBuilder_ != null || data_ != null;
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-       * @return The data.
-       */
-      public io.github.portlek.synergy.proto.P3.PackageData getData() {
-        if (dataBuilder_ == null) {
-          return data_ == null ? io.github.portlek.synergy.proto.P3.PackageData.getDefaultInstance() : data_;
-        } else {
-          return dataBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-       */
-      public Builder setData(io.github.portlek.synergy.proto.P3.PackageData value) {
-        if (dataBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          data_ = value;
-          onChanged();
-        } else {
-          dataBuilder_.setMessage(value);
-        }
-
-        return this;
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-       */
-      public Builder setData(
-          io.github.portlek.synergy.proto.P3.PackageData.Builder builderForValue) {
-        if (dataBuilder_ == null) {
-          data_ = builderForValue.build();
-          onChanged();
-        } else {
-          dataBuilder_.setMessage(builderForValue.build());
-        }
-
-        return this;
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-       */
-      public Builder mergeData(io.github.portlek.synergy.proto.P3.PackageData value) {
-        if (dataBuilder_ == null) {
-          if (data_ != null) {
-            data_ =
-              io.github.portlek.synergy.proto.P3.PackageData.newBuilder(data_).mergeFrom(value).buildPartial();
-          } else {
-            data_ = value;
-          }
-          onChanged();
-        } else {
-          dataBuilder_.mergeFrom(value);
-        }
-
-        return this;
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-       */
-      public Builder clearData() {
-        if (dataBuilder_ == null) {
-          data_ = null;
-          onChanged();
-        } else {
-          data_ = null;
-          dataBuilder_ = null;
-        }
-
-        return this;
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-       */
-      public io.github.portlek.synergy.proto.P3.PackageData.Builder getDataBuilder() {
-        
-        onChanged();
-        return getDataFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-       */
-      public io.github.portlek.synergy.proto.P3.PackageDataOrBuilder getDataOrBuilder() {
-        if (dataBuilder_ != null) {
-          return dataBuilder_.getMessageOrBuilder();
-        } else {
-          return data_ == null ?
-              io.github.portlek.synergy.proto.P3.PackageData.getDefaultInstance() : data_;
-        }
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          io.github.portlek.synergy.proto.P3.PackageData, io.github.portlek.synergy.proto.P3.PackageData.Builder, io.github.portlek.synergy.proto.P3.PackageDataOrBuilder> 
-          getDataFieldBuilder() {
-        if (dataBuilder_ == null) {
-          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              io.github.portlek.synergy.proto.P3.PackageData, io.github.portlek.synergy.proto.P3.PackageData.Builder, io.github.portlek.synergy.proto.P3.PackageDataOrBuilder>(
-                  getData(),
-                  getParentForChildren(),
-                  isClean());
-          data_ = null;
-        }
-        return dataBuilder_;
-      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -4000,91 +4312,133 @@ public final class Commands {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.PackageResponse)
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.ProvisionResponse)
     }
 
-    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.PackageResponse)
-    private static final io.github.portlek.synergy.proto.Commands.PackageResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.ProvisionResponse)
+    private static final io.github.portlek.synergy.proto.Commands.ProvisionResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.PackageResponse();
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.ProvisionResponse();
     }
 
-    public static io.github.portlek.synergy.proto.Commands.PackageResponse getDefaultInstance() {
+    public static io.github.portlek.synergy.proto.Commands.ProvisionResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<PackageResponse>
-        PARSER = new com.google.protobuf.AbstractParser<PackageResponse>() {
+    private static final com.google.protobuf.Parser<ProvisionResponse>
+        PARSER = new com.google.protobuf.AbstractParser<ProvisionResponse>() {
       @java.lang.Override
-      public PackageResponse parsePartialFrom(
+      public ProvisionResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new PackageResponse(input, extensionRegistry);
+        return new ProvisionResponse(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<PackageResponse> parser() {
+    public static com.google.protobuf.Parser<ProvisionResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PackageResponse> getParserForType() {
+    public com.google.protobuf.Parser<ProvisionResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Commands.PackageResponse getDefaultInstanceForType() {
+    public io.github.portlek.synergy.proto.Commands.ProvisionResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface SplitPackageResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.SplitPackageResponse)
+  public interface PackageRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.PackageRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>bool ok = 1;</code>
-     * @return The ok.
+     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     * @return Whether the p3 field is set.
      */
-    boolean getOk();
+    boolean hasP3();
+    /**
+     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     * @return The p3.
+     */
+    io.github.portlek.synergy.proto.P3.P3Meta getP3();
+    /**
+     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     */
+    io.github.portlek.synergy.proto.P3.P3MetaOrBuilder getP3OrBuilder();
 
     /**
-     * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
-     * @return Whether the data field is set.
+     * <code>uint64 offset = 2;</code>
+     * @return The offset.
      */
-    boolean hasData();
+    long getOffset();
+
     /**
-     * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
-     * @return The data.
+     * <code>uint32 blockSize = 3;</code>
+     * @return The blockSize.
      */
-    io.github.portlek.synergy.proto.P3.SplitPackageData getData();
+    int getBlockSize();
+
     /**
-     * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+     * <code>repeated fixed32 weak = 4;</code>
+     * @return A list containing the weak.
      */
-    io.github.portlek.synergy.proto.P3.SplitPackageDataOrBuilder getDataOrBuilder();
+    java.util.List<java.lang.Integer> getWeakList();
+    /**
+     * <code>repeated fixed32 weak = 4;</code>
+     * @return The count of weak.
+     */
+    int getWeakCount();
+    /**
+     * <code>repeated fixed32 weak = 4;</code>
+     * @param index The index of the element to return.
+     * @return The weak at the given index.
+     */
+    int getWeak(int index);
+
+    /**
+     * <code>repeated fixed64 strong = 5;</code>
+     * @return A list containing the strong.
+     */
+    java.util.List<java.lang.Long> getStrongList();
+    /**
+     * <code>repeated fixed64 strong = 5;</code>
+     * @return The count of strong.
+     */
+    int getStrongCount();
+    /**
+     * <code>repeated fixed64 strong = 5;</code>
+     * @param index The index of the element to return.
+     * @return The strong at the given index.
+     */
+    long getStrong(int index);
   }
   /**
-   * Protobuf type {@code io.github.portlek.synergy.proto.SplitPackageResponse}
+   * Protobuf type {@code io.github.portlek.synergy.proto.PackageRequest}
    */
-  public static final class SplitPackageResponse extends
+  public static final class PackageRequest extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.SplitPackageResponse)
-      SplitPackageResponseOrBuilder {
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.PackageRequest)
+      PackageRequestOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use SplitPackageResponse.newBuilder() to construct.
-    private SplitPackageResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use PackageRequest.newBuilder() to construct.
+    private PackageRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private SplitPackageResponse() {
+    private PackageRequest() {
+      weak_ = emptyIntList();
+      strong_ = emptyLongList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new SplitPackageResponse();
+      return new PackageRequest();
     }
 
     @java.lang.Override
@@ -4092,7 +4446,7 @@ public final class Commands {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private SplitPackageResponse(
+    private PackageRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4100,6 +4454,7 @@ public final class Commands {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -4110,22 +4465,69 @@ public final class Commands {
             case 0:
               done = true;
               break;
-            case 8: {
+            case 10: {
+              io.github.portlek.synergy.proto.P3.P3Meta.Builder subBuilder = null;
+              if (p3_ != null) {
+                subBuilder = p3_.toBuilder();
+              }
+              p3_ = input.readMessage(io.github.portlek.synergy.proto.P3.P3Meta.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(p3_);
+                p3_ = subBuilder.buildPartial();
+              }
 
-              ok_ = input.readBool();
               break;
             }
-            case 18: {
-              io.github.portlek.synergy.proto.P3.SplitPackageData.Builder subBuilder = null;
-              if (data_ != null) {
-                subBuilder = data_.toBuilder();
+            case 16: {
+
+              offset_ = input.readUInt64();
+              break;
+            }
+            case 24: {
+
+              blockSize_ = input.readUInt32();
+              break;
+            }
+            case 37: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                weak_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
               }
-              data_ = input.readMessage(io.github.portlek.synergy.proto.P3.SplitPackageData.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(data_);
-                data_ = subBuilder.buildPartial();
+              weak_.addInt(input.readFixed32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                weak_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
               }
-
+              while (input.getBytesUntilLimit() > 0) {
+                weak_.addInt(input.readFixed32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 41: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                strong_ = newLongList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              strong_.addLong(input.readFixed64());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                strong_ = newLongList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                strong_.addLong(input.readFixed64());
+              }
+              input.popLimit(limit);
               break;
             }
             default: {
@@ -4143,59 +4545,132 @@ public final class Commands {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          weak_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          strong_.makeImmutable(); // C
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_descriptor;
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_fieldAccessorTable
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              io.github.portlek.synergy.proto.Commands.SplitPackageResponse.class, io.github.portlek.synergy.proto.Commands.SplitPackageResponse.Builder.class);
+              io.github.portlek.synergy.proto.Commands.PackageRequest.class, io.github.portlek.synergy.proto.Commands.PackageRequest.Builder.class);
     }
 
-    public static final int OK_FIELD_NUMBER = 1;
-    private boolean ok_;
+    public static final int P3_FIELD_NUMBER = 1;
+    private io.github.portlek.synergy.proto.P3.P3Meta p3_;
     /**
-     * <code>bool ok = 1;</code>
-     * @return The ok.
+     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     * @return Whether the p3 field is set.
      */
     @java.lang.Override
-    public boolean getOk() {
-      return ok_;
+    public boolean hasP3() {
+      return p3_ != null;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     * @return The p3.
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.P3.P3Meta getP3() {
+      return p3_ == null ? io.github.portlek.synergy.proto.P3.P3Meta.getDefaultInstance() : p3_;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.P3.P3MetaOrBuilder getP3OrBuilder() {
+      return getP3();
     }
 
-    public static final int DATA_FIELD_NUMBER = 2;
-    private io.github.portlek.synergy.proto.P3.SplitPackageData data_;
+    public static final int OFFSET_FIELD_NUMBER = 2;
+    private long offset_;
     /**
-     * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
-     * @return Whether the data field is set.
+     * <code>uint64 offset = 2;</code>
+     * @return The offset.
      */
     @java.lang.Override
-    public boolean hasData() {
-      return data_ != null;
+    public long getOffset() {
+      return offset_;
     }
+
+    public static final int BLOCKSIZE_FIELD_NUMBER = 3;
+    private int blockSize_;
     /**
-     * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
-     * @return The data.
+     * <code>uint32 blockSize = 3;</code>
+     * @return The blockSize.
      */
     @java.lang.Override
-    public io.github.portlek.synergy.proto.P3.SplitPackageData getData() {
-      return data_ == null ? io.github.portlek.synergy.proto.P3.SplitPackageData.getDefaultInstance() : data_;
+    public int getBlockSize() {
+      return blockSize_;
     }
+
+    public static final int WEAK_FIELD_NUMBER = 4;
+    private com.google.protobuf.Internal.IntList weak_;
     /**
-     * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+     * <code>repeated fixed32 weak = 4;</code>
+     * @return A list containing the weak.
      */
     @java.lang.Override
-    public io.github.portlek.synergy.proto.P3.SplitPackageDataOrBuilder getDataOrBuilder() {
-      return getData();
+    public java.util.List<java.lang.Integer>
+        getWeakList() {
+      return weak_;
+    }
+    /**
+     * <code>repeated fixed32 weak = 4;</code>
+     * @return The count of weak.
+     */
+    public int getWeakCount() {
+      return weak_.size();
+    }
+    /**
+     * <code>repeated fixed32 weak = 4;</code>
+     * @param index The index of the element to return.
+     * @return The weak at the given index.
+     */
+    public int getWeak(int index) {
+      return weak_.getInt(index);
+    }
+    private int weakMemoizedSerializedSize = -1;
+
+    public static final int STRONG_FIELD_NUMBER = 5;
+    private com.google.protobuf.Internal.LongList strong_;
+    /**
+     * <code>repeated fixed64 strong = 5;</code>
+     * @return A list containing the strong.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getStrongList() {
+      return strong_;
+    }
+    /**
+     * <code>repeated fixed64 strong = 5;</code>
+     * @return The count of strong.
+     */
+    public int getStrongCount() {
+      return strong_.size();
+    }
+    /**
+     * <code>repeated fixed64 strong = 5;</code>
+     * @param index The index of the element to return.
+     * @return The strong at the given index.
+     */
+    public long getStrong(int index) {
+      return strong_.getLong(index);
     }
+    private int strongMemoizedSerializedSize = -1;
 
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
@@ -4211,11 +4686,29 @@ public final class Commands {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (ok_ != false) {
-        output.writeBool(1, ok_);
+      getSerializedSize();
+      if (p3_ != null) {
+        output.writeMessage(1, getP3());
       }
-      if (data_ != null) {
-        output.writeMessage(2, getData());
+      if (offset_ != 0L) {
+        output.writeUInt64(2, offset_);
+      }
+      if (blockSize_ != 0) {
+        output.writeUInt32(3, blockSize_);
+      }
+      if (getWeakList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(weakMemoizedSerializedSize);
+      }
+      for (int i = 0; i < weak_.size(); i++) {
+        output.writeFixed32NoTag(weak_.getInt(i));
+      }
+      if (getStrongList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(strongMemoizedSerializedSize);
+      }
+      for (int i = 0; i < strong_.size(); i++) {
+        output.writeFixed64NoTag(strong_.getLong(i));
       }
       unknownFields.writeTo(output);
     }
@@ -4226,13 +4719,39 @@ public final class Commands {
       if (size != -1) return size;
 
       size = 0;
-      if (ok_ != false) {
+      if (p3_ != null) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, ok_);
+          .computeMessageSize(1, getP3());
       }
-      if (data_ != null) {
+      if (offset_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getData());
+          .computeUInt64Size(2, offset_);
+      }
+      if (blockSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, blockSize_);
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getWeakList().size();
+        size += dataSize;
+        if (!getWeakList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        weakMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getStrongList().size();
+        size += dataSize;
+        if (!getStrongList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        strongMemoizedSerializedSize = dataSize;
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -4244,18 +4763,24 @@ public final class Commands {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.SplitPackageResponse)) {
+      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.PackageRequest)) {
         return super.equals(obj);
       }
-      io.github.portlek.synergy.proto.Commands.SplitPackageResponse other = (io.github.portlek.synergy.proto.Commands.SplitPackageResponse) obj;
+      io.github.portlek.synergy.proto.Commands.PackageRequest other = (io.github.portlek.synergy.proto.Commands.PackageRequest) obj;
 
-      if (getOk()
-          != other.getOk()) return false;
-      if (hasData() != other.hasData()) return false;
-      if (hasData()) {
-        if (!getData()
-            .equals(other.getData())) return false;
+      if (hasP3() != other.hasP3()) return false;
+      if (hasP3()) {
+        if (!getP3()
+            .equals(other.getP3())) return false;
       }
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (getBlockSize()
+          != other.getBlockSize()) return false;
+      if (!getWeakList()
+          .equals(other.getWeakList())) return false;
+      if (!getStrongList()
+          .equals(other.getStrongList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -4267,81 +4792,91 @@ public final class Commands {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + OK_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getOk());
-      if (hasData()) {
-        hash = (37 * hash) + DATA_FIELD_NUMBER;
-        hash = (53 * hash) + getData().hashCode();
+      if (hasP3()) {
+        hash = (37 * hash) + P3_FIELD_NUMBER;
+        hash = (53 * hash) + getP3().hashCode();
+      }
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getOffset());
+      hash = (37 * hash) + BLOCKSIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getBlockSize();
+      if (getWeakCount() > 0) {
+        hash = (37 * hash) + WEAK_FIELD_NUMBER;
+        hash = (53 * hash) + getWeakList().hashCode();
+      }
+      if (getStrongCount() > 0) {
+        hash = (37 * hash) + STRONG_FIELD_NUMBER;
+        hash = (53 * hash) + getStrongList().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(byte[] data)
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(java.io.InputStream input)
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseDelimitedFrom(
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4354,7 +4889,7 @@ public final class Commands {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.SplitPackageResponse prototype) {
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.PackageRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -4370,26 +4905,26 @@ public final class Commands {
       return builder;
     }
     /**
-     * Protobuf type {@code io.github.portlek.synergy.proto.SplitPackageResponse}
+     * Protobuf type {@code io.github.portlek.synergy.proto.PackageRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.SplitPackageResponse)
-        io.github.portlek.synergy.proto.Commands.SplitPackageResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.PackageRequest)
+        io.github.portlek.synergy.proto.Commands.PackageRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_descriptor;
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_fieldAccessorTable
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                io.github.portlek.synergy.proto.Commands.SplitPackageResponse.class, io.github.portlek.synergy.proto.Commands.SplitPackageResponse.Builder.class);
+                io.github.portlek.synergy.proto.Commands.PackageRequest.class, io.github.portlek.synergy.proto.Commands.PackageRequest.Builder.class);
       }
 
-      // Construct using io.github.portlek.synergy.proto.Commands.SplitPackageResponse.newBuilder()
+      // Construct using io.github.portlek.synergy.proto.Commands.PackageRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4407,31 +4942,37 @@ public final class Commands {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        ok_ = false;
-
-        if (dataBuilder_ == null) {
-          data_ = null;
+        if (p3Builder_ == null) {
+          p3_ = null;
         } else {
-          data_ = null;
-          dataBuilder_ = null;
+          p3_ = null;
+          p3Builder_ = null;
         }
+        offset_ = 0L;
+
+        blockSize_ = 0;
+
+        weak_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        strong_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_descriptor;
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageRequest_descriptor;
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.SplitPackageResponse getDefaultInstanceForType() {
-        return io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance();
+      public io.github.portlek.synergy.proto.Commands.PackageRequest getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.SplitPackageResponse build() {
-        io.github.portlek.synergy.proto.Commands.SplitPackageResponse result = buildPartial();
+      public io.github.portlek.synergy.proto.Commands.PackageRequest build() {
+        io.github.portlek.synergy.proto.Commands.PackageRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4439,14 +4980,26 @@ public final class Commands {
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Commands.SplitPackageResponse buildPartial() {
-        io.github.portlek.synergy.proto.Commands.SplitPackageResponse result = new io.github.portlek.synergy.proto.Commands.SplitPackageResponse(this);
-        result.ok_ = ok_;
-        if (dataBuilder_ == null) {
-          result.data_ = data_;
+      public io.github.portlek.synergy.proto.Commands.PackageRequest buildPartial() {
+        io.github.portlek.synergy.proto.Commands.PackageRequest result = new io.github.portlek.synergy.proto.Commands.PackageRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (p3Builder_ == null) {
+          result.p3_ = p3_;
         } else {
-          result.data_ = dataBuilder_.build();
+          result.p3_ = p3Builder_.build();
+        }
+        result.offset_ = offset_;
+        result.blockSize_ = blockSize_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          weak_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.weak_ = weak_;
+        if (((bitField0_ & 0x00000002) != 0)) {
+          strong_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000002);
         }
+        result.strong_ = strong_;
         onBuilt();
         return result;
       }
@@ -4485,21 +5038,44 @@ public final class Commands {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.portlek.synergy.proto.Commands.SplitPackageResponse) {
-          return mergeFrom((io.github.portlek.synergy.proto.Commands.SplitPackageResponse)other);
+        if (other instanceof io.github.portlek.synergy.proto.Commands.PackageRequest) {
+          return mergeFrom((io.github.portlek.synergy.proto.Commands.PackageRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.SplitPackageResponse other) {
-        if (other == io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance()) return this;
-        if (other.getOk() != false) {
-          setOk(other.getOk());
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.PackageRequest other) {
+        if (other == io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance()) return this;
+        if (other.hasP3()) {
+          mergeP3(other.getP3());
         }
-        if (other.hasData()) {
-          mergeData(other.getData());
+        if (other.getOffset() != 0L) {
+          setOffset(other.getOffset());
+        }
+        if (other.getBlockSize() != 0) {
+          setBlockSize(other.getBlockSize());
+        }
+        if (!other.weak_.isEmpty()) {
+          if (weak_.isEmpty()) {
+            weak_ = other.weak_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureWeakIsMutable();
+            weak_.addAll(other.weak_);
+          }
+          onChanged();
+        }
+        if (!other.strong_.isEmpty()) {
+          if (strong_.isEmpty()) {
+            strong_ = other.strong_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureStrongIsMutable();
+            strong_.addAll(other.strong_);
+          }
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -4516,11 +5092,1585 @@ public final class Commands {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        io.github.portlek.synergy.proto.Commands.SplitPackageResponse parsedMessage = null;
+        io.github.portlek.synergy.proto.Commands.PackageRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (io.github.portlek.synergy.proto.Commands.SplitPackageResponse) e.getUnfinishedMessage();
+          parsedMessage = (io.github.portlek.synergy.proto.Commands.PackageRequest) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private io.github.portlek.synergy.proto.P3.P3Meta p3_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.P3.P3Meta, io.github.portlek.synergy.proto.P3.P3Meta.Builder, io.github.portlek.synergy.proto.P3.P3MetaOrBuilder> p3Builder_;
+      /**
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       * @return Whether the p3 field is set.
+       */
+      public boolean hasP3() {
+        return p3Builder_ != null || p3_ != null;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       * @return The p3.
+       */
+      public io.github.portlek.synergy.proto.P3.P3Meta getP3() {
+        if (p3Builder_ == null) {
+          return p3_ == null ? io.github.portlek.synergy.proto.P3.P3Meta.getDefaultInstance() : p3_;
+        } else {
+          return p3Builder_.getMessage();
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       */
+      public Builder setP3(io.github.portlek.synergy.proto.P3.P3Meta value) {
+        if (p3Builder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          p3_ = value;
+          onChanged();
+        } else {
+          p3Builder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       */
+      public Builder setP3(
+          io.github.portlek.synergy.proto.P3.P3Meta.Builder builderForValue) {
+        if (p3Builder_ == null) {
+          p3_ = builderForValue.build();
+          onChanged();
+        } else {
+          p3Builder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       */
+      public Builder mergeP3(io.github.portlek.synergy.proto.P3.P3Meta value) {
+        if (p3Builder_ == null) {
+          if (p3_ != null) {
+            p3_ =
+              io.github.portlek.synergy.proto.P3.P3Meta.newBuilder(p3_).mergeFrom(value).buildPartial();
+          } else {
+            p3_ = value;
+          }
+          onChanged();
+        } else {
+          p3Builder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       */
+      public Builder clearP3() {
+        if (p3Builder_ == null) {
+          p3_ = null;
+          onChanged();
+        } else {
+          p3_ = null;
+          p3Builder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       */
+      public io.github.portlek.synergy.proto.P3.P3Meta.Builder getP3Builder() {
+        
+        onChanged();
+        return getP3FieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       */
+      public io.github.portlek.synergy.proto.P3.P3MetaOrBuilder getP3OrBuilder() {
+        if (p3Builder_ != null) {
+          return p3Builder_.getMessageOrBuilder();
+        } else {
+          return p3_ == null ?
+              io.github.portlek.synergy.proto.P3.P3Meta.getDefaultInstance() : p3_;
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.P3.P3Meta, io.github.portlek.synergy.proto.P3.P3Meta.Builder, io.github.portlek.synergy.proto.P3.P3MetaOrBuilder> 
+          getP3FieldBuilder() {
+        if (p3Builder_ == null) {
+          p3Builder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.portlek.synergy.proto.P3.P3Meta, io.github.portlek.synergy.proto.P3.P3Meta.Builder, io.github.portlek.synergy.proto.P3.P3MetaOrBuilder>(
+                  getP3(),
+                  getParentForChildren(),
+                  isClean());
+          p3_ = null;
+        }
+        return p3Builder_;
+      }
+
+      private long offset_ ;
+      /**
+       * <code>uint64 offset = 2;</code>
+       * @return The offset.
+       */
+      @java.lang.Override
+      public long getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>uint64 offset = 2;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOffset(long value) {
+        
+        offset_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 offset = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOffset() {
+        
+        offset_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int blockSize_ ;
+      /**
+       * <code>uint32 blockSize = 3;</code>
+       * @return The blockSize.
+       */
+      @java.lang.Override
+      public int getBlockSize() {
+        return blockSize_;
+      }
+      /**
+       * <code>uint32 blockSize = 3;</code>
+       * @param value The blockSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBlockSize(int value) {
+        
+        blockSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 blockSize = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBlockSize() {
+        
+        blockSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList weak_ = emptyIntList();
+      private void ensureWeakIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          weak_ = mutableCopy(weak_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated fixed32 weak = 4;</code>
+       * @return A list containing the weak.
+       */
+      public java.util.List<java.lang.Integer>
+          getWeakList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(weak_) : weak_;
+      }
+      /**
+       * <code>repeated fixed32 weak = 4;</code>
+       * @return The count of weak.
+       */
+      public int getWeakCount() {
+        return weak_.size();
+      }
+      /**
+       * <code>repeated fixed32 weak = 4;</code>
+       * @param index The index of the element to return.
+       * @return The weak at the given index.
+       */
+      public int getWeak(int index) {
+        return weak_.getInt(index);
+      }
+      /**
+       * <code>repeated fixed32 weak = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The weak to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWeak(
+          int index, int value) {
+        ensureWeakIsMutable();
+        weak_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed32 weak = 4;</code>
+       * @param value The weak to add.
+       * @return This builder for chaining.
+       */
+      public Builder addWeak(int value) {
+        ensureWeakIsMutable();
+        weak_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed32 weak = 4;</code>
+       * @param values The weak to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllWeak(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureWeakIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, weak_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed32 weak = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWeak() {
+        weak_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList strong_ = emptyLongList();
+      private void ensureStrongIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          strong_ = mutableCopy(strong_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated fixed64 strong = 5;</code>
+       * @return A list containing the strong.
+       */
+      public java.util.List<java.lang.Long>
+          getStrongList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(strong_) : strong_;
+      }
+      /**
+       * <code>repeated fixed64 strong = 5;</code>
+       * @return The count of strong.
+       */
+      public int getStrongCount() {
+        return strong_.size();
+      }
+      /**
+       * <code>repeated fixed64 strong = 5;</code>
+       * @param index The index of the element to return.
+       * @return The strong at the given index.
+       */
+      public long getStrong(int index) {
+        return strong_.getLong(index);
+      }
+      /**
+       * <code>repeated fixed64 strong = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The strong to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStrong(
+          int index, long value) {
+        ensureStrongIsMutable();
+        strong_.setLong(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 strong = 5;</code>
+       * @param value The strong to add.
+       * @return This builder for chaining.
+       */
+      public Builder addStrong(long value) {
+        ensureStrongIsMutable();
+        strong_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 strong = 5;</code>
+       * @param values The strong to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllStrong(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureStrongIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, strong_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 strong = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStrong() {
+        strong_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.PackageRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.PackageRequest)
+    private static final io.github.portlek.synergy.proto.Commands.PackageRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.PackageRequest();
+    }
+
+    public static io.github.portlek.synergy.proto.Commands.PackageRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PackageRequest>
+        PARSER = new com.google.protobuf.AbstractParser<PackageRequest>() {
+      @java.lang.Override
+      public PackageRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PackageRequest(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PackageRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PackageRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Commands.PackageRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PackageResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.PackageResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool ok = 1;</code>
+     * @return The ok.
+     */
+    boolean getOk();
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+     * @return The data.
+     */
+    io.github.portlek.synergy.proto.P3.PackageData getData();
+    /**
+     * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+     */
+    io.github.portlek.synergy.proto.P3.PackageDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code io.github.portlek.synergy.proto.PackageResponse}
+   */
+  public static final class PackageResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.PackageResponse)
+      PackageResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PackageResponse.newBuilder() to construct.
+    private PackageResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PackageResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PackageResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PackageResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              ok_ = input.readBool();
+              break;
+            }
+            case 18: {
+              io.github.portlek.synergy.proto.P3.PackageData.Builder subBuilder = null;
+              if (data_ != null) {
+                subBuilder = data_.toBuilder();
+              }
+              data_ = input.readMessage(io.github.portlek.synergy.proto.P3.PackageData.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(data_);
+                data_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.portlek.synergy.proto.Commands.PackageResponse.class, io.github.portlek.synergy.proto.Commands.PackageResponse.Builder.class);
+    }
+
+    public static final int OK_FIELD_NUMBER = 1;
+    private boolean ok_;
+    /**
+     * <code>bool ok = 1;</code>
+     * @return The ok.
+     */
+    @java.lang.Override
+    public boolean getOk() {
+      return ok_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private io.github.portlek.synergy.proto.P3.PackageData data_;
+    /**
+     * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.P3.PackageData getData() {
+      return data_ == null ? io.github.portlek.synergy.proto.P3.PackageData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.P3.PackageDataOrBuilder getDataOrBuilder() {
+      return getData();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (ok_ != false) {
+        output.writeBool(1, ok_);
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (ok_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, ok_);
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.PackageResponse)) {
+        return super.equals(obj);
+      }
+      io.github.portlek.synergy.proto.Commands.PackageResponse other = (io.github.portlek.synergy.proto.Commands.PackageResponse) obj;
+
+      if (getOk()
+          != other.getOk()) return false;
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + OK_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getOk());
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.PackageResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code io.github.portlek.synergy.proto.PackageResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.PackageResponse)
+        io.github.portlek.synergy.proto.Commands.PackageResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.portlek.synergy.proto.Commands.PackageResponse.class, io.github.portlek.synergy.proto.Commands.PackageResponse.Builder.class);
+      }
+
+      // Construct using io.github.portlek.synergy.proto.Commands.PackageResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        ok_ = false;
+
+        if (dataBuilder_ == null) {
+          data_ = null;
+        } else {
+          data_ = null;
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_PackageResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.PackageResponse getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.PackageResponse build() {
+        io.github.portlek.synergy.proto.Commands.PackageResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.PackageResponse buildPartial() {
+        io.github.portlek.synergy.proto.Commands.PackageResponse result = new io.github.portlek.synergy.proto.Commands.PackageResponse(this);
+        result.ok_ = ok_;
+        if (dataBuilder_ == null) {
+          result.data_ = data_;
+        } else {
+          result.data_ = dataBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.portlek.synergy.proto.Commands.PackageResponse) {
+          return mergeFrom((io.github.portlek.synergy.proto.Commands.PackageResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.PackageResponse other) {
+        if (other == io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance()) return this;
+        if (other.getOk() != false) {
+          setOk(other.getOk());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        io.github.portlek.synergy.proto.Commands.PackageResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (io.github.portlek.synergy.proto.Commands.PackageResponse) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private boolean ok_ ;
+      /**
+       * <code>bool ok = 1;</code>
+       * @return The ok.
+       */
+      @java.lang.Override
+      public boolean getOk() {
+        return ok_;
+      }
+      /**
+       * <code>bool ok = 1;</code>
+       * @param value The ok to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOk(boolean value) {
+        
+        ok_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool ok = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOk() {
+        
+        ok_ = false;
+        onChanged();
+        return this;
+      }
+
+      private io.github.portlek.synergy.proto.P3.PackageData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.P3.PackageData, io.github.portlek.synergy.proto.P3.PackageData.Builder, io.github.portlek.synergy.proto.P3.PackageDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return dataBuilder_ != null || data_ != null;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+       * @return The data.
+       */
+      public io.github.portlek.synergy.proto.P3.PackageData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? io.github.portlek.synergy.proto.P3.PackageData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+       */
+      public Builder setData(io.github.portlek.synergy.proto.P3.PackageData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+          onChanged();
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+       */
+      public Builder setData(
+          io.github.portlek.synergy.proto.P3.PackageData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+          onChanged();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+       */
+      public Builder mergeData(io.github.portlek.synergy.proto.P3.PackageData value) {
+        if (dataBuilder_ == null) {
+          if (data_ != null) {
+            data_ =
+              io.github.portlek.synergy.proto.P3.PackageData.newBuilder(data_).mergeFrom(value).buildPartial();
+          } else {
+            data_ = value;
+          }
+          onChanged();
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+       */
+      public Builder clearData() {
+        if (dataBuilder_ == null) {
+          data_ = null;
+          onChanged();
+        } else {
+          data_ = null;
+          dataBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+       */
+      public io.github.portlek.synergy.proto.P3.PackageData.Builder getDataBuilder() {
+        
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+       */
+      public io.github.portlek.synergy.proto.P3.PackageDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              io.github.portlek.synergy.proto.P3.PackageData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.PackageData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.P3.PackageData, io.github.portlek.synergy.proto.P3.PackageData.Builder, io.github.portlek.synergy.proto.P3.PackageDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.portlek.synergy.proto.P3.PackageData, io.github.portlek.synergy.proto.P3.PackageData.Builder, io.github.portlek.synergy.proto.P3.PackageDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.PackageResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.PackageResponse)
+    private static final io.github.portlek.synergy.proto.Commands.PackageResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.PackageResponse();
+    }
+
+    public static io.github.portlek.synergy.proto.Commands.PackageResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PackageResponse>
+        PARSER = new com.google.protobuf.AbstractParser<PackageResponse>() {
+      @java.lang.Override
+      public PackageResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PackageResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PackageResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PackageResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Commands.PackageResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SplitPackageResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.SplitPackageResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool ok = 1;</code>
+     * @return The ok.
+     */
+    boolean getOk();
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+     * @return The data.
+     */
+    io.github.portlek.synergy.proto.P3.SplitPackageData getData();
+    /**
+     * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+     */
+    io.github.portlek.synergy.proto.P3.SplitPackageDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code io.github.portlek.synergy.proto.SplitPackageResponse}
+   */
+  public static final class SplitPackageResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.SplitPackageResponse)
+      SplitPackageResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SplitPackageResponse.newBuilder() to construct.
+    private SplitPackageResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SplitPackageResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SplitPackageResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SplitPackageResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              ok_ = input.readBool();
+              break;
+            }
+            case 18: {
+              io.github.portlek.synergy.proto.P3.SplitPackageData.Builder subBuilder = null;
+              if (data_ != null) {
+                subBuilder = data_.toBuilder();
+              }
+              data_ = input.readMessage(io.github.portlek.synergy.proto.P3.SplitPackageData.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(data_);
+                data_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.portlek.synergy.proto.Commands.SplitPackageResponse.class, io.github.portlek.synergy.proto.Commands.SplitPackageResponse.Builder.class);
+    }
+
+    public static final int OK_FIELD_NUMBER = 1;
+    private boolean ok_;
+    /**
+     * <code>bool ok = 1;</code>
+     * @return The ok.
+     */
+    @java.lang.Override
+    public boolean getOk() {
+      return ok_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private io.github.portlek.synergy.proto.P3.SplitPackageData data_;
+    /**
+     * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.P3.SplitPackageData getData() {
+      return data_ == null ? io.github.portlek.synergy.proto.P3.SplitPackageData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.P3.SplitPackageDataOrBuilder getDataOrBuilder() {
+      return getData();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (ok_ != false) {
+        output.writeBool(1, ok_);
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (ok_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, ok_);
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.SplitPackageResponse)) {
+        return super.equals(obj);
+      }
+      io.github.portlek.synergy.proto.Commands.SplitPackageResponse other = (io.github.portlek.synergy.proto.Commands.SplitPackageResponse) obj;
+
+      if (getOk()
+          != other.getOk()) return false;
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + OK_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getOk());
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.SplitPackageResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code io.github.portlek.synergy.proto.SplitPackageResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.SplitPackageResponse)
+        io.github.portlek.synergy.proto.Commands.SplitPackageResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.portlek.synergy.proto.Commands.SplitPackageResponse.class, io.github.portlek.synergy.proto.Commands.SplitPackageResponse.Builder.class);
+      }
+
+      // Construct using io.github.portlek.synergy.proto.Commands.SplitPackageResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        ok_ = false;
+
+        if (dataBuilder_ == null) {
+          data_ = null;
+        } else {
+          data_ = null;
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.SplitPackageResponse getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.SplitPackageResponse build() {
+        io.github.portlek.synergy.proto.Commands.SplitPackageResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.SplitPackageResponse buildPartial() {
+        io.github.portlek.synergy.proto.Commands.SplitPackageResponse result = new io.github.portlek.synergy.proto.Commands.SplitPackageResponse(this);
+        result.ok_ = ok_;
+        if (dataBuilder_ == null) {
+          result.data_ = data_;
+        } else {
+          result.data_ = dataBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.portlek.synergy.proto.Commands.SplitPackageResponse) {
+          return mergeFrom((io.github.portlek.synergy.proto.Commands.SplitPackageResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.SplitPackageResponse other) {
+        if (other == io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance()) return this;
+        if (other.getOk() != false) {
+          setOk(other.getOk());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        io.github.portlek.synergy.proto.Commands.SplitPackageResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (io.github.portlek.synergy.proto.Commands.SplitPackageResponse) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4530,154 +6680,845 @@ public final class Commands {
         return this;
       }
 
-      private boolean ok_ ;
-      /**
-       * <code>bool ok = 1;</code>
-       * @return The ok.
-       */
+      private boolean ok_ ;
+      /**
+       * <code>bool ok = 1;</code>
+       * @return The ok.
+       */
+      @java.lang.Override
+      public boolean getOk() {
+        return ok_;
+      }
+      /**
+       * <code>bool ok = 1;</code>
+       * @param value The ok to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOk(boolean value) {
+        
+        ok_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool ok = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOk() {
+        
+        ok_ = false;
+        onChanged();
+        return this;
+      }
+
+      private io.github.portlek.synergy.proto.P3.SplitPackageData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.P3.SplitPackageData, io.github.portlek.synergy.proto.P3.SplitPackageData.Builder, io.github.portlek.synergy.proto.P3.SplitPackageDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return dataBuilder_ != null || data_ != null;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       * @return The data.
+       */
+      public io.github.portlek.synergy.proto.P3.SplitPackageData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? io.github.portlek.synergy.proto.P3.SplitPackageData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       */
+      public Builder setData(io.github.portlek.synergy.proto.P3.SplitPackageData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+          onChanged();
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       */
+      public Builder setData(
+          io.github.portlek.synergy.proto.P3.SplitPackageData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+          onChanged();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       */
+      public Builder mergeData(io.github.portlek.synergy.proto.P3.SplitPackageData value) {
+        if (dataBuilder_ == null) {
+          if (data_ != null) {
+            data_ =
+              io.github.portlek.synergy.proto.P3.SplitPackageData.newBuilder(data_).mergeFrom(value).buildPartial();
+          } else {
+            data_ = value;
+          }
+          onChanged();
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       */
+      public Builder clearData() {
+        if (dataBuilder_ == null) {
+          data_ = null;
+          onChanged();
+        } else {
+          data_ = null;
+          dataBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       */
+      public io.github.portlek.synergy.proto.P3.SplitPackageData.Builder getDataBuilder() {
+        
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       */
+      public io.github.portlek.synergy.proto.P3.SplitPackageDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              io.github.portlek.synergy.proto.P3.SplitPackageData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.P3.SplitPackageData, io.github.portlek.synergy.proto.P3.SplitPackageData.Builder, io.github.portlek.synergy.proto.P3.SplitPackageDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.portlek.synergy.proto.P3.SplitPackageData, io.github.portlek.synergy.proto.P3.SplitPackageData.Builder, io.github.portlek.synergy.proto.P3.SplitPackageDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.SplitPackageResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.SplitPackageResponse)
+    private static final io.github.portlek.synergy.proto.Commands.SplitPackageResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.SplitPackageResponse();
+    }
+
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SplitPackageResponse>
+        PARSER = new com.google.protobuf.AbstractParser<SplitPackageResponse>() {
+      @java.lang.Override
+      public SplitPackageResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SplitPackageResponse(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SplitPackageResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SplitPackageResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Commands.SplitPackageResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SplitPackageAckOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.SplitPackageAck)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     * @return Whether the p3 field is set.
+     */
+    boolean hasP3();
+    /**
+     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     * @return The p3.
+     */
+    io.github.portlek.synergy.proto.P3.P3Meta getP3();
+    /**
+     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     */
+    io.github.portlek.synergy.proto.P3.P3MetaOrBuilder getP3OrBuilder();
+
+    /**
+     * <code>uint32 chunkId = 2;</code>
+     * @return The chunkId.
+     */
+    int getChunkId();
+  }
+  /**
+   * Protobuf type {@code io.github.portlek.synergy.proto.SplitPackageAck}
+   */
+  public static final class SplitPackageAck extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.SplitPackageAck)
+      SplitPackageAckOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SplitPackageAck.newBuilder() to construct.
+    private SplitPackageAck(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SplitPackageAck() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SplitPackageAck();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SplitPackageAck(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              io.github.portlek.synergy.proto.P3.P3Meta.Builder subBuilder = null;
+              if (p3_ != null) {
+                subBuilder = p3_.toBuilder();
+              }
+              p3_ = input.readMessage(io.github.portlek.synergy.proto.P3.P3Meta.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(p3_);
+                p3_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 16: {
+
+              chunkId_ = input.readUInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageAck_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageAck_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.portlek.synergy.proto.Commands.SplitPackageAck.class, io.github.portlek.synergy.proto.Commands.SplitPackageAck.Builder.class);
+    }
+
+    public static final int P3_FIELD_NUMBER = 1;
+    private io.github.portlek.synergy.proto.P3.P3Meta p3_;
+    /**
+     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     * @return Whether the p3 field is set.
+     */
+    @java.lang.Override
+    public boolean hasP3() {
+      return p3_ != null;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     * @return The p3.
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.P3.P3Meta getP3() {
+      return p3_ == null ? io.github.portlek.synergy.proto.P3.P3Meta.getDefaultInstance() : p3_;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.P3.P3MetaOrBuilder getP3OrBuilder() {
+      return getP3();
+    }
+
+    public static final int CHUNKID_FIELD_NUMBER = 2;
+    private int chunkId_;
+    /**
+     * <code>uint32 chunkId = 2;</code>
+     * @return The chunkId.
+     */
+    @java.lang.Override
+    public int getChunkId() {
+      return chunkId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (p3_ != null) {
+        output.writeMessage(1, getP3());
+      }
+      if (chunkId_ != 0) {
+        output.writeUInt32(2, chunkId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (p3_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getP3());
+      }
+      if (chunkId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, chunkId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.portlek.synergy.proto.Commands.SplitPackageAck)) {
+        return super.equals(obj);
+      }
+      io.github.portlek.synergy.proto.Commands.SplitPackageAck other = (io.github.portlek.synergy.proto.Commands.SplitPackageAck) obj;
+
+      if (hasP3() != other.hasP3()) return false;
+      if (hasP3()) {
+        if (!getP3()
+            .equals(other.getP3())) return false;
+      }
+      if (getChunkId()
+          != other.getChunkId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasP3()) {
+        hash = (37 * hash) + P3_FIELD_NUMBER;
+        hash = (53 * hash) + getP3().hashCode();
+      }
+      hash = (37 * hash) + CHUNKID_FIELD_NUMBER;
+      hash = (53 * hash) + getChunkId();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Commands.SplitPackageAck prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code io.github.portlek.synergy.proto.SplitPackageAck}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.SplitPackageAck)
+        io.github.portlek.synergy.proto.Commands.SplitPackageAckOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageAck_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageAck_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.portlek.synergy.proto.Commands.SplitPackageAck.class, io.github.portlek.synergy.proto.Commands.SplitPackageAck.Builder.class);
+      }
+
+      // Construct using io.github.portlek.synergy.proto.Commands.SplitPackageAck.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (p3Builder_ == null) {
+          p3_ = null;
+        } else {
+          p3_ = null;
+          p3Builder_ = null;
+        }
+        chunkId_ = 0;
+
+        return this;
+      }
+
       @java.lang.Override
-      public boolean getOk() {
-        return ok_;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.portlek.synergy.proto.Commands.internal_static_io_github_portlek_synergy_proto_SplitPackageAck_descriptor;
       }
-      /**
-       * <code>bool ok = 1;</code>
-       * @param value The ok to set.
-       * @return This builder for chaining.
-       */
-      public Builder setOk(boolean value) {
-        
-        ok_ = value;
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.SplitPackageAck getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Commands.SplitPackageAck.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.SplitPackageAck build() {
+        io.github.portlek.synergy.proto.Commands.SplitPackageAck result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.SplitPackageAck buildPartial() {
+        io.github.portlek.synergy.proto.Commands.SplitPackageAck result = new io.github.portlek.synergy.proto.Commands.SplitPackageAck(this);
+        if (p3Builder_ == null) {
+          result.p3_ = p3_;
+        } else {
+          result.p3_ = p3Builder_.build();
+        }
+        result.chunkId_ = chunkId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.portlek.synergy.proto.Commands.SplitPackageAck) {
+          return mergeFrom((io.github.portlek.synergy.proto.Commands.SplitPackageAck)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Commands.SplitPackageAck other) {
+        if (other == io.github.portlek.synergy.proto.Commands.SplitPackageAck.getDefaultInstance()) return this;
+        if (other.hasP3()) {
+          mergeP3(other.getP3());
+        }
+        if (other.getChunkId() != 0) {
+          setChunkId(other.getChunkId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
       }
-      /**
-       * <code>bool ok = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearOk() {
-        
-        ok_ = false;
-        onChanged();
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        io.github.portlek.synergy.proto.Commands.SplitPackageAck parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (io.github.portlek.synergy.proto.Commands.SplitPackageAck) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
 
-      private io.github.portlek.synergy.proto.P3.SplitPackageData data_;
+      private io.github.portlek.synergy.proto.P3.P3Meta p3_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          io.github.portlek.synergy.proto.P3.SplitPackageData, io.github.portlek.synergy.proto.P3.SplitPackageData.Builder, io.github.portlek.synergy.proto.P3.SplitPackageDataOrBuilder> dataBuilder_;
+          io.github.portlek.synergy.proto.P3.P3Meta, io.github.portlek.synergy.proto.P3.P3Meta.Builder, io.github.portlek.synergy.proto.P3.P3MetaOrBuilder> p3Builder_;
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
-       * @return Whether the data field is set.
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       * @return Whether the p3 field is set.
        */
-      public boolean hasData() {
-        return dataBuilder_ != null || data_ != null;
+      public boolean hasP3() {
+        return p3Builder_ != null || p3_ != null;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
-       * @return The data.
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
+       * @return The p3.
        */
-      public io.github.portlek.synergy.proto.P3.SplitPackageData getData() {
-        if (dataBuilder_ == null) {
-          return data_ == null ? io.github.portlek.synergy.proto.P3.SplitPackageData.getDefaultInstance() : data_;
+      public io.github.portlek.synergy.proto.P3.P3Meta getP3() {
+        if (p3Builder_ == null) {
+          return p3_ == null ? io.github.portlek.synergy.proto.P3.P3Meta.getDefaultInstance() : p3_;
         } else {
-          return dataBuilder_.getMessage();
+          return p3Builder_.getMessage();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
        */
-      public Builder setData(io.github.portlek.synergy.proto.P3.SplitPackageData value) {
-        if (dataBuilder_ == null) {
+      public Builder setP3(io.github.portlek.synergy.proto.P3.P3Meta value) {
+        if (p3Builder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          data_ = value;
+          p3_ = value;
           onChanged();
         } else {
-          dataBuilder_.setMessage(value);
+          p3Builder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
        */
-      public Builder setData(
-          io.github.portlek.synergy.proto.P3.SplitPackageData.Builder builderForValue) {
-        if (dataBuilder_ == null) {
-          data_ = builderForValue.build();
+      public Builder setP3(
+          io.github.portlek.synergy.proto.P3.P3Meta.Builder builderForValue) {
+        if (p3Builder_ == null) {
+          p3_ = builderForValue.build();
           onChanged();
         } else {
-          dataBuilder_.setMessage(builderForValue.build());
+          p3Builder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
        */
-      public Builder mergeData(io.github.portlek.synergy.proto.P3.SplitPackageData value) {
-        if (dataBuilder_ == null) {
-          if (data_ != null) {
-            data_ =
-              io.github.portlek.synergy.proto.P3.SplitPackageData.newBuilder(data_).mergeFrom(value).buildPartial();
+      public Builder mergeP3(io.github.portlek.synergy.proto.P3.P3Meta value) {
+        if (p3Builder_ == null) {
+          if (p3_ != null) {
+            p3_ =
+              io.github.portlek.synergy.proto.P3.P3Meta.newBuilder(p3_).mergeFrom(value).buildPartial();
           } else {
-            data_ = value;
+            p3_ = value;
           }
           onChanged();
         } else {
-          dataBuilder_.mergeFrom(value);
+          p3Builder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
        */
-      public Builder clearData() {
-        if (dataBuilder_ == null) {
-          data_ = null;
+      public Builder clearP3() {
+        if (p3Builder_ == null) {
+          p3_ = null;
           onChanged();
         } else {
-          data_ = null;
-          dataBuilder_ = null;
+          p3_ = null;
+          p3Builder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
        */
-      public io.github.portlek.synergy.proto.P3.SplitPackageData.Builder getDataBuilder() {
+      public io.github.portlek.synergy.proto.P3.P3Meta.Builder getP3Builder() {
         
         onChanged();
-        return getDataFieldBuilder().getBuilder();
+        return getP3FieldBuilder().getBuilder();
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
        */
-      public io.github.portlek.synergy.proto.P3.SplitPackageDataOrBuilder getDataOrBuilder() {
-        if (dataBuilder_ != null) {
-          return dataBuilder_.getMessageOrBuilder();
+      public io.github.portlek.synergy.proto.P3.P3MetaOrBuilder getP3OrBuilder() {
+        if (p3Builder_ != null) {
+          return p3Builder_.getMessageOrBuilder();
         } else {
-          return data_ == null ?
-              io.github.portlek.synergy.proto.P3.SplitPackageData.getDefaultInstance() : data_;
+          return p3_ == null ?
+              io.github.portlek.synergy.proto.P3.P3Meta.getDefaultInstance() : p3_;
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageData data = 2;</code>
+       * <code>.io.github.portlek.synergy.proto.P3Meta p3 = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          io.github.portlek.synergy.proto.P3.SplitPackageData, io.github.portlek.synergy.proto.P3.SplitPackageData.Builder, io.github.portlek.synergy.proto.P3.SplitPackageDataOrBuilder> 
-          getDataFieldBuilder() {
-        if (dataBuilder_ == null) {
-          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              io.github.portlek.synergy.proto.P3.SplitPackageData, io.github.portlek.synergy.proto.P3.SplitPackageData.Builder, io.github.portlek.synergy.proto.P3.SplitPackageDataOrBuilder>(
-                  getData(),
+          io.github.portlek.synergy.proto.P3.P3Meta, io.github.portlek.synergy.proto.P3.P3Meta.Builder, io.github.portlek.synergy.proto.P3.P3MetaOrBuilder> 
+          getP3FieldBuilder() {
+        if (p3Builder_ == null) {
+          p3Builder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.portlek.synergy.proto.P3.P3Meta, io.github.portlek.synergy.proto.P3.P3Meta.Builder, io.github.portlek.synergy.proto.P3.P3MetaOrBuilder>(
+                  getP3(),
                   getParentForChildren(),
                   isClean());
-          data_ = null;
+          p3_ = null;
         }
-        return dataBuilder_;
+        return p3Builder_;
+      }
+
+      private int chunkId_ ;
+      /**
+       * <code>uint32 chunkId = 2;</code>
+       * @return The chunkId.
+       */
+      @java.lang.Override
+      public int getChunkId() {
+        return chunkId_;
+      }
+      /**
+       * <code>uint32 chunkId = 2;</code>
+       * @param value The chunkId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChunkId(int value) {
+        
+        chunkId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 chunkId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChunkId() {
+        
+        chunkId_ = 0;
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -4692,41 +7533,41 @@ public final class Commands {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.SplitPackageResponse)
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.SplitPackageAck)
     }
 
-    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.SplitPackageResponse)
-    private static final io.github.portlek.synergy.proto.Commands.SplitPackageResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.SplitPackageAck)
+    private static final io.github.portlek.synergy.proto.Commands.SplitPackageAck DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.SplitPackageResponse();
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Commands.SplitPackageAck();
     }
 
-    public static io.github.portlek.synergy.proto.Commands.SplitPackageResponse getDefaultInstance() {
+    public static io.github.portlek.synergy.proto.Commands.SplitPackageAck getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<SplitPackageResponse>
-        PARSER = new com.google.protobuf.AbstractParser<SplitPackageResponse>() {
+    private static final com.google.protobuf.Parser<SplitPackageAck>
+        PARSER = new com.google.protobuf.AbstractParser<SplitPackageAck>() {
       @java.lang.Override
-      public SplitPackageResponse parsePartialFrom(
+      public SplitPackageAck parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new SplitPackageResponse(input, extensionRegistry);
+        return new SplitPackageAck(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<SplitPackageResponse> parser() {
+    public static com.google.protobuf.Parser<SplitPackageAck> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<SplitPackageResponse> getParserForType() {
+    public com.google.protobuf.Parser<SplitPackageAck> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Commands.SplitPackageResponse getDefaultInstanceForType() {
+    public io.github.portlek.synergy.proto.Commands.SplitPackageAck getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -25014,17 +27855,17 @@ public final class Commands {
     io.github.portlek.synergy.proto.Commands.PackageRequestOrBuilder getPackageRequestOrBuilder();
 
     /**
-     * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+     * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
      * @return Whether the packageResponse field is set.
      */
     boolean hasPackageResponse();
     /**
-     * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+     * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
      * @return The packageResponse.
      */
     io.github.portlek.synergy.proto.Commands.PackageResponse getPackageResponse();
     /**
-     * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+     * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
      */
     io.github.portlek.synergy.proto.Commands.PackageResponseOrBuilder getPackageResponseOrBuilder();
 
@@ -25164,17 +28005,17 @@ public final class Commands {
     io.github.portlek.synergy.proto.Commands.PackageChecksumResponseOrBuilder getChecksumResponseOrBuilder();
 
     /**
-     * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+     * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
      * @return Whether the splitPackageResponse field is set.
      */
     boolean hasSplitPackageResponse();
     /**
-     * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+     * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
      * @return The splitPackageResponse.
      */
     io.github.portlek.synergy.proto.Commands.SplitPackageResponse getSplitPackageResponse();
     /**
-     * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+     * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
      */
     io.github.portlek.synergy.proto.Commands.SplitPackageResponseOrBuilder getSplitPackageResponseOrBuilder();
 
@@ -25404,17 +28245,17 @@ public final class Commands {
     io.github.portlek.synergy.proto.Commands.C_FreezeServerOrBuilder getCFreezeServerOrBuilder();
 
     /**
-     * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+     * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
      * @return Whether the cUploadPackage field is set.
      */
     boolean hasCUploadPackage();
     /**
-     * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+     * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
      * @return The cUploadPackage.
      */
     io.github.portlek.synergy.proto.Commands.C_UploadPackage getCUploadPackage();
     /**
-     * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+     * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
      */
     io.github.portlek.synergy.proto.Commands.C_UploadPackageOrBuilder getCUploadPackageOrBuilder();
 
@@ -25434,32 +28275,32 @@ public final class Commands {
     io.github.portlek.synergy.proto.Commands.C_AckOrBuilder getCAckOrBuilder();
 
     /**
-     * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+     * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
      * @return Whether the cPackageList field is set.
      */
     boolean hasCPackageList();
     /**
-     * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+     * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
      * @return The cPackageList.
      */
     io.github.portlek.synergy.proto.Commands.C_PackageList getCPackageList();
     /**
-     * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+     * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
      */
     io.github.portlek.synergy.proto.Commands.C_PackageListOrBuilder getCPackageListOrBuilder();
 
     /**
-     * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+     * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
      * @return Whether the cUploadSplitPackage field is set.
      */
     boolean hasCUploadSplitPackage();
     /**
-     * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+     * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
      * @return The cUploadSplitPackage.
      */
     io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage getCUploadSplitPackage();
     /**
-     * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+     * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
      */
     io.github.portlek.synergy.proto.Commands.C_UploadSplitPackageOrBuilder getCUploadSplitPackageOrBuilder();
 
@@ -25477,6 +28318,53 @@ public final class Commands {
      * <code>.io.github.portlek.synergy.proto.C_AccessDenied c_accessDenied = 37;</code>
      */
     io.github.portlek.synergy.proto.Commands.C_AccessDeniedOrBuilder getCAccessDeniedOrBuilder();
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+     * @return Whether the syncResync field is set.
+     */
+    boolean hasSyncResync();
+    /**
+     * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+     * @return The syncResync.
+     */
+    io.github.portlek.synergy.proto.Commands.SyncResync getSyncResync();
+    /**
+     * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+     */
+    io.github.portlek.synergy.proto.Commands.SyncResyncOrBuilder getSyncResyncOrBuilder();
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+     * @return Whether the splitPackageAck field is set.
+     */
+    boolean hasSplitPackageAck();
+    /**
+     * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+     * @return The splitPackageAck.
+     */
+    io.github.portlek.synergy.proto.Commands.SplitPackageAck getSplitPackageAck();
+    /**
+     * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+     */
+    io.github.portlek.synergy.proto.Commands.SplitPackageAckOrBuilder getSplitPackageAckOrBuilder();
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+     * @return Whether the syncAck field is set.
+     */
+    boolean hasSyncAck();
+    /**
+     * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+     * @return The syncAck.
+     */
+    io.github.portlek.synergy.proto.Commands.SyncAck getSyncAck();
+    /**
+     * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+     */
+    io.github.portlek.synergy.proto.Commands.SyncAckOrBuilder getSyncAckOrBuilder();
+
+    public io.github.portlek.synergy.proto.Commands.BaseCommand.PayloadCase getPayloadCase();
   }
   /**
    * Protobuf type {@code io.github.portlek.synergy.proto.BaseCommand}
@@ -25532,457 +28420,534 @@ public final class Commands {
             }
             case 18: {
               io.github.portlek.synergy.proto.Commands.Sync.Builder subBuilder = null;
-              if (sync_ != null) {
-                subBuilder = sync_.toBuilder();
+              if (payloadCase_ == 2) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.Sync) payload_).toBuilder();
               }
-              sync_ = input.readMessage(io.github.portlek.synergy.proto.Commands.Sync.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.Sync.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(sync_);
-                sync_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.Sync) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 2;
               break;
             }
             case 26: {
               io.github.portlek.synergy.proto.Commands.Provision.Builder subBuilder = null;
-              if (provision_ != null) {
-                subBuilder = provision_.toBuilder();
+              if (payloadCase_ == 3) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.Provision) payload_).toBuilder();
               }
-              provision_ = input.readMessage(io.github.portlek.synergy.proto.Commands.Provision.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.Provision.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(provision_);
-                provision_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.Provision) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 3;
               break;
             }
             case 34: {
               io.github.portlek.synergy.proto.Commands.ProvisionResponse.Builder subBuilder = null;
-              if (provisionResponse_ != null) {
-                subBuilder = provisionResponse_.toBuilder();
+              if (payloadCase_ == 4) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.ProvisionResponse) payload_).toBuilder();
               }
-              provisionResponse_ = input.readMessage(io.github.portlek.synergy.proto.Commands.ProvisionResponse.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.ProvisionResponse.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(provisionResponse_);
-                provisionResponse_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.ProvisionResponse) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 4;
               break;
             }
             case 42: {
               io.github.portlek.synergy.proto.Commands.PackageRequest.Builder subBuilder = null;
-              if (packageRequest_ != null) {
-                subBuilder = packageRequest_.toBuilder();
+              if (payloadCase_ == 5) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.PackageRequest) payload_).toBuilder();
               }
-              packageRequest_ = input.readMessage(io.github.portlek.synergy.proto.Commands.PackageRequest.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.PackageRequest.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(packageRequest_);
-                packageRequest_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.PackageRequest) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 5;
               break;
             }
             case 50: {
               io.github.portlek.synergy.proto.Commands.PackageResponse.Builder subBuilder = null;
-              if (packageResponse_ != null) {
-                subBuilder = packageResponse_.toBuilder();
+              if (payloadCase_ == 6) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.PackageResponse) payload_).toBuilder();
               }
-              packageResponse_ = input.readMessage(io.github.portlek.synergy.proto.Commands.PackageResponse.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.PackageResponse.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(packageResponse_);
-                packageResponse_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.PackageResponse) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 6;
               break;
             }
             case 58: {
               io.github.portlek.synergy.proto.Commands.DeProvision.Builder subBuilder = null;
-              if (deProvision_ != null) {
-                subBuilder = deProvision_.toBuilder();
+              if (payloadCase_ == 7) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.DeProvision) payload_).toBuilder();
               }
-              deProvision_ = input.readMessage(io.github.portlek.synergy.proto.Commands.DeProvision.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.DeProvision.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(deProvision_);
-                deProvision_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.DeProvision) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 7;
               break;
             }
             case 66: {
               io.github.portlek.synergy.proto.Commands.ServerShutdown.Builder subBuilder = null;
-              if (serverShutdown_ != null) {
-                subBuilder = serverShutdown_.toBuilder();
+              if (payloadCase_ == 8) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.ServerShutdown) payload_).toBuilder();
               }
-              serverShutdown_ = input.readMessage(io.github.portlek.synergy.proto.Commands.ServerShutdown.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.ServerShutdown.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(serverShutdown_);
-                serverShutdown_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.ServerShutdown) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 8;
               break;
             }
             case 74: {
               io.github.portlek.synergy.proto.Commands.SendInput.Builder subBuilder = null;
-              if (sendInput_ != null) {
-                subBuilder = sendInput_.toBuilder();
+              if (payloadCase_ == 9) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.SendInput) payload_).toBuilder();
               }
-              sendInput_ = input.readMessage(io.github.portlek.synergy.proto.Commands.SendInput.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.SendInput.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(sendInput_);
-                sendInput_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.SendInput) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 9;
               break;
             }
             case 82: {
               io.github.portlek.synergy.proto.Commands.AttachConsole.Builder subBuilder = null;
-              if (attachConsole_ != null) {
-                subBuilder = attachConsole_.toBuilder();
+              if (payloadCase_ == 10) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.AttachConsole) payload_).toBuilder();
               }
-              attachConsole_ = input.readMessage(io.github.portlek.synergy.proto.Commands.AttachConsole.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.AttachConsole.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(attachConsole_);
-                attachConsole_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.AttachConsole) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 10;
               break;
             }
             case 90: {
               io.github.portlek.synergy.proto.Commands.ConsoleMessage.Builder subBuilder = null;
-              if (consoleMessage_ != null) {
-                subBuilder = consoleMessage_.toBuilder();
+              if (payloadCase_ == 11) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.ConsoleMessage) payload_).toBuilder();
               }
-              consoleMessage_ = input.readMessage(io.github.portlek.synergy.proto.Commands.ConsoleMessage.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.ConsoleMessage.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(consoleMessage_);
-                consoleMessage_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.ConsoleMessage) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 11;
               break;
             }
             case 98: {
               io.github.portlek.synergy.proto.Commands.DetachConsole.Builder subBuilder = null;
-              if (detachConsole_ != null) {
-                subBuilder = detachConsole_.toBuilder();
+              if (payloadCase_ == 12) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.DetachConsole) payload_).toBuilder();
               }
-              detachConsole_ = input.readMessage(io.github.portlek.synergy.proto.Commands.DetachConsole.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.DetachConsole.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(detachConsole_);
-                detachConsole_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.DetachConsole) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 12;
               break;
             }
             case 106: {
               io.github.portlek.synergy.proto.Commands.FreezeServer.Builder subBuilder = null;
-              if (freezeServer_ != null) {
-                subBuilder = freezeServer_.toBuilder();
+              if (payloadCase_ == 13) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.FreezeServer) payload_).toBuilder();
               }
-              freezeServer_ = input.readMessage(io.github.portlek.synergy.proto.Commands.FreezeServer.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.FreezeServer.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(freezeServer_);
-                freezeServer_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.FreezeServer) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 13;
               break;
             }
             case 114: {
               io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.Builder subBuilder = null;
-              if (checksumRequest_ != null) {
-                subBuilder = checksumRequest_.toBuilder();
+              if (payloadCase_ == 14) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.PackageChecksumRequest) payload_).toBuilder();
               }
-              checksumRequest_ = input.readMessage(io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(checksumRequest_);
-                checksumRequest_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.PackageChecksumRequest) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 14;
               break;
             }
             case 130: {
               io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.Builder subBuilder = null;
-              if (checksumResponse_ != null) {
-                subBuilder = checksumResponse_.toBuilder();
+              if (payloadCase_ == 16) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.PackageChecksumResponse) payload_).toBuilder();
               }
-              checksumResponse_ = input.readMessage(io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(checksumResponse_);
-                checksumResponse_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.PackageChecksumResponse) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 16;
               break;
             }
             case 138: {
               io.github.portlek.synergy.proto.Commands.SplitPackageResponse.Builder subBuilder = null;
-              if (splitPackageResponse_ != null) {
-                subBuilder = splitPackageResponse_.toBuilder();
+              if (payloadCase_ == 17) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.SplitPackageResponse) payload_).toBuilder();
               }
-              splitPackageResponse_ = input.readMessage(io.github.portlek.synergy.proto.Commands.SplitPackageResponse.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.SplitPackageResponse.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(splitPackageResponse_);
-                splitPackageResponse_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.SplitPackageResponse) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 17;
               break;
             }
             case 146: {
               io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.Builder subBuilder = null;
-              if (cCoordinatorListResponse_ != null) {
-                subBuilder = cCoordinatorListResponse_.toBuilder();
+              if (payloadCase_ == 18) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse) payload_).toBuilder();
               }
-              cCoordinatorListResponse_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cCoordinatorListResponse_);
-                cCoordinatorListResponse_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 18;
               break;
             }
             case 154: {
               io.github.portlek.synergy.proto.Commands.C_Provision.Builder subBuilder = null;
-              if (cProvision_ != null) {
-                subBuilder = cProvision_.toBuilder();
+              if (payloadCase_ == 19) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_Provision) payload_).toBuilder();
               }
-              cProvision_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_Provision.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_Provision.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cProvision_);
-                cProvision_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_Provision) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 19;
               break;
             }
             case 162: {
               io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.Builder subBuilder = null;
-              if (cProvisionResponse_ != null) {
-                subBuilder = cProvisionResponse_.toBuilder();
+              if (payloadCase_ == 20) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_ProvisionResponse) payload_).toBuilder();
               }
-              cProvisionResponse_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cProvisionResponse_);
-                cProvisionResponse_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_ProvisionResponse) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 20;
               break;
             }
             case 170: {
               io.github.portlek.synergy.proto.Commands.C_DeProvision.Builder subBuilder = null;
-              if (cDeProvision_ != null) {
-                subBuilder = cDeProvision_.toBuilder();
+              if (payloadCase_ == 21) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_DeProvision) payload_).toBuilder();
               }
-              cDeProvision_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_DeProvision.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_DeProvision.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cDeProvision_);
-                cDeProvision_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_DeProvision) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 21;
               break;
             }
             case 178: {
               io.github.portlek.synergy.proto.Commands.C_Shutdown.Builder subBuilder = null;
-              if (cShutdown_ != null) {
-                subBuilder = cShutdown_.toBuilder();
+              if (payloadCase_ == 22) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_Shutdown) payload_).toBuilder();
               }
-              cShutdown_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_Shutdown.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_Shutdown.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cShutdown_);
-                cShutdown_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_Shutdown) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 22;
               break;
             }
             case 186: {
               io.github.portlek.synergy.proto.Commands.C_Promote.Builder subBuilder = null;
-              if (cPromote_ != null) {
-                subBuilder = cPromote_.toBuilder();
+              if (payloadCase_ == 23) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_Promote) payload_).toBuilder();
               }
-              cPromote_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_Promote.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_Promote.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cPromote_);
-                cPromote_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_Promote) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 23;
               break;
             }
             case 194: {
               io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.Builder subBuilder = null;
-              if (cCreateCoordinator_ != null) {
-                subBuilder = cCreateCoordinator_.toBuilder();
+              if (payloadCase_ == 24) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_CreateCoordinator) payload_).toBuilder();
               }
-              cCreateCoordinator_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cCreateCoordinator_);
-                cCreateCoordinator_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_CreateCoordinator) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 24;
               break;
             }
             case 202: {
               io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.Builder subBuilder = null;
-              if (cCoordinatorCreated_ != null) {
-                subBuilder = cCoordinatorCreated_.toBuilder();
+              if (payloadCase_ == 25) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated) payload_).toBuilder();
               }
-              cCoordinatorCreated_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cCoordinatorCreated_);
-                cCoordinatorCreated_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 25;
               break;
             }
             case 210: {
               io.github.portlek.synergy.proto.Commands.C_SendInput.Builder subBuilder = null;
-              if (cSendInput_ != null) {
-                subBuilder = cSendInput_.toBuilder();
+              if (payloadCase_ == 26) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_SendInput) payload_).toBuilder();
               }
-              cSendInput_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_SendInput.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_SendInput.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cSendInput_);
-                cSendInput_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_SendInput) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 26;
               break;
             }
             case 218: {
               io.github.portlek.synergy.proto.Commands.C_AttachConsole.Builder subBuilder = null;
-              if (cAttachConsole_ != null) {
-                subBuilder = cAttachConsole_.toBuilder();
+              if (payloadCase_ == 27) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_AttachConsole) payload_).toBuilder();
               }
-              cAttachConsole_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_AttachConsole.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_AttachConsole.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cAttachConsole_);
-                cAttachConsole_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_AttachConsole) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 27;
               break;
             }
             case 226: {
               io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.Builder subBuilder = null;
-              if (cConsoleAttached_ != null) {
-                subBuilder = cConsoleAttached_.toBuilder();
+              if (payloadCase_ == 28) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_ConsoleAttached) payload_).toBuilder();
               }
-              cConsoleAttached_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cConsoleAttached_);
-                cConsoleAttached_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_ConsoleAttached) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 28;
               break;
             }
             case 234: {
               io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.Builder subBuilder = null;
-              if (cConsoleMessage_ != null) {
-                subBuilder = cConsoleMessage_.toBuilder();
+              if (payloadCase_ == 29) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_ConsoleMessage) payload_).toBuilder();
               }
-              cConsoleMessage_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cConsoleMessage_);
-                cConsoleMessage_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_ConsoleMessage) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 29;
               break;
             }
             case 242: {
               io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.Builder subBuilder = null;
-              if (cConsoleDetached_ != null) {
-                subBuilder = cConsoleDetached_.toBuilder();
+              if (payloadCase_ == 30) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_ConsoleDetached) payload_).toBuilder();
               }
-              cConsoleDetached_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cConsoleDetached_);
-                cConsoleDetached_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_ConsoleDetached) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 30;
               break;
             }
             case 250: {
               io.github.portlek.synergy.proto.Commands.C_DetachConsole.Builder subBuilder = null;
-              if (cDetachConsole_ != null) {
-                subBuilder = cDetachConsole_.toBuilder();
+              if (payloadCase_ == 31) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_DetachConsole) payload_).toBuilder();
               }
-              cDetachConsole_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_DetachConsole.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_DetachConsole.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cDetachConsole_);
-                cDetachConsole_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_DetachConsole) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 31;
               break;
             }
             case 258: {
               io.github.portlek.synergy.proto.Commands.C_FreezeServer.Builder subBuilder = null;
-              if (cFreezeServer_ != null) {
-                subBuilder = cFreezeServer_.toBuilder();
+              if (payloadCase_ == 32) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_FreezeServer) payload_).toBuilder();
               }
-              cFreezeServer_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_FreezeServer.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_FreezeServer.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cFreezeServer_);
-                cFreezeServer_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_FreezeServer) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 32;
               break;
             }
             case 266: {
               io.github.portlek.synergy.proto.Commands.C_UploadPackage.Builder subBuilder = null;
-              if (cUploadPackage_ != null) {
-                subBuilder = cUploadPackage_.toBuilder();
+              if (payloadCase_ == 33) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_UploadPackage) payload_).toBuilder();
               }
-              cUploadPackage_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_UploadPackage.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_UploadPackage.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cUploadPackage_);
-                cUploadPackage_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_UploadPackage) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 33;
               break;
             }
             case 274: {
               io.github.portlek.synergy.proto.Commands.C_Ack.Builder subBuilder = null;
-              if (cAck_ != null) {
-                subBuilder = cAck_.toBuilder();
+              if (payloadCase_ == 34) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_Ack) payload_).toBuilder();
               }
-              cAck_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_Ack.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_Ack.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cAck_);
-                cAck_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_Ack) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 34;
               break;
             }
             case 282: {
               io.github.portlek.synergy.proto.Commands.C_PackageList.Builder subBuilder = null;
-              if (cPackageList_ != null) {
-                subBuilder = cPackageList_.toBuilder();
+              if (payloadCase_ == 35) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_PackageList) payload_).toBuilder();
               }
-              cPackageList_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_PackageList.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_PackageList.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cPackageList_);
-                cPackageList_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_PackageList) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 35;
               break;
             }
             case 290: {
               io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.Builder subBuilder = null;
-              if (cUploadSplitPackage_ != null) {
-                subBuilder = cUploadSplitPackage_.toBuilder();
+              if (payloadCase_ == 36) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage) payload_).toBuilder();
               }
-              cUploadSplitPackage_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cUploadSplitPackage_);
-                cUploadSplitPackage_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 36;
               break;
             }
             case 298: {
               io.github.portlek.synergy.proto.Commands.C_AccessDenied.Builder subBuilder = null;
-              if (cAccessDenied_ != null) {
-                subBuilder = cAccessDenied_.toBuilder();
+              if (payloadCase_ == 37) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.C_AccessDenied) payload_).toBuilder();
               }
-              cAccessDenied_ = input.readMessage(io.github.portlek.synergy.proto.Commands.C_AccessDenied.parser(), extensionRegistry);
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.C_AccessDenied.parser(), extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(cAccessDenied_);
-                cAccessDenied_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.C_AccessDenied) payload_);
+                payload_ = subBuilder.buildPartial();
               }
-
+              payloadCase_ = 37;
+              break;
+            }
+            case 306: {
+              io.github.portlek.synergy.proto.Commands.SyncResync.Builder subBuilder = null;
+              if (payloadCase_ == 38) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.SyncResync) payload_).toBuilder();
+              }
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.SyncResync.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.SyncResync) payload_);
+                payload_ = subBuilder.buildPartial();
+              }
+              payloadCase_ = 38;
+              break;
+            }
+            case 314: {
+              io.github.portlek.synergy.proto.Commands.SplitPackageAck.Builder subBuilder = null;
+              if (payloadCase_ == 39) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.SplitPackageAck) payload_).toBuilder();
+              }
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.SplitPackageAck.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.SplitPackageAck) payload_);
+                payload_ = subBuilder.buildPartial();
+              }
+              payloadCase_ = 39;
+              break;
+            }
+            case 322: {
+              io.github.portlek.synergy.proto.Commands.SyncAck.Builder subBuilder = null;
+              if (payloadCase_ == 40) {
+                subBuilder = ((io.github.portlek.synergy.proto.Commands.SyncAck) payload_).toBuilder();
+              }
+              payload_ =
+                  input.readMessage(io.github.portlek.synergy.proto.Commands.SyncAck.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((io.github.portlek.synergy.proto.Commands.SyncAck) payload_);
+                payload_ = subBuilder.buildPartial();
+              }
+              payloadCase_ = 40;
               break;
             }
             default: {
@@ -26178,6 +29143,18 @@ public final class Commands {
        * <code>C_ACCESS_DENIED = 39;</code>
        */
       C_ACCESS_DENIED(39),
+      /**
+       * <code>SYNC_RESYNC = 40;</code>
+       */
+      SYNC_RESYNC(40),
+      /**
+       * <code>SPLIT_PACKAGE_ACK = 41;</code>
+       */
+      SPLIT_PACKAGE_ACK(41),
+      /**
+       * <code>SYNC_ACK = 42;</code>
+       */
+      SYNC_ACK(42),
       UNRECOGNIZED(-1),
       ;
 
@@ -26337,6 +29314,18 @@ public final class Commands {
        * <code>C_ACCESS_DENIED = 39;</code>
        */
       public static final int C_ACCESS_DENIED_VALUE = 39;
+      /**
+       * <code>SYNC_RESYNC = 40;</code>
+       */
+      public static final int SYNC_RESYNC_VALUE = 40;
+      /**
+       * <code>SPLIT_PACKAGE_ACK = 41;</code>
+       */
+      public static final int SPLIT_PACKAGE_ACK_VALUE = 41;
+      /**
+       * <code>SYNC_ACK = 42;</code>
+       */
+      public static final int SYNC_ACK_VALUE = 42;
 
 
       public final int getNumber() {
@@ -26402,6 +29391,9 @@ public final class Commands {
           case 33: return C_REQUEST_PACKAGE_LIST;
           case 34: return C_PACKAGE_LIST;
           case 39: return C_ACCESS_DENIED;
+          case 40: return SYNC_RESYNC;
+          case 41: return SPLIT_PACKAGE_ACK;
+          case 42: return SYNC_ACK;
           default: return null;
         }
       }
@@ -26458,6 +29450,119 @@ public final class Commands {
       // @@protoc_insertion_point(enum_scope:io.github.portlek.synergy.proto.BaseCommand.CommandType)
     }
 
+    private int payloadCase_ = 0;
+    private java.lang.Object payload_;
+    public enum PayloadCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      SYNC(2),
+      PROVISION(3),
+      PROVISIONRESPONSE(4),
+      PACKAGEREQUEST(5),
+      PACKAGERESPONSE(6),
+      DEPROVISION(7),
+      SERVERSHUTDOWN(8),
+      SENDINPUT(9),
+      ATTACHCONSOLE(10),
+      CONSOLEMESSAGE(11),
+      DETACHCONSOLE(12),
+      FREEZESERVER(13),
+      CHECKSUMREQUEST(14),
+      CHECKSUMRESPONSE(16),
+      SPLITPACKAGERESPONSE(17),
+      C_COORDINATORLISTRESPONSE(18),
+      C_PROVISION(19),
+      C_PROVISIONRESPONSE(20),
+      C_DEPROVISION(21),
+      C_SHUTDOWN(22),
+      C_PROMOTE(23),
+      C_CREATECOORDINATOR(24),
+      C_COORDINATORCREATED(25),
+      C_SENDINPUT(26),
+      C_ATTACHCONSOLE(27),
+      C_CONSOLEATTACHED(28),
+      C_CONSOLEMESSAGE(29),
+      C_CONSOLEDETACHED(30),
+      C_DETACHCONSOLE(31),
+      C_FREEZESERVER(32),
+      C_UPLOADPACKAGE(33),
+      C_ACK(34),
+      C_PACKAGELIST(35),
+      C_UPLOADSPLITPACKAGE(36),
+      C_ACCESSDENIED(37),
+      SYNCRESYNC(38),
+      SPLITPACKAGEACK(39),
+      SYNCACK(40),
+      PAYLOAD_NOT_SET(0);
+      private final int value;
+      private PayloadCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static PayloadCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static PayloadCase forNumber(int value) {
+        switch (value) {
+          case 2: return SYNC;
+          case 3: return PROVISION;
+          case 4: return PROVISIONRESPONSE;
+          case 5: return PACKAGEREQUEST;
+          case 6: return PACKAGERESPONSE;
+          case 7: return DEPROVISION;
+          case 8: return SERVERSHUTDOWN;
+          case 9: return SENDINPUT;
+          case 10: return ATTACHCONSOLE;
+          case 11: return CONSOLEMESSAGE;
+          case 12: return DETACHCONSOLE;
+          case 13: return FREEZESERVER;
+          case 14: return CHECKSUMREQUEST;
+          case 16: return CHECKSUMRESPONSE;
+          case 17: return SPLITPACKAGERESPONSE;
+          case 18: return C_COORDINATORLISTRESPONSE;
+          case 19: return C_PROVISION;
+          case 20: return C_PROVISIONRESPONSE;
+          case 21: return C_DEPROVISION;
+          case 22: return C_SHUTDOWN;
+          case 23: return C_PROMOTE;
+          case 24: return C_CREATECOORDINATOR;
+          case 25: return C_COORDINATORCREATED;
+          case 26: return C_SENDINPUT;
+          case 27: return C_ATTACHCONSOLE;
+          case 28: return C_CONSOLEATTACHED;
+          case 29: return C_CONSOLEMESSAGE;
+          case 30: return C_CONSOLEDETACHED;
+          case 31: return C_DETACHCONSOLE;
+          case 32: return C_FREEZESERVER;
+          case 33: return C_UPLOADPACKAGE;
+          case 34: return C_ACK;
+          case 35: return C_PACKAGELIST;
+          case 36: return C_UPLOADSPLITPACKAGE;
+          case 37: return C_ACCESSDENIED;
+          case 38: return SYNCRESYNC;
+          case 39: return SPLITPACKAGEACK;
+          case 40: return SYNCACK;
+          case 0: return PAYLOAD_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public PayloadCase
+    getPayloadCase() {
+      return PayloadCase.forNumber(
+          payloadCase_);
+    }
+
     public static final int TYPE_FIELD_NUMBER = 1;
     private int type_;
     /**
@@ -26478,14 +29583,13 @@ public final class Commands {
     }
 
     public static final int SYNC_FIELD_NUMBER = 2;
-    private io.github.portlek.synergy.proto.Commands.Sync sync_;
     /**
      * <code>.io.github.portlek.synergy.proto.Sync sync = 2;</code>
      * @return Whether the sync field is set.
      */
     @java.lang.Override
     public boolean hasSync() {
-      return sync_ != null;
+      return payloadCase_ == 2;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.Sync sync = 2;</code>
@@ -26493,25 +29597,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.Sync getSync() {
-      return sync_ == null ? io.github.portlek.synergy.proto.Commands.Sync.getDefaultInstance() : sync_;
+      if (payloadCase_ == 2) {
+         return (io.github.portlek.synergy.proto.Commands.Sync) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.Sync.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.Sync sync = 2;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.SyncOrBuilder getSyncOrBuilder() {
-      return getSync();
+      if (payloadCase_ == 2) {
+         return (io.github.portlek.synergy.proto.Commands.Sync) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.Sync.getDefaultInstance();
     }
 
     public static final int PROVISION_FIELD_NUMBER = 3;
-    private io.github.portlek.synergy.proto.Commands.Provision provision_;
     /**
      * <code>.io.github.portlek.synergy.proto.Provision provision = 3;</code>
      * @return Whether the provision field is set.
      */
     @java.lang.Override
     public boolean hasProvision() {
-      return provision_ != null;
+      return payloadCase_ == 3;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.Provision provision = 3;</code>
@@ -26519,25 +29628,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.Provision getProvision() {
-      return provision_ == null ? io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance() : provision_;
+      if (payloadCase_ == 3) {
+         return (io.github.portlek.synergy.proto.Commands.Provision) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.Provision provision = 3;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.ProvisionOrBuilder getProvisionOrBuilder() {
-      return getProvision();
+      if (payloadCase_ == 3) {
+         return (io.github.portlek.synergy.proto.Commands.Provision) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance();
     }
 
     public static final int PROVISIONRESPONSE_FIELD_NUMBER = 4;
-    private io.github.portlek.synergy.proto.Commands.ProvisionResponse provisionResponse_;
     /**
      * <code>.io.github.portlek.synergy.proto.ProvisionResponse provisionResponse = 4;</code>
      * @return Whether the provisionResponse field is set.
      */
     @java.lang.Override
     public boolean hasProvisionResponse() {
-      return provisionResponse_ != null;
+      return payloadCase_ == 4;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.ProvisionResponse provisionResponse = 4;</code>
@@ -26545,25 +29659,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.ProvisionResponse getProvisionResponse() {
-      return provisionResponse_ == null ? io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance() : provisionResponse_;
+      if (payloadCase_ == 4) {
+         return (io.github.portlek.synergy.proto.Commands.ProvisionResponse) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.ProvisionResponse provisionResponse = 4;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.ProvisionResponseOrBuilder getProvisionResponseOrBuilder() {
-      return getProvisionResponse();
+      if (payloadCase_ == 4) {
+         return (io.github.portlek.synergy.proto.Commands.ProvisionResponse) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance();
     }
 
     public static final int PACKAGEREQUEST_FIELD_NUMBER = 5;
-    private io.github.portlek.synergy.proto.Commands.PackageRequest packageRequest_;
     /**
      * <code>.io.github.portlek.synergy.proto.PackageRequest packageRequest = 5;</code>
      * @return Whether the packageRequest field is set.
      */
     @java.lang.Override
     public boolean hasPackageRequest() {
-      return packageRequest_ != null;
+      return payloadCase_ == 5;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.PackageRequest packageRequest = 5;</code>
@@ -26571,51 +29690,61 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.PackageRequest getPackageRequest() {
-      return packageRequest_ == null ? io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance() : packageRequest_;
+      if (payloadCase_ == 5) {
+         return (io.github.portlek.synergy.proto.Commands.PackageRequest) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.PackageRequest packageRequest = 5;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.PackageRequestOrBuilder getPackageRequestOrBuilder() {
-      return getPackageRequest();
+      if (payloadCase_ == 5) {
+         return (io.github.portlek.synergy.proto.Commands.PackageRequest) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance();
     }
 
     public static final int PACKAGERESPONSE_FIELD_NUMBER = 6;
-    private io.github.portlek.synergy.proto.Commands.PackageResponse packageResponse_;
     /**
-     * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+     * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
      * @return Whether the packageResponse field is set.
      */
     @java.lang.Override
     public boolean hasPackageResponse() {
-      return packageResponse_ != null;
+      return payloadCase_ == 6;
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+     * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
      * @return The packageResponse.
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.PackageResponse getPackageResponse() {
-      return packageResponse_ == null ? io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance() : packageResponse_;
+      if (payloadCase_ == 6) {
+         return (io.github.portlek.synergy.proto.Commands.PackageResponse) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance();
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+     * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.PackageResponseOrBuilder getPackageResponseOrBuilder() {
-      return getPackageResponse();
+      if (payloadCase_ == 6) {
+         return (io.github.portlek.synergy.proto.Commands.PackageResponse) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance();
     }
 
     public static final int DEPROVISION_FIELD_NUMBER = 7;
-    private io.github.portlek.synergy.proto.Commands.DeProvision deProvision_;
     /**
      * <code>.io.github.portlek.synergy.proto.DeProvision deProvision = 7;</code>
      * @return Whether the deProvision field is set.
      */
     @java.lang.Override
     public boolean hasDeProvision() {
-      return deProvision_ != null;
+      return payloadCase_ == 7;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.DeProvision deProvision = 7;</code>
@@ -26623,25 +29752,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.DeProvision getDeProvision() {
-      return deProvision_ == null ? io.github.portlek.synergy.proto.Commands.DeProvision.getDefaultInstance() : deProvision_;
+      if (payloadCase_ == 7) {
+         return (io.github.portlek.synergy.proto.Commands.DeProvision) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.DeProvision.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.DeProvision deProvision = 7;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.DeProvisionOrBuilder getDeProvisionOrBuilder() {
-      return getDeProvision();
+      if (payloadCase_ == 7) {
+         return (io.github.portlek.synergy.proto.Commands.DeProvision) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.DeProvision.getDefaultInstance();
     }
 
     public static final int SERVERSHUTDOWN_FIELD_NUMBER = 8;
-    private io.github.portlek.synergy.proto.Commands.ServerShutdown serverShutdown_;
     /**
      * <code>.io.github.portlek.synergy.proto.ServerShutdown serverShutdown = 8;</code>
      * @return Whether the serverShutdown field is set.
      */
     @java.lang.Override
     public boolean hasServerShutdown() {
-      return serverShutdown_ != null;
+      return payloadCase_ == 8;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.ServerShutdown serverShutdown = 8;</code>
@@ -26649,25 +29783,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.ServerShutdown getServerShutdown() {
-      return serverShutdown_ == null ? io.github.portlek.synergy.proto.Commands.ServerShutdown.getDefaultInstance() : serverShutdown_;
+      if (payloadCase_ == 8) {
+         return (io.github.portlek.synergy.proto.Commands.ServerShutdown) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.ServerShutdown.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.ServerShutdown serverShutdown = 8;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.ServerShutdownOrBuilder getServerShutdownOrBuilder() {
-      return getServerShutdown();
+      if (payloadCase_ == 8) {
+         return (io.github.portlek.synergy.proto.Commands.ServerShutdown) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.ServerShutdown.getDefaultInstance();
     }
 
     public static final int SENDINPUT_FIELD_NUMBER = 9;
-    private io.github.portlek.synergy.proto.Commands.SendInput sendInput_;
     /**
      * <code>.io.github.portlek.synergy.proto.SendInput sendInput = 9;</code>
      * @return Whether the sendInput field is set.
      */
     @java.lang.Override
     public boolean hasSendInput() {
-      return sendInput_ != null;
+      return payloadCase_ == 9;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.SendInput sendInput = 9;</code>
@@ -26675,25 +29814,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.SendInput getSendInput() {
-      return sendInput_ == null ? io.github.portlek.synergy.proto.Commands.SendInput.getDefaultInstance() : sendInput_;
+      if (payloadCase_ == 9) {
+         return (io.github.portlek.synergy.proto.Commands.SendInput) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.SendInput.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.SendInput sendInput = 9;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.SendInputOrBuilder getSendInputOrBuilder() {
-      return getSendInput();
+      if (payloadCase_ == 9) {
+         return (io.github.portlek.synergy.proto.Commands.SendInput) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.SendInput.getDefaultInstance();
     }
 
     public static final int ATTACHCONSOLE_FIELD_NUMBER = 10;
-    private io.github.portlek.synergy.proto.Commands.AttachConsole attachConsole_;
     /**
      * <code>.io.github.portlek.synergy.proto.AttachConsole attachConsole = 10;</code>
      * @return Whether the attachConsole field is set.
      */
     @java.lang.Override
     public boolean hasAttachConsole() {
-      return attachConsole_ != null;
+      return payloadCase_ == 10;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.AttachConsole attachConsole = 10;</code>
@@ -26701,25 +29845,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.AttachConsole getAttachConsole() {
-      return attachConsole_ == null ? io.github.portlek.synergy.proto.Commands.AttachConsole.getDefaultInstance() : attachConsole_;
+      if (payloadCase_ == 10) {
+         return (io.github.portlek.synergy.proto.Commands.AttachConsole) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.AttachConsole.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.AttachConsole attachConsole = 10;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.AttachConsoleOrBuilder getAttachConsoleOrBuilder() {
-      return getAttachConsole();
+      if (payloadCase_ == 10) {
+         return (io.github.portlek.synergy.proto.Commands.AttachConsole) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.AttachConsole.getDefaultInstance();
     }
 
     public static final int CONSOLEMESSAGE_FIELD_NUMBER = 11;
-    private io.github.portlek.synergy.proto.Commands.ConsoleMessage consoleMessage_;
     /**
      * <code>.io.github.portlek.synergy.proto.ConsoleMessage consoleMessage = 11;</code>
      * @return Whether the consoleMessage field is set.
      */
     @java.lang.Override
     public boolean hasConsoleMessage() {
-      return consoleMessage_ != null;
+      return payloadCase_ == 11;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.ConsoleMessage consoleMessage = 11;</code>
@@ -26727,25 +29876,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.ConsoleMessage getConsoleMessage() {
-      return consoleMessage_ == null ? io.github.portlek.synergy.proto.Commands.ConsoleMessage.getDefaultInstance() : consoleMessage_;
+      if (payloadCase_ == 11) {
+         return (io.github.portlek.synergy.proto.Commands.ConsoleMessage) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.ConsoleMessage.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.ConsoleMessage consoleMessage = 11;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.ConsoleMessageOrBuilder getConsoleMessageOrBuilder() {
-      return getConsoleMessage();
+      if (payloadCase_ == 11) {
+         return (io.github.portlek.synergy.proto.Commands.ConsoleMessage) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.ConsoleMessage.getDefaultInstance();
     }
 
     public static final int DETACHCONSOLE_FIELD_NUMBER = 12;
-    private io.github.portlek.synergy.proto.Commands.DetachConsole detachConsole_;
     /**
      * <code>.io.github.portlek.synergy.proto.DetachConsole detachConsole = 12;</code>
      * @return Whether the detachConsole field is set.
      */
     @java.lang.Override
     public boolean hasDetachConsole() {
-      return detachConsole_ != null;
+      return payloadCase_ == 12;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.DetachConsole detachConsole = 12;</code>
@@ -26753,25 +29907,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.DetachConsole getDetachConsole() {
-      return detachConsole_ == null ? io.github.portlek.synergy.proto.Commands.DetachConsole.getDefaultInstance() : detachConsole_;
+      if (payloadCase_ == 12) {
+         return (io.github.portlek.synergy.proto.Commands.DetachConsole) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.DetachConsole.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.DetachConsole detachConsole = 12;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.DetachConsoleOrBuilder getDetachConsoleOrBuilder() {
-      return getDetachConsole();
+      if (payloadCase_ == 12) {
+         return (io.github.portlek.synergy.proto.Commands.DetachConsole) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.DetachConsole.getDefaultInstance();
     }
 
     public static final int FREEZESERVER_FIELD_NUMBER = 13;
-    private io.github.portlek.synergy.proto.Commands.FreezeServer freezeServer_;
     /**
      * <code>.io.github.portlek.synergy.proto.FreezeServer freezeServer = 13;</code>
      * @return Whether the freezeServer field is set.
      */
     @java.lang.Override
     public boolean hasFreezeServer() {
-      return freezeServer_ != null;
+      return payloadCase_ == 13;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.FreezeServer freezeServer = 13;</code>
@@ -26779,25 +29938,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.FreezeServer getFreezeServer() {
-      return freezeServer_ == null ? io.github.portlek.synergy.proto.Commands.FreezeServer.getDefaultInstance() : freezeServer_;
+      if (payloadCase_ == 13) {
+         return (io.github.portlek.synergy.proto.Commands.FreezeServer) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.FreezeServer.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.FreezeServer freezeServer = 13;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.FreezeServerOrBuilder getFreezeServerOrBuilder() {
-      return getFreezeServer();
+      if (payloadCase_ == 13) {
+         return (io.github.portlek.synergy.proto.Commands.FreezeServer) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.FreezeServer.getDefaultInstance();
     }
 
     public static final int CHECKSUMREQUEST_FIELD_NUMBER = 14;
-    private io.github.portlek.synergy.proto.Commands.PackageChecksumRequest checksumRequest_;
     /**
      * <code>.io.github.portlek.synergy.proto.PackageChecksumRequest checksumRequest = 14;</code>
      * @return Whether the checksumRequest field is set.
      */
     @java.lang.Override
     public boolean hasChecksumRequest() {
-      return checksumRequest_ != null;
+      return payloadCase_ == 14;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.PackageChecksumRequest checksumRequest = 14;</code>
@@ -26805,25 +29969,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.PackageChecksumRequest getChecksumRequest() {
-      return checksumRequest_ == null ? io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.getDefaultInstance() : checksumRequest_;
+      if (payloadCase_ == 14) {
+         return (io.github.portlek.synergy.proto.Commands.PackageChecksumRequest) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.PackageChecksumRequest checksumRequest = 14;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.PackageChecksumRequestOrBuilder getChecksumRequestOrBuilder() {
-      return getChecksumRequest();
+      if (payloadCase_ == 14) {
+         return (io.github.portlek.synergy.proto.Commands.PackageChecksumRequest) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.getDefaultInstance();
     }
 
     public static final int CHECKSUMRESPONSE_FIELD_NUMBER = 16;
-    private io.github.portlek.synergy.proto.Commands.PackageChecksumResponse checksumResponse_;
     /**
      * <code>.io.github.portlek.synergy.proto.PackageChecksumResponse checksumResponse = 16;</code>
      * @return Whether the checksumResponse field is set.
      */
     @java.lang.Override
     public boolean hasChecksumResponse() {
-      return checksumResponse_ != null;
+      return payloadCase_ == 16;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.PackageChecksumResponse checksumResponse = 16;</code>
@@ -26831,51 +30000,61 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.PackageChecksumResponse getChecksumResponse() {
-      return checksumResponse_ == null ? io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.getDefaultInstance() : checksumResponse_;
+      if (payloadCase_ == 16) {
+         return (io.github.portlek.synergy.proto.Commands.PackageChecksumResponse) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.PackageChecksumResponse checksumResponse = 16;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.PackageChecksumResponseOrBuilder getChecksumResponseOrBuilder() {
-      return getChecksumResponse();
+      if (payloadCase_ == 16) {
+         return (io.github.portlek.synergy.proto.Commands.PackageChecksumResponse) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.getDefaultInstance();
     }
 
     public static final int SPLITPACKAGERESPONSE_FIELD_NUMBER = 17;
-    private io.github.portlek.synergy.proto.Commands.SplitPackageResponse splitPackageResponse_;
     /**
-     * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+     * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
      * @return Whether the splitPackageResponse field is set.
      */
     @java.lang.Override
     public boolean hasSplitPackageResponse() {
-      return splitPackageResponse_ != null;
+      return payloadCase_ == 17;
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+     * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
      * @return The splitPackageResponse.
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.SplitPackageResponse getSplitPackageResponse() {
-      return splitPackageResponse_ == null ? io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance() : splitPackageResponse_;
+      if (payloadCase_ == 17) {
+         return (io.github.portlek.synergy.proto.Commands.SplitPackageResponse) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance();
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+     * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.SplitPackageResponseOrBuilder getSplitPackageResponseOrBuilder() {
-      return getSplitPackageResponse();
+      if (payloadCase_ == 17) {
+         return (io.github.portlek.synergy.proto.Commands.SplitPackageResponse) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance();
     }
 
     public static final int C_COORDINATORLISTRESPONSE_FIELD_NUMBER = 18;
-    private io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse cCoordinatorListResponse_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_CoordinatorListResponse c_coordinatorListResponse = 18;</code>
      * @return Whether the cCoordinatorListResponse field is set.
      */
     @java.lang.Override
     public boolean hasCCoordinatorListResponse() {
-      return cCoordinatorListResponse_ != null;
+      return payloadCase_ == 18;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_CoordinatorListResponse c_coordinatorListResponse = 18;</code>
@@ -26883,25 +30062,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse getCCoordinatorListResponse() {
-      return cCoordinatorListResponse_ == null ? io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.getDefaultInstance() : cCoordinatorListResponse_;
+      if (payloadCase_ == 18) {
+         return (io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_CoordinatorListResponse c_coordinatorListResponse = 18;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponseOrBuilder getCCoordinatorListResponseOrBuilder() {
-      return getCCoordinatorListResponse();
+      if (payloadCase_ == 18) {
+         return (io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.getDefaultInstance();
     }
 
     public static final int C_PROVISION_FIELD_NUMBER = 19;
-    private io.github.portlek.synergy.proto.Commands.C_Provision cProvision_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_Provision c_provision = 19;</code>
      * @return Whether the cProvision field is set.
      */
     @java.lang.Override
     public boolean hasCProvision() {
-      return cProvision_ != null;
+      return payloadCase_ == 19;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_Provision c_provision = 19;</code>
@@ -26909,25 +30093,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_Provision getCProvision() {
-      return cProvision_ == null ? io.github.portlek.synergy.proto.Commands.C_Provision.getDefaultInstance() : cProvision_;
+      if (payloadCase_ == 19) {
+         return (io.github.portlek.synergy.proto.Commands.C_Provision) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_Provision.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_Provision c_provision = 19;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_ProvisionOrBuilder getCProvisionOrBuilder() {
-      return getCProvision();
+      if (payloadCase_ == 19) {
+         return (io.github.portlek.synergy.proto.Commands.C_Provision) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_Provision.getDefaultInstance();
     }
 
     public static final int C_PROVISIONRESPONSE_FIELD_NUMBER = 20;
-    private io.github.portlek.synergy.proto.Commands.C_ProvisionResponse cProvisionResponse_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_ProvisionResponse c_provisionResponse = 20;</code>
      * @return Whether the cProvisionResponse field is set.
      */
     @java.lang.Override
     public boolean hasCProvisionResponse() {
-      return cProvisionResponse_ != null;
+      return payloadCase_ == 20;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_ProvisionResponse c_provisionResponse = 20;</code>
@@ -26935,25 +30124,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_ProvisionResponse getCProvisionResponse() {
-      return cProvisionResponse_ == null ? io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.getDefaultInstance() : cProvisionResponse_;
+      if (payloadCase_ == 20) {
+         return (io.github.portlek.synergy.proto.Commands.C_ProvisionResponse) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_ProvisionResponse c_provisionResponse = 20;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_ProvisionResponseOrBuilder getCProvisionResponseOrBuilder() {
-      return getCProvisionResponse();
+      if (payloadCase_ == 20) {
+         return (io.github.portlek.synergy.proto.Commands.C_ProvisionResponse) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.getDefaultInstance();
     }
 
     public static final int C_DEPROVISION_FIELD_NUMBER = 21;
-    private io.github.portlek.synergy.proto.Commands.C_DeProvision cDeProvision_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_DeProvision c_deProvision = 21;</code>
      * @return Whether the cDeProvision field is set.
      */
     @java.lang.Override
     public boolean hasCDeProvision() {
-      return cDeProvision_ != null;
+      return payloadCase_ == 21;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_DeProvision c_deProvision = 21;</code>
@@ -26961,25 +30155,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_DeProvision getCDeProvision() {
-      return cDeProvision_ == null ? io.github.portlek.synergy.proto.Commands.C_DeProvision.getDefaultInstance() : cDeProvision_;
+      if (payloadCase_ == 21) {
+         return (io.github.portlek.synergy.proto.Commands.C_DeProvision) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_DeProvision.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_DeProvision c_deProvision = 21;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_DeProvisionOrBuilder getCDeProvisionOrBuilder() {
-      return getCDeProvision();
+      if (payloadCase_ == 21) {
+         return (io.github.portlek.synergy.proto.Commands.C_DeProvision) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_DeProvision.getDefaultInstance();
     }
 
     public static final int C_SHUTDOWN_FIELD_NUMBER = 22;
-    private io.github.portlek.synergy.proto.Commands.C_Shutdown cShutdown_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_Shutdown c_shutdown = 22;</code>
      * @return Whether the cShutdown field is set.
      */
     @java.lang.Override
     public boolean hasCShutdown() {
-      return cShutdown_ != null;
+      return payloadCase_ == 22;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_Shutdown c_shutdown = 22;</code>
@@ -26987,25 +30186,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_Shutdown getCShutdown() {
-      return cShutdown_ == null ? io.github.portlek.synergy.proto.Commands.C_Shutdown.getDefaultInstance() : cShutdown_;
+      if (payloadCase_ == 22) {
+         return (io.github.portlek.synergy.proto.Commands.C_Shutdown) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_Shutdown.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_Shutdown c_shutdown = 22;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_ShutdownOrBuilder getCShutdownOrBuilder() {
-      return getCShutdown();
+      if (payloadCase_ == 22) {
+         return (io.github.portlek.synergy.proto.Commands.C_Shutdown) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_Shutdown.getDefaultInstance();
     }
 
     public static final int C_PROMOTE_FIELD_NUMBER = 23;
-    private io.github.portlek.synergy.proto.Commands.C_Promote cPromote_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_Promote c_promote = 23;</code>
      * @return Whether the cPromote field is set.
      */
     @java.lang.Override
     public boolean hasCPromote() {
-      return cPromote_ != null;
+      return payloadCase_ == 23;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_Promote c_promote = 23;</code>
@@ -27013,25 +30217,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_Promote getCPromote() {
-      return cPromote_ == null ? io.github.portlek.synergy.proto.Commands.C_Promote.getDefaultInstance() : cPromote_;
+      if (payloadCase_ == 23) {
+         return (io.github.portlek.synergy.proto.Commands.C_Promote) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_Promote.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_Promote c_promote = 23;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_PromoteOrBuilder getCPromoteOrBuilder() {
-      return getCPromote();
+      if (payloadCase_ == 23) {
+         return (io.github.portlek.synergy.proto.Commands.C_Promote) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_Promote.getDefaultInstance();
     }
 
     public static final int C_CREATECOORDINATOR_FIELD_NUMBER = 24;
-    private io.github.portlek.synergy.proto.Commands.C_CreateCoordinator cCreateCoordinator_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_CreateCoordinator c_createCoordinator = 24;</code>
      * @return Whether the cCreateCoordinator field is set.
      */
     @java.lang.Override
     public boolean hasCCreateCoordinator() {
-      return cCreateCoordinator_ != null;
+      return payloadCase_ == 24;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_CreateCoordinator c_createCoordinator = 24;</code>
@@ -27039,25 +30248,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_CreateCoordinator getCCreateCoordinator() {
-      return cCreateCoordinator_ == null ? io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.getDefaultInstance() : cCreateCoordinator_;
+      if (payloadCase_ == 24) {
+         return (io.github.portlek.synergy.proto.Commands.C_CreateCoordinator) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_CreateCoordinator c_createCoordinator = 24;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_CreateCoordinatorOrBuilder getCCreateCoordinatorOrBuilder() {
-      return getCCreateCoordinator();
+      if (payloadCase_ == 24) {
+         return (io.github.portlek.synergy.proto.Commands.C_CreateCoordinator) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.getDefaultInstance();
     }
 
     public static final int C_COORDINATORCREATED_FIELD_NUMBER = 25;
-    private io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated cCoordinatorCreated_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_CoordinatorCreated c_coordinatorCreated = 25;</code>
      * @return Whether the cCoordinatorCreated field is set.
      */
     @java.lang.Override
     public boolean hasCCoordinatorCreated() {
-      return cCoordinatorCreated_ != null;
+      return payloadCase_ == 25;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_CoordinatorCreated c_coordinatorCreated = 25;</code>
@@ -27065,25 +30279,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated getCCoordinatorCreated() {
-      return cCoordinatorCreated_ == null ? io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.getDefaultInstance() : cCoordinatorCreated_;
+      if (payloadCase_ == 25) {
+         return (io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_CoordinatorCreated c_coordinatorCreated = 25;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_CoordinatorCreatedOrBuilder getCCoordinatorCreatedOrBuilder() {
-      return getCCoordinatorCreated();
+      if (payloadCase_ == 25) {
+         return (io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.getDefaultInstance();
     }
 
     public static final int C_SENDINPUT_FIELD_NUMBER = 26;
-    private io.github.portlek.synergy.proto.Commands.C_SendInput cSendInput_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_SendInput c_sendInput = 26;</code>
      * @return Whether the cSendInput field is set.
      */
     @java.lang.Override
     public boolean hasCSendInput() {
-      return cSendInput_ != null;
+      return payloadCase_ == 26;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_SendInput c_sendInput = 26;</code>
@@ -27091,25 +30310,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_SendInput getCSendInput() {
-      return cSendInput_ == null ? io.github.portlek.synergy.proto.Commands.C_SendInput.getDefaultInstance() : cSendInput_;
+      if (payloadCase_ == 26) {
+         return (io.github.portlek.synergy.proto.Commands.C_SendInput) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_SendInput.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_SendInput c_sendInput = 26;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_SendInputOrBuilder getCSendInputOrBuilder() {
-      return getCSendInput();
+      if (payloadCase_ == 26) {
+         return (io.github.portlek.synergy.proto.Commands.C_SendInput) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_SendInput.getDefaultInstance();
     }
 
     public static final int C_ATTACHCONSOLE_FIELD_NUMBER = 27;
-    private io.github.portlek.synergy.proto.Commands.C_AttachConsole cAttachConsole_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_AttachConsole c_attachConsole = 27;</code>
      * @return Whether the cAttachConsole field is set.
      */
     @java.lang.Override
     public boolean hasCAttachConsole() {
-      return cAttachConsole_ != null;
+      return payloadCase_ == 27;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_AttachConsole c_attachConsole = 27;</code>
@@ -27117,25 +30341,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_AttachConsole getCAttachConsole() {
-      return cAttachConsole_ == null ? io.github.portlek.synergy.proto.Commands.C_AttachConsole.getDefaultInstance() : cAttachConsole_;
+      if (payloadCase_ == 27) {
+         return (io.github.portlek.synergy.proto.Commands.C_AttachConsole) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_AttachConsole.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_AttachConsole c_attachConsole = 27;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_AttachConsoleOrBuilder getCAttachConsoleOrBuilder() {
-      return getCAttachConsole();
+      if (payloadCase_ == 27) {
+         return (io.github.portlek.synergy.proto.Commands.C_AttachConsole) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_AttachConsole.getDefaultInstance();
     }
 
     public static final int C_CONSOLEATTACHED_FIELD_NUMBER = 28;
-    private io.github.portlek.synergy.proto.Commands.C_ConsoleAttached cConsoleAttached_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_ConsoleAttached c_consoleAttached = 28;</code>
      * @return Whether the cConsoleAttached field is set.
      */
     @java.lang.Override
     public boolean hasCConsoleAttached() {
-      return cConsoleAttached_ != null;
+      return payloadCase_ == 28;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_ConsoleAttached c_consoleAttached = 28;</code>
@@ -27143,25 +30372,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_ConsoleAttached getCConsoleAttached() {
-      return cConsoleAttached_ == null ? io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.getDefaultInstance() : cConsoleAttached_;
+      if (payloadCase_ == 28) {
+         return (io.github.portlek.synergy.proto.Commands.C_ConsoleAttached) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_ConsoleAttached c_consoleAttached = 28;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_ConsoleAttachedOrBuilder getCConsoleAttachedOrBuilder() {
-      return getCConsoleAttached();
+      if (payloadCase_ == 28) {
+         return (io.github.portlek.synergy.proto.Commands.C_ConsoleAttached) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.getDefaultInstance();
     }
 
     public static final int C_CONSOLEMESSAGE_FIELD_NUMBER = 29;
-    private io.github.portlek.synergy.proto.Commands.C_ConsoleMessage cConsoleMessage_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_ConsoleMessage c_consoleMessage = 29;</code>
      * @return Whether the cConsoleMessage field is set.
      */
     @java.lang.Override
     public boolean hasCConsoleMessage() {
-      return cConsoleMessage_ != null;
+      return payloadCase_ == 29;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_ConsoleMessage c_consoleMessage = 29;</code>
@@ -27169,25 +30403,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_ConsoleMessage getCConsoleMessage() {
-      return cConsoleMessage_ == null ? io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.getDefaultInstance() : cConsoleMessage_;
+      if (payloadCase_ == 29) {
+         return (io.github.portlek.synergy.proto.Commands.C_ConsoleMessage) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_ConsoleMessage c_consoleMessage = 29;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_ConsoleMessageOrBuilder getCConsoleMessageOrBuilder() {
-      return getCConsoleMessage();
+      if (payloadCase_ == 29) {
+         return (io.github.portlek.synergy.proto.Commands.C_ConsoleMessage) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.getDefaultInstance();
     }
 
     public static final int C_CONSOLEDETACHED_FIELD_NUMBER = 30;
-    private io.github.portlek.synergy.proto.Commands.C_ConsoleDetached cConsoleDetached_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_ConsoleDetached c_consoleDetached = 30;</code>
      * @return Whether the cConsoleDetached field is set.
      */
     @java.lang.Override
     public boolean hasCConsoleDetached() {
-      return cConsoleDetached_ != null;
+      return payloadCase_ == 30;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_ConsoleDetached c_consoleDetached = 30;</code>
@@ -27195,25 +30434,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_ConsoleDetached getCConsoleDetached() {
-      return cConsoleDetached_ == null ? io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.getDefaultInstance() : cConsoleDetached_;
+      if (payloadCase_ == 30) {
+         return (io.github.portlek.synergy.proto.Commands.C_ConsoleDetached) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_ConsoleDetached c_consoleDetached = 30;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_ConsoleDetachedOrBuilder getCConsoleDetachedOrBuilder() {
-      return getCConsoleDetached();
+      if (payloadCase_ == 30) {
+         return (io.github.portlek.synergy.proto.Commands.C_ConsoleDetached) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.getDefaultInstance();
     }
 
     public static final int C_DETACHCONSOLE_FIELD_NUMBER = 31;
-    private io.github.portlek.synergy.proto.Commands.C_DetachConsole cDetachConsole_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_DetachConsole c_detachConsole = 31;</code>
      * @return Whether the cDetachConsole field is set.
      */
     @java.lang.Override
     public boolean hasCDetachConsole() {
-      return cDetachConsole_ != null;
+      return payloadCase_ == 31;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_DetachConsole c_detachConsole = 31;</code>
@@ -27221,25 +30465,30 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_DetachConsole getCDetachConsole() {
-      return cDetachConsole_ == null ? io.github.portlek.synergy.proto.Commands.C_DetachConsole.getDefaultInstance() : cDetachConsole_;
+      if (payloadCase_ == 31) {
+         return (io.github.portlek.synergy.proto.Commands.C_DetachConsole) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_DetachConsole.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_DetachConsole c_detachConsole = 31;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_DetachConsoleOrBuilder getCDetachConsoleOrBuilder() {
-      return getCDetachConsole();
+      if (payloadCase_ == 31) {
+         return (io.github.portlek.synergy.proto.Commands.C_DetachConsole) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_DetachConsole.getDefaultInstance();
     }
 
     public static final int C_FREEZESERVER_FIELD_NUMBER = 32;
-    private io.github.portlek.synergy.proto.Commands.C_FreezeServer cFreezeServer_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_FreezeServer c_freezeServer = 32;</code>
      * @return Whether the cFreezeServer field is set.
      */
     @java.lang.Override
     public boolean hasCFreezeServer() {
-      return cFreezeServer_ != null;
+      return payloadCase_ == 32;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_FreezeServer c_freezeServer = 32;</code>
@@ -27247,51 +30496,61 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_FreezeServer getCFreezeServer() {
-      return cFreezeServer_ == null ? io.github.portlek.synergy.proto.Commands.C_FreezeServer.getDefaultInstance() : cFreezeServer_;
+      if (payloadCase_ == 32) {
+         return (io.github.portlek.synergy.proto.Commands.C_FreezeServer) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_FreezeServer.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_FreezeServer c_freezeServer = 32;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_FreezeServerOrBuilder getCFreezeServerOrBuilder() {
-      return getCFreezeServer();
+      if (payloadCase_ == 32) {
+         return (io.github.portlek.synergy.proto.Commands.C_FreezeServer) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_FreezeServer.getDefaultInstance();
     }
 
     public static final int C_UPLOADPACKAGE_FIELD_NUMBER = 33;
-    private io.github.portlek.synergy.proto.Commands.C_UploadPackage cUploadPackage_;
     /**
-     * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+     * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
      * @return Whether the cUploadPackage field is set.
      */
     @java.lang.Override
     public boolean hasCUploadPackage() {
-      return cUploadPackage_ != null;
+      return payloadCase_ == 33;
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+     * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
      * @return The cUploadPackage.
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_UploadPackage getCUploadPackage() {
-      return cUploadPackage_ == null ? io.github.portlek.synergy.proto.Commands.C_UploadPackage.getDefaultInstance() : cUploadPackage_;
+      if (payloadCase_ == 33) {
+         return (io.github.portlek.synergy.proto.Commands.C_UploadPackage) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_UploadPackage.getDefaultInstance();
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+     * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_UploadPackageOrBuilder getCUploadPackageOrBuilder() {
-      return getCUploadPackage();
+      if (payloadCase_ == 33) {
+         return (io.github.portlek.synergy.proto.Commands.C_UploadPackage) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_UploadPackage.getDefaultInstance();
     }
 
     public static final int C_ACK_FIELD_NUMBER = 34;
-    private io.github.portlek.synergy.proto.Commands.C_Ack cAck_;
     /**
      * <code>.io.github.portlek.synergy.proto.C_Ack c_ack = 34;</code>
      * @return Whether the cAck field is set.
      */
     @java.lang.Override
     public boolean hasCAck() {
-      return cAck_ != null;
+      return payloadCase_ == 34;
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_Ack c_ack = 34;</code>
@@ -27299,92 +30558,206 @@ public final class Commands {
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_Ack getCAck() {
-      return cAck_ == null ? io.github.portlek.synergy.proto.Commands.C_Ack.getDefaultInstance() : cAck_;
+      if (payloadCase_ == 34) {
+         return (io.github.portlek.synergy.proto.Commands.C_Ack) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_Ack.getDefaultInstance();
     }
     /**
      * <code>.io.github.portlek.synergy.proto.C_Ack c_ack = 34;</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_AckOrBuilder getCAckOrBuilder() {
-      return getCAck();
+      if (payloadCase_ == 34) {
+         return (io.github.portlek.synergy.proto.Commands.C_Ack) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_Ack.getDefaultInstance();
     }
 
     public static final int C_PACKAGELIST_FIELD_NUMBER = 35;
-    private io.github.portlek.synergy.proto.Commands.C_PackageList cPackageList_;
     /**
-     * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+     * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
      * @return Whether the cPackageList field is set.
      */
     @java.lang.Override
     public boolean hasCPackageList() {
-      return cPackageList_ != null;
+      return payloadCase_ == 35;
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+     * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
      * @return The cPackageList.
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_PackageList getCPackageList() {
-      return cPackageList_ == null ? io.github.portlek.synergy.proto.Commands.C_PackageList.getDefaultInstance() : cPackageList_;
+      if (payloadCase_ == 35) {
+         return (io.github.portlek.synergy.proto.Commands.C_PackageList) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_PackageList.getDefaultInstance();
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+     * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
      */
     @java.lang.Override
     public io.github.portlek.synergy.proto.Commands.C_PackageListOrBuilder getCPackageListOrBuilder() {
-      return getCPackageList();
+      if (payloadCase_ == 35) {
+         return (io.github.portlek.synergy.proto.Commands.C_PackageList) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_PackageList.getDefaultInstance();
     }
 
     public static final int C_UPLOADSPLITPACKAGE_FIELD_NUMBER = 36;
-    private io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage cUploadSplitPackage_;
     /**
-     * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+     * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
      * @return Whether the cUploadSplitPackage field is set.
      */
     @java.lang.Override
-    public boolean hasCUploadSplitPackage() {
-      return cUploadSplitPackage_ != null;
+    public boolean hasCUploadSplitPackage() {
+      return payloadCase_ == 36;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
+     * @return The cUploadSplitPackage.
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage getCUploadSplitPackage() {
+      if (payloadCase_ == 36) {
+         return (io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.getDefaultInstance();
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Commands.C_UploadSplitPackageOrBuilder getCUploadSplitPackageOrBuilder() {
+      if (payloadCase_ == 36) {
+         return (io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.getDefaultInstance();
+    }
+
+    public static final int C_ACCESSDENIED_FIELD_NUMBER = 37;
+    /**
+     * <code>.io.github.portlek.synergy.proto.C_AccessDenied c_accessDenied = 37;</code>
+     * @return Whether the cAccessDenied field is set.
+     */
+    @java.lang.Override
+    public boolean hasCAccessDenied() {
+      return payloadCase_ == 37;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.C_AccessDenied c_accessDenied = 37;</code>
+     * @return The cAccessDenied.
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Commands.C_AccessDenied getCAccessDenied() {
+      if (payloadCase_ == 37) {
+         return (io.github.portlek.synergy.proto.Commands.C_AccessDenied) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_AccessDenied.getDefaultInstance();
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.C_AccessDenied c_accessDenied = 37;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Commands.C_AccessDeniedOrBuilder getCAccessDeniedOrBuilder() {
+      if (payloadCase_ == 37) {
+         return (io.github.portlek.synergy.proto.Commands.C_AccessDenied) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.C_AccessDenied.getDefaultInstance();
+    }
+
+    public static final int SYNCRESYNC_FIELD_NUMBER = 38;
+    /**
+     * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+     * @return Whether the syncResync field is set.
+     */
+    @java.lang.Override
+    public boolean hasSyncResync() {
+      return payloadCase_ == 38;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+     * @return The syncResync.
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Commands.SyncResync getSyncResync() {
+      if (payloadCase_ == 38) {
+         return (io.github.portlek.synergy.proto.Commands.SyncResync) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.SyncResync.getDefaultInstance();
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Commands.SyncResyncOrBuilder getSyncResyncOrBuilder() {
+      if (payloadCase_ == 38) {
+         return (io.github.portlek.synergy.proto.Commands.SyncResync) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.SyncResync.getDefaultInstance();
+    }
+
+    public static final int SPLITPACKAGEACK_FIELD_NUMBER = 39;
+    /**
+     * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+     * @return Whether the splitPackageAck field is set.
+     */
+    @java.lang.Override
+    public boolean hasSplitPackageAck() {
+      return payloadCase_ == 39;
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
-     * @return The cUploadSplitPackage.
+     * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+     * @return The splitPackageAck.
      */
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage getCUploadSplitPackage() {
-      return cUploadSplitPackage_ == null ? io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.getDefaultInstance() : cUploadSplitPackage_;
+    public io.github.portlek.synergy.proto.Commands.SplitPackageAck getSplitPackageAck() {
+      if (payloadCase_ == 39) {
+         return (io.github.portlek.synergy.proto.Commands.SplitPackageAck) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.SplitPackageAck.getDefaultInstance();
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+     * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
      */
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Commands.C_UploadSplitPackageOrBuilder getCUploadSplitPackageOrBuilder() {
-      return getCUploadSplitPackage();
+    public io.github.portlek.synergy.proto.Commands.SplitPackageAckOrBuilder getSplitPackageAckOrBuilder() {
+      if (payloadCase_ == 39) {
+         return (io.github.portlek.synergy.proto.Commands.SplitPackageAck) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.SplitPackageAck.getDefaultInstance();
     }
 
-    public static final int C_ACCESSDENIED_FIELD_NUMBER = 37;
-    private io.github.portlek.synergy.proto.Commands.C_AccessDenied cAccessDenied_;
+    public static final int SYNCACK_FIELD_NUMBER = 40;
     /**
-     * <code>.io.github.portlek.synergy.proto.C_AccessDenied c_accessDenied = 37;</code>
-     * @return Whether the cAccessDenied field is set.
+     * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+     * @return Whether the syncAck field is set.
      */
     @java.lang.Override
-    public boolean hasCAccessDenied() {
-      return cAccessDenied_ != null;
+    public boolean hasSyncAck() {
+      return payloadCase_ == 40;
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.C_AccessDenied c_accessDenied = 37;</code>
-     * @return The cAccessDenied.
+     * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+     * @return The syncAck.
      */
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Commands.C_AccessDenied getCAccessDenied() {
-      return cAccessDenied_ == null ? io.github.portlek.synergy.proto.Commands.C_AccessDenied.getDefaultInstance() : cAccessDenied_;
+    public io.github.portlek.synergy.proto.Commands.SyncAck getSyncAck() {
+      if (payloadCase_ == 40) {
+         return (io.github.portlek.synergy.proto.Commands.SyncAck) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.SyncAck.getDefaultInstance();
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.C_AccessDenied c_accessDenied = 37;</code>
+     * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
      */
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Commands.C_AccessDeniedOrBuilder getCAccessDeniedOrBuilder() {
-      return getCAccessDenied();
+    public io.github.portlek.synergy.proto.Commands.SyncAckOrBuilder getSyncAckOrBuilder() {
+      if (payloadCase_ == 40) {
+         return (io.github.portlek.synergy.proto.Commands.SyncAck) payload_;
+      }
+      return io.github.portlek.synergy.proto.Commands.SyncAck.getDefaultInstance();
     }
 
     private byte memoizedIsInitialized = -1;
@@ -27404,110 +30777,119 @@ public final class Commands {
       if (type_ != io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.NOOP.getNumber()) {
         output.writeEnum(1, type_);
       }
-      if (sync_ != null) {
-        output.writeMessage(2, getSync());
+      if (payloadCase_ == 2) {
+        output.writeMessage(2, (io.github.portlek.synergy.proto.Commands.Sync) payload_);
+      }
+      if (payloadCase_ == 3) {
+        output.writeMessage(3, (io.github.portlek.synergy.proto.Commands.Provision) payload_);
+      }
+      if (payloadCase_ == 4) {
+        output.writeMessage(4, (io.github.portlek.synergy.proto.Commands.ProvisionResponse) payload_);
+      }
+      if (payloadCase_ == 5) {
+        output.writeMessage(5, (io.github.portlek.synergy.proto.Commands.PackageRequest) payload_);
       }
-      if (provision_ != null) {
-        output.writeMessage(3, getProvision());
+      if (payloadCase_ == 6) {
+        output.writeMessage(6, (io.github.portlek.synergy.proto.Commands.PackageResponse) payload_);
       }
-      if (provisionResponse_ != null) {
-        output.writeMessage(4, getProvisionResponse());
+      if (payloadCase_ == 7) {
+        output.writeMessage(7, (io.github.portlek.synergy.proto.Commands.DeProvision) payload_);
       }
-      if (packageRequest_ != null) {
-        output.writeMessage(5, getPackageRequest());
+      if (payloadCase_ == 8) {
+        output.writeMessage(8, (io.github.portlek.synergy.proto.Commands.ServerShutdown) payload_);
       }
-      if (packageResponse_ != null) {
-        output.writeMessage(6, getPackageResponse());
+      if (payloadCase_ == 9) {
+        output.writeMessage(9, (io.github.portlek.synergy.proto.Commands.SendInput) payload_);
       }
-      if (deProvision_ != null) {
-        output.writeMessage(7, getDeProvision());
+      if (payloadCase_ == 10) {
+        output.writeMessage(10, (io.github.portlek.synergy.proto.Commands.AttachConsole) payload_);
       }
-      if (serverShutdown_ != null) {
-        output.writeMessage(8, getServerShutdown());
+      if (payloadCase_ == 11) {
+        output.writeMessage(11, (io.github.portlek.synergy.proto.Commands.ConsoleMessage) payload_);
       }
-      if (sendInput_ != null) {
-        output.writeMessage(9, getSendInput());
+      if (payloadCase_ == 12) {
+        output.writeMessage(12, (io.github.portlek.synergy.proto.Commands.DetachConsole) payload_);
       }
-      if (attachConsole_ != null) {
-        output.writeMessage(10, getAttachConsole());
+      if (payloadCase_ == 13) {
+        output.writeMessage(13, (io.github.portlek.synergy.proto.Commands.FreezeServer) payload_);
       }
-      if (consoleMessage_ != null) {
-        output.writeMessage(11, getConsoleMessage());
+      if (payloadCase_ == 14) {
+        output.writeMessage(14, (io.github.portlek.synergy.proto.Commands.PackageChecksumRequest) payload_);
       }
-      if (detachConsole_ != null) {
-        output.writeMessage(12, getDetachConsole());
+      if (payloadCase_ == 16) {
+        output.writeMessage(16, (io.github.portlek.synergy.proto.Commands.PackageChecksumResponse) payload_);
       }
-      if (freezeServer_ != null) {
-        output.writeMessage(13, getFreezeServer());
+      if (payloadCase_ == 17) {
+        output.writeMessage(17, (io.github.portlek.synergy.proto.Commands.SplitPackageResponse) payload_);
       }
-      if (checksumRequest_ != null) {
-        output.writeMessage(14, getChecksumRequest());
+      if (payloadCase_ == 18) {
+        output.writeMessage(18, (io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse) payload_);
       }
-      if (checksumResponse_ != null) {
-        output.writeMessage(16, getChecksumResponse());
+      if (payloadCase_ == 19) {
+        output.writeMessage(19, (io.github.portlek.synergy.proto.Commands.C_Provision) payload_);
       }
-      if (splitPackageResponse_ != null) {
-        output.writeMessage(17, getSplitPackageResponse());
+      if (payloadCase_ == 20) {
+        output.writeMessage(20, (io.github.portlek.synergy.proto.Commands.C_ProvisionResponse) payload_);
       }
-      if (cCoordinatorListResponse_ != null) {
-        output.writeMessage(18, getCCoordinatorListResponse());
+      if (payloadCase_ == 21) {
+        output.writeMessage(21, (io.github.portlek.synergy.proto.Commands.C_DeProvision) payload_);
       }
-      if (cProvision_ != null) {
-        output.writeMessage(19, getCProvision());
+      if (payloadCase_ == 22) {
+        output.writeMessage(22, (io.github.portlek.synergy.proto.Commands.C_Shutdown) payload_);
       }
-      if (cProvisionResponse_ != null) {
-        output.writeMessage(20, getCProvisionResponse());
+      if (payloadCase_ == 23) {
+        output.writeMessage(23, (io.github.portlek.synergy.proto.Commands.C_Promote) payload_);
       }
-      if (cDeProvision_ != null) {
-        output.writeMessage(21, getCDeProvision());
+      if (payloadCase_ == 24) {
+        output.writeMessage(24, (io.github.portlek.synergy.proto.Commands.C_CreateCoordinator) payload_);
       }
-      if (cShutdown_ != null) {
-        output.writeMessage(22, getCShutdown());
+      if (payloadCase_ == 25) {
+        output.writeMessage(25, (io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated) payload_);
       }
-      if (cPromote_ != null) {
-        output.writeMessage(23, getCPromote());
+      if (payloadCase_ == 26) {
+        output.writeMessage(26, (io.github.portlek.synergy.proto.Commands.C_SendInput) payload_);
       }
-      if (cCreateCoordinator_ != null) {
-        output.writeMessage(24, getCCreateCoordinator());
+      if (payloadCase_ == 27) {
+        output.writeMessage(27, (io.github.portlek.synergy.proto.Commands.C_AttachConsole) payload_);
       }
-      if (cCoordinatorCreated_ != null) {
-        output.writeMessage(25, getCCoordinatorCreated());
+      if (payloadCase_ == 28) {
+        output.writeMessage(28, (io.github.portlek.synergy.proto.Commands.C_ConsoleAttached) payload_);
       }
-      if (cSendInput_ != null) {
-        output.writeMessage(26, getCSendInput());
+      if (payloadCase_ == 29) {
+        output.writeMessage(29, (io.github.portlek.synergy.proto.Commands.C_ConsoleMessage) payload_);
       }
-      if (cAttachConsole_ != null) {
-        output.writeMessage(27, getCAttachConsole());
+      if (payloadCase_ == 30) {
+        output.writeMessage(30, (io.github.portlek.synergy.proto.Commands.C_ConsoleDetached) payload_);
       }
-      if (cConsoleAttached_ != null) {
-        output.writeMessage(28, getCConsoleAttached());
+      if (payloadCase_ == 31) {
+        output.writeMessage(31, (io.github.portlek.synergy.proto.Commands.C_DetachConsole) payload_);
       }
-      if (cConsoleMessage_ != null) {
-        output.writeMessage(29, getCConsoleMessage());
+      if (payloadCase_ == 32) {
+        output.writeMessage(32, (io.github.portlek.synergy.proto.Commands.C_FreezeServer) payload_);
       }
-      if (cConsoleDetached_ != null) {
-        output.writeMessage(30, getCConsoleDetached());
+      if (payloadCase_ == 33) {
+        output.writeMessage(33, (io.github.portlek.synergy.proto.Commands.C_UploadPackage) payload_);
       }
-      if (cDetachConsole_ != null) {
-        output.writeMessage(31, getCDetachConsole());
+      if (payloadCase_ == 34) {
+        output.writeMessage(34, (io.github.portlek.synergy.proto.Commands.C_Ack) payload_);
       }
-      if (cFreezeServer_ != null) {
-        output.writeMessage(32, getCFreezeServer());
+      if (payloadCase_ == 35) {
+        output.writeMessage(35, (io.github.portlek.synergy.proto.Commands.C_PackageList) payload_);
       }
-      if (cUploadPackage_ != null) {
-        output.writeMessage(33, getCUploadPackage());
+      if (payloadCase_ == 36) {
+        output.writeMessage(36, (io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage) payload_);
       }
-      if (cAck_ != null) {
-        output.writeMessage(34, getCAck());
+      if (payloadCase_ == 37) {
+        output.writeMessage(37, (io.github.portlek.synergy.proto.Commands.C_AccessDenied) payload_);
       }
-      if (cPackageList_ != null) {
-        output.writeMessage(35, getCPackageList());
+      if (payloadCase_ == 38) {
+        output.writeMessage(38, (io.github.portlek.synergy.proto.Commands.SyncResync) payload_);
       }
-      if (cUploadSplitPackage_ != null) {
-        output.writeMessage(36, getCUploadSplitPackage());
+      if (payloadCase_ == 39) {
+        output.writeMessage(39, (io.github.portlek.synergy.proto.Commands.SplitPackageAck) payload_);
       }
-      if (cAccessDenied_ != null) {
-        output.writeMessage(37, getCAccessDenied());
+      if (payloadCase_ == 40) {
+        output.writeMessage(40, (io.github.portlek.synergy.proto.Commands.SyncAck) payload_);
       }
       unknownFields.writeTo(output);
     }
@@ -27522,145 +30904,157 @@ public final class Commands {
         size += com.google.protobuf.CodedOutputStream
           .computeEnumSize(1, type_);
       }
-      if (sync_ != null) {
+      if (payloadCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (io.github.portlek.synergy.proto.Commands.Sync) payload_);
+      }
+      if (payloadCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (io.github.portlek.synergy.proto.Commands.Provision) payload_);
+      }
+      if (payloadCase_ == 4) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getSync());
+          .computeMessageSize(4, (io.github.portlek.synergy.proto.Commands.ProvisionResponse) payload_);
       }
-      if (provision_ != null) {
+      if (payloadCase_ == 5) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, getProvision());
+          .computeMessageSize(5, (io.github.portlek.synergy.proto.Commands.PackageRequest) payload_);
       }
-      if (provisionResponse_ != null) {
+      if (payloadCase_ == 6) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, getProvisionResponse());
+          .computeMessageSize(6, (io.github.portlek.synergy.proto.Commands.PackageResponse) payload_);
       }
-      if (packageRequest_ != null) {
+      if (payloadCase_ == 7) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(5, getPackageRequest());
+          .computeMessageSize(7, (io.github.portlek.synergy.proto.Commands.DeProvision) payload_);
       }
-      if (packageResponse_ != null) {
+      if (payloadCase_ == 8) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(6, getPackageResponse());
+          .computeMessageSize(8, (io.github.portlek.synergy.proto.Commands.ServerShutdown) payload_);
       }
-      if (deProvision_ != null) {
+      if (payloadCase_ == 9) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(7, getDeProvision());
+          .computeMessageSize(9, (io.github.portlek.synergy.proto.Commands.SendInput) payload_);
       }
-      if (serverShutdown_ != null) {
+      if (payloadCase_ == 10) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(8, getServerShutdown());
+          .computeMessageSize(10, (io.github.portlek.synergy.proto.Commands.AttachConsole) payload_);
       }
-      if (sendInput_ != null) {
+      if (payloadCase_ == 11) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(9, getSendInput());
+          .computeMessageSize(11, (io.github.portlek.synergy.proto.Commands.ConsoleMessage) payload_);
       }
-      if (attachConsole_ != null) {
+      if (payloadCase_ == 12) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(10, getAttachConsole());
+          .computeMessageSize(12, (io.github.portlek.synergy.proto.Commands.DetachConsole) payload_);
       }
-      if (consoleMessage_ != null) {
+      if (payloadCase_ == 13) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(11, getConsoleMessage());
+          .computeMessageSize(13, (io.github.portlek.synergy.proto.Commands.FreezeServer) payload_);
       }
-      if (detachConsole_ != null) {
+      if (payloadCase_ == 14) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(12, getDetachConsole());
+          .computeMessageSize(14, (io.github.portlek.synergy.proto.Commands.PackageChecksumRequest) payload_);
       }
-      if (freezeServer_ != null) {
+      if (payloadCase_ == 16) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(13, getFreezeServer());
+          .computeMessageSize(16, (io.github.portlek.synergy.proto.Commands.PackageChecksumResponse) payload_);
       }
-      if (checksumRequest_ != null) {
+      if (payloadCase_ == 17) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(14, getChecksumRequest());
+          .computeMessageSize(17, (io.github.portlek.synergy.proto.Commands.SplitPackageResponse) payload_);
       }
-      if (checksumResponse_ != null) {
+      if (payloadCase_ == 18) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(16, getChecksumResponse());
+          .computeMessageSize(18, (io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse) payload_);
       }
-      if (splitPackageResponse_ != null) {
+      if (payloadCase_ == 19) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(17, getSplitPackageResponse());
+          .computeMessageSize(19, (io.github.portlek.synergy.proto.Commands.C_Provision) payload_);
       }
-      if (cCoordinatorListResponse_ != null) {
+      if (payloadCase_ == 20) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(18, getCCoordinatorListResponse());
+          .computeMessageSize(20, (io.github.portlek.synergy.proto.Commands.C_ProvisionResponse) payload_);
       }
-      if (cProvision_ != null) {
+      if (payloadCase_ == 21) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(19, getCProvision());
+          .computeMessageSize(21, (io.github.portlek.synergy.proto.Commands.C_DeProvision) payload_);
       }
-      if (cProvisionResponse_ != null) {
+      if (payloadCase_ == 22) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(20, getCProvisionResponse());
+          .computeMessageSize(22, (io.github.portlek.synergy.proto.Commands.C_Shutdown) payload_);
       }
-      if (cDeProvision_ != null) {
+      if (payloadCase_ == 23) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(21, getCDeProvision());
+          .computeMessageSize(23, (io.github.portlek.synergy.proto.Commands.C_Promote) payload_);
       }
-      if (cShutdown_ != null) {
+      if (payloadCase_ == 24) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(22, getCShutdown());
+          .computeMessageSize(24, (io.github.portlek.synergy.proto.Commands.C_CreateCoordinator) payload_);
       }
-      if (cPromote_ != null) {
+      if (payloadCase_ == 25) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(23, getCPromote());
+          .computeMessageSize(25, (io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated) payload_);
       }
-      if (cCreateCoordinator_ != null) {
+      if (payloadCase_ == 26) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(24, getCCreateCoordinator());
+          .computeMessageSize(26, (io.github.portlek.synergy.proto.Commands.C_SendInput) payload_);
       }
-      if (cCoordinatorCreated_ != null) {
+      if (payloadCase_ == 27) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(25, getCCoordinatorCreated());
+          .computeMessageSize(27, (io.github.portlek.synergy.proto.Commands.C_AttachConsole) payload_);
       }
-      if (cSendInput_ != null) {
+      if (payloadCase_ == 28) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(26, getCSendInput());
+          .computeMessageSize(28, (io.github.portlek.synergy.proto.Commands.C_ConsoleAttached) payload_);
       }
-      if (cAttachConsole_ != null) {
+      if (payloadCase_ == 29) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(27, getCAttachConsole());
+          .computeMessageSize(29, (io.github.portlek.synergy.proto.Commands.C_ConsoleMessage) payload_);
       }
-      if (cConsoleAttached_ != null) {
+      if (payloadCase_ == 30) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(28, getCConsoleAttached());
+          .computeMessageSize(30, (io.github.portlek.synergy.proto.Commands.C_ConsoleDetached) payload_);
       }
-      if (cConsoleMessage_ != null) {
+      if (payloadCase_ == 31) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(29, getCConsoleMessage());
+          .computeMessageSize(31, (io.github.portlek.synergy.proto.Commands.C_DetachConsole) payload_);
       }
-      if (cConsoleDetached_ != null) {
+      if (payloadCase_ == 32) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(30, getCConsoleDetached());
+          .computeMessageSize(32, (io.github.portlek.synergy.proto.Commands.C_FreezeServer) payload_);
       }
-      if (cDetachConsole_ != null) {
+      if (payloadCase_ == 33) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(31, getCDetachConsole());
+          .computeMessageSize(33, (io.github.portlek.synergy.proto.Commands.C_UploadPackage) payload_);
       }
-      if (cFreezeServer_ != null) {
+      if (payloadCase_ == 34) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(32, getCFreezeServer());
+          .computeMessageSize(34, (io.github.portlek.synergy.proto.Commands.C_Ack) payload_);
       }
-      if (cUploadPackage_ != null) {
+      if (payloadCase_ == 35) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(33, getCUploadPackage());
+          .computeMessageSize(35, (io.github.portlek.synergy.proto.Commands.C_PackageList) payload_);
       }
-      if (cAck_ != null) {
+      if (payloadCase_ == 36) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(34, getCAck());
+          .computeMessageSize(36, (io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage) payload_);
       }
-      if (cPackageList_ != null) {
+      if (payloadCase_ == 37) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(35, getCPackageList());
+          .computeMessageSize(37, (io.github.portlek.synergy.proto.Commands.C_AccessDenied) payload_);
       }
-      if (cUploadSplitPackage_ != null) {
+      if (payloadCase_ == 38) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(36, getCUploadSplitPackage());
+          .computeMessageSize(38, (io.github.portlek.synergy.proto.Commands.SyncResync) payload_);
       }
-      if (cAccessDenied_ != null) {
+      if (payloadCase_ == 39) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(37, getCAccessDenied());
+          .computeMessageSize(39, (io.github.portlek.synergy.proto.Commands.SplitPackageAck) payload_);
+      }
+      if (payloadCase_ == 40) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(40, (io.github.portlek.synergy.proto.Commands.SyncAck) payload_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -27678,180 +31072,162 @@ public final class Commands {
       io.github.portlek.synergy.proto.Commands.BaseCommand other = (io.github.portlek.synergy.proto.Commands.BaseCommand) obj;
 
       if (type_ != other.type_) return false;
-      if (hasSync() != other.hasSync()) return false;
-      if (hasSync()) {
-        if (!getSync()
-            .equals(other.getSync())) return false;
-      }
-      if (hasProvision() != other.hasProvision()) return false;
-      if (hasProvision()) {
-        if (!getProvision()
-            .equals(other.getProvision())) return false;
-      }
-      if (hasProvisionResponse() != other.hasProvisionResponse()) return false;
-      if (hasProvisionResponse()) {
-        if (!getProvisionResponse()
-            .equals(other.getProvisionResponse())) return false;
-      }
-      if (hasPackageRequest() != other.hasPackageRequest()) return false;
-      if (hasPackageRequest()) {
-        if (!getPackageRequest()
-            .equals(other.getPackageRequest())) return false;
-      }
-      if (hasPackageResponse() != other.hasPackageResponse()) return false;
-      if (hasPackageResponse()) {
-        if (!getPackageResponse()
-            .equals(other.getPackageResponse())) return false;
-      }
-      if (hasDeProvision() != other.hasDeProvision()) return false;
-      if (hasDeProvision()) {
-        if (!getDeProvision()
-            .equals(other.getDeProvision())) return false;
-      }
-      if (hasServerShutdown() != other.hasServerShutdown()) return false;
-      if (hasServerShutdown()) {
-        if (!getServerShutdown()
-            .equals(other.getServerShutdown())) return false;
-      }
-      if (hasSendInput() != other.hasSendInput()) return false;
-      if (hasSendInput()) {
-        if (!getSendInput()
-            .equals(other.getSendInput())) return false;
-      }
-      if (hasAttachConsole() != other.hasAttachConsole()) return false;
-      if (hasAttachConsole()) {
-        if (!getAttachConsole()
-            .equals(other.getAttachConsole())) return false;
-      }
-      if (hasConsoleMessage() != other.hasConsoleMessage()) return false;
-      if (hasConsoleMessage()) {
-        if (!getConsoleMessage()
-            .equals(other.getConsoleMessage())) return false;
-      }
-      if (hasDetachConsole() != other.hasDetachConsole()) return false;
-      if (hasDetachConsole()) {
-        if (!getDetachConsole()
-            .equals(other.getDetachConsole())) return false;
-      }
-      if (hasFreezeServer() != other.hasFreezeServer()) return false;
-      if (hasFreezeServer()) {
-        if (!getFreezeServer()
-            .equals(other.getFreezeServer())) return false;
-      }
-      if (hasChecksumRequest() != other.hasChecksumRequest()) return false;
-      if (hasChecksumRequest()) {
-        if (!getChecksumRequest()
-            .equals(other.getChecksumRequest())) return false;
-      }
-      if (hasChecksumResponse() != other.hasChecksumResponse()) return false;
-      if (hasChecksumResponse()) {
-        if (!getChecksumResponse()
-            .equals(other.getChecksumResponse())) return false;
-      }
-      if (hasSplitPackageResponse() != other.hasSplitPackageResponse()) return false;
-      if (hasSplitPackageResponse()) {
-        if (!getSplitPackageResponse()
-            .equals(other.getSplitPackageResponse())) return false;
-      }
-      if (hasCCoordinatorListResponse() != other.hasCCoordinatorListResponse()) return false;
-      if (hasCCoordinatorListResponse()) {
-        if (!getCCoordinatorListResponse()
-            .equals(other.getCCoordinatorListResponse())) return false;
-      }
-      if (hasCProvision() != other.hasCProvision()) return false;
-      if (hasCProvision()) {
-        if (!getCProvision()
-            .equals(other.getCProvision())) return false;
-      }
-      if (hasCProvisionResponse() != other.hasCProvisionResponse()) return false;
-      if (hasCProvisionResponse()) {
-        if (!getCProvisionResponse()
-            .equals(other.getCProvisionResponse())) return false;
-      }
-      if (hasCDeProvision() != other.hasCDeProvision()) return false;
-      if (hasCDeProvision()) {
-        if (!getCDeProvision()
-            .equals(other.getCDeProvision())) return false;
-      }
-      if (hasCShutdown() != other.hasCShutdown()) return false;
-      if (hasCShutdown()) {
-        if (!getCShutdown()
-            .equals(other.getCShutdown())) return false;
-      }
-      if (hasCPromote() != other.hasCPromote()) return false;
-      if (hasCPromote()) {
-        if (!getCPromote()
-            .equals(other.getCPromote())) return false;
-      }
-      if (hasCCreateCoordinator() != other.hasCCreateCoordinator()) return false;
-      if (hasCCreateCoordinator()) {
-        if (!getCCreateCoordinator()
-            .equals(other.getCCreateCoordinator())) return false;
-      }
-      if (hasCCoordinatorCreated() != other.hasCCoordinatorCreated()) return false;
-      if (hasCCoordinatorCreated()) {
-        if (!getCCoordinatorCreated()
-            .equals(other.getCCoordinatorCreated())) return false;
-      }
-      if (hasCSendInput() != other.hasCSendInput()) return false;
-      if (hasCSendInput()) {
-        if (!getCSendInput()
-            .equals(other.getCSendInput())) return false;
-      }
-      if (hasCAttachConsole() != other.hasCAttachConsole()) return false;
-      if (hasCAttachConsole()) {
-        if (!getCAttachConsole()
-            .equals(other.getCAttachConsole())) return false;
-      }
-      if (hasCConsoleAttached() != other.hasCConsoleAttached()) return false;
-      if (hasCConsoleAttached()) {
-        if (!getCConsoleAttached()
-            .equals(other.getCConsoleAttached())) return false;
-      }
-      if (hasCConsoleMessage() != other.hasCConsoleMessage()) return false;
-      if (hasCConsoleMessage()) {
-        if (!getCConsoleMessage()
-            .equals(other.getCConsoleMessage())) return false;
-      }
-      if (hasCConsoleDetached() != other.hasCConsoleDetached()) return false;
-      if (hasCConsoleDetached()) {
-        if (!getCConsoleDetached()
-            .equals(other.getCConsoleDetached())) return false;
-      }
-      if (hasCDetachConsole() != other.hasCDetachConsole()) return false;
-      if (hasCDetachConsole()) {
-        if (!getCDetachConsole()
-            .equals(other.getCDetachConsole())) return false;
-      }
-      if (hasCFreezeServer() != other.hasCFreezeServer()) return false;
-      if (hasCFreezeServer()) {
-        if (!getCFreezeServer()
-            .equals(other.getCFreezeServer())) return false;
-      }
-      if (hasCUploadPackage() != other.hasCUploadPackage()) return false;
-      if (hasCUploadPackage()) {
-        if (!getCUploadPackage()
-            .equals(other.getCUploadPackage())) return false;
-      }
-      if (hasCAck() != other.hasCAck()) return false;
-      if (hasCAck()) {
-        if (!getCAck()
-            .equals(other.getCAck())) return false;
-      }
-      if (hasCPackageList() != other.hasCPackageList()) return false;
-      if (hasCPackageList()) {
-        if (!getCPackageList()
-            .equals(other.getCPackageList())) return false;
-      }
-      if (hasCUploadSplitPackage() != other.hasCUploadSplitPackage()) return false;
-      if (hasCUploadSplitPackage()) {
-        if (!getCUploadSplitPackage()
-            .equals(other.getCUploadSplitPackage())) return false;
-      }
-      if (hasCAccessDenied() != other.hasCAccessDenied()) return false;
-      if (hasCAccessDenied()) {
-        if (!getCAccessDenied()
-            .equals(other.getCAccessDenied())) return false;
+      if (!getPayloadCase().equals(other.getPayloadCase())) return false;
+      switch (payloadCase_) {
+        case 2:
+          if (!getSync()
+              .equals(other.getSync())) return false;
+          break;
+        case 3:
+          if (!getProvision()
+              .equals(other.getProvision())) return false;
+          break;
+        case 4:
+          if (!getProvisionResponse()
+              .equals(other.getProvisionResponse())) return false;
+          break;
+        case 5:
+          if (!getPackageRequest()
+              .equals(other.getPackageRequest())) return false;
+          break;
+        case 6:
+          if (!getPackageResponse()
+              .equals(other.getPackageResponse())) return false;
+          break;
+        case 7:
+          if (!getDeProvision()
+              .equals(other.getDeProvision())) return false;
+          break;
+        case 8:
+          if (!getServerShutdown()
+              .equals(other.getServerShutdown())) return false;
+          break;
+        case 9:
+          if (!getSendInput()
+              .equals(other.getSendInput())) return false;
+          break;
+        case 10:
+          if (!getAttachConsole()
+              .equals(other.getAttachConsole())) return false;
+          break;
+        case 11:
+          if (!getConsoleMessage()
+              .equals(other.getConsoleMessage())) return false;
+          break;
+        case 12:
+          if (!getDetachConsole()
+              .equals(other.getDetachConsole())) return false;
+          break;
+        case 13:
+          if (!getFreezeServer()
+              .equals(other.getFreezeServer())) return false;
+          break;
+        case 14:
+          if (!getChecksumRequest()
+              .equals(other.getChecksumRequest())) return false;
+          break;
+        case 16:
+          if (!getChecksumResponse()
+              .equals(other.getChecksumResponse())) return false;
+          break;
+        case 17:
+          if (!getSplitPackageResponse()
+              .equals(other.getSplitPackageResponse())) return false;
+          break;
+        case 18:
+          if (!getCCoordinatorListResponse()
+              .equals(other.getCCoordinatorListResponse())) return false;
+          break;
+        case 19:
+          if (!getCProvision()
+              .equals(other.getCProvision())) return false;
+          break;
+        case 20:
+          if (!getCProvisionResponse()
+              .equals(other.getCProvisionResponse())) return false;
+          break;
+        case 21:
+          if (!getCDeProvision()
+              .equals(other.getCDeProvision())) return false;
+          break;
+        case 22:
+          if (!getCShutdown()
+              .equals(other.getCShutdown())) return false;
+          break;
+        case 23:
+          if (!getCPromote()
+              .equals(other.getCPromote())) return false;
+          break;
+        case 24:
+          if (!getCCreateCoordinator()
+              .equals(other.getCCreateCoordinator())) return false;
+          break;
+        case 25:
+          if (!getCCoordinatorCreated()
+              .equals(other.getCCoordinatorCreated())) return false;
+          break;
+        case 26:
+          if (!getCSendInput()
+              .equals(other.getCSendInput())) return false;
+          break;
+        case 27:
+          if (!getCAttachConsole()
+              .equals(other.getCAttachConsole())) return false;
+          break;
+        case 28:
+          if (!getCConsoleAttached()
+              .equals(other.getCConsoleAttached())) return false;
+          break;
+        case 29:
+          if (!getCConsoleMessage()
+              .equals(other.getCConsoleMessage())) return false;
+          break;
+        case 30:
+          if (!getCConsoleDetached()
+              .equals(other.getCConsoleDetached())) return false;
+          break;
+        case 31:
+          if (!getCDetachConsole()
+              .equals(other.getCDetachConsole())) return false;
+          break;
+        case 32:
+          if (!getCFreezeServer()
+              .equals(other.getCFreezeServer())) return false;
+          break;
+        case 33:
+          if (!getCUploadPackage()
+              .equals(other.getCUploadPackage())) return false;
+          break;
+        case 34:
+          if (!getCAck()
+              .equals(other.getCAck())) return false;
+          break;
+        case 35:
+          if (!getCPackageList()
+              .equals(other.getCPackageList())) return false;
+          break;
+        case 36:
+          if (!getCUploadSplitPackage()
+              .equals(other.getCUploadSplitPackage())) return false;
+          break;
+        case 37:
+          if (!getCAccessDenied()
+              .equals(other.getCAccessDenied())) return false;
+          break;
+        case 38:
+          if (!getSyncResync()
+              .equals(other.getSyncResync())) return false;
+          break;
+        case 39:
+          if (!getSplitPackageAck()
+              .equals(other.getSplitPackageAck())) return false;
+          break;
+        case 40:
+          if (!getSyncAck()
+              .equals(other.getSyncAck())) return false;
+          break;
+        case 0:
+        default:
       }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
@@ -27866,145 +31242,161 @@ public final class Commands {
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + TYPE_FIELD_NUMBER;
       hash = (53 * hash) + type_;
-      if (hasSync()) {
-        hash = (37 * hash) + SYNC_FIELD_NUMBER;
-        hash = (53 * hash) + getSync().hashCode();
-      }
-      if (hasProvision()) {
-        hash = (37 * hash) + PROVISION_FIELD_NUMBER;
-        hash = (53 * hash) + getProvision().hashCode();
-      }
-      if (hasProvisionResponse()) {
-        hash = (37 * hash) + PROVISIONRESPONSE_FIELD_NUMBER;
-        hash = (53 * hash) + getProvisionResponse().hashCode();
-      }
-      if (hasPackageRequest()) {
-        hash = (37 * hash) + PACKAGEREQUEST_FIELD_NUMBER;
-        hash = (53 * hash) + getPackageRequest().hashCode();
-      }
-      if (hasPackageResponse()) {
-        hash = (37 * hash) + PACKAGERESPONSE_FIELD_NUMBER;
-        hash = (53 * hash) + getPackageResponse().hashCode();
-      }
-      if (hasDeProvision()) {
-        hash = (37 * hash) + DEPROVISION_FIELD_NUMBER;
-        hash = (53 * hash) + getDeProvision().hashCode();
-      }
-      if (hasServerShutdown()) {
-        hash = (37 * hash) + SERVERSHUTDOWN_FIELD_NUMBER;
-        hash = (53 * hash) + getServerShutdown().hashCode();
-      }
-      if (hasSendInput()) {
-        hash = (37 * hash) + SENDINPUT_FIELD_NUMBER;
-        hash = (53 * hash) + getSendInput().hashCode();
-      }
-      if (hasAttachConsole()) {
-        hash = (37 * hash) + ATTACHCONSOLE_FIELD_NUMBER;
-        hash = (53 * hash) + getAttachConsole().hashCode();
-      }
-      if (hasConsoleMessage()) {
-        hash = (37 * hash) + CONSOLEMESSAGE_FIELD_NUMBER;
-        hash = (53 * hash) + getConsoleMessage().hashCode();
-      }
-      if (hasDetachConsole()) {
-        hash = (37 * hash) + DETACHCONSOLE_FIELD_NUMBER;
-        hash = (53 * hash) + getDetachConsole().hashCode();
-      }
-      if (hasFreezeServer()) {
-        hash = (37 * hash) + FREEZESERVER_FIELD_NUMBER;
-        hash = (53 * hash) + getFreezeServer().hashCode();
-      }
-      if (hasChecksumRequest()) {
-        hash = (37 * hash) + CHECKSUMREQUEST_FIELD_NUMBER;
-        hash = (53 * hash) + getChecksumRequest().hashCode();
-      }
-      if (hasChecksumResponse()) {
-        hash = (37 * hash) + CHECKSUMRESPONSE_FIELD_NUMBER;
-        hash = (53 * hash) + getChecksumResponse().hashCode();
-      }
-      if (hasSplitPackageResponse()) {
-        hash = (37 * hash) + SPLITPACKAGERESPONSE_FIELD_NUMBER;
-        hash = (53 * hash) + getSplitPackageResponse().hashCode();
-      }
-      if (hasCCoordinatorListResponse()) {
-        hash = (37 * hash) + C_COORDINATORLISTRESPONSE_FIELD_NUMBER;
-        hash = (53 * hash) + getCCoordinatorListResponse().hashCode();
-      }
-      if (hasCProvision()) {
-        hash = (37 * hash) + C_PROVISION_FIELD_NUMBER;
-        hash = (53 * hash) + getCProvision().hashCode();
-      }
-      if (hasCProvisionResponse()) {
-        hash = (37 * hash) + C_PROVISIONRESPONSE_FIELD_NUMBER;
-        hash = (53 * hash) + getCProvisionResponse().hashCode();
-      }
-      if (hasCDeProvision()) {
-        hash = (37 * hash) + C_DEPROVISION_FIELD_NUMBER;
-        hash = (53 * hash) + getCDeProvision().hashCode();
-      }
-      if (hasCShutdown()) {
-        hash = (37 * hash) + C_SHUTDOWN_FIELD_NUMBER;
-        hash = (53 * hash) + getCShutdown().hashCode();
-      }
-      if (hasCPromote()) {
-        hash = (37 * hash) + C_PROMOTE_FIELD_NUMBER;
-        hash = (53 * hash) + getCPromote().hashCode();
-      }
-      if (hasCCreateCoordinator()) {
-        hash = (37 * hash) + C_CREATECOORDINATOR_FIELD_NUMBER;
-        hash = (53 * hash) + getCCreateCoordinator().hashCode();
-      }
-      if (hasCCoordinatorCreated()) {
-        hash = (37 * hash) + C_COORDINATORCREATED_FIELD_NUMBER;
-        hash = (53 * hash) + getCCoordinatorCreated().hashCode();
-      }
-      if (hasCSendInput()) {
-        hash = (37 * hash) + C_SENDINPUT_FIELD_NUMBER;
-        hash = (53 * hash) + getCSendInput().hashCode();
-      }
-      if (hasCAttachConsole()) {
-        hash = (37 * hash) + C_ATTACHCONSOLE_FIELD_NUMBER;
-        hash = (53 * hash) + getCAttachConsole().hashCode();
-      }
-      if (hasCConsoleAttached()) {
-        hash = (37 * hash) + C_CONSOLEATTACHED_FIELD_NUMBER;
-        hash = (53 * hash) + getCConsoleAttached().hashCode();
-      }
-      if (hasCConsoleMessage()) {
-        hash = (37 * hash) + C_CONSOLEMESSAGE_FIELD_NUMBER;
-        hash = (53 * hash) + getCConsoleMessage().hashCode();
-      }
-      if (hasCConsoleDetached()) {
-        hash = (37 * hash) + C_CONSOLEDETACHED_FIELD_NUMBER;
-        hash = (53 * hash) + getCConsoleDetached().hashCode();
-      }
-      if (hasCDetachConsole()) {
-        hash = (37 * hash) + C_DETACHCONSOLE_FIELD_NUMBER;
-        hash = (53 * hash) + getCDetachConsole().hashCode();
-      }
-      if (hasCFreezeServer()) {
-        hash = (37 * hash) + C_FREEZESERVER_FIELD_NUMBER;
-        hash = (53 * hash) + getCFreezeServer().hashCode();
-      }
-      if (hasCUploadPackage()) {
-        hash = (37 * hash) + C_UPLOADPACKAGE_FIELD_NUMBER;
-        hash = (53 * hash) + getCUploadPackage().hashCode();
-      }
-      if (hasCAck()) {
-        hash = (37 * hash) + C_ACK_FIELD_NUMBER;
-        hash = (53 * hash) + getCAck().hashCode();
-      }
-      if (hasCPackageList()) {
-        hash = (37 * hash) + C_PACKAGELIST_FIELD_NUMBER;
-        hash = (53 * hash) + getCPackageList().hashCode();
-      }
-      if (hasCUploadSplitPackage()) {
-        hash = (37 * hash) + C_UPLOADSPLITPACKAGE_FIELD_NUMBER;
-        hash = (53 * hash) + getCUploadSplitPackage().hashCode();
-      }
-      if (hasCAccessDenied()) {
-        hash = (37 * hash) + C_ACCESSDENIED_FIELD_NUMBER;
-        hash = (53 * hash) + getCAccessDenied().hashCode();
+      switch (payloadCase_) {
+        case 2:
+          hash = (37 * hash) + SYNC_FIELD_NUMBER;
+          hash = (53 * hash) + getSync().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + PROVISION_FIELD_NUMBER;
+          hash = (53 * hash) + getProvision().hashCode();
+          break;
+        case 4:
+          hash = (37 * hash) + PROVISIONRESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getProvisionResponse().hashCode();
+          break;
+        case 5:
+          hash = (37 * hash) + PACKAGEREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getPackageRequest().hashCode();
+          break;
+        case 6:
+          hash = (37 * hash) + PACKAGERESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getPackageResponse().hashCode();
+          break;
+        case 7:
+          hash = (37 * hash) + DEPROVISION_FIELD_NUMBER;
+          hash = (53 * hash) + getDeProvision().hashCode();
+          break;
+        case 8:
+          hash = (37 * hash) + SERVERSHUTDOWN_FIELD_NUMBER;
+          hash = (53 * hash) + getServerShutdown().hashCode();
+          break;
+        case 9:
+          hash = (37 * hash) + SENDINPUT_FIELD_NUMBER;
+          hash = (53 * hash) + getSendInput().hashCode();
+          break;
+        case 10:
+          hash = (37 * hash) + ATTACHCONSOLE_FIELD_NUMBER;
+          hash = (53 * hash) + getAttachConsole().hashCode();
+          break;
+        case 11:
+          hash = (37 * hash) + CONSOLEMESSAGE_FIELD_NUMBER;
+          hash = (53 * hash) + getConsoleMessage().hashCode();
+          break;
+        case 12:
+          hash = (37 * hash) + DETACHCONSOLE_FIELD_NUMBER;
+          hash = (53 * hash) + getDetachConsole().hashCode();
+          break;
+        case 13:
+          hash = (37 * hash) + FREEZESERVER_FIELD_NUMBER;
+          hash = (53 * hash) + getFreezeServer().hashCode();
+          break;
+        case 14:
+          hash = (37 * hash) + CHECKSUMREQUEST_FIELD_NUMBER;
+          hash = (53 * hash) + getChecksumRequest().hashCode();
+          break;
+        case 16:
+          hash = (37 * hash) + CHECKSUMRESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getChecksumResponse().hashCode();
+          break;
+        case 17:
+          hash = (37 * hash) + SPLITPACKAGERESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getSplitPackageResponse().hashCode();
+          break;
+        case 18:
+          hash = (37 * hash) + C_COORDINATORLISTRESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getCCoordinatorListResponse().hashCode();
+          break;
+        case 19:
+          hash = (37 * hash) + C_PROVISION_FIELD_NUMBER;
+          hash = (53 * hash) + getCProvision().hashCode();
+          break;
+        case 20:
+          hash = (37 * hash) + C_PROVISIONRESPONSE_FIELD_NUMBER;
+          hash = (53 * hash) + getCProvisionResponse().hashCode();
+          break;
+        case 21:
+          hash = (37 * hash) + C_DEPROVISION_FIELD_NUMBER;
+          hash = (53 * hash) + getCDeProvision().hashCode();
+          break;
+        case 22:
+          hash = (37 * hash) + C_SHUTDOWN_FIELD_NUMBER;
+          hash = (53 * hash) + getCShutdown().hashCode();
+          break;
+        case 23:
+          hash = (37 * hash) + C_PROMOTE_FIELD_NUMBER;
+          hash = (53 * hash) + getCPromote().hashCode();
+          break;
+        case 24:
+          hash = (37 * hash) + C_CREATECOORDINATOR_FIELD_NUMBER;
+          hash = (53 * hash) + getCCreateCoordinator().hashCode();
+          break;
+        case 25:
+          hash = (37 * hash) + C_COORDINATORCREATED_FIELD_NUMBER;
+          hash = (53 * hash) + getCCoordinatorCreated().hashCode();
+          break;
+        case 26:
+          hash = (37 * hash) + C_SENDINPUT_FIELD_NUMBER;
+          hash = (53 * hash) + getCSendInput().hashCode();
+          break;
+        case 27:
+          hash = (37 * hash) + C_ATTACHCONSOLE_FIELD_NUMBER;
+          hash = (53 * hash) + getCAttachConsole().hashCode();
+          break;
+        case 28:
+          hash = (37 * hash) + C_CONSOLEATTACHED_FIELD_NUMBER;
+          hash = (53 * hash) + getCConsoleAttached().hashCode();
+          break;
+        case 29:
+          hash = (37 * hash) + C_CONSOLEMESSAGE_FIELD_NUMBER;
+          hash = (53 * hash) + getCConsoleMessage().hashCode();
+          break;
+        case 30:
+          hash = (37 * hash) + C_CONSOLEDETACHED_FIELD_NUMBER;
+          hash = (53 * hash) + getCConsoleDetached().hashCode();
+          break;
+        case 31:
+          hash = (37 * hash) + C_DETACHCONSOLE_FIELD_NUMBER;
+          hash = (53 * hash) + getCDetachConsole().hashCode();
+          break;
+        case 32:
+          hash = (37 * hash) + C_FREEZESERVER_FIELD_NUMBER;
+          hash = (53 * hash) + getCFreezeServer().hashCode();
+          break;
+        case 33:
+          hash = (37 * hash) + C_UPLOADPACKAGE_FIELD_NUMBER;
+          hash = (53 * hash) + getCUploadPackage().hashCode();
+          break;
+        case 34:
+          hash = (37 * hash) + C_ACK_FIELD_NUMBER;
+          hash = (53 * hash) + getCAck().hashCode();
+          break;
+        case 35:
+          hash = (37 * hash) + C_PACKAGELIST_FIELD_NUMBER;
+          hash = (53 * hash) + getCPackageList().hashCode();
+          break;
+        case 36:
+          hash = (37 * hash) + C_UPLOADSPLITPACKAGE_FIELD_NUMBER;
+          hash = (53 * hash) + getCUploadSplitPackage().hashCode();
+          break;
+        case 37:
+          hash = (37 * hash) + C_ACCESSDENIED_FIELD_NUMBER;
+          hash = (53 * hash) + getCAccessDenied().hashCode();
+          break;
+        case 38:
+          hash = (37 * hash) + SYNCRESYNC_FIELD_NUMBER;
+          hash = (53 * hash) + getSyncResync().hashCode();
+          break;
+        case 39:
+          hash = (37 * hash) + SPLITPACKAGEACK_FIELD_NUMBER;
+          hash = (53 * hash) + getSplitPackageAck().hashCode();
+          break;
+        case 40:
+          hash = (37 * hash) + SYNCACK_FIELD_NUMBER;
+          hash = (53 * hash) + getSyncAck().hashCode();
+          break;
+        case 0:
+        default:
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
@@ -28141,216 +31533,8 @@ public final class Commands {
         super.clear();
         type_ = 0;
 
-        if (syncBuilder_ == null) {
-          sync_ = null;
-        } else {
-          sync_ = null;
-          syncBuilder_ = null;
-        }
-        if (provisionBuilder_ == null) {
-          provision_ = null;
-        } else {
-          provision_ = null;
-          provisionBuilder_ = null;
-        }
-        if (provisionResponseBuilder_ == null) {
-          provisionResponse_ = null;
-        } else {
-          provisionResponse_ = null;
-          provisionResponseBuilder_ = null;
-        }
-        if (packageRequestBuilder_ == null) {
-          packageRequest_ = null;
-        } else {
-          packageRequest_ = null;
-          packageRequestBuilder_ = null;
-        }
-        if (packageResponseBuilder_ == null) {
-          packageResponse_ = null;
-        } else {
-          packageResponse_ = null;
-          packageResponseBuilder_ = null;
-        }
-        if (deProvisionBuilder_ == null) {
-          deProvision_ = null;
-        } else {
-          deProvision_ = null;
-          deProvisionBuilder_ = null;
-        }
-        if (serverShutdownBuilder_ == null) {
-          serverShutdown_ = null;
-        } else {
-          serverShutdown_ = null;
-          serverShutdownBuilder_ = null;
-        }
-        if (sendInputBuilder_ == null) {
-          sendInput_ = null;
-        } else {
-          sendInput_ = null;
-          sendInputBuilder_ = null;
-        }
-        if (attachConsoleBuilder_ == null) {
-          attachConsole_ = null;
-        } else {
-          attachConsole_ = null;
-          attachConsoleBuilder_ = null;
-        }
-        if (consoleMessageBuilder_ == null) {
-          consoleMessage_ = null;
-        } else {
-          consoleMessage_ = null;
-          consoleMessageBuilder_ = null;
-        }
-        if (detachConsoleBuilder_ == null) {
-          detachConsole_ = null;
-        } else {
-          detachConsole_ = null;
-          detachConsoleBuilder_ = null;
-        }
-        if (freezeServerBuilder_ == null) {
-          freezeServer_ = null;
-        } else {
-          freezeServer_ = null;
-          freezeServerBuilder_ = null;
-        }
-        if (checksumRequestBuilder_ == null) {
-          checksumRequest_ = null;
-        } else {
-          checksumRequest_ = null;
-          checksumRequestBuilder_ = null;
-        }
-        if (checksumResponseBuilder_ == null) {
-          checksumResponse_ = null;
-        } else {
-          checksumResponse_ = null;
-          checksumResponseBuilder_ = null;
-        }
-        if (splitPackageResponseBuilder_ == null) {
-          splitPackageResponse_ = null;
-        } else {
-          splitPackageResponse_ = null;
-          splitPackageResponseBuilder_ = null;
-        }
-        if (cCoordinatorListResponseBuilder_ == null) {
-          cCoordinatorListResponse_ = null;
-        } else {
-          cCoordinatorListResponse_ = null;
-          cCoordinatorListResponseBuilder_ = null;
-        }
-        if (cProvisionBuilder_ == null) {
-          cProvision_ = null;
-        } else {
-          cProvision_ = null;
-          cProvisionBuilder_ = null;
-        }
-        if (cProvisionResponseBuilder_ == null) {
-          cProvisionResponse_ = null;
-        } else {
-          cProvisionResponse_ = null;
-          cProvisionResponseBuilder_ = null;
-        }
-        if (cDeProvisionBuilder_ == null) {
-          cDeProvision_ = null;
-        } else {
-          cDeProvision_ = null;
-          cDeProvisionBuilder_ = null;
-        }
-        if (cShutdownBuilder_ == null) {
-          cShutdown_ = null;
-        } else {
-          cShutdown_ = null;
-          cShutdownBuilder_ = null;
-        }
-        if (cPromoteBuilder_ == null) {
-          cPromote_ = null;
-        } else {
-          cPromote_ = null;
-          cPromoteBuilder_ = null;
-        }
-        if (cCreateCoordinatorBuilder_ == null) {
-          cCreateCoordinator_ = null;
-        } else {
-          cCreateCoordinator_ = null;
-          cCreateCoordinatorBuilder_ = null;
-        }
-        if (cCoordinatorCreatedBuilder_ == null) {
-          cCoordinatorCreated_ = null;
-        } else {
-          cCoordinatorCreated_ = null;
-          cCoordinatorCreatedBuilder_ = null;
-        }
-        if (cSendInputBuilder_ == null) {
-          cSendInput_ = null;
-        } else {
-          cSendInput_ = null;
-          cSendInputBuilder_ = null;
-        }
-        if (cAttachConsoleBuilder_ == null) {
-          cAttachConsole_ = null;
-        } else {
-          cAttachConsole_ = null;
-          cAttachConsoleBuilder_ = null;
-        }
-        if (cConsoleAttachedBuilder_ == null) {
-          cConsoleAttached_ = null;
-        } else {
-          cConsoleAttached_ = null;
-          cConsoleAttachedBuilder_ = null;
-        }
-        if (cConsoleMessageBuilder_ == null) {
-          cConsoleMessage_ = null;
-        } else {
-          cConsoleMessage_ = null;
-          cConsoleMessageBuilder_ = null;
-        }
-        if (cConsoleDetachedBuilder_ == null) {
-          cConsoleDetached_ = null;
-        } else {
-          cConsoleDetached_ = null;
-          cConsoleDetachedBuilder_ = null;
-        }
-        if (cDetachConsoleBuilder_ == null) {
-          cDetachConsole_ = null;
-        } else {
-          cDetachConsole_ = null;
-          cDetachConsoleBuilder_ = null;
-        }
-        if (cFreezeServerBuilder_ == null) {
-          cFreezeServer_ = null;
-        } else {
-          cFreezeServer_ = null;
-          cFreezeServerBuilder_ = null;
-        }
-        if (cUploadPackageBuilder_ == null) {
-          cUploadPackage_ = null;
-        } else {
-          cUploadPackage_ = null;
-          cUploadPackageBuilder_ = null;
-        }
-        if (cAckBuilder_ == null) {
-          cAck_ = null;
-        } else {
-          cAck_ = null;
-          cAckBuilder_ = null;
-        }
-        if (cPackageListBuilder_ == null) {
-          cPackageList_ = null;
-        } else {
-          cPackageList_ = null;
-          cPackageListBuilder_ = null;
-        }
-        if (cUploadSplitPackageBuilder_ == null) {
-          cUploadSplitPackage_ = null;
-        } else {
-          cUploadSplitPackage_ = null;
-          cUploadSplitPackageBuilder_ = null;
-        }
-        if (cAccessDeniedBuilder_ == null) {
-          cAccessDenied_ = null;
-        } else {
-          cAccessDenied_ = null;
-          cAccessDeniedBuilder_ = null;
-        }
+        payloadCase_ = 0;
+        payload_ = null;
         return this;
       }
 
@@ -28378,181 +31562,273 @@ public final class Commands {
       public io.github.portlek.synergy.proto.Commands.BaseCommand buildPartial() {
         io.github.portlek.synergy.proto.Commands.BaseCommand result = new io.github.portlek.synergy.proto.Commands.BaseCommand(this);
         result.type_ = type_;
-        if (syncBuilder_ == null) {
-          result.sync_ = sync_;
-        } else {
-          result.sync_ = syncBuilder_.build();
+        if (payloadCase_ == 2) {
+          if (syncBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = syncBuilder_.build();
+          }
         }
-        if (provisionBuilder_ == null) {
-          result.provision_ = provision_;
-        } else {
-          result.provision_ = provisionBuilder_.build();
+        if (payloadCase_ == 3) {
+          if (provisionBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = provisionBuilder_.build();
+          }
         }
-        if (provisionResponseBuilder_ == null) {
-          result.provisionResponse_ = provisionResponse_;
-        } else {
-          result.provisionResponse_ = provisionResponseBuilder_.build();
+        if (payloadCase_ == 4) {
+          if (provisionResponseBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = provisionResponseBuilder_.build();
+          }
         }
-        if (packageRequestBuilder_ == null) {
-          result.packageRequest_ = packageRequest_;
-        } else {
-          result.packageRequest_ = packageRequestBuilder_.build();
+        if (payloadCase_ == 5) {
+          if (packageRequestBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = packageRequestBuilder_.build();
+          }
         }
-        if (packageResponseBuilder_ == null) {
-          result.packageResponse_ = packageResponse_;
-        } else {
-          result.packageResponse_ = packageResponseBuilder_.build();
+        if (payloadCase_ == 6) {
+          if (packageResponseBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = packageResponseBuilder_.build();
+          }
         }
-        if (deProvisionBuilder_ == null) {
-          result.deProvision_ = deProvision_;
-        } else {
-          result.deProvision_ = deProvisionBuilder_.build();
+        if (payloadCase_ == 7) {
+          if (deProvisionBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = deProvisionBuilder_.build();
+          }
         }
-        if (serverShutdownBuilder_ == null) {
-          result.serverShutdown_ = serverShutdown_;
-        } else {
-          result.serverShutdown_ = serverShutdownBuilder_.build();
+        if (payloadCase_ == 8) {
+          if (serverShutdownBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = serverShutdownBuilder_.build();
+          }
         }
-        if (sendInputBuilder_ == null) {
-          result.sendInput_ = sendInput_;
-        } else {
-          result.sendInput_ = sendInputBuilder_.build();
+        if (payloadCase_ == 9) {
+          if (sendInputBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = sendInputBuilder_.build();
+          }
         }
-        if (attachConsoleBuilder_ == null) {
-          result.attachConsole_ = attachConsole_;
-        } else {
-          result.attachConsole_ = attachConsoleBuilder_.build();
+        if (payloadCase_ == 10) {
+          if (attachConsoleBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = attachConsoleBuilder_.build();
+          }
         }
-        if (consoleMessageBuilder_ == null) {
-          result.consoleMessage_ = consoleMessage_;
-        } else {
-          result.consoleMessage_ = consoleMessageBuilder_.build();
+        if (payloadCase_ == 11) {
+          if (consoleMessageBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = consoleMessageBuilder_.build();
+          }
         }
-        if (detachConsoleBuilder_ == null) {
-          result.detachConsole_ = detachConsole_;
-        } else {
-          result.detachConsole_ = detachConsoleBuilder_.build();
+        if (payloadCase_ == 12) {
+          if (detachConsoleBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = detachConsoleBuilder_.build();
+          }
         }
-        if (freezeServerBuilder_ == null) {
-          result.freezeServer_ = freezeServer_;
-        } else {
-          result.freezeServer_ = freezeServerBuilder_.build();
+        if (payloadCase_ == 13) {
+          if (freezeServerBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = freezeServerBuilder_.build();
+          }
         }
-        if (checksumRequestBuilder_ == null) {
-          result.checksumRequest_ = checksumRequest_;
-        } else {
-          result.checksumRequest_ = checksumRequestBuilder_.build();
+        if (payloadCase_ == 14) {
+          if (checksumRequestBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = checksumRequestBuilder_.build();
+          }
         }
-        if (checksumResponseBuilder_ == null) {
-          result.checksumResponse_ = checksumResponse_;
-        } else {
-          result.checksumResponse_ = checksumResponseBuilder_.build();
+        if (payloadCase_ == 16) {
+          if (checksumResponseBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = checksumResponseBuilder_.build();
+          }
         }
-        if (splitPackageResponseBuilder_ == null) {
-          result.splitPackageResponse_ = splitPackageResponse_;
-        } else {
-          result.splitPackageResponse_ = splitPackageResponseBuilder_.build();
+        if (payloadCase_ == 17) {
+          if (splitPackageResponseBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = splitPackageResponseBuilder_.build();
+          }
         }
-        if (cCoordinatorListResponseBuilder_ == null) {
-          result.cCoordinatorListResponse_ = cCoordinatorListResponse_;
-        } else {
-          result.cCoordinatorListResponse_ = cCoordinatorListResponseBuilder_.build();
+        if (payloadCase_ == 18) {
+          if (cCoordinatorListResponseBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cCoordinatorListResponseBuilder_.build();
+          }
         }
-        if (cProvisionBuilder_ == null) {
-          result.cProvision_ = cProvision_;
-        } else {
-          result.cProvision_ = cProvisionBuilder_.build();
+        if (payloadCase_ == 19) {
+          if (cProvisionBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cProvisionBuilder_.build();
+          }
         }
-        if (cProvisionResponseBuilder_ == null) {
-          result.cProvisionResponse_ = cProvisionResponse_;
-        } else {
-          result.cProvisionResponse_ = cProvisionResponseBuilder_.build();
+        if (payloadCase_ == 20) {
+          if (cProvisionResponseBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cProvisionResponseBuilder_.build();
+          }
         }
-        if (cDeProvisionBuilder_ == null) {
-          result.cDeProvision_ = cDeProvision_;
-        } else {
-          result.cDeProvision_ = cDeProvisionBuilder_.build();
+        if (payloadCase_ == 21) {
+          if (cDeProvisionBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cDeProvisionBuilder_.build();
+          }
         }
-        if (cShutdownBuilder_ == null) {
-          result.cShutdown_ = cShutdown_;
-        } else {
-          result.cShutdown_ = cShutdownBuilder_.build();
+        if (payloadCase_ == 22) {
+          if (cShutdownBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cShutdownBuilder_.build();
+          }
         }
-        if (cPromoteBuilder_ == null) {
-          result.cPromote_ = cPromote_;
-        } else {
-          result.cPromote_ = cPromoteBuilder_.build();
+        if (payloadCase_ == 23) {
+          if (cPromoteBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cPromoteBuilder_.build();
+          }
         }
-        if (cCreateCoordinatorBuilder_ == null) {
-          result.cCreateCoordinator_ = cCreateCoordinator_;
-        } else {
-          result.cCreateCoordinator_ = cCreateCoordinatorBuilder_.build();
+        if (payloadCase_ == 24) {
+          if (cCreateCoordinatorBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cCreateCoordinatorBuilder_.build();
+          }
         }
-        if (cCoordinatorCreatedBuilder_ == null) {
-          result.cCoordinatorCreated_ = cCoordinatorCreated_;
-        } else {
-          result.cCoordinatorCreated_ = cCoordinatorCreatedBuilder_.build();
+        if (payloadCase_ == 25) {
+          if (cCoordinatorCreatedBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cCoordinatorCreatedBuilder_.build();
+          }
         }
-        if (cSendInputBuilder_ == null) {
-          result.cSendInput_ = cSendInput_;
-        } else {
-          result.cSendInput_ = cSendInputBuilder_.build();
+        if (payloadCase_ == 26) {
+          if (cSendInputBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cSendInputBuilder_.build();
+          }
         }
-        if (cAttachConsoleBuilder_ == null) {
-          result.cAttachConsole_ = cAttachConsole_;
-        } else {
-          result.cAttachConsole_ = cAttachConsoleBuilder_.build();
+        if (payloadCase_ == 27) {
+          if (cAttachConsoleBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cAttachConsoleBuilder_.build();
+          }
         }
-        if (cConsoleAttachedBuilder_ == null) {
-          result.cConsoleAttached_ = cConsoleAttached_;
-        } else {
-          result.cConsoleAttached_ = cConsoleAttachedBuilder_.build();
+        if (payloadCase_ == 28) {
+          if (cConsoleAttachedBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cConsoleAttachedBuilder_.build();
+          }
         }
-        if (cConsoleMessageBuilder_ == null) {
-          result.cConsoleMessage_ = cConsoleMessage_;
-        } else {
-          result.cConsoleMessage_ = cConsoleMessageBuilder_.build();
+        if (payloadCase_ == 29) {
+          if (cConsoleMessageBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cConsoleMessageBuilder_.build();
+          }
         }
-        if (cConsoleDetachedBuilder_ == null) {
-          result.cConsoleDetached_ = cConsoleDetached_;
-        } else {
-          result.cConsoleDetached_ = cConsoleDetachedBuilder_.build();
+        if (payloadCase_ == 30) {
+          if (cConsoleDetachedBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cConsoleDetachedBuilder_.build();
+          }
         }
-        if (cDetachConsoleBuilder_ == null) {
-          result.cDetachConsole_ = cDetachConsole_;
-        } else {
-          result.cDetachConsole_ = cDetachConsoleBuilder_.build();
+        if (payloadCase_ == 31) {
+          if (cDetachConsoleBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cDetachConsoleBuilder_.build();
+          }
         }
-        if (cFreezeServerBuilder_ == null) {
-          result.cFreezeServer_ = cFreezeServer_;
-        } else {
-          result.cFreezeServer_ = cFreezeServerBuilder_.build();
+        if (payloadCase_ == 32) {
+          if (cFreezeServerBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cFreezeServerBuilder_.build();
+          }
         }
-        if (cUploadPackageBuilder_ == null) {
-          result.cUploadPackage_ = cUploadPackage_;
-        } else {
-          result.cUploadPackage_ = cUploadPackageBuilder_.build();
+        if (payloadCase_ == 33) {
+          if (cUploadPackageBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cUploadPackageBuilder_.build();
+          }
         }
-        if (cAckBuilder_ == null) {
-          result.cAck_ = cAck_;
-        } else {
-          result.cAck_ = cAckBuilder_.build();
+        if (payloadCase_ == 34) {
+          if (cAckBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cAckBuilder_.build();
+          }
         }
-        if (cPackageListBuilder_ == null) {
-          result.cPackageList_ = cPackageList_;
-        } else {
-          result.cPackageList_ = cPackageListBuilder_.build();
+        if (payloadCase_ == 35) {
+          if (cPackageListBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cPackageListBuilder_.build();
+          }
         }
-        if (cUploadSplitPackageBuilder_ == null) {
-          result.cUploadSplitPackage_ = cUploadSplitPackage_;
-        } else {
-          result.cUploadSplitPackage_ = cUploadSplitPackageBuilder_.build();
+        if (payloadCase_ == 36) {
+          if (cUploadSplitPackageBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cUploadSplitPackageBuilder_.build();
+          }
         }
-        if (cAccessDeniedBuilder_ == null) {
-          result.cAccessDenied_ = cAccessDenied_;
-        } else {
-          result.cAccessDenied_ = cAccessDeniedBuilder_.build();
+        if (payloadCase_ == 37) {
+          if (cAccessDeniedBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = cAccessDeniedBuilder_.build();
+          }
+        }
+        if (payloadCase_ == 38) {
+          if (syncResyncBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = syncResyncBuilder_.build();
+          }
+        }
+        if (payloadCase_ == 39) {
+          if (splitPackageAckBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = splitPackageAckBuilder_.build();
+          }
+        }
+        if (payloadCase_ == 40) {
+          if (syncAckBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = syncAckBuilder_.build();
+          }
         }
+        result.payloadCase_ = payloadCase_;
         onBuilt();
         return result;
       }
@@ -28604,110 +31880,162 @@ public final class Commands {
         if (other.type_ != 0) {
           setTypeValue(other.getTypeValue());
         }
-        if (other.hasSync()) {
-          mergeSync(other.getSync());
-        }
-        if (other.hasProvision()) {
-          mergeProvision(other.getProvision());
-        }
-        if (other.hasProvisionResponse()) {
-          mergeProvisionResponse(other.getProvisionResponse());
-        }
-        if (other.hasPackageRequest()) {
-          mergePackageRequest(other.getPackageRequest());
-        }
-        if (other.hasPackageResponse()) {
-          mergePackageResponse(other.getPackageResponse());
-        }
-        if (other.hasDeProvision()) {
-          mergeDeProvision(other.getDeProvision());
-        }
-        if (other.hasServerShutdown()) {
-          mergeServerShutdown(other.getServerShutdown());
-        }
-        if (other.hasSendInput()) {
-          mergeSendInput(other.getSendInput());
-        }
-        if (other.hasAttachConsole()) {
-          mergeAttachConsole(other.getAttachConsole());
-        }
-        if (other.hasConsoleMessage()) {
-          mergeConsoleMessage(other.getConsoleMessage());
-        }
-        if (other.hasDetachConsole()) {
-          mergeDetachConsole(other.getDetachConsole());
-        }
-        if (other.hasFreezeServer()) {
-          mergeFreezeServer(other.getFreezeServer());
-        }
-        if (other.hasChecksumRequest()) {
-          mergeChecksumRequest(other.getChecksumRequest());
-        }
-        if (other.hasChecksumResponse()) {
-          mergeChecksumResponse(other.getChecksumResponse());
-        }
-        if (other.hasSplitPackageResponse()) {
-          mergeSplitPackageResponse(other.getSplitPackageResponse());
-        }
-        if (other.hasCCoordinatorListResponse()) {
-          mergeCCoordinatorListResponse(other.getCCoordinatorListResponse());
-        }
-        if (other.hasCProvision()) {
-          mergeCProvision(other.getCProvision());
-        }
-        if (other.hasCProvisionResponse()) {
-          mergeCProvisionResponse(other.getCProvisionResponse());
-        }
-        if (other.hasCDeProvision()) {
-          mergeCDeProvision(other.getCDeProvision());
-        }
-        if (other.hasCShutdown()) {
-          mergeCShutdown(other.getCShutdown());
-        }
-        if (other.hasCPromote()) {
-          mergeCPromote(other.getCPromote());
-        }
-        if (other.hasCCreateCoordinator()) {
-          mergeCCreateCoordinator(other.getCCreateCoordinator());
-        }
-        if (other.hasCCoordinatorCreated()) {
-          mergeCCoordinatorCreated(other.getCCoordinatorCreated());
-        }
-        if (other.hasCSendInput()) {
-          mergeCSendInput(other.getCSendInput());
-        }
-        if (other.hasCAttachConsole()) {
-          mergeCAttachConsole(other.getCAttachConsole());
-        }
-        if (other.hasCConsoleAttached()) {
-          mergeCConsoleAttached(other.getCConsoleAttached());
-        }
-        if (other.hasCConsoleMessage()) {
-          mergeCConsoleMessage(other.getCConsoleMessage());
-        }
-        if (other.hasCConsoleDetached()) {
-          mergeCConsoleDetached(other.getCConsoleDetached());
-        }
-        if (other.hasCDetachConsole()) {
-          mergeCDetachConsole(other.getCDetachConsole());
-        }
-        if (other.hasCFreezeServer()) {
-          mergeCFreezeServer(other.getCFreezeServer());
-        }
-        if (other.hasCUploadPackage()) {
-          mergeCUploadPackage(other.getCUploadPackage());
-        }
-        if (other.hasCAck()) {
-          mergeCAck(other.getCAck());
-        }
-        if (other.hasCPackageList()) {
-          mergeCPackageList(other.getCPackageList());
-        }
-        if (other.hasCUploadSplitPackage()) {
-          mergeCUploadSplitPackage(other.getCUploadSplitPackage());
-        }
-        if (other.hasCAccessDenied()) {
-          mergeCAccessDenied(other.getCAccessDenied());
+        switch (other.getPayloadCase()) {
+          case SYNC: {
+            mergeSync(other.getSync());
+            break;
+          }
+          case PROVISION: {
+            mergeProvision(other.getProvision());
+            break;
+          }
+          case PROVISIONRESPONSE: {
+            mergeProvisionResponse(other.getProvisionResponse());
+            break;
+          }
+          case PACKAGEREQUEST: {
+            mergePackageRequest(other.getPackageRequest());
+            break;
+          }
+          case PACKAGERESPONSE: {
+            mergePackageResponse(other.getPackageResponse());
+            break;
+          }
+          case DEPROVISION: {
+            mergeDeProvision(other.getDeProvision());
+            break;
+          }
+          case SERVERSHUTDOWN: {
+            mergeServerShutdown(other.getServerShutdown());
+            break;
+          }
+          case SENDINPUT: {
+            mergeSendInput(other.getSendInput());
+            break;
+          }
+          case ATTACHCONSOLE: {
+            mergeAttachConsole(other.getAttachConsole());
+            break;
+          }
+          case CONSOLEMESSAGE: {
+            mergeConsoleMessage(other.getConsoleMessage());
+            break;
+          }
+          case DETACHCONSOLE: {
+            mergeDetachConsole(other.getDetachConsole());
+            break;
+          }
+          case FREEZESERVER: {
+            mergeFreezeServer(other.getFreezeServer());
+            break;
+          }
+          case CHECKSUMREQUEST: {
+            mergeChecksumRequest(other.getChecksumRequest());
+            break;
+          }
+          case CHECKSUMRESPONSE: {
+            mergeChecksumResponse(other.getChecksumResponse());
+            break;
+          }
+          case SPLITPACKAGERESPONSE: {
+            mergeSplitPackageResponse(other.getSplitPackageResponse());
+            break;
+          }
+          case C_COORDINATORLISTRESPONSE: {
+            mergeCCoordinatorListResponse(other.getCCoordinatorListResponse());
+            break;
+          }
+          case C_PROVISION: {
+            mergeCProvision(other.getCProvision());
+            break;
+          }
+          case C_PROVISIONRESPONSE: {
+            mergeCProvisionResponse(other.getCProvisionResponse());
+            break;
+          }
+          case C_DEPROVISION: {
+            mergeCDeProvision(other.getCDeProvision());
+            break;
+          }
+          case C_SHUTDOWN: {
+            mergeCShutdown(other.getCShutdown());
+            break;
+          }
+          case C_PROMOTE: {
+            mergeCPromote(other.getCPromote());
+            break;
+          }
+          case C_CREATECOORDINATOR: {
+            mergeCCreateCoordinator(other.getCCreateCoordinator());
+            break;
+          }
+          case C_COORDINATORCREATED: {
+            mergeCCoordinatorCreated(other.getCCoordinatorCreated());
+            break;
+          }
+          case C_SENDINPUT: {
+            mergeCSendInput(other.getCSendInput());
+            break;
+          }
+          case C_ATTACHCONSOLE: {
+            mergeCAttachConsole(other.getCAttachConsole());
+            break;
+          }
+          case C_CONSOLEATTACHED: {
+            mergeCConsoleAttached(other.getCConsoleAttached());
+            break;
+          }
+          case C_CONSOLEMESSAGE: {
+            mergeCConsoleMessage(other.getCConsoleMessage());
+            break;
+          }
+          case C_CONSOLEDETACHED: {
+            mergeCConsoleDetached(other.getCConsoleDetached());
+            break;
+          }
+          case C_DETACHCONSOLE: {
+            mergeCDetachConsole(other.getCDetachConsole());
+            break;
+          }
+          case C_FREEZESERVER: {
+            mergeCFreezeServer(other.getCFreezeServer());
+            break;
+          }
+          case C_UPLOADPACKAGE: {
+            mergeCUploadPackage(other.getCUploadPackage());
+            break;
+          }
+          case C_ACK: {
+            mergeCAck(other.getCAck());
+            break;
+          }
+          case C_PACKAGELIST: {
+            mergeCPackageList(other.getCPackageList());
+            break;
+          }
+          case C_UPLOADSPLITPACKAGE: {
+            mergeCUploadSplitPackage(other.getCUploadSplitPackage());
+            break;
+          }
+          case C_ACCESSDENIED: {
+            mergeCAccessDenied(other.getCAccessDenied());
+            break;
+          }
+          case SYNCRESYNC: {
+            mergeSyncResync(other.getSyncResync());
+            break;
+          }
+          case SPLITPACKAGEACK: {
+            mergeSplitPackageAck(other.getSplitPackageAck());
+            break;
+          }
+          case SYNCACK: {
+            mergeSyncAck(other.getSyncAck());
+            break;
+          }
+          case PAYLOAD_NOT_SET: {
+            break;
+          }
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -28737,6 +32065,21 @@ public final class Commands {
         }
         return this;
       }
+      private int payloadCase_ = 0;
+      private java.lang.Object payload_;
+      public PayloadCase
+          getPayloadCase() {
+        return PayloadCase.forNumber(
+            payloadCase_);
+      }
+
+      public Builder clearPayload() {
+        payloadCase_ = 0;
+        payload_ = null;
+        onChanged();
+        return this;
+      }
+
 
       private int type_ = 0;
       /**
@@ -28792,25 +32135,32 @@ public final class Commands {
         return this;
       }
 
-      private io.github.portlek.synergy.proto.Commands.Sync sync_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.Sync, io.github.portlek.synergy.proto.Commands.Sync.Builder, io.github.portlek.synergy.proto.Commands.SyncOrBuilder> syncBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.Sync sync = 2;</code>
        * @return Whether the sync field is set.
        */
+      @java.lang.Override
       public boolean hasSync() {
-        return syncBuilder_ != null || sync_ != null;
+        return payloadCase_ == 2;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.Sync sync = 2;</code>
        * @return The sync.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.Sync getSync() {
         if (syncBuilder_ == null) {
-          return sync_ == null ? io.github.portlek.synergy.proto.Commands.Sync.getDefaultInstance() : sync_;
+          if (payloadCase_ == 2) {
+            return (io.github.portlek.synergy.proto.Commands.Sync) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.Sync.getDefaultInstance();
         } else {
-          return syncBuilder_.getMessage();
+          if (payloadCase_ == 2) {
+            return syncBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.Sync.getDefaultInstance();
         }
       }
       /**
@@ -28821,12 +32171,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          sync_ = value;
+          payload_ = value;
           onChanged();
         } else {
           syncBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 2;
         return this;
       }
       /**
@@ -28835,12 +32185,12 @@ public final class Commands {
       public Builder setSync(
           io.github.portlek.synergy.proto.Commands.Sync.Builder builderForValue) {
         if (syncBuilder_ == null) {
-          sync_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           syncBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 2;
         return this;
       }
       /**
@@ -28848,17 +32198,21 @@ public final class Commands {
        */
       public Builder mergeSync(io.github.portlek.synergy.proto.Commands.Sync value) {
         if (syncBuilder_ == null) {
-          if (sync_ != null) {
-            sync_ =
-              io.github.portlek.synergy.proto.Commands.Sync.newBuilder(sync_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 2 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.Sync.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.Sync.newBuilder((io.github.portlek.synergy.proto.Commands.Sync) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            sync_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          syncBuilder_.mergeFrom(value);
+          if (payloadCase_ == 2) {
+            syncBuilder_.mergeFrom(value);
+          }
+          syncBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 2;
         return this;
       }
       /**
@@ -28866,32 +32220,38 @@ public final class Commands {
        */
       public Builder clearSync() {
         if (syncBuilder_ == null) {
-          sync_ = null;
-          onChanged();
+          if (payloadCase_ == 2) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          sync_ = null;
-          syncBuilder_ = null;
+          if (payloadCase_ == 2) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          syncBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.Sync sync = 2;</code>
        */
       public io.github.portlek.synergy.proto.Commands.Sync.Builder getSyncBuilder() {
-        
-        onChanged();
         return getSyncFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.Sync sync = 2;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.SyncOrBuilder getSyncOrBuilder() {
-        if (syncBuilder_ != null) {
+        if ((payloadCase_ == 2) && (syncBuilder_ != null)) {
           return syncBuilder_.getMessageOrBuilder();
         } else {
-          return sync_ == null ?
-              io.github.portlek.synergy.proto.Commands.Sync.getDefaultInstance() : sync_;
+          if (payloadCase_ == 2) {
+            return (io.github.portlek.synergy.proto.Commands.Sync) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.Sync.getDefaultInstance();
         }
       }
       /**
@@ -28901,35 +32261,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.Sync, io.github.portlek.synergy.proto.Commands.Sync.Builder, io.github.portlek.synergy.proto.Commands.SyncOrBuilder> 
           getSyncFieldBuilder() {
         if (syncBuilder_ == null) {
+          if (!(payloadCase_ == 2)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.Sync.getDefaultInstance();
+          }
           syncBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.Sync, io.github.portlek.synergy.proto.Commands.Sync.Builder, io.github.portlek.synergy.proto.Commands.SyncOrBuilder>(
-                  getSync(),
+                  (io.github.portlek.synergy.proto.Commands.Sync) payload_,
                   getParentForChildren(),
                   isClean());
-          sync_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 2;
+        onChanged();;
         return syncBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.Provision provision_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.Provision, io.github.portlek.synergy.proto.Commands.Provision.Builder, io.github.portlek.synergy.proto.Commands.ProvisionOrBuilder> provisionBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.Provision provision = 3;</code>
        * @return Whether the provision field is set.
        */
+      @java.lang.Override
       public boolean hasProvision() {
-        return provisionBuilder_ != null || provision_ != null;
+        return payloadCase_ == 3;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.Provision provision = 3;</code>
        * @return The provision.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.Provision getProvision() {
         if (provisionBuilder_ == null) {
-          return provision_ == null ? io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance() : provision_;
+          if (payloadCase_ == 3) {
+            return (io.github.portlek.synergy.proto.Commands.Provision) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance();
         } else {
-          return provisionBuilder_.getMessage();
+          if (payloadCase_ == 3) {
+            return provisionBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance();
         }
       }
       /**
@@ -28940,12 +32312,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          provision_ = value;
+          payload_ = value;
           onChanged();
         } else {
           provisionBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 3;
         return this;
       }
       /**
@@ -28954,12 +32326,12 @@ public final class Commands {
       public Builder setProvision(
           io.github.portlek.synergy.proto.Commands.Provision.Builder builderForValue) {
         if (provisionBuilder_ == null) {
-          provision_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           provisionBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 3;
         return this;
       }
       /**
@@ -28967,17 +32339,21 @@ public final class Commands {
        */
       public Builder mergeProvision(io.github.portlek.synergy.proto.Commands.Provision value) {
         if (provisionBuilder_ == null) {
-          if (provision_ != null) {
-            provision_ =
-              io.github.portlek.synergy.proto.Commands.Provision.newBuilder(provision_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 3 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.Provision.newBuilder((io.github.portlek.synergy.proto.Commands.Provision) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            provision_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          provisionBuilder_.mergeFrom(value);
+          if (payloadCase_ == 3) {
+            provisionBuilder_.mergeFrom(value);
+          }
+          provisionBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 3;
         return this;
       }
       /**
@@ -28985,32 +32361,38 @@ public final class Commands {
        */
       public Builder clearProvision() {
         if (provisionBuilder_ == null) {
-          provision_ = null;
-          onChanged();
+          if (payloadCase_ == 3) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          provision_ = null;
-          provisionBuilder_ = null;
+          if (payloadCase_ == 3) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          provisionBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.Provision provision = 3;</code>
        */
       public io.github.portlek.synergy.proto.Commands.Provision.Builder getProvisionBuilder() {
-        
-        onChanged();
         return getProvisionFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.Provision provision = 3;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.ProvisionOrBuilder getProvisionOrBuilder() {
-        if (provisionBuilder_ != null) {
+        if ((payloadCase_ == 3) && (provisionBuilder_ != null)) {
           return provisionBuilder_.getMessageOrBuilder();
         } else {
-          return provision_ == null ?
-              io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance() : provision_;
+          if (payloadCase_ == 3) {
+            return (io.github.portlek.synergy.proto.Commands.Provision) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance();
         }
       }
       /**
@@ -29020,35 +32402,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.Provision, io.github.portlek.synergy.proto.Commands.Provision.Builder, io.github.portlek.synergy.proto.Commands.ProvisionOrBuilder> 
           getProvisionFieldBuilder() {
         if (provisionBuilder_ == null) {
+          if (!(payloadCase_ == 3)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.Provision.getDefaultInstance();
+          }
           provisionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.Provision, io.github.portlek.synergy.proto.Commands.Provision.Builder, io.github.portlek.synergy.proto.Commands.ProvisionOrBuilder>(
-                  getProvision(),
+                  (io.github.portlek.synergy.proto.Commands.Provision) payload_,
                   getParentForChildren(),
                   isClean());
-          provision_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 3;
+        onChanged();;
         return provisionBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.ProvisionResponse provisionResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.ProvisionResponse, io.github.portlek.synergy.proto.Commands.ProvisionResponse.Builder, io.github.portlek.synergy.proto.Commands.ProvisionResponseOrBuilder> provisionResponseBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.ProvisionResponse provisionResponse = 4;</code>
        * @return Whether the provisionResponse field is set.
        */
+      @java.lang.Override
       public boolean hasProvisionResponse() {
-        return provisionResponseBuilder_ != null || provisionResponse_ != null;
+        return payloadCase_ == 4;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.ProvisionResponse provisionResponse = 4;</code>
        * @return The provisionResponse.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.ProvisionResponse getProvisionResponse() {
         if (provisionResponseBuilder_ == null) {
-          return provisionResponse_ == null ? io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance() : provisionResponse_;
+          if (payloadCase_ == 4) {
+            return (io.github.portlek.synergy.proto.Commands.ProvisionResponse) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance();
         } else {
-          return provisionResponseBuilder_.getMessage();
+          if (payloadCase_ == 4) {
+            return provisionResponseBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance();
         }
       }
       /**
@@ -29059,12 +32453,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          provisionResponse_ = value;
+          payload_ = value;
           onChanged();
         } else {
           provisionResponseBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 4;
         return this;
       }
       /**
@@ -29073,12 +32467,12 @@ public final class Commands {
       public Builder setProvisionResponse(
           io.github.portlek.synergy.proto.Commands.ProvisionResponse.Builder builderForValue) {
         if (provisionResponseBuilder_ == null) {
-          provisionResponse_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           provisionResponseBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 4;
         return this;
       }
       /**
@@ -29086,17 +32480,21 @@ public final class Commands {
        */
       public Builder mergeProvisionResponse(io.github.portlek.synergy.proto.Commands.ProvisionResponse value) {
         if (provisionResponseBuilder_ == null) {
-          if (provisionResponse_ != null) {
-            provisionResponse_ =
-              io.github.portlek.synergy.proto.Commands.ProvisionResponse.newBuilder(provisionResponse_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 4 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.ProvisionResponse.newBuilder((io.github.portlek.synergy.proto.Commands.ProvisionResponse) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            provisionResponse_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          provisionResponseBuilder_.mergeFrom(value);
+          if (payloadCase_ == 4) {
+            provisionResponseBuilder_.mergeFrom(value);
+          }
+          provisionResponseBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 4;
         return this;
       }
       /**
@@ -29104,32 +32502,38 @@ public final class Commands {
        */
       public Builder clearProvisionResponse() {
         if (provisionResponseBuilder_ == null) {
-          provisionResponse_ = null;
-          onChanged();
+          if (payloadCase_ == 4) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          provisionResponse_ = null;
-          provisionResponseBuilder_ = null;
+          if (payloadCase_ == 4) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          provisionResponseBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.ProvisionResponse provisionResponse = 4;</code>
        */
       public io.github.portlek.synergy.proto.Commands.ProvisionResponse.Builder getProvisionResponseBuilder() {
-        
-        onChanged();
         return getProvisionResponseFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.ProvisionResponse provisionResponse = 4;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.ProvisionResponseOrBuilder getProvisionResponseOrBuilder() {
-        if (provisionResponseBuilder_ != null) {
+        if ((payloadCase_ == 4) && (provisionResponseBuilder_ != null)) {
           return provisionResponseBuilder_.getMessageOrBuilder();
         } else {
-          return provisionResponse_ == null ?
-              io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance() : provisionResponse_;
+          if (payloadCase_ == 4) {
+            return (io.github.portlek.synergy.proto.Commands.ProvisionResponse) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance();
         }
       }
       /**
@@ -29139,35 +32543,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.ProvisionResponse, io.github.portlek.synergy.proto.Commands.ProvisionResponse.Builder, io.github.portlek.synergy.proto.Commands.ProvisionResponseOrBuilder> 
           getProvisionResponseFieldBuilder() {
         if (provisionResponseBuilder_ == null) {
+          if (!(payloadCase_ == 4)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.ProvisionResponse.getDefaultInstance();
+          }
           provisionResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.ProvisionResponse, io.github.portlek.synergy.proto.Commands.ProvisionResponse.Builder, io.github.portlek.synergy.proto.Commands.ProvisionResponseOrBuilder>(
-                  getProvisionResponse(),
+                  (io.github.portlek.synergy.proto.Commands.ProvisionResponse) payload_,
                   getParentForChildren(),
                   isClean());
-          provisionResponse_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 4;
+        onChanged();;
         return provisionResponseBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.PackageRequest packageRequest_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.PackageRequest, io.github.portlek.synergy.proto.Commands.PackageRequest.Builder, io.github.portlek.synergy.proto.Commands.PackageRequestOrBuilder> packageRequestBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.PackageRequest packageRequest = 5;</code>
        * @return Whether the packageRequest field is set.
        */
+      @java.lang.Override
       public boolean hasPackageRequest() {
-        return packageRequestBuilder_ != null || packageRequest_ != null;
+        return payloadCase_ == 5;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.PackageRequest packageRequest = 5;</code>
        * @return The packageRequest.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.PackageRequest getPackageRequest() {
         if (packageRequestBuilder_ == null) {
-          return packageRequest_ == null ? io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance() : packageRequest_;
+          if (payloadCase_ == 5) {
+            return (io.github.portlek.synergy.proto.Commands.PackageRequest) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance();
         } else {
-          return packageRequestBuilder_.getMessage();
+          if (payloadCase_ == 5) {
+            return packageRequestBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance();
         }
       }
       /**
@@ -29178,12 +32594,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          packageRequest_ = value;
+          payload_ = value;
           onChanged();
         } else {
           packageRequestBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 5;
         return this;
       }
       /**
@@ -29192,12 +32608,12 @@ public final class Commands {
       public Builder setPackageRequest(
           io.github.portlek.synergy.proto.Commands.PackageRequest.Builder builderForValue) {
         if (packageRequestBuilder_ == null) {
-          packageRequest_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           packageRequestBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 5;
         return this;
       }
       /**
@@ -29205,17 +32621,21 @@ public final class Commands {
        */
       public Builder mergePackageRequest(io.github.portlek.synergy.proto.Commands.PackageRequest value) {
         if (packageRequestBuilder_ == null) {
-          if (packageRequest_ != null) {
-            packageRequest_ =
-              io.github.portlek.synergy.proto.Commands.PackageRequest.newBuilder(packageRequest_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 5 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.PackageRequest.newBuilder((io.github.portlek.synergy.proto.Commands.PackageRequest) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            packageRequest_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          packageRequestBuilder_.mergeFrom(value);
+          if (payloadCase_ == 5) {
+            packageRequestBuilder_.mergeFrom(value);
+          }
+          packageRequestBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 5;
         return this;
       }
       /**
@@ -29223,32 +32643,38 @@ public final class Commands {
        */
       public Builder clearPackageRequest() {
         if (packageRequestBuilder_ == null) {
-          packageRequest_ = null;
-          onChanged();
+          if (payloadCase_ == 5) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          packageRequest_ = null;
-          packageRequestBuilder_ = null;
+          if (payloadCase_ == 5) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          packageRequestBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.PackageRequest packageRequest = 5;</code>
        */
       public io.github.portlek.synergy.proto.Commands.PackageRequest.Builder getPackageRequestBuilder() {
-        
-        onChanged();
         return getPackageRequestFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.PackageRequest packageRequest = 5;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.PackageRequestOrBuilder getPackageRequestOrBuilder() {
-        if (packageRequestBuilder_ != null) {
+        if ((payloadCase_ == 5) && (packageRequestBuilder_ != null)) {
           return packageRequestBuilder_.getMessageOrBuilder();
         } else {
-          return packageRequest_ == null ?
-              io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance() : packageRequest_;
+          if (payloadCase_ == 5) {
+            return (io.github.portlek.synergy.proto.Commands.PackageRequest) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance();
         }
       }
       /**
@@ -29258,154 +32684,188 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.PackageRequest, io.github.portlek.synergy.proto.Commands.PackageRequest.Builder, io.github.portlek.synergy.proto.Commands.PackageRequestOrBuilder> 
           getPackageRequestFieldBuilder() {
         if (packageRequestBuilder_ == null) {
+          if (!(payloadCase_ == 5)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.PackageRequest.getDefaultInstance();
+          }
           packageRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.PackageRequest, io.github.portlek.synergy.proto.Commands.PackageRequest.Builder, io.github.portlek.synergy.proto.Commands.PackageRequestOrBuilder>(
-                  getPackageRequest(),
+                  (io.github.portlek.synergy.proto.Commands.PackageRequest) payload_,
                   getParentForChildren(),
                   isClean());
-          packageRequest_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 5;
+        onChanged();;
         return packageRequestBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.PackageResponse packageResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.PackageResponse, io.github.portlek.synergy.proto.Commands.PackageResponse.Builder, io.github.portlek.synergy.proto.Commands.PackageResponseOrBuilder> packageResponseBuilder_;
       /**
-       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
        * @return Whether the packageResponse field is set.
        */
+      @java.lang.Override
       public boolean hasPackageResponse() {
-        return packageResponseBuilder_ != null || packageResponse_ != null;
+        return payloadCase_ == 6;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
        * @return The packageResponse.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.PackageResponse getPackageResponse() {
         if (packageResponseBuilder_ == null) {
-          return packageResponse_ == null ? io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance() : packageResponse_;
+          if (payloadCase_ == 6) {
+            return (io.github.portlek.synergy.proto.Commands.PackageResponse) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance();
         } else {
-          return packageResponseBuilder_.getMessage();
+          if (payloadCase_ == 6) {
+            return packageResponseBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
        */
       public Builder setPackageResponse(io.github.portlek.synergy.proto.Commands.PackageResponse value) {
         if (packageResponseBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          packageResponse_ = value;
+          payload_ = value;
           onChanged();
         } else {
           packageResponseBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 6;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
        */
       public Builder setPackageResponse(
           io.github.portlek.synergy.proto.Commands.PackageResponse.Builder builderForValue) {
         if (packageResponseBuilder_ == null) {
-          packageResponse_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           packageResponseBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 6;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
        */
       public Builder mergePackageResponse(io.github.portlek.synergy.proto.Commands.PackageResponse value) {
         if (packageResponseBuilder_ == null) {
-          if (packageResponse_ != null) {
-            packageResponse_ =
-              io.github.portlek.synergy.proto.Commands.PackageResponse.newBuilder(packageResponse_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 6 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.PackageResponse.newBuilder((io.github.portlek.synergy.proto.Commands.PackageResponse) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            packageResponse_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          packageResponseBuilder_.mergeFrom(value);
+          if (payloadCase_ == 6) {
+            packageResponseBuilder_.mergeFrom(value);
+          }
+          packageResponseBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 6;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
        */
       public Builder clearPackageResponse() {
         if (packageResponseBuilder_ == null) {
-          packageResponse_ = null;
-          onChanged();
+          if (payloadCase_ == 6) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          packageResponse_ = null;
-          packageResponseBuilder_ = null;
+          if (payloadCase_ == 6) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          packageResponseBuilder_.clear();
         }
-
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
        */
       public io.github.portlek.synergy.proto.Commands.PackageResponse.Builder getPackageResponseBuilder() {
-        
-        onChanged();
         return getPackageResponseFieldBuilder().getBuilder();
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.PackageResponseOrBuilder getPackageResponseOrBuilder() {
-        if (packageResponseBuilder_ != null) {
+        if ((payloadCase_ == 6) && (packageResponseBuilder_ != null)) {
           return packageResponseBuilder_.getMessageOrBuilder();
         } else {
-          return packageResponse_ == null ?
-              io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance() : packageResponse_;
+          if (payloadCase_ == 6) {
+            return (io.github.portlek.synergy.proto.Commands.PackageResponse) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6;</code>
+       * <code>.io.github.portlek.synergy.proto.PackageResponse packageResponse = 6 [lazy = true];</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.PackageResponse, io.github.portlek.synergy.proto.Commands.PackageResponse.Builder, io.github.portlek.synergy.proto.Commands.PackageResponseOrBuilder> 
           getPackageResponseFieldBuilder() {
         if (packageResponseBuilder_ == null) {
+          if (!(payloadCase_ == 6)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.PackageResponse.getDefaultInstance();
+          }
           packageResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.PackageResponse, io.github.portlek.synergy.proto.Commands.PackageResponse.Builder, io.github.portlek.synergy.proto.Commands.PackageResponseOrBuilder>(
-                  getPackageResponse(),
+                  (io.github.portlek.synergy.proto.Commands.PackageResponse) payload_,
                   getParentForChildren(),
                   isClean());
-          packageResponse_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 6;
+        onChanged();;
         return packageResponseBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.DeProvision deProvision_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.DeProvision, io.github.portlek.synergy.proto.Commands.DeProvision.Builder, io.github.portlek.synergy.proto.Commands.DeProvisionOrBuilder> deProvisionBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.DeProvision deProvision = 7;</code>
        * @return Whether the deProvision field is set.
        */
+      @java.lang.Override
       public boolean hasDeProvision() {
-        return deProvisionBuilder_ != null || deProvision_ != null;
+        return payloadCase_ == 7;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.DeProvision deProvision = 7;</code>
        * @return The deProvision.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.DeProvision getDeProvision() {
         if (deProvisionBuilder_ == null) {
-          return deProvision_ == null ? io.github.portlek.synergy.proto.Commands.DeProvision.getDefaultInstance() : deProvision_;
+          if (payloadCase_ == 7) {
+            return (io.github.portlek.synergy.proto.Commands.DeProvision) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.DeProvision.getDefaultInstance();
         } else {
-          return deProvisionBuilder_.getMessage();
+          if (payloadCase_ == 7) {
+            return deProvisionBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.DeProvision.getDefaultInstance();
         }
       }
       /**
@@ -29416,12 +32876,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          deProvision_ = value;
+          payload_ = value;
           onChanged();
         } else {
           deProvisionBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 7;
         return this;
       }
       /**
@@ -29430,12 +32890,12 @@ public final class Commands {
       public Builder setDeProvision(
           io.github.portlek.synergy.proto.Commands.DeProvision.Builder builderForValue) {
         if (deProvisionBuilder_ == null) {
-          deProvision_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           deProvisionBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 7;
         return this;
       }
       /**
@@ -29443,17 +32903,21 @@ public final class Commands {
        */
       public Builder mergeDeProvision(io.github.portlek.synergy.proto.Commands.DeProvision value) {
         if (deProvisionBuilder_ == null) {
-          if (deProvision_ != null) {
-            deProvision_ =
-              io.github.portlek.synergy.proto.Commands.DeProvision.newBuilder(deProvision_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 7 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.DeProvision.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.DeProvision.newBuilder((io.github.portlek.synergy.proto.Commands.DeProvision) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            deProvision_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          deProvisionBuilder_.mergeFrom(value);
+          if (payloadCase_ == 7) {
+            deProvisionBuilder_.mergeFrom(value);
+          }
+          deProvisionBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 7;
         return this;
       }
       /**
@@ -29461,32 +32925,38 @@ public final class Commands {
        */
       public Builder clearDeProvision() {
         if (deProvisionBuilder_ == null) {
-          deProvision_ = null;
-          onChanged();
+          if (payloadCase_ == 7) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          deProvision_ = null;
-          deProvisionBuilder_ = null;
+          if (payloadCase_ == 7) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          deProvisionBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.DeProvision deProvision = 7;</code>
        */
       public io.github.portlek.synergy.proto.Commands.DeProvision.Builder getDeProvisionBuilder() {
-        
-        onChanged();
         return getDeProvisionFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.DeProvision deProvision = 7;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.DeProvisionOrBuilder getDeProvisionOrBuilder() {
-        if (deProvisionBuilder_ != null) {
+        if ((payloadCase_ == 7) && (deProvisionBuilder_ != null)) {
           return deProvisionBuilder_.getMessageOrBuilder();
         } else {
-          return deProvision_ == null ?
-              io.github.portlek.synergy.proto.Commands.DeProvision.getDefaultInstance() : deProvision_;
+          if (payloadCase_ == 7) {
+            return (io.github.portlek.synergy.proto.Commands.DeProvision) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.DeProvision.getDefaultInstance();
         }
       }
       /**
@@ -29496,35 +32966,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.DeProvision, io.github.portlek.synergy.proto.Commands.DeProvision.Builder, io.github.portlek.synergy.proto.Commands.DeProvisionOrBuilder> 
           getDeProvisionFieldBuilder() {
         if (deProvisionBuilder_ == null) {
+          if (!(payloadCase_ == 7)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.DeProvision.getDefaultInstance();
+          }
           deProvisionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.DeProvision, io.github.portlek.synergy.proto.Commands.DeProvision.Builder, io.github.portlek.synergy.proto.Commands.DeProvisionOrBuilder>(
-                  getDeProvision(),
+                  (io.github.portlek.synergy.proto.Commands.DeProvision) payload_,
                   getParentForChildren(),
                   isClean());
-          deProvision_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 7;
+        onChanged();;
         return deProvisionBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.ServerShutdown serverShutdown_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.ServerShutdown, io.github.portlek.synergy.proto.Commands.ServerShutdown.Builder, io.github.portlek.synergy.proto.Commands.ServerShutdownOrBuilder> serverShutdownBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.ServerShutdown serverShutdown = 8;</code>
        * @return Whether the serverShutdown field is set.
        */
+      @java.lang.Override
       public boolean hasServerShutdown() {
-        return serverShutdownBuilder_ != null || serverShutdown_ != null;
+        return payloadCase_ == 8;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.ServerShutdown serverShutdown = 8;</code>
        * @return The serverShutdown.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.ServerShutdown getServerShutdown() {
         if (serverShutdownBuilder_ == null) {
-          return serverShutdown_ == null ? io.github.portlek.synergy.proto.Commands.ServerShutdown.getDefaultInstance() : serverShutdown_;
+          if (payloadCase_ == 8) {
+            return (io.github.portlek.synergy.proto.Commands.ServerShutdown) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.ServerShutdown.getDefaultInstance();
         } else {
-          return serverShutdownBuilder_.getMessage();
+          if (payloadCase_ == 8) {
+            return serverShutdownBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.ServerShutdown.getDefaultInstance();
         }
       }
       /**
@@ -29535,12 +33017,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          serverShutdown_ = value;
+          payload_ = value;
           onChanged();
         } else {
           serverShutdownBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 8;
         return this;
       }
       /**
@@ -29549,12 +33031,12 @@ public final class Commands {
       public Builder setServerShutdown(
           io.github.portlek.synergy.proto.Commands.ServerShutdown.Builder builderForValue) {
         if (serverShutdownBuilder_ == null) {
-          serverShutdown_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           serverShutdownBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 8;
         return this;
       }
       /**
@@ -29562,17 +33044,21 @@ public final class Commands {
        */
       public Builder mergeServerShutdown(io.github.portlek.synergy.proto.Commands.ServerShutdown value) {
         if (serverShutdownBuilder_ == null) {
-          if (serverShutdown_ != null) {
-            serverShutdown_ =
-              io.github.portlek.synergy.proto.Commands.ServerShutdown.newBuilder(serverShutdown_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 8 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.ServerShutdown.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.ServerShutdown.newBuilder((io.github.portlek.synergy.proto.Commands.ServerShutdown) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            serverShutdown_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          serverShutdownBuilder_.mergeFrom(value);
+          if (payloadCase_ == 8) {
+            serverShutdownBuilder_.mergeFrom(value);
+          }
+          serverShutdownBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 8;
         return this;
       }
       /**
@@ -29580,32 +33066,38 @@ public final class Commands {
        */
       public Builder clearServerShutdown() {
         if (serverShutdownBuilder_ == null) {
-          serverShutdown_ = null;
-          onChanged();
+          if (payloadCase_ == 8) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          serverShutdown_ = null;
-          serverShutdownBuilder_ = null;
+          if (payloadCase_ == 8) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          serverShutdownBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.ServerShutdown serverShutdown = 8;</code>
        */
       public io.github.portlek.synergy.proto.Commands.ServerShutdown.Builder getServerShutdownBuilder() {
-        
-        onChanged();
         return getServerShutdownFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.ServerShutdown serverShutdown = 8;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.ServerShutdownOrBuilder getServerShutdownOrBuilder() {
-        if (serverShutdownBuilder_ != null) {
+        if ((payloadCase_ == 8) && (serverShutdownBuilder_ != null)) {
           return serverShutdownBuilder_.getMessageOrBuilder();
         } else {
-          return serverShutdown_ == null ?
-              io.github.portlek.synergy.proto.Commands.ServerShutdown.getDefaultInstance() : serverShutdown_;
+          if (payloadCase_ == 8) {
+            return (io.github.portlek.synergy.proto.Commands.ServerShutdown) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.ServerShutdown.getDefaultInstance();
         }
       }
       /**
@@ -29615,35 +33107,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.ServerShutdown, io.github.portlek.synergy.proto.Commands.ServerShutdown.Builder, io.github.portlek.synergy.proto.Commands.ServerShutdownOrBuilder> 
           getServerShutdownFieldBuilder() {
         if (serverShutdownBuilder_ == null) {
+          if (!(payloadCase_ == 8)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.ServerShutdown.getDefaultInstance();
+          }
           serverShutdownBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.ServerShutdown, io.github.portlek.synergy.proto.Commands.ServerShutdown.Builder, io.github.portlek.synergy.proto.Commands.ServerShutdownOrBuilder>(
-                  getServerShutdown(),
+                  (io.github.portlek.synergy.proto.Commands.ServerShutdown) payload_,
                   getParentForChildren(),
                   isClean());
-          serverShutdown_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 8;
+        onChanged();;
         return serverShutdownBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.SendInput sendInput_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.SendInput, io.github.portlek.synergy.proto.Commands.SendInput.Builder, io.github.portlek.synergy.proto.Commands.SendInputOrBuilder> sendInputBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.SendInput sendInput = 9;</code>
        * @return Whether the sendInput field is set.
        */
+      @java.lang.Override
       public boolean hasSendInput() {
-        return sendInputBuilder_ != null || sendInput_ != null;
+        return payloadCase_ == 9;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.SendInput sendInput = 9;</code>
        * @return The sendInput.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.SendInput getSendInput() {
         if (sendInputBuilder_ == null) {
-          return sendInput_ == null ? io.github.portlek.synergy.proto.Commands.SendInput.getDefaultInstance() : sendInput_;
+          if (payloadCase_ == 9) {
+            return (io.github.portlek.synergy.proto.Commands.SendInput) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.SendInput.getDefaultInstance();
         } else {
-          return sendInputBuilder_.getMessage();
+          if (payloadCase_ == 9) {
+            return sendInputBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.SendInput.getDefaultInstance();
         }
       }
       /**
@@ -29654,12 +33158,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          sendInput_ = value;
+          payload_ = value;
           onChanged();
         } else {
           sendInputBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 9;
         return this;
       }
       /**
@@ -29668,12 +33172,12 @@ public final class Commands {
       public Builder setSendInput(
           io.github.portlek.synergy.proto.Commands.SendInput.Builder builderForValue) {
         if (sendInputBuilder_ == null) {
-          sendInput_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           sendInputBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 9;
         return this;
       }
       /**
@@ -29681,17 +33185,21 @@ public final class Commands {
        */
       public Builder mergeSendInput(io.github.portlek.synergy.proto.Commands.SendInput value) {
         if (sendInputBuilder_ == null) {
-          if (sendInput_ != null) {
-            sendInput_ =
-              io.github.portlek.synergy.proto.Commands.SendInput.newBuilder(sendInput_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 9 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.SendInput.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.SendInput.newBuilder((io.github.portlek.synergy.proto.Commands.SendInput) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            sendInput_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          sendInputBuilder_.mergeFrom(value);
+          if (payloadCase_ == 9) {
+            sendInputBuilder_.mergeFrom(value);
+          }
+          sendInputBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 9;
         return this;
       }
       /**
@@ -29699,32 +33207,38 @@ public final class Commands {
        */
       public Builder clearSendInput() {
         if (sendInputBuilder_ == null) {
-          sendInput_ = null;
-          onChanged();
+          if (payloadCase_ == 9) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          sendInput_ = null;
-          sendInputBuilder_ = null;
+          if (payloadCase_ == 9) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          sendInputBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.SendInput sendInput = 9;</code>
        */
       public io.github.portlek.synergy.proto.Commands.SendInput.Builder getSendInputBuilder() {
-        
-        onChanged();
         return getSendInputFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.SendInput sendInput = 9;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.SendInputOrBuilder getSendInputOrBuilder() {
-        if (sendInputBuilder_ != null) {
+        if ((payloadCase_ == 9) && (sendInputBuilder_ != null)) {
           return sendInputBuilder_.getMessageOrBuilder();
         } else {
-          return sendInput_ == null ?
-              io.github.portlek.synergy.proto.Commands.SendInput.getDefaultInstance() : sendInput_;
+          if (payloadCase_ == 9) {
+            return (io.github.portlek.synergy.proto.Commands.SendInput) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.SendInput.getDefaultInstance();
         }
       }
       /**
@@ -29734,35 +33248,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.SendInput, io.github.portlek.synergy.proto.Commands.SendInput.Builder, io.github.portlek.synergy.proto.Commands.SendInputOrBuilder> 
           getSendInputFieldBuilder() {
         if (sendInputBuilder_ == null) {
+          if (!(payloadCase_ == 9)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.SendInput.getDefaultInstance();
+          }
           sendInputBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.SendInput, io.github.portlek.synergy.proto.Commands.SendInput.Builder, io.github.portlek.synergy.proto.Commands.SendInputOrBuilder>(
-                  getSendInput(),
+                  (io.github.portlek.synergy.proto.Commands.SendInput) payload_,
                   getParentForChildren(),
                   isClean());
-          sendInput_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 9;
+        onChanged();;
         return sendInputBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.AttachConsole attachConsole_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.AttachConsole, io.github.portlek.synergy.proto.Commands.AttachConsole.Builder, io.github.portlek.synergy.proto.Commands.AttachConsoleOrBuilder> attachConsoleBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.AttachConsole attachConsole = 10;</code>
        * @return Whether the attachConsole field is set.
        */
+      @java.lang.Override
       public boolean hasAttachConsole() {
-        return attachConsoleBuilder_ != null || attachConsole_ != null;
+        return payloadCase_ == 10;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.AttachConsole attachConsole = 10;</code>
        * @return The attachConsole.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.AttachConsole getAttachConsole() {
         if (attachConsoleBuilder_ == null) {
-          return attachConsole_ == null ? io.github.portlek.synergy.proto.Commands.AttachConsole.getDefaultInstance() : attachConsole_;
+          if (payloadCase_ == 10) {
+            return (io.github.portlek.synergy.proto.Commands.AttachConsole) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.AttachConsole.getDefaultInstance();
         } else {
-          return attachConsoleBuilder_.getMessage();
+          if (payloadCase_ == 10) {
+            return attachConsoleBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.AttachConsole.getDefaultInstance();
         }
       }
       /**
@@ -29773,12 +33299,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          attachConsole_ = value;
+          payload_ = value;
           onChanged();
         } else {
           attachConsoleBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 10;
         return this;
       }
       /**
@@ -29787,12 +33313,12 @@ public final class Commands {
       public Builder setAttachConsole(
           io.github.portlek.synergy.proto.Commands.AttachConsole.Builder builderForValue) {
         if (attachConsoleBuilder_ == null) {
-          attachConsole_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           attachConsoleBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 10;
         return this;
       }
       /**
@@ -29800,17 +33326,21 @@ public final class Commands {
        */
       public Builder mergeAttachConsole(io.github.portlek.synergy.proto.Commands.AttachConsole value) {
         if (attachConsoleBuilder_ == null) {
-          if (attachConsole_ != null) {
-            attachConsole_ =
-              io.github.portlek.synergy.proto.Commands.AttachConsole.newBuilder(attachConsole_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 10 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.AttachConsole.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.AttachConsole.newBuilder((io.github.portlek.synergy.proto.Commands.AttachConsole) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            attachConsole_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          attachConsoleBuilder_.mergeFrom(value);
+          if (payloadCase_ == 10) {
+            attachConsoleBuilder_.mergeFrom(value);
+          }
+          attachConsoleBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 10;
         return this;
       }
       /**
@@ -29818,32 +33348,38 @@ public final class Commands {
        */
       public Builder clearAttachConsole() {
         if (attachConsoleBuilder_ == null) {
-          attachConsole_ = null;
-          onChanged();
+          if (payloadCase_ == 10) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          attachConsole_ = null;
-          attachConsoleBuilder_ = null;
+          if (payloadCase_ == 10) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          attachConsoleBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.AttachConsole attachConsole = 10;</code>
        */
       public io.github.portlek.synergy.proto.Commands.AttachConsole.Builder getAttachConsoleBuilder() {
-        
-        onChanged();
         return getAttachConsoleFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.AttachConsole attachConsole = 10;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.AttachConsoleOrBuilder getAttachConsoleOrBuilder() {
-        if (attachConsoleBuilder_ != null) {
+        if ((payloadCase_ == 10) && (attachConsoleBuilder_ != null)) {
           return attachConsoleBuilder_.getMessageOrBuilder();
         } else {
-          return attachConsole_ == null ?
-              io.github.portlek.synergy.proto.Commands.AttachConsole.getDefaultInstance() : attachConsole_;
+          if (payloadCase_ == 10) {
+            return (io.github.portlek.synergy.proto.Commands.AttachConsole) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.AttachConsole.getDefaultInstance();
         }
       }
       /**
@@ -29853,35 +33389,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.AttachConsole, io.github.portlek.synergy.proto.Commands.AttachConsole.Builder, io.github.portlek.synergy.proto.Commands.AttachConsoleOrBuilder> 
           getAttachConsoleFieldBuilder() {
         if (attachConsoleBuilder_ == null) {
+          if (!(payloadCase_ == 10)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.AttachConsole.getDefaultInstance();
+          }
           attachConsoleBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.AttachConsole, io.github.portlek.synergy.proto.Commands.AttachConsole.Builder, io.github.portlek.synergy.proto.Commands.AttachConsoleOrBuilder>(
-                  getAttachConsole(),
+                  (io.github.portlek.synergy.proto.Commands.AttachConsole) payload_,
                   getParentForChildren(),
                   isClean());
-          attachConsole_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 10;
+        onChanged();;
         return attachConsoleBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.ConsoleMessage consoleMessage_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.ConsoleMessage, io.github.portlek.synergy.proto.Commands.ConsoleMessage.Builder, io.github.portlek.synergy.proto.Commands.ConsoleMessageOrBuilder> consoleMessageBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.ConsoleMessage consoleMessage = 11;</code>
        * @return Whether the consoleMessage field is set.
        */
+      @java.lang.Override
       public boolean hasConsoleMessage() {
-        return consoleMessageBuilder_ != null || consoleMessage_ != null;
+        return payloadCase_ == 11;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.ConsoleMessage consoleMessage = 11;</code>
        * @return The consoleMessage.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.ConsoleMessage getConsoleMessage() {
         if (consoleMessageBuilder_ == null) {
-          return consoleMessage_ == null ? io.github.portlek.synergy.proto.Commands.ConsoleMessage.getDefaultInstance() : consoleMessage_;
+          if (payloadCase_ == 11) {
+            return (io.github.portlek.synergy.proto.Commands.ConsoleMessage) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.ConsoleMessage.getDefaultInstance();
         } else {
-          return consoleMessageBuilder_.getMessage();
+          if (payloadCase_ == 11) {
+            return consoleMessageBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.ConsoleMessage.getDefaultInstance();
         }
       }
       /**
@@ -29892,12 +33440,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          consoleMessage_ = value;
+          payload_ = value;
           onChanged();
         } else {
           consoleMessageBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 11;
         return this;
       }
       /**
@@ -29906,12 +33454,12 @@ public final class Commands {
       public Builder setConsoleMessage(
           io.github.portlek.synergy.proto.Commands.ConsoleMessage.Builder builderForValue) {
         if (consoleMessageBuilder_ == null) {
-          consoleMessage_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           consoleMessageBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 11;
         return this;
       }
       /**
@@ -29919,17 +33467,21 @@ public final class Commands {
        */
       public Builder mergeConsoleMessage(io.github.portlek.synergy.proto.Commands.ConsoleMessage value) {
         if (consoleMessageBuilder_ == null) {
-          if (consoleMessage_ != null) {
-            consoleMessage_ =
-              io.github.portlek.synergy.proto.Commands.ConsoleMessage.newBuilder(consoleMessage_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 11 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.ConsoleMessage.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.ConsoleMessage.newBuilder((io.github.portlek.synergy.proto.Commands.ConsoleMessage) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            consoleMessage_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          consoleMessageBuilder_.mergeFrom(value);
+          if (payloadCase_ == 11) {
+            consoleMessageBuilder_.mergeFrom(value);
+          }
+          consoleMessageBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 11;
         return this;
       }
       /**
@@ -29937,32 +33489,38 @@ public final class Commands {
        */
       public Builder clearConsoleMessage() {
         if (consoleMessageBuilder_ == null) {
-          consoleMessage_ = null;
-          onChanged();
+          if (payloadCase_ == 11) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          consoleMessage_ = null;
-          consoleMessageBuilder_ = null;
+          if (payloadCase_ == 11) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          consoleMessageBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.ConsoleMessage consoleMessage = 11;</code>
        */
       public io.github.portlek.synergy.proto.Commands.ConsoleMessage.Builder getConsoleMessageBuilder() {
-        
-        onChanged();
         return getConsoleMessageFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.ConsoleMessage consoleMessage = 11;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.ConsoleMessageOrBuilder getConsoleMessageOrBuilder() {
-        if (consoleMessageBuilder_ != null) {
+        if ((payloadCase_ == 11) && (consoleMessageBuilder_ != null)) {
           return consoleMessageBuilder_.getMessageOrBuilder();
         } else {
-          return consoleMessage_ == null ?
-              io.github.portlek.synergy.proto.Commands.ConsoleMessage.getDefaultInstance() : consoleMessage_;
+          if (payloadCase_ == 11) {
+            return (io.github.portlek.synergy.proto.Commands.ConsoleMessage) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.ConsoleMessage.getDefaultInstance();
         }
       }
       /**
@@ -29972,35 +33530,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.ConsoleMessage, io.github.portlek.synergy.proto.Commands.ConsoleMessage.Builder, io.github.portlek.synergy.proto.Commands.ConsoleMessageOrBuilder> 
           getConsoleMessageFieldBuilder() {
         if (consoleMessageBuilder_ == null) {
+          if (!(payloadCase_ == 11)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.ConsoleMessage.getDefaultInstance();
+          }
           consoleMessageBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.ConsoleMessage, io.github.portlek.synergy.proto.Commands.ConsoleMessage.Builder, io.github.portlek.synergy.proto.Commands.ConsoleMessageOrBuilder>(
-                  getConsoleMessage(),
+                  (io.github.portlek.synergy.proto.Commands.ConsoleMessage) payload_,
                   getParentForChildren(),
                   isClean());
-          consoleMessage_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 11;
+        onChanged();;
         return consoleMessageBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.DetachConsole detachConsole_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.DetachConsole, io.github.portlek.synergy.proto.Commands.DetachConsole.Builder, io.github.portlek.synergy.proto.Commands.DetachConsoleOrBuilder> detachConsoleBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.DetachConsole detachConsole = 12;</code>
        * @return Whether the detachConsole field is set.
        */
+      @java.lang.Override
       public boolean hasDetachConsole() {
-        return detachConsoleBuilder_ != null || detachConsole_ != null;
+        return payloadCase_ == 12;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.DetachConsole detachConsole = 12;</code>
        * @return The detachConsole.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.DetachConsole getDetachConsole() {
         if (detachConsoleBuilder_ == null) {
-          return detachConsole_ == null ? io.github.portlek.synergy.proto.Commands.DetachConsole.getDefaultInstance() : detachConsole_;
+          if (payloadCase_ == 12) {
+            return (io.github.portlek.synergy.proto.Commands.DetachConsole) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.DetachConsole.getDefaultInstance();
         } else {
-          return detachConsoleBuilder_.getMessage();
+          if (payloadCase_ == 12) {
+            return detachConsoleBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.DetachConsole.getDefaultInstance();
         }
       }
       /**
@@ -30011,12 +33581,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          detachConsole_ = value;
+          payload_ = value;
           onChanged();
         } else {
           detachConsoleBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 12;
         return this;
       }
       /**
@@ -30025,12 +33595,12 @@ public final class Commands {
       public Builder setDetachConsole(
           io.github.portlek.synergy.proto.Commands.DetachConsole.Builder builderForValue) {
         if (detachConsoleBuilder_ == null) {
-          detachConsole_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           detachConsoleBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 12;
         return this;
       }
       /**
@@ -30038,17 +33608,21 @@ public final class Commands {
        */
       public Builder mergeDetachConsole(io.github.portlek.synergy.proto.Commands.DetachConsole value) {
         if (detachConsoleBuilder_ == null) {
-          if (detachConsole_ != null) {
-            detachConsole_ =
-              io.github.portlek.synergy.proto.Commands.DetachConsole.newBuilder(detachConsole_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 12 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.DetachConsole.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.DetachConsole.newBuilder((io.github.portlek.synergy.proto.Commands.DetachConsole) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            detachConsole_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          detachConsoleBuilder_.mergeFrom(value);
+          if (payloadCase_ == 12) {
+            detachConsoleBuilder_.mergeFrom(value);
+          }
+          detachConsoleBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 12;
         return this;
       }
       /**
@@ -30056,32 +33630,38 @@ public final class Commands {
        */
       public Builder clearDetachConsole() {
         if (detachConsoleBuilder_ == null) {
-          detachConsole_ = null;
-          onChanged();
+          if (payloadCase_ == 12) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          detachConsole_ = null;
-          detachConsoleBuilder_ = null;
+          if (payloadCase_ == 12) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          detachConsoleBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.DetachConsole detachConsole = 12;</code>
        */
       public io.github.portlek.synergy.proto.Commands.DetachConsole.Builder getDetachConsoleBuilder() {
-        
-        onChanged();
         return getDetachConsoleFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.DetachConsole detachConsole = 12;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.DetachConsoleOrBuilder getDetachConsoleOrBuilder() {
-        if (detachConsoleBuilder_ != null) {
+        if ((payloadCase_ == 12) && (detachConsoleBuilder_ != null)) {
           return detachConsoleBuilder_.getMessageOrBuilder();
         } else {
-          return detachConsole_ == null ?
-              io.github.portlek.synergy.proto.Commands.DetachConsole.getDefaultInstance() : detachConsole_;
+          if (payloadCase_ == 12) {
+            return (io.github.portlek.synergy.proto.Commands.DetachConsole) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.DetachConsole.getDefaultInstance();
         }
       }
       /**
@@ -30091,35 +33671,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.DetachConsole, io.github.portlek.synergy.proto.Commands.DetachConsole.Builder, io.github.portlek.synergy.proto.Commands.DetachConsoleOrBuilder> 
           getDetachConsoleFieldBuilder() {
         if (detachConsoleBuilder_ == null) {
+          if (!(payloadCase_ == 12)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.DetachConsole.getDefaultInstance();
+          }
           detachConsoleBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.DetachConsole, io.github.portlek.synergy.proto.Commands.DetachConsole.Builder, io.github.portlek.synergy.proto.Commands.DetachConsoleOrBuilder>(
-                  getDetachConsole(),
+                  (io.github.portlek.synergy.proto.Commands.DetachConsole) payload_,
                   getParentForChildren(),
                   isClean());
-          detachConsole_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 12;
+        onChanged();;
         return detachConsoleBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.FreezeServer freezeServer_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.FreezeServer, io.github.portlek.synergy.proto.Commands.FreezeServer.Builder, io.github.portlek.synergy.proto.Commands.FreezeServerOrBuilder> freezeServerBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.FreezeServer freezeServer = 13;</code>
        * @return Whether the freezeServer field is set.
        */
+      @java.lang.Override
       public boolean hasFreezeServer() {
-        return freezeServerBuilder_ != null || freezeServer_ != null;
+        return payloadCase_ == 13;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.FreezeServer freezeServer = 13;</code>
        * @return The freezeServer.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.FreezeServer getFreezeServer() {
         if (freezeServerBuilder_ == null) {
-          return freezeServer_ == null ? io.github.portlek.synergy.proto.Commands.FreezeServer.getDefaultInstance() : freezeServer_;
+          if (payloadCase_ == 13) {
+            return (io.github.portlek.synergy.proto.Commands.FreezeServer) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.FreezeServer.getDefaultInstance();
         } else {
-          return freezeServerBuilder_.getMessage();
+          if (payloadCase_ == 13) {
+            return freezeServerBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.FreezeServer.getDefaultInstance();
         }
       }
       /**
@@ -30130,12 +33722,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          freezeServer_ = value;
+          payload_ = value;
           onChanged();
         } else {
           freezeServerBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 13;
         return this;
       }
       /**
@@ -30144,12 +33736,12 @@ public final class Commands {
       public Builder setFreezeServer(
           io.github.portlek.synergy.proto.Commands.FreezeServer.Builder builderForValue) {
         if (freezeServerBuilder_ == null) {
-          freezeServer_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           freezeServerBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 13;
         return this;
       }
       /**
@@ -30157,17 +33749,21 @@ public final class Commands {
        */
       public Builder mergeFreezeServer(io.github.portlek.synergy.proto.Commands.FreezeServer value) {
         if (freezeServerBuilder_ == null) {
-          if (freezeServer_ != null) {
-            freezeServer_ =
-              io.github.portlek.synergy.proto.Commands.FreezeServer.newBuilder(freezeServer_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 13 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.FreezeServer.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.FreezeServer.newBuilder((io.github.portlek.synergy.proto.Commands.FreezeServer) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            freezeServer_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          freezeServerBuilder_.mergeFrom(value);
+          if (payloadCase_ == 13) {
+            freezeServerBuilder_.mergeFrom(value);
+          }
+          freezeServerBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 13;
         return this;
       }
       /**
@@ -30175,32 +33771,38 @@ public final class Commands {
        */
       public Builder clearFreezeServer() {
         if (freezeServerBuilder_ == null) {
-          freezeServer_ = null;
-          onChanged();
+          if (payloadCase_ == 13) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          freezeServer_ = null;
-          freezeServerBuilder_ = null;
+          if (payloadCase_ == 13) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          freezeServerBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.FreezeServer freezeServer = 13;</code>
        */
       public io.github.portlek.synergy.proto.Commands.FreezeServer.Builder getFreezeServerBuilder() {
-        
-        onChanged();
         return getFreezeServerFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.FreezeServer freezeServer = 13;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.FreezeServerOrBuilder getFreezeServerOrBuilder() {
-        if (freezeServerBuilder_ != null) {
+        if ((payloadCase_ == 13) && (freezeServerBuilder_ != null)) {
           return freezeServerBuilder_.getMessageOrBuilder();
         } else {
-          return freezeServer_ == null ?
-              io.github.portlek.synergy.proto.Commands.FreezeServer.getDefaultInstance() : freezeServer_;
+          if (payloadCase_ == 13) {
+            return (io.github.portlek.synergy.proto.Commands.FreezeServer) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.FreezeServer.getDefaultInstance();
         }
       }
       /**
@@ -30210,35 +33812,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.FreezeServer, io.github.portlek.synergy.proto.Commands.FreezeServer.Builder, io.github.portlek.synergy.proto.Commands.FreezeServerOrBuilder> 
           getFreezeServerFieldBuilder() {
         if (freezeServerBuilder_ == null) {
+          if (!(payloadCase_ == 13)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.FreezeServer.getDefaultInstance();
+          }
           freezeServerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.FreezeServer, io.github.portlek.synergy.proto.Commands.FreezeServer.Builder, io.github.portlek.synergy.proto.Commands.FreezeServerOrBuilder>(
-                  getFreezeServer(),
+                  (io.github.portlek.synergy.proto.Commands.FreezeServer) payload_,
                   getParentForChildren(),
                   isClean());
-          freezeServer_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 13;
+        onChanged();;
         return freezeServerBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.PackageChecksumRequest checksumRequest_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.PackageChecksumRequest, io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.Builder, io.github.portlek.synergy.proto.Commands.PackageChecksumRequestOrBuilder> checksumRequestBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.PackageChecksumRequest checksumRequest = 14;</code>
        * @return Whether the checksumRequest field is set.
        */
+      @java.lang.Override
       public boolean hasChecksumRequest() {
-        return checksumRequestBuilder_ != null || checksumRequest_ != null;
+        return payloadCase_ == 14;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.PackageChecksumRequest checksumRequest = 14;</code>
        * @return The checksumRequest.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.PackageChecksumRequest getChecksumRequest() {
         if (checksumRequestBuilder_ == null) {
-          return checksumRequest_ == null ? io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.getDefaultInstance() : checksumRequest_;
+          if (payloadCase_ == 14) {
+            return (io.github.portlek.synergy.proto.Commands.PackageChecksumRequest) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.getDefaultInstance();
         } else {
-          return checksumRequestBuilder_.getMessage();
+          if (payloadCase_ == 14) {
+            return checksumRequestBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.getDefaultInstance();
         }
       }
       /**
@@ -30249,12 +33863,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          checksumRequest_ = value;
+          payload_ = value;
           onChanged();
         } else {
           checksumRequestBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 14;
         return this;
       }
       /**
@@ -30263,12 +33877,12 @@ public final class Commands {
       public Builder setChecksumRequest(
           io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.Builder builderForValue) {
         if (checksumRequestBuilder_ == null) {
-          checksumRequest_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           checksumRequestBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 14;
         return this;
       }
       /**
@@ -30276,17 +33890,21 @@ public final class Commands {
        */
       public Builder mergeChecksumRequest(io.github.portlek.synergy.proto.Commands.PackageChecksumRequest value) {
         if (checksumRequestBuilder_ == null) {
-          if (checksumRequest_ != null) {
-            checksumRequest_ =
-              io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.newBuilder(checksumRequest_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 14 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.newBuilder((io.github.portlek.synergy.proto.Commands.PackageChecksumRequest) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            checksumRequest_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          checksumRequestBuilder_.mergeFrom(value);
+          if (payloadCase_ == 14) {
+            checksumRequestBuilder_.mergeFrom(value);
+          }
+          checksumRequestBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 14;
         return this;
       }
       /**
@@ -30294,32 +33912,38 @@ public final class Commands {
        */
       public Builder clearChecksumRequest() {
         if (checksumRequestBuilder_ == null) {
-          checksumRequest_ = null;
-          onChanged();
+          if (payloadCase_ == 14) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          checksumRequest_ = null;
-          checksumRequestBuilder_ = null;
+          if (payloadCase_ == 14) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          checksumRequestBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.PackageChecksumRequest checksumRequest = 14;</code>
        */
       public io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.Builder getChecksumRequestBuilder() {
-        
-        onChanged();
         return getChecksumRequestFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.PackageChecksumRequest checksumRequest = 14;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.PackageChecksumRequestOrBuilder getChecksumRequestOrBuilder() {
-        if (checksumRequestBuilder_ != null) {
+        if ((payloadCase_ == 14) && (checksumRequestBuilder_ != null)) {
           return checksumRequestBuilder_.getMessageOrBuilder();
         } else {
-          return checksumRequest_ == null ?
-              io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.getDefaultInstance() : checksumRequest_;
+          if (payloadCase_ == 14) {
+            return (io.github.portlek.synergy.proto.Commands.PackageChecksumRequest) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.getDefaultInstance();
         }
       }
       /**
@@ -30329,35 +33953,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.PackageChecksumRequest, io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.Builder, io.github.portlek.synergy.proto.Commands.PackageChecksumRequestOrBuilder> 
           getChecksumRequestFieldBuilder() {
         if (checksumRequestBuilder_ == null) {
+          if (!(payloadCase_ == 14)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.getDefaultInstance();
+          }
           checksumRequestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.PackageChecksumRequest, io.github.portlek.synergy.proto.Commands.PackageChecksumRequest.Builder, io.github.portlek.synergy.proto.Commands.PackageChecksumRequestOrBuilder>(
-                  getChecksumRequest(),
+                  (io.github.portlek.synergy.proto.Commands.PackageChecksumRequest) payload_,
                   getParentForChildren(),
                   isClean());
-          checksumRequest_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 14;
+        onChanged();;
         return checksumRequestBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.PackageChecksumResponse checksumResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.PackageChecksumResponse, io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.Builder, io.github.portlek.synergy.proto.Commands.PackageChecksumResponseOrBuilder> checksumResponseBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.PackageChecksumResponse checksumResponse = 16;</code>
        * @return Whether the checksumResponse field is set.
        */
+      @java.lang.Override
       public boolean hasChecksumResponse() {
-        return checksumResponseBuilder_ != null || checksumResponse_ != null;
+        return payloadCase_ == 16;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.PackageChecksumResponse checksumResponse = 16;</code>
        * @return The checksumResponse.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.PackageChecksumResponse getChecksumResponse() {
         if (checksumResponseBuilder_ == null) {
-          return checksumResponse_ == null ? io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.getDefaultInstance() : checksumResponse_;
+          if (payloadCase_ == 16) {
+            return (io.github.portlek.synergy.proto.Commands.PackageChecksumResponse) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.getDefaultInstance();
         } else {
-          return checksumResponseBuilder_.getMessage();
+          if (payloadCase_ == 16) {
+            return checksumResponseBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.getDefaultInstance();
         }
       }
       /**
@@ -30368,12 +34004,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          checksumResponse_ = value;
+          payload_ = value;
           onChanged();
         } else {
           checksumResponseBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 16;
         return this;
       }
       /**
@@ -30382,12 +34018,12 @@ public final class Commands {
       public Builder setChecksumResponse(
           io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.Builder builderForValue) {
         if (checksumResponseBuilder_ == null) {
-          checksumResponse_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           checksumResponseBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 16;
         return this;
       }
       /**
@@ -30395,17 +34031,21 @@ public final class Commands {
        */
       public Builder mergeChecksumResponse(io.github.portlek.synergy.proto.Commands.PackageChecksumResponse value) {
         if (checksumResponseBuilder_ == null) {
-          if (checksumResponse_ != null) {
-            checksumResponse_ =
-              io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.newBuilder(checksumResponse_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 16 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.newBuilder((io.github.portlek.synergy.proto.Commands.PackageChecksumResponse) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            checksumResponse_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          checksumResponseBuilder_.mergeFrom(value);
+          if (payloadCase_ == 16) {
+            checksumResponseBuilder_.mergeFrom(value);
+          }
+          checksumResponseBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 16;
         return this;
       }
       /**
@@ -30413,32 +34053,38 @@ public final class Commands {
        */
       public Builder clearChecksumResponse() {
         if (checksumResponseBuilder_ == null) {
-          checksumResponse_ = null;
-          onChanged();
+          if (payloadCase_ == 16) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          checksumResponse_ = null;
-          checksumResponseBuilder_ = null;
+          if (payloadCase_ == 16) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          checksumResponseBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.PackageChecksumResponse checksumResponse = 16;</code>
        */
       public io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.Builder getChecksumResponseBuilder() {
-        
-        onChanged();
         return getChecksumResponseFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.PackageChecksumResponse checksumResponse = 16;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.PackageChecksumResponseOrBuilder getChecksumResponseOrBuilder() {
-        if (checksumResponseBuilder_ != null) {
+        if ((payloadCase_ == 16) && (checksumResponseBuilder_ != null)) {
           return checksumResponseBuilder_.getMessageOrBuilder();
         } else {
-          return checksumResponse_ == null ?
-              io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.getDefaultInstance() : checksumResponse_;
+          if (payloadCase_ == 16) {
+            return (io.github.portlek.synergy.proto.Commands.PackageChecksumResponse) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.getDefaultInstance();
         }
       }
       /**
@@ -30448,154 +34094,188 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.PackageChecksumResponse, io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.Builder, io.github.portlek.synergy.proto.Commands.PackageChecksumResponseOrBuilder> 
           getChecksumResponseFieldBuilder() {
         if (checksumResponseBuilder_ == null) {
+          if (!(payloadCase_ == 16)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.getDefaultInstance();
+          }
           checksumResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.PackageChecksumResponse, io.github.portlek.synergy.proto.Commands.PackageChecksumResponse.Builder, io.github.portlek.synergy.proto.Commands.PackageChecksumResponseOrBuilder>(
-                  getChecksumResponse(),
+                  (io.github.portlek.synergy.proto.Commands.PackageChecksumResponse) payload_,
                   getParentForChildren(),
                   isClean());
-          checksumResponse_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 16;
+        onChanged();;
         return checksumResponseBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.SplitPackageResponse splitPackageResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.SplitPackageResponse, io.github.portlek.synergy.proto.Commands.SplitPackageResponse.Builder, io.github.portlek.synergy.proto.Commands.SplitPackageResponseOrBuilder> splitPackageResponseBuilder_;
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
        * @return Whether the splitPackageResponse field is set.
        */
+      @java.lang.Override
       public boolean hasSplitPackageResponse() {
-        return splitPackageResponseBuilder_ != null || splitPackageResponse_ != null;
+        return payloadCase_ == 17;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
        * @return The splitPackageResponse.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.SplitPackageResponse getSplitPackageResponse() {
         if (splitPackageResponseBuilder_ == null) {
-          return splitPackageResponse_ == null ? io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance() : splitPackageResponse_;
+          if (payloadCase_ == 17) {
+            return (io.github.portlek.synergy.proto.Commands.SplitPackageResponse) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance();
         } else {
-          return splitPackageResponseBuilder_.getMessage();
+          if (payloadCase_ == 17) {
+            return splitPackageResponseBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
        */
       public Builder setSplitPackageResponse(io.github.portlek.synergy.proto.Commands.SplitPackageResponse value) {
         if (splitPackageResponseBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          splitPackageResponse_ = value;
+          payload_ = value;
           onChanged();
         } else {
           splitPackageResponseBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 17;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
        */
       public Builder setSplitPackageResponse(
           io.github.portlek.synergy.proto.Commands.SplitPackageResponse.Builder builderForValue) {
         if (splitPackageResponseBuilder_ == null) {
-          splitPackageResponse_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           splitPackageResponseBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 17;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
        */
       public Builder mergeSplitPackageResponse(io.github.portlek.synergy.proto.Commands.SplitPackageResponse value) {
         if (splitPackageResponseBuilder_ == null) {
-          if (splitPackageResponse_ != null) {
-            splitPackageResponse_ =
-              io.github.portlek.synergy.proto.Commands.SplitPackageResponse.newBuilder(splitPackageResponse_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 17 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.SplitPackageResponse.newBuilder((io.github.portlek.synergy.proto.Commands.SplitPackageResponse) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            splitPackageResponse_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          splitPackageResponseBuilder_.mergeFrom(value);
+          if (payloadCase_ == 17) {
+            splitPackageResponseBuilder_.mergeFrom(value);
+          }
+          splitPackageResponseBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 17;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
        */
       public Builder clearSplitPackageResponse() {
         if (splitPackageResponseBuilder_ == null) {
-          splitPackageResponse_ = null;
-          onChanged();
+          if (payloadCase_ == 17) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          splitPackageResponse_ = null;
-          splitPackageResponseBuilder_ = null;
+          if (payloadCase_ == 17) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          splitPackageResponseBuilder_.clear();
         }
-
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
        */
       public io.github.portlek.synergy.proto.Commands.SplitPackageResponse.Builder getSplitPackageResponseBuilder() {
-        
-        onChanged();
         return getSplitPackageResponseFieldBuilder().getBuilder();
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.SplitPackageResponseOrBuilder getSplitPackageResponseOrBuilder() {
-        if (splitPackageResponseBuilder_ != null) {
+        if ((payloadCase_ == 17) && (splitPackageResponseBuilder_ != null)) {
           return splitPackageResponseBuilder_.getMessageOrBuilder();
         } else {
-          return splitPackageResponse_ == null ?
-              io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance() : splitPackageResponse_;
+          if (payloadCase_ == 17) {
+            return (io.github.portlek.synergy.proto.Commands.SplitPackageResponse) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17;</code>
+       * <code>.io.github.portlek.synergy.proto.SplitPackageResponse splitPackageResponse = 17 [lazy = true];</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.SplitPackageResponse, io.github.portlek.synergy.proto.Commands.SplitPackageResponse.Builder, io.github.portlek.synergy.proto.Commands.SplitPackageResponseOrBuilder> 
           getSplitPackageResponseFieldBuilder() {
         if (splitPackageResponseBuilder_ == null) {
+          if (!(payloadCase_ == 17)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.SplitPackageResponse.getDefaultInstance();
+          }
           splitPackageResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.SplitPackageResponse, io.github.portlek.synergy.proto.Commands.SplitPackageResponse.Builder, io.github.portlek.synergy.proto.Commands.SplitPackageResponseOrBuilder>(
-                  getSplitPackageResponse(),
+                  (io.github.portlek.synergy.proto.Commands.SplitPackageResponse) payload_,
                   getParentForChildren(),
                   isClean());
-          splitPackageResponse_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 17;
+        onChanged();;
         return splitPackageResponseBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse cCoordinatorListResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse, io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.Builder, io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponseOrBuilder> cCoordinatorListResponseBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_CoordinatorListResponse c_coordinatorListResponse = 18;</code>
        * @return Whether the cCoordinatorListResponse field is set.
        */
+      @java.lang.Override
       public boolean hasCCoordinatorListResponse() {
-        return cCoordinatorListResponseBuilder_ != null || cCoordinatorListResponse_ != null;
+        return payloadCase_ == 18;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_CoordinatorListResponse c_coordinatorListResponse = 18;</code>
        * @return The cCoordinatorListResponse.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse getCCoordinatorListResponse() {
         if (cCoordinatorListResponseBuilder_ == null) {
-          return cCoordinatorListResponse_ == null ? io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.getDefaultInstance() : cCoordinatorListResponse_;
+          if (payloadCase_ == 18) {
+            return (io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.getDefaultInstance();
         } else {
-          return cCoordinatorListResponseBuilder_.getMessage();
+          if (payloadCase_ == 18) {
+            return cCoordinatorListResponseBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.getDefaultInstance();
         }
       }
       /**
@@ -30606,12 +34286,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cCoordinatorListResponse_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cCoordinatorListResponseBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 18;
         return this;
       }
       /**
@@ -30620,12 +34300,12 @@ public final class Commands {
       public Builder setCCoordinatorListResponse(
           io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.Builder builderForValue) {
         if (cCoordinatorListResponseBuilder_ == null) {
-          cCoordinatorListResponse_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cCoordinatorListResponseBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 18;
         return this;
       }
       /**
@@ -30633,17 +34313,21 @@ public final class Commands {
        */
       public Builder mergeCCoordinatorListResponse(io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse value) {
         if (cCoordinatorListResponseBuilder_ == null) {
-          if (cCoordinatorListResponse_ != null) {
-            cCoordinatorListResponse_ =
-              io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.newBuilder(cCoordinatorListResponse_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 18 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.newBuilder((io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cCoordinatorListResponse_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cCoordinatorListResponseBuilder_.mergeFrom(value);
+          if (payloadCase_ == 18) {
+            cCoordinatorListResponseBuilder_.mergeFrom(value);
+          }
+          cCoordinatorListResponseBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 18;
         return this;
       }
       /**
@@ -30651,32 +34335,38 @@ public final class Commands {
        */
       public Builder clearCCoordinatorListResponse() {
         if (cCoordinatorListResponseBuilder_ == null) {
-          cCoordinatorListResponse_ = null;
-          onChanged();
+          if (payloadCase_ == 18) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cCoordinatorListResponse_ = null;
-          cCoordinatorListResponseBuilder_ = null;
+          if (payloadCase_ == 18) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cCoordinatorListResponseBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_CoordinatorListResponse c_coordinatorListResponse = 18;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.Builder getCCoordinatorListResponseBuilder() {
-        
-        onChanged();
         return getCCoordinatorListResponseFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_CoordinatorListResponse c_coordinatorListResponse = 18;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponseOrBuilder getCCoordinatorListResponseOrBuilder() {
-        if (cCoordinatorListResponseBuilder_ != null) {
+        if ((payloadCase_ == 18) && (cCoordinatorListResponseBuilder_ != null)) {
           return cCoordinatorListResponseBuilder_.getMessageOrBuilder();
         } else {
-          return cCoordinatorListResponse_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.getDefaultInstance() : cCoordinatorListResponse_;
+          if (payloadCase_ == 18) {
+            return (io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.getDefaultInstance();
         }
       }
       /**
@@ -30686,35 +34376,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse, io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.Builder, io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponseOrBuilder> 
           getCCoordinatorListResponseFieldBuilder() {
         if (cCoordinatorListResponseBuilder_ == null) {
+          if (!(payloadCase_ == 18)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.getDefaultInstance();
+          }
           cCoordinatorListResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse, io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse.Builder, io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponseOrBuilder>(
-                  getCCoordinatorListResponse(),
+                  (io.github.portlek.synergy.proto.Commands.C_CoordinatorListResponse) payload_,
                   getParentForChildren(),
                   isClean());
-          cCoordinatorListResponse_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 18;
+        onChanged();;
         return cCoordinatorListResponseBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_Provision cProvision_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_Provision, io.github.portlek.synergy.proto.Commands.C_Provision.Builder, io.github.portlek.synergy.proto.Commands.C_ProvisionOrBuilder> cProvisionBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_Provision c_provision = 19;</code>
        * @return Whether the cProvision field is set.
        */
+      @java.lang.Override
       public boolean hasCProvision() {
-        return cProvisionBuilder_ != null || cProvision_ != null;
+        return payloadCase_ == 19;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_Provision c_provision = 19;</code>
        * @return The cProvision.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_Provision getCProvision() {
         if (cProvisionBuilder_ == null) {
-          return cProvision_ == null ? io.github.portlek.synergy.proto.Commands.C_Provision.getDefaultInstance() : cProvision_;
+          if (payloadCase_ == 19) {
+            return (io.github.portlek.synergy.proto.Commands.C_Provision) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_Provision.getDefaultInstance();
         } else {
-          return cProvisionBuilder_.getMessage();
+          if (payloadCase_ == 19) {
+            return cProvisionBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_Provision.getDefaultInstance();
         }
       }
       /**
@@ -30725,12 +34427,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cProvision_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cProvisionBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 19;
         return this;
       }
       /**
@@ -30739,12 +34441,12 @@ public final class Commands {
       public Builder setCProvision(
           io.github.portlek.synergy.proto.Commands.C_Provision.Builder builderForValue) {
         if (cProvisionBuilder_ == null) {
-          cProvision_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cProvisionBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 19;
         return this;
       }
       /**
@@ -30752,17 +34454,21 @@ public final class Commands {
        */
       public Builder mergeCProvision(io.github.portlek.synergy.proto.Commands.C_Provision value) {
         if (cProvisionBuilder_ == null) {
-          if (cProvision_ != null) {
-            cProvision_ =
-              io.github.portlek.synergy.proto.Commands.C_Provision.newBuilder(cProvision_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 19 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_Provision.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_Provision.newBuilder((io.github.portlek.synergy.proto.Commands.C_Provision) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cProvision_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cProvisionBuilder_.mergeFrom(value);
+          if (payloadCase_ == 19) {
+            cProvisionBuilder_.mergeFrom(value);
+          }
+          cProvisionBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 19;
         return this;
       }
       /**
@@ -30770,32 +34476,38 @@ public final class Commands {
        */
       public Builder clearCProvision() {
         if (cProvisionBuilder_ == null) {
-          cProvision_ = null;
-          onChanged();
+          if (payloadCase_ == 19) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cProvision_ = null;
-          cProvisionBuilder_ = null;
+          if (payloadCase_ == 19) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cProvisionBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_Provision c_provision = 19;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_Provision.Builder getCProvisionBuilder() {
-        
-        onChanged();
         return getCProvisionFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_Provision c_provision = 19;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_ProvisionOrBuilder getCProvisionOrBuilder() {
-        if (cProvisionBuilder_ != null) {
+        if ((payloadCase_ == 19) && (cProvisionBuilder_ != null)) {
           return cProvisionBuilder_.getMessageOrBuilder();
         } else {
-          return cProvision_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_Provision.getDefaultInstance() : cProvision_;
+          if (payloadCase_ == 19) {
+            return (io.github.portlek.synergy.proto.Commands.C_Provision) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_Provision.getDefaultInstance();
         }
       }
       /**
@@ -30805,35 +34517,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_Provision, io.github.portlek.synergy.proto.Commands.C_Provision.Builder, io.github.portlek.synergy.proto.Commands.C_ProvisionOrBuilder> 
           getCProvisionFieldBuilder() {
         if (cProvisionBuilder_ == null) {
+          if (!(payloadCase_ == 19)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_Provision.getDefaultInstance();
+          }
           cProvisionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_Provision, io.github.portlek.synergy.proto.Commands.C_Provision.Builder, io.github.portlek.synergy.proto.Commands.C_ProvisionOrBuilder>(
-                  getCProvision(),
+                  (io.github.portlek.synergy.proto.Commands.C_Provision) payload_,
                   getParentForChildren(),
                   isClean());
-          cProvision_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 19;
+        onChanged();;
         return cProvisionBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_ProvisionResponse cProvisionResponse_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_ProvisionResponse, io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.Builder, io.github.portlek.synergy.proto.Commands.C_ProvisionResponseOrBuilder> cProvisionResponseBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_ProvisionResponse c_provisionResponse = 20;</code>
        * @return Whether the cProvisionResponse field is set.
        */
+      @java.lang.Override
       public boolean hasCProvisionResponse() {
-        return cProvisionResponseBuilder_ != null || cProvisionResponse_ != null;
+        return payloadCase_ == 20;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_ProvisionResponse c_provisionResponse = 20;</code>
        * @return The cProvisionResponse.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_ProvisionResponse getCProvisionResponse() {
         if (cProvisionResponseBuilder_ == null) {
-          return cProvisionResponse_ == null ? io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.getDefaultInstance() : cProvisionResponse_;
+          if (payloadCase_ == 20) {
+            return (io.github.portlek.synergy.proto.Commands.C_ProvisionResponse) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.getDefaultInstance();
         } else {
-          return cProvisionResponseBuilder_.getMessage();
+          if (payloadCase_ == 20) {
+            return cProvisionResponseBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.getDefaultInstance();
         }
       }
       /**
@@ -30844,12 +34568,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cProvisionResponse_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cProvisionResponseBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 20;
         return this;
       }
       /**
@@ -30858,12 +34582,12 @@ public final class Commands {
       public Builder setCProvisionResponse(
           io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.Builder builderForValue) {
         if (cProvisionResponseBuilder_ == null) {
-          cProvisionResponse_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cProvisionResponseBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 20;
         return this;
       }
       /**
@@ -30871,17 +34595,21 @@ public final class Commands {
        */
       public Builder mergeCProvisionResponse(io.github.portlek.synergy.proto.Commands.C_ProvisionResponse value) {
         if (cProvisionResponseBuilder_ == null) {
-          if (cProvisionResponse_ != null) {
-            cProvisionResponse_ =
-              io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.newBuilder(cProvisionResponse_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 20 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.newBuilder((io.github.portlek.synergy.proto.Commands.C_ProvisionResponse) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cProvisionResponse_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cProvisionResponseBuilder_.mergeFrom(value);
+          if (payloadCase_ == 20) {
+            cProvisionResponseBuilder_.mergeFrom(value);
+          }
+          cProvisionResponseBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 20;
         return this;
       }
       /**
@@ -30889,32 +34617,38 @@ public final class Commands {
        */
       public Builder clearCProvisionResponse() {
         if (cProvisionResponseBuilder_ == null) {
-          cProvisionResponse_ = null;
-          onChanged();
+          if (payloadCase_ == 20) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cProvisionResponse_ = null;
-          cProvisionResponseBuilder_ = null;
+          if (payloadCase_ == 20) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cProvisionResponseBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_ProvisionResponse c_provisionResponse = 20;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.Builder getCProvisionResponseBuilder() {
-        
-        onChanged();
         return getCProvisionResponseFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_ProvisionResponse c_provisionResponse = 20;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_ProvisionResponseOrBuilder getCProvisionResponseOrBuilder() {
-        if (cProvisionResponseBuilder_ != null) {
+        if ((payloadCase_ == 20) && (cProvisionResponseBuilder_ != null)) {
           return cProvisionResponseBuilder_.getMessageOrBuilder();
         } else {
-          return cProvisionResponse_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.getDefaultInstance() : cProvisionResponse_;
+          if (payloadCase_ == 20) {
+            return (io.github.portlek.synergy.proto.Commands.C_ProvisionResponse) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.getDefaultInstance();
         }
       }
       /**
@@ -30924,35 +34658,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_ProvisionResponse, io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.Builder, io.github.portlek.synergy.proto.Commands.C_ProvisionResponseOrBuilder> 
           getCProvisionResponseFieldBuilder() {
         if (cProvisionResponseBuilder_ == null) {
+          if (!(payloadCase_ == 20)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.getDefaultInstance();
+          }
           cProvisionResponseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_ProvisionResponse, io.github.portlek.synergy.proto.Commands.C_ProvisionResponse.Builder, io.github.portlek.synergy.proto.Commands.C_ProvisionResponseOrBuilder>(
-                  getCProvisionResponse(),
+                  (io.github.portlek.synergy.proto.Commands.C_ProvisionResponse) payload_,
                   getParentForChildren(),
                   isClean());
-          cProvisionResponse_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 20;
+        onChanged();;
         return cProvisionResponseBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_DeProvision cDeProvision_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_DeProvision, io.github.portlek.synergy.proto.Commands.C_DeProvision.Builder, io.github.portlek.synergy.proto.Commands.C_DeProvisionOrBuilder> cDeProvisionBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_DeProvision c_deProvision = 21;</code>
        * @return Whether the cDeProvision field is set.
        */
+      @java.lang.Override
       public boolean hasCDeProvision() {
-        return cDeProvisionBuilder_ != null || cDeProvision_ != null;
+        return payloadCase_ == 21;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_DeProvision c_deProvision = 21;</code>
        * @return The cDeProvision.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_DeProvision getCDeProvision() {
         if (cDeProvisionBuilder_ == null) {
-          return cDeProvision_ == null ? io.github.portlek.synergy.proto.Commands.C_DeProvision.getDefaultInstance() : cDeProvision_;
+          if (payloadCase_ == 21) {
+            return (io.github.portlek.synergy.proto.Commands.C_DeProvision) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_DeProvision.getDefaultInstance();
         } else {
-          return cDeProvisionBuilder_.getMessage();
+          if (payloadCase_ == 21) {
+            return cDeProvisionBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_DeProvision.getDefaultInstance();
         }
       }
       /**
@@ -30963,12 +34709,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cDeProvision_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cDeProvisionBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 21;
         return this;
       }
       /**
@@ -30977,12 +34723,12 @@ public final class Commands {
       public Builder setCDeProvision(
           io.github.portlek.synergy.proto.Commands.C_DeProvision.Builder builderForValue) {
         if (cDeProvisionBuilder_ == null) {
-          cDeProvision_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cDeProvisionBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 21;
         return this;
       }
       /**
@@ -30990,17 +34736,21 @@ public final class Commands {
        */
       public Builder mergeCDeProvision(io.github.portlek.synergy.proto.Commands.C_DeProvision value) {
         if (cDeProvisionBuilder_ == null) {
-          if (cDeProvision_ != null) {
-            cDeProvision_ =
-              io.github.portlek.synergy.proto.Commands.C_DeProvision.newBuilder(cDeProvision_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 21 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_DeProvision.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_DeProvision.newBuilder((io.github.portlek.synergy.proto.Commands.C_DeProvision) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cDeProvision_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cDeProvisionBuilder_.mergeFrom(value);
+          if (payloadCase_ == 21) {
+            cDeProvisionBuilder_.mergeFrom(value);
+          }
+          cDeProvisionBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 21;
         return this;
       }
       /**
@@ -31008,32 +34758,38 @@ public final class Commands {
        */
       public Builder clearCDeProvision() {
         if (cDeProvisionBuilder_ == null) {
-          cDeProvision_ = null;
-          onChanged();
+          if (payloadCase_ == 21) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cDeProvision_ = null;
-          cDeProvisionBuilder_ = null;
+          if (payloadCase_ == 21) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cDeProvisionBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_DeProvision c_deProvision = 21;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_DeProvision.Builder getCDeProvisionBuilder() {
-        
-        onChanged();
         return getCDeProvisionFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_DeProvision c_deProvision = 21;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_DeProvisionOrBuilder getCDeProvisionOrBuilder() {
-        if (cDeProvisionBuilder_ != null) {
+        if ((payloadCase_ == 21) && (cDeProvisionBuilder_ != null)) {
           return cDeProvisionBuilder_.getMessageOrBuilder();
         } else {
-          return cDeProvision_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_DeProvision.getDefaultInstance() : cDeProvision_;
+          if (payloadCase_ == 21) {
+            return (io.github.portlek.synergy.proto.Commands.C_DeProvision) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_DeProvision.getDefaultInstance();
         }
       }
       /**
@@ -31043,35 +34799,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_DeProvision, io.github.portlek.synergy.proto.Commands.C_DeProvision.Builder, io.github.portlek.synergy.proto.Commands.C_DeProvisionOrBuilder> 
           getCDeProvisionFieldBuilder() {
         if (cDeProvisionBuilder_ == null) {
+          if (!(payloadCase_ == 21)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_DeProvision.getDefaultInstance();
+          }
           cDeProvisionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_DeProvision, io.github.portlek.synergy.proto.Commands.C_DeProvision.Builder, io.github.portlek.synergy.proto.Commands.C_DeProvisionOrBuilder>(
-                  getCDeProvision(),
+                  (io.github.portlek.synergy.proto.Commands.C_DeProvision) payload_,
                   getParentForChildren(),
                   isClean());
-          cDeProvision_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 21;
+        onChanged();;
         return cDeProvisionBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_Shutdown cShutdown_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_Shutdown, io.github.portlek.synergy.proto.Commands.C_Shutdown.Builder, io.github.portlek.synergy.proto.Commands.C_ShutdownOrBuilder> cShutdownBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_Shutdown c_shutdown = 22;</code>
        * @return Whether the cShutdown field is set.
        */
+      @java.lang.Override
       public boolean hasCShutdown() {
-        return cShutdownBuilder_ != null || cShutdown_ != null;
+        return payloadCase_ == 22;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_Shutdown c_shutdown = 22;</code>
        * @return The cShutdown.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_Shutdown getCShutdown() {
         if (cShutdownBuilder_ == null) {
-          return cShutdown_ == null ? io.github.portlek.synergy.proto.Commands.C_Shutdown.getDefaultInstance() : cShutdown_;
+          if (payloadCase_ == 22) {
+            return (io.github.portlek.synergy.proto.Commands.C_Shutdown) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_Shutdown.getDefaultInstance();
         } else {
-          return cShutdownBuilder_.getMessage();
+          if (payloadCase_ == 22) {
+            return cShutdownBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_Shutdown.getDefaultInstance();
         }
       }
       /**
@@ -31082,12 +34850,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cShutdown_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cShutdownBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 22;
         return this;
       }
       /**
@@ -31096,12 +34864,12 @@ public final class Commands {
       public Builder setCShutdown(
           io.github.portlek.synergy.proto.Commands.C_Shutdown.Builder builderForValue) {
         if (cShutdownBuilder_ == null) {
-          cShutdown_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cShutdownBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 22;
         return this;
       }
       /**
@@ -31109,17 +34877,21 @@ public final class Commands {
        */
       public Builder mergeCShutdown(io.github.portlek.synergy.proto.Commands.C_Shutdown value) {
         if (cShutdownBuilder_ == null) {
-          if (cShutdown_ != null) {
-            cShutdown_ =
-              io.github.portlek.synergy.proto.Commands.C_Shutdown.newBuilder(cShutdown_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 22 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_Shutdown.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_Shutdown.newBuilder((io.github.portlek.synergy.proto.Commands.C_Shutdown) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cShutdown_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cShutdownBuilder_.mergeFrom(value);
+          if (payloadCase_ == 22) {
+            cShutdownBuilder_.mergeFrom(value);
+          }
+          cShutdownBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 22;
         return this;
       }
       /**
@@ -31127,32 +34899,38 @@ public final class Commands {
        */
       public Builder clearCShutdown() {
         if (cShutdownBuilder_ == null) {
-          cShutdown_ = null;
-          onChanged();
+          if (payloadCase_ == 22) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cShutdown_ = null;
-          cShutdownBuilder_ = null;
+          if (payloadCase_ == 22) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cShutdownBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_Shutdown c_shutdown = 22;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_Shutdown.Builder getCShutdownBuilder() {
-        
-        onChanged();
         return getCShutdownFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_Shutdown c_shutdown = 22;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_ShutdownOrBuilder getCShutdownOrBuilder() {
-        if (cShutdownBuilder_ != null) {
+        if ((payloadCase_ == 22) && (cShutdownBuilder_ != null)) {
           return cShutdownBuilder_.getMessageOrBuilder();
         } else {
-          return cShutdown_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_Shutdown.getDefaultInstance() : cShutdown_;
+          if (payloadCase_ == 22) {
+            return (io.github.portlek.synergy.proto.Commands.C_Shutdown) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_Shutdown.getDefaultInstance();
         }
       }
       /**
@@ -31162,35 +34940,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_Shutdown, io.github.portlek.synergy.proto.Commands.C_Shutdown.Builder, io.github.portlek.synergy.proto.Commands.C_ShutdownOrBuilder> 
           getCShutdownFieldBuilder() {
         if (cShutdownBuilder_ == null) {
+          if (!(payloadCase_ == 22)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_Shutdown.getDefaultInstance();
+          }
           cShutdownBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_Shutdown, io.github.portlek.synergy.proto.Commands.C_Shutdown.Builder, io.github.portlek.synergy.proto.Commands.C_ShutdownOrBuilder>(
-                  getCShutdown(),
+                  (io.github.portlek.synergy.proto.Commands.C_Shutdown) payload_,
                   getParentForChildren(),
                   isClean());
-          cShutdown_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 22;
+        onChanged();;
         return cShutdownBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_Promote cPromote_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_Promote, io.github.portlek.synergy.proto.Commands.C_Promote.Builder, io.github.portlek.synergy.proto.Commands.C_PromoteOrBuilder> cPromoteBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_Promote c_promote = 23;</code>
        * @return Whether the cPromote field is set.
        */
+      @java.lang.Override
       public boolean hasCPromote() {
-        return cPromoteBuilder_ != null || cPromote_ != null;
+        return payloadCase_ == 23;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_Promote c_promote = 23;</code>
        * @return The cPromote.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_Promote getCPromote() {
         if (cPromoteBuilder_ == null) {
-          return cPromote_ == null ? io.github.portlek.synergy.proto.Commands.C_Promote.getDefaultInstance() : cPromote_;
+          if (payloadCase_ == 23) {
+            return (io.github.portlek.synergy.proto.Commands.C_Promote) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_Promote.getDefaultInstance();
         } else {
-          return cPromoteBuilder_.getMessage();
+          if (payloadCase_ == 23) {
+            return cPromoteBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_Promote.getDefaultInstance();
         }
       }
       /**
@@ -31201,12 +34991,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cPromote_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cPromoteBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 23;
         return this;
       }
       /**
@@ -31215,12 +35005,12 @@ public final class Commands {
       public Builder setCPromote(
           io.github.portlek.synergy.proto.Commands.C_Promote.Builder builderForValue) {
         if (cPromoteBuilder_ == null) {
-          cPromote_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cPromoteBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 23;
         return this;
       }
       /**
@@ -31228,17 +35018,21 @@ public final class Commands {
        */
       public Builder mergeCPromote(io.github.portlek.synergy.proto.Commands.C_Promote value) {
         if (cPromoteBuilder_ == null) {
-          if (cPromote_ != null) {
-            cPromote_ =
-              io.github.portlek.synergy.proto.Commands.C_Promote.newBuilder(cPromote_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 23 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_Promote.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_Promote.newBuilder((io.github.portlek.synergy.proto.Commands.C_Promote) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cPromote_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cPromoteBuilder_.mergeFrom(value);
+          if (payloadCase_ == 23) {
+            cPromoteBuilder_.mergeFrom(value);
+          }
+          cPromoteBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 23;
         return this;
       }
       /**
@@ -31246,32 +35040,38 @@ public final class Commands {
        */
       public Builder clearCPromote() {
         if (cPromoteBuilder_ == null) {
-          cPromote_ = null;
-          onChanged();
+          if (payloadCase_ == 23) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cPromote_ = null;
-          cPromoteBuilder_ = null;
+          if (payloadCase_ == 23) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cPromoteBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_Promote c_promote = 23;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_Promote.Builder getCPromoteBuilder() {
-        
-        onChanged();
         return getCPromoteFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_Promote c_promote = 23;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_PromoteOrBuilder getCPromoteOrBuilder() {
-        if (cPromoteBuilder_ != null) {
+        if ((payloadCase_ == 23) && (cPromoteBuilder_ != null)) {
           return cPromoteBuilder_.getMessageOrBuilder();
         } else {
-          return cPromote_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_Promote.getDefaultInstance() : cPromote_;
+          if (payloadCase_ == 23) {
+            return (io.github.portlek.synergy.proto.Commands.C_Promote) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_Promote.getDefaultInstance();
         }
       }
       /**
@@ -31281,35 +35081,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_Promote, io.github.portlek.synergy.proto.Commands.C_Promote.Builder, io.github.portlek.synergy.proto.Commands.C_PromoteOrBuilder> 
           getCPromoteFieldBuilder() {
         if (cPromoteBuilder_ == null) {
+          if (!(payloadCase_ == 23)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_Promote.getDefaultInstance();
+          }
           cPromoteBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_Promote, io.github.portlek.synergy.proto.Commands.C_Promote.Builder, io.github.portlek.synergy.proto.Commands.C_PromoteOrBuilder>(
-                  getCPromote(),
+                  (io.github.portlek.synergy.proto.Commands.C_Promote) payload_,
                   getParentForChildren(),
                   isClean());
-          cPromote_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 23;
+        onChanged();;
         return cPromoteBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_CreateCoordinator cCreateCoordinator_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_CreateCoordinator, io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.Builder, io.github.portlek.synergy.proto.Commands.C_CreateCoordinatorOrBuilder> cCreateCoordinatorBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_CreateCoordinator c_createCoordinator = 24;</code>
        * @return Whether the cCreateCoordinator field is set.
        */
+      @java.lang.Override
       public boolean hasCCreateCoordinator() {
-        return cCreateCoordinatorBuilder_ != null || cCreateCoordinator_ != null;
+        return payloadCase_ == 24;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_CreateCoordinator c_createCoordinator = 24;</code>
        * @return The cCreateCoordinator.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_CreateCoordinator getCCreateCoordinator() {
         if (cCreateCoordinatorBuilder_ == null) {
-          return cCreateCoordinator_ == null ? io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.getDefaultInstance() : cCreateCoordinator_;
+          if (payloadCase_ == 24) {
+            return (io.github.portlek.synergy.proto.Commands.C_CreateCoordinator) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.getDefaultInstance();
         } else {
-          return cCreateCoordinatorBuilder_.getMessage();
+          if (payloadCase_ == 24) {
+            return cCreateCoordinatorBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.getDefaultInstance();
         }
       }
       /**
@@ -31320,12 +35132,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cCreateCoordinator_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cCreateCoordinatorBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 24;
         return this;
       }
       /**
@@ -31334,12 +35146,12 @@ public final class Commands {
       public Builder setCCreateCoordinator(
           io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.Builder builderForValue) {
         if (cCreateCoordinatorBuilder_ == null) {
-          cCreateCoordinator_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cCreateCoordinatorBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 24;
         return this;
       }
       /**
@@ -31347,17 +35159,21 @@ public final class Commands {
        */
       public Builder mergeCCreateCoordinator(io.github.portlek.synergy.proto.Commands.C_CreateCoordinator value) {
         if (cCreateCoordinatorBuilder_ == null) {
-          if (cCreateCoordinator_ != null) {
-            cCreateCoordinator_ =
-              io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.newBuilder(cCreateCoordinator_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 24 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.newBuilder((io.github.portlek.synergy.proto.Commands.C_CreateCoordinator) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cCreateCoordinator_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cCreateCoordinatorBuilder_.mergeFrom(value);
+          if (payloadCase_ == 24) {
+            cCreateCoordinatorBuilder_.mergeFrom(value);
+          }
+          cCreateCoordinatorBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 24;
         return this;
       }
       /**
@@ -31365,32 +35181,38 @@ public final class Commands {
        */
       public Builder clearCCreateCoordinator() {
         if (cCreateCoordinatorBuilder_ == null) {
-          cCreateCoordinator_ = null;
-          onChanged();
+          if (payloadCase_ == 24) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cCreateCoordinator_ = null;
-          cCreateCoordinatorBuilder_ = null;
+          if (payloadCase_ == 24) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cCreateCoordinatorBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_CreateCoordinator c_createCoordinator = 24;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.Builder getCCreateCoordinatorBuilder() {
-        
-        onChanged();
         return getCCreateCoordinatorFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_CreateCoordinator c_createCoordinator = 24;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_CreateCoordinatorOrBuilder getCCreateCoordinatorOrBuilder() {
-        if (cCreateCoordinatorBuilder_ != null) {
+        if ((payloadCase_ == 24) && (cCreateCoordinatorBuilder_ != null)) {
           return cCreateCoordinatorBuilder_.getMessageOrBuilder();
         } else {
-          return cCreateCoordinator_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.getDefaultInstance() : cCreateCoordinator_;
+          if (payloadCase_ == 24) {
+            return (io.github.portlek.synergy.proto.Commands.C_CreateCoordinator) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.getDefaultInstance();
         }
       }
       /**
@@ -31400,35 +35222,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_CreateCoordinator, io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.Builder, io.github.portlek.synergy.proto.Commands.C_CreateCoordinatorOrBuilder> 
           getCCreateCoordinatorFieldBuilder() {
         if (cCreateCoordinatorBuilder_ == null) {
+          if (!(payloadCase_ == 24)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.getDefaultInstance();
+          }
           cCreateCoordinatorBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_CreateCoordinator, io.github.portlek.synergy.proto.Commands.C_CreateCoordinator.Builder, io.github.portlek.synergy.proto.Commands.C_CreateCoordinatorOrBuilder>(
-                  getCCreateCoordinator(),
+                  (io.github.portlek.synergy.proto.Commands.C_CreateCoordinator) payload_,
                   getParentForChildren(),
                   isClean());
-          cCreateCoordinator_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 24;
+        onChanged();;
         return cCreateCoordinatorBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated cCoordinatorCreated_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated, io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.Builder, io.github.portlek.synergy.proto.Commands.C_CoordinatorCreatedOrBuilder> cCoordinatorCreatedBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_CoordinatorCreated c_coordinatorCreated = 25;</code>
        * @return Whether the cCoordinatorCreated field is set.
        */
+      @java.lang.Override
       public boolean hasCCoordinatorCreated() {
-        return cCoordinatorCreatedBuilder_ != null || cCoordinatorCreated_ != null;
+        return payloadCase_ == 25;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_CoordinatorCreated c_coordinatorCreated = 25;</code>
        * @return The cCoordinatorCreated.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated getCCoordinatorCreated() {
         if (cCoordinatorCreatedBuilder_ == null) {
-          return cCoordinatorCreated_ == null ? io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.getDefaultInstance() : cCoordinatorCreated_;
+          if (payloadCase_ == 25) {
+            return (io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.getDefaultInstance();
         } else {
-          return cCoordinatorCreatedBuilder_.getMessage();
+          if (payloadCase_ == 25) {
+            return cCoordinatorCreatedBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.getDefaultInstance();
         }
       }
       /**
@@ -31439,12 +35273,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cCoordinatorCreated_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cCoordinatorCreatedBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 25;
         return this;
       }
       /**
@@ -31453,12 +35287,12 @@ public final class Commands {
       public Builder setCCoordinatorCreated(
           io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.Builder builderForValue) {
         if (cCoordinatorCreatedBuilder_ == null) {
-          cCoordinatorCreated_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cCoordinatorCreatedBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 25;
         return this;
       }
       /**
@@ -31466,17 +35300,21 @@ public final class Commands {
        */
       public Builder mergeCCoordinatorCreated(io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated value) {
         if (cCoordinatorCreatedBuilder_ == null) {
-          if (cCoordinatorCreated_ != null) {
-            cCoordinatorCreated_ =
-              io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.newBuilder(cCoordinatorCreated_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 25 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.newBuilder((io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cCoordinatorCreated_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cCoordinatorCreatedBuilder_.mergeFrom(value);
+          if (payloadCase_ == 25) {
+            cCoordinatorCreatedBuilder_.mergeFrom(value);
+          }
+          cCoordinatorCreatedBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 25;
         return this;
       }
       /**
@@ -31484,32 +35322,38 @@ public final class Commands {
        */
       public Builder clearCCoordinatorCreated() {
         if (cCoordinatorCreatedBuilder_ == null) {
-          cCoordinatorCreated_ = null;
-          onChanged();
+          if (payloadCase_ == 25) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cCoordinatorCreated_ = null;
-          cCoordinatorCreatedBuilder_ = null;
+          if (payloadCase_ == 25) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cCoordinatorCreatedBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_CoordinatorCreated c_coordinatorCreated = 25;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.Builder getCCoordinatorCreatedBuilder() {
-        
-        onChanged();
         return getCCoordinatorCreatedFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_CoordinatorCreated c_coordinatorCreated = 25;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_CoordinatorCreatedOrBuilder getCCoordinatorCreatedOrBuilder() {
-        if (cCoordinatorCreatedBuilder_ != null) {
+        if ((payloadCase_ == 25) && (cCoordinatorCreatedBuilder_ != null)) {
           return cCoordinatorCreatedBuilder_.getMessageOrBuilder();
         } else {
-          return cCoordinatorCreated_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.getDefaultInstance() : cCoordinatorCreated_;
+          if (payloadCase_ == 25) {
+            return (io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.getDefaultInstance();
         }
       }
       /**
@@ -31519,35 +35363,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated, io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.Builder, io.github.portlek.synergy.proto.Commands.C_CoordinatorCreatedOrBuilder> 
           getCCoordinatorCreatedFieldBuilder() {
         if (cCoordinatorCreatedBuilder_ == null) {
+          if (!(payloadCase_ == 25)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.getDefaultInstance();
+          }
           cCoordinatorCreatedBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated, io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated.Builder, io.github.portlek.synergy.proto.Commands.C_CoordinatorCreatedOrBuilder>(
-                  getCCoordinatorCreated(),
+                  (io.github.portlek.synergy.proto.Commands.C_CoordinatorCreated) payload_,
                   getParentForChildren(),
                   isClean());
-          cCoordinatorCreated_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 25;
+        onChanged();;
         return cCoordinatorCreatedBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_SendInput cSendInput_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_SendInput, io.github.portlek.synergy.proto.Commands.C_SendInput.Builder, io.github.portlek.synergy.proto.Commands.C_SendInputOrBuilder> cSendInputBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_SendInput c_sendInput = 26;</code>
        * @return Whether the cSendInput field is set.
        */
+      @java.lang.Override
       public boolean hasCSendInput() {
-        return cSendInputBuilder_ != null || cSendInput_ != null;
+        return payloadCase_ == 26;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_SendInput c_sendInput = 26;</code>
        * @return The cSendInput.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_SendInput getCSendInput() {
         if (cSendInputBuilder_ == null) {
-          return cSendInput_ == null ? io.github.portlek.synergy.proto.Commands.C_SendInput.getDefaultInstance() : cSendInput_;
+          if (payloadCase_ == 26) {
+            return (io.github.portlek.synergy.proto.Commands.C_SendInput) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_SendInput.getDefaultInstance();
         } else {
-          return cSendInputBuilder_.getMessage();
+          if (payloadCase_ == 26) {
+            return cSendInputBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_SendInput.getDefaultInstance();
         }
       }
       /**
@@ -31558,12 +35414,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cSendInput_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cSendInputBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 26;
         return this;
       }
       /**
@@ -31572,12 +35428,12 @@ public final class Commands {
       public Builder setCSendInput(
           io.github.portlek.synergy.proto.Commands.C_SendInput.Builder builderForValue) {
         if (cSendInputBuilder_ == null) {
-          cSendInput_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cSendInputBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 26;
         return this;
       }
       /**
@@ -31585,17 +35441,21 @@ public final class Commands {
        */
       public Builder mergeCSendInput(io.github.portlek.synergy.proto.Commands.C_SendInput value) {
         if (cSendInputBuilder_ == null) {
-          if (cSendInput_ != null) {
-            cSendInput_ =
-              io.github.portlek.synergy.proto.Commands.C_SendInput.newBuilder(cSendInput_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 26 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_SendInput.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_SendInput.newBuilder((io.github.portlek.synergy.proto.Commands.C_SendInput) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cSendInput_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cSendInputBuilder_.mergeFrom(value);
+          if (payloadCase_ == 26) {
+            cSendInputBuilder_.mergeFrom(value);
+          }
+          cSendInputBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 26;
         return this;
       }
       /**
@@ -31603,32 +35463,38 @@ public final class Commands {
        */
       public Builder clearCSendInput() {
         if (cSendInputBuilder_ == null) {
-          cSendInput_ = null;
-          onChanged();
+          if (payloadCase_ == 26) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cSendInput_ = null;
-          cSendInputBuilder_ = null;
+          if (payloadCase_ == 26) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cSendInputBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_SendInput c_sendInput = 26;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_SendInput.Builder getCSendInputBuilder() {
-        
-        onChanged();
         return getCSendInputFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_SendInput c_sendInput = 26;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_SendInputOrBuilder getCSendInputOrBuilder() {
-        if (cSendInputBuilder_ != null) {
+        if ((payloadCase_ == 26) && (cSendInputBuilder_ != null)) {
           return cSendInputBuilder_.getMessageOrBuilder();
         } else {
-          return cSendInput_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_SendInput.getDefaultInstance() : cSendInput_;
+          if (payloadCase_ == 26) {
+            return (io.github.portlek.synergy.proto.Commands.C_SendInput) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_SendInput.getDefaultInstance();
         }
       }
       /**
@@ -31638,35 +35504,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_SendInput, io.github.portlek.synergy.proto.Commands.C_SendInput.Builder, io.github.portlek.synergy.proto.Commands.C_SendInputOrBuilder> 
           getCSendInputFieldBuilder() {
         if (cSendInputBuilder_ == null) {
+          if (!(payloadCase_ == 26)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_SendInput.getDefaultInstance();
+          }
           cSendInputBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_SendInput, io.github.portlek.synergy.proto.Commands.C_SendInput.Builder, io.github.portlek.synergy.proto.Commands.C_SendInputOrBuilder>(
-                  getCSendInput(),
+                  (io.github.portlek.synergy.proto.Commands.C_SendInput) payload_,
                   getParentForChildren(),
                   isClean());
-          cSendInput_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 26;
+        onChanged();;
         return cSendInputBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_AttachConsole cAttachConsole_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_AttachConsole, io.github.portlek.synergy.proto.Commands.C_AttachConsole.Builder, io.github.portlek.synergy.proto.Commands.C_AttachConsoleOrBuilder> cAttachConsoleBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_AttachConsole c_attachConsole = 27;</code>
        * @return Whether the cAttachConsole field is set.
        */
+      @java.lang.Override
       public boolean hasCAttachConsole() {
-        return cAttachConsoleBuilder_ != null || cAttachConsole_ != null;
+        return payloadCase_ == 27;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_AttachConsole c_attachConsole = 27;</code>
        * @return The cAttachConsole.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_AttachConsole getCAttachConsole() {
         if (cAttachConsoleBuilder_ == null) {
-          return cAttachConsole_ == null ? io.github.portlek.synergy.proto.Commands.C_AttachConsole.getDefaultInstance() : cAttachConsole_;
+          if (payloadCase_ == 27) {
+            return (io.github.portlek.synergy.proto.Commands.C_AttachConsole) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_AttachConsole.getDefaultInstance();
         } else {
-          return cAttachConsoleBuilder_.getMessage();
+          if (payloadCase_ == 27) {
+            return cAttachConsoleBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_AttachConsole.getDefaultInstance();
         }
       }
       /**
@@ -31677,12 +35555,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cAttachConsole_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cAttachConsoleBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 27;
         return this;
       }
       /**
@@ -31691,12 +35569,12 @@ public final class Commands {
       public Builder setCAttachConsole(
           io.github.portlek.synergy.proto.Commands.C_AttachConsole.Builder builderForValue) {
         if (cAttachConsoleBuilder_ == null) {
-          cAttachConsole_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cAttachConsoleBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 27;
         return this;
       }
       /**
@@ -31704,17 +35582,21 @@ public final class Commands {
        */
       public Builder mergeCAttachConsole(io.github.portlek.synergy.proto.Commands.C_AttachConsole value) {
         if (cAttachConsoleBuilder_ == null) {
-          if (cAttachConsole_ != null) {
-            cAttachConsole_ =
-              io.github.portlek.synergy.proto.Commands.C_AttachConsole.newBuilder(cAttachConsole_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 27 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_AttachConsole.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_AttachConsole.newBuilder((io.github.portlek.synergy.proto.Commands.C_AttachConsole) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cAttachConsole_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cAttachConsoleBuilder_.mergeFrom(value);
+          if (payloadCase_ == 27) {
+            cAttachConsoleBuilder_.mergeFrom(value);
+          }
+          cAttachConsoleBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 27;
         return this;
       }
       /**
@@ -31722,32 +35604,38 @@ public final class Commands {
        */
       public Builder clearCAttachConsole() {
         if (cAttachConsoleBuilder_ == null) {
-          cAttachConsole_ = null;
-          onChanged();
+          if (payloadCase_ == 27) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cAttachConsole_ = null;
-          cAttachConsoleBuilder_ = null;
+          if (payloadCase_ == 27) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cAttachConsoleBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_AttachConsole c_attachConsole = 27;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_AttachConsole.Builder getCAttachConsoleBuilder() {
-        
-        onChanged();
         return getCAttachConsoleFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_AttachConsole c_attachConsole = 27;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_AttachConsoleOrBuilder getCAttachConsoleOrBuilder() {
-        if (cAttachConsoleBuilder_ != null) {
+        if ((payloadCase_ == 27) && (cAttachConsoleBuilder_ != null)) {
           return cAttachConsoleBuilder_.getMessageOrBuilder();
         } else {
-          return cAttachConsole_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_AttachConsole.getDefaultInstance() : cAttachConsole_;
+          if (payloadCase_ == 27) {
+            return (io.github.portlek.synergy.proto.Commands.C_AttachConsole) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_AttachConsole.getDefaultInstance();
         }
       }
       /**
@@ -31757,35 +35645,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_AttachConsole, io.github.portlek.synergy.proto.Commands.C_AttachConsole.Builder, io.github.portlek.synergy.proto.Commands.C_AttachConsoleOrBuilder> 
           getCAttachConsoleFieldBuilder() {
         if (cAttachConsoleBuilder_ == null) {
+          if (!(payloadCase_ == 27)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_AttachConsole.getDefaultInstance();
+          }
           cAttachConsoleBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_AttachConsole, io.github.portlek.synergy.proto.Commands.C_AttachConsole.Builder, io.github.portlek.synergy.proto.Commands.C_AttachConsoleOrBuilder>(
-                  getCAttachConsole(),
+                  (io.github.portlek.synergy.proto.Commands.C_AttachConsole) payload_,
                   getParentForChildren(),
                   isClean());
-          cAttachConsole_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 27;
+        onChanged();;
         return cAttachConsoleBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_ConsoleAttached cConsoleAttached_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_ConsoleAttached, io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.Builder, io.github.portlek.synergy.proto.Commands.C_ConsoleAttachedOrBuilder> cConsoleAttachedBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_ConsoleAttached c_consoleAttached = 28;</code>
        * @return Whether the cConsoleAttached field is set.
        */
+      @java.lang.Override
       public boolean hasCConsoleAttached() {
-        return cConsoleAttachedBuilder_ != null || cConsoleAttached_ != null;
+        return payloadCase_ == 28;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_ConsoleAttached c_consoleAttached = 28;</code>
        * @return The cConsoleAttached.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_ConsoleAttached getCConsoleAttached() {
         if (cConsoleAttachedBuilder_ == null) {
-          return cConsoleAttached_ == null ? io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.getDefaultInstance() : cConsoleAttached_;
+          if (payloadCase_ == 28) {
+            return (io.github.portlek.synergy.proto.Commands.C_ConsoleAttached) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.getDefaultInstance();
         } else {
-          return cConsoleAttachedBuilder_.getMessage();
+          if (payloadCase_ == 28) {
+            return cConsoleAttachedBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.getDefaultInstance();
         }
       }
       /**
@@ -31796,12 +35696,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cConsoleAttached_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cConsoleAttachedBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 28;
         return this;
       }
       /**
@@ -31810,12 +35710,12 @@ public final class Commands {
       public Builder setCConsoleAttached(
           io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.Builder builderForValue) {
         if (cConsoleAttachedBuilder_ == null) {
-          cConsoleAttached_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cConsoleAttachedBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 28;
         return this;
       }
       /**
@@ -31823,17 +35723,21 @@ public final class Commands {
        */
       public Builder mergeCConsoleAttached(io.github.portlek.synergy.proto.Commands.C_ConsoleAttached value) {
         if (cConsoleAttachedBuilder_ == null) {
-          if (cConsoleAttached_ != null) {
-            cConsoleAttached_ =
-              io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.newBuilder(cConsoleAttached_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 28 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.newBuilder((io.github.portlek.synergy.proto.Commands.C_ConsoleAttached) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cConsoleAttached_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cConsoleAttachedBuilder_.mergeFrom(value);
+          if (payloadCase_ == 28) {
+            cConsoleAttachedBuilder_.mergeFrom(value);
+          }
+          cConsoleAttachedBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 28;
         return this;
       }
       /**
@@ -31841,32 +35745,38 @@ public final class Commands {
        */
       public Builder clearCConsoleAttached() {
         if (cConsoleAttachedBuilder_ == null) {
-          cConsoleAttached_ = null;
-          onChanged();
+          if (payloadCase_ == 28) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cConsoleAttached_ = null;
-          cConsoleAttachedBuilder_ = null;
+          if (payloadCase_ == 28) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cConsoleAttachedBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_ConsoleAttached c_consoleAttached = 28;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.Builder getCConsoleAttachedBuilder() {
-        
-        onChanged();
         return getCConsoleAttachedFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_ConsoleAttached c_consoleAttached = 28;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_ConsoleAttachedOrBuilder getCConsoleAttachedOrBuilder() {
-        if (cConsoleAttachedBuilder_ != null) {
+        if ((payloadCase_ == 28) && (cConsoleAttachedBuilder_ != null)) {
           return cConsoleAttachedBuilder_.getMessageOrBuilder();
         } else {
-          return cConsoleAttached_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.getDefaultInstance() : cConsoleAttached_;
+          if (payloadCase_ == 28) {
+            return (io.github.portlek.synergy.proto.Commands.C_ConsoleAttached) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.getDefaultInstance();
         }
       }
       /**
@@ -31876,35 +35786,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_ConsoleAttached, io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.Builder, io.github.portlek.synergy.proto.Commands.C_ConsoleAttachedOrBuilder> 
           getCConsoleAttachedFieldBuilder() {
         if (cConsoleAttachedBuilder_ == null) {
+          if (!(payloadCase_ == 28)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.getDefaultInstance();
+          }
           cConsoleAttachedBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_ConsoleAttached, io.github.portlek.synergy.proto.Commands.C_ConsoleAttached.Builder, io.github.portlek.synergy.proto.Commands.C_ConsoleAttachedOrBuilder>(
-                  getCConsoleAttached(),
+                  (io.github.portlek.synergy.proto.Commands.C_ConsoleAttached) payload_,
                   getParentForChildren(),
                   isClean());
-          cConsoleAttached_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 28;
+        onChanged();;
         return cConsoleAttachedBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_ConsoleMessage cConsoleMessage_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_ConsoleMessage, io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.Builder, io.github.portlek.synergy.proto.Commands.C_ConsoleMessageOrBuilder> cConsoleMessageBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_ConsoleMessage c_consoleMessage = 29;</code>
        * @return Whether the cConsoleMessage field is set.
        */
+      @java.lang.Override
       public boolean hasCConsoleMessage() {
-        return cConsoleMessageBuilder_ != null || cConsoleMessage_ != null;
+        return payloadCase_ == 29;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_ConsoleMessage c_consoleMessage = 29;</code>
        * @return The cConsoleMessage.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_ConsoleMessage getCConsoleMessage() {
         if (cConsoleMessageBuilder_ == null) {
-          return cConsoleMessage_ == null ? io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.getDefaultInstance() : cConsoleMessage_;
+          if (payloadCase_ == 29) {
+            return (io.github.portlek.synergy.proto.Commands.C_ConsoleMessage) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.getDefaultInstance();
         } else {
-          return cConsoleMessageBuilder_.getMessage();
+          if (payloadCase_ == 29) {
+            return cConsoleMessageBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.getDefaultInstance();
         }
       }
       /**
@@ -31915,12 +35837,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cConsoleMessage_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cConsoleMessageBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 29;
         return this;
       }
       /**
@@ -31929,12 +35851,12 @@ public final class Commands {
       public Builder setCConsoleMessage(
           io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.Builder builderForValue) {
         if (cConsoleMessageBuilder_ == null) {
-          cConsoleMessage_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cConsoleMessageBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 29;
         return this;
       }
       /**
@@ -31942,17 +35864,21 @@ public final class Commands {
        */
       public Builder mergeCConsoleMessage(io.github.portlek.synergy.proto.Commands.C_ConsoleMessage value) {
         if (cConsoleMessageBuilder_ == null) {
-          if (cConsoleMessage_ != null) {
-            cConsoleMessage_ =
-              io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.newBuilder(cConsoleMessage_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 29 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.newBuilder((io.github.portlek.synergy.proto.Commands.C_ConsoleMessage) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cConsoleMessage_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cConsoleMessageBuilder_.mergeFrom(value);
+          if (payloadCase_ == 29) {
+            cConsoleMessageBuilder_.mergeFrom(value);
+          }
+          cConsoleMessageBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 29;
         return this;
       }
       /**
@@ -31960,32 +35886,38 @@ public final class Commands {
        */
       public Builder clearCConsoleMessage() {
         if (cConsoleMessageBuilder_ == null) {
-          cConsoleMessage_ = null;
-          onChanged();
+          if (payloadCase_ == 29) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cConsoleMessage_ = null;
-          cConsoleMessageBuilder_ = null;
+          if (payloadCase_ == 29) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cConsoleMessageBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_ConsoleMessage c_consoleMessage = 29;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.Builder getCConsoleMessageBuilder() {
-        
-        onChanged();
         return getCConsoleMessageFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_ConsoleMessage c_consoleMessage = 29;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_ConsoleMessageOrBuilder getCConsoleMessageOrBuilder() {
-        if (cConsoleMessageBuilder_ != null) {
+        if ((payloadCase_ == 29) && (cConsoleMessageBuilder_ != null)) {
           return cConsoleMessageBuilder_.getMessageOrBuilder();
         } else {
-          return cConsoleMessage_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.getDefaultInstance() : cConsoleMessage_;
+          if (payloadCase_ == 29) {
+            return (io.github.portlek.synergy.proto.Commands.C_ConsoleMessage) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.getDefaultInstance();
         }
       }
       /**
@@ -31995,35 +35927,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_ConsoleMessage, io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.Builder, io.github.portlek.synergy.proto.Commands.C_ConsoleMessageOrBuilder> 
           getCConsoleMessageFieldBuilder() {
         if (cConsoleMessageBuilder_ == null) {
+          if (!(payloadCase_ == 29)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.getDefaultInstance();
+          }
           cConsoleMessageBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_ConsoleMessage, io.github.portlek.synergy.proto.Commands.C_ConsoleMessage.Builder, io.github.portlek.synergy.proto.Commands.C_ConsoleMessageOrBuilder>(
-                  getCConsoleMessage(),
+                  (io.github.portlek.synergy.proto.Commands.C_ConsoleMessage) payload_,
                   getParentForChildren(),
                   isClean());
-          cConsoleMessage_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 29;
+        onChanged();;
         return cConsoleMessageBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_ConsoleDetached cConsoleDetached_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_ConsoleDetached, io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.Builder, io.github.portlek.synergy.proto.Commands.C_ConsoleDetachedOrBuilder> cConsoleDetachedBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_ConsoleDetached c_consoleDetached = 30;</code>
        * @return Whether the cConsoleDetached field is set.
        */
+      @java.lang.Override
       public boolean hasCConsoleDetached() {
-        return cConsoleDetachedBuilder_ != null || cConsoleDetached_ != null;
+        return payloadCase_ == 30;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_ConsoleDetached c_consoleDetached = 30;</code>
        * @return The cConsoleDetached.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_ConsoleDetached getCConsoleDetached() {
         if (cConsoleDetachedBuilder_ == null) {
-          return cConsoleDetached_ == null ? io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.getDefaultInstance() : cConsoleDetached_;
+          if (payloadCase_ == 30) {
+            return (io.github.portlek.synergy.proto.Commands.C_ConsoleDetached) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.getDefaultInstance();
         } else {
-          return cConsoleDetachedBuilder_.getMessage();
+          if (payloadCase_ == 30) {
+            return cConsoleDetachedBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.getDefaultInstance();
         }
       }
       /**
@@ -32034,12 +35978,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cConsoleDetached_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cConsoleDetachedBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 30;
         return this;
       }
       /**
@@ -32048,12 +35992,12 @@ public final class Commands {
       public Builder setCConsoleDetached(
           io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.Builder builderForValue) {
         if (cConsoleDetachedBuilder_ == null) {
-          cConsoleDetached_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cConsoleDetachedBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 30;
         return this;
       }
       /**
@@ -32061,17 +36005,21 @@ public final class Commands {
        */
       public Builder mergeCConsoleDetached(io.github.portlek.synergy.proto.Commands.C_ConsoleDetached value) {
         if (cConsoleDetachedBuilder_ == null) {
-          if (cConsoleDetached_ != null) {
-            cConsoleDetached_ =
-              io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.newBuilder(cConsoleDetached_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 30 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.newBuilder((io.github.portlek.synergy.proto.Commands.C_ConsoleDetached) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cConsoleDetached_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cConsoleDetachedBuilder_.mergeFrom(value);
+          if (payloadCase_ == 30) {
+            cConsoleDetachedBuilder_.mergeFrom(value);
+          }
+          cConsoleDetachedBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 30;
         return this;
       }
       /**
@@ -32079,32 +36027,38 @@ public final class Commands {
        */
       public Builder clearCConsoleDetached() {
         if (cConsoleDetachedBuilder_ == null) {
-          cConsoleDetached_ = null;
-          onChanged();
+          if (payloadCase_ == 30) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cConsoleDetached_ = null;
-          cConsoleDetachedBuilder_ = null;
+          if (payloadCase_ == 30) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cConsoleDetachedBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_ConsoleDetached c_consoleDetached = 30;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.Builder getCConsoleDetachedBuilder() {
-        
-        onChanged();
         return getCConsoleDetachedFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_ConsoleDetached c_consoleDetached = 30;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_ConsoleDetachedOrBuilder getCConsoleDetachedOrBuilder() {
-        if (cConsoleDetachedBuilder_ != null) {
+        if ((payloadCase_ == 30) && (cConsoleDetachedBuilder_ != null)) {
           return cConsoleDetachedBuilder_.getMessageOrBuilder();
         } else {
-          return cConsoleDetached_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.getDefaultInstance() : cConsoleDetached_;
+          if (payloadCase_ == 30) {
+            return (io.github.portlek.synergy.proto.Commands.C_ConsoleDetached) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.getDefaultInstance();
         }
       }
       /**
@@ -32114,35 +36068,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_ConsoleDetached, io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.Builder, io.github.portlek.synergy.proto.Commands.C_ConsoleDetachedOrBuilder> 
           getCConsoleDetachedFieldBuilder() {
         if (cConsoleDetachedBuilder_ == null) {
+          if (!(payloadCase_ == 30)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.getDefaultInstance();
+          }
           cConsoleDetachedBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_ConsoleDetached, io.github.portlek.synergy.proto.Commands.C_ConsoleDetached.Builder, io.github.portlek.synergy.proto.Commands.C_ConsoleDetachedOrBuilder>(
-                  getCConsoleDetached(),
+                  (io.github.portlek.synergy.proto.Commands.C_ConsoleDetached) payload_,
                   getParentForChildren(),
                   isClean());
-          cConsoleDetached_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 30;
+        onChanged();;
         return cConsoleDetachedBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_DetachConsole cDetachConsole_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_DetachConsole, io.github.portlek.synergy.proto.Commands.C_DetachConsole.Builder, io.github.portlek.synergy.proto.Commands.C_DetachConsoleOrBuilder> cDetachConsoleBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_DetachConsole c_detachConsole = 31;</code>
        * @return Whether the cDetachConsole field is set.
        */
+      @java.lang.Override
       public boolean hasCDetachConsole() {
-        return cDetachConsoleBuilder_ != null || cDetachConsole_ != null;
+        return payloadCase_ == 31;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_DetachConsole c_detachConsole = 31;</code>
        * @return The cDetachConsole.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_DetachConsole getCDetachConsole() {
         if (cDetachConsoleBuilder_ == null) {
-          return cDetachConsole_ == null ? io.github.portlek.synergy.proto.Commands.C_DetachConsole.getDefaultInstance() : cDetachConsole_;
+          if (payloadCase_ == 31) {
+            return (io.github.portlek.synergy.proto.Commands.C_DetachConsole) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_DetachConsole.getDefaultInstance();
         } else {
-          return cDetachConsoleBuilder_.getMessage();
+          if (payloadCase_ == 31) {
+            return cDetachConsoleBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_DetachConsole.getDefaultInstance();
         }
       }
       /**
@@ -32153,12 +36119,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cDetachConsole_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cDetachConsoleBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 31;
         return this;
       }
       /**
@@ -32167,12 +36133,12 @@ public final class Commands {
       public Builder setCDetachConsole(
           io.github.portlek.synergy.proto.Commands.C_DetachConsole.Builder builderForValue) {
         if (cDetachConsoleBuilder_ == null) {
-          cDetachConsole_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cDetachConsoleBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 31;
         return this;
       }
       /**
@@ -32180,17 +36146,21 @@ public final class Commands {
        */
       public Builder mergeCDetachConsole(io.github.portlek.synergy.proto.Commands.C_DetachConsole value) {
         if (cDetachConsoleBuilder_ == null) {
-          if (cDetachConsole_ != null) {
-            cDetachConsole_ =
-              io.github.portlek.synergy.proto.Commands.C_DetachConsole.newBuilder(cDetachConsole_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 31 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_DetachConsole.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_DetachConsole.newBuilder((io.github.portlek.synergy.proto.Commands.C_DetachConsole) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cDetachConsole_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cDetachConsoleBuilder_.mergeFrom(value);
+          if (payloadCase_ == 31) {
+            cDetachConsoleBuilder_.mergeFrom(value);
+          }
+          cDetachConsoleBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 31;
         return this;
       }
       /**
@@ -32198,32 +36168,38 @@ public final class Commands {
        */
       public Builder clearCDetachConsole() {
         if (cDetachConsoleBuilder_ == null) {
-          cDetachConsole_ = null;
-          onChanged();
+          if (payloadCase_ == 31) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cDetachConsole_ = null;
-          cDetachConsoleBuilder_ = null;
+          if (payloadCase_ == 31) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cDetachConsoleBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_DetachConsole c_detachConsole = 31;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_DetachConsole.Builder getCDetachConsoleBuilder() {
-        
-        onChanged();
         return getCDetachConsoleFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_DetachConsole c_detachConsole = 31;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_DetachConsoleOrBuilder getCDetachConsoleOrBuilder() {
-        if (cDetachConsoleBuilder_ != null) {
+        if ((payloadCase_ == 31) && (cDetachConsoleBuilder_ != null)) {
           return cDetachConsoleBuilder_.getMessageOrBuilder();
         } else {
-          return cDetachConsole_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_DetachConsole.getDefaultInstance() : cDetachConsole_;
+          if (payloadCase_ == 31) {
+            return (io.github.portlek.synergy.proto.Commands.C_DetachConsole) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_DetachConsole.getDefaultInstance();
         }
       }
       /**
@@ -32233,35 +36209,47 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_DetachConsole, io.github.portlek.synergy.proto.Commands.C_DetachConsole.Builder, io.github.portlek.synergy.proto.Commands.C_DetachConsoleOrBuilder> 
           getCDetachConsoleFieldBuilder() {
         if (cDetachConsoleBuilder_ == null) {
+          if (!(payloadCase_ == 31)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_DetachConsole.getDefaultInstance();
+          }
           cDetachConsoleBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_DetachConsole, io.github.portlek.synergy.proto.Commands.C_DetachConsole.Builder, io.github.portlek.synergy.proto.Commands.C_DetachConsoleOrBuilder>(
-                  getCDetachConsole(),
+                  (io.github.portlek.synergy.proto.Commands.C_DetachConsole) payload_,
                   getParentForChildren(),
                   isClean());
-          cDetachConsole_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 31;
+        onChanged();;
         return cDetachConsoleBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_FreezeServer cFreezeServer_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_FreezeServer, io.github.portlek.synergy.proto.Commands.C_FreezeServer.Builder, io.github.portlek.synergy.proto.Commands.C_FreezeServerOrBuilder> cFreezeServerBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_FreezeServer c_freezeServer = 32;</code>
        * @return Whether the cFreezeServer field is set.
        */
+      @java.lang.Override
       public boolean hasCFreezeServer() {
-        return cFreezeServerBuilder_ != null || cFreezeServer_ != null;
+        return payloadCase_ == 32;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_FreezeServer c_freezeServer = 32;</code>
        * @return The cFreezeServer.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_FreezeServer getCFreezeServer() {
         if (cFreezeServerBuilder_ == null) {
-          return cFreezeServer_ == null ? io.github.portlek.synergy.proto.Commands.C_FreezeServer.getDefaultInstance() : cFreezeServer_;
+          if (payloadCase_ == 32) {
+            return (io.github.portlek.synergy.proto.Commands.C_FreezeServer) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_FreezeServer.getDefaultInstance();
         } else {
-          return cFreezeServerBuilder_.getMessage();
+          if (payloadCase_ == 32) {
+            return cFreezeServerBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_FreezeServer.getDefaultInstance();
         }
       }
       /**
@@ -32272,12 +36260,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cFreezeServer_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cFreezeServerBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 32;
         return this;
       }
       /**
@@ -32286,12 +36274,12 @@ public final class Commands {
       public Builder setCFreezeServer(
           io.github.portlek.synergy.proto.Commands.C_FreezeServer.Builder builderForValue) {
         if (cFreezeServerBuilder_ == null) {
-          cFreezeServer_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cFreezeServerBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 32;
         return this;
       }
       /**
@@ -32299,17 +36287,21 @@ public final class Commands {
        */
       public Builder mergeCFreezeServer(io.github.portlek.synergy.proto.Commands.C_FreezeServer value) {
         if (cFreezeServerBuilder_ == null) {
-          if (cFreezeServer_ != null) {
-            cFreezeServer_ =
-              io.github.portlek.synergy.proto.Commands.C_FreezeServer.newBuilder(cFreezeServer_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 32 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_FreezeServer.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_FreezeServer.newBuilder((io.github.portlek.synergy.proto.Commands.C_FreezeServer) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cFreezeServer_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cFreezeServerBuilder_.mergeFrom(value);
+          if (payloadCase_ == 32) {
+            cFreezeServerBuilder_.mergeFrom(value);
+          }
+          cFreezeServerBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 32;
         return this;
       }
       /**
@@ -32317,32 +36309,38 @@ public final class Commands {
        */
       public Builder clearCFreezeServer() {
         if (cFreezeServerBuilder_ == null) {
-          cFreezeServer_ = null;
-          onChanged();
+          if (payloadCase_ == 32) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cFreezeServer_ = null;
-          cFreezeServerBuilder_ = null;
+          if (payloadCase_ == 32) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cFreezeServerBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_FreezeServer c_freezeServer = 32;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_FreezeServer.Builder getCFreezeServerBuilder() {
-        
-        onChanged();
         return getCFreezeServerFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_FreezeServer c_freezeServer = 32;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_FreezeServerOrBuilder getCFreezeServerOrBuilder() {
-        if (cFreezeServerBuilder_ != null) {
+        if ((payloadCase_ == 32) && (cFreezeServerBuilder_ != null)) {
           return cFreezeServerBuilder_.getMessageOrBuilder();
         } else {
-          return cFreezeServer_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_FreezeServer.getDefaultInstance() : cFreezeServer_;
+          if (payloadCase_ == 32) {
+            return (io.github.portlek.synergy.proto.Commands.C_FreezeServer) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_FreezeServer.getDefaultInstance();
         }
       }
       /**
@@ -32352,154 +36350,188 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_FreezeServer, io.github.portlek.synergy.proto.Commands.C_FreezeServer.Builder, io.github.portlek.synergy.proto.Commands.C_FreezeServerOrBuilder> 
           getCFreezeServerFieldBuilder() {
         if (cFreezeServerBuilder_ == null) {
+          if (!(payloadCase_ == 32)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_FreezeServer.getDefaultInstance();
+          }
           cFreezeServerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_FreezeServer, io.github.portlek.synergy.proto.Commands.C_FreezeServer.Builder, io.github.portlek.synergy.proto.Commands.C_FreezeServerOrBuilder>(
-                  getCFreezeServer(),
+                  (io.github.portlek.synergy.proto.Commands.C_FreezeServer) payload_,
                   getParentForChildren(),
                   isClean());
-          cFreezeServer_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 32;
+        onChanged();;
         return cFreezeServerBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_UploadPackage cUploadPackage_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_UploadPackage, io.github.portlek.synergy.proto.Commands.C_UploadPackage.Builder, io.github.portlek.synergy.proto.Commands.C_UploadPackageOrBuilder> cUploadPackageBuilder_;
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
        * @return Whether the cUploadPackage field is set.
        */
+      @java.lang.Override
       public boolean hasCUploadPackage() {
-        return cUploadPackageBuilder_ != null || cUploadPackage_ != null;
+        return payloadCase_ == 33;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
        * @return The cUploadPackage.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_UploadPackage getCUploadPackage() {
         if (cUploadPackageBuilder_ == null) {
-          return cUploadPackage_ == null ? io.github.portlek.synergy.proto.Commands.C_UploadPackage.getDefaultInstance() : cUploadPackage_;
+          if (payloadCase_ == 33) {
+            return (io.github.portlek.synergy.proto.Commands.C_UploadPackage) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_UploadPackage.getDefaultInstance();
         } else {
-          return cUploadPackageBuilder_.getMessage();
+          if (payloadCase_ == 33) {
+            return cUploadPackageBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_UploadPackage.getDefaultInstance();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
        */
       public Builder setCUploadPackage(io.github.portlek.synergy.proto.Commands.C_UploadPackage value) {
         if (cUploadPackageBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          cUploadPackage_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cUploadPackageBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 33;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
        */
       public Builder setCUploadPackage(
           io.github.portlek.synergy.proto.Commands.C_UploadPackage.Builder builderForValue) {
         if (cUploadPackageBuilder_ == null) {
-          cUploadPackage_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cUploadPackageBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 33;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
        */
       public Builder mergeCUploadPackage(io.github.portlek.synergy.proto.Commands.C_UploadPackage value) {
         if (cUploadPackageBuilder_ == null) {
-          if (cUploadPackage_ != null) {
-            cUploadPackage_ =
-              io.github.portlek.synergy.proto.Commands.C_UploadPackage.newBuilder(cUploadPackage_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 33 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_UploadPackage.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_UploadPackage.newBuilder((io.github.portlek.synergy.proto.Commands.C_UploadPackage) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cUploadPackage_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cUploadPackageBuilder_.mergeFrom(value);
+          if (payloadCase_ == 33) {
+            cUploadPackageBuilder_.mergeFrom(value);
+          }
+          cUploadPackageBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 33;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
        */
       public Builder clearCUploadPackage() {
         if (cUploadPackageBuilder_ == null) {
-          cUploadPackage_ = null;
-          onChanged();
+          if (payloadCase_ == 33) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cUploadPackage_ = null;
-          cUploadPackageBuilder_ = null;
+          if (payloadCase_ == 33) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cUploadPackageBuilder_.clear();
         }
-
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_UploadPackage.Builder getCUploadPackageBuilder() {
-        
-        onChanged();
         return getCUploadPackageFieldBuilder().getBuilder();
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_UploadPackageOrBuilder getCUploadPackageOrBuilder() {
-        if (cUploadPackageBuilder_ != null) {
+        if ((payloadCase_ == 33) && (cUploadPackageBuilder_ != null)) {
           return cUploadPackageBuilder_.getMessageOrBuilder();
         } else {
-          return cUploadPackage_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_UploadPackage.getDefaultInstance() : cUploadPackage_;
+          if (payloadCase_ == 33) {
+            return (io.github.portlek.synergy.proto.Commands.C_UploadPackage) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_UploadPackage.getDefaultInstance();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadPackage c_uploadPackage = 33 [lazy = true];</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_UploadPackage, io.github.portlek.synergy.proto.Commands.C_UploadPackage.Builder, io.github.portlek.synergy.proto.Commands.C_UploadPackageOrBuilder> 
           getCUploadPackageFieldBuilder() {
         if (cUploadPackageBuilder_ == null) {
+          if (!(payloadCase_ == 33)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_UploadPackage.getDefaultInstance();
+          }
           cUploadPackageBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_UploadPackage, io.github.portlek.synergy.proto.Commands.C_UploadPackage.Builder, io.github.portlek.synergy.proto.Commands.C_UploadPackageOrBuilder>(
-                  getCUploadPackage(),
+                  (io.github.portlek.synergy.proto.Commands.C_UploadPackage) payload_,
                   getParentForChildren(),
                   isClean());
-          cUploadPackage_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 33;
+        onChanged();;
         return cUploadPackageBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_Ack cAck_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_Ack, io.github.portlek.synergy.proto.Commands.C_Ack.Builder, io.github.portlek.synergy.proto.Commands.C_AckOrBuilder> cAckBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_Ack c_ack = 34;</code>
        * @return Whether the cAck field is set.
        */
+      @java.lang.Override
       public boolean hasCAck() {
-        return cAckBuilder_ != null || cAck_ != null;
+        return payloadCase_ == 34;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_Ack c_ack = 34;</code>
        * @return The cAck.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_Ack getCAck() {
         if (cAckBuilder_ == null) {
-          return cAck_ == null ? io.github.portlek.synergy.proto.Commands.C_Ack.getDefaultInstance() : cAck_;
+          if (payloadCase_ == 34) {
+            return (io.github.portlek.synergy.proto.Commands.C_Ack) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_Ack.getDefaultInstance();
         } else {
-          return cAckBuilder_.getMessage();
+          if (payloadCase_ == 34) {
+            return cAckBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_Ack.getDefaultInstance();
         }
       }
       /**
@@ -32510,12 +36542,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cAck_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cAckBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 34;
         return this;
       }
       /**
@@ -32524,12 +36556,12 @@ public final class Commands {
       public Builder setCAck(
           io.github.portlek.synergy.proto.Commands.C_Ack.Builder builderForValue) {
         if (cAckBuilder_ == null) {
-          cAck_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cAckBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 34;
         return this;
       }
       /**
@@ -32537,17 +36569,21 @@ public final class Commands {
        */
       public Builder mergeCAck(io.github.portlek.synergy.proto.Commands.C_Ack value) {
         if (cAckBuilder_ == null) {
-          if (cAck_ != null) {
-            cAck_ =
-              io.github.portlek.synergy.proto.Commands.C_Ack.newBuilder(cAck_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 34 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_Ack.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_Ack.newBuilder((io.github.portlek.synergy.proto.Commands.C_Ack) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cAck_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cAckBuilder_.mergeFrom(value);
+          if (payloadCase_ == 34) {
+            cAckBuilder_.mergeFrom(value);
+          }
+          cAckBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 34;
         return this;
       }
       /**
@@ -32555,32 +36591,38 @@ public final class Commands {
        */
       public Builder clearCAck() {
         if (cAckBuilder_ == null) {
-          cAck_ = null;
-          onChanged();
+          if (payloadCase_ == 34) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cAck_ = null;
-          cAckBuilder_ = null;
+          if (payloadCase_ == 34) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cAckBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_Ack c_ack = 34;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_Ack.Builder getCAckBuilder() {
-        
-        onChanged();
         return getCAckFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_Ack c_ack = 34;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_AckOrBuilder getCAckOrBuilder() {
-        if (cAckBuilder_ != null) {
+        if ((payloadCase_ == 34) && (cAckBuilder_ != null)) {
           return cAckBuilder_.getMessageOrBuilder();
         } else {
-          return cAck_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_Ack.getDefaultInstance() : cAck_;
+          if (payloadCase_ == 34) {
+            return (io.github.portlek.synergy.proto.Commands.C_Ack) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_Ack.getDefaultInstance();
         }
       }
       /**
@@ -32590,273 +36632,329 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_Ack, io.github.portlek.synergy.proto.Commands.C_Ack.Builder, io.github.portlek.synergy.proto.Commands.C_AckOrBuilder> 
           getCAckFieldBuilder() {
         if (cAckBuilder_ == null) {
+          if (!(payloadCase_ == 34)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_Ack.getDefaultInstance();
+          }
           cAckBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_Ack, io.github.portlek.synergy.proto.Commands.C_Ack.Builder, io.github.portlek.synergy.proto.Commands.C_AckOrBuilder>(
-                  getCAck(),
+                  (io.github.portlek.synergy.proto.Commands.C_Ack) payload_,
                   getParentForChildren(),
                   isClean());
-          cAck_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 34;
+        onChanged();;
         return cAckBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_PackageList cPackageList_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_PackageList, io.github.portlek.synergy.proto.Commands.C_PackageList.Builder, io.github.portlek.synergy.proto.Commands.C_PackageListOrBuilder> cPackageListBuilder_;
       /**
-       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
        * @return Whether the cPackageList field is set.
        */
+      @java.lang.Override
       public boolean hasCPackageList() {
-        return cPackageListBuilder_ != null || cPackageList_ != null;
+        return payloadCase_ == 35;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
        * @return The cPackageList.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_PackageList getCPackageList() {
         if (cPackageListBuilder_ == null) {
-          return cPackageList_ == null ? io.github.portlek.synergy.proto.Commands.C_PackageList.getDefaultInstance() : cPackageList_;
+          if (payloadCase_ == 35) {
+            return (io.github.portlek.synergy.proto.Commands.C_PackageList) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_PackageList.getDefaultInstance();
         } else {
-          return cPackageListBuilder_.getMessage();
+          if (payloadCase_ == 35) {
+            return cPackageListBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_PackageList.getDefaultInstance();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
        */
       public Builder setCPackageList(io.github.portlek.synergy.proto.Commands.C_PackageList value) {
         if (cPackageListBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          cPackageList_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cPackageListBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 35;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
        */
       public Builder setCPackageList(
           io.github.portlek.synergy.proto.Commands.C_PackageList.Builder builderForValue) {
         if (cPackageListBuilder_ == null) {
-          cPackageList_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cPackageListBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 35;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
        */
       public Builder mergeCPackageList(io.github.portlek.synergy.proto.Commands.C_PackageList value) {
         if (cPackageListBuilder_ == null) {
-          if (cPackageList_ != null) {
-            cPackageList_ =
-              io.github.portlek.synergy.proto.Commands.C_PackageList.newBuilder(cPackageList_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 35 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_PackageList.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_PackageList.newBuilder((io.github.portlek.synergy.proto.Commands.C_PackageList) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cPackageList_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cPackageListBuilder_.mergeFrom(value);
+          if (payloadCase_ == 35) {
+            cPackageListBuilder_.mergeFrom(value);
+          }
+          cPackageListBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 35;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
        */
       public Builder clearCPackageList() {
         if (cPackageListBuilder_ == null) {
-          cPackageList_ = null;
-          onChanged();
+          if (payloadCase_ == 35) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cPackageList_ = null;
-          cPackageListBuilder_ = null;
+          if (payloadCase_ == 35) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cPackageListBuilder_.clear();
         }
-
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_PackageList.Builder getCPackageListBuilder() {
-        
-        onChanged();
         return getCPackageListFieldBuilder().getBuilder();
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_PackageListOrBuilder getCPackageListOrBuilder() {
-        if (cPackageListBuilder_ != null) {
+        if ((payloadCase_ == 35) && (cPackageListBuilder_ != null)) {
           return cPackageListBuilder_.getMessageOrBuilder();
         } else {
-          return cPackageList_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_PackageList.getDefaultInstance() : cPackageList_;
+          if (payloadCase_ == 35) {
+            return (io.github.portlek.synergy.proto.Commands.C_PackageList) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_PackageList.getDefaultInstance();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35;</code>
+       * <code>.io.github.portlek.synergy.proto.C_PackageList c_packageList = 35 [lazy = true];</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_PackageList, io.github.portlek.synergy.proto.Commands.C_PackageList.Builder, io.github.portlek.synergy.proto.Commands.C_PackageListOrBuilder> 
           getCPackageListFieldBuilder() {
         if (cPackageListBuilder_ == null) {
+          if (!(payloadCase_ == 35)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_PackageList.getDefaultInstance();
+          }
           cPackageListBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_PackageList, io.github.portlek.synergy.proto.Commands.C_PackageList.Builder, io.github.portlek.synergy.proto.Commands.C_PackageListOrBuilder>(
-                  getCPackageList(),
+                  (io.github.portlek.synergy.proto.Commands.C_PackageList) payload_,
                   getParentForChildren(),
                   isClean());
-          cPackageList_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 35;
+        onChanged();;
         return cPackageListBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage cUploadSplitPackage_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage, io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.Builder, io.github.portlek.synergy.proto.Commands.C_UploadSplitPackageOrBuilder> cUploadSplitPackageBuilder_;
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
        * @return Whether the cUploadSplitPackage field is set.
        */
+      @java.lang.Override
       public boolean hasCUploadSplitPackage() {
-        return cUploadSplitPackageBuilder_ != null || cUploadSplitPackage_ != null;
+        return payloadCase_ == 36;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
        * @return The cUploadSplitPackage.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage getCUploadSplitPackage() {
         if (cUploadSplitPackageBuilder_ == null) {
-          return cUploadSplitPackage_ == null ? io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.getDefaultInstance() : cUploadSplitPackage_;
+          if (payloadCase_ == 36) {
+            return (io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.getDefaultInstance();
         } else {
-          return cUploadSplitPackageBuilder_.getMessage();
+          if (payloadCase_ == 36) {
+            return cUploadSplitPackageBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.getDefaultInstance();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
        */
       public Builder setCUploadSplitPackage(io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage value) {
         if (cUploadSplitPackageBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          cUploadSplitPackage_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cUploadSplitPackageBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 36;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
        */
       public Builder setCUploadSplitPackage(
           io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.Builder builderForValue) {
         if (cUploadSplitPackageBuilder_ == null) {
-          cUploadSplitPackage_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cUploadSplitPackageBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 36;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
        */
       public Builder mergeCUploadSplitPackage(io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage value) {
         if (cUploadSplitPackageBuilder_ == null) {
-          if (cUploadSplitPackage_ != null) {
-            cUploadSplitPackage_ =
-              io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.newBuilder(cUploadSplitPackage_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 36 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.newBuilder((io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cUploadSplitPackage_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cUploadSplitPackageBuilder_.mergeFrom(value);
+          if (payloadCase_ == 36) {
+            cUploadSplitPackageBuilder_.mergeFrom(value);
+          }
+          cUploadSplitPackageBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 36;
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
        */
       public Builder clearCUploadSplitPackage() {
         if (cUploadSplitPackageBuilder_ == null) {
-          cUploadSplitPackage_ = null;
-          onChanged();
+          if (payloadCase_ == 36) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cUploadSplitPackage_ = null;
-          cUploadSplitPackageBuilder_ = null;
+          if (payloadCase_ == 36) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cUploadSplitPackageBuilder_.clear();
         }
-
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.Builder getCUploadSplitPackageBuilder() {
-        
-        onChanged();
         return getCUploadSplitPackageFieldBuilder().getBuilder();
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_UploadSplitPackageOrBuilder getCUploadSplitPackageOrBuilder() {
-        if (cUploadSplitPackageBuilder_ != null) {
+        if ((payloadCase_ == 36) && (cUploadSplitPackageBuilder_ != null)) {
           return cUploadSplitPackageBuilder_.getMessageOrBuilder();
         } else {
-          return cUploadSplitPackage_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.getDefaultInstance() : cUploadSplitPackage_;
+          if (payloadCase_ == 36) {
+            return (io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.getDefaultInstance();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36;</code>
+       * <code>.io.github.portlek.synergy.proto.C_UploadSplitPackage c_uploadSplitPackage = 36 [lazy = true];</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage, io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.Builder, io.github.portlek.synergy.proto.Commands.C_UploadSplitPackageOrBuilder> 
           getCUploadSplitPackageFieldBuilder() {
         if (cUploadSplitPackageBuilder_ == null) {
+          if (!(payloadCase_ == 36)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.getDefaultInstance();
+          }
           cUploadSplitPackageBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage, io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage.Builder, io.github.portlek.synergy.proto.Commands.C_UploadSplitPackageOrBuilder>(
-                  getCUploadSplitPackage(),
+                  (io.github.portlek.synergy.proto.Commands.C_UploadSplitPackage) payload_,
                   getParentForChildren(),
                   isClean());
-          cUploadSplitPackage_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 36;
+        onChanged();;
         return cUploadSplitPackageBuilder_;
       }
 
-      private io.github.portlek.synergy.proto.Commands.C_AccessDenied cAccessDenied_;
       private com.google.protobuf.SingleFieldBuilderV3<
           io.github.portlek.synergy.proto.Commands.C_AccessDenied, io.github.portlek.synergy.proto.Commands.C_AccessDenied.Builder, io.github.portlek.synergy.proto.Commands.C_AccessDeniedOrBuilder> cAccessDeniedBuilder_;
       /**
        * <code>.io.github.portlek.synergy.proto.C_AccessDenied c_accessDenied = 37;</code>
        * @return Whether the cAccessDenied field is set.
        */
+      @java.lang.Override
       public boolean hasCAccessDenied() {
-        return cAccessDeniedBuilder_ != null || cAccessDenied_ != null;
+        return payloadCase_ == 37;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_AccessDenied c_accessDenied = 37;</code>
        * @return The cAccessDenied.
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_AccessDenied getCAccessDenied() {
         if (cAccessDeniedBuilder_ == null) {
-          return cAccessDenied_ == null ? io.github.portlek.synergy.proto.Commands.C_AccessDenied.getDefaultInstance() : cAccessDenied_;
+          if (payloadCase_ == 37) {
+            return (io.github.portlek.synergy.proto.Commands.C_AccessDenied) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_AccessDenied.getDefaultInstance();
         } else {
-          return cAccessDeniedBuilder_.getMessage();
+          if (payloadCase_ == 37) {
+            return cAccessDeniedBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.C_AccessDenied.getDefaultInstance();
         }
       }
       /**
@@ -32867,12 +36965,12 @@ public final class Commands {
           if (value == null) {
             throw new NullPointerException();
           }
-          cAccessDenied_ = value;
+          payload_ = value;
           onChanged();
         } else {
           cAccessDeniedBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 37;
         return this;
       }
       /**
@@ -32881,12 +36979,12 @@ public final class Commands {
       public Builder setCAccessDenied(
           io.github.portlek.synergy.proto.Commands.C_AccessDenied.Builder builderForValue) {
         if (cAccessDeniedBuilder_ == null) {
-          cAccessDenied_ = builderForValue.build();
+          payload_ = builderForValue.build();
           onChanged();
         } else {
           cAccessDeniedBuilder_.setMessage(builderForValue.build());
         }
-
+        payloadCase_ = 37;
         return this;
       }
       /**
@@ -32894,17 +36992,21 @@ public final class Commands {
        */
       public Builder mergeCAccessDenied(io.github.portlek.synergy.proto.Commands.C_AccessDenied value) {
         if (cAccessDeniedBuilder_ == null) {
-          if (cAccessDenied_ != null) {
-            cAccessDenied_ =
-              io.github.portlek.synergy.proto.Commands.C_AccessDenied.newBuilder(cAccessDenied_).mergeFrom(value).buildPartial();
+          if (payloadCase_ == 37 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.C_AccessDenied.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_AccessDenied.newBuilder((io.github.portlek.synergy.proto.Commands.C_AccessDenied) payload_)
+                .mergeFrom(value).buildPartial();
           } else {
-            cAccessDenied_ = value;
+            payload_ = value;
           }
           onChanged();
         } else {
-          cAccessDeniedBuilder_.mergeFrom(value);
+          if (payloadCase_ == 37) {
+            cAccessDeniedBuilder_.mergeFrom(value);
+          }
+          cAccessDeniedBuilder_.setMessage(value);
         }
-
+        payloadCase_ = 37;
         return this;
       }
       /**
@@ -32912,32 +37014,38 @@ public final class Commands {
        */
       public Builder clearCAccessDenied() {
         if (cAccessDeniedBuilder_ == null) {
-          cAccessDenied_ = null;
-          onChanged();
+          if (payloadCase_ == 37) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
         } else {
-          cAccessDenied_ = null;
-          cAccessDeniedBuilder_ = null;
+          if (payloadCase_ == 37) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          cAccessDeniedBuilder_.clear();
         }
-
         return this;
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_AccessDenied c_accessDenied = 37;</code>
        */
       public io.github.portlek.synergy.proto.Commands.C_AccessDenied.Builder getCAccessDeniedBuilder() {
-        
-        onChanged();
         return getCAccessDeniedFieldBuilder().getBuilder();
       }
       /**
        * <code>.io.github.portlek.synergy.proto.C_AccessDenied c_accessDenied = 37;</code>
        */
+      @java.lang.Override
       public io.github.portlek.synergy.proto.Commands.C_AccessDeniedOrBuilder getCAccessDeniedOrBuilder() {
-        if (cAccessDeniedBuilder_ != null) {
+        if ((payloadCase_ == 37) && (cAccessDeniedBuilder_ != null)) {
           return cAccessDeniedBuilder_.getMessageOrBuilder();
         } else {
-          return cAccessDenied_ == null ?
-              io.github.portlek.synergy.proto.Commands.C_AccessDenied.getDefaultInstance() : cAccessDenied_;
+          if (payloadCase_ == 37) {
+            return (io.github.portlek.synergy.proto.Commands.C_AccessDenied) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.C_AccessDenied.getDefaultInstance();
         }
       }
       /**
@@ -32947,15 +37055,443 @@ public final class Commands {
           io.github.portlek.synergy.proto.Commands.C_AccessDenied, io.github.portlek.synergy.proto.Commands.C_AccessDenied.Builder, io.github.portlek.synergy.proto.Commands.C_AccessDeniedOrBuilder> 
           getCAccessDeniedFieldBuilder() {
         if (cAccessDeniedBuilder_ == null) {
+          if (!(payloadCase_ == 37)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.C_AccessDenied.getDefaultInstance();
+          }
           cAccessDeniedBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               io.github.portlek.synergy.proto.Commands.C_AccessDenied, io.github.portlek.synergy.proto.Commands.C_AccessDenied.Builder, io.github.portlek.synergy.proto.Commands.C_AccessDeniedOrBuilder>(
-                  getCAccessDenied(),
+                  (io.github.portlek.synergy.proto.Commands.C_AccessDenied) payload_,
                   getParentForChildren(),
                   isClean());
-          cAccessDenied_ = null;
+          payload_ = null;
         }
+        payloadCase_ = 37;
+        onChanged();;
         return cAccessDeniedBuilder_;
       }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.Commands.SyncResync, io.github.portlek.synergy.proto.Commands.SyncResync.Builder, io.github.portlek.synergy.proto.Commands.SyncResyncOrBuilder> syncResyncBuilder_;
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+       * @return Whether the syncResync field is set.
+       */
+      @java.lang.Override
+      public boolean hasSyncResync() {
+        return payloadCase_ == 38;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+       * @return The syncResync.
+       */
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.SyncResync getSyncResync() {
+        if (syncResyncBuilder_ == null) {
+          if (payloadCase_ == 38) {
+            return (io.github.portlek.synergy.proto.Commands.SyncResync) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.SyncResync.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 38) {
+            return syncResyncBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.SyncResync.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+       */
+      public Builder setSyncResync(io.github.portlek.synergy.proto.Commands.SyncResync value) {
+        if (syncResyncBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          syncResyncBuilder_.setMessage(value);
+        }
+        payloadCase_ = 38;
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+       */
+      public Builder setSyncResync(
+          io.github.portlek.synergy.proto.Commands.SyncResync.Builder builderForValue) {
+        if (syncResyncBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          syncResyncBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 38;
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+       */
+      public Builder mergeSyncResync(io.github.portlek.synergy.proto.Commands.SyncResync value) {
+        if (syncResyncBuilder_ == null) {
+          if (payloadCase_ == 38 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.SyncResync.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.SyncResync.newBuilder((io.github.portlek.synergy.proto.Commands.SyncResync) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 38) {
+            syncResyncBuilder_.mergeFrom(value);
+          }
+          syncResyncBuilder_.setMessage(value);
+        }
+        payloadCase_ = 38;
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+       */
+      public Builder clearSyncResync() {
+        if (syncResyncBuilder_ == null) {
+          if (payloadCase_ == 38) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 38) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          syncResyncBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+       */
+      public io.github.portlek.synergy.proto.Commands.SyncResync.Builder getSyncResyncBuilder() {
+        return getSyncResyncFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+       */
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.SyncResyncOrBuilder getSyncResyncOrBuilder() {
+        if ((payloadCase_ == 38) && (syncResyncBuilder_ != null)) {
+          return syncResyncBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 38) {
+            return (io.github.portlek.synergy.proto.Commands.SyncResync) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.SyncResync.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncResync syncResync = 38;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.Commands.SyncResync, io.github.portlek.synergy.proto.Commands.SyncResync.Builder, io.github.portlek.synergy.proto.Commands.SyncResyncOrBuilder> 
+          getSyncResyncFieldBuilder() {
+        if (syncResyncBuilder_ == null) {
+          if (!(payloadCase_ == 38)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.SyncResync.getDefaultInstance();
+          }
+          syncResyncBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.portlek.synergy.proto.Commands.SyncResync, io.github.portlek.synergy.proto.Commands.SyncResync.Builder, io.github.portlek.synergy.proto.Commands.SyncResyncOrBuilder>(
+                  (io.github.portlek.synergy.proto.Commands.SyncResync) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 38;
+        onChanged();;
+        return syncResyncBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.Commands.SplitPackageAck, io.github.portlek.synergy.proto.Commands.SplitPackageAck.Builder, io.github.portlek.synergy.proto.Commands.SplitPackageAckOrBuilder> splitPackageAckBuilder_;
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+       * @return Whether the splitPackageAck field is set.
+       */
+      @java.lang.Override
+      public boolean hasSplitPackageAck() {
+        return payloadCase_ == 39;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+       * @return The splitPackageAck.
+       */
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.SplitPackageAck getSplitPackageAck() {
+        if (splitPackageAckBuilder_ == null) {
+          if (payloadCase_ == 39) {
+            return (io.github.portlek.synergy.proto.Commands.SplitPackageAck) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.SplitPackageAck.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 39) {
+            return splitPackageAckBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.SplitPackageAck.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+       */
+      public Builder setSplitPackageAck(io.github.portlek.synergy.proto.Commands.SplitPackageAck value) {
+        if (splitPackageAckBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          splitPackageAckBuilder_.setMessage(value);
+        }
+        payloadCase_ = 39;
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+       */
+      public Builder setSplitPackageAck(
+          io.github.portlek.synergy.proto.Commands.SplitPackageAck.Builder builderForValue) {
+        if (splitPackageAckBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          splitPackageAckBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 39;
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+       */
+      public Builder mergeSplitPackageAck(io.github.portlek.synergy.proto.Commands.SplitPackageAck value) {
+        if (splitPackageAckBuilder_ == null) {
+          if (payloadCase_ == 39 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.SplitPackageAck.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.SplitPackageAck.newBuilder((io.github.portlek.synergy.proto.Commands.SplitPackageAck) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 39) {
+            splitPackageAckBuilder_.mergeFrom(value);
+          }
+          splitPackageAckBuilder_.setMessage(value);
+        }
+        payloadCase_ = 39;
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+       */
+      public Builder clearSplitPackageAck() {
+        if (splitPackageAckBuilder_ == null) {
+          if (payloadCase_ == 39) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 39) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          splitPackageAckBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+       */
+      public io.github.portlek.synergy.proto.Commands.SplitPackageAck.Builder getSplitPackageAckBuilder() {
+        return getSplitPackageAckFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+       */
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.SplitPackageAckOrBuilder getSplitPackageAckOrBuilder() {
+        if ((payloadCase_ == 39) && (splitPackageAckBuilder_ != null)) {
+          return splitPackageAckBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 39) {
+            return (io.github.portlek.synergy.proto.Commands.SplitPackageAck) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.SplitPackageAck.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SplitPackageAck splitPackageAck = 39;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.Commands.SplitPackageAck, io.github.portlek.synergy.proto.Commands.SplitPackageAck.Builder, io.github.portlek.synergy.proto.Commands.SplitPackageAckOrBuilder> 
+          getSplitPackageAckFieldBuilder() {
+        if (splitPackageAckBuilder_ == null) {
+          if (!(payloadCase_ == 39)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.SplitPackageAck.getDefaultInstance();
+          }
+          splitPackageAckBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.portlek.synergy.proto.Commands.SplitPackageAck, io.github.portlek.synergy.proto.Commands.SplitPackageAck.Builder, io.github.portlek.synergy.proto.Commands.SplitPackageAckOrBuilder>(
+                  (io.github.portlek.synergy.proto.Commands.SplitPackageAck) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 39;
+        onChanged();;
+        return splitPackageAckBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.Commands.SyncAck, io.github.portlek.synergy.proto.Commands.SyncAck.Builder, io.github.portlek.synergy.proto.Commands.SyncAckOrBuilder> syncAckBuilder_;
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+       * @return Whether the syncAck field is set.
+       */
+      @java.lang.Override
+      public boolean hasSyncAck() {
+        return payloadCase_ == 40;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+       * @return The syncAck.
+       */
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.SyncAck getSyncAck() {
+        if (syncAckBuilder_ == null) {
+          if (payloadCase_ == 40) {
+            return (io.github.portlek.synergy.proto.Commands.SyncAck) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.SyncAck.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 40) {
+            return syncAckBuilder_.getMessage();
+          }
+          return io.github.portlek.synergy.proto.Commands.SyncAck.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+       */
+      public Builder setSyncAck(io.github.portlek.synergy.proto.Commands.SyncAck value) {
+        if (syncAckBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          syncAckBuilder_.setMessage(value);
+        }
+        payloadCase_ = 40;
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+       */
+      public Builder setSyncAck(
+          io.github.portlek.synergy.proto.Commands.SyncAck.Builder builderForValue) {
+        if (syncAckBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          syncAckBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 40;
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+       */
+      public Builder mergeSyncAck(io.github.portlek.synergy.proto.Commands.SyncAck value) {
+        if (syncAckBuilder_ == null) {
+          if (payloadCase_ == 40 &&
+              payload_ != io.github.portlek.synergy.proto.Commands.SyncAck.getDefaultInstance()) {
+            payload_ = io.github.portlek.synergy.proto.Commands.SyncAck.newBuilder((io.github.portlek.synergy.proto.Commands.SyncAck) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 40) {
+            syncAckBuilder_.mergeFrom(value);
+          }
+          syncAckBuilder_.setMessage(value);
+        }
+        payloadCase_ = 40;
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+       */
+      public Builder clearSyncAck() {
+        if (syncAckBuilder_ == null) {
+          if (payloadCase_ == 40) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 40) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          syncAckBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+       */
+      public io.github.portlek.synergy.proto.Commands.SyncAck.Builder getSyncAckBuilder() {
+        return getSyncAckFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+       */
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.SyncAckOrBuilder getSyncAckOrBuilder() {
+        if ((payloadCase_ == 40) && (syncAckBuilder_ != null)) {
+          return syncAckBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 40) {
+            return (io.github.portlek.synergy.proto.Commands.SyncAck) payload_;
+          }
+          return io.github.portlek.synergy.proto.Commands.SyncAck.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.SyncAck syncAck = 40;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.Commands.SyncAck, io.github.portlek.synergy.proto.Commands.SyncAck.Builder, io.github.portlek.synergy.proto.Commands.SyncAckOrBuilder> 
+          getSyncAckFieldBuilder() {
+        if (syncAckBuilder_ == null) {
+          if (!(payloadCase_ == 40)) {
+            payload_ = io.github.portlek.synergy.proto.Commands.SyncAck.getDefaultInstance();
+          }
+          syncAckBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.portlek.synergy.proto.Commands.SyncAck, io.github.portlek.synergy.proto.Commands.SyncAck.Builder, io.github.portlek.synergy.proto.Commands.SyncAckOrBuilder>(
+                  (io.github.portlek.synergy.proto.Commands.SyncAck) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 40;
+        onChanged();;
+        return syncAckBuilder_;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -33014,6 +37550,16 @@ public final class Commands {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_io_github_portlek_synergy_proto_Sync_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_io_github_portlek_synergy_proto_SyncResync_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_io_github_portlek_synergy_proto_SyncResync_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_io_github_portlek_synergy_proto_SyncAck_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_io_github_portlek_synergy_proto_SyncAck_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_io_github_portlek_synergy_proto_Provision_descriptor;
   private static final 
@@ -33039,6 +37585,11 @@ public final class Commands {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_io_github_portlek_synergy_proto_SplitPackageAck_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_io_github_portlek_synergy_proto_SplitPackageAck_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_io_github_portlek_synergy_proto_PackageChecksumRequest_descriptor;
   private static final 
@@ -33199,154 +37750,171 @@ public final class Commands {
   static {
     java.lang.String[] descriptorData = {
       "\n\016commands.proto\022\037io.github.portlek.syne" +
-      "rgy.proto\032\ncore.proto\032\010p3.proto\"\272\001\n\004Sync" +
+      "rgy.proto\032\ncore.proto\032\010p3.proto\"\247\002\n\004Sync" +
       "\022\025\n\rcoordinatorId\030\001 \001(\t\022<\n\tresources\030\002 \003" +
       "(\0132).io.github.portlek.synergy.proto.Res" +
       "ource\022\022\n\nattributes\030\003 \003(\t\0228\n\007servers\030\004 \003" +
       "(\0132\'.io.github.portlek.synergy.proto.Ser" +
-      "ver\022\017\n\007enabled\030\005 \001(\010\"D\n\tProvision\0227\n\006ser" +
-      "ver\030\001 \001(\0132\'.io.github.portlek.synergy.pr" +
-      "oto.Server\"\037\n\021ProvisionResponse\022\n\n\002ok\030\001 " +
-      "\001(\010\"E\n\016PackageRequest\0223\n\002p3\030\001 \001(\0132\'.io.g" +
-      "ithub.portlek.synergy.proto.P3Meta\"Y\n\017Pa" +
-      "ckageResponse\022\n\n\002ok\030\001 \001(\010\022:\n\004data\030\002 \001(\0132" +
-      ",.io.github.portlek.synergy.proto.Packag" +
-      "eData\"c\n\024SplitPackageResponse\022\n\n\002ok\030\001 \001(" +
-      "\010\022?\n\004data\030\002 \001(\01321.io.github.portlek.syne" +
-      "rgy.proto.SplitPackageData\"M\n\026PackageChe" +
-      "cksumRequest\0223\n\002p3\030\001 \001(\0132\'.io.github.por" +
-      "tlek.synergy.proto.P3Meta\"7\n\027PackageChec" +
-      "ksumResponse\022\n\n\002ok\030\001 \001(\010\022\020\n\010checksum\030\002 \001" +
-      "(\t\"*\n\013DeProvision\022\014\n\004uuid\030\001 \001(\t\022\r\n\005force" +
-      "\030\002 \001(\010\"\036\n\016ServerShutdown\022\014\n\004uuid\030\001 \001(\t\"&" +
-      "\n\tSendInput\022\n\n\002id\030\001 \001(\t\022\r\n\005input\030\002 \001(\t\"4" +
-      "\n\rAttachConsole\022\020\n\010serverId\030\001 \001(\t\022\021\n\tcon" +
-      "soleId\030\002 \001(\t\"2\n\016ConsoleMessage\022\021\n\tconsol" +
-      "eId\030\001 \001(\t\022\r\n\005value\030\002 \001(\t\"\"\n\rDetachConsol" +
-      "e\022\021\n\tconsoleId\030\001 \001(\t\"\034\n\014FreezeServer\022\014\n\004" +
-      "uuid\030\001 \001(\t\"d\n\031C_CoordinatorListResponse\022" +
-      "G\n\014coordinators\030\001 \003(\01321.io.github.portle" +
-      "k.synergy.proto.LocalCoordinator\"\252\001\n\013C_P" +
-      "rovision\0223\n\002p3\030\001 \001(\0132\'.io.github.portlek" +
-      ".synergy.proto.P3Meta\022\023\n\013coordinator\030\002 \001" +
-      "(\t\022\022\n\nserverName\030\003 \001(\t\022=\n\nproperties\030\004 \003" +
-      "(\0132).io.github.portlek.synergy.proto.Pro" +
-      "perty\"J\n\023C_ProvisionResponse\022\n\n\002ok\030\001 \001(\010" +
-      "\022\025\n\rcoordinatorId\030\002 \001(\t\022\020\n\010serverId\030\003 \001(" +
-      "\t\"G\n\rC_DeProvision\022\025\n\rcoordinatorId\030\001 \001(" +
-      "\t\022\020\n\010serverId\030\002 \001(\t\022\r\n\005force\030\003 \001(\010\"\030\n\nC_" +
-      "Shutdown\022\n\n\002id\030\001 \001(\t\"@\n\tC_Promote\0223\n\002p3\030" +
-      "\001 \001(\0132\'.io.github.portlek.synergy.proto." +
-      "P3Meta\",\n\023C_CreateCoordinator\022\025\n\rcoordin" +
-      "atorId\030\001 \001(\t\"?\n\024C_CoordinatorCreated\022\025\n\r" +
-      "coordinatorId\030\001 \001(\t\022\020\n\010password\030\002 \001(\t\"E\n" +
-      "\013C_SendInput\022\025\n\rcoordinatorId\030\001 \001(\t\022\020\n\010s" +
-      "erverId\030\002 \001(\t\022\r\n\005input\030\003 \001(\t\":\n\017C_Attach" +
-      "Console\022\025\n\rcoordinatorId\030\001 \001(\t\022\020\n\010server" +
-      "Id\030\002 \001(\t\"2\n\021C_ConsoleAttached\022\021\n\tconsole" +
-      "Id\030\001 \001(\t\022\n\n\002ok\030\002 \001(\010\"4\n\020C_ConsoleMessage" +
-      "\022\r\n\005value\030\001 \001(\t\022\021\n\tconsoleId\030\002 \001(\t\";\n\021C_" +
-      "ConsoleDetached\022\021\n\tconsoleId\030\001 \001(\t\022\023\n\013us" +
-      "eServerId\030\002 \001(\010\"$\n\017C_DetachConsole\022\021\n\tco" +
-      "nsoleId\030\001 \001(\t\"9\n\016C_FreezeServer\022\025\n\rcoord" +
-      "inatorId\030\001 \001(\t\022\020\n\010serverId\030\002 \001(\t\"M\n\017C_Up" +
-      "loadPackage\022:\n\004data\030\001 \001(\0132,.io.github.po" +
-      "rtlek.synergy.proto.PackageData\"W\n\024C_Upl" +
-      "oadSplitPackage\022?\n\004data\030\002 \001(\01321.io.githu" +
-      "b.portlek.synergy.proto.SplitPackageData" +
-      "\"+\n\005C_Ack\022\020\n\006result\030\001 \001(\tH\000B\020\n\016result_pr" +
-      "esent\"J\n\rC_PackageList\0229\n\010packages\030\001 \003(\013" +
-      "2\'.io.github.portlek.synergy.proto.P3Met" +
-      "a\"-\n\016C_AccessDenied\022\016\n\006result\030\001 \001(\t\022\013\n\003t" +
-      "id\030\002 \001(\t\"\266\033\n\013BaseCommand\022F\n\004type\030\001 \001(\01628" +
-      ".io.github.portlek.synergy.proto.BaseCom" +
-      "mand.CommandType\0223\n\004sync\030\002 \001(\0132%.io.gith" +
-      "ub.portlek.synergy.proto.Sync\022=\n\tprovisi" +
-      "on\030\003 \001(\0132*.io.github.portlek.synergy.pro" +
-      "to.Provision\022M\n\021provisionResponse\030\004 \001(\0132" +
-      "2.io.github.portlek.synergy.proto.Provis" +
-      "ionResponse\022G\n\016packageRequest\030\005 \001(\0132/.io" +
-      ".github.portlek.synergy.proto.PackageReq" +
-      "uest\022I\n\017packageResponse\030\006 \001(\01320.io.githu" +
-      "b.portlek.synergy.proto.PackageResponse\022" +
-      "A\n\013deProvision\030\007 \001(\0132,.io.github.portlek" +
-      ".synergy.proto.DeProvision\022G\n\016serverShut" +
-      "down\030\010 \001(\0132/.io.github.portlek.synergy.p" +
-      "roto.ServerShutdown\022=\n\tsendInput\030\t \001(\0132*" +
-      ".io.github.portlek.synergy.proto.SendInp" +
-      "ut\022E\n\rattachConsole\030\n \001(\0132..io.github.po" +
-      "rtlek.synergy.proto.AttachConsole\022G\n\016con" +
-      "soleMessage\030\013 \001(\0132/.io.github.portlek.sy" +
-      "nergy.proto.ConsoleMessage\022E\n\rdetachCons" +
-      "ole\030\014 \001(\0132..io.github.portlek.synergy.pr" +
-      "oto.DetachConsole\022C\n\014freezeServer\030\r \001(\0132" +
-      "-.io.github.portlek.synergy.proto.Freeze" +
-      "Server\022P\n\017checksumRequest\030\016 \001(\01327.io.git" +
-      "hub.portlek.synergy.proto.PackageChecksu" +
-      "mRequest\022R\n\020checksumResponse\030\020 \001(\01328.io." +
-      "github.portlek.synergy.proto.PackageChec" +
-      "ksumResponse\022S\n\024splitPackageResponse\030\021 \001" +
-      "(\01325.io.github.portlek.synergy.proto.Spl" +
-      "itPackageResponse\022]\n\031c_coordinatorListRe" +
-      "sponse\030\022 \001(\0132:.io.github.portlek.synergy" +
-      ".proto.C_CoordinatorListResponse\022A\n\013c_pr" +
-      "ovision\030\023 \001(\0132,.io.github.portlek.synerg" +
-      "y.proto.C_Provision\022Q\n\023c_provisionRespon" +
-      "se\030\024 \001(\01324.io.github.portlek.synergy.pro" +
-      "to.C_ProvisionResponse\022E\n\rc_deProvision\030" +
-      "\025 \001(\0132..io.github.portlek.synergy.proto." +
-      "C_DeProvision\022?\n\nc_shutdown\030\026 \001(\0132+.io.g" +
-      "ithub.portlek.synergy.proto.C_Shutdown\022=" +
-      "\n\tc_promote\030\027 \001(\0132*.io.github.portlek.sy" +
-      "nergy.proto.C_Promote\022Q\n\023c_createCoordin" +
-      "ator\030\030 \001(\01324.io.github.portlek.synergy.p" +
-      "roto.C_CreateCoordinator\022S\n\024c_coordinato" +
-      "rCreated\030\031 \001(\01325.io.github.portlek.syner" +
-      "gy.proto.C_CoordinatorCreated\022A\n\013c_sendI" +
-      "nput\030\032 \001(\0132,.io.github.portlek.synergy.p" +
-      "roto.C_SendInput\022I\n\017c_attachConsole\030\033 \001(" +
-      "\01320.io.github.portlek.synergy.proto.C_At" +
-      "tachConsole\022M\n\021c_consoleAttached\030\034 \001(\01322" +
-      ".io.github.portlek.synergy.proto.C_Conso" +
-      "leAttached\022K\n\020c_consoleMessage\030\035 \001(\01321.i" +
-      "o.github.portlek.synergy.proto.C_Console" +
-      "Message\022M\n\021c_consoleDetached\030\036 \001(\01322.io." +
-      "github.portlek.synergy.proto.C_ConsoleDe" +
-      "tached\022I\n\017c_detachConsole\030\037 \001(\01320.io.git" +
-      "hub.portlek.synergy.proto.C_DetachConsol" +
-      "e\022G\n\016c_freezeServer\030  \001(\0132/.io.github.po" +
-      "rtlek.synergy.proto.C_FreezeServer\022I\n\017c_" +
-      "uploadPackage\030! \001(\01320.io.github.portlek." +
-      "synergy.proto.C_UploadPackage\0225\n\005c_ack\030\"" +
-      " \001(\0132&.io.github.portlek.synergy.proto.C" +
-      "_Ack\022E\n\rc_packageList\030# \001(\0132..io.github." +
-      "portlek.synergy.proto.C_PackageList\022S\n\024c" +
-      "_uploadSplitPackage\030$ \001(\01325.io.github.po" +
-      "rtlek.synergy.proto.C_UploadSplitPackage" +
-      "\022G\n\016c_accessDenied\030% \001(\0132/.io.github.por" +
-      "tlek.synergy.proto.C_AccessDenied\"\315\006\n\013Co" +
-      "mmandType\022\010\n\004NOOP\020\000\022\010\n\004SYNC\020\001\022\r\n\tPROVISI" +
-      "ON\020\002\022\026\n\022PROVISION_RESPONSE\020\003\022\023\n\017PACKAGE_" +
-      "REQUEST\020\004\022\024\n\020PACKAGE_RESPONSE\020\005\022\020\n\014DE_PR" +
-      "OVISION\020\006\022\023\n\017SERVER_SHUTDOWN\020\007\022\014\n\010SHUTDO" +
-      "WN\020\010\022\016\n\nSEND_INPUT\020\t\022\022\n\016ATTACH_CONSOLE\020\n" +
-      "\022\023\n\017CONSOLE_MESSAGE\020\013\022\022\n\016DETACH_CONSOLE\020" +
-      "\014\022\021\n\rFREEZE_SERVER\020\032\022\034\n\030PACKAGE_CHECKSUM" +
-      "_REQUEST\020#\022\035\n\031PACKAGE_CHECKSUM_RESPONSE\020" +
-      "$\022\032\n\026SPLIT_PACKAGE_RESPONSE\020%\022\032\n\026C_GET_C" +
-      "OORDINATOR_LIST\020\r\022\037\n\033C_COORDINATOR_LIST_" +
-      "RESPONSE\020\016\022\017\n\013C_PROVISION\020\017\022\030\n\024C_PROVISI" +
-      "ON_RESPONSE\020\020\022\022\n\016C_DE_PROVISION\020\021\022\016\n\nC_S" +
-      "HUTDOWN\020\022\022\r\n\tC_PROMOTE\020\023\022\030\n\024C_CREATE_COO" +
-      "RDINATOR\020\024\022\031\n\025C_COORDINATOR_CREATED\020\025\022\020\n" +
-      "\014C_SEND_INPUT\020\026\022\024\n\020C_ATTACH_CONSOLE\020\027\022\026\n" +
-      "\022C_CONSOLE_ATTACHED\020\037\022\025\n\021C_CONSOLE_MESSA" +
-      "GE\020\030\022\026\n\022C_CONSOLE_DETACHED\020 \022\024\n\020C_DETACH" +
-      "_CONSOLE\020\031\022\023\n\017C_FREEZE_SERVER\020\033\022\024\n\020C_UPL" +
-      "OAD_PACKAGE\020\034\022\032\n\026C_UPLOAD_SPLIT_PACKAGE\020" +
-      "&\022\t\n\005C_ACK\020\036\022\032\n\026C_REQUEST_PACKAGE_LIST\020!" +
-      "\022\022\n\016C_PACKAGE_LIST\020\"\022\023\n\017C_ACCESS_DENIED\020" +
-      "\'B\014B\010CommandsH\001b\006proto3"
+      "ver\022\017\n\007enabled\030\005 \001(\010\022\020\n\010sequence\030\006 \001(\004\022\014" +
+      "\n\004full\030\007 \001(\010\022\030\n\020removedResources\030\010 \003(\t\022\026" +
+      "\n\016removedServers\030\t \003(\t\022\031\n\021attributesChan" +
+      "ged\030\n \001(\010\"\036\n\nSyncResync\022\020\n\010sequence\030\001 \001(" +
+      "\004\"\033\n\007SyncAck\022\020\n\010sequence\030\001 \001(\004\"D\n\tProvis" +
+      "ion\0227\n\006server\030\001 \001(\0132\'.io.github.portlek." +
+      "synergy.proto.Server\"\037\n\021ProvisionRespons" +
+      "e\022\n\n\002ok\030\001 \001(\010\"\206\001\n\016PackageRequest\0223\n\002p3\030\001" +
+      " \001(\0132\'.io.github.portlek.synergy.proto.P" +
+      "3Meta\022\016\n\006offset\030\002 \001(\004\022\021\n\tblockSize\030\003 \001(\r" +
+      "\022\014\n\004weak\030\004 \003(\007\022\016\n\006strong\030\005 \003(\006\"Y\n\017Packag" +
+      "eResponse\022\n\n\002ok\030\001 \001(\010\022:\n\004data\030\002 \001(\0132,.io" +
+      ".github.portlek.synergy.proto.PackageDat" +
+      "a\"c\n\024SplitPackageResponse\022\n\n\002ok\030\001 \001(\010\022?\n" +
+      "\004data\030\002 \001(\01321.io.github.portlek.synergy." +
+      "proto.SplitPackageData\"W\n\017SplitPackageAc" +
+      "k\0223\n\002p3\030\001 \001(\0132\'.io.github.portlek.synerg" +
+      "y.proto.P3Meta\022\017\n\007chunkId\030\002 \001(\r\"M\n\026Packa" +
+      "geChecksumRequest\0223\n\002p3\030\001 \001(\0132\'.io.githu" +
+      "b.portlek.synergy.proto.P3Meta\"7\n\027Packag" +
+      "eChecksumResponse\022\n\n\002ok\030\001 \001(\010\022\020\n\010checksu" +
+      "m\030\002 \001(\t\"*\n\013DeProvision\022\014\n\004uuid\030\001 \001(\t\022\r\n\005" +
+      "force\030\002 \001(\010\"\036\n\016ServerShutdown\022\014\n\004uuid\030\001 " +
+      "\001(\t\"&\n\tSendInput\022\n\n\002id\030\001 \001(\t\022\r\n\005input\030\002 " +
+      "\001(\t\"4\n\rAttachConsole\022\020\n\010serverId\030\001 \001(\t\022\021" +
+      "\n\tconsoleId\030\002 \001(\t\"2\n\016ConsoleMessage\022\021\n\tc" +
+      "onsoleId\030\001 \001(\t\022\r\n\005value\030\002 \001(\t\"\"\n\rDetachC" +
+      "onsole\022\021\n\tconsoleId\030\001 \001(\t\"\034\n\014FreezeServe" +
+      "r\022\014\n\004uuid\030\001 \001(\t\"d\n\031C_CoordinatorListResp" +
+      "onse\022G\n\014coordinators\030\001 \003(\01321.io.github.p" +
+      "ortlek.synergy.proto.LocalCoordinator\"\252\001" +
+      "\n\013C_Provision\0223\n\002p3\030\001 \001(\0132\'.io.github.po" +
+      "rtlek.synergy.proto.P3Meta\022\023\n\013coordinato" +
+      "r\030\002 \001(\t\022\022\n\nserverName\030\003 \001(\t\022=\n\npropertie" +
+      "s\030\004 \003(\0132).io.github.portlek.synergy.prot" +
+      "o.Property\"J\n\023C_ProvisionResponse\022\n\n\002ok\030" +
+      "\001 \001(\010\022\025\n\rcoordinatorId\030\002 \001(\t\022\020\n\010serverId" +
+      "\030\003 \001(\t\"G\n\rC_DeProvision\022\025\n\rcoordinatorId" +
+      "\030\001 \001(\t\022\020\n\010serverId\030\002 \001(\t\022\r\n\005force\030\003 \001(\010\"" +
+      "\030\n\nC_Shutdown\022\n\n\002id\030\001 \001(\t\"@\n\tC_Promote\0223" +
+      "\n\002p3\030\001 \001(\0132\'.io.github.portlek.synergy.p" +
+      "roto.P3Meta\",\n\023C_CreateCoordinator\022\025\n\rco" +
+      "ordinatorId\030\001 \001(\t\"?\n\024C_CoordinatorCreate" +
+      "d\022\025\n\rcoordinatorId\030\001 \001(\t\022\020\n\010password\030\002 \001" +
+      "(\t\"E\n\013C_SendInput\022\025\n\rcoordinatorId\030\001 \001(\t" +
+      "\022\020\n\010serverId\030\002 \001(\t\022\r\n\005input\030\003 \001(\t\":\n\017C_A" +
+      "ttachConsole\022\025\n\rcoordinatorId\030\001 \001(\t\022\020\n\010s" +
+      "erverId\030\002 \001(\t\"2\n\021C_ConsoleAttached\022\021\n\tco" +
+      "nsoleId\030\001 \001(\t\022\n\n\002ok\030\002 \001(\010\"4\n\020C_ConsoleMe" +
+      "ssage\022\r\n\005value\030\001 \001(\t\022\021\n\tconsoleId\030\002 \001(\t\"" +
+      ";\n\021C_ConsoleDetached\022\021\n\tconsoleId\030\001 \001(\t\022" +
+      "\023\n\013useServerId\030\002 \001(\010\"$\n\017C_DetachConsole\022" +
+      "\021\n\tconsoleId\030\001 \001(\t\"9\n\016C_FreezeServer\022\025\n\r" +
+      "coordinatorId\030\001 \001(\t\022\020\n\010serverId\030\002 \001(\t\"M\n" +
+      "\017C_UploadPackage\022:\n\004data\030\001 \001(\0132,.io.gith" +
+      "ub.portlek.synergy.proto.PackageData\"W\n\024" +
+      "C_UploadSplitPackage\022?\n\004data\030\002 \001(\01321.io." +
+      "github.portlek.synergy.proto.SplitPackag" +
+      "eData\"+\n\005C_Ack\022\020\n\006result\030\001 \001(\tH\000B\020\n\016resu" +
+      "lt_present\"J\n\rC_PackageList\0229\n\010packages\030" +
+      "\001 \003(\0132\'.io.github.portlek.synergy.proto." +
+      "P3Meta\"-\n\016C_AccessDenied\022\016\n\006result\030\001 \001(\t" +
+      "\022\013\n\003tid\030\002 \001(\t\"\236\036\n\013BaseCommand\022F\n\004type\030\001 " +
+      "\001(\01628.io.github.portlek.synergy.proto.Ba" +
+      "seCommand.CommandType\0225\n\004sync\030\002 \001(\0132%.io" +
+      ".github.portlek.synergy.proto.SyncH\000\022?\n\t" +
+      "provision\030\003 \001(\0132*.io.github.portlek.syne" +
+      "rgy.proto.ProvisionH\000\022O\n\021provisionRespon" +
+      "se\030\004 \001(\01322.io.github.portlek.synergy.pro" +
+      "to.ProvisionResponseH\000\022I\n\016packageRequest" +
+      "\030\005 \001(\0132/.io.github.portlek.synergy.proto" +
+      ".PackageRequestH\000\022O\n\017packageResponse\030\006 \001" +
+      "(\01320.io.github.portlek.synergy.proto.Pac" +
+      "kageResponseB\002(\001H\000\022C\n\013deProvision\030\007 \001(\0132" +
+      ",.io.github.portlek.synergy.proto.DeProv" +
+      "isionH\000\022I\n\016serverShutdown\030\010 \001(\0132/.io.git" +
+      "hub.portlek.synergy.proto.ServerShutdown" +
+      "H\000\022?\n\tsendInput\030\t \001(\0132*.io.github.portle" +
+      "k.synergy.proto.SendInputH\000\022G\n\rattachCon" +
+      "sole\030\n \001(\0132..io.github.portlek.synergy.p" +
+      "roto.AttachConsoleH\000\022I\n\016consoleMessage\030\013" +
+      " \001(\0132/.io.github.portlek.synergy.proto.C" +
+      "onsoleMessageH\000\022G\n\rdetachConsole\030\014 \001(\0132." +
+      ".io.github.portlek.synergy.proto.DetachC" +
+      "onsoleH\000\022E\n\014freezeServer\030\r \001(\0132-.io.gith" +
+      "ub.portlek.synergy.proto.FreezeServerH\000\022" +
+      "R\n\017checksumRequest\030\016 \001(\01327.io.github.por" +
+      "tlek.synergy.proto.PackageChecksumReques" +
+      "tH\000\022T\n\020checksumResponse\030\020 \001(\01328.io.githu" +
+      "b.portlek.synergy.proto.PackageChecksumR" +
+      "esponseH\000\022Y\n\024splitPackageResponse\030\021 \001(\0132" +
+      "5.io.github.portlek.synergy.proto.SplitP" +
+      "ackageResponseB\002(\001H\000\022_\n\031c_coordinatorLis" +
+      "tResponse\030\022 \001(\0132:.io.github.portlek.syne" +
+      "rgy.proto.C_CoordinatorListResponseH\000\022C\n" +
+      "\013c_provision\030\023 \001(\0132,.io.github.portlek.s" +
+      "ynergy.proto.C_ProvisionH\000\022S\n\023c_provisio" +
+      "nResponse\030\024 \001(\01324.io.github.portlek.syne" +
+      "rgy.proto.C_ProvisionResponseH\000\022G\n\rc_deP" +
+      "rovision\030\025 \001(\0132..io.github.portlek.syner" +
+      "gy.proto.C_DeProvisionH\000\022A\n\nc_shutdown\030\026" +
+      " \001(\0132+.io.github.portlek.synergy.proto.C" +
+      "_ShutdownH\000\022?\n\tc_promote\030\027 \001(\0132*.io.gith" +
+      "ub.portlek.synergy.proto.C_PromoteH\000\022S\n\023" +
+      "c_createCoordinator\030\030 \001(\01324.io.github.po" +
+      "rtlek.synergy.proto.C_CreateCoordinatorH" +
+      "\000\022U\n\024c_coordinatorCreated\030\031 \001(\01325.io.git" +
+      "hub.portlek.synergy.proto.C_CoordinatorC" +
+      "reatedH\000\022C\n\013c_sendInput\030\032 \001(\0132,.io.githu" +
+      "b.portlek.synergy.proto.C_SendInputH\000\022K\n" +
+      "\017c_attachConsole\030\033 \001(\01320.io.github.portl" +
+      "ek.synergy.proto.C_AttachConsoleH\000\022O\n\021c_" +
+      "consoleAttached\030\034 \001(\01322.io.github.portle" +
+      "k.synergy.proto.C_ConsoleAttachedH\000\022M\n\020c" +
+      "_consoleMessage\030\035 \001(\01321.io.github.portle" +
+      "k.synergy.proto.C_ConsoleMessageH\000\022O\n\021c_" +
+      "consoleDetached\030\036 \001(\01322.io.github.portle" +
+      "k.synergy.proto.C_ConsoleDetachedH\000\022K\n\017c" +
+      "_detachConsole\030\037 \001(\01320.io.github.portlek" +
+      ".synergy.proto.C_DetachConsoleH\000\022I\n\016c_fr" +
+      "eezeServer\030  \001(\0132/.io.github.portlek.syn" +
+      "ergy.proto.C_FreezeServerH\000\022O\n\017c_uploadP" +
+      "ackage\030! \001(\01320.io.github.portlek.synergy" +
+      ".proto.C_UploadPackageB\002(\001H\000\0227\n\005c_ack\030\" " +
+      "\001(\0132&.io.github.portlek.synergy.proto.C_" +
+      "AckH\000\022K\n\rc_packageList\030# \001(\0132..io.github" +
+      ".portlek.synergy.proto.C_PackageListB\002(\001" +
+      "H\000\022Y\n\024c_uploadSplitPackage\030$ \001(\01325.io.gi" +
+      "thub.portlek.synergy.proto.C_UploadSplit" +
+      "PackageB\002(\001H\000\022I\n\016c_accessDenied\030% \001(\0132/." +
+      "io.github.portlek.synergy.proto.C_Access" +
+      "DeniedH\000\022A\n\nsyncResync\030& \001(\0132+.io.github" +
+      ".portlek.synergy.proto.SyncResyncH\000\022K\n\017s" +
+      "plitPackageAck\030\' \001(\01320.io.github.portlek" +
+      ".synergy.proto.SplitPackageAckH\000\022;\n\007sync" +
+      "Ack\030( \001(\0132(.io.github.portlek.synergy.pr" +
+      "oto.SyncAckH\000\"\203\007\n\013CommandType\022\010\n\004NOOP\020\000\022" +
+      "\010\n\004SYNC\020\001\022\r\n\tPROVISION\020\002\022\026\n\022PROVISION_RE" +
+      "SPONSE\020\003\022\023\n\017PACKAGE_REQUEST\020\004\022\024\n\020PACKAGE" +
+      "_RESPONSE\020\005\022\020\n\014DE_PROVISION\020\006\022\023\n\017SERVER_" +
+      "SHUTDOWN\020\007\022\014\n\010SHUTDOWN\020\010\022\016\n\nSEND_INPUT\020\t" +
+      "\022\022\n\016ATTACH_CONSOLE\020\n\022\023\n\017CONSOLE_MESSAGE\020" +
+      "\013\022\022\n\016DETACH_CONSOLE\020\014\022\021\n\rFREEZE_SERVER\020\032" +
+      "\022\034\n\030PACKAGE_CHECKSUM_REQUEST\020#\022\035\n\031PACKAG" +
+      "E_CHECKSUM_RESPONSE\020$\022\032\n\026SPLIT_PACKAGE_R" +
+      "ESPONSE\020%\022\032\n\026C_GET_COORDINATOR_LIST\020\r\022\037\n" +
+      "\033C_COORDINATOR_LIST_RESPONSE\020\016\022\017\n\013C_PROV" +
+      "ISION\020\017\022\030\n\024C_PROVISION_RESPONSE\020\020\022\022\n\016C_D" +
+      "E_PROVISION\020\021\022\016\n\nC_SHUTDOWN\020\022\022\r\n\tC_PROMO" +
+      "TE\020\023\022\030\n\024C_CREATE_COORDINATOR\020\024\022\031\n\025C_COOR" +
+      "DINATOR_CREATED\020\025\022\020\n\014C_SEND_INPUT\020\026\022\024\n\020C" +
+      "_ATTACH_CONSOLE\020\027\022\026\n\022C_CONSOLE_ATTACHED\020" +
+      "\037\022\025\n\021C_CONSOLE_MESSAGE\020\030\022\026\n\022C_CONSOLE_DE" +
+      "TACHED\020 \022\024\n\020C_DETACH_CONSOLE\020\031\022\023\n\017C_FREE" +
+      "ZE_SERVER\020\033\022\024\n\020C_UPLOAD_PACKAGE\020\034\022\032\n\026C_U" +
+      "PLOAD_SPLIT_PACKAGE\020&\022\t\n\005C_ACK\020\036\022\032\n\026C_RE" +
+      "QUEST_PACKAGE_LIST\020!\022\022\n\016C_PACKAGE_LIST\020\"" +
+      "\022\023\n\017C_ACCESS_DENIED\020\'\022\017\n\013SYNC_RESYNC\020(\022\025" +
+      "\n\021SPLIT_PACKAGE_ACK\020)\022\014\n\010SYNC_ACK\020*B\t\n\007p" +
+      "ayloadB\014B\010CommandsH\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -33359,217 +37927,235 @@ public final class Commands {
     internal_static_io_github_portlek_synergy_proto_Sync_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_Sync_descriptor,
-        new java.lang.String[] { "CoordinatorId", "Resources", "Attributes", "Servers", "Enabled", });
-    internal_static_io_github_portlek_synergy_proto_Provision_descriptor =
+        new java.lang.String[] { "CoordinatorId", "Resources", "Attributes", "Servers", "Enabled", "Sequence", "Full", "RemovedResources", "RemovedServers", "AttributesChanged", });
+    internal_static_io_github_portlek_synergy_proto_SyncResync_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_io_github_portlek_synergy_proto_SyncResync_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_io_github_portlek_synergy_proto_SyncResync_descriptor,
+        new java.lang.String[] { "Sequence", });
+    internal_static_io_github_portlek_synergy_proto_SyncAck_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_io_github_portlek_synergy_proto_SyncAck_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_io_github_portlek_synergy_proto_SyncAck_descriptor,
+        new java.lang.String[] { "Sequence", });
+    internal_static_io_github_portlek_synergy_proto_Provision_descriptor =
+      getDescriptor().getMessageTypes().get(3);
     internal_static_io_github_portlek_synergy_proto_Provision_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_Provision_descriptor,
         new java.lang.String[] { "Server", });
     internal_static_io_github_portlek_synergy_proto_ProvisionResponse_descriptor =
-      getDescriptor().getMessageTypes().get(2);
+      getDescriptor().getMessageTypes().get(4);
     internal_static_io_github_portlek_synergy_proto_ProvisionResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_ProvisionResponse_descriptor,
         new java.lang.String[] { "Ok", });
     internal_static_io_github_portlek_synergy_proto_PackageRequest_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_io_github_portlek_synergy_proto_PackageRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_PackageRequest_descriptor,
-        new java.lang.String[] { "P3", });
+        new java.lang.String[] { "P3", "Offset", "BlockSize", "Weak", "Strong", });
     internal_static_io_github_portlek_synergy_proto_PackageResponse_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_io_github_portlek_synergy_proto_PackageResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_PackageResponse_descriptor,
         new java.lang.String[] { "Ok", "Data", });
     internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_SplitPackageResponse_descriptor,
         new java.lang.String[] { "Ok", "Data", });
+    internal_static_io_github_portlek_synergy_proto_SplitPackageAck_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_io_github_portlek_synergy_proto_SplitPackageAck_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_io_github_portlek_synergy_proto_SplitPackageAck_descriptor,
+        new java.lang.String[] { "P3", "ChunkId", });
     internal_static_io_github_portlek_synergy_proto_PackageChecksumRequest_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_io_github_portlek_synergy_proto_PackageChecksumRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_PackageChecksumRequest_descriptor,
         new java.lang.String[] { "P3", });
     internal_static_io_github_portlek_synergy_proto_PackageChecksumResponse_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_io_github_portlek_synergy_proto_PackageChecksumResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_PackageChecksumResponse_descriptor,
         new java.lang.String[] { "Ok", "Checksum", });
     internal_static_io_github_portlek_synergy_proto_DeProvision_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_io_github_portlek_synergy_proto_DeProvision_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_DeProvision_descriptor,
         new java.lang.String[] { "Uuid", "Force", });
     internal_static_io_github_portlek_synergy_proto_ServerShutdown_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_io_github_portlek_synergy_proto_ServerShutdown_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_ServerShutdown_descriptor,
         new java.lang.String[] { "Uuid", });
     internal_static_io_github_portlek_synergy_proto_SendInput_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_io_github_portlek_synergy_proto_SendInput_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_SendInput_descriptor,
         new java.lang.String[] { "Id", "Input", });
     internal_static_io_github_portlek_synergy_proto_AttachConsole_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_io_github_portlek_synergy_proto_AttachConsole_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_AttachConsole_descriptor,
         new java.lang.String[] { "ServerId", "ConsoleId", });
     internal_static_io_github_portlek_synergy_proto_ConsoleMessage_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_io_github_portlek_synergy_proto_ConsoleMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_ConsoleMessage_descriptor,
         new java.lang.String[] { "ConsoleId", "Value", });
     internal_static_io_github_portlek_synergy_proto_DetachConsole_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_io_github_portlek_synergy_proto_DetachConsole_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_DetachConsole_descriptor,
         new java.lang.String[] { "ConsoleId", });
     internal_static_io_github_portlek_synergy_proto_FreezeServer_descriptor =
-      getDescriptor().getMessageTypes().get(14);
+      getDescriptor().getMessageTypes().get(17);
     internal_static_io_github_portlek_synergy_proto_FreezeServer_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_FreezeServer_descriptor,
         new java.lang.String[] { "Uuid", });
     internal_static_io_github_portlek_synergy_proto_C_CoordinatorListResponse_descriptor =
-      getDescriptor().getMessageTypes().get(15);
+      getDescriptor().getMessageTypes().get(18);
     internal_static_io_github_portlek_synergy_proto_C_CoordinatorListResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_CoordinatorListResponse_descriptor,
         new java.lang.String[] { "Coordinators", });
     internal_static_io_github_portlek_synergy_proto_C_Provision_descriptor =
-      getDescriptor().getMessageTypes().get(16);
+      getDescriptor().getMessageTypes().get(19);
     internal_static_io_github_portlek_synergy_proto_C_Provision_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_Provision_descriptor,
         new java.lang.String[] { "P3", "Coordinator", "ServerName", "Properties", });
     internal_static_io_github_portlek_synergy_proto_C_ProvisionResponse_descriptor =
-      getDescriptor().getMessageTypes().get(17);
+      getDescriptor().getMessageTypes().get(20);
     internal_static_io_github_portlek_synergy_proto_C_ProvisionResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_ProvisionResponse_descriptor,
         new java.lang.String[] { "Ok", "CoordinatorId", "ServerId", });
     internal_static_io_github_portlek_synergy_proto_C_DeProvision_descriptor =
-      getDescriptor().getMessageTypes().get(18);
+      getDescriptor().getMessageTypes().get(21);
     internal_static_io_github_portlek_synergy_proto_C_DeProvision_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_DeProvision_descriptor,
         new java.lang.String[] { "CoordinatorId", "ServerId", "Force", });
     internal_static_io_github_portlek_synergy_proto_C_Shutdown_descriptor =
-      getDescriptor().getMessageTypes().get(19);
+      getDescriptor().getMessageTypes().get(22);
     internal_static_io_github_portlek_synergy_proto_C_Shutdown_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_Shutdown_descriptor,
         new java.lang.String[] { "Id", });
     internal_static_io_github_portlek_synergy_proto_C_Promote_descriptor =
-      getDescriptor().getMessageTypes().get(20);
+      getDescriptor().getMessageTypes().get(23);
     internal_static_io_github_portlek_synergy_proto_C_Promote_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_Promote_descriptor,
         new java.lang.String[] { "P3", });
     internal_static_io_github_portlek_synergy_proto_C_CreateCoordinator_descriptor =
-      getDescriptor().getMessageTypes().get(21);
+      getDescriptor().getMessageTypes().get(24);
     internal_static_io_github_portlek_synergy_proto_C_CreateCoordinator_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_CreateCoordinator_descriptor,
         new java.lang.String[] { "CoordinatorId", });
     internal_static_io_github_portlek_synergy_proto_C_CoordinatorCreated_descriptor =
-      getDescriptor().getMessageTypes().get(22);
+      getDescriptor().getMessageTypes().get(25);
     internal_static_io_github_portlek_synergy_proto_C_CoordinatorCreated_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_CoordinatorCreated_descriptor,
         new java.lang.String[] { "CoordinatorId", "Password", });
     internal_static_io_github_portlek_synergy_proto_C_SendInput_descriptor =
-      getDescriptor().getMessageTypes().get(23);
+      getDescriptor().getMessageTypes().get(26);
     internal_static_io_github_portlek_synergy_proto_C_SendInput_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_SendInput_descriptor,
         new java.lang.String[] { "CoordinatorId", "ServerId", "Input", });
     internal_static_io_github_portlek_synergy_proto_C_AttachConsole_descriptor =
-      getDescriptor().getMessageTypes().get(24);
+      getDescriptor().getMessageTypes().get(27);
     internal_static_io_github_portlek_synergy_proto_C_AttachConsole_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_AttachConsole_descriptor,
         new java.lang.String[] { "CoordinatorId", "ServerId", });
     internal_static_io_github_portlek_synergy_proto_C_ConsoleAttached_descriptor =
-      getDescriptor().getMessageTypes().get(25);
+      getDescriptor().getMessageTypes().get(28);
     internal_static_io_github_portlek_synergy_proto_C_ConsoleAttached_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_ConsoleAttached_descriptor,
         new java.lang.String[] { "ConsoleId", "Ok", });
     internal_static_io_github_portlek_synergy_proto_C_ConsoleMessage_descriptor =
-      getDescriptor().getMessageTypes().get(26);
+      getDescriptor().getMessageTypes().get(29);
     internal_static_io_github_portlek_synergy_proto_C_ConsoleMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_ConsoleMessage_descriptor,
         new java.lang.String[] { "Value", "ConsoleId", });
     internal_static_io_github_portlek_synergy_proto_C_ConsoleDetached_descriptor =
-      getDescriptor().getMessageTypes().get(27);
+      getDescriptor().getMessageTypes().get(30);
     internal_static_io_github_portlek_synergy_proto_C_ConsoleDetached_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_ConsoleDetached_descriptor,
         new java.lang.String[] { "ConsoleId", "UseServerId", });
     internal_static_io_github_portlek_synergy_proto_C_DetachConsole_descriptor =
-      getDescriptor().getMessageTypes().get(28);
+      getDescriptor().getMessageTypes().get(31);
     internal_static_io_github_portlek_synergy_proto_C_DetachConsole_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_DetachConsole_descriptor,
         new java.lang.String[] { "ConsoleId", });
     internal_static_io_github_portlek_synergy_proto_C_FreezeServer_descriptor =
-      getDescriptor().getMessageTypes().get(29);
+      getDescriptor().getMessageTypes().get(32);
     internal_static_io_github_portlek_synergy_proto_C_FreezeServer_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_FreezeServer_descriptor,
         new java.lang.String[] { "CoordinatorId", "ServerId", });
     internal_static_io_github_portlek_synergy_proto_C_UploadPackage_descriptor =
-      getDescriptor().getMessageTypes().get(30);
+      getDescriptor().getMessageTypes().get(33);
     internal_static_io_github_portlek_synergy_proto_C_UploadPackage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_UploadPackage_descriptor,
         new java.lang.String[] { "Data", });
     internal_static_io_github_portlek_synergy_proto_C_UploadSplitPackage_descriptor =
-      getDescriptor().getMessageTypes().get(31);
+      getDescriptor().getMessageTypes().get(34);
     internal_static_io_github_portlek_synergy_proto_C_UploadSplitPackage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_UploadSplitPackage_descriptor,
         new java.lang.String[] { "Data", });
     internal_static_io_github_portlek_synergy_proto_C_Ack_descriptor =
-      getDescriptor().getMessageTypes().get(32);
+      getDescriptor().getMessageTypes().get(35);
     internal_static_io_github_portlek_synergy_proto_C_Ack_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_Ack_descriptor,
         new java.lang.String[] { "Result", "ResultPresent", });
     internal_static_io_github_portlek_synergy_proto_C_PackageList_descriptor =
-      getDescriptor().getMessageTypes().get(33);
+      getDescriptor().getMessageTypes().get(36);
     internal_static_io_github_portlek_synergy_proto_C_PackageList_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_PackageList_descriptor,
         new java.lang.String[] { "Packages", });
     internal_static_io_github_portlek_synergy_proto_C_AccessDenied_descriptor =
-      getDescriptor().getMessageTypes().get(34);
+      getDescriptor().getMessageTypes().get(37);
     internal_static_io_github_portlek_synergy_proto_C_AccessDenied_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_C_AccessDenied_descriptor,
         new java.lang.String[] { "Result", "Tid", });
     internal_static_io_github_portlek_synergy_proto_BaseCommand_descriptor =
-      getDescriptor().getMessageTypes().get(35);
+      getDescriptor().getMessageTypes().get(38);
     internal_static_io_github_portlek_synergy_proto_BaseCommand_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_BaseCommand_descriptor,
-        new java.lang.String[] { "Type", "Sync", "Provision", "ProvisionResponse", "PackageRequest", "PackageResponse", "DeProvision", "ServerShutdown", "SendInput", "AttachConsole", "ConsoleMessage", "DetachConsole", "FreezeServer", "ChecksumRequest", "ChecksumResponse", "SplitPackageResponse", "CCoordinatorListResponse", "CProvision", "CProvisionResponse", "CDeProvision", "CShutdown", "CPromote", "CCreateCoordinator", "CCoordinatorCreated", "CSendInput", "CAttachConsole", "CConsoleAttached", "CConsoleMessage", "CConsoleDetached", "CDetachConsole", "CFreezeServer", "CUploadPackage", "CAck", "CPackageList", "CUploadSplitPackage", "CAccessDenied", });
+        new java.lang.String[] { "Type", "Sync", "Provision", "ProvisionResponse", "PackageRequest", "PackageResponse", "DeProvision", "ServerShutdown", "SendInput", "AttachConsole", "ConsoleMessage", "DetachConsole", "FreezeServer", "ChecksumRequest", "ChecksumResponse", "SplitPackageResponse", "CCoordinatorListResponse", "CProvision", "CProvisionResponse", "CDeProvision", "CShutdown", "CPromote", "CCreateCoordinator", "CCoordinatorCreated", "CSendInput", "CAttachConsole", "CConsoleAttached", "CConsoleMessage", "CConsoleDetached", "CDetachConsole", "CFreezeServer", "CUploadPackage", "CAck", "CPackageList", "CUploadSplitPackage", "CAccessDenied", "SyncResync", "SplitPackageAck", "SyncAck", "Payload", });
     io.github.portlek.synergy.proto.Core.getDescriptor();
     io.github.portlek.synergy.proto.P3.getDescriptor();
   }
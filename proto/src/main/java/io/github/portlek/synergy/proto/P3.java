@@ -1702,6 +1702,36 @@ public final class P3 {
      * @return The data.
      */
     com.google.protobuf.ByteString getData();
+
+    /**
+     * <code>uint64 offset = 7;</code>
+     * @return The offset.
+     */
+    long getOffset();
+
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+     */
+    java.util.List<io.github.portlek.synergy.proto.P3.BlockCopy> 
+        getCopiesList();
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+     */
+    io.github.portlek.synergy.proto.P3.BlockCopy getCopies(int index);
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+     */
+    int getCopiesCount();
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+     */
+    java.util.List<? extends io.github.portlek.synergy.proto.P3.BlockCopyOrBuilder> 
+        getCopiesOrBuilderList();
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+     */
+    io.github.portlek.synergy.proto.P3.BlockCopyOrBuilder getCopiesOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code io.github.portlek.synergy.proto.SplitPackageData}
@@ -1718,6 +1748,7 @@ public final class P3 {
     private SplitPackageData() {
       checksum_ = "";
       data_ = com.google.protobuf.ByteString.EMPTY;
+      copies_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -1740,6 +1771,7 @@ public final class P3 {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -1789,6 +1821,20 @@ public final class P3 {
               data_ = input.readBytes();
               break;
             }
+            case 56: {
+
+              offset_ = input.readUInt64();
+              break;
+            }
+            case 66: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                copies_ = new java.util.ArrayList<io.github.portlek.synergy.proto.P3.BlockCopy>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              copies_.add(
+                  input.readMessage(io.github.portlek.synergy.proto.P3.BlockCopy.parser(), extensionRegistry));
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -1804,6 +1850,9 @@ public final class P3 {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          copies_ = java.util.Collections.unmodifiableList(copies_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -1929,6 +1978,57 @@ public final class P3 {
       return data_;
     }
 
+    public static final int OFFSET_FIELD_NUMBER = 7;
+    private long offset_;
+    /**
+     * <code>uint64 offset = 7;</code>
+     * @return The offset.
+     */
+    @java.lang.Override
+    public long getOffset() {
+      return offset_;
+    }
+
+    public static final int COPIES_FIELD_NUMBER = 8;
+    private java.util.List<io.github.portlek.synergy.proto.P3.BlockCopy> copies_;
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.List<io.github.portlek.synergy.proto.P3.BlockCopy> getCopiesList() {
+      return copies_;
+    }
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends io.github.portlek.synergy.proto.P3.BlockCopyOrBuilder> 
+        getCopiesOrBuilderList() {
+      return copies_;
+    }
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+     */
+    @java.lang.Override
+    public int getCopiesCount() {
+      return copies_.size();
+    }
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.P3.BlockCopy getCopies(int index) {
+      return copies_.get(index);
+    }
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.P3.BlockCopyOrBuilder getCopiesOrBuilder(
+        int index) {
+      return copies_.get(index);
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -1961,6 +2061,12 @@ public final class P3 {
       if (!data_.isEmpty()) {
         output.writeBytes(6, data_);
       }
+      if (offset_ != 0L) {
+        output.writeUInt64(7, offset_);
+      }
+      for (int i = 0; i < copies_.size(); i++) {
+        output.writeMessage(8, copies_.get(i));
+      }
       unknownFields.writeTo(output);
     }
 
@@ -1993,6 +2099,14 @@ public final class P3 {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(6, data_);
       }
+      if (offset_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(7, offset_);
+      }
+      for (int i = 0; i < copies_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, copies_.get(i));
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2023,6 +2137,10 @@ public final class P3 {
           != other.getChunkId()) return false;
       if (!getData()
           .equals(other.getData())) return false;
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (!getCopiesList()
+          .equals(other.getCopiesList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -2049,6 +2167,13 @@ public final class P3 {
       hash = (53 * hash) + getChunkId();
       hash = (37 * hash) + DATA_FIELD_NUMBER;
       hash = (53 * hash) + getData().hashCode();
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getOffset());
+      if (getCopiesCount() > 0) {
+        hash = (37 * hash) + COPIES_FIELD_NUMBER;
+        hash = (53 * hash) + getCopiesList().hashCode();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -2177,6 +2302,7 @@ public final class P3 {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessageV3
                 .alwaysUseFieldBuilders) {
+          getCopiesFieldBuilder();
         }
       }
       @java.lang.Override
@@ -2198,6 +2324,14 @@ public final class P3 {
 
         data_ = com.google.protobuf.ByteString.EMPTY;
 
+        offset_ = 0L;
+
+        if (copiesBuilder_ == null) {
+          copies_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          copiesBuilder_.clear();
+        }
         return this;
       }
 
@@ -2224,6 +2358,7 @@ public final class P3 {
       @java.lang.Override
       public io.github.portlek.synergy.proto.P3.SplitPackageData buildPartial() {
         io.github.portlek.synergy.proto.P3.SplitPackageData result = new io.github.portlek.synergy.proto.P3.SplitPackageData(this);
+        int from_bitField0_ = bitField0_;
         if (metaBuilder_ == null) {
           result.meta_ = meta_;
         } else {
@@ -2234,6 +2369,16 @@ public final class P3 {
         result.chunkCount_ = chunkCount_;
         result.chunkId_ = chunkId_;
         result.data_ = data_;
+        result.offset_ = offset_;
+        if (copiesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            copies_ = java.util.Collections.unmodifiableList(copies_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.copies_ = copies_;
+        } else {
+          result.copies_ = copiesBuilder_.build();
+        }
         onBuilt();
         return result;
       }
@@ -2301,6 +2446,35 @@ public final class P3 {
         if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
           setData(other.getData());
         }
+        if (other.getOffset() != 0L) {
+          setOffset(other.getOffset());
+        }
+        if (copiesBuilder_ == null) {
+          if (!other.copies_.isEmpty()) {
+            if (copies_.isEmpty()) {
+              copies_ = other.copies_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureCopiesIsMutable();
+              copies_.addAll(other.copies_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.copies_.isEmpty()) {
+            if (copiesBuilder_.isEmpty()) {
+              copiesBuilder_.dispose();
+              copiesBuilder_ = null;
+              copies_ = other.copies_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              copiesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getCopiesFieldBuilder() : null;
+            } else {
+              copiesBuilder_.addAllMessages(other.copies_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -2329,6 +2503,7 @@ public final class P3 {
         }
         return this;
       }
+      private int bitField0_;
 
       private io.github.portlek.synergy.proto.P3.P3Meta meta_;
       private com.google.protobuf.SingleFieldBuilderV3<
@@ -2651,6 +2826,277 @@ public final class P3 {
         onChanged();
         return this;
       }
+
+      private long offset_ ;
+      /**
+       * <code>uint64 offset = 7;</code>
+       * @return The offset.
+       */
+      @java.lang.Override
+      public long getOffset() {
+        return offset_;
+      }
+      /**
+       * <code>uint64 offset = 7;</code>
+       * @param value The offset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOffset(long value) {
+        
+        offset_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 offset = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOffset() {
+        
+        offset_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<io.github.portlek.synergy.proto.P3.BlockCopy> copies_ =
+        java.util.Collections.emptyList();
+      private void ensureCopiesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          copies_ = new java.util.ArrayList<io.github.portlek.synergy.proto.P3.BlockCopy>(copies_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.portlek.synergy.proto.P3.BlockCopy, io.github.portlek.synergy.proto.P3.BlockCopy.Builder, io.github.portlek.synergy.proto.P3.BlockCopyOrBuilder> copiesBuilder_;
+
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public java.util.List<io.github.portlek.synergy.proto.P3.BlockCopy> getCopiesList() {
+        if (copiesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(copies_);
+        } else {
+          return copiesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public int getCopiesCount() {
+        if (copiesBuilder_ == null) {
+          return copies_.size();
+        } else {
+          return copiesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public io.github.portlek.synergy.proto.P3.BlockCopy getCopies(int index) {
+        if (copiesBuilder_ == null) {
+          return copies_.get(index);
+        } else {
+          return copiesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public Builder setCopies(
+          int index, io.github.portlek.synergy.proto.P3.BlockCopy value) {
+        if (copiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCopiesIsMutable();
+          copies_.set(index, value);
+          onChanged();
+        } else {
+          copiesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public Builder setCopies(
+          int index, io.github.portlek.synergy.proto.P3.BlockCopy.Builder builderForValue) {
+        if (copiesBuilder_ == null) {
+          ensureCopiesIsMutable();
+          copies_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          copiesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public Builder addCopies(io.github.portlek.synergy.proto.P3.BlockCopy value) {
+        if (copiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCopiesIsMutable();
+          copies_.add(value);
+          onChanged();
+        } else {
+          copiesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public Builder addCopies(
+          int index, io.github.portlek.synergy.proto.P3.BlockCopy value) {
+        if (copiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCopiesIsMutable();
+          copies_.add(index, value);
+          onChanged();
+        } else {
+          copiesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public Builder addCopies(
+          io.github.portlek.synergy.proto.P3.BlockCopy.Builder builderForValue) {
+        if (copiesBuilder_ == null) {
+          ensureCopiesIsMutable();
+          copies_.add(builderForValue.build());
+          onChanged();
+        } else {
+          copiesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public Builder addCopies(
+          int index, io.github.portlek.synergy.proto.P3.BlockCopy.Builder builderForValue) {
+        if (copiesBuilder_ == null) {
+          ensureCopiesIsMutable();
+          copies_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          copiesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public Builder addAllCopies(
+          java.lang.Iterable<? extends io.github.portlek.synergy.proto.P3.BlockCopy> values) {
+        if (copiesBuilder_ == null) {
+          ensureCopiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, copies_);
+          onChanged();
+        } else {
+          copiesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public Builder clearCopies() {
+        if (copiesBuilder_ == null) {
+          copies_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          copiesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public Builder removeCopies(int index) {
+        if (copiesBuilder_ == null) {
+          ensureCopiesIsMutable();
+          copies_.remove(index);
+          onChanged();
+        } else {
+          copiesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public io.github.portlek.synergy.proto.P3.BlockCopy.Builder getCopiesBuilder(
+          int index) {
+        return getCopiesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public io.github.portlek.synergy.proto.P3.BlockCopyOrBuilder getCopiesOrBuilder(
+          int index) {
+        if (copiesBuilder_ == null) {
+          return copies_.get(index);  } else {
+          return copiesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public java.util.List<? extends io.github.portlek.synergy.proto.P3.BlockCopyOrBuilder> 
+           getCopiesOrBuilderList() {
+        if (copiesBuilder_ != null) {
+          return copiesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(copies_);
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public io.github.portlek.synergy.proto.P3.BlockCopy.Builder addCopiesBuilder() {
+        return getCopiesFieldBuilder().addBuilder(
+            io.github.portlek.synergy.proto.P3.BlockCopy.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public io.github.portlek.synergy.proto.P3.BlockCopy.Builder addCopiesBuilder(
+          int index) {
+        return getCopiesFieldBuilder().addBuilder(
+            index, io.github.portlek.synergy.proto.P3.BlockCopy.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.BlockCopy copies = 8;</code>
+       */
+      public java.util.List<io.github.portlek.synergy.proto.P3.BlockCopy.Builder> 
+           getCopiesBuilderList() {
+        return getCopiesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.portlek.synergy.proto.P3.BlockCopy, io.github.portlek.synergy.proto.P3.BlockCopy.Builder, io.github.portlek.synergy.proto.P3.BlockCopyOrBuilder> 
+          getCopiesFieldBuilder() {
+        if (copiesBuilder_ == null) {
+          copiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              io.github.portlek.synergy.proto.P3.BlockCopy, io.github.portlek.synergy.proto.P3.BlockCopy.Builder, io.github.portlek.synergy.proto.P3.BlockCopyOrBuilder>(
+                  copies_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          copies_ = null;
+        }
+        return copiesBuilder_;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -2704,63 +3150,635 @@ public final class P3 {
 
   }
 
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_io_github_portlek_synergy_proto_P3Meta_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_io_github_portlek_synergy_proto_P3Meta_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_io_github_portlek_synergy_proto_PackageData_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_io_github_portlek_synergy_proto_PackageData_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_io_github_portlek_synergy_proto_SplitPackageData_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_io_github_portlek_synergy_proto_SplitPackageData_fieldAccessorTable;
+  public interface BlockCopyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.BlockCopy)
+      com.google.protobuf.MessageOrBuilder {
 
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
+    /**
+     * <code>uint32 block = 1;</code>
+     * @return The block.
+     */
+    int getBlock();
+
+    /**
+     * <code>uint32 count = 2;</code>
+     * @return The count.
+     */
+    int getCount();
   }
-  private static  com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    java.lang.String[] descriptorData = {
-      "\n\010p3.proto\022\037io.github.portlek.synergy.pr" +
-      "oto\"7\n\006P3Meta\022\n\n\002id\030\001 \001(\t\022\017\n\007version\030\002 \001" +
-      "(\t\022\020\n\010promoted\030\003 \001(\010\"d\n\013PackageData\0225\n\004m" +
-      "eta\030\001 \001(\0132\'.io.github.portlek.synergy.pr" +
-      "oto.P3Meta\022\020\n\010checksum\030\003 \001(\t\022\014\n\004data\030\002 \001" +
-      "(\014\"\241\001\n\020SplitPackageData\0225\n\004meta\030\001 \001(\0132\'." +
-      "io.github.portlek.synergy.proto.P3Meta\022\020" +
-      "\n\010checksum\030\002 \001(\t\022\021\n\tendOfFile\030\003 \001(\010\022\022\n\nc" +
-      "hunkCount\030\004 \001(\r\022\017\n\007chunkId\030\005 \001(\r\022\014\n\004data" +
-      "\030\006 \001(\014B\006B\002P3H\001b\006proto3"
-    };
-    descriptor = com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-        });
-    internal_static_io_github_portlek_synergy_proto_P3Meta_descriptor =
-      getDescriptor().getMessageTypes().get(0);
-    internal_static_io_github_portlek_synergy_proto_P3Meta_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_io_github_portlek_synergy_proto_P3Meta_descriptor,
-        new java.lang.String[] { "Id", "Version", "Promoted", });
-    internal_static_io_github_portlek_synergy_proto_PackageData_descriptor =
-      getDescriptor().getMessageTypes().get(1);
-    internal_static_io_github_portlek_synergy_proto_PackageData_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_io_github_portlek_synergy_proto_PackageData_descriptor,
-        new java.lang.String[] { "Meta", "Checksum", "Data", });
-    internal_static_io_github_portlek_synergy_proto_SplitPackageData_descriptor =
-      getDescriptor().getMessageTypes().get(2);
+  /**
+   * Protobuf type {@code io.github.portlek.synergy.proto.BlockCopy}
+   */
+  public static final class BlockCopy extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.BlockCopy)
+      BlockCopyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BlockCopy.newBuilder() to construct.
+    private BlockCopy(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BlockCopy() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BlockCopy();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BlockCopy(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              block_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+
+              count_ = input.readUInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.portlek.synergy.proto.P3.internal_static_io_github_portlek_synergy_proto_BlockCopy_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.portlek.synergy.proto.P3.internal_static_io_github_portlek_synergy_proto_BlockCopy_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.portlek.synergy.proto.P3.BlockCopy.class, io.github.portlek.synergy.proto.P3.BlockCopy.Builder.class);
+    }
+
+    public static final int BLOCK_FIELD_NUMBER = 1;
+    private int block_;
+    /**
+     * <code>uint32 block = 1;</code>
+     * @return The block.
+     */
+    @java.lang.Override
+    public int getBlock() {
+      return block_;
+    }
+
+    public static final int COUNT_FIELD_NUMBER = 2;
+    private int count_;
+    /**
+     * <code>uint32 count = 2;</code>
+     * @return The count.
+     */
+    @java.lang.Override
+    public int getCount() {
+      return count_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (block_ != 0) {
+        output.writeUInt32(1, block_);
+      }
+      if (count_ != 0) {
+        output.writeUInt32(2, count_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (block_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, block_);
+      }
+      if (count_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, count_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.portlek.synergy.proto.P3.BlockCopy)) {
+        return super.equals(obj);
+      }
+      io.github.portlek.synergy.proto.P3.BlockCopy other = (io.github.portlek.synergy.proto.P3.BlockCopy) obj;
+
+      if (getBlock()
+          != other.getBlock()) return false;
+      if (getCount()
+          != other.getCount()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + BLOCK_FIELD_NUMBER;
+      hash = (53 * hash) + getBlock();
+      hash = (37 * hash) + COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getCount();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.portlek.synergy.proto.P3.BlockCopy parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.P3.BlockCopy parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.P3.BlockCopy parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.P3.BlockCopy parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.P3.BlockCopy parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.P3.BlockCopy parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.P3.BlockCopy parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.P3.BlockCopy parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.P3.BlockCopy parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.P3.BlockCopy parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.P3.BlockCopy parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.P3.BlockCopy parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.portlek.synergy.proto.P3.BlockCopy prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code io.github.portlek.synergy.proto.BlockCopy}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.BlockCopy)
+        io.github.portlek.synergy.proto.P3.BlockCopyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.portlek.synergy.proto.P3.internal_static_io_github_portlek_synergy_proto_BlockCopy_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.portlek.synergy.proto.P3.internal_static_io_github_portlek_synergy_proto_BlockCopy_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.portlek.synergy.proto.P3.BlockCopy.class, io.github.portlek.synergy.proto.P3.BlockCopy.Builder.class);
+      }
+
+      // Construct using io.github.portlek.synergy.proto.P3.BlockCopy.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        block_ = 0;
+
+        count_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.portlek.synergy.proto.P3.internal_static_io_github_portlek_synergy_proto_BlockCopy_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.P3.BlockCopy getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.P3.BlockCopy.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.P3.BlockCopy build() {
+        io.github.portlek.synergy.proto.P3.BlockCopy result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.P3.BlockCopy buildPartial() {
+        io.github.portlek.synergy.proto.P3.BlockCopy result = new io.github.portlek.synergy.proto.P3.BlockCopy(this);
+        result.block_ = block_;
+        result.count_ = count_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.portlek.synergy.proto.P3.BlockCopy) {
+          return mergeFrom((io.github.portlek.synergy.proto.P3.BlockCopy)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.portlek.synergy.proto.P3.BlockCopy other) {
+        if (other == io.github.portlek.synergy.proto.P3.BlockCopy.getDefaultInstance()) return this;
+        if (other.getBlock() != 0) {
+          setBlock(other.getBlock());
+        }
+        if (other.getCount() != 0) {
+          setCount(other.getCount());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        io.github.portlek.synergy.proto.P3.BlockCopy parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (io.github.portlek.synergy.proto.P3.BlockCopy) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int block_ ;
+      /**
+       * <code>uint32 block = 1;</code>
+       * @return The block.
+       */
+      @java.lang.Override
+      public int getBlock() {
+        return block_;
+      }
+      /**
+       * <code>uint32 block = 1;</code>
+       * @param value The block to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBlock(int value) {
+        
+        block_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 block = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBlock() {
+        
+        block_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int count_ ;
+      /**
+       * <code>uint32 count = 2;</code>
+       * @return The count.
+       */
+      @java.lang.Override
+      public int getCount() {
+        return count_;
+      }
+      /**
+       * <code>uint32 count = 2;</code>
+       * @param value The count to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCount(int value) {
+        
+        count_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 count = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCount() {
+        
+        count_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.BlockCopy)
+    }
+
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.BlockCopy)
+    private static final io.github.portlek.synergy.proto.P3.BlockCopy DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.P3.BlockCopy();
+    }
+
+    public static io.github.portlek.synergy.proto.P3.BlockCopy getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BlockCopy>
+        PARSER = new com.google.protobuf.AbstractParser<BlockCopy>() {
+      @java.lang.Override
+      public BlockCopy parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BlockCopy(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<BlockCopy> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BlockCopy> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.P3.BlockCopy getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_io_github_portlek_synergy_proto_P3Meta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_io_github_portlek_synergy_proto_P3Meta_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_io_github_portlek_synergy_proto_PackageData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_io_github_portlek_synergy_proto_PackageData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_io_github_portlek_synergy_proto_SplitPackageData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_io_github_portlek_synergy_proto_SplitPackageData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_io_github_portlek_synergy_proto_BlockCopy_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_io_github_portlek_synergy_proto_BlockCopy_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\010p3.proto\022\037io.github.portlek.synergy.pr" +
+      "oto\"7\n\006P3Meta\022\n\n\002id\030\001 \001(\t\022\017\n\007version\030\002 \001" +
+      "(\t\022\020\n\010promoted\030\003 \001(\010\"d\n\013PackageData\0225\n\004m" +
+      "eta\030\001 \001(\0132\'.io.github.portlek.synergy.pr" +
+      "oto.P3Meta\022\020\n\010checksum\030\003 \001(\t\022\014\n\004data\030\002 \001" +
+      "(\014\"\355\001\n\020SplitPackageData\0225\n\004meta\030\001 \001(\0132\'." +
+      "io.github.portlek.synergy.proto.P3Meta\022\020" +
+      "\n\010checksum\030\002 \001(\t\022\021\n\tendOfFile\030\003 \001(\010\022\022\n\nc" +
+      "hunkCount\030\004 \001(\r\022\017\n\007chunkId\030\005 \001(\r\022\014\n\004data" +
+      "\030\006 \001(\014\022\016\n\006offset\030\007 \001(\004\022:\n\006copies\030\010 \003(\0132*" +
+      ".io.github.portlek.synergy.proto.BlockCo" +
+      "py\")\n\tBlockCopy\022\r\n\005block\030\001 \001(\r\022\r\n\005count\030" +
+      "\002 \001(\rB\006B\002P3H\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_io_github_portlek_synergy_proto_P3Meta_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_io_github_portlek_synergy_proto_P3Meta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_io_github_portlek_synergy_proto_P3Meta_descriptor,
+        new java.lang.String[] { "Id", "Version", "Promoted", });
+    internal_static_io_github_portlek_synergy_proto_PackageData_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_io_github_portlek_synergy_proto_PackageData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_io_github_portlek_synergy_proto_PackageData_descriptor,
+        new java.lang.String[] { "Meta", "Checksum", "Data", });
+    internal_static_io_github_portlek_synergy_proto_SplitPackageData_descriptor =
+      getDescriptor().getMessageTypes().get(2);
     internal_static_io_github_portlek_synergy_proto_SplitPackageData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_SplitPackageData_descriptor,
-        new java.lang.String[] { "Meta", "Checksum", "EndOfFile", "ChunkCount", "ChunkId", "Data", });
+        new java.lang.String[] { "Meta", "Checksum", "EndOfFile", "ChunkCount", "ChunkId", "Data", "Offset", "Copies", });
+    internal_static_io_github_portlek_synergy_proto_BlockCopy_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_io_github_portlek_synergy_proto_BlockCopy_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_io_github_portlek_synergy_proto_BlockCopy_descriptor,
+        new java.lang.String[] { "Block", "Count", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
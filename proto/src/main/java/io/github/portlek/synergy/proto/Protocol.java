@@ -53,6 +53,27 @@ public final class Protocol {
      * @return The version.
      */
     int getVersion();
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+     * @return Whether the handshake field is set.
+     */
+    boolean hasHandshake();
+    /**
+     * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+     * @return The handshake.
+     */
+    io.github.portlek.synergy.proto.Protocol.Handshake getHandshake();
+    /**
+     * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+     */
+    io.github.portlek.synergy.proto.Protocol.HandshakeOrBuilder getHandshakeOrBuilder();
+
+    /**
+     * <code>bytes mac = 6;</code>
+     * @return The mac.
+     */
+    com.google.protobuf.ByteString getMac();
   }
   /**
    * Protobuf type {@code io.github.portlek.synergy.proto.AuthenticatedMessage}
@@ -70,6 +91,7 @@ public final class Protocol {
       coordinatorId_ = "";
       hash_ = "";
       payload_ = com.google.protobuf.ByteString.EMPTY;
+      mac_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -124,6 +146,24 @@ public final class Protocol {
               version_ = input.readUInt32();
               break;
             }
+            case 42: {
+              io.github.portlek.synergy.proto.Protocol.Handshake.Builder subBuilder = null;
+              if (handshake_ != null) {
+                subBuilder = handshake_.toBuilder();
+              }
+              handshake_ = input.readMessage(io.github.portlek.synergy.proto.Protocol.Handshake.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(handshake_);
+                handshake_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 50: {
+
+              mac_ = input.readBytes();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -254,6 +294,43 @@ public final class Protocol {
       return version_;
     }
 
+    public static final int HANDSHAKE_FIELD_NUMBER = 5;
+    private io.github.portlek.synergy.proto.Protocol.Handshake handshake_;
+    /**
+     * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+     * @return Whether the handshake field is set.
+     */
+    @java.lang.Override
+    public boolean hasHandshake() {
+      return handshake_ != null;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+     * @return The handshake.
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Protocol.Handshake getHandshake() {
+      return handshake_ == null ? io.github.portlek.synergy.proto.Protocol.Handshake.getDefaultInstance() : handshake_;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Protocol.HandshakeOrBuilder getHandshakeOrBuilder() {
+      return getHandshake();
+    }
+
+    public static final int MAC_FIELD_NUMBER = 6;
+    private com.google.protobuf.ByteString mac_;
+    /**
+     * <code>bytes mac = 6;</code>
+     * @return The mac.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getMac() {
+      return mac_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -280,6 +357,12 @@ public final class Protocol {
       if (version_ != 0) {
         output.writeUInt32(4, version_);
       }
+      if (handshake_ != null) {
+        output.writeMessage(5, getHandshake());
+      }
+      if (!mac_.isEmpty()) {
+        output.writeBytes(6, mac_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -303,6 +386,14 @@ public final class Protocol {
         size += com.google.protobuf.CodedOutputStream
           .computeUInt32Size(4, version_);
       }
+      if (handshake_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getHandshake());
+      }
+      if (!mac_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, mac_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -326,6 +417,13 @@ public final class Protocol {
           .equals(other.getPayload())) return false;
       if (getVersion()
           != other.getVersion()) return false;
+      if (hasHandshake() != other.hasHandshake()) return false;
+      if (hasHandshake()) {
+        if (!getHandshake()
+            .equals(other.getHandshake())) return false;
+      }
+      if (!getMac()
+          .equals(other.getMac())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -345,6 +443,12 @@ public final class Protocol {
       hash = (53 * hash) + getPayload().hashCode();
       hash = (37 * hash) + VERSION_FIELD_NUMBER;
       hash = (53 * hash) + getVersion();
+      if (hasHandshake()) {
+        hash = (37 * hash) + HANDSHAKE_FIELD_NUMBER;
+        hash = (53 * hash) + getHandshake().hashCode();
+      }
+      hash = (37 * hash) + MAC_FIELD_NUMBER;
+      hash = (53 * hash) + getMac().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -486,6 +590,14 @@ public final class Protocol {
 
         version_ = 0;
 
+        if (handshakeBuilder_ == null) {
+          handshake_ = null;
+        } else {
+          handshake_ = null;
+          handshakeBuilder_ = null;
+        }
+        mac_ = com.google.protobuf.ByteString.EMPTY;
+
         return this;
       }
 
@@ -516,6 +628,12 @@ public final class Protocol {
         result.hash_ = hash_;
         result.payload_ = payload_;
         result.version_ = version_;
+        if (handshakeBuilder_ == null) {
+          result.handshake_ = handshake_;
+        } else {
+          result.handshake_ = handshakeBuilder_.build();
+        }
+        result.mac_ = mac_;
         onBuilt();
         return result;
       }
@@ -578,6 +696,12 @@ public final class Protocol {
         if (other.getVersion() != 0) {
           setVersion(other.getVersion());
         }
+        if (other.hasHandshake()) {
+          mergeHandshake(other.getHandshake());
+        }
+        if (other.getMac() != com.google.protobuf.ByteString.EMPTY) {
+          setMac(other.getMac());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -823,6 +947,159 @@ public final class Protocol {
         onChanged();
         return this;
       }
+
+      private io.github.portlek.synergy.proto.Protocol.Handshake handshake_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.Protocol.Handshake, io.github.portlek.synergy.proto.Protocol.Handshake.Builder, io.github.portlek.synergy.proto.Protocol.HandshakeOrBuilder> handshakeBuilder_;
+      /**
+       * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+       * @return Whether the handshake field is set.
+       */
+      public boolean hasHandshake() {
+        return handshakeBuilder_ != null || handshake_ != null;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+       * @return The handshake.
+       */
+      public io.github.portlek.synergy.proto.Protocol.Handshake getHandshake() {
+        if (handshakeBuilder_ == null) {
+          return handshake_ == null ? io.github.portlek.synergy.proto.Protocol.Handshake.getDefaultInstance() : handshake_;
+        } else {
+          return handshakeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+       */
+      public Builder setHandshake(io.github.portlek.synergy.proto.Protocol.Handshake value) {
+        if (handshakeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          handshake_ = value;
+          onChanged();
+        } else {
+          handshakeBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+       */
+      public Builder setHandshake(
+          io.github.portlek.synergy.proto.Protocol.Handshake.Builder builderForValue) {
+        if (handshakeBuilder_ == null) {
+          handshake_ = builderForValue.build();
+          onChanged();
+        } else {
+          handshakeBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+       */
+      public Builder mergeHandshake(io.github.portlek.synergy.proto.Protocol.Handshake value) {
+        if (handshakeBuilder_ == null) {
+          if (handshake_ != null) {
+            handshake_ =
+              io.github.portlek.synergy.proto.Protocol.Handshake.newBuilder(handshake_).mergeFrom(value).buildPartial();
+          } else {
+            handshake_ = value;
+          }
+          onChanged();
+        } else {
+          handshakeBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+       */
+      public Builder clearHandshake() {
+        if (handshakeBuilder_ == null) {
+          handshake_ = null;
+          onChanged();
+        } else {
+          handshake_ = null;
+          handshakeBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+       */
+      public io.github.portlek.synergy.proto.Protocol.Handshake.Builder getHandshakeBuilder() {
+        
+        onChanged();
+        return getHandshakeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+       */
+      public io.github.portlek.synergy.proto.Protocol.HandshakeOrBuilder getHandshakeOrBuilder() {
+        if (handshakeBuilder_ != null) {
+          return handshakeBuilder_.getMessageOrBuilder();
+        } else {
+          return handshake_ == null ?
+              io.github.portlek.synergy.proto.Protocol.Handshake.getDefaultInstance() : handshake_;
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Handshake handshake = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.Protocol.Handshake, io.github.portlek.synergy.proto.Protocol.Handshake.Builder, io.github.portlek.synergy.proto.Protocol.HandshakeOrBuilder> 
+          getHandshakeFieldBuilder() {
+        if (handshakeBuilder_ == null) {
+          handshakeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.portlek.synergy.proto.Protocol.Handshake, io.github.portlek.synergy.proto.Protocol.Handshake.Builder, io.github.portlek.synergy.proto.Protocol.HandshakeOrBuilder>(
+                  getHandshake(),
+                  getParentForChildren(),
+                  isClean());
+          handshake_ = null;
+        }
+        return handshakeBuilder_;
+      }
+
+      private com.google.protobuf.ByteString mac_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes mac = 6;</code>
+       * @return The mac.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getMac() {
+        return mac_;
+      }
+      /**
+       * <code>bytes mac = 6;</code>
+       * @param value The mac to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMac(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        mac_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes mac = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMac() {
+        
+        mac_ = getDefaultInstance().getMac();
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -876,70 +1153,37 @@ public final class Protocol {
 
   }
 
-  public interface TransactionOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.Transaction)
+  public interface HandshakeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.Handshake)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string id = 1;</code>
-     * @return The id.
-     */
-    java.lang.String getId();
-    /**
-     * <code>string id = 1;</code>
-     * @return The bytes for id.
-     */
-    com.google.protobuf.ByteString
-        getIdBytes();
-
-    /**
-     * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
-     * @return The enum numeric value on the wire for mode.
-     */
-    int getModeValue();
-    /**
-     * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
-     * @return The mode.
-     */
-    io.github.portlek.synergy.proto.Protocol.Transaction.Mode getMode();
-
-    /**
-     * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
-     * @return Whether the payload field is set.
-     */
-    boolean hasPayload();
-    /**
-     * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
-     * @return The payload.
-     */
-    io.github.portlek.synergy.proto.Commands.BaseCommand getPayload();
-    /**
-     * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+     * <code>bytes nonce = 1;</code>
+     * @return The nonce.
      */
-    io.github.portlek.synergy.proto.Commands.BaseCommandOrBuilder getPayloadOrBuilder();
+    com.google.protobuf.ByteString getNonce();
   }
   /**
-   * Protobuf type {@code io.github.portlek.synergy.proto.Transaction}
+   * Protobuf type {@code io.github.portlek.synergy.proto.Handshake}
    */
-  public static final class Transaction extends
+  public static final class Handshake extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.Transaction)
-      TransactionOrBuilder {
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.Handshake)
+      HandshakeOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Transaction.newBuilder() to construct.
-    private Transaction(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use Handshake.newBuilder() to construct.
+    private Handshake(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Transaction() {
-      id_ = "";
-      mode_ = 0;
+    private Handshake() {
+      nonce_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new Transaction();
+      return new Handshake();
     }
 
     @java.lang.Override
@@ -947,7 +1191,7 @@ public final class Protocol {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Transaction(
+    private Handshake(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -966,28 +1210,8 @@ public final class Protocol {
               done = true;
               break;
             case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              id_ = s;
-              break;
-            }
-            case 16: {
-              int rawValue = input.readEnum();
-
-              mode_ = rawValue;
-              break;
-            }
-            case 26: {
-              io.github.portlek.synergy.proto.Commands.BaseCommand.Builder subBuilder = null;
-              if (payload_ != null) {
-                subBuilder = payload_.toBuilder();
-              }
-              payload_ = input.readMessage(io.github.portlek.synergy.proto.Commands.BaseCommand.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(payload_);
-                payload_ = subBuilder.buildPartial();
-              }
 
+              nonce_ = input.readBytes();
               break;
             }
             default: {
@@ -1011,57 +1235,650 @@ public final class Protocol {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Transaction_descriptor;
+      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Handshake_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Transaction_fieldAccessorTable
+      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Handshake_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              io.github.portlek.synergy.proto.Protocol.Transaction.class, io.github.portlek.synergy.proto.Protocol.Transaction.Builder.class);
+              io.github.portlek.synergy.proto.Protocol.Handshake.class, io.github.portlek.synergy.proto.Protocol.Handshake.Builder.class);
     }
 
+    public static final int NONCE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString nonce_;
     /**
-     * Protobuf enum {@code io.github.portlek.synergy.proto.Transaction.Mode}
+     * <code>bytes nonce = 1;</code>
+     * @return The nonce.
      */
-    public enum Mode
-        implements com.google.protobuf.ProtocolMessageEnum {
-      /**
-       * <code>CREATE = 0;</code>
-       */
-      CREATE(0),
-      /**
-       * <code>CONTINUE = 1;</code>
-       */
-      CONTINUE(1),
-      /**
-       * <code>COMPLETE = 2;</code>
-       */
-      COMPLETE(2),
-      /**
-       * <code>SINGLE = 3;</code>
-       */
-      SINGLE(3),
-      UNRECOGNIZED(-1),
-      ;
-
-      /**
-       * <code>CREATE = 0;</code>
-       */
-      public static final int CREATE_VALUE = 0;
-      /**
-       * <code>CONTINUE = 1;</code>
-       */
-      public static final int CONTINUE_VALUE = 1;
-      /**
-       * <code>COMPLETE = 2;</code>
-       */
-      public static final int COMPLETE_VALUE = 2;
-      /**
-       * <code>SINGLE = 3;</code>
-       */
-      public static final int SINGLE_VALUE = 3;
+    @java.lang.Override
+    public com.google.protobuf.ByteString getNonce() {
+      return nonce_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!nonce_.isEmpty()) {
+        output.writeBytes(1, nonce_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!nonce_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, nonce_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.portlek.synergy.proto.Protocol.Handshake)) {
+        return super.equals(obj);
+      }
+      io.github.portlek.synergy.proto.Protocol.Handshake other = (io.github.portlek.synergy.proto.Protocol.Handshake) obj;
+
+      if (!getNonce()
+          .equals(other.getNonce())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NONCE_FIELD_NUMBER;
+      hash = (53 * hash) + getNonce().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.portlek.synergy.proto.Protocol.Handshake parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Handshake parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Handshake parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Handshake parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Handshake parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Handshake parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Handshake parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Handshake parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Handshake parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Handshake parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Handshake parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Handshake parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Protocol.Handshake prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code io.github.portlek.synergy.proto.Handshake}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.Handshake)
+        io.github.portlek.synergy.proto.Protocol.HandshakeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Handshake_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Handshake_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.portlek.synergy.proto.Protocol.Handshake.class, io.github.portlek.synergy.proto.Protocol.Handshake.Builder.class);
+      }
+
+      // Construct using io.github.portlek.synergy.proto.Protocol.Handshake.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        nonce_ = com.google.protobuf.ByteString.EMPTY;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Handshake_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.Handshake getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Protocol.Handshake.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.Handshake build() {
+        io.github.portlek.synergy.proto.Protocol.Handshake result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.Handshake buildPartial() {
+        io.github.portlek.synergy.proto.Protocol.Handshake result = new io.github.portlek.synergy.proto.Protocol.Handshake(this);
+        result.nonce_ = nonce_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.portlek.synergy.proto.Protocol.Handshake) {
+          return mergeFrom((io.github.portlek.synergy.proto.Protocol.Handshake)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Protocol.Handshake other) {
+        if (other == io.github.portlek.synergy.proto.Protocol.Handshake.getDefaultInstance()) return this;
+        if (other.getNonce() != com.google.protobuf.ByteString.EMPTY) {
+          setNonce(other.getNonce());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        io.github.portlek.synergy.proto.Protocol.Handshake parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (io.github.portlek.synergy.proto.Protocol.Handshake) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.google.protobuf.ByteString nonce_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes nonce = 1;</code>
+       * @return The nonce.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getNonce() {
+        return nonce_;
+      }
+      /**
+       * <code>bytes nonce = 1;</code>
+       * @param value The nonce to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNonce(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        nonce_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes nonce = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNonce() {
+        
+        nonce_ = getDefaultInstance().getNonce();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.Handshake)
+    }
+
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.Handshake)
+    private static final io.github.portlek.synergy.proto.Protocol.Handshake DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Protocol.Handshake();
+    }
+
+    public static io.github.portlek.synergy.proto.Protocol.Handshake getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Handshake>
+        PARSER = new com.google.protobuf.AbstractParser<Handshake>() {
+      @java.lang.Override
+      public Handshake parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Handshake(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Handshake> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Handshake> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Protocol.Handshake getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TransactionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.Transaction)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+     * @return The enum numeric value on the wire for mode.
+     */
+    int getModeValue();
+    /**
+     * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+     * @return The mode.
+     */
+    io.github.portlek.synergy.proto.Protocol.Transaction.Mode getMode();
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+     * @return Whether the payload field is set.
+     */
+    boolean hasPayload();
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+     * @return The payload.
+     */
+    io.github.portlek.synergy.proto.Commands.BaseCommand getPayload();
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+     */
+    io.github.portlek.synergy.proto.Commands.BaseCommandOrBuilder getPayloadOrBuilder();
+
+    /**
+     * <code>uint64 number = 4;</code>
+     * @return The number.
+     */
+    long getNumber();
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    int getTypeValue();
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+     * @return The type.
+     */
+    io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType getType();
+
+    /**
+     * <code>string target = 6;</code>
+     * @return The target.
+     */
+    java.lang.String getTarget();
+    /**
+     * <code>string target = 6;</code>
+     * @return The bytes for target.
+     */
+    com.google.protobuf.ByteString
+        getTargetBytes();
+  }
+  /**
+   * Protobuf type {@code io.github.portlek.synergy.proto.Transaction}
+   */
+  public static final class Transaction extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.Transaction)
+      TransactionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Transaction.newBuilder() to construct.
+    private Transaction(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Transaction() {
+      id_ = "";
+      mode_ = 0;
+      type_ = 0;
+      target_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Transaction();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Transaction(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              id_ = s;
+              break;
+            }
+            case 16: {
+              int rawValue = input.readEnum();
+
+              mode_ = rawValue;
+              break;
+            }
+            case 26: {
+              io.github.portlek.synergy.proto.Commands.BaseCommand.Builder subBuilder = null;
+              if (payload_ != null) {
+                subBuilder = payload_.toBuilder();
+              }
+              payload_ = input.readMessage(io.github.portlek.synergy.proto.Commands.BaseCommand.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(payload_);
+                payload_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 32: {
+
+              number_ = input.readUInt64();
+              break;
+            }
+            case 40: {
+              int rawValue = input.readEnum();
+
+              type_ = rawValue;
+              break;
+            }
+            case 50: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              target_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Transaction_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Transaction_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.portlek.synergy.proto.Protocol.Transaction.class, io.github.portlek.synergy.proto.Protocol.Transaction.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code io.github.portlek.synergy.proto.Transaction.Mode}
+     */
+    public enum Mode
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>CREATE = 0;</code>
+       */
+      CREATE(0),
+      /**
+       * <code>CONTINUE = 1;</code>
+       */
+      CONTINUE(1),
+      /**
+       * <code>COMPLETE = 2;</code>
+       */
+      COMPLETE(2),
+      /**
+       * <code>SINGLE = 3;</code>
+       */
+      SINGLE(3),
+      UNRECOGNIZED(-1),
+      ;
+
+      /**
+       * <code>CREATE = 0;</code>
+       */
+      public static final int CREATE_VALUE = 0;
+      /**
+       * <code>CONTINUE = 1;</code>
+       */
+      public static final int CONTINUE_VALUE = 1;
+      /**
+       * <code>COMPLETE = 2;</code>
+       */
+      public static final int COMPLETE_VALUE = 2;
+      /**
+       * <code>SINGLE = 3;</code>
+       */
+      public static final int SINGLE_VALUE = 3;
 
 
       public final int getNumber() {
@@ -1069,166 +1886,3992 @@ public final class Protocol {
           throw new java.lang.IllegalArgumentException(
               "Can't get the number of an unknown enum value.");
         }
-        return value;
+        return value;
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static Mode valueOf(int value) {
+        return forNumber(value);
+      }
+
+      /**
+       * @param value The numeric wire value of the corresponding enum entry.
+       * @return The enum associated with the given numeric wire value.
+       */
+      public static Mode forNumber(int value) {
+        switch (value) {
+          case 0: return CREATE;
+          case 1: return CONTINUE;
+          case 2: return COMPLETE;
+          case 3: return SINGLE;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Mode>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          Mode> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Mode>() {
+              public Mode findValueByNumber(int number) {
+                return Mode.forNumber(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        if (this == UNRECOGNIZED) {
+          throw new java.lang.IllegalStateException(
+              "Can't get the descriptor of an unrecognized enum value.");
+        }
+        return getDescriptor().getValues().get(ordinal());
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return io.github.portlek.synergy.proto.Protocol.Transaction.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Mode[] VALUES = values();
+
+      public static Mode valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        if (desc.getIndex() == -1) {
+          return UNRECOGNIZED;
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int value;
+
+      private Mode(int value) {
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:io.github.portlek.synergy.proto.Transaction.Mode)
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object id_;
+    /**
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MODE_FIELD_NUMBER = 2;
+    private int mode_;
+    /**
+     * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+     * @return The enum numeric value on the wire for mode.
+     */
+    @java.lang.Override public int getModeValue() {
+      return mode_;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+     * @return The mode.
+     */
+    @java.lang.Override public io.github.portlek.synergy.proto.Protocol.Transaction.Mode getMode() {
+      @SuppressWarnings("deprecation")
+      io.github.portlek.synergy.proto.Protocol.Transaction.Mode result = io.github.portlek.synergy.proto.Protocol.Transaction.Mode.valueOf(mode_);
+      return result == null ? io.github.portlek.synergy.proto.Protocol.Transaction.Mode.UNRECOGNIZED : result;
+    }
+
+    public static final int PAYLOAD_FIELD_NUMBER = 3;
+    private io.github.portlek.synergy.proto.Commands.BaseCommand payload_;
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+     * @return Whether the payload field is set.
+     */
+    @java.lang.Override
+    public boolean hasPayload() {
+      return payload_ != null;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+     * @return The payload.
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Commands.BaseCommand getPayload() {
+      return payload_ == null ? io.github.portlek.synergy.proto.Commands.BaseCommand.getDefaultInstance() : payload_;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Commands.BaseCommandOrBuilder getPayloadOrBuilder() {
+      return getPayload();
+    }
+
+    public static final int NUMBER_FIELD_NUMBER = 4;
+    private long number_;
+    /**
+     * <code>uint64 number = 4;</code>
+     * @return The number.
+     */
+    @java.lang.Override
+    public long getNumber() {
+      return number_;
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 5;
+    private int type_;
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    @java.lang.Override public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+     * @return The type.
+     */
+    @java.lang.Override public io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType getType() {
+      @SuppressWarnings("deprecation")
+      io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType result = io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.valueOf(type_);
+      return result == null ? io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.UNRECOGNIZED : result;
+    }
+
+    public static final int TARGET_FIELD_NUMBER = 6;
+    private volatile java.lang.Object target_;
+    /**
+     * <code>string target = 6;</code>
+     * @return The target.
+     */
+    @java.lang.Override
+    public java.lang.String getTarget() {
+      java.lang.Object ref = target_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        target_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string target = 6;</code>
+     * @return The bytes for target.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTargetBytes() {
+      java.lang.Object ref = target_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        target_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+      }
+      if (mode_ != io.github.portlek.synergy.proto.Protocol.Transaction.Mode.CREATE.getNumber()) {
+        output.writeEnum(2, mode_);
+      }
+      if (payload_ != null) {
+        output.writeMessage(3, getPayload());
+      }
+      if (number_ != 0L) {
+        output.writeUInt64(4, number_);
+      }
+      if (type_ != io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.NOOP.getNumber()) {
+        output.writeEnum(5, type_);
+      }
+      if (!getTargetBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, target_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+      }
+      if (mode_ != io.github.portlek.synergy.proto.Protocol.Transaction.Mode.CREATE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, mode_);
+      }
+      if (payload_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getPayload());
+      }
+      if (number_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, number_);
+      }
+      if (type_ != io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.NOOP.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(5, type_);
+      }
+      if (!getTargetBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, target_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.portlek.synergy.proto.Protocol.Transaction)) {
+        return super.equals(obj);
+      }
+      io.github.portlek.synergy.proto.Protocol.Transaction other = (io.github.portlek.synergy.proto.Protocol.Transaction) obj;
+
+      if (!getId()
+          .equals(other.getId())) return false;
+      if (mode_ != other.mode_) return false;
+      if (hasPayload() != other.hasPayload()) return false;
+      if (hasPayload()) {
+        if (!getPayload()
+            .equals(other.getPayload())) return false;
+      }
+      if (getNumber()
+          != other.getNumber()) return false;
+      if (type_ != other.type_) return false;
+      if (!getTarget()
+          .equals(other.getTarget())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId().hashCode();
+      hash = (37 * hash) + MODE_FIELD_NUMBER;
+      hash = (53 * hash) + mode_;
+      if (hasPayload()) {
+        hash = (37 * hash) + PAYLOAD_FIELD_NUMBER;
+        hash = (53 * hash) + getPayload().hashCode();
+      }
+      hash = (37 * hash) + NUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getNumber());
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + type_;
+      hash = (37 * hash) + TARGET_FIELD_NUMBER;
+      hash = (53 * hash) + getTarget().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Transaction parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Transaction parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Protocol.Transaction prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code io.github.portlek.synergy.proto.Transaction}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.Transaction)
+        io.github.portlek.synergy.proto.Protocol.TransactionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Transaction_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Transaction_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.portlek.synergy.proto.Protocol.Transaction.class, io.github.portlek.synergy.proto.Protocol.Transaction.Builder.class);
+      }
+
+      // Construct using io.github.portlek.synergy.proto.Protocol.Transaction.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        id_ = "";
+
+        mode_ = 0;
+
+        if (payloadBuilder_ == null) {
+          payload_ = null;
+        } else {
+          payload_ = null;
+          payloadBuilder_ = null;
+        }
+        number_ = 0L;
+
+        type_ = 0;
+
+        target_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Transaction_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.Transaction getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Protocol.Transaction.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.Transaction build() {
+        io.github.portlek.synergy.proto.Protocol.Transaction result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.Transaction buildPartial() {
+        io.github.portlek.synergy.proto.Protocol.Transaction result = new io.github.portlek.synergy.proto.Protocol.Transaction(this);
+        result.id_ = id_;
+        result.mode_ = mode_;
+        if (payloadBuilder_ == null) {
+          result.payload_ = payload_;
+        } else {
+          result.payload_ = payloadBuilder_.build();
+        }
+        result.number_ = number_;
+        result.type_ = type_;
+        result.target_ = target_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.portlek.synergy.proto.Protocol.Transaction) {
+          return mergeFrom((io.github.portlek.synergy.proto.Protocol.Transaction)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Protocol.Transaction other) {
+        if (other == io.github.portlek.synergy.proto.Protocol.Transaction.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          onChanged();
+        }
+        if (other.mode_ != 0) {
+          setModeValue(other.getModeValue());
+        }
+        if (other.hasPayload()) {
+          mergePayload(other.getPayload());
+        }
+        if (other.getNumber() != 0L) {
+          setNumber(other.getNumber());
+        }
+        if (other.type_ != 0) {
+          setTypeValue(other.getTypeValue());
+        }
+        if (!other.getTarget().isEmpty()) {
+          target_ = other.target_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        io.github.portlek.synergy.proto.Protocol.Transaction parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (io.github.portlek.synergy.proto.Protocol.Transaction) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object id_ = "";
+      /**
+       * <code>string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        
+        id_ = getDefaultInstance().getId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int mode_ = 0;
+      /**
+       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+       * @return The enum numeric value on the wire for mode.
+       */
+      @java.lang.Override public int getModeValue() {
+        return mode_;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+       * @param value The enum numeric value on the wire for mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModeValue(int value) {
+        
+        mode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+       * @return The mode.
+       */
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.Transaction.Mode getMode() {
+        @SuppressWarnings("deprecation")
+        io.github.portlek.synergy.proto.Protocol.Transaction.Mode result = io.github.portlek.synergy.proto.Protocol.Transaction.Mode.valueOf(mode_);
+        return result == null ? io.github.portlek.synergy.proto.Protocol.Transaction.Mode.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+       * @param value The mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMode(io.github.portlek.synergy.proto.Protocol.Transaction.Mode value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        mode_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMode() {
+        
+        mode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private io.github.portlek.synergy.proto.Commands.BaseCommand payload_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.Commands.BaseCommand, io.github.portlek.synergy.proto.Commands.BaseCommand.Builder, io.github.portlek.synergy.proto.Commands.BaseCommandOrBuilder> payloadBuilder_;
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       * @return Whether the payload field is set.
+       */
+      public boolean hasPayload() {
+        return payloadBuilder_ != null || payload_ != null;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       * @return The payload.
+       */
+      public io.github.portlek.synergy.proto.Commands.BaseCommand getPayload() {
+        if (payloadBuilder_ == null) {
+          return payload_ == null ? io.github.portlek.synergy.proto.Commands.BaseCommand.getDefaultInstance() : payload_;
+        } else {
+          return payloadBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       */
+      public Builder setPayload(io.github.portlek.synergy.proto.Commands.BaseCommand value) {
+        if (payloadBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          payloadBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       */
+      public Builder setPayload(
+          io.github.portlek.synergy.proto.Commands.BaseCommand.Builder builderForValue) {
+        if (payloadBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          payloadBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       */
+      public Builder mergePayload(io.github.portlek.synergy.proto.Commands.BaseCommand value) {
+        if (payloadBuilder_ == null) {
+          if (payload_ != null) {
+            payload_ =
+              io.github.portlek.synergy.proto.Commands.BaseCommand.newBuilder(payload_).mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          payloadBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       */
+      public Builder clearPayload() {
+        if (payloadBuilder_ == null) {
+          payload_ = null;
+          onChanged();
+        } else {
+          payload_ = null;
+          payloadBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       */
+      public io.github.portlek.synergy.proto.Commands.BaseCommand.Builder getPayloadBuilder() {
+        
+        onChanged();
+        return getPayloadFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       */
+      public io.github.portlek.synergy.proto.Commands.BaseCommandOrBuilder getPayloadOrBuilder() {
+        if (payloadBuilder_ != null) {
+          return payloadBuilder_.getMessageOrBuilder();
+        } else {
+          return payload_ == null ?
+              io.github.portlek.synergy.proto.Commands.BaseCommand.getDefaultInstance() : payload_;
+        }
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.portlek.synergy.proto.Commands.BaseCommand, io.github.portlek.synergy.proto.Commands.BaseCommand.Builder, io.github.portlek.synergy.proto.Commands.BaseCommandOrBuilder> 
+          getPayloadFieldBuilder() {
+        if (payloadBuilder_ == null) {
+          payloadBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.portlek.synergy.proto.Commands.BaseCommand, io.github.portlek.synergy.proto.Commands.BaseCommand.Builder, io.github.portlek.synergy.proto.Commands.BaseCommandOrBuilder>(
+                  getPayload(),
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        return payloadBuilder_;
+      }
+
+      private long number_ ;
+      /**
+       * <code>uint64 number = 4;</code>
+       * @return The number.
+       */
+      @java.lang.Override
+      public long getNumber() {
+        return number_;
+      }
+      /**
+       * <code>uint64 number = 4;</code>
+       * @param value The number to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNumber(long value) {
+        
+        number_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 number = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNumber() {
+        
+        number_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int type_ = 0;
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+       * @param value The enum numeric value on the wire for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeValue(int value) {
+        
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType getType() {
+        @SuppressWarnings("deprecation")
+        io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType result = io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.valueOf(type_);
+        return result == null ? io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        type_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object target_ = "";
+      /**
+       * <code>string target = 6;</code>
+       * @return The target.
+       */
+      public java.lang.String getTarget() {
+        java.lang.Object ref = target_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          target_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string target = 6;</code>
+       * @return The bytes for target.
+       */
+      public com.google.protobuf.ByteString
+          getTargetBytes() {
+        java.lang.Object ref = target_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          target_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string target = 6;</code>
+       * @param value The target to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTarget(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        target_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string target = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTarget() {
+        
+        target_ = getDefaultInstance().getTarget();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string target = 6;</code>
+       * @param value The bytes for target to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTargetBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        target_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.Transaction)
+    }
+
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.Transaction)
+    private static final io.github.portlek.synergy.proto.Protocol.Transaction DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Protocol.Transaction();
+    }
+
+    public static io.github.portlek.synergy.proto.Protocol.Transaction getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Transaction>
+        PARSER = new com.google.protobuf.AbstractParser<Transaction>() {
+      @java.lang.Override
+      public Transaction parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Transaction(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Transaction> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Transaction> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Protocol.Transaction getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TransactionBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.TransactionBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+     */
+    java.util.List<io.github.portlek.synergy.proto.Protocol.Transaction> 
+        getTransactionsList();
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+     */
+    io.github.portlek.synergy.proto.Protocol.Transaction getTransactions(int index);
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+     */
+    int getTransactionsCount();
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+     */
+    java.util.List<? extends io.github.portlek.synergy.proto.Protocol.TransactionOrBuilder> 
+        getTransactionsOrBuilderList();
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+     */
+    io.github.portlek.synergy.proto.Protocol.TransactionOrBuilder getTransactionsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code io.github.portlek.synergy.proto.TransactionBatch}
+   */
+  public static final class TransactionBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.TransactionBatch)
+      TransactionBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TransactionBatch.newBuilder() to construct.
+    private TransactionBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TransactionBatch() {
+      transactions_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TransactionBatch();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TransactionBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                transactions_ = new java.util.ArrayList<io.github.portlek.synergy.proto.Protocol.Transaction>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              transactions_.add(
+                  input.readMessage(io.github.portlek.synergy.proto.Protocol.Transaction.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          transactions_ = java.util.Collections.unmodifiableList(transactions_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.portlek.synergy.proto.Protocol.TransactionBatch.class, io.github.portlek.synergy.proto.Protocol.TransactionBatch.Builder.class);
+    }
+
+    public static final int TRANSACTIONS_FIELD_NUMBER = 1;
+    private java.util.List<io.github.portlek.synergy.proto.Protocol.Transaction> transactions_;
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<io.github.portlek.synergy.proto.Protocol.Transaction> getTransactionsList() {
+      return transactions_;
+    }
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends io.github.portlek.synergy.proto.Protocol.TransactionOrBuilder> 
+        getTransactionsOrBuilderList() {
+      return transactions_;
+    }
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+     */
+    @java.lang.Override
+    public int getTransactionsCount() {
+      return transactions_.size();
+    }
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Protocol.Transaction getTransactions(int index) {
+      return transactions_.get(index);
+    }
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Protocol.TransactionOrBuilder getTransactionsOrBuilder(
+        int index) {
+      return transactions_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < transactions_.size(); i++) {
+        output.writeMessage(1, transactions_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < transactions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, transactions_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.portlek.synergy.proto.Protocol.TransactionBatch)) {
+        return super.equals(obj);
+      }
+      io.github.portlek.synergy.proto.Protocol.TransactionBatch other = (io.github.portlek.synergy.proto.Protocol.TransactionBatch) obj;
+
+      if (!getTransactionsList()
+          .equals(other.getTransactionsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getTransactionsCount() > 0) {
+        hash = (37 * hash) + TRANSACTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getTransactionsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Protocol.TransactionBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code io.github.portlek.synergy.proto.TransactionBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.TransactionBatch)
+        io.github.portlek.synergy.proto.Protocol.TransactionBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.portlek.synergy.proto.Protocol.TransactionBatch.class, io.github.portlek.synergy.proto.Protocol.TransactionBatch.Builder.class);
+      }
+
+      // Construct using io.github.portlek.synergy.proto.Protocol.TransactionBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getTransactionsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (transactionsBuilder_ == null) {
+          transactions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          transactionsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.TransactionBatch getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Protocol.TransactionBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.TransactionBatch build() {
+        io.github.portlek.synergy.proto.Protocol.TransactionBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.TransactionBatch buildPartial() {
+        io.github.portlek.synergy.proto.Protocol.TransactionBatch result = new io.github.portlek.synergy.proto.Protocol.TransactionBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (transactionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            transactions_ = java.util.Collections.unmodifiableList(transactions_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.transactions_ = transactions_;
+        } else {
+          result.transactions_ = transactionsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.portlek.synergy.proto.Protocol.TransactionBatch) {
+          return mergeFrom((io.github.portlek.synergy.proto.Protocol.TransactionBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Protocol.TransactionBatch other) {
+        if (other == io.github.portlek.synergy.proto.Protocol.TransactionBatch.getDefaultInstance()) return this;
+        if (transactionsBuilder_ == null) {
+          if (!other.transactions_.isEmpty()) {
+            if (transactions_.isEmpty()) {
+              transactions_ = other.transactions_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureTransactionsIsMutable();
+              transactions_.addAll(other.transactions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.transactions_.isEmpty()) {
+            if (transactionsBuilder_.isEmpty()) {
+              transactionsBuilder_.dispose();
+              transactionsBuilder_ = null;
+              transactions_ = other.transactions_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              transactionsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTransactionsFieldBuilder() : null;
+            } else {
+              transactionsBuilder_.addAllMessages(other.transactions_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        io.github.portlek.synergy.proto.Protocol.TransactionBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (io.github.portlek.synergy.proto.Protocol.TransactionBatch) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<io.github.portlek.synergy.proto.Protocol.Transaction> transactions_ =
+        java.util.Collections.emptyList();
+      private void ensureTransactionsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          transactions_ = new java.util.ArrayList<io.github.portlek.synergy.proto.Protocol.Transaction>(transactions_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.portlek.synergy.proto.Protocol.Transaction, io.github.portlek.synergy.proto.Protocol.Transaction.Builder, io.github.portlek.synergy.proto.Protocol.TransactionOrBuilder> transactionsBuilder_;
+
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public java.util.List<io.github.portlek.synergy.proto.Protocol.Transaction> getTransactionsList() {
+        if (transactionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(transactions_);
+        } else {
+          return transactionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public int getTransactionsCount() {
+        if (transactionsBuilder_ == null) {
+          return transactions_.size();
+        } else {
+          return transactionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public io.github.portlek.synergy.proto.Protocol.Transaction getTransactions(int index) {
+        if (transactionsBuilder_ == null) {
+          return transactions_.get(index);
+        } else {
+          return transactionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public Builder setTransactions(
+          int index, io.github.portlek.synergy.proto.Protocol.Transaction value) {
+        if (transactionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransactionsIsMutable();
+          transactions_.set(index, value);
+          onChanged();
+        } else {
+          transactionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public Builder setTransactions(
+          int index, io.github.portlek.synergy.proto.Protocol.Transaction.Builder builderForValue) {
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          transactions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          transactionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public Builder addTransactions(io.github.portlek.synergy.proto.Protocol.Transaction value) {
+        if (transactionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransactionsIsMutable();
+          transactions_.add(value);
+          onChanged();
+        } else {
+          transactionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public Builder addTransactions(
+          int index, io.github.portlek.synergy.proto.Protocol.Transaction value) {
+        if (transactionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransactionsIsMutable();
+          transactions_.add(index, value);
+          onChanged();
+        } else {
+          transactionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public Builder addTransactions(
+          io.github.portlek.synergy.proto.Protocol.Transaction.Builder builderForValue) {
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          transactions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          transactionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public Builder addTransactions(
+          int index, io.github.portlek.synergy.proto.Protocol.Transaction.Builder builderForValue) {
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          transactions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          transactionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public Builder addAllTransactions(
+          java.lang.Iterable<? extends io.github.portlek.synergy.proto.Protocol.Transaction> values) {
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, transactions_);
+          onChanged();
+        } else {
+          transactionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public Builder clearTransactions() {
+        if (transactionsBuilder_ == null) {
+          transactions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          transactionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public Builder removeTransactions(int index) {
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          transactions_.remove(index);
+          onChanged();
+        } else {
+          transactionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public io.github.portlek.synergy.proto.Protocol.Transaction.Builder getTransactionsBuilder(
+          int index) {
+        return getTransactionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public io.github.portlek.synergy.proto.Protocol.TransactionOrBuilder getTransactionsOrBuilder(
+          int index) {
+        if (transactionsBuilder_ == null) {
+          return transactions_.get(index);  } else {
+          return transactionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public java.util.List<? extends io.github.portlek.synergy.proto.Protocol.TransactionOrBuilder> 
+           getTransactionsOrBuilderList() {
+        if (transactionsBuilder_ != null) {
+          return transactionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(transactions_);
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public io.github.portlek.synergy.proto.Protocol.Transaction.Builder addTransactionsBuilder() {
+        return getTransactionsFieldBuilder().addBuilder(
+            io.github.portlek.synergy.proto.Protocol.Transaction.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public io.github.portlek.synergy.proto.Protocol.Transaction.Builder addTransactionsBuilder(
+          int index) {
+        return getTransactionsFieldBuilder().addBuilder(
+            index, io.github.portlek.synergy.proto.Protocol.Transaction.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.Transaction transactions = 1;</code>
+       */
+      public java.util.List<io.github.portlek.synergy.proto.Protocol.Transaction.Builder> 
+           getTransactionsBuilderList() {
+        return getTransactionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.portlek.synergy.proto.Protocol.Transaction, io.github.portlek.synergy.proto.Protocol.Transaction.Builder, io.github.portlek.synergy.proto.Protocol.TransactionOrBuilder> 
+          getTransactionsFieldBuilder() {
+        if (transactionsBuilder_ == null) {
+          transactionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              io.github.portlek.synergy.proto.Protocol.Transaction, io.github.portlek.synergy.proto.Protocol.Transaction.Builder, io.github.portlek.synergy.proto.Protocol.TransactionOrBuilder>(
+                  transactions_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          transactions_ = null;
+        }
+        return transactionsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.TransactionBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.TransactionBatch)
+    private static final io.github.portlek.synergy.proto.Protocol.TransactionBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Protocol.TransactionBatch();
+    }
+
+    public static io.github.portlek.synergy.proto.Protocol.TransactionBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TransactionBatch>
+        PARSER = new com.google.protobuf.AbstractParser<TransactionBatch>() {
+      @java.lang.Override
+      public TransactionBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TransactionBatch(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TransactionBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TransactionBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Protocol.TransactionBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TransactionHeaderOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.TransactionHeader)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+     * @return The enum numeric value on the wire for mode.
+     */
+    int getModeValue();
+    /**
+     * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+     * @return The mode.
+     */
+    io.github.portlek.synergy.proto.Protocol.Transaction.Mode getMode();
+
+    /**
+     * <code>bytes payload = 3;</code>
+     * @return The payload.
+     */
+    com.google.protobuf.ByteString getPayload();
+
+    /**
+     * <code>uint64 number = 4;</code>
+     * @return The number.
+     */
+    long getNumber();
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    int getTypeValue();
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+     * @return The type.
+     */
+    io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType getType();
+
+    /**
+     * <code>string target = 6;</code>
+     * @return The target.
+     */
+    java.lang.String getTarget();
+    /**
+     * <code>string target = 6;</code>
+     * @return The bytes for target.
+     */
+    com.google.protobuf.ByteString
+        getTargetBytes();
+  }
+  /**
+   * <pre>
+   * the routing view of Transaction, same field numbers but the payload is kept opaque.
+   * </pre>
+   *
+   * Protobuf type {@code io.github.portlek.synergy.proto.TransactionHeader}
+   */
+  public static final class TransactionHeader extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.TransactionHeader)
+      TransactionHeaderOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TransactionHeader.newBuilder() to construct.
+    private TransactionHeader(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TransactionHeader() {
+      id_ = "";
+      mode_ = 0;
+      payload_ = com.google.protobuf.ByteString.EMPTY;
+      type_ = 0;
+      target_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TransactionHeader();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TransactionHeader(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              id_ = s;
+              break;
+            }
+            case 16: {
+              int rawValue = input.readEnum();
+
+              mode_ = rawValue;
+              break;
+            }
+            case 26: {
+
+              payload_ = input.readBytes();
+              break;
+            }
+            case 32: {
+
+              number_ = input.readUInt64();
+              break;
+            }
+            case 40: {
+              int rawValue = input.readEnum();
+
+              type_ = rawValue;
+              break;
+            }
+            case 50: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              target_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionHeader_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionHeader_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.portlek.synergy.proto.Protocol.TransactionHeader.class, io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object id_;
+    /**
+     * <code>string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MODE_FIELD_NUMBER = 2;
+    private int mode_;
+    /**
+     * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+     * @return The enum numeric value on the wire for mode.
+     */
+    @java.lang.Override public int getModeValue() {
+      return mode_;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+     * @return The mode.
+     */
+    @java.lang.Override public io.github.portlek.synergy.proto.Protocol.Transaction.Mode getMode() {
+      @SuppressWarnings("deprecation")
+      io.github.portlek.synergy.proto.Protocol.Transaction.Mode result = io.github.portlek.synergy.proto.Protocol.Transaction.Mode.valueOf(mode_);
+      return result == null ? io.github.portlek.synergy.proto.Protocol.Transaction.Mode.UNRECOGNIZED : result;
+    }
+
+    public static final int PAYLOAD_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString payload_;
+    /**
+     * <code>bytes payload = 3;</code>
+     * @return The payload.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getPayload() {
+      return payload_;
+    }
+
+    public static final int NUMBER_FIELD_NUMBER = 4;
+    private long number_;
+    /**
+     * <code>uint64 number = 4;</code>
+     * @return The number.
+     */
+    @java.lang.Override
+    public long getNumber() {
+      return number_;
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 5;
+    private int type_;
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    @java.lang.Override public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+     * @return The type.
+     */
+    @java.lang.Override public io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType getType() {
+      @SuppressWarnings("deprecation")
+      io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType result = io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.valueOf(type_);
+      return result == null ? io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.UNRECOGNIZED : result;
+    }
+
+    public static final int TARGET_FIELD_NUMBER = 6;
+    private volatile java.lang.Object target_;
+    /**
+     * <code>string target = 6;</code>
+     * @return The target.
+     */
+    @java.lang.Override
+    public java.lang.String getTarget() {
+      java.lang.Object ref = target_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        target_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string target = 6;</code>
+     * @return The bytes for target.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTargetBytes() {
+      java.lang.Object ref = target_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        target_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+      }
+      if (mode_ != io.github.portlek.synergy.proto.Protocol.Transaction.Mode.CREATE.getNumber()) {
+        output.writeEnum(2, mode_);
+      }
+      if (!payload_.isEmpty()) {
+        output.writeBytes(3, payload_);
+      }
+      if (number_ != 0L) {
+        output.writeUInt64(4, number_);
+      }
+      if (type_ != io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.NOOP.getNumber()) {
+        output.writeEnum(5, type_);
+      }
+      if (!getTargetBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, target_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+      }
+      if (mode_ != io.github.portlek.synergy.proto.Protocol.Transaction.Mode.CREATE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, mode_);
+      }
+      if (!payload_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, payload_);
+      }
+      if (number_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, number_);
+      }
+      if (type_ != io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.NOOP.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(5, type_);
+      }
+      if (!getTargetBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, target_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.portlek.synergy.proto.Protocol.TransactionHeader)) {
+        return super.equals(obj);
+      }
+      io.github.portlek.synergy.proto.Protocol.TransactionHeader other = (io.github.portlek.synergy.proto.Protocol.TransactionHeader) obj;
+
+      if (!getId()
+          .equals(other.getId())) return false;
+      if (mode_ != other.mode_) return false;
+      if (!getPayload()
+          .equals(other.getPayload())) return false;
+      if (getNumber()
+          != other.getNumber()) return false;
+      if (type_ != other.type_) return false;
+      if (!getTarget()
+          .equals(other.getTarget())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ID_FIELD_NUMBER;
+      hash = (53 * hash) + getId().hashCode();
+      hash = (37 * hash) + MODE_FIELD_NUMBER;
+      hash = (53 * hash) + mode_;
+      hash = (37 * hash) + PAYLOAD_FIELD_NUMBER;
+      hash = (53 * hash) + getPayload().hashCode();
+      hash = (37 * hash) + NUMBER_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getNumber());
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + type_;
+      hash = (37 * hash) + TARGET_FIELD_NUMBER;
+      hash = (53 * hash) + getTarget().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Protocol.TransactionHeader prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * the routing view of Transaction, same field numbers but the payload is kept opaque.
+     * </pre>
+     *
+     * Protobuf type {@code io.github.portlek.synergy.proto.TransactionHeader}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.TransactionHeader)
+        io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionHeader_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionHeader_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.portlek.synergy.proto.Protocol.TransactionHeader.class, io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder.class);
+      }
+
+      // Construct using io.github.portlek.synergy.proto.Protocol.TransactionHeader.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        id_ = "";
+
+        mode_ = 0;
+
+        payload_ = com.google.protobuf.ByteString.EMPTY;
+
+        number_ = 0L;
+
+        type_ = 0;
+
+        target_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionHeader_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeader getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Protocol.TransactionHeader.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeader build() {
+        io.github.portlek.synergy.proto.Protocol.TransactionHeader result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeader buildPartial() {
+        io.github.portlek.synergy.proto.Protocol.TransactionHeader result = new io.github.portlek.synergy.proto.Protocol.TransactionHeader(this);
+        result.id_ = id_;
+        result.mode_ = mode_;
+        result.payload_ = payload_;
+        result.number_ = number_;
+        result.type_ = type_;
+        result.target_ = target_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.portlek.synergy.proto.Protocol.TransactionHeader) {
+          return mergeFrom((io.github.portlek.synergy.proto.Protocol.TransactionHeader)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Protocol.TransactionHeader other) {
+        if (other == io.github.portlek.synergy.proto.Protocol.TransactionHeader.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          onChanged();
+        }
+        if (other.mode_ != 0) {
+          setModeValue(other.getModeValue());
+        }
+        if (other.getPayload() != com.google.protobuf.ByteString.EMPTY) {
+          setPayload(other.getPayload());
+        }
+        if (other.getNumber() != 0L) {
+          setNumber(other.getNumber());
+        }
+        if (other.type_ != 0) {
+          setTypeValue(other.getTypeValue());
+        }
+        if (!other.getTarget().isEmpty()) {
+          target_ = other.target_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        io.github.portlek.synergy.proto.Protocol.TransactionHeader parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (io.github.portlek.synergy.proto.Protocol.TransactionHeader) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object id_ = "";
+      /**
+       * <code>string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        
+        id_ = getDefaultInstance().getId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int mode_ = 0;
+      /**
+       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+       * @return The enum numeric value on the wire for mode.
+       */
+      @java.lang.Override public int getModeValue() {
+        return mode_;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+       * @param value The enum numeric value on the wire for mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModeValue(int value) {
+        
+        mode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+       * @return The mode.
+       */
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.Transaction.Mode getMode() {
+        @SuppressWarnings("deprecation")
+        io.github.portlek.synergy.proto.Protocol.Transaction.Mode result = io.github.portlek.synergy.proto.Protocol.Transaction.Mode.valueOf(mode_);
+        return result == null ? io.github.portlek.synergy.proto.Protocol.Transaction.Mode.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+       * @param value The mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMode(io.github.portlek.synergy.proto.Protocol.Transaction.Mode value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        mode_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMode() {
+        
+        mode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString payload_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes payload = 3;</code>
+       * @return The payload.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getPayload() {
+        return payload_;
+      }
+      /**
+       * <code>bytes payload = 3;</code>
+       * @param value The payload to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPayload(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes payload = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPayload() {
+        
+        payload_ = getDefaultInstance().getPayload();
+        onChanged();
+        return this;
+      }
+
+      private long number_ ;
+      /**
+       * <code>uint64 number = 4;</code>
+       * @return The number.
+       */
+      @java.lang.Override
+      public long getNumber() {
+        return number_;
+      }
+      /**
+       * <code>uint64 number = 4;</code>
+       * @param value The number to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNumber(long value) {
+        
+        number_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 number = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNumber() {
+        
+        number_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int type_ = 0;
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+       * @param value The enum numeric value on the wire for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeValue(int value) {
+        
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType getType() {
+        @SuppressWarnings("deprecation")
+        io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType result = io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.valueOf(type_);
+        return result == null ? io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(io.github.portlek.synergy.proto.Commands.BaseCommand.CommandType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        type_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.io.github.portlek.synergy.proto.BaseCommand.CommandType type = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object target_ = "";
+      /**
+       * <code>string target = 6;</code>
+       * @return The target.
+       */
+      public java.lang.String getTarget() {
+        java.lang.Object ref = target_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          target_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string target = 6;</code>
+       * @return The bytes for target.
+       */
+      public com.google.protobuf.ByteString
+          getTargetBytes() {
+        java.lang.Object ref = target_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          target_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string target = 6;</code>
+       * @param value The target to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTarget(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        target_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string target = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTarget() {
+        
+        target_ = getDefaultInstance().getTarget();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string target = 6;</code>
+       * @param value The bytes for target to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTargetBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        target_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.TransactionHeader)
+    }
+
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.TransactionHeader)
+    private static final io.github.portlek.synergy.proto.Protocol.TransactionHeader DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Protocol.TransactionHeader();
+    }
+
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeader getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TransactionHeader>
+        PARSER = new com.google.protobuf.AbstractParser<TransactionHeader>() {
+      @java.lang.Override
+      public TransactionHeader parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TransactionHeader(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<TransactionHeader> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TransactionHeader> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Protocol.TransactionHeader getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TransactionHeaderBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.TransactionHeaderBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+     */
+    java.util.List<io.github.portlek.synergy.proto.Protocol.TransactionHeader> 
+        getTransactionsList();
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+     */
+    io.github.portlek.synergy.proto.Protocol.TransactionHeader getTransactions(int index);
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+     */
+    int getTransactionsCount();
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+     */
+    java.util.List<? extends io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder> 
+        getTransactionsOrBuilderList();
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+     */
+    io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder getTransactionsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * the routing view of TransactionBatch.
+   * </pre>
+   *
+   * Protobuf type {@code io.github.portlek.synergy.proto.TransactionHeaderBatch}
+   */
+  public static final class TransactionHeaderBatch extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.TransactionHeaderBatch)
+      TransactionHeaderBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TransactionHeaderBatch.newBuilder() to construct.
+    private TransactionHeaderBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TransactionHeaderBatch() {
+      transactions_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TransactionHeaderBatch();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TransactionHeaderBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                transactions_ = new java.util.ArrayList<io.github.portlek.synergy.proto.Protocol.TransactionHeader>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              transactions_.add(
+                  input.readMessage(io.github.portlek.synergy.proto.Protocol.TransactionHeader.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          transactions_ = java.util.Collections.unmodifiableList(transactions_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionHeaderBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionHeaderBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch.class, io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch.Builder.class);
+    }
+
+    public static final int TRANSACTIONS_FIELD_NUMBER = 1;
+    private java.util.List<io.github.portlek.synergy.proto.Protocol.TransactionHeader> transactions_;
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<io.github.portlek.synergy.proto.Protocol.TransactionHeader> getTransactionsList() {
+      return transactions_;
+    }
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder> 
+        getTransactionsOrBuilderList() {
+      return transactions_;
+    }
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+     */
+    @java.lang.Override
+    public int getTransactionsCount() {
+      return transactions_.size();
+    }
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Protocol.TransactionHeader getTransactions(int index) {
+      return transactions_.get(index);
+    }
+    /**
+     * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+     */
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder getTransactionsOrBuilder(
+        int index) {
+      return transactions_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < transactions_.size(); i++) {
+        output.writeMessage(1, transactions_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < transactions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, transactions_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch)) {
+        return super.equals(obj);
+      }
+      io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch other = (io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch) obj;
+
+      if (!getTransactionsList()
+          .equals(other.getTransactionsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getTransactionsCount() > 0) {
+        hash = (37 * hash) + TRANSACTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getTransactionsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * the routing view of TransactionBatch.
+     * </pre>
+     *
+     * Protobuf type {@code io.github.portlek.synergy.proto.TransactionHeaderBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.TransactionHeaderBatch)
+        io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionHeaderBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionHeaderBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch.class, io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch.Builder.class);
+      }
+
+      // Construct using io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getTransactionsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (transactionsBuilder_ == null) {
+          transactions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          transactionsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_TransactionHeaderBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch build() {
+        io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch buildPartial() {
+        io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch result = new io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (transactionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            transactions_ = java.util.Collections.unmodifiableList(transactions_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.transactions_ = transactions_;
+        } else {
+          result.transactions_ = transactionsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch) {
+          return mergeFrom((io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch other) {
+        if (other == io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch.getDefaultInstance()) return this;
+        if (transactionsBuilder_ == null) {
+          if (!other.transactions_.isEmpty()) {
+            if (transactions_.isEmpty()) {
+              transactions_ = other.transactions_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureTransactionsIsMutable();
+              transactions_.addAll(other.transactions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.transactions_.isEmpty()) {
+            if (transactionsBuilder_.isEmpty()) {
+              transactionsBuilder_.dispose();
+              transactionsBuilder_ = null;
+              transactions_ = other.transactions_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              transactionsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTransactionsFieldBuilder() : null;
+            } else {
+              transactionsBuilder_.addAllMessages(other.transactions_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<io.github.portlek.synergy.proto.Protocol.TransactionHeader> transactions_ =
+        java.util.Collections.emptyList();
+      private void ensureTransactionsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          transactions_ = new java.util.ArrayList<io.github.portlek.synergy.proto.Protocol.TransactionHeader>(transactions_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.portlek.synergy.proto.Protocol.TransactionHeader, io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder, io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder> transactionsBuilder_;
+
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public java.util.List<io.github.portlek.synergy.proto.Protocol.TransactionHeader> getTransactionsList() {
+        if (transactionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(transactions_);
+        } else {
+          return transactionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public int getTransactionsCount() {
+        if (transactionsBuilder_ == null) {
+          return transactions_.size();
+        } else {
+          return transactionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeader getTransactions(int index) {
+        if (transactionsBuilder_ == null) {
+          return transactions_.get(index);
+        } else {
+          return transactionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public Builder setTransactions(
+          int index, io.github.portlek.synergy.proto.Protocol.TransactionHeader value) {
+        if (transactionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransactionsIsMutable();
+          transactions_.set(index, value);
+          onChanged();
+        } else {
+          transactionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public Builder setTransactions(
+          int index, io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder builderForValue) {
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          transactions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          transactionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public Builder addTransactions(io.github.portlek.synergy.proto.Protocol.TransactionHeader value) {
+        if (transactionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransactionsIsMutable();
+          transactions_.add(value);
+          onChanged();
+        } else {
+          transactionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public Builder addTransactions(
+          int index, io.github.portlek.synergy.proto.Protocol.TransactionHeader value) {
+        if (transactionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTransactionsIsMutable();
+          transactions_.add(index, value);
+          onChanged();
+        } else {
+          transactionsBuilder_.addMessage(index, value);
+        }
+        return this;
       }
-
       /**
-       * @param value The numeric wire value of the corresponding enum entry.
-       * @return The enum associated with the given numeric wire value.
-       * @deprecated Use {@link #forNumber(int)} instead.
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
        */
-      @java.lang.Deprecated
-      public static Mode valueOf(int value) {
-        return forNumber(value);
+      public Builder addTransactions(
+          io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder builderForValue) {
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          transactions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          transactionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
       }
-
       /**
-       * @param value The numeric wire value of the corresponding enum entry.
-       * @return The enum associated with the given numeric wire value.
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
        */
-      public static Mode forNumber(int value) {
-        switch (value) {
-          case 0: return CREATE;
-          case 1: return CONTINUE;
-          case 2: return COMPLETE;
-          case 3: return SINGLE;
-          default: return null;
+      public Builder addTransactions(
+          int index, io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder builderForValue) {
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          transactions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          transactionsBuilder_.addMessage(index, builderForValue.build());
         }
+        return this;
       }
-
-      public static com.google.protobuf.Internal.EnumLiteMap<Mode>
-          internalGetValueMap() {
-        return internalValueMap;
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public Builder addAllTransactions(
+          java.lang.Iterable<? extends io.github.portlek.synergy.proto.Protocol.TransactionHeader> values) {
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, transactions_);
+          onChanged();
+        } else {
+          transactionsBuilder_.addAllMessages(values);
+        }
+        return this;
       }
-      private static final com.google.protobuf.Internal.EnumLiteMap<
-          Mode> internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<Mode>() {
-              public Mode findValueByNumber(int number) {
-                return Mode.forNumber(number);
-              }
-            };
-
-      public final com.google.protobuf.Descriptors.EnumValueDescriptor
-          getValueDescriptor() {
-        if (this == UNRECOGNIZED) {
-          throw new java.lang.IllegalStateException(
-              "Can't get the descriptor of an unrecognized enum value.");
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public Builder clearTransactions() {
+        if (transactionsBuilder_ == null) {
+          transactions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          transactionsBuilder_.clear();
         }
-        return getDescriptor().getValues().get(ordinal());
+        return this;
       }
-      public final com.google.protobuf.Descriptors.EnumDescriptor
-          getDescriptorForType() {
-        return getDescriptor();
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public Builder removeTransactions(int index) {
+        if (transactionsBuilder_ == null) {
+          ensureTransactionsIsMutable();
+          transactions_.remove(index);
+          onChanged();
+        } else {
+          transactionsBuilder_.remove(index);
+        }
+        return this;
       }
-      public static final com.google.protobuf.Descriptors.EnumDescriptor
-          getDescriptor() {
-        return io.github.portlek.synergy.proto.Protocol.Transaction.getDescriptor().getEnumTypes().get(0);
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder getTransactionsBuilder(
+          int index) {
+        return getTransactionsFieldBuilder().getBuilder(index);
       }
-
-      private static final Mode[] VALUES = values();
-
-      public static Mode valueOf(
-          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
-        if (desc.getType() != getDescriptor()) {
-          throw new java.lang.IllegalArgumentException(
-            "EnumValueDescriptor is not for this type.");
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder getTransactionsOrBuilder(
+          int index) {
+        if (transactionsBuilder_ == null) {
+          return transactions_.get(index);  } else {
+          return transactionsBuilder_.getMessageOrBuilder(index);
         }
-        if (desc.getIndex() == -1) {
-          return UNRECOGNIZED;
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public java.util.List<? extends io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder> 
+           getTransactionsOrBuilderList() {
+        if (transactionsBuilder_ != null) {
+          return transactionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(transactions_);
         }
-        return VALUES[desc.getIndex()];
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder addTransactionsBuilder() {
+        return getTransactionsFieldBuilder().addBuilder(
+            io.github.portlek.synergy.proto.Protocol.TransactionHeader.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder addTransactionsBuilder(
+          int index) {
+        return getTransactionsFieldBuilder().addBuilder(
+            index, io.github.portlek.synergy.proto.Protocol.TransactionHeader.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .io.github.portlek.synergy.proto.TransactionHeader transactions = 1;</code>
+       */
+      public java.util.List<io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder> 
+           getTransactionsBuilderList() {
+        return getTransactionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.portlek.synergy.proto.Protocol.TransactionHeader, io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder, io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder> 
+          getTransactionsFieldBuilder() {
+        if (transactionsBuilder_ == null) {
+          transactionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              io.github.portlek.synergy.proto.Protocol.TransactionHeader, io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder, io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder>(
+                  transactions_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          transactions_ = null;
+        }
+        return transactionsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
       }
 
-      private final int value;
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
 
-      private Mode(int value) {
-        this.value = value;
+
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.TransactionHeaderBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.TransactionHeaderBatch)
+    private static final io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch();
+    }
+
+    public static io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TransactionHeaderBatch>
+        PARSER = new com.google.protobuf.AbstractParser<TransactionHeaderBatch>() {
+      @java.lang.Override
+      public TransactionHeaderBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TransactionHeaderBatch(input, extensionRegistry);
       }
+    };
 
-      // @@protoc_insertion_point(enum_scope:io.github.portlek.synergy.proto.Transaction.Mode)
+    public static com.google.protobuf.Parser<TransactionHeaderBatch> parser() {
+      return PARSER;
     }
 
-    public static final int ID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object id_;
+    @java.lang.Override
+    public com.google.protobuf.Parser<TransactionHeaderBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.portlek.synergy.proto.Protocol.TransactionHeaderBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface NetworkRelayOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:io.github.portlek.synergy.proto.NetworkRelay)
+      com.google.protobuf.MessageOrBuilder {
+
     /**
-     * <code>string id = 1;</code>
-     * @return The id.
+     * <code>string origin = 1;</code>
+     * @return The origin.
+     */
+    java.lang.String getOrigin();
+    /**
+     * <code>string origin = 1;</code>
+     * @return The bytes for origin.
+     */
+    com.google.protobuf.ByteString
+        getOriginBytes();
+
+    /**
+     * <code>bool reply = 2;</code>
+     * @return The reply.
+     */
+    boolean getReply();
+
+    /**
+     * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
+     * @return Whether the header field is set.
      */
+    boolean hasHeader();
+    /**
+     * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
+     * @return The header.
+     */
+    io.github.portlek.synergy.proto.Protocol.TransactionHeader getHeader();
+    /**
+     * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
+     */
+    io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder getHeaderOrBuilder();
+  }
+  /**
+   * <pre>
+   * a transaction header which is sent to another network over the state store.
+   * </pre>
+   *
+   * Protobuf type {@code io.github.portlek.synergy.proto.NetworkRelay}
+   */
+  public static final class NetworkRelay extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:io.github.portlek.synergy.proto.NetworkRelay)
+      NetworkRelayOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use NetworkRelay.newBuilder() to construct.
+    private NetworkRelay(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private NetworkRelay() {
+      origin_ = "";
+    }
+
     @java.lang.Override
-    public java.lang.String getId() {
-      java.lang.Object ref = id_;
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new NetworkRelay();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private NetworkRelay(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              origin_ = s;
+              break;
+            }
+            case 16: {
+
+              reply_ = input.readBool();
+              break;
+            }
+            case 26: {
+              io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder subBuilder = null;
+              if (header_ != null) {
+                subBuilder = header_.toBuilder();
+              }
+              header_ = input.readMessage(io.github.portlek.synergy.proto.Protocol.TransactionHeader.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(header_);
+                header_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_NetworkRelay_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_NetworkRelay_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.portlek.synergy.proto.Protocol.NetworkRelay.class, io.github.portlek.synergy.proto.Protocol.NetworkRelay.Builder.class);
+    }
+
+    public static final int ORIGIN_FIELD_NUMBER = 1;
+    private volatile java.lang.Object origin_;
+    /**
+     * <code>string origin = 1;</code>
+     * @return The origin.
+     */
+    @java.lang.Override
+    public java.lang.String getOrigin() {
+      java.lang.Object ref = origin_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        id_ = s;
+        origin_ = s;
         return s;
       }
     }
     /**
-     * <code>string id = 1;</code>
-     * @return The bytes for id.
+     * <code>string origin = 1;</code>
+     * @return The bytes for origin.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString
-        getIdBytes() {
-      java.lang.Object ref = id_;
+    public com.google.protobuf.ByteString
+        getOriginBytes() {
+      java.lang.Object ref = origin_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        id_ = b;
+        origin_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int MODE_FIELD_NUMBER = 2;
-    private int mode_;
-    /**
-     * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
-     * @return The enum numeric value on the wire for mode.
-     */
-    @java.lang.Override public int getModeValue() {
-      return mode_;
-    }
+    public static final int REPLY_FIELD_NUMBER = 2;
+    private boolean reply_;
     /**
-     * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
-     * @return The mode.
+     * <code>bool reply = 2;</code>
+     * @return The reply.
      */
-    @java.lang.Override public io.github.portlek.synergy.proto.Protocol.Transaction.Mode getMode() {
-      @SuppressWarnings("deprecation")
-      io.github.portlek.synergy.proto.Protocol.Transaction.Mode result = io.github.portlek.synergy.proto.Protocol.Transaction.Mode.valueOf(mode_);
-      return result == null ? io.github.portlek.synergy.proto.Protocol.Transaction.Mode.UNRECOGNIZED : result;
+    @java.lang.Override
+    public boolean getReply() {
+      return reply_;
     }
 
-    public static final int PAYLOAD_FIELD_NUMBER = 3;
-    private io.github.portlek.synergy.proto.Commands.BaseCommand payload_;
+    public static final int HEADER_FIELD_NUMBER = 3;
+    private io.github.portlek.synergy.proto.Protocol.TransactionHeader header_;
     /**
-     * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
-     * @return Whether the payload field is set.
+     * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
+     * @return Whether the header field is set.
      */
     @java.lang.Override
-    public boolean hasPayload() {
-      return payload_ != null;
+    public boolean hasHeader() {
+      return header_ != null;
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
-     * @return The payload.
+     * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
+     * @return The header.
      */
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Commands.BaseCommand getPayload() {
-      return payload_ == null ? io.github.portlek.synergy.proto.Commands.BaseCommand.getDefaultInstance() : payload_;
+    public io.github.portlek.synergy.proto.Protocol.TransactionHeader getHeader() {
+      return header_ == null ? io.github.portlek.synergy.proto.Protocol.TransactionHeader.getDefaultInstance() : header_;
     }
     /**
-     * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+     * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
      */
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Commands.BaseCommandOrBuilder getPayloadOrBuilder() {
-      return getPayload();
+    public io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder getHeaderOrBuilder() {
+      return getHeader();
     }
 
     private byte memoizedIsInitialized = -1;
@@ -1245,14 +5888,14 @@ public final class Protocol {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+      if (!getOriginBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, origin_);
       }
-      if (mode_ != io.github.portlek.synergy.proto.Protocol.Transaction.Mode.CREATE.getNumber()) {
-        output.writeEnum(2, mode_);
+      if (reply_ != false) {
+        output.writeBool(2, reply_);
       }
-      if (payload_ != null) {
-        output.writeMessage(3, getPayload());
+      if (header_ != null) {
+        output.writeMessage(3, getHeader());
       }
       unknownFields.writeTo(output);
     }
@@ -1263,16 +5906,16 @@ public final class Protocol {
       if (size != -1) return size;
 
       size = 0;
-      if (!getIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+      if (!getOriginBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, origin_);
       }
-      if (mode_ != io.github.portlek.synergy.proto.Protocol.Transaction.Mode.CREATE.getNumber()) {
+      if (reply_ != false) {
         size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(2, mode_);
+          .computeBoolSize(2, reply_);
       }
-      if (payload_ != null) {
+      if (header_ != null) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, getPayload());
+          .computeMessageSize(3, getHeader());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -1284,18 +5927,19 @@ public final class Protocol {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.portlek.synergy.proto.Protocol.Transaction)) {
+      if (!(obj instanceof io.github.portlek.synergy.proto.Protocol.NetworkRelay)) {
         return super.equals(obj);
       }
-      io.github.portlek.synergy.proto.Protocol.Transaction other = (io.github.portlek.synergy.proto.Protocol.Transaction) obj;
-
-      if (!getId()
-          .equals(other.getId())) return false;
-      if (mode_ != other.mode_) return false;
-      if (hasPayload() != other.hasPayload()) return false;
-      if (hasPayload()) {
-        if (!getPayload()
-            .equals(other.getPayload())) return false;
+      io.github.portlek.synergy.proto.Protocol.NetworkRelay other = (io.github.portlek.synergy.proto.Protocol.NetworkRelay) obj;
+
+      if (!getOrigin()
+          .equals(other.getOrigin())) return false;
+      if (getReply()
+          != other.getReply()) return false;
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
       }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
@@ -1308,82 +5952,83 @@ public final class Protocol {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + ID_FIELD_NUMBER;
-      hash = (53 * hash) + getId().hashCode();
-      hash = (37 * hash) + MODE_FIELD_NUMBER;
-      hash = (53 * hash) + mode_;
-      if (hasPayload()) {
-        hash = (37 * hash) + PAYLOAD_FIELD_NUMBER;
-        hash = (53 * hash) + getPayload().hashCode();
+      hash = (37 * hash) + ORIGIN_FIELD_NUMBER;
+      hash = (53 * hash) + getOrigin().hashCode();
+      hash = (37 * hash) + REPLY_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getReply());
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(byte[] data)
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(java.io.InputStream input)
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Protocol.Transaction parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Protocol.Transaction parseDelimitedFrom(
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.portlek.synergy.proto.Protocol.Transaction parseFrom(
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1396,7 +6041,7 @@ public final class Protocol {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.portlek.synergy.proto.Protocol.Transaction prototype) {
+    public static Builder newBuilder(io.github.portlek.synergy.proto.Protocol.NetworkRelay prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -1412,26 +6057,30 @@ public final class Protocol {
       return builder;
     }
     /**
-     * Protobuf type {@code io.github.portlek.synergy.proto.Transaction}
+     * <pre>
+     * a transaction header which is sent to another network over the state store.
+     * </pre>
+     *
+     * Protobuf type {@code io.github.portlek.synergy.proto.NetworkRelay}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.Transaction)
-        io.github.portlek.synergy.proto.Protocol.TransactionOrBuilder {
+        // @@protoc_insertion_point(builder_implements:io.github.portlek.synergy.proto.NetworkRelay)
+        io.github.portlek.synergy.proto.Protocol.NetworkRelayOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Transaction_descriptor;
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_NetworkRelay_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Transaction_fieldAccessorTable
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_NetworkRelay_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                io.github.portlek.synergy.proto.Protocol.Transaction.class, io.github.portlek.synergy.proto.Protocol.Transaction.Builder.class);
+                io.github.portlek.synergy.proto.Protocol.NetworkRelay.class, io.github.portlek.synergy.proto.Protocol.NetworkRelay.Builder.class);
       }
 
-      // Construct using io.github.portlek.synergy.proto.Protocol.Transaction.newBuilder()
+      // Construct using io.github.portlek.synergy.proto.Protocol.NetworkRelay.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -1449,15 +6098,15 @@ public final class Protocol {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        id_ = "";
+        origin_ = "";
 
-        mode_ = 0;
+        reply_ = false;
 
-        if (payloadBuilder_ == null) {
-          payload_ = null;
+        if (headerBuilder_ == null) {
+          header_ = null;
         } else {
-          payload_ = null;
-          payloadBuilder_ = null;
+          header_ = null;
+          headerBuilder_ = null;
         }
         return this;
       }
@@ -1465,17 +6114,17 @@ public final class Protocol {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_Transaction_descriptor;
+        return io.github.portlek.synergy.proto.Protocol.internal_static_io_github_portlek_synergy_proto_NetworkRelay_descriptor;
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Protocol.Transaction getDefaultInstanceForType() {
-        return io.github.portlek.synergy.proto.Protocol.Transaction.getDefaultInstance();
+      public io.github.portlek.synergy.proto.Protocol.NetworkRelay getDefaultInstanceForType() {
+        return io.github.portlek.synergy.proto.Protocol.NetworkRelay.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Protocol.Transaction build() {
-        io.github.portlek.synergy.proto.Protocol.Transaction result = buildPartial();
+      public io.github.portlek.synergy.proto.Protocol.NetworkRelay build() {
+        io.github.portlek.synergy.proto.Protocol.NetworkRelay result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -1483,14 +6132,14 @@ public final class Protocol {
       }
 
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Protocol.Transaction buildPartial() {
-        io.github.portlek.synergy.proto.Protocol.Transaction result = new io.github.portlek.synergy.proto.Protocol.Transaction(this);
-        result.id_ = id_;
-        result.mode_ = mode_;
-        if (payloadBuilder_ == null) {
-          result.payload_ = payload_;
+      public io.github.portlek.synergy.proto.Protocol.NetworkRelay buildPartial() {
+        io.github.portlek.synergy.proto.Protocol.NetworkRelay result = new io.github.portlek.synergy.proto.Protocol.NetworkRelay(this);
+        result.origin_ = origin_;
+        result.reply_ = reply_;
+        if (headerBuilder_ == null) {
+          result.header_ = header_;
         } else {
-          result.payload_ = payloadBuilder_.build();
+          result.header_ = headerBuilder_.build();
         }
         onBuilt();
         return result;
@@ -1530,25 +6179,25 @@ public final class Protocol {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.portlek.synergy.proto.Protocol.Transaction) {
-          return mergeFrom((io.github.portlek.synergy.proto.Protocol.Transaction)other);
+        if (other instanceof io.github.portlek.synergy.proto.Protocol.NetworkRelay) {
+          return mergeFrom((io.github.portlek.synergy.proto.Protocol.NetworkRelay)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(io.github.portlek.synergy.proto.Protocol.Transaction other) {
-        if (other == io.github.portlek.synergy.proto.Protocol.Transaction.getDefaultInstance()) return this;
-        if (!other.getId().isEmpty()) {
-          id_ = other.id_;
+      public Builder mergeFrom(io.github.portlek.synergy.proto.Protocol.NetworkRelay other) {
+        if (other == io.github.portlek.synergy.proto.Protocol.NetworkRelay.getDefaultInstance()) return this;
+        if (!other.getOrigin().isEmpty()) {
+          origin_ = other.origin_;
           onChanged();
         }
-        if (other.mode_ != 0) {
-          setModeValue(other.getModeValue());
+        if (other.getReply() != false) {
+          setReply(other.getReply());
         }
-        if (other.hasPayload()) {
-          mergePayload(other.getPayload());
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -1565,11 +6214,11 @@ public final class Protocol {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        io.github.portlek.synergy.proto.Protocol.Transaction parsedMessage = null;
+        io.github.portlek.synergy.proto.Protocol.NetworkRelay parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (io.github.portlek.synergy.proto.Protocol.Transaction) e.getUnfinishedMessage();
+          parsedMessage = (io.github.portlek.synergy.proto.Protocol.NetworkRelay) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -1579,253 +6228,230 @@ public final class Protocol {
         return this;
       }
 
-      private java.lang.Object id_ = "";
+      private java.lang.Object origin_ = "";
       /**
-       * <code>string id = 1;</code>
-       * @return The id.
+       * <code>string origin = 1;</code>
+       * @return The origin.
        */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
+      public java.lang.String getOrigin() {
+        java.lang.Object ref = origin_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          id_ = s;
+          origin_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string id = 1;</code>
-       * @return The bytes for id.
+       * <code>string origin = 1;</code>
+       * @return The bytes for origin.
        */
       public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
+          getOriginBytes() {
+        java.lang.Object ref = origin_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          id_ = b;
+          origin_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string id = 1;</code>
-       * @param value The id to set.
+       * <code>string origin = 1;</code>
+       * @param value The origin to set.
        * @return This builder for chaining.
        */
-      public Builder setId(
+      public Builder setOrigin(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        id_ = value;
+        origin_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string id = 1;</code>
+       * <code>string origin = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearId() {
+      public Builder clearOrigin() {
         
-        id_ = getDefaultInstance().getId();
+        origin_ = getDefaultInstance().getOrigin();
         onChanged();
         return this;
       }
       /**
-       * <code>string id = 1;</code>
-       * @param value The bytes for id to set.
+       * <code>string origin = 1;</code>
+       * @param value The bytes for origin to set.
        * @return This builder for chaining.
        */
-      public Builder setIdBytes(
+      public Builder setOriginBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        id_ = value;
+        origin_ = value;
         onChanged();
         return this;
       }
 
-      private int mode_ = 0;
-      /**
-       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
-       * @return The enum numeric value on the wire for mode.
-       */
-      @java.lang.Override public int getModeValue() {
-        return mode_;
-      }
-      /**
-       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
-       * @param value The enum numeric value on the wire for mode to set.
-       * @return This builder for chaining.
-       */
-      public Builder setModeValue(int value) {
-        
-        mode_ = value;
-        onChanged();
-        return this;
-      }
+      private boolean reply_ ;
       /**
-       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
-       * @return The mode.
+       * <code>bool reply = 2;</code>
+       * @return The reply.
        */
       @java.lang.Override
-      public io.github.portlek.synergy.proto.Protocol.Transaction.Mode getMode() {
-        @SuppressWarnings("deprecation")
-        io.github.portlek.synergy.proto.Protocol.Transaction.Mode result = io.github.portlek.synergy.proto.Protocol.Transaction.Mode.valueOf(mode_);
-        return result == null ? io.github.portlek.synergy.proto.Protocol.Transaction.Mode.UNRECOGNIZED : result;
+      public boolean getReply() {
+        return reply_;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
-       * @param value The mode to set.
+       * <code>bool reply = 2;</code>
+       * @param value The reply to set.
        * @return This builder for chaining.
        */
-      public Builder setMode(io.github.portlek.synergy.proto.Protocol.Transaction.Mode value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setReply(boolean value) {
         
-        mode_ = value.getNumber();
+        reply_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.Transaction.Mode mode = 2;</code>
+       * <code>bool reply = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearMode() {
+      public Builder clearReply() {
         
-        mode_ = 0;
+        reply_ = false;
         onChanged();
         return this;
       }
 
-      private io.github.portlek.synergy.proto.Commands.BaseCommand payload_;
+      private io.github.portlek.synergy.proto.Protocol.TransactionHeader header_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          io.github.portlek.synergy.proto.Commands.BaseCommand, io.github.portlek.synergy.proto.Commands.BaseCommand.Builder, io.github.portlek.synergy.proto.Commands.BaseCommandOrBuilder> payloadBuilder_;
+          io.github.portlek.synergy.proto.Protocol.TransactionHeader, io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder, io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder> headerBuilder_;
       /**
-       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
-       * @return Whether the payload field is set.
+       * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
+       * @return Whether the header field is set.
        */
-      public boolean hasPayload() {
-        return payloadBuilder_ != null || payload_ != null;
+      public boolean hasHeader() {
+        return headerBuilder_ != null || header_ != null;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
-       * @return The payload.
+       * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
+       * @return The header.
        */
-      public io.github.portlek.synergy.proto.Commands.BaseCommand getPayload() {
-        if (payloadBuilder_ == null) {
-          return payload_ == null ? io.github.portlek.synergy.proto.Commands.BaseCommand.getDefaultInstance() : payload_;
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? io.github.portlek.synergy.proto.Protocol.TransactionHeader.getDefaultInstance() : header_;
         } else {
-          return payloadBuilder_.getMessage();
+          return headerBuilder_.getMessage();
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
        */
-      public Builder setPayload(io.github.portlek.synergy.proto.Commands.BaseCommand value) {
-        if (payloadBuilder_ == null) {
+      public Builder setHeader(io.github.portlek.synergy.proto.Protocol.TransactionHeader value) {
+        if (headerBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          payload_ = value;
+          header_ = value;
           onChanged();
         } else {
-          payloadBuilder_.setMessage(value);
+          headerBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
        */
-      public Builder setPayload(
-          io.github.portlek.synergy.proto.Commands.BaseCommand.Builder builderForValue) {
-        if (payloadBuilder_ == null) {
-          payload_ = builderForValue.build();
+      public Builder setHeader(
+          io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
           onChanged();
         } else {
-          payloadBuilder_.setMessage(builderForValue.build());
+          headerBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
        */
-      public Builder mergePayload(io.github.portlek.synergy.proto.Commands.BaseCommand value) {
-        if (payloadBuilder_ == null) {
-          if (payload_ != null) {
-            payload_ =
-              io.github.portlek.synergy.proto.Commands.BaseCommand.newBuilder(payload_).mergeFrom(value).buildPartial();
+      public Builder mergeHeader(io.github.portlek.synergy.proto.Protocol.TransactionHeader value) {
+        if (headerBuilder_ == null) {
+          if (header_ != null) {
+            header_ =
+              io.github.portlek.synergy.proto.Protocol.TransactionHeader.newBuilder(header_).mergeFrom(value).buildPartial();
           } else {
-            payload_ = value;
+            header_ = value;
           }
           onChanged();
         } else {
-          payloadBuilder_.mergeFrom(value);
+          headerBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
        */
-      public Builder clearPayload() {
-        if (payloadBuilder_ == null) {
-          payload_ = null;
+      public Builder clearHeader() {
+        if (headerBuilder_ == null) {
+          header_ = null;
           onChanged();
         } else {
-          payload_ = null;
-          payloadBuilder_ = null;
+          header_ = null;
+          headerBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
        */
-      public io.github.portlek.synergy.proto.Commands.BaseCommand.Builder getPayloadBuilder() {
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder getHeaderBuilder() {
         
         onChanged();
-        return getPayloadFieldBuilder().getBuilder();
+        return getHeaderFieldBuilder().getBuilder();
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
        */
-      public io.github.portlek.synergy.proto.Commands.BaseCommandOrBuilder getPayloadOrBuilder() {
-        if (payloadBuilder_ != null) {
-          return payloadBuilder_.getMessageOrBuilder();
+      public io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
         } else {
-          return payload_ == null ?
-              io.github.portlek.synergy.proto.Commands.BaseCommand.getDefaultInstance() : payload_;
+          return header_ == null ?
+              io.github.portlek.synergy.proto.Protocol.TransactionHeader.getDefaultInstance() : header_;
         }
       }
       /**
-       * <code>.io.github.portlek.synergy.proto.BaseCommand payload = 3;</code>
+       * <code>.io.github.portlek.synergy.proto.TransactionHeader header = 3;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          io.github.portlek.synergy.proto.Commands.BaseCommand, io.github.portlek.synergy.proto.Commands.BaseCommand.Builder, io.github.portlek.synergy.proto.Commands.BaseCommandOrBuilder> 
-          getPayloadFieldBuilder() {
-        if (payloadBuilder_ == null) {
-          payloadBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              io.github.portlek.synergy.proto.Commands.BaseCommand, io.github.portlek.synergy.proto.Commands.BaseCommand.Builder, io.github.portlek.synergy.proto.Commands.BaseCommandOrBuilder>(
-                  getPayload(),
+          io.github.portlek.synergy.proto.Protocol.TransactionHeader, io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder, io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.portlek.synergy.proto.Protocol.TransactionHeader, io.github.portlek.synergy.proto.Protocol.TransactionHeader.Builder, io.github.portlek.synergy.proto.Protocol.TransactionHeaderOrBuilder>(
+                  getHeader(),
                   getParentForChildren(),
                   isClean());
-          payload_ = null;
+          header_ = null;
         }
-        return payloadBuilder_;
+        return headerBuilder_;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -1840,41 +6466,41 @@ public final class Protocol {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.Transaction)
+      // @@protoc_insertion_point(builder_scope:io.github.portlek.synergy.proto.NetworkRelay)
     }
 
-    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.Transaction)
-    private static final io.github.portlek.synergy.proto.Protocol.Transaction DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:io.github.portlek.synergy.proto.NetworkRelay)
+    private static final io.github.portlek.synergy.proto.Protocol.NetworkRelay DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Protocol.Transaction();
+      DEFAULT_INSTANCE = new io.github.portlek.synergy.proto.Protocol.NetworkRelay();
     }
 
-    public static io.github.portlek.synergy.proto.Protocol.Transaction getDefaultInstance() {
+    public static io.github.portlek.synergy.proto.Protocol.NetworkRelay getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Transaction>
-        PARSER = new com.google.protobuf.AbstractParser<Transaction>() {
+    private static final com.google.protobuf.Parser<NetworkRelay>
+        PARSER = new com.google.protobuf.AbstractParser<NetworkRelay>() {
       @java.lang.Override
-      public Transaction parsePartialFrom(
+      public NetworkRelay parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Transaction(input, extensionRegistry);
+        return new NetworkRelay(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Transaction> parser() {
+    public static com.google.protobuf.Parser<NetworkRelay> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Transaction> getParserForType() {
+    public com.google.protobuf.Parser<NetworkRelay> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.portlek.synergy.proto.Protocol.Transaction getDefaultInstanceForType() {
+    public io.github.portlek.synergy.proto.Protocol.NetworkRelay getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -1885,11 +6511,36 @@ public final class Protocol {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_io_github_portlek_synergy_proto_AuthenticatedMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_io_github_portlek_synergy_proto_Handshake_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_io_github_portlek_synergy_proto_Handshake_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_io_github_portlek_synergy_proto_Transaction_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_io_github_portlek_synergy_proto_Transaction_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_io_github_portlek_synergy_proto_TransactionBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_io_github_portlek_synergy_proto_TransactionBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_io_github_portlek_synergy_proto_TransactionHeader_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_io_github_portlek_synergy_proto_TransactionHeader_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_io_github_portlek_synergy_proto_TransactionHeaderBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_io_github_portlek_synergy_proto_TransactionHeaderBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_io_github_portlek_synergy_proto_NetworkRelay_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_io_github_portlek_synergy_proto_NetworkRelay_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -1900,15 +6551,34 @@ public final class Protocol {
   static {
     java.lang.String[] descriptorData = {
       "\n\016protocol.proto\022\037io.github.portlek.syne" +
-      "rgy.proto\032\016commands.proto\"]\n\024Authenticat" +
-      "edMessage\022\025\n\rcoordinatorId\030\001 \001(\t\022\014\n\004hash" +
-      "\030\002 \001(\t\022\017\n\007payload\030\003 \001(\014\022\017\n\007version\030\004 \001(\r" +
-      "\"\325\001\n\013Transaction\022\n\n\002id\030\001 \001(\t\022?\n\004mode\030\002 \001" +
-      "(\01621.io.github.portlek.synergy.proto.Tra" +
-      "nsaction.Mode\022=\n\007payload\030\003 \001(\0132,.io.gith" +
-      "ub.portlek.synergy.proto.BaseCommand\":\n\004" +
-      "Mode\022\n\n\006CREATE\020\000\022\014\n\010CONTINUE\020\001\022\014\n\010COMPLE" +
-      "TE\020\002\022\n\n\006SINGLE\020\003B\014B\010ProtocolH\001b\006proto3"
+      "rgy.proto\032\016commands.proto\"\251\001\n\024Authentica" +
+      "tedMessage\022\025\n\rcoordinatorId\030\001 \001(\t\022\014\n\004has" +
+      "h\030\002 \001(\t\022\017\n\007payload\030\003 \001(\014\022\017\n\007version\030\004 \001(" +
+      "\r\022=\n\thandshake\030\005 \001(\0132*.io.github.portlek" +
+      ".synergy.proto.Handshake\022\013\n\003mac\030\006 \001(\014\"\032\n" +
+      "\tHandshake\022\r\n\005nonce\030\001 \001(\014\"\275\002\n\013Transactio" +
+      "n\022\n\n\002id\030\001 \001(\t\022?\n\004mode\030\002 \001(\01621.io.github." +
+      "portlek.synergy.proto.Transaction.Mode\022=" +
+      "\n\007payload\030\003 \001(\0132,.io.github.portlek.syne" +
+      "rgy.proto.BaseCommand\022\016\n\006number\030\004 \001(\004\022F\n" +
+      "\004type\030\005 \001(\01628.io.github.portlek.synergy." +
+      "proto.BaseCommand.CommandType\022\016\n\006target\030" +
+      "\006 \001(\t\":\n\004Mode\022\n\n\006CREATE\020\000\022\014\n\010CONTINUE\020\001\022" +
+      "\014\n\010COMPLETE\020\002\022\n\n\006SINGLE\020\003\"V\n\020Transaction" +
+      "Batch\022B\n\014transactions\030\001 \003(\0132,.io.github." +
+      "portlek.synergy.proto.Transaction\"\331\001\n\021Tr" +
+      "ansactionHeader\022\n\n\002id\030\001 \001(\t\022?\n\004mode\030\002 \001(" +
+      "\01621.io.github.portlek.synergy.proto.Tran" +
+      "saction.Mode\022\017\n\007payload\030\003 \001(\014\022\016\n\006number\030" +
+      "\004 \001(\004\022F\n\004type\030\005 \001(\01628.io.github.portlek." +
+      "synergy.proto.BaseCommand.CommandType\022\016\n" +
+      "\006target\030\006 \001(\t\"b\n\026TransactionHeaderBatch\022" +
+      "H\n\014transactions\030\001 \003(\01322.io.github.portle" +
+      "k.synergy.proto.TransactionHeader\"q\n\014Net" +
+      "workRelay\022\016\n\006origin\030\001 \001(\t\022\r\n\005reply\030\002 \001(\010" +
+      "\022B\n\006header\030\003 \001(\01322.io.github.portlek.syn" +
+      "ergy.proto.TransactionHeaderB\014B\010Protocol" +
+      "H\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -1920,13 +6590,43 @@ public final class Protocol {
     internal_static_io_github_portlek_synergy_proto_AuthenticatedMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_AuthenticatedMessage_descriptor,
-        new java.lang.String[] { "CoordinatorId", "Hash", "Payload", "Version", });
-    internal_static_io_github_portlek_synergy_proto_Transaction_descriptor =
+        new java.lang.String[] { "CoordinatorId", "Hash", "Payload", "Version", "Handshake", "Mac", });
+    internal_static_io_github_portlek_synergy_proto_Handshake_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_io_github_portlek_synergy_proto_Handshake_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_io_github_portlek_synergy_proto_Handshake_descriptor,
+        new java.lang.String[] { "Nonce", });
+    internal_static_io_github_portlek_synergy_proto_Transaction_descriptor =
+      getDescriptor().getMessageTypes().get(2);
     internal_static_io_github_portlek_synergy_proto_Transaction_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_github_portlek_synergy_proto_Transaction_descriptor,
-        new java.lang.String[] { "Id", "Mode", "Payload", });
+        new java.lang.String[] { "Id", "Mode", "Payload", "Number", "Type", "Target", });
+    internal_static_io_github_portlek_synergy_proto_TransactionBatch_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_io_github_portlek_synergy_proto_TransactionBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_io_github_portlek_synergy_proto_TransactionBatch_descriptor,
+        new java.lang.String[] { "Transactions", });
+    internal_static_io_github_portlek_synergy_proto_TransactionHeader_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_io_github_portlek_synergy_proto_TransactionHeader_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_io_github_portlek_synergy_proto_TransactionHeader_descriptor,
+        new java.lang.String[] { "Id", "Mode", "Payload", "Number", "Type", "Target", });
+    internal_static_io_github_portlek_synergy_proto_TransactionHeaderBatch_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_io_github_portlek_synergy_proto_TransactionHeaderBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_io_github_portlek_synergy_proto_TransactionHeaderBatch_descriptor,
+        new java.lang.String[] { "Transactions", });
+    internal_static_io_github_portlek_synergy_proto_NetworkRelay_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_io_github_portlek_synergy_proto_NetworkRelay_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_io_github_portlek_synergy_proto_NetworkRelay_descriptor,
+        new java.lang.String[] { "Origin", "Reply", "Header", });
     io.github.portlek.synergy.proto.Commands.getDescriptor();
   }
 
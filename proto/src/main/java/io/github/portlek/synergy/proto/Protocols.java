@@ -25,19 +25,80 @@
 
 package io.github.portlek.synergy.proto;
 
+import org.jetbrains.annotations.NotNull;
+
 /**
  * a class that contains protocol variables.
  */
 public final class Protocols {
 
+  /**
+   * the legacy protocol version which derives a key for every single message.
+   */
+  public static final int LEGACY_PROTOCOL_VERSION = 1;
+
   /**
    * the protocol version.
    */
-  public static final int PROTOCOL_VERSION = 1;
+  public static final int PROTOCOL_VERSION = 2;
 
   /**
    * ctor.
    */
   private Protocols() {
   }
+
+  /**
+   * obtains the type of the given command from its payload, so it can be dispatched without touching the payload.
+   * <p>
+   * commands without payload, such as {@link Commands.BaseCommand.CommandType#NOOP}, fall back to the type field.
+   *
+   * @param command the command to obtain.
+   *
+   * @return type of the command.
+   */
+  @NotNull
+  public static Commands.BaseCommand.CommandType typeOf(@NotNull final Commands.BaseCommand command) {
+    return switch (command.getPayloadCase()) {
+      case SYNC -> Commands.BaseCommand.CommandType.SYNC;
+      case PROVISION -> Commands.BaseCommand.CommandType.PROVISION;
+      case PROVISIONRESPONSE -> Commands.BaseCommand.CommandType.PROVISION_RESPONSE;
+      case PACKAGEREQUEST -> Commands.BaseCommand.CommandType.PACKAGE_REQUEST;
+      case PACKAGERESPONSE -> Commands.BaseCommand.CommandType.PACKAGE_RESPONSE;
+      case DEPROVISION -> Commands.BaseCommand.CommandType.DE_PROVISION;
+      case SERVERSHUTDOWN -> Commands.BaseCommand.CommandType.SERVER_SHUTDOWN;
+      case SENDINPUT -> Commands.BaseCommand.CommandType.SEND_INPUT;
+      case ATTACHCONSOLE -> Commands.BaseCommand.CommandType.ATTACH_CONSOLE;
+      case CONSOLEMESSAGE -> Commands.BaseCommand.CommandType.CONSOLE_MESSAGE;
+      case DETACHCONSOLE -> Commands.BaseCommand.CommandType.DETACH_CONSOLE;
+      case FREEZESERVER -> Commands.BaseCommand.CommandType.FREEZE_SERVER;
+      case CHECKSUMREQUEST -> Commands.BaseCommand.CommandType.PACKAGE_CHECKSUM_REQUEST;
+      case CHECKSUMRESPONSE -> Commands.BaseCommand.CommandType.PACKAGE_CHECKSUM_RESPONSE;
+      case SPLITPACKAGERESPONSE -> Commands.BaseCommand.CommandType.SPLIT_PACKAGE_RESPONSE;
+      case C_COORDINATORLISTRESPONSE -> Commands.BaseCommand.CommandType.C_COORDINATOR_LIST_RESPONSE;
+      case C_PROVISION -> Commands.BaseCommand.CommandType.C_PROVISION;
+      case C_PROVISIONRESPONSE -> Commands.BaseCommand.CommandType.C_PROVISION_RESPONSE;
+      case C_DEPROVISION -> Commands.BaseCommand.CommandType.C_DE_PROVISION;
+      case C_SHUTDOWN -> Commands.BaseCommand.CommandType.C_SHUTDOWN;
+      case C_PROMOTE -> Commands.BaseCommand.CommandType.C_PROMOTE;
+      case C_CREATECOORDINATOR -> Commands.BaseCommand.CommandType.C_CREATE_COORDINATOR;
+      case C_COORDINATORCREATED -> Commands.BaseCommand.CommandType.C_COORDINATOR_CREATED;
+      case C_SENDINPUT -> Commands.BaseCommand.CommandType.C_SEND_INPUT;
+      case C_ATTACHCONSOLE -> Commands.BaseCommand.CommandType.C_ATTACH_CONSOLE;
+      case C_CONSOLEATTACHED -> Commands.BaseCommand.CommandType.C_CONSOLE_ATTACHED;
+      case C_CONSOLEMESSAGE -> Commands.BaseCommand.CommandType.C_CONSOLE_MESSAGE;
+      case C_CONSOLEDETACHED -> Commands.BaseCommand.CommandType.C_CONSOLE_DETACHED;
+      case C_DETACHCONSOLE -> Commands.BaseCommand.CommandType.C_DETACH_CONSOLE;
+      case C_FREEZESERVER -> Commands.BaseCommand.CommandType.C_FREEZE_SERVER;
+      case C_UPLOADPACKAGE -> Commands.BaseCommand.CommandType.C_UPLOAD_PACKAGE;
+      case C_ACK -> Commands.BaseCommand.CommandType.C_ACK;
+      case C_PACKAGELIST -> Commands.BaseCommand.CommandType.C_PACKAGE_LIST;
+      case C_UPLOADSPLITPACKAGE -> Commands.BaseCommand.CommandType.C_UPLOAD_SPLIT_PACKAGE;
+      case C_ACCESSDENIED -> Commands.BaseCommand.CommandType.C_ACCESS_DENIED;
+      case SYNCRESYNC -> Commands.BaseCommand.CommandType.SYNC_RESYNC;
+      case SPLITPACKAGEACK -> Commands.BaseCommand.CommandType.SPLIT_PACKAGE_ACK;
+      case SYNCACK -> Commands.BaseCommand.CommandType.SYNC_ACK;
+      case PAYLOAD_NOT_SET -> command.getType();
+    };
+  }
 }
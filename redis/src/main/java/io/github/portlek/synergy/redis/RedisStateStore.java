@@ -0,0 +1,431 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.synergy.redis;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.github.portlek.synergy.api.StateStore;
+import io.github.portlek.synergy.proto.Core;
+import io.github.portlek.synergy.proto.Protocol;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents redis state stores.
+ * <p>
+ * commands are pipelined, they are only written to the connection on {@link #flush()} or when a read needs an
+ * answer. publishes schedule a single flush on the client's executor, so the ones which are published until it runs
+ * go out together. values are protobuf messages or utf-8 strings, one connection is shared for the commands and
+ * another one for the subscriptions.
+ * <p>
+ * a claim is a {@code SET NX PX}, renewals only extend a lease which still belongs to the owner. every in-flight
+ * transaction has its own key with its own ttl, the owner's index of them is pruned when it's read.
+ */
+public final class RedisStateStore implements StateStore {
+
+  /**
+   * the codec.
+   */
+  private static final RedisCodec<String, byte[]> CODEC = RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE);
+
+  /**
+   * the renew script, extends the key's ttl only if it still has the expected value.
+   */
+  private static final String RENEW_SCRIPT =
+    "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end";
+
+  /**
+   * the release script, deletes the key only if it still has the expected value.
+   */
+  private static final String RELEASE_SCRIPT =
+    "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end";
+
+  /**
+   * the client.
+   */
+  @NotNull
+  private final RedisClient client;
+
+  /**
+   * the commands.
+   */
+  @NotNull
+  private final RedisAsyncCommands<String, byte[]> commands;
+
+  /**
+   * the connection.
+   */
+  @NotNull
+  private final StatefulRedisConnection<String, byte[]> connection;
+
+  /**
+   * the flush scheduled.
+   */
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+  /**
+   * the prefix of the keys.
+   */
+  @NotNull
+  private final String prefix;
+
+  /**
+   * the subscription connection.
+   */
+  @NotNull
+  private final StatefulRedisPubSubConnection<String, byte[]> pubSubConnection;
+
+  /**
+   * the subscription listeners.
+   */
+  private final Map<String, Consumer<byte[]>> subscriptions = new ConcurrentHashMap<>();
+
+  /**
+   * ctor.
+   *
+   * @param client the client.
+   * @param prefix the prefix of the keys.
+   */
+  private RedisStateStore(@NotNull final RedisClient client, @NotNull final String prefix) {
+    this.client = client;
+    this.prefix = prefix;
+    this.connection = client.connect(RedisStateStore.CODEC);
+    this.connection.setAutoFlushCommands(false);
+    this.commands = this.connection.async();
+    this.pubSubConnection = client.connectPubSub(RedisStateStore.CODEC);
+    this.pubSubConnection.addListener(new RedisPubSubAdapter<>() {
+      @Override
+      public void message(final String channel, final byte[] message) {
+        final var listener = RedisStateStore.this.subscriptions.get(channel);
+        if (listener != null) {
+          listener.accept(message);
+        }
+      }
+    });
+  }
+
+  /**
+   * connects to the given redis.
+   *
+   * @param uri the uri to connect, such as {@code redis://localhost:6379/0}.
+   * @param prefix the prefix of the keys.
+   *
+   * @return a newly connected state store.
+   */
+  @NotNull
+  public static RedisStateStore connect(@NotNull final String uri, @NotNull final String prefix) {
+    return new RedisStateStore(RedisClient.create(uri), prefix);
+  }
+
+  /**
+   * encodes the given string.
+   *
+   * @param value the value to encode.
+   *
+   * @return encoded bytes.
+   */
+  private static byte @NotNull [] bytes(@NotNull final String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * decodes the given bytes.
+   *
+   * @param value the value to decode.
+   *
+   * @return decoded string.
+   */
+  @NotNull
+  private static Optional<String> string(final byte[] value) {
+    return Optional.ofNullable(value)
+      .map(bytes -> new String(bytes, StandardCharsets.UTF_8));
+  }
+
+  @NotNull
+  @Override
+  public CompletableFuture<Optional<String>> claim(@NotNull final String coordinatorId, @NotNull final String owner,
+                                                  final long lease) {
+    final var key = this.ownerKey(coordinatorId);
+    final var value = RedisStateStore.bytes(owner);
+    final var claimed = this.commands.set(key, value, SetArgs.Builder.nx().px(lease));
+    final RedisFuture<Long> renewed = this.commands.eval(RedisStateStore.RENEW_SCRIPT, ScriptOutputType.INTEGER,
+      new String[]{key}, value, RedisStateStore.bytes(Long.toString(lease)));
+    final var holder = this.commands.get(key);
+    this.flush();
+    return claimed.toCompletableFuture()
+      .thenCompose(result -> {
+        if (!"OK".equals(result)) {
+          return renewed.toCompletableFuture()
+            .thenCombine(holder, (renew, current) -> {
+              if (renew != null && renew == 1L) {
+                return Optional.<String>empty();
+              }
+              throw new CompletionException(new IllegalStateException(String.format(
+                "the coordinator %s is owned by %s", coordinatorId, RedisStateStore.string(current).orElse(""))));
+            });
+        }
+        final var previous = this.commands.getset(this.lastOwnerKey(coordinatorId), value);
+        this.flush();
+        return previous.toCompletableFuture()
+          .thenApply(last -> RedisStateStore.string(last)
+            .filter(lastOwner -> !lastOwner.equals(owner)));
+      });
+  }
+
+  @Override
+  public void close() {
+    this.flush();
+    this.pubSubConnection.close();
+    this.connection.close();
+    this.client.shutdown();
+  }
+
+  @Override
+  public void flush() {
+    this.connection.flushCommands();
+  }
+
+  @NotNull
+  @Override
+  public CompletableFuture<Optional<String>> getOwner(@NotNull final String coordinatorId) {
+    final var owner = this.commands.get(this.ownerKey(coordinatorId));
+    this.flush();
+    return owner.toCompletableFuture()
+      .thenApply(RedisStateStore::string);
+  }
+
+  @NotNull
+  @Override
+  public CompletableFuture<Map<String, Core.Server>> getServers(@NotNull final String coordinatorId) {
+    final var servers = this.commands.hgetall(this.serversKey(coordinatorId));
+    this.flush();
+    return servers.toCompletableFuture()
+      .thenApply(map -> {
+        final var result = new HashMap<String, Core.Server>(map.size());
+        try {
+          for (final var entry : map.entrySet()) {
+            result.put(entry.getKey(), Core.Server.parseFrom(entry.getValue()));
+          }
+        } catch (final InvalidProtocolBufferException e) {
+          throw new CompletionException(e);
+        }
+        return result;
+      });
+  }
+
+  @NotNull
+  @Override
+  public CompletableFuture<List<Protocol.Transaction>> getTransactions(@NotNull final String owner) {
+    final var indexKey = this.transactionsKey(owner);
+    final var members = this.commands.smembers(indexKey);
+    this.flush();
+    return members.toCompletableFuture()
+      .thenCompose(set -> {
+        if (set.isEmpty()) {
+          return CompletableFuture.completedFuture(List.<Protocol.Transaction>of());
+        }
+        final var ids = List.copyOf(set);
+        final var keys = ids.stream()
+          .map(id -> this.transactionKey(owner, new String(id, StandardCharsets.UTF_8)))
+          .toArray(String[]::new);
+        final var found = this.commands.mget(keys);
+        this.flush();
+        return found.toCompletableFuture()
+          .thenApply(entries -> {
+            final var transactions = new ArrayList<Protocol.Transaction>(entries.size());
+            final var expired = new ArrayList<byte[]>();
+            for (var index = 0; index < entries.size(); index++) {
+              final var entry = entries.get(index);
+              if (!entry.hasValue()) {
+                expired.add(ids.get(index));
+                continue;
+              }
+              try {
+                transactions.add(Protocol.Transaction.parseFrom(entry.getValue()));
+              } catch (final InvalidProtocolBufferException e) {
+                throw new CompletionException(e);
+              }
+            }
+            if (!expired.isEmpty()) {
+              this.commands.srem(indexKey, expired.toArray(byte[][]::new));
+              this.flush();
+            }
+            return transactions;
+          });
+      });
+  }
+
+  @Override
+  public void publish(@NotNull final String owner, final byte @NotNull [] message) {
+    this.commands.publish(this.relayChannel(owner), message);
+    if (this.flushScheduled.compareAndSet(false, true)) {
+      this.client.getResources().eventExecutorGroup().execute(() -> {
+        this.flushScheduled.set(false);
+        this.flush();
+      });
+    }
+  }
+
+  @Override
+  public void putServers(@NotNull final String coordinatorId, @NotNull final Collection<Core.Server> servers,
+                         @NotNull final Collection<String> removed, final boolean full) {
+    final var key = this.serversKey(coordinatorId);
+    if (full) {
+      this.commands.del(key);
+    } else if (!removed.isEmpty()) {
+      this.commands.hdel(key, removed.toArray(String[]::new));
+    }
+    if (!servers.isEmpty()) {
+      this.commands.hset(key, servers.stream()
+        .collect(Collectors.toMap(Core.Server::getUuid, Core.Server::toByteArray, (first, second) -> second)));
+    }
+  }
+
+  @Override
+  public void putTransaction(@NotNull final String owner, @NotNull final Protocol.Transaction transaction,
+                             final long ttl) {
+    final var id = Long.toUnsignedString(transaction.getNumber());
+    final var indexKey = this.transactionsKey(owner);
+    this.commands.set(this.transactionKey(owner, id), transaction.toByteArray(), SetArgs.Builder.px(ttl));
+    this.commands.sadd(indexKey, RedisStateStore.bytes(id));
+    this.commands.pexpire(indexKey, ttl);
+  }
+
+  @Override
+  public void release(@NotNull final String coordinatorId, @NotNull final String owner) {
+    this.commands.eval(RedisStateStore.RELEASE_SCRIPT, ScriptOutputType.INTEGER,
+      new String[]{this.ownerKey(coordinatorId)}, RedisStateStore.bytes(owner));
+  }
+
+  @Override
+  public void removeTransaction(@NotNull final String owner, final long id) {
+    final var value = Long.toUnsignedString(id);
+    this.commands.del(this.transactionKey(owner, value));
+    this.commands.srem(this.transactionsKey(owner), RedisStateStore.bytes(value));
+  }
+
+  @Override
+  public void subscribe(@NotNull final String owner, @NotNull final Consumer<byte[]> listener) {
+    final var channel = this.relayChannel(owner);
+    this.subscriptions.put(channel, listener);
+    this.pubSubConnection.async().subscribe(channel);
+  }
+
+  /**
+   * obtains the last owner key of the given coordinator, it outlives the lease so a new owner finds the previous one.
+   *
+   * @param coordinatorId the coordinator id to obtain.
+   *
+   * @return last owner key.
+   */
+  @NotNull
+  private String lastOwnerKey(@NotNull final String coordinatorId) {
+    return this.prefix + "coordinator:" + coordinatorId + ":last-owner";
+  }
+
+  /**
+   * obtains the owner key of the given coordinator.
+   *
+   * @param coordinatorId the coordinator id to obtain.
+   *
+   * @return owner key.
+   */
+  @NotNull
+  private String ownerKey(@NotNull final String coordinatorId) {
+    return this.prefix + "coordinator:" + coordinatorId + ":owner";
+  }
+
+  /**
+   * obtains the relay channel of the given owner.
+   *
+   * @param owner the owner to obtain.
+   *
+   * @return relay channel.
+   */
+  @NotNull
+  private String relayChannel(@NotNull final String owner) {
+    return this.prefix + "network:" + owner + ":relay";
+  }
+
+  /**
+   * obtains the servers key of the given coordinator.
+   *
+   * @param coordinatorId the coordinator id to obtain.
+   *
+   * @return servers key.
+   */
+  @NotNull
+  private String serversKey(@NotNull final String coordinatorId) {
+    return this.prefix + "coordinator:" + coordinatorId + ":servers";
+  }
+
+  /**
+   * obtains the key of the given in-flight transaction.
+   *
+   * @param owner the owner to obtain.
+   * @param id the id to obtain.
+   *
+   * @return transaction key.
+   */
+  @NotNull
+  private String transactionKey(@NotNull final String owner, @NotNull final String id) {
+    return this.prefix + "network:" + owner + ":transaction:" + id;
+  }
+
+  /**
+   * obtains the index key of the in-flight transactions of the given owner.
+   *
+   * @param owner the owner to obtain.
+   *
+   * @return transactions key.
+   */
+  @NotNull
+  private String transactionsKey(@NotNull final String owner) {
+    return this.prefix + "network:" + owner + ":transactions";
+  }
+}